@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.benchmarks;
+
+import org.tmapi.core.TopicMapSystemFactory;
+
+import de.topicmapslab.majortom.core.TopicMapSystemFactoryImpl;
+import de.topicmapslab.majortom.database.jdbc.core.SqlDialect;
+import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
+import de.topicmapslab.majortom.database.store.JdbcTopicMapStoreProperty;
+import de.topicmapslab.majortom.inmemory.store.InMemoryTopicMapStore;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.core.ITopicMapSystem;
+import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
+import de.topicmapslab.majortom.queued.store.QueuedTopicMapStore;
+import de.topicmapslab.majortom.store.TopicMapStoreProperty;
+import de.topicmapslab.majortom.util.FeatureStrings;
+
+/**
+ * The topic map store backends covered by the benchmarks. The database backends use an embedded HSQLDB, so no
+ * database server is required.
+ *
+ * @author Sven Krosse
+ *
+ */
+public enum Backend {
+
+	/**
+	 * the {@link InMemoryTopicMapStore}
+	 */
+	IN_MEMORY,
+
+	/**
+	 * a virtual store, i.e. a transaction on top of an {@link InMemoryTopicMapStore}
+	 */
+	VIRTUAL,
+
+	/**
+	 * the {@link QueuedTopicMapStore} on top of an embedded HSQLDB
+	 */
+	QUEUED,
+
+	/**
+	 * the {@link JdbcTopicMapStore} on top of an embedded HSQLDB
+	 */
+	JDBC;
+
+	/**
+	 * the name of the embedded HSQLDB database
+	 */
+	public static final String DATABASE = "majortom-benchmarks";
+
+	/**
+	 * Creates a new topic map system using the store of this backend
+	 *
+	 * @return the topic map system
+	 * @throws TopicMapStoreException
+	 *             thrown if the system cannot be created
+	 */
+	public ITopicMapSystem createTopicMapSystem() throws TopicMapStoreException {
+		try {
+			TopicMapSystemFactory factory = new TopicMapSystemFactoryImpl();
+			factory.setFeature(FeatureStrings.TOPIC_MAPS_TYPE_INSTANCE_ASSOCIATION, false);
+			factory.setFeature(FeatureStrings.TOPIC_MAPS_SUPERTYPE_SUBTYPE_ASSOCIATION, false);
+			factory.setFeature(FeatureStrings.DELETION_CONSTRAINTS_REIFICATION, false);
+			factory.setFeature(FeatureStrings.SUPPORT_HISTORY, false);
+			switch (this) {
+				case IN_MEMORY: {
+					factory.setProperty(TopicMapStoreProperty.TOPICMAPSTORE_CLASS, InMemoryTopicMapStore.class.getName());
+				}
+					break;
+				case VIRTUAL: {
+					factory.setProperty(TopicMapStoreProperty.TOPICMAPSTORE_CLASS, InMemoryTopicMapStore.class.getName());
+					factory.setFeature(FeatureStrings.SUPPORT_TRANSACTION, true);
+				}
+					break;
+				case QUEUED: {
+					factory.setProperty(TopicMapStoreProperty.TOPICMAPSTORE_CLASS, QueuedTopicMapStore.class.getName());
+					setDatabaseProperties(factory);
+				}
+					break;
+				case JDBC: {
+					factory.setProperty(TopicMapStoreProperty.TOPICMAPSTORE_CLASS, JdbcTopicMapStore.class.getName());
+					setDatabaseProperties(factory);
+				}
+					break;
+			}
+			return (ITopicMapSystem) factory.newTopicMapSystem();
+		} catch (Exception e) {
+			throw new TopicMapStoreException("Cannot create topic map system for backend " + name(), e);
+		}
+	}
+
+	/**
+	 * Returns the topic map the workload of a benchmark is executed on. For the virtual backend this is a new
+	 * transaction of the given topic map, for all other backends the topic map itself.
+	 *
+	 * @param topicMap
+	 *            the topic map containing the data set
+	 * @return the topic map to work on
+	 */
+	public ITopicMap getWorkingTopicMap(ITopicMap topicMap) {
+		if (this == VIRTUAL) {
+			return topicMap.createTransaction();
+		}
+		return topicMap;
+	}
+
+	/**
+	 * Internal method to set the properties of the embedded HSQLDB
+	 *
+	 * @param factory
+	 *            the factory
+	 */
+	private static void setDatabaseProperties(TopicMapSystemFactory factory) {
+		factory.setProperty(JdbcTopicMapStoreProperty.SQL_DIALECT, SqlDialect.HSQLDB.name());
+		factory.setProperty(JdbcTopicMapStoreProperty.DATABASE_HOST, "localhost");
+		factory.setProperty(JdbcTopicMapStoreProperty.DATABASE_NAME, DATABASE);
+		factory.setProperty(JdbcTopicMapStoreProperty.DATABASE_USER, "sa");
+		factory.setProperty(JdbcTopicMapStoreProperty.DATABASE_PASSWORD, "");
+	}
+}
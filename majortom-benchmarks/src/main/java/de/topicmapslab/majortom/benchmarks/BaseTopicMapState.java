@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.benchmarks;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.tmapi.core.Locator;
+import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMapExistsException;
+
+import de.topicmapslab.majortom.model.core.IScope;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.core.ITopicMapSystem;
+import de.topicmapslab.majortom.model.index.IScopedIndex;
+import de.topicmapslab.majortom.model.index.ITypeInstanceIndex;
+import de.topicmapslab.majortom.model.transaction.ITransaction;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Base class of the benchmark states containing a topic map of the configured backend filled with the configured data
+ * set. The state provides samples of the data set, which are returned round robin to spread the queries over the
+ * whole data set. The backends are declared by the sub classes.
+ *
+ * @author Sven Krosse
+ *
+ */
+@State(Scope.Benchmark)
+public abstract class BaseTopicMapState {
+
+	/**
+	 * the base locator of the benchmark topic maps
+	 */
+	public static final String BASE = "http://psi.majortom.test/benchmarks";
+
+	@Param({ "GENERATED", "OPERA" })
+	public Dataset dataset;
+
+	@Param({ "1000", "10000" })
+	public int size;
+
+	private ITopicMapSystem topicMapSystem;
+	private ITopicMap topicMap;
+	private ITopicMap workingTopicMap;
+
+	private Locator[] subjectIdentifiers;
+	private Topic[] types;
+	private IScope[] scopes;
+	private int identifierIndex;
+	private int typeIndex;
+	private int scopeIndex;
+
+	/**
+	 * Creates the topic map and loads the data set
+	 *
+	 * @throws TopicMapExistsException
+	 *             thrown if the topic map already exists
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws TopicMapExistsException {
+		topicMapSystem = getBackend().createTopicMapSystem();
+		topicMap = (ITopicMap) topicMapSystem.createTopicMap(BASE);
+		dataset.load(topicMap, size);
+		workingTopicMap = getBackend().getWorkingTopicMap(topicMap);
+
+		List<Locator> identifiers = HashUtil.getList();
+		for (Topic topic : workingTopicMap.getTopics()) {
+			identifiers.addAll(topic.getSubjectIdentifiers());
+		}
+		subjectIdentifiers = identifiers.toArray(new Locator[0]);
+
+		ITypeInstanceIndex typeInstanceIndex = workingTopicMap.getIndex(ITypeInstanceIndex.class);
+		typeInstanceIndex.open();
+		types = typeInstanceIndex.getTopicTypes().toArray(new Topic[0]);
+
+		IScopedIndex scopedIndex = workingTopicMap.getIndex(IScopedIndex.class);
+		scopedIndex.open();
+		scopes = scopedIndex.getAssociationScopes().toArray(new IScope[0]);
+	}
+
+	/**
+	 * Removes the topic map and closes the topic map system
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (workingTopicMap instanceof ITransaction && !((ITransaction) workingTopicMap).isClose()) {
+			((ITransaction) workingTopicMap).rollback();
+		}
+		topicMap.remove(true);
+		topicMapSystem.close();
+	}
+
+	/**
+	 * Returns the backend of the topic map
+	 *
+	 * @return the backend
+	 */
+	protected abstract Backend getBackend();
+
+	/**
+	 * Returns the topic map the workload is executed on
+	 *
+	 * @return the topic map
+	 */
+	public ITopicMap getTopicMap() {
+		return workingTopicMap;
+	}
+
+	/**
+	 * Returns the next subject identifier of the data set
+	 *
+	 * @return the subject identifier
+	 */
+	public Locator nextSubjectIdentifier() {
+		identifierIndex = (identifierIndex + 1) % subjectIdentifiers.length;
+		return subjectIdentifiers[identifierIndex];
+	}
+
+	/**
+	 * Returns the next topic type of the data set
+	 *
+	 * @return the topic type
+	 */
+	public Topic nextType() {
+		typeIndex = (typeIndex + 1) % types.length;
+		return types[typeIndex];
+	}
+
+	/**
+	 * Returns the next association scope of the data set
+	 *
+	 * @return the scope
+	 */
+	public IScope nextScope() {
+		scopeIndex = (scopeIndex + 1) % scopes.length;
+		return scopes[scopeIndex];
+	}
+}
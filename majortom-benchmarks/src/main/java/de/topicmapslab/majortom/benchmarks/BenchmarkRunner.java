@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar, which is built by <code>mvn -Pbenchmarks package</code>. Any JMH command line
+ * option is supported, e.g.
+ * <code>java -jar benchmarks.jar IndexBenchmark -p backend=JDBC -p size=100000</code>. Unless specified otherwise the
+ * results are written as JSON to {@link #DEFAULT_RESULT_FILE}.
+ *
+ * @author Sven Krosse
+ *
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * the default file the results are written to
+	 */
+	public static final String DEFAULT_RESULT_FILE = "majortom-benchmarks.json";
+
+	/**
+	 * Runs the benchmarks
+	 *
+	 * @param args
+	 *            the JMH command line options
+	 * @throws Exception
+	 *             thrown if the options are invalid or any benchmark fails
+	 */
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions options = new CommandLineOptions(args);
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(options);
+		if (!options.getResultFormat().hasValue()) {
+			builder.resultFormat(ResultFormatType.JSON);
+		}
+		if (!options.getResult().hasValue()) {
+			builder.result(DEFAULT_RESULT_FILE);
+		}
+		new Runner(builder.build()).run();
+	}
+}
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tmapi.core.Association;
+import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMapExistsException;
+
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.core.ITopicMapSystem;
+import de.topicmapslab.majortom.model.transaction.ITransaction;
+
+/**
+ * Benchmarks of the bulk creation of topics and associations. Each iteration starts with an empty topic map.
+ *
+ * @author Sven Krosse
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreationBenchmark {
+
+	/**
+	 * the number of constructs created by one invocation
+	 */
+	public static final int BATCH = 100;
+
+	@Param({ "IN_MEMORY", "VIRTUAL", "QUEUED", "JDBC" })
+	public Backend backend;
+
+	private ITopicMapSystem topicMapSystem;
+	private ITopicMap topicMap;
+	private ITopicMap workingTopicMap;
+	private Topic type;
+	private Topic nameType;
+	private Topic[] roleTypes;
+	private Topic[] players;
+	private int counter;
+
+	/**
+	 * Creates an empty topic map and the types used by the workload
+	 *
+	 * @throws TopicMapExistsException
+	 *             thrown if the topic map already exists
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() throws TopicMapExistsException {
+		topicMapSystem = backend.createTopicMapSystem();
+		topicMap = (ITopicMap) topicMapSystem.createTopicMap(TopicMapState.BASE);
+		workingTopicMap = backend.getWorkingTopicMap(topicMap);
+		type = createTopic("type");
+		nameType = createTopic("name");
+		roleTypes = new Topic[] { createTopic("role/0"), createTopic("role/1") };
+		players = new Topic[] { createTopic("player/0"), createTopic("player/1") };
+	}
+
+	/**
+	 * Removes the topic map and closes the topic map system
+	 */
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		if (workingTopicMap instanceof ITransaction && !((ITransaction) workingTopicMap).isClose()) {
+			((ITransaction) workingTopicMap).rollback();
+		}
+		topicMap.remove(true);
+		topicMapSystem.close();
+	}
+
+	/**
+	 * Creates topics identified by a subject identifier with a typed name
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public Topic createTopics() {
+		Topic topic = null;
+		for (int i = 0; i < BATCH; i++) {
+			topic = createTopic("topic/" + counter++);
+			topic.addType(type);
+			topic.createName(nameType, "Topic " + counter, new Topic[0]);
+		}
+		return topic;
+	}
+
+	/**
+	 * Creates binary associations
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public Association createAssociations() {
+		Association association = null;
+		for (int i = 0; i < BATCH; i++) {
+			association = workingTopicMap.createAssociation(type, new Topic[0]);
+			association.createRole(roleTypes[0], players[0]);
+			association.createRole(roleTypes[1], players[1]);
+		}
+		return association;
+	}
+
+	/**
+	 * Internal method to create a topic
+	 *
+	 * @param path
+	 *            the path of the subject identifier
+	 * @return the topic
+	 */
+	private Topic createTopic(String path) {
+		return workingTopicMap.createTopicBySubjectIdentifier(workingTopicMap.createLocator(Dataset.BASE + path));
+	}
+}
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.tmapi.core.Topic;
+import org.tmapix.io.XTMTopicMapReader;
+
+import de.topicmapslab.majortom.model.core.IAssociation;
+import de.topicmapslab.majortom.model.core.ITopic;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
+
+/**
+ * The data sets the benchmarks are executed on.
+ *
+ * @author Sven Krosse
+ *
+ */
+public enum Dataset {
+
+	/**
+	 * a generated data set of a configurable number of topics
+	 */
+	GENERATED,
+
+	/**
+	 * the Opera topic map of the test suite, ignoring the configured size
+	 */
+	OPERA;
+
+	/**
+	 * the base of all subject identifiers of the generated data set
+	 */
+	public static final String BASE = "http://psi.majortom.test/benchmarks/";
+
+	/**
+	 * the classpath resource of the Opera topic map
+	 */
+	public static final String OPERA_RESOURCE = "/Opera Topic Map.xtm";
+
+	/**
+	 * the number of topic types of the generated data set
+	 */
+	public static final int TOPIC_TYPES = 10;
+
+	/**
+	 * the number of association types of the generated data set
+	 */
+	public static final int ASSOCIATION_TYPES = 5;
+
+	/**
+	 * the number of themes of the generated data set
+	 */
+	public static final int THEMES = 5;
+
+	/**
+	 * Loads the data set into the given topic map
+	 *
+	 * @param topicMap
+	 *            the topic map
+	 * @param size
+	 *            the number of topics of a generated data set
+	 * @throws TopicMapStoreException
+	 *             thrown if the data set cannot be loaded
+	 */
+	public void load(ITopicMap topicMap, int size) throws TopicMapStoreException {
+		switch (this) {
+			case GENERATED: {
+				generate(topicMap, size);
+			}
+				break;
+			case OPERA: {
+				read(topicMap);
+			}
+				break;
+		}
+	}
+
+	/**
+	 * Returns a regular expression matching a part of the characteristics of the data set
+	 *
+	 * @return the regular expression
+	 */
+	public String getRegExp() {
+		if (this == OPERA) {
+			return ".*Verdi.*";
+		}
+		return "Topic 1[0-9]*";
+	}
+
+	/**
+	 * Internal method to generate a data set. Each topic is an instance of one of the topic types and has a scoped name
+	 * and an occurrence. Each second topic plays a role in an association with another topic.
+	 *
+	 * @param topicMap
+	 *            the topic map
+	 * @param size
+	 *            the number of topics
+	 */
+	private void generate(ITopicMap topicMap, int size) {
+		Topic[] types = createTopics(topicMap, "type/topic/", TOPIC_TYPES);
+		Topic[] associationTypes = createTopics(topicMap, "type/association/", ASSOCIATION_TYPES);
+		Topic[] roleTypes = createTopics(topicMap, "type/role/", 2);
+		Topic nameType = topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(BASE + "type/name"));
+		Topic occurrenceType = topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(BASE + "type/occurrence"));
+		Topic[] themes = createTopics(topicMap, "theme/", THEMES);
+
+		ITopic[] topics = new ITopic[size];
+		for (int i = 0; i < size; i++) {
+			ITopic topic = (ITopic) topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(BASE + "topic/" + i));
+			topic.addType(types[i % TOPIC_TYPES]);
+			topic.createName(nameType, "Topic " + i, themes[i % THEMES]);
+			topic.createOccurrence(occurrenceType, "Description of topic " + i, new Topic[0]);
+			topics[i] = topic;
+		}
+		for (int i = 0; i < size / 2; i++) {
+			IAssociation association = (IAssociation) topicMap.createAssociation(associationTypes[i % ASSOCIATION_TYPES], themes[i % THEMES]);
+			association.createRole(roleTypes[0], topics[i]);
+			association.createRole(roleTypes[1], topics[(i * 7 + 1) % size]);
+		}
+	}
+
+	/**
+	 * Internal method to create a number of topics identified by the given path
+	 *
+	 * @param topicMap
+	 *            the topic map
+	 * @param path
+	 *            the path of the subject identifiers
+	 * @param count
+	 *            the number of topics
+	 * @return the topics
+	 */
+	private Topic[] createTopics(ITopicMap topicMap, String path, int count) {
+		Topic[] topics = new Topic[count];
+		for (int i = 0; i < count; i++) {
+			topics[i] = topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(BASE + path + i));
+		}
+		return topics;
+	}
+
+	/**
+	 * Internal method to read the Opera topic map
+	 *
+	 * @param topicMap
+	 *            the topic map
+	 */
+	private void read(ITopicMap topicMap) {
+		InputStream stream = Dataset.class.getResourceAsStream(OPERA_RESOURCE);
+		if (stream == null) {
+			throw new TopicMapStoreException("Missing resource " + OPERA_RESOURCE);
+		}
+		try {
+			new XTMTopicMapReader(topicMap, stream, topicMap.getLocator().getReference()).read();
+		} catch (IOException e) {
+			throw new TopicMapStoreException("Cannot read the Opera topic map", e);
+		} finally {
+			try {
+				stream.close();
+			} catch (IOException e) {
+				// NOTHING TO DO
+			}
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.benchmarks;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.tmapi.core.Association;
+import org.tmapi.core.Topic;
+
+import de.topicmapslab.majortom.model.core.ICharacteristics;
+import de.topicmapslab.majortom.model.index.ILiteralIndex;
+import de.topicmapslab.majortom.model.index.IScopedIndex;
+import de.topicmapslab.majortom.model.index.ITypeInstanceIndex;
+import de.topicmapslab.majortom.model.index.paging.IPagedTypeInstanceIndex;
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
+
+/**
+ * Benchmarks of the read access to a loaded topic map, i.e. identity lookups and index queries.
+ *
+ * @author Sven Krosse
+ *
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexBenchmark {
+
+	/**
+	 * the page size of the paged index scans
+	 */
+	public static final int PAGE_SIZE = 100;
+
+	@Benchmark
+	public Topic getTopicBySubjectIdentifier(TopicMapState state) {
+		return state.getTopicMap().getTopicBySubjectIdentifier(state.nextSubjectIdentifier());
+	}
+
+	@Benchmark
+	public Collection<Topic> getTopicsByType(TopicMapState state) {
+		ITypeInstanceIndex index = state.getTopicMap().getIndex(ITypeInstanceIndex.class);
+		return index.getTopics(state.nextType());
+	}
+
+	@Benchmark
+	public Collection<Association> getAssociationsByScope(TopicMapState state) {
+		IScopedIndex index = state.getTopicMap().getIndex(IScopedIndex.class);
+		return index.getAssociations(state.nextScope());
+	}
+
+	/**
+	 * Reads all instances of a topic type page by page
+	 */
+	@Benchmark
+	public void scanPagedTopicsByType(TopicMapState state, Blackhole blackhole) {
+		IPagedTypeInstanceIndex index = state.getTopicMap().getIndex(IPagedTypeInstanceIndex.class);
+		if (!index.isOpen()) {
+			index.open();
+		}
+		Topic type = state.nextType();
+		int offset = 0;
+		List<Topic> page;
+		do {
+			page = index.getTopics(type, offset, PAGE_SIZE);
+			blackhole.consume(page);
+			offset += PAGE_SIZE;
+		} while (page.size() == PAGE_SIZE);
+	}
+
+	/**
+	 * Reads all instances of a topic type page by page using cursors
+	 */
+	@Benchmark
+	public void scanCursorTopicsByType(TopicMapState state, Blackhole blackhole) {
+		IPagedTypeInstanceIndex index = state.getTopicMap().getIndex(IPagedTypeInstanceIndex.class);
+		if (!index.isOpen()) {
+			index.open();
+		}
+		Topic type = state.nextType();
+		String cursor = null;
+		do {
+			PagedResult<Topic> page = index.getTopics(type, cursor, PAGE_SIZE);
+			blackhole.consume(page.getItems());
+			cursor = page.getCursor();
+		} while (cursor != null);
+	}
+
+	@Benchmark
+	public Collection<ICharacteristics> getCharacteristicsMatches(TopicMapState state) {
+		ILiteralIndex index = state.getTopicMap().getIndex(ILiteralIndex.class);
+		if (!index.isOpen()) {
+			index.open();
+		}
+		return index.getCharacteristicsMatches(Pattern.compile(state.dataset.getRegExp()));
+	}
+}
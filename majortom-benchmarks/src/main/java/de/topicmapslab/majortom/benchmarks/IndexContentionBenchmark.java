@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.benchmarks;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMapExistsException;
+
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.core.ITopicMapSystem;
+import de.topicmapslab.majortom.model.index.ITypeInstanceIndex;
+import de.topicmapslab.majortom.queued.store.index.ConcurrentTypeInstanceIndex;
+
+/**
+ * Contention benchmark of the concurrent index wrappers of the queued store. Parallel readers query the wrapper of an
+ * in-memory type-instance index, while one writer acquires the write lock from time to time. The wrapper either uses
+ * one exclusive lock, as the index wrappers did before, or a fair read-write lock like the queued store.
+ *
+ * @author Sven Krosse
+ *
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexContentionBenchmark {
+
+	/**
+	 * the number of instances of the queried type
+	 */
+	public static final int TOPICS = 500;
+	/**
+	 * the amount of work done while the writer holds the write lock
+	 */
+	public static final int WRITE_TOKENS = 1000;
+
+	/**
+	 * read-write lock only using one exclusive lock
+	 */
+	static class ExclusiveLock implements ReadWriteLock {
+
+		private final Lock lock = new ReentrantLock(true);
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public Lock readLock() {
+			return lock;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public Lock writeLock() {
+			return lock;
+		}
+	}
+
+	@Param({ "EXCLUSIVE", "READ_WRITE" })
+	public String lockType;
+
+	private ITopicMapSystem topicMapSystem;
+	private ITopicMap topicMap;
+	private ReadWriteLock lock;
+	private ConcurrentTypeInstanceIndex index;
+	private Topic type;
+
+	/**
+	 * Creates the topic map and the index wrapper
+	 *
+	 * @throws TopicMapExistsException
+	 *             thrown if the topic map already exists
+	 */
+	@Setup(Level.Trial)
+	public void setUp() throws TopicMapExistsException {
+		topicMapSystem = Backend.IN_MEMORY.createTopicMapSystem();
+		topicMap = (ITopicMap) topicMapSystem.createTopicMap(TopicMapState.BASE);
+		type = topicMap.createTopic();
+		for (int i = 0; i < TOPICS; i++) {
+			topicMap.createTopic().addType(type);
+		}
+		ITypeInstanceIndex typeInstanceIndex = topicMap.getIndex(ITypeInstanceIndex.class);
+		typeInstanceIndex.open();
+		lock = "EXCLUSIVE".equals(lockType) ? new ExclusiveLock() : new ReentrantReadWriteLock(true);
+		index = new ConcurrentTypeInstanceIndex(typeInstanceIndex, lock);
+	}
+
+	/**
+	 * Removes the topic map and closes the topic map system
+	 */
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		topicMap.remove(true);
+		topicMapSystem.close();
+	}
+
+	@Benchmark
+	@Group("contention")
+	@GroupThreads(7)
+	public Collection<Topic> read() {
+		return index.getTopics(type);
+	}
+
+	@Benchmark
+	@Group("contention")
+	@GroupThreads(1)
+	public void write() {
+		lock.writeLock().lock();
+		try {
+			Blackhole.consumeCPU(WRITE_TOKENS);
+		} finally {
+			lock.writeLock().unlock();
+		}
+		Blackhole.consumeCPU(WRITE_TOKENS);
+	}
+}
@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.tmapi.core.Topic;
+
+import de.topicmapslab.majortom.io.CXTMTopicMapWriter;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Benchmarks of the maintenance operations merging, duplicate removal and CXTM export on a loaded topic map. Merging
+ * and duplicate removal modify the topic map, so the constructs they work on are created before and removed after
+ * each invocation. Transactions do not support the removal of duplicates, which is also done by the CXTM export, so
+ * these benchmarks exclude the virtual backend.
+ *
+ * @author Sven Krosse
+ *
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaintenanceBenchmark {
+
+	/**
+	 * the number of topics with duplicate names created before each duplicate removal
+	 */
+	public static final int DUPLICATES = 100;
+
+	/**
+	 * State containing a topic map of each backend supporting the removal of duplicates
+	 */
+	@State(Scope.Benchmark)
+	public static class NonTransactionalState extends BaseTopicMapState {
+
+		@Param({ "IN_MEMORY", "QUEUED", "JDBC" })
+		public Backend backend;
+
+		/**
+		 * {@inheritDoc}
+		 */
+		protected Backend getBackend() {
+			return backend;
+		}
+	}
+
+	/**
+	 * State containing the constructs created before each invocation
+	 */
+	@State(Scope.Thread)
+	public static class Constructs {
+
+		private int counter;
+		private Topic topic;
+		private Topic other;
+
+		/**
+		 * Creates two topics to merge, each with a name and an occurrence
+		 */
+		@Setup(Level.Invocation)
+		public void setUp(TopicMapState state) {
+			ITopicMap topicMap = state.getTopicMap();
+			topic = createTopic(topicMap);
+			other = createTopic(topicMap);
+		}
+
+		/**
+		 * Removes the merged topic, so each invocation works on the same topic map
+		 */
+		@TearDown(Level.Invocation)
+		public void tearDown() {
+			topic.remove();
+		}
+
+		/**
+		 * Internal method to create a topic with a name and an occurrence
+		 *
+		 * @param topicMap
+		 *            the topic map
+		 * @return the topic
+		 */
+		private Topic createTopic(ITopicMap topicMap) {
+			int id = counter++;
+			Topic topic = topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(Dataset.BASE + "merge/" + id));
+			topic.createName("Merge " + id, new Topic[0]);
+			topic.createOccurrence(topic, "Merge " + id, new Topic[0]);
+			return topic;
+		}
+	}
+
+	/**
+	 * State containing duplicates created before each invocation
+	 */
+	@State(Scope.Thread)
+	public static class Duplicates {
+
+		private int counter;
+		private final List<Topic> topics = HashUtil.getList();
+
+		/**
+		 * Creates topics with duplicate names
+		 */
+		@Setup(Level.Invocation)
+		public void setUp(NonTransactionalState state) {
+			ITopicMap topicMap = state.getTopicMap();
+			for (int i = 0; i < DUPLICATES; i++) {
+				Topic topic = topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(Dataset.BASE + "duplicate/" + counter++));
+				topic.createName("Duplicate", new Topic[0]);
+				topic.createName("Duplicate", new Topic[0]);
+				topics.add(topic);
+			}
+		}
+
+		/**
+		 * Removes the topics created for the invocation, so each invocation works on the same topic map
+		 */
+		@TearDown(Level.Invocation)
+		public void tearDown() {
+			for (Topic topic : topics) {
+				topic.remove();
+			}
+			topics.clear();
+		}
+	}
+
+	/**
+	 * Output stream discarding any data
+	 */
+	private static class NullOutputStream extends OutputStream {
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public void write(int b) throws IOException {
+			// NOTHING TO DO
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public void write(byte[] b, int off, int len) throws IOException {
+			// NOTHING TO DO
+		}
+	}
+
+	@Benchmark
+	public Topic merge(Constructs constructs) {
+		constructs.topic.mergeIn(constructs.other);
+		return constructs.topic;
+	}
+
+	@Benchmark
+	public void removeDuplicates(NonTransactionalState state, Duplicates duplicates) {
+		state.getTopicMap().removeDuplicates();
+	}
+
+	@Benchmark
+	public void exportCXTM(NonTransactionalState state) throws Exception {
+		new CXTMTopicMapWriter(new NullOutputStream(), TopicMapState.BASE).write(state.getTopicMap());
+	}
+}
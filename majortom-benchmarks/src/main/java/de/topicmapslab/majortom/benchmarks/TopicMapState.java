@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmark state containing a topic map of each backend filled with the configured data set.
+ *
+ * @author Sven Krosse
+ *
+ */
+@State(Scope.Benchmark)
+public class TopicMapState extends BaseTopicMapState {
+
+	@Param({ "IN_MEMORY", "VIRTUAL", "QUEUED", "JDBC" })
+	public Backend backend;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected Backend getBackend() {
+		return backend;
+	}
+}
@@ -19,6 +19,21 @@ import de.topicmapslab.majortom.util.HashUtil;
  */
 public class AssociationCache implements ITopicMapListener {
 
+	/**
+	 * the cache region storing the entries
+	 */
+	private final CacheRegion region;
+
+	/**
+	 * constructor
+	 * 
+	 * @param region
+	 *            the cache region storing the entries
+	 */
+	AssociationCache(CacheRegion region) {
+		this.region = region;
+	}
+
 	private Map<IAssociationRole, ITopic> players;
 
 	/**
@@ -54,7 +69,7 @@ public class AssociationCache implements ITopicMapListener {
 	 */
 	public void cachePlayer(IAssociationRole role, ITopic player) {
 		if (players == null) {
-			players = HashUtil.getHashMap();
+			players = region.newMap();
 		}
 		players.put(role, player);
 	}
@@ -6,6 +6,7 @@ import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 
 import org.tmapi.core.Locator;
@@ -32,8 +33,12 @@ import de.topicmapslab.majortom.model.event.TopicMapEventType;
 import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
 import de.topicmapslab.majortom.model.revision.Changeset;
 import de.topicmapslab.majortom.model.revision.IRevision;
+import de.topicmapslab.majortom.model.store.ICacheStatistics;
 import de.topicmapslab.majortom.model.store.ITopicMapStoreIdentity;
+import de.topicmapslab.majortom.model.store.TopicMapStoreParameterType;
+import de.topicmapslab.majortom.model.transaction.ITransaction;
 import de.topicmapslab.majortom.store.ReadOnlyTopicMapStoreImpl;
+import de.topicmapslab.majortom.store.TopicMapStoreProperty;
 import de.topicmapslab.majortom.util.DatatypeAwareUtils;
 import de.topicmapslab.majortom.util.HashUtil;
 
@@ -786,14 +791,129 @@ public class Cache extends ReadOnlyTopicMapStoreImpl {
 		return variants;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public void doPrefetch(Collection<? extends IConstruct> contexts, TopicMapStoreParameterType paramType) throws TopicMapStoreException {
+		/*
+		 * collect all topics without cached values
+		 */
+		Set<ITopic> topics = HashUtil.getHashSet();
+		for (IConstruct context : contexts) {
+			if (context instanceof ITopic && !(context.getTopicMap() instanceof ITransaction) && !isCached((ITopic) context, paramType)) {
+				topics.add((ITopic) context);
+			}
+		}
+		if (topics.isEmpty()) {
+			return;
+		}
+		switch (paramType) {
+			case NAME: {
+				Map<ITopic, Set<IName>> map = getParentStore().doReadNames(topics);
+				if (map != null) {
+					for (Entry<ITopic, Set<IName>> entry : map.entrySet()) {
+						cache.cacheNames(entry.getKey(), null, null, entry.getValue());
+					}
+				}
+			}
+				break;
+			case OCCURRENCE: {
+				Map<ITopic, Set<IOccurrence>> map = getParentStore().doReadOccurrences(topics);
+				if (map != null) {
+					for (Entry<ITopic, Set<IOccurrence>> entry : map.entrySet()) {
+						cache.cacheOccurrences(entry.getKey(), null, null, entry.getValue());
+					}
+				}
+			}
+				break;
+			case TYPE: {
+				Map<ITopic, Set<ITopic>> map = getParentStore().doReadTypes(topics);
+				if (map != null) {
+					for (Entry<ITopic, Set<ITopic>> entry : map.entrySet()) {
+						cache.getTopicTypeCache().cacheTypes(entry.getKey(), entry.getValue());
+					}
+				}
+			}
+				break;
+			case SUBJECT_IDENTIFIER: {
+				Map<ITopic, Set<ILocator>> map = getParentStore().doReadSubjectIdentifiers(topics);
+				if (map != null) {
+					for (Entry<ITopic, Set<ILocator>> entry : map.entrySet()) {
+						cache.getIdentityCache().cacheSubjectIdentifiers(entry.getKey(), entry.getValue());
+					}
+				}
+			}
+				break;
+			case SUBJECT_LOCATOR: {
+				Map<ITopic, Set<ILocator>> map = getParentStore().doReadSubjectLocators(topics);
+				if (map != null) {
+					for (Entry<ITopic, Set<ILocator>> entry : map.entrySet()) {
+						cache.getIdentityCache().cacheSubjectLocators(entry.getKey(), entry.getValue());
+					}
+				}
+			}
+				break;
+			default: {
+				// NOTHING TO DO HERE
+			}
+		}
+	}
+
+	/**
+	 * Checks if the values of the given parameter type are already cached for the given topic.
+	 * 
+	 * @param topic
+	 *            the topic
+	 * @param paramType
+	 *            the parameter type
+	 * @return <code>true</code> if the values are cached, <code>false</code> otherwise
+	 */
+	private boolean isCached(ITopic topic, TopicMapStoreParameterType paramType) {
+		switch (paramType) {
+			case NAME:
+				return cache.getNames(topic, null, null) != null;
+			case OCCURRENCE:
+				return cache.getOccurrences(topic, null, null) != null;
+			case TYPE:
+				return cache.getTopicTypeCache().getDirectTypes(topic) != null;
+			case SUBJECT_IDENTIFIER:
+				return cache.getIdentityCache().getSubjectIdentifiers(topic) != null;
+			case SUBJECT_LOCATOR:
+				return cache.getIdentityCache().getSubjectLocators(topic) != null;
+			default:
+				return true;
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	public void initialize(Locator topicMapBaseLocator) throws TopicMapStoreException {
-		cache = new ConstructCache();
+		long maximumWeight = -1;
+		Object property = getTopicMapSystem() == null ? null : getTopicMapSystem().getProperty(TopicMapStoreProperty.CACHE_MAXIMUM_WEIGHT);
+		if (property != null) {
+			try {
+				maximumWeight = Long.parseLong(property.toString().trim());
+			} catch (NumberFormatException e) {
+				throw new TopicMapStoreException("Invalid value of property '" + TopicMapStoreProperty.CACHE_MAXIMUM_WEIGHT + "'!", e);
+			}
+		}
+		cache = new ConstructCache(maximumWeight);
 		getParentStore().addTopicMapListener(cache);
 	}
 
+	/**
+	 * Returns the statistics of all regions of the cache
+	 * 
+	 * @return the statistics
+	 */
+	public Collection<ICacheStatistics> getStatistics() {
+		if (cache == null) {
+			return Collections.emptySet();
+		}
+		return cache.getStatistics();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
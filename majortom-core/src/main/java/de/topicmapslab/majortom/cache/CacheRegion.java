@@ -0,0 +1,236 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.cache;
+
+import java.util.List;
+import java.util.Map;
+
+import de.topicmapslab.majortom.model.store.ICacheStatistics;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * A region of the read-through cache, e.g. the identity or the scope cache. All maps of one region share a maximum
+ * weight. If the weight is exceeded, the least recently used entries are evicted. A region with a non-positive
+ * maximum weight is unbounded and only records the statistics.
+ * 
+ * @author Sven Krosse
+ */
+class CacheRegion implements ICacheStatistics {
+
+	private final String name;
+	private final long maximumWeight;
+	private final List<CacheRegionMap<?, ?>> maps;
+
+	private long weight;
+	private long hits;
+	private long misses;
+	private long evictions;
+	/**
+	 * the map and the key checked by the last call of containsKey of the current thread
+	 */
+	private final ThreadLocal<Object[]> probe = new ThreadLocal<Object[]>();
+
+	/**
+	 * constructor
+	 * 
+	 * @param name
+	 *            the name of the region
+	 * @param maximumWeight
+	 *            the maximum weight or a non-positive value for an unbounded region
+	 */
+	public CacheRegion(String name, long maximumWeight) {
+		this.name = name;
+		this.maximumWeight = maximumWeight > 0 ? maximumWeight : -1;
+		this.maps = HashUtil.getList();
+	}
+
+	/**
+	 * Creates a new map storing its entries in this region
+	 * 
+	 * @param <K>
+	 *            the key type
+	 * @param <V>
+	 *            the value type
+	 * @return the new map
+	 */
+	public synchronized <K, V> Map<K, V> newMap() {
+		CacheRegionMap<K, V> map = new CacheRegionMap<K, V>(this);
+		maps.add(map);
+		return map;
+	}
+
+	/**
+	 * Returns whether the region has a maximum weight
+	 * 
+	 * @return <code>true</code> if entries are evicted, <code>false</code> otherwise
+	 */
+	public boolean isBounded() {
+		return maximumWeight > 0;
+	}
+
+	/**
+	 * Records a read access
+	 * 
+	 * @param hit
+	 *            <code>true</code> if the region could answer the read access, <code>false</code> otherwise
+	 */
+	synchronized void record(boolean hit) {
+		if (hit) {
+			hits++;
+		} else {
+			misses++;
+		}
+	}
+
+	/**
+	 * Remembers that the current thread found the given key by calling containsKey of the given map, so the
+	 * following read of the value is not recorded twice.
+	 * 
+	 * @param map
+	 *            the map
+	 * @param key
+	 *            the key
+	 */
+	void probe(CacheRegionMap<?, ?> map, Object key) {
+		probe.set(new Object[] { map, key });
+	}
+
+	/**
+	 * Checks if the given key of the given map was found by the last call of containsKey of the current thread and
+	 * forgets the probe.
+	 * 
+	 * @param map
+	 *            the map
+	 * @param key
+	 *            the key
+	 * @return <code>true</code> if the read access is already recorded, <code>false</code> otherwise
+	 */
+	boolean isProbed(CacheRegionMap<?, ?> map, Object key) {
+		Object[] last = probe.get();
+		if (last == null) {
+			return false;
+		}
+		probe.remove();
+		return last[0] == map && (key == null ? last[1] == null : key.equals(last[1]));
+	}
+
+	/**
+	 * Modifies the weight of the region
+	 * 
+	 * @param delta
+	 *            the weight added or removed
+	 */
+	synchronized void addWeight(long delta) {
+		weight += delta;
+	}
+
+	/**
+	 * Evicts the least recently used entries until the weight of the region does not exceed the maximum weight. The
+	 * entries of the given map are evicted first, because this map was modified last.
+	 * 
+	 * @param modified
+	 *            the map which was modified
+	 */
+	synchronized void evict(CacheRegionMap<?, ?> modified) {
+		if (!isBounded()) {
+			return;
+		}
+		while (weight > maximumWeight) {
+			CacheRegionMap<?, ?> victim = modified.size() > 1 ? modified : getHeaviestMap();
+			if (victim == null || victim.isEmpty()) {
+				return;
+			}
+			victim.evictEldest();
+			evictions++;
+		}
+	}
+
+	/**
+	 * Internal method to find the map with the highest weight
+	 * 
+	 * @return the map or <code>null</code> if the region does not contain any entry
+	 */
+	private CacheRegionMap<?, ?> getHeaviestMap() {
+		CacheRegionMap<?, ?> heaviest = null;
+		for (CacheRegionMap<?, ?> map : maps) {
+			if (!map.isEmpty() && (heaviest == null || map.getWeight() > heaviest.getWeight())) {
+				heaviest = map;
+			}
+		}
+		return heaviest;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized long getHitCount() {
+		return hits;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized long getMissCount() {
+		return misses;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized double getHitRate() {
+		long count = hits + misses;
+		if (count == 0) {
+			return 0;
+		}
+		return hits / (double) count;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized long getEvictionCount() {
+		return evictions;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized long getWeight() {
+		return weight;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long getMaximumWeight() {
+		return maximumWeight;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public String toString() {
+		return name + " [hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + ", weight=" + getWeight() + "/"
+				+ maximumWeight + "]";
+	}
+}
@@ -0,0 +1,289 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.cache;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Map of a {@link CacheRegion}. The map keeps its entries in access order if the region is bounded, so the eldest
+ * entry is the least recently used one. Every access is synchronized by the region. The views of the map are
+ * unmodifiable snapshots, so they can be iterated while other threads modify the map.
+ * <p>
+ * <b>Hint:</b> The weight of an entry is calculated when it is put into the map and recalculated if the entry is read
+ * again, so a collection value modified in place is reflected by the weight of the region after the next access.
+ * </p>
+ * 
+ * @author Sven Krosse
+ */
+class CacheRegionMap<K, V> extends LinkedHashMap<K, V> {
+
+	private static final long serialVersionUID = 6395163614727839406L;
+
+	private final transient CacheRegion region;
+	/**
+	 * weights of entries heavier than one
+	 */
+	private final Map<Object, Long> weights = new HashMap<Object, Long>();
+	private long weight;
+
+	/**
+	 * constructor
+	 * 
+	 * @param region
+	 *            the parent region
+	 */
+	public CacheRegionMap(CacheRegion region) {
+		super(16, 0.75f, region.isBounded());
+		this.region = region;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public V get(Object key) {
+		synchronized (region) {
+			V value = super.get(key);
+			if (value != null && reweigh(key, value)) {
+				region.evict(this);
+			}
+			/*
+			 * a read checked by containsKey before is already recorded
+			 */
+			if (!region.isProbed(this, key)) {
+				region.record(value != null);
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean containsKey(Object key) {
+		synchronized (region) {
+			boolean contained = super.containsKey(key);
+			region.record(contained);
+			if (contained) {
+				region.probe(this, key);
+			}
+			return contained;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean containsValue(Object value) {
+		synchronized (region) {
+			return super.containsValue(value);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int size() {
+		synchronized (region) {
+			return super.size();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public boolean isEmpty() {
+		synchronized (region) {
+			return super.isEmpty();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public V put(K key, V value) {
+		synchronized (region) {
+			if (super.containsKey(key)) {
+				release(key);
+			}
+			V old = super.put(key, value);
+			long w = weigh(value);
+			if (w > 1) {
+				weights.put(key, w);
+			}
+			weight += w;
+			region.addWeight(w);
+			region.evict(this);
+			return old;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void putAll(Map<? extends K, ? extends V> m) {
+		for (Map.Entry<? extends K, ? extends V> entry : m.entrySet()) {
+			put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public V remove(Object key) {
+		synchronized (region) {
+			if (!super.containsKey(key)) {
+				return null;
+			}
+			release(key);
+			return super.remove(key);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void clear() {
+		synchronized (region) {
+			super.clear();
+			weights.clear();
+			region.addWeight(-weight);
+			weight = 0;
+		}
+	}
+
+	/**
+	 * Returns an unmodifiable snapshot of the keys
+	 * 
+	 * @return the keys
+	 */
+	public Set<K> keySet() {
+		synchronized (region) {
+			return Collections.unmodifiableSet(new LinkedHashSet<K>(super.keySet()));
+		}
+	}
+
+	/**
+	 * Returns an unmodifiable snapshot of the values
+	 * 
+	 * @return the values
+	 */
+	public Collection<V> values() {
+		synchronized (region) {
+			return Collections.unmodifiableList(new ArrayList<V>(super.values()));
+		}
+	}
+
+	/**
+	 * Returns an unmodifiable snapshot of the entries
+	 * 
+	 * @return the entries
+	 */
+	public Set<Map.Entry<K, V>> entrySet() {
+		synchronized (region) {
+			Set<Map.Entry<K, V>> entries = new LinkedHashSet<Map.Entry<K, V>>();
+			for (Map.Entry<K, V> entry : super.entrySet()) {
+				entries.add(new SimpleImmutableEntry<K, V>(entry));
+			}
+			return Collections.unmodifiableSet(entries);
+		}
+	}
+
+	/**
+	 * Returns the weight of all entries of this map
+	 * 
+	 * @return the weight
+	 */
+	long getWeight() {
+		synchronized (region) {
+			return weight;
+		}
+	}
+
+	/**
+	 * Removes the least recently used entry of this map
+	 */
+	void evictEldest() {
+		synchronized (region) {
+			if (!super.isEmpty()) {
+				remove(super.keySet().iterator().next());
+			}
+		}
+	}
+
+	/**
+	 * Internal method to release the weight of the entry with the given key
+	 * 
+	 * @param key
+	 *            the key
+	 */
+	private void release(Object key) {
+		Long w = weights.remove(key);
+		long delta = w == null ? 1 : w;
+		weight -= delta;
+		region.addWeight(-delta);
+	}
+
+	/**
+	 * Internal method to recalculate the weight of the entry with the given key, because the value may be modified in
+	 * place since it was put into the map.
+	 * 
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the current value
+	 * @return <code>true</code> if the weight was increased, <code>false</code> otherwise
+	 */
+	private boolean reweigh(Object key, V value) {
+		Long old = weights.get(key);
+		long w = weigh(value);
+		long delta = w - (old == null ? 1 : old);
+		if (delta == 0) {
+			return false;
+		}
+		if (w > 1) {
+			weights.put(key, w);
+		} else {
+			weights.remove(key);
+		}
+		weight += delta;
+		region.addWeight(delta);
+		return delta > 0;
+	}
+
+	/**
+	 * Internal method to calculate the weight of a value
+	 * 
+	 * @param value
+	 *            the value
+	 * @return one plus the number of elements if the value is a collection or a map
+	 */
+	private static long weigh(Object value) {
+		if (value instanceof Collection<?>) {
+			return 1 + ((Collection<?>) value).size();
+		} else if (value instanceof Map<?, ?>) {
+			return 1 + ((Map<?, ?>) value).size();
+		}
+		return 1;
+	}
+}
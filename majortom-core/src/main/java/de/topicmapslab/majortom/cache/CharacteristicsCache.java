@@ -36,6 +36,21 @@ import de.topicmapslab.majortom.util.HashUtil;
  */
 class CharacteristicsCache implements ITopicMapListener {
 
+	/**
+	 * the cache region storing the entries
+	 */
+	private final CacheRegion region;
+
+	/**
+	 * constructor
+	 * 
+	 * @param region
+	 *            the cache region storing the entries
+	 */
+	CharacteristicsCache(CacheRegion region) {
+		this.region = region;
+	}
+
 	/**
 	 * storage map of datatype mapping
 	 */
@@ -90,7 +105,7 @@ class CharacteristicsCache implements ITopicMapListener {
 	 */
 	public void cacheDatatype(IDatatypeAware datatypeAware, ILocator datatype) {
 		if (dataTypes == null) {
-			dataTypes = HashUtil.getHashMap();
+			dataTypes = region.newMap();
 		}
 		dataTypes.put(datatypeAware, datatype);
 	}
@@ -145,7 +160,7 @@ class CharacteristicsCache implements ITopicMapListener {
 	 */
 	public void cacheValue(IConstruct construct, Object value) {
 		if (values == null) {
-			values = HashUtil.getHashMap();
+			values = region.newMap();
 		}
 		Object value_ = value;
 		if (value instanceof Calendar) {
@@ -179,7 +194,7 @@ class CharacteristicsCache implements ITopicMapListener {
 	 */
 	public void cacheDatatypeAwares(ILocator locator, Set<IDatatypeAware> set) {
 		if (dataTyped == null) {
-			dataTyped = HashUtil.getHashMap();
+			dataTyped = region.newMap();
 		}
 		dataTyped.put(locator, set);
 	}
@@ -1,6 +1,9 @@
 package de.topicmapslab.majortom.cache;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -16,6 +19,7 @@ import de.topicmapslab.majortom.model.core.ITopic;
 import de.topicmapslab.majortom.model.core.IVariant;
 import de.topicmapslab.majortom.model.event.ITopicMapListener;
 import de.topicmapslab.majortom.model.event.TopicMapEventType;
+import de.topicmapslab.majortom.model.store.ICacheStatistics;
 import de.topicmapslab.majortom.util.HashUtil;
 
 public class ConstructCache implements ITopicMapListener {
@@ -29,6 +33,64 @@ public class ConstructCache implements ITopicMapListener {
 	private AssociationCache associationCache;
 	private RevisionCache revisionCache;
 
+	/**
+	 * the maximum weight of each cache region
+	 */
+	private final long maximumWeight;
+	/**
+	 * all regions created by this cache
+	 */
+	private final List<CacheRegion> regions = new ArrayList<CacheRegion>();
+	/**
+	 * the region storing the constructs
+	 */
+	private final CacheRegion region;
+
+	/**
+	 * constructor creating an unbounded cache
+	 */
+	public ConstructCache() {
+		this(-1);
+	}
+
+	/**
+	 * constructor
+	 * 
+	 * @param maximumWeight
+	 *            the maximum weight of each cache region, a non-positive
+	 *            value means that the regions are unbounded
+	 */
+	public ConstructCache(long maximumWeight) {
+		this.maximumWeight = maximumWeight;
+		this.region = newRegion("constructs");
+	}
+
+	/**
+	 * Internal method to create a new cache region
+	 * 
+	 * @param name
+	 *            the name of the region
+	 * @return the created region
+	 */
+	private CacheRegion newRegion(String name) {
+		CacheRegion region = new CacheRegion(name, maximumWeight);
+		synchronized (regions) {
+			regions.add(region);
+		}
+		return region;
+	}
+
+	/**
+	 * Returns the statistics of all regions of this cache
+	 * 
+	 * @return the statistics
+	 */
+	public Collection<ICacheStatistics> getStatistics() {
+		synchronized (regions) {
+			return new ArrayList<ICacheStatistics>(regions);
+		}
+	}
+
 	class CacheKey {
 
 		/**
@@ -103,7 +165,7 @@ public class ConstructCache implements ITopicMapListener {
 	 *            the scope of stored values
 	 * @return the generated cache key
 	 */
-	private CacheKey generateCacheKey(IConstruct context, ITopic type, IScope scope) {
+	private synchronized CacheKey generateCacheKey(IConstruct context, ITopic type, IScope scope) {
 		CacheKey key = new CacheKey(context, type, scope);
 		if (relevantCacheKeys == null) {
 			relevantCacheKeys = HashUtil.getHashMap();
@@ -139,13 +201,13 @@ public class ConstructCache implements ITopicMapListener {
 	 * 
 	 * @param obj
 	 *            the filter
-	 * @return a set of all relevant cache keys
+	 * @return a copy of all relevant cache keys
 	 */
-	private Set<CacheKey> getRelevantCacheKeys(Object obj) {
+	private synchronized Set<CacheKey> getRelevantCacheKeys(Object obj) {
 		if (relevantCacheKeys == null || !relevantCacheKeys.containsKey(obj)) {
 			return Collections.emptySet();
 		}
-		return relevantCacheKeys.get(obj);
+		return HashUtil.getHashSet(relevantCacheKeys.get(obj));
 	}
 
 	/**
@@ -272,9 +334,9 @@ public class ConstructCache implements ITopicMapListener {
 	 * @param set
 	 *            the values to cache
 	 */
-	public void cacheNames(ITopic parent, ITopic type, IScope scope, Set<IName> set) {
+	public synchronized void cacheNames(ITopic parent, ITopic type, IScope scope, Set<IName> set) {
 		if (names == null) {
-			names = HashUtil.getHashMap();
+			names = region.newMap();
 		}
 		names.put(generateCacheKey(parent, type, scope), set);
 	}
@@ -293,9 +355,9 @@ public class ConstructCache implements ITopicMapListener {
 	 * @param set
 	 *            the values to cache
 	 */
-	public void cacheOccurrences(ITopic parent, ITopic type, IScope scope, Set<IOccurrence> set) {
+	public synchronized void cacheOccurrences(ITopic parent, ITopic type, IScope scope, Set<IOccurrence> set) {
 		if (occurrences == null) {
-			occurrences = HashUtil.getHashMap();
+			occurrences = region.newMap();
 		}
 		occurrences.put(generateCacheKey(parent, type, scope), set);
 	}
@@ -311,9 +373,9 @@ public class ConstructCache implements ITopicMapListener {
 	 * @param set
 	 *            the values to cache
 	 */
-	public void cacheVariants(IName parent, IScope scope, Set<IVariant> set) {
+	public synchronized void cacheVariants(IName parent, IScope scope, Set<IVariant> set) {
 		if (variants == null) {
-			variants = HashUtil.getHashMap();
+			variants = region.newMap();
 		}
 		variants.put(generateCacheKey(parent, null, scope), set);
 	}
@@ -331,9 +393,9 @@ public class ConstructCache implements ITopicMapListener {
 	 * @param set
 	 *            the values to cache
 	 */
-	public void cacheAssociation(IConstruct context, ITopic type, IScope scope, Set<IAssociation> set) {
+	public synchronized void cacheAssociation(IConstruct context, ITopic type, IScope scope, Set<IAssociation> set) {
 		if (associations == null) {
-			associations = HashUtil.getHashMap();
+			associations = region.newMap();
 		}
 		associations.put(generateCacheKey(context, type, scope), set);
 	}
@@ -348,9 +410,9 @@ public class ConstructCache implements ITopicMapListener {
 	 * @param set
 	 *            the values to cache
 	 */
-	public void cacheRoles(IConstruct context, ITopic type, Set<IAssociationRole> set) {
+	public synchronized void cacheRoles(IConstruct context, ITopic type, Set<IAssociationRole> set) {
 		if (roles == null) {
-			roles = HashUtil.getHashMap();
+			roles = region.newMap();
 		}
 		roles.put(generateCacheKey(context, type, null), set);
 	}
@@ -363,9 +425,9 @@ public class ConstructCache implements ITopicMapListener {
 	 * @param set
 	 *            the values to cache
 	 */
-	public void cacheTopics(ITopic type, Set<ITopic> set) {
+	public synchronized void cacheTopics(ITopic type, Set<ITopic> set) {
 		if (topics == null) {
-			topics = HashUtil.getHashMap();
+			topics = region.newMap();
 		}
 		topics.put(generateCacheKey(null, type, null), set);
 	}
@@ -376,9 +438,9 @@ public class ConstructCache implements ITopicMapListener {
 	 * 
 	 * @return the reference
 	 */
-	public CharacteristicsCache getCharacteristicsCache() {
+	public synchronized CharacteristicsCache getCharacteristicsCache() {
 		if (characteristicsCache == null) {
-			characteristicsCache = new CharacteristicsCache();
+			characteristicsCache = new CharacteristicsCache(newRegion("characteristics"));
 		}
 		return characteristicsCache;
 	}
@@ -389,9 +451,9 @@ public class ConstructCache implements ITopicMapListener {
 	 * 
 	 * @return the identityCache
 	 */
-	public IdentityCache getIdentityCache() {
+	public synchronized IdentityCache getIdentityCache() {
 		if (identityCache == null) {
-			identityCache = new IdentityCache();
+			identityCache = new IdentityCache(newRegion("identities"));
 		}
 		return identityCache;
 	}
@@ -402,7 +464,7 @@ public class ConstructCache implements ITopicMapListener {
 	 * 
 	 * @return the reificationCache
 	 */
-	public ReificationCache getReificationCache() {
+	public synchronized ReificationCache getReificationCache() {
 		if (reificationCache == null) {
 			reificationCache = new ReificationCache();
 		}
@@ -415,9 +477,9 @@ public class ConstructCache implements ITopicMapListener {
 	 * 
 	 * @return the scopeCache
 	 */
-	public ScopeCache getScopeCache() {
+	public synchronized ScopeCache getScopeCache() {
 		if (scopeCache == null) {
-			scopeCache = new ScopeCache();
+			scopeCache = new ScopeCache(newRegion("scopes"));
 		}
 		return scopeCache;
 	}
@@ -428,9 +490,9 @@ public class ConstructCache implements ITopicMapListener {
 	 * 
 	 * @return the typedCache
 	 */
-	public TypedCache getTypedCache() {
+	public synchronized TypedCache getTypedCache() {
 		if (typedCache == null) {
-			typedCache = new TypedCache();
+			typedCache = new TypedCache(newRegion("types"));
 		}
 		return typedCache;
 	}
@@ -441,9 +503,9 @@ public class ConstructCache implements ITopicMapListener {
 	 * 
 	 * @return the topicTypeCache
 	 */
-	public TopicTypeCache getTopicTypeCache() {
+	public synchronized TopicTypeCache getTopicTypeCache() {
 		if (topicTypeCache == null) {
-			topicTypeCache = new TopicTypeCache();
+			topicTypeCache = new TopicTypeCache(newRegion("topicTypes"));
 		}
 		return topicTypeCache;
 	}
@@ -453,9 +515,9 @@ public class ConstructCache implements ITopicMapListener {
 	 * 
 	 * @return the associationCache
 	 */
-	public AssociationCache getAssociationCache() {
+	public synchronized AssociationCache getAssociationCache() {
 		if (associationCache == null) {
-			associationCache = new AssociationCache();
+			associationCache = new AssociationCache(newRegion("players"));
 		}
 		return associationCache;
 	}
@@ -465,7 +527,7 @@ public class ConstructCache implements ITopicMapListener {
 	 * 
 	 * @return the revisionCache
 	 */
-	public RevisionCache getRevisionCache() {
+	public synchronized RevisionCache getRevisionCache() {
 		if (revisionCache == null) {
 			revisionCache = new RevisionCache();
 		}
@@ -515,8 +577,10 @@ public class ConstructCache implements ITopicMapListener {
 		if (associationCache != null) {
 			associationCache.clear();
 		}
-		if (relevantCacheKeys != null) {
-			relevantCacheKeys = HashUtil.getHashMap();
+		synchronized (this) {
+			if (relevantCacheKeys != null) {
+				relevantCacheKeys = HashUtil.getHashMap();
+			}
 		}
 		if (revisionCache != null) {
 			revisionCache.clear();
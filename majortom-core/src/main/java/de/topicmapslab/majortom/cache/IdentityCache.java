@@ -41,6 +41,21 @@ import de.topicmapslab.majortom.util.HashUtil;
  */
 class IdentityCache implements ITopicMapListener {
 
+	/**
+	 * the cache region storing the entries
+	 */
+	private final CacheRegion region;
+
+	/**
+	 * constructor
+	 * 
+	 * @param region
+	 *            the cache region storing the entries
+	 */
+	IdentityCache(CacheRegion region) {
+		this.region = region;
+	}
+
 	/**
 	 * enumeration used as key for internal storage
 	 */
@@ -326,7 +341,7 @@ class IdentityCache implements ITopicMapListener {
 	 */
 	public void cacheItemIdentifier(final ILocator l, IConstruct c) {
 		if (itemIdentifiers == null) {
-			itemIdentifiers = HashUtil.getHashMap();
+			itemIdentifiers = region.newMap();
 		}
 		itemIdentifiers.put(l, c);
 	}
@@ -341,7 +356,7 @@ class IdentityCache implements ITopicMapListener {
 	 */
 	public void cacheSubjectIdentifier(final ILocator l, ITopic t) {
 		if (subjectIdentifiers == null) {
-			subjectIdentifiers = HashUtil.getHashMap();
+			subjectIdentifiers = region.newMap();
 		}
 		subjectIdentifiers.put(l, t);
 	}
@@ -356,7 +371,7 @@ class IdentityCache implements ITopicMapListener {
 	 */
 	public void cacheSubjectLocator(final ILocator l, ITopic t) {
 		if (subjectLocators == null) {
-			subjectLocators = HashUtil.getHashMap();
+			subjectLocators = region.newMap();
 		}
 		subjectLocators.put(l, t);
 	}
@@ -423,7 +438,7 @@ class IdentityCache implements ITopicMapListener {
 	 */
 	public void cacheItemIdentifiers(IConstruct c, Set<ILocator> identifiers) {
 		if (constructItemIdentifiers == null) {
-			constructItemIdentifiers = HashUtil.getHashMap();
+			constructItemIdentifiers = region.newMap();
 		}
 		constructItemIdentifiers.put(c, HashUtil.getHashSet(identifiers));
 	}
@@ -438,7 +453,7 @@ class IdentityCache implements ITopicMapListener {
 	 */
 	public void cacheSubjectIdentifiers(ITopic t, Set<ILocator> identifiers) {
 		if (topicSubjectIdentifiers == null) {
-			topicSubjectIdentifiers = HashUtil.getHashMap();
+			topicSubjectIdentifiers = region.newMap();
 		}
 		topicSubjectIdentifiers.put(t, HashUtil.getHashSet(identifiers));
 	}
@@ -453,7 +468,7 @@ class IdentityCache implements ITopicMapListener {
 	 */
 	public void cacheSubjectLocators(ITopic t, Set<ILocator> identifiers) {
 		if (topicSubjectLocators == null) {
-			topicSubjectLocators = HashUtil.getHashMap();
+			topicSubjectLocators = region.newMap();
 		}
 		topicSubjectLocators.put(t, HashUtil.getHashSet(identifiers));
 	}
@@ -564,7 +579,7 @@ class IdentityCache implements ITopicMapListener {
 	 */
 	public void cacheBestIdentifier(ITopic t, boolean withPrefix, String bestIdentifier) {
 		if (bestIdentifiers == null) {
-			bestIdentifiers = HashUtil.getHashMap();
+			bestIdentifiers = region.newMap();
 		}
 		bestIdentifiers.put(new BestIdentifierKey(t, withPrefix), bestIdentifier);
 	}
@@ -593,7 +608,7 @@ class IdentityCache implements ITopicMapListener {
 	 */
 	public void cacheBestLabel(ITopic t, String bestLabel) {
 		if (bestLabels == null) {
-			bestLabels = HashUtil.getHashMap();
+			bestLabels = region.newMap();
 		}
 		bestLabels.put(generateKey(t, null, false), bestLabel);
 	}
@@ -630,7 +645,7 @@ class IdentityCache implements ITopicMapListener {
 	 */
 	public void cacheBestLabel(ITopic t, ITopic theme, boolean strict, String bestLabel) {
 		if (bestLabels == null) {
-			bestLabels = HashUtil.getHashMap();
+			bestLabels = region.newMap();
 		}
 		bestLabels.put(generateKey(t, theme, strict), bestLabel);
 	}
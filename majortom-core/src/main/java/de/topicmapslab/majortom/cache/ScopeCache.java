@@ -21,46 +21,50 @@ import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
 import de.topicmapslab.majortom.util.HashUtil;
 
 public class ScopeCache implements ITopicMapListener {
+
+	/**
+	 * constructor
+	 * 
+	 * @param region
+	 *            the cache region storing the entries
+	 */
+	ScopeCache(CacheRegion region) {
+		this.scopes = region.newMap();
+		this.nameScopes = region.newMap();
+		this.occurrenceScopes = region.newMap();
+		this.variantScopes = region.newMap();
+		this.associationScopes = region.newMap();
+	}
 	/**
 	 * storage map of scope-themes mapping
 	 */
-	private Map<IScope, Set<ITopic>> scopes;
+	private final Map<IScope, Set<ITopic>> scopes;
 	/**
 	 * storage map of name-scope relation
 	 */
-	private Map<IName, IScope> nameScopes;
+	private final Map<IName, IScope> nameScopes;
 	/**
 	 * storage map of occurrence-scope relation
 	 */
-	private Map<IOccurrence, IScope> occurrenceScopes;
+	private final Map<IOccurrence, IScope> occurrenceScopes;
 	/**
 	 * storage map of variant-scope relation
 	 */
-	private Map<IVariant, IScope> variantScopes;
+	private final Map<IVariant, IScope> variantScopes;
 	/**
 	 * storage map of association-scope relation
 	 */
-	private Map<IAssociation, IScope> associationScopes;	
+	private final Map<IAssociation, IScope> associationScopes;	
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public void clear() {
-		if (scopes != null) {
-			scopes.clear();
-		}
-		if (nameScopes != null) {
-			nameScopes.clear();
-		}
-		if (occurrenceScopes != null) {
-			occurrenceScopes.clear();
-		}
-		if (variantScopes != null) {
-			variantScopes.clear();
-		}
-		if (associationScopes != null) {
-			associationScopes.clear();
-		}
+		scopes.clear();
+		nameScopes.clear();
+		occurrenceScopes.clear();
+		variantScopes.clear();
+		associationScopes.clear();
 	}
 
 	/**
@@ -82,9 +86,6 @@ public class ScopeCache implements ITopicMapListener {
 	 * @return the scope instance
 	 */
 	public IScope getScope(Collection<ITopic> themes) {
-		if (scopes == null) {
-			scopes = HashUtil.getHashMap();
-		}
 		for (Entry<IScope, Set<ITopic>> entry : scopes.entrySet()) {
 			if (entry.getValue().size() == themes.size()
 					&& entry.getValue().containsAll(themes)) {
@@ -165,9 +166,6 @@ public class ScopeCache implements ITopicMapListener {
 	 *            the scope
 	 */
 	public void cacheAssociationScope(IAssociation association, IScope scope) {
-		if (associationScopes == null) {
-			associationScopes = HashUtil.getHashMap();
-		}
 		associationScopes.put(association, scope);
 	}
 
@@ -180,9 +178,6 @@ public class ScopeCache implements ITopicMapListener {
 	 *            the scope
 	 */
 	public void cacheNameScope(IName name, IScope scope) {
-		if (nameScopes == null) {
-			nameScopes = HashUtil.getHashMap();
-		}
 		nameScopes.put(name, scope);
 	}
 
@@ -195,9 +190,6 @@ public class ScopeCache implements ITopicMapListener {
 	 *            the scope
 	 */
 	public void cacheOccurrenceScope(IOccurrence occurrence, IScope scope) {
-		if (occurrenceScopes == null) {
-			occurrenceScopes = HashUtil.getHashMap();
-		}
 		occurrenceScopes.put(occurrence, scope);
 	}
 
@@ -210,9 +202,6 @@ public class ScopeCache implements ITopicMapListener {
 	 *            the scope
 	 */
 	public void cacheVariantScope(IVariant variant, IScope scope) {
-		if (variantScopes == null) {
-			variantScopes = HashUtil.getHashMap();
-		}
 		variantScopes.put(variant, scope);
 	}
 
@@ -224,49 +213,36 @@ public class ScopeCache implements ITopicMapListener {
 		/*
 		 * name was removed
 		 */
-		if (event == TopicMapEventType.NAME_REMOVED && nameScopes != null) {
+		if (event == TopicMapEventType.NAME_REMOVED) {
 			nameScopes.remove(oldValue);
 		}
 		/*
 		 * occurrence was removed
 		 */
-		else if (event == TopicMapEventType.OCCURRENCE_REMOVED
-				&& occurrenceScopes != null) {
+		else if (event == TopicMapEventType.OCCURRENCE_REMOVED) {
 			occurrenceScopes.remove(oldValue);
 		}
 		/*
 		 * variant was removed
 		 */
-		else if (event == TopicMapEventType.VARIANT_REMOVED
-				&& variantScopes != null) {
+		else if (event == TopicMapEventType.VARIANT_REMOVED) {
 			variantScopes.remove(oldValue);
 		}
 		/*
 		 * association was removed
 		 */
-		else if (event == TopicMapEventType.ASSOCIATION_REMOVED
-				&& associationScopes != null) {
+		else if (event == TopicMapEventType.ASSOCIATION_REMOVED) {
 			associationScopes.remove(oldValue);
 		}
 		/*
 		 * topic was removed -> potential theme
 		 */
 		else if (event == TopicMapEventType.TOPIC_REMOVED) {
-			if (scopes != null) {
-				scopes.clear();
-			}
-			if (nameScopes != null) {
-				nameScopes.clear();
-			}
-			if (occurrenceScopes != null) {
-				occurrenceScopes.clear();
-			}
-			if (variantScopes != null) {
-				variantScopes.clear();
-			}
-			if (associationScopes != null) {
-				associationScopes.clear();
-			}
+			scopes.clear();
+			nameScopes.clear();
+			occurrenceScopes.clear();
+			variantScopes.clear();
+			associationScopes.clear();
 		}
 		/*
 		 * scope was modified
@@ -276,10 +252,10 @@ public class ScopeCache implements ITopicMapListener {
 			/*
 			 * variant scopes are dependent from the parent name scope
 			 */
-			if ( ( notifier instanceof IName || notifier instanceof IVariant ) && variantScopes != null ){
+			if ( notifier instanceof IName || notifier instanceof IVariant ){
 				variantScopes.clear();
 			}
 		}
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -33,6 +33,21 @@ import de.topicmapslab.majortom.util.HashUtil;
  */
 class TopicTypeCache implements ITopicMapListener {
 
+	/**
+	 * the cache region storing the entries
+	 */
+	private final CacheRegion region;
+
+	/**
+	 * constructor
+	 * 
+	 * @param region
+	 *            the cache region storing the entries
+	 */
+	TopicTypeCache(CacheRegion region) {
+		this.region = region;
+	}
+
 	/**
 	 * enumeration specify the key for internal maps
 	 */
@@ -283,7 +298,7 @@ class TopicTypeCache implements ITopicMapListener {
 	 */
 	public void cacheTypes(ITopic topic, Set<ITopic> set) {
 		if (types == null) {
-			types = HashUtil.getHashMap();
+			types = region.newMap();
 		}
 		types.put(topic, set);
 	}
@@ -298,7 +313,7 @@ class TopicTypeCache implements ITopicMapListener {
 	 */
 	public void cacheSupertypes(ITopic topic, Set<ITopic> set) {
 		if (supertypes == null) {
-			supertypes = HashUtil.getHashMap();
+			supertypes = region.newMap();
 		}
 		supertypes.put(topic, set);
 	}
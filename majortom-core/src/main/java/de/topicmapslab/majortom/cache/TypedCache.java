@@ -41,6 +41,19 @@ import de.topicmapslab.majortom.util.HashUtil;
  */
 class TypedCache implements ITopicMapListener {
 
+	/**
+	 * constructor
+	 * 
+	 * @param region
+	 *            the cache region storing the entries
+	 */
+	TypedCache(CacheRegion region) {
+		this.nameTypes = region.newMap();
+		this.occurrenceTypes = region.newMap();
+		this.associationTypes = region.newMap();
+		this.roleTypes = region.newMap();
+	}
+
 	/**
 	 * map containing all known types
 	 */
@@ -49,36 +62,28 @@ class TypedCache implements ITopicMapListener {
 	/**
 	 * storage map of the name-type relation
 	 */
-	private Map<IName, ITopic> nameTypes;
+	private final Map<IName, ITopic> nameTypes;
 	/**
 	 * storage map of the occurrence-type relation
 	 */
-	private Map<IOccurrence, ITopic> occurrenceTypes;
+	private final Map<IOccurrence, ITopic> occurrenceTypes;
 	/**
 	 * storage map of the association-type relation
 	 */
-	private Map<IAssociation, ITopic> associationTypes;
+	private final Map<IAssociation, ITopic> associationTypes;
 	/**
 	 * storage map of the role-type relation
 	 */
-	private Map<IAssociationRole, ITopic> roleTypes;
+	private final Map<IAssociationRole, ITopic> roleTypes;
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public void clear() {
-		if (nameTypes != null) {
-			nameTypes.clear();
-		}
-		if (occurrenceTypes != null) {
-			occurrenceTypes.clear();
-		}
-		if (associationTypes != null) {
-			associationTypes.clear();
-		}
-		if (roleTypes != null) {
-			roleTypes.clear();
-		}
+		nameTypes.clear();
+		occurrenceTypes.clear();
+		associationTypes.clear();
+		roleTypes.clear();
 		if (types != null) {
 			types.clear();
 		}
@@ -230,9 +235,6 @@ class TypedCache implements ITopicMapListener {
 	 *            the type
 	 */
 	public void cacheAssociationType(IAssociation association, ITopic type) {
-		if (associationTypes == null) {
-			associationTypes = HashUtil.getHashMap();
-		}
 		associationTypes.put(association, type);
 	}
 
@@ -245,9 +247,6 @@ class TypedCache implements ITopicMapListener {
 	 *            the type
 	 */
 	public void cacheNameType(IName name, ITopic type) {
-		if (nameTypes == null) {
-			nameTypes = HashUtil.getHashMap();
-		}
 		nameTypes.put(name, type);
 	}
 
@@ -260,9 +259,6 @@ class TypedCache implements ITopicMapListener {
 	 *            the type
 	 */
 	public void cacheOccurrenceType(IOccurrence occurrence, ITopic type) {
-		if (occurrenceTypes == null) {
-			occurrenceTypes = HashUtil.getHashMap();
-		}
 		occurrenceTypes.put(occurrence, type);
 	}
 
@@ -275,9 +271,6 @@ class TypedCache implements ITopicMapListener {
 	 *            the type
 	 */
 	public void cacheRoleType(IAssociationRole role, ITopic type) {
-		if (roleTypes == null) {
-			roleTypes = HashUtil.getHashMap();
-		}
 		roleTypes.put(role, type);
 	}
 
@@ -289,27 +282,25 @@ class TypedCache implements ITopicMapListener {
 		/*
 		 * name was removed
 		 */
-		if (event == TopicMapEventType.NAME_REMOVED && nameTypes != null) {
+		if (event == TopicMapEventType.NAME_REMOVED) {
 			nameTypes.remove(oldValue);
 		}
 		/*
 		 * occurrence was removed
 		 */
-		else if (event == TopicMapEventType.OCCURRENCE_REMOVED
-				&& occurrenceTypes != null) {
+		else if (event == TopicMapEventType.OCCURRENCE_REMOVED) {
 			occurrenceTypes.remove(oldValue);
 		}
 		/*
 		 * role was removed
 		 */
-		else if (event == TopicMapEventType.ROLE_REMOVED && roleTypes != null) {
+		else if (event == TopicMapEventType.ROLE_REMOVED) {
 			roleTypes.remove(oldValue);
 		}
 		/*
 		 * association was removed
 		 */
-		else if (event == TopicMapEventType.ASSOCIATION_REMOVED
-				&& associationTypes != null) {
+		else if (event == TopicMapEventType.ASSOCIATION_REMOVED) {
 			associationTypes.remove(oldValue);
 		}
 		/*
@@ -317,36 +308,24 @@ class TypedCache implements ITopicMapListener {
 		 */
 		else if (event == TopicMapEventType.TOPIC_REMOVED) {
 			ITopic topic = (ITopic) oldValue;
-			if (associationTypes != null) {
-				for (Entry<IAssociation, ITopic> entry : HashUtil
-						.getHashSet(associationTypes.entrySet())) {
-					if (entry.equals(topic)) {
-						associationTypes.remove(entry.getKey());
-					}
+			for (Entry<IAssociation, ITopic> entry : associationTypes.entrySet()) {
+				if (entry.getValue().equals(topic)) {
+					associationTypes.remove(entry.getKey());
 				}
 			}
-			if (roleTypes != null) {
-				for (Entry<IAssociationRole, ITopic> entry : HashUtil
-						.getHashSet(roleTypes.entrySet())) {
-					if (entry.equals(topic)) {
-						roleTypes.remove(entry.getKey());
-					}
+			for (Entry<IAssociationRole, ITopic> entry : roleTypes.entrySet()) {
+				if (entry.getValue().equals(topic)) {
+					roleTypes.remove(entry.getKey());
 				}
 			}
-			if (occurrenceTypes != null) {
-				for (Entry<IOccurrence, ITopic> entry : HashUtil
-						.getHashSet(occurrenceTypes.entrySet())) {
-					if (entry.equals(topic)) {
-						occurrenceTypes.remove(entry.getKey());
-					}
+			for (Entry<IOccurrence, ITopic> entry : occurrenceTypes.entrySet()) {
+				if (entry.getValue().equals(topic)) {
+					occurrenceTypes.remove(entry.getKey());
 				}
 			}
-			if (nameTypes != null) {
-				for (Entry<IName, ITopic> entry : HashUtil.getHashSet(nameTypes
-						.entrySet())) {
-					if (entry.equals(topic)) {
-						nameTypes.remove(entry.getKey());
-					}
+			for (Entry<IName, ITopic> entry : nameTypes.entrySet()) {
+				if (entry.getValue().equals(topic)) {
+					nameTypes.remove(entry.getKey());
 				}
 			}
 		}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.comparator;
+
+import java.text.ParseException;
+import java.util.Comparator;
+import java.util.Map;
+
+import de.topicmapslab.geotype.wgs84.Wgs84Coordinate;
+import de.topicmapslab.majortom.model.core.ICharacteristics;
+import de.topicmapslab.majortom.model.core.IDatatypeAware;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Comparator for characteristics with the datatype tm:geo, sorting them by the
+ * distance of their coordinate to a fixed coordinate, the nearest first.
+ * Characteristics without a valid coordinate are sorted to the end. The
+ * distance of each characteristics is calculated only once.
+ *
+ * @author Sven Krosse
+ *
+ */
+public class CharacteristicsByDistanceComparator implements Comparator<ICharacteristics> {
+
+	private final Wgs84Coordinate value;
+	private final Map<ICharacteristics, Double> distances;
+
+	/**
+	 * constructor
+	 *
+	 * @param value
+	 *            the coordinate the distances are calculated to
+	 */
+	public CharacteristicsByDistanceComparator(Wgs84Coordinate value) {
+		this.value = value;
+		this.distances = HashUtil.getHashMap();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int compare(ICharacteristics o1, ICharacteristics o2) {
+		return Double.compare(getDistance(o1), getDistance(o2));
+	}
+
+	/**
+	 * Returns the distance of the coordinate of the given characteristics to
+	 * the fixed coordinate.
+	 *
+	 * @param characteristics
+	 *            the characteristics
+	 * @return the distance in kilometers or
+	 *         {@link Double#POSITIVE_INFINITY} if the characteristics does not
+	 *         represent a coordinate
+	 */
+	public double getDistance(ICharacteristics characteristics) {
+		Double distance = distances.get(characteristics);
+		if (distance == null) {
+			distance = Double.POSITIVE_INFINITY;
+			if (characteristics instanceof IDatatypeAware) {
+				try {
+					distance = value.getDistance(((IDatatypeAware) characteristics).coordinateValue());
+					/*
+					 * rounding errors let the arc cosine of identical points
+					 * fail
+					 */
+					if (distance.isNaN()) {
+						distance = 0D;
+					}
+				} catch (ParseException e) {
+					// NOTHING TO DO
+				}
+			}
+			distances.put(characteristics, distance);
+		}
+		return distance;
+	}
+}
@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.comparator;
+
+import java.util.Comparator;
+
+import org.tmapi.core.Construct;
+
+/**
+ * Special comparator ordering constructs lexicographically by their identifier
+ *
+ * @author Sven Krosse
+ *
+ */
+public class ConstructByIdComparator implements Comparator<Construct> {
+
+	private static ConstructByIdComparator instance = null;
+
+	/**
+	 * Returns the singleton instance of the comparator
+	 *
+	 * @return the instance the comparator instance
+	 */
+	public static ConstructByIdComparator getInstance() {
+		if (instance == null) {
+			instance = new ConstructByIdComparator();
+		}
+		return instance;
+	}
+
+	/**
+	 * constructor
+	 */
+	private ConstructByIdComparator() {
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public int compare(Construct o1, Construct o2) {
+		return o1.getId().compareTo(o2.getId());
+	}
+}
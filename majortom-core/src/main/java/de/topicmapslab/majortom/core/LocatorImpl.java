@@ -105,6 +105,9 @@ public class LocatorImpl implements ILocator, Comparable<LocatorImpl> {
 	 * {@inheritDoc}
 	 */
 	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
 		if (obj instanceof Locator) {
 			return getReference().equals(((Locator) obj).getReference());
 		}
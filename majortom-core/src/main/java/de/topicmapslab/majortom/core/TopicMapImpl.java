@@ -120,7 +120,11 @@ public class TopicMapImpl extends ReifiableImpl implements ITopicMap, IPagedTopi
 		if (listener == null) {
 			throw new IllegalArgumentException("Listener attribute cannot be null.");
 		}
-		getStore().addTopicMapListener(listener);
+		if (getStore() instanceof TopicMapStoreImpl) {
+			((TopicMapStoreImpl) getStore()).addExternalTopicMapListener(listener);
+		} else {
+			getStore().addTopicMapListener(listener);
+		}
 	}
 
 	/**
@@ -268,7 +272,11 @@ public class TopicMapImpl extends ReifiableImpl implements ITopicMap, IPagedTopi
 		if (listener == null) {
 			throw new IllegalArgumentException("Listener argument cannot be null.");
 		}
-		getStore().removeTopicMapListener(listener);
+		if (getStore() instanceof TopicMapStoreImpl) {
+			((TopicMapStoreImpl) getStore()).removeExternalTopicMapListener(listener);
+		} else {
+			getStore().removeTopicMapListener(listener);
+		}
 
 	}
 
@@ -62,6 +62,7 @@ public class TopicMapSystemFactoryImpl extends TopicMapSystemFactory {
 		SUPPORTED_FEATURES.add(FeatureStrings.SUPPORT_HISTORY);
 		SUPPORTED_FEATURES.add(FeatureStrings.SUPPORT_TRANSACTION);
 		SUPPORTED_FEATURES.add(FeatureStrings.CONCURRENT_COLLECTIONS);
+		SUPPORTED_FEATURES.add(FeatureStrings.CONCURRENT_STORE);
 	}
 
 	/**
@@ -78,6 +79,7 @@ public class TopicMapSystemFactoryImpl extends TopicMapSystemFactory {
 		features.put(FeatureStrings.DELETION_CONSTRAINTS_REIFICATION, false);
 		features.put(FeatureStrings.READ_ONLY_SYSTEM, false);
 		features.put(FeatureStrings.CONCURRENT_COLLECTIONS, false);
+		features.put(FeatureStrings.CONCURRENT_STORE, false);
 		properties = new Properties();
 		loadPropertiesFromFile();
 	}
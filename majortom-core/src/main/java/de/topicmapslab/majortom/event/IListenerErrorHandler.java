@@ -0,0 +1,44 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.event;
+
+import de.topicmapslab.majortom.model.event.ITopicMapListener;
+import de.topicmapslab.majortom.model.event.TopicMapEventType;
+
+/**
+ * Handler of the failures of asynchronous listeners of the {@link TopicMapEventBus}. A failing listener does not stop
+ * the dispatcher thread, the failure is reported to the handler of the bus instead.
+ * 
+ * @author Sven Krosse
+ * 
+ */
+public interface IListenerErrorHandler {
+
+	/**
+	 * Called by the dispatcher thread if an asynchronous listener throws an exception
+	 * 
+	 * @param listener
+	 *            the failing listener
+	 * @param id
+	 *            the id of the event
+	 * @param event
+	 *            the type of the event
+	 * @param failure
+	 *            the exception thrown by the listener
+	 */
+	public void listenerFailed(ITopicMapListener listener, String id, TopicMapEventType event, RuntimeException failure);
+
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.event;
+
+/**
+ * Enumeration of the strategies of the {@link TopicMapEventBus} if an event is published and the buffer of the
+ * asynchronous listeners is full.
+ * 
+ * @author Sven Krosse
+ * 
+ */
+public enum OverflowStrategy {
+
+	/**
+	 * the publishing thread waits until the dispatcher has delivered at least one event. The publishing thread may
+	 * hold the write lock of the store, so this strategy must not be used if an asynchronous listener reads the topic
+	 * map of a concurrent store, because the dispatcher would wait for the read lock while the writer waits for the
+	 * dispatcher.
+	 */
+	BLOCK,
+
+	/**
+	 * the new event is discarded
+	 */
+	DISCARD_NEWEST,
+
+	/**
+	 * the oldest event of the buffer is discarded to store the new one, the default strategy
+	 */
+	DISCARD_OLDEST;
+
+}
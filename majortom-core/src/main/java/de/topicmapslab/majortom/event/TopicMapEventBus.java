@@ -0,0 +1,518 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.event;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import de.topicmapslab.majortom.model.core.IConstruct;
+import de.topicmapslab.majortom.model.event.ITopicMapListener;
+import de.topicmapslab.majortom.model.event.TopicMapEventType;
+
+/**
+ * Event bus of a topic map store. The bus knows two kinds of listeners:
+ * <ul>
+ * <li>subscribers, which are internal components like caches and indexes. They have to be consistent with the store
+ * and are notified synchronously by the publishing thread.</li>
+ * <li>asynchronous listeners, which are external components. Their events are stored in a bounded ring buffer and
+ * delivered in batches by a dispatcher thread, so a slow listener does not stall the writing threads.</li>
+ * </ul>
+ * The slots of the ring buffer are allocated once and reused for each event. The dispatcher thread is only started if
+ * there is at least one asynchronous listener. By default a full buffer discards its oldest event instead of blocking
+ * the publishing thread, which may hold the write lock of the store needed by the listeners.
+ * 
+ * @author Sven Krosse
+ * 
+ */
+public class TopicMapEventBus {
+
+	/**
+	 * default number of events buffered for the asynchronous listeners
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+	/**
+	 * default maximum number of events delivered in one batch
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 64;
+	/**
+	 * default strategy if the buffer is full
+	 */
+	public static final OverflowStrategy DEFAULT_OVERFLOW_STRATEGY = OverflowStrategy.DISCARD_OLDEST;
+
+	/**
+	 * reusable slot of the ring buffer
+	 */
+	private static final class Event {
+
+		private long id;
+		private TopicMapEventType type;
+		private IConstruct notifier;
+		private Object newValue;
+		private Object oldValue;
+
+		/**
+		 * Copies the content of the given event to this slot.
+		 * 
+		 * @param other
+		 *            the other event
+		 */
+		private void copy(Event other) {
+			set(other.id, other.type, other.notifier, other.newValue, other.oldValue);
+		}
+
+		/**
+		 * Modifies the content of this slot.
+		 */
+		private void set(long id, TopicMapEventType type, IConstruct notifier, Object newValue, Object oldValue) {
+			this.id = id;
+			this.type = type;
+			this.notifier = notifier;
+			this.newValue = newValue;
+			this.oldValue = oldValue;
+		}
+
+		/**
+		 * Removes all references of this slot.
+		 */
+		private void clear() {
+			set(0, null, null, null, null);
+		}
+	}
+
+	/**
+	 * the synchronous subscribers
+	 */
+	private final Set<ITopicMapListener> subscribers = new CopyOnWriteArraySet<ITopicMapListener>();
+	/**
+	 * the asynchronous listeners
+	 */
+	private final Set<ITopicMapListener> listeners = new CopyOnWriteArraySet<ITopicMapListener>();
+
+	private final Event[] ring;
+	private final int mask;
+	private final Event[] batch;
+	private final OverflowStrategy strategy;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition notFull = lock.newCondition();
+	private final Condition drained = lock.newCondition();
+	/**
+	 * sequence of the next slot to read
+	 */
+	private long head;
+	/**
+	 * sequence of the next slot to write
+	 */
+	private long tail;
+	/**
+	 * number of events taken from the buffer and not delivered yet
+	 */
+	private int inFlight;
+
+	private final AtomicLong sequence = new AtomicLong();
+	private final AtomicLong discarded = new AtomicLong();
+	private final AtomicLong failures = new AtomicLong();
+	/**
+	 * the handler of failing listeners or <code>null</code>
+	 */
+	private volatile IListenerErrorHandler errorHandler;
+
+	private Thread dispatcher;
+	private boolean closed;
+
+	/**
+	 * constructor
+	 */
+	public TopicMapEventBus() {
+		this(DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_OVERFLOW_STRATEGY);
+	}
+
+	/**
+	 * constructor
+	 * 
+	 * @param capacity
+	 *            the number of events buffered for the asynchronous listeners, rounded up to a power of two
+	 * @param batchSize
+	 *            the maximum number of events delivered in one batch
+	 * @param strategy
+	 *            the strategy if the buffer is full or <code>null</code> for {@link #DEFAULT_OVERFLOW_STRATEGY}
+	 */
+	public TopicMapEventBus(int capacity, int batchSize, OverflowStrategy strategy) {
+		int size = 1;
+		while (size < capacity) {
+			size <<= 1;
+		}
+		this.ring = new Event[size];
+		for (int i = 0; i < size; i++) {
+			ring[i] = new Event();
+		}
+		this.mask = size - 1;
+		this.batch = new Event[Math.max(1, Math.min(batchSize, size))];
+		for (int i = 0; i < batch.length; i++) {
+			batch[i] = new Event();
+		}
+		this.strategy = strategy == null ? DEFAULT_OVERFLOW_STRATEGY : strategy;
+	}
+
+	/**
+	 * Registers a synchronous subscriber.
+	 * 
+	 * @param subscriber
+	 *            the subscriber
+	 */
+	public void subscribe(ITopicMapListener subscriber) {
+		subscribers.add(subscriber);
+	}
+
+	/**
+	 * Removes a synchronous subscriber.
+	 * 
+	 * @param subscriber
+	 *            the subscriber
+	 */
+	public void unsubscribe(ITopicMapListener subscriber) {
+		subscribers.remove(subscriber);
+	}
+
+	/**
+	 * Returns the synchronous subscribers
+	 * 
+	 * @return the subscribers
+	 */
+	public Set<ITopicMapListener> getSubscribers() {
+		return subscribers;
+	}
+
+	/**
+	 * Registers an asynchronous listener and starts the dispatcher thread if necessary.
+	 * 
+	 * @param listener
+	 *            the listener
+	 */
+	public void addListener(ITopicMapListener listener) {
+		listeners.add(listener);
+		lock.lock();
+		try {
+			if (dispatcher == null && !closed) {
+				startDispatcher();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Internal method to start the dispatcher thread, called with the lock held
+	 */
+	private void startDispatcher() {
+		dispatcher = new Thread("MaJorToM event dispatcher") {
+			public void run() {
+				dispatch();
+			}
+		};
+		dispatcher.setDaemon(true);
+		dispatcher.start();
+	}
+
+	/**
+	 * Removes an asynchronous listener. Events already buffered are not delivered to the listener anymore.
+	 * 
+	 * @param listener
+	 *            the listener
+	 */
+	public void removeListener(ITopicMapListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Returns the asynchronous listeners
+	 * 
+	 * @return the listeners
+	 */
+	public Set<ITopicMapListener> getListeners() {
+		return listeners;
+	}
+
+	/**
+	 * Publishes a new event. All subscribers are notified before the method returns, the event is buffered for the
+	 * asynchronous listeners.
+	 * 
+	 * @param type
+	 *            the event type
+	 * @param notifier
+	 *            the construct changed
+	 * @param newValue
+	 *            the new value
+	 * @param oldValue
+	 *            the old value
+	 */
+	public void publish(TopicMapEventType type, IConstruct notifier, Object newValue, Object oldValue) {
+		boolean subscribed = !subscribers.isEmpty();
+		boolean listened = !listeners.isEmpty();
+		if (!subscribed && !listened) {
+			return;
+		}
+		long id = sequence.incrementAndGet();
+		if (subscribed) {
+			String stringId = Long.toString(id);
+			for (ITopicMapListener subscriber : subscribers) {
+				subscriber.topicMapChanged(stringId, type, notifier, newValue, oldValue);
+			}
+		}
+		if (listened) {
+			enqueue(id, type, notifier, newValue, oldValue);
+		}
+	}
+
+	/**
+	 * Internal method to store an event in the ring buffer
+	 */
+	private void enqueue(long id, TopicMapEventType type, IConstruct notifier, Object newValue, Object oldValue) {
+		lock.lock();
+		try {
+			if (closed) {
+				discarded.incrementAndGet();
+				return;
+			}
+			while (tail - head == ring.length) {
+				/*
+				 * the dispatcher itself cannot wait for free capacity
+				 */
+				if (strategy == OverflowStrategy.DISCARD_NEWEST || Thread.currentThread() == dispatcher) {
+					discarded.incrementAndGet();
+					return;
+				} else if (strategy == OverflowStrategy.DISCARD_OLDEST) {
+					ring[(int) (head & mask)].clear();
+					head++;
+					discarded.incrementAndGet();
+				} else {
+					try {
+						notFull.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						discarded.incrementAndGet();
+						return;
+					}
+					if (closed) {
+						discarded.incrementAndGet();
+						return;
+					}
+				}
+			}
+			ring[(int) (tail & mask)].set(id, type, notifier, newValue, oldValue);
+			tail++;
+			notEmpty.signal();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Loop of the dispatcher thread, taking batches of events from the ring buffer and delivering them to the
+	 * asynchronous listeners.
+	 */
+	private void dispatch() {
+		while (true) {
+			int size = 0;
+			lock.lock();
+			try {
+				while (head == tail && !closed) {
+					notEmpty.await();
+				}
+				if (head == tail) {
+					dispatcher = null;
+					drained.signalAll();
+					return;
+				}
+				while (head < tail && size < batch.length) {
+					Event event = ring[(int) (head & mask)];
+					batch[size++].copy(event);
+					event.clear();
+					head++;
+				}
+				inFlight = size;
+				notFull.signalAll();
+			} catch (InterruptedException e) {
+				dispatcher = null;
+				drained.signalAll();
+				return;
+			} finally {
+				lock.unlock();
+			}
+			try {
+				deliver(size);
+			} finally {
+				lock.lock();
+				try {
+					inFlight = 0;
+					if (head == tail) {
+						drained.signalAll();
+					}
+				} finally {
+					lock.unlock();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Internal method to deliver the current batch to the asynchronous listeners
+	 * 
+	 * @param size
+	 *            the number of events of the batch
+	 */
+	private void deliver(int size) {
+		for (int i = 0; i < size; i++) {
+			Event event = batch[i];
+			String id = Long.toString(event.id);
+			for (ITopicMapListener listener : listeners) {
+				try {
+					listener.topicMapChanged(id, event.type, event.notifier, event.newValue, event.oldValue);
+				} catch (RuntimeException e) {
+					/*
+					 * a failing listener must not stop the dispatcher
+					 */
+					failures.incrementAndGet();
+					IListenerErrorHandler handler = errorHandler;
+					if (handler != null) {
+						try {
+							handler.listenerFailed(listener, id, event.type, e);
+						} catch (RuntimeException ignored) {
+							// NOTHING TO DO
+						}
+					}
+				}
+			}
+			event.clear();
+		}
+	}
+
+	/**
+	 * Blocks the calling thread until all buffered events are delivered to the asynchronous listeners. The method
+	 * returns immediately if called by the dispatcher thread itself.
+	 * 
+	 * @throws InterruptedException
+	 *             thrown if the calling thread is interrupted
+	 */
+	public void flush() throws InterruptedException {
+		lock.lock();
+		try {
+			if (Thread.currentThread() == dispatcher) {
+				return;
+			}
+			while ((head != tail || inFlight > 0) && dispatcher != null && dispatcher.isAlive()) {
+				drained.await();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Reopens a closed event bus. The registered subscribers and listeners are kept, the dispatcher thread is started
+	 * again if there are any asynchronous listeners.
+	 */
+	public void open() {
+		lock.lock();
+		try {
+			closed = false;
+			if (dispatcher == null && !listeners.isEmpty()) {
+				startDispatcher();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Closes the event bus. The dispatcher thread delivers all buffered events and terminates, new events are not
+	 * buffered anymore until the bus is opened again.
+	 */
+	public void close() {
+		lock.lock();
+		try {
+			closed = true;
+			notEmpty.signalAll();
+			notFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of events currently buffered for the asynchronous listeners
+	 * 
+	 * @return the number of events
+	 */
+	public int size() {
+		lock.lock();
+		try {
+			return (int) (tail - head);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of events discarded because of an overflow of the buffer or a closed bus
+	 * 
+	 * @return the number of discarded events
+	 */
+	public long getDiscardedEvents() {
+		return discarded.get();
+	}
+
+	/**
+	 * Returns the number of deliveries to asynchronous listeners which failed with an exception
+	 * 
+	 * @return the number of failed deliveries
+	 */
+	public long getFailedDeliveries() {
+		return failures.get();
+	}
+
+	/**
+	 * Sets the handler notified if an asynchronous listener fails
+	 * 
+	 * @param errorHandler
+	 *            the handler or <code>null</code> to count the failures only
+	 */
+	public void setErrorHandler(IListenerErrorHandler errorHandler) {
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Returns the handler notified if an asynchronous listener fails
+	 * 
+	 * @return the handler or <code>null</code>
+	 */
+	public IListenerErrorHandler getErrorHandler() {
+		return errorHandler;
+	}
+
+	/**
+	 * Returns the overflow strategy of the bus
+	 * 
+	 * @return the strategy
+	 */
+	public OverflowStrategy getOverflowStrategy() {
+		return strategy;
+	}
+}
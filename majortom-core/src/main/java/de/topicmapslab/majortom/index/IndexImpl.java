@@ -33,7 +33,7 @@ public abstract class IndexImpl<T extends ITopicMapStore> implements Index {
 	/**
 	 * opening flag
 	 */
-	private boolean open = false;
+	private volatile boolean open = false;
 
 	/**
 	 * constructor
@@ -20,10 +20,13 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import org.tmapi.core.Construct;
 import org.tmapi.core.Locator;
+import org.tmapi.core.Topic;
 
 import de.topicmapslab.majortom.model.event.ITopicMapListener;
 import de.topicmapslab.majortom.model.event.TopicMapEventType;
@@ -52,10 +55,13 @@ public abstract class BaseCachedIdentityIndexImpl<T extends ITopicMapStore> exte
 		SUBJECT_LOCATOR
 	}
 
-	private Map<Type, Long> cachedNumberOfIdentifiers;
-	private Map<IdentityCacheKey, Collection<Locator>> cachedIdentifiers;
-	private Map<IdentityCacheKey, Collection<? extends Construct>> cachedConstructs;
-	private Map<Type, Set<IdentityCacheKey>> dependentCacheKeys;
+	/**
+	 * the internal caches, filled concurrently by readers sharing the read lock of the store
+	 */
+	private final Map<Type, Long> cachedNumberOfIdentifiers = new ConcurrentHashMap<Type, Long>(5);
+	private final Map<IdentityCacheKey, Collection<Locator>> cachedIdentifiers = new ConcurrentHashMap<IdentityCacheKey, Collection<Locator>>();
+	private final Map<IdentityCacheKey, Collection<? extends Construct>> cachedConstructs = new ConcurrentHashMap<IdentityCacheKey, Collection<? extends Construct>>();
+	private final ConcurrentMap<Type, Set<IdentityCacheKey>> dependentCacheKeys = new ConcurrentHashMap<Type, Set<IdentityCacheKey>>();
 
 	/**
 	 * constructor
@@ -73,82 +79,231 @@ public abstract class BaseCachedIdentityIndexImpl<T extends ITopicMapStore> exte
 	public void topicMapChanged(String id, TopicMapEventType event, Construct notifier, Object newValue, Object oldValue) {
 
 		/*
-		 * a construct was removed or created
+		 * constructs added -> clear caches matching the identifiers of the construct
+		 */
+		if (event == TopicMapEventType.VARIANT_ADDED || event == TopicMapEventType.NAME_ADDED || event == TopicMapEventType.OCCURRENCE_ADDED || event == TopicMapEventType.ASSOCIATION_ADDED
+				|| event == TopicMapEventType.ROLE_ADDED) {
+			clearDependentCache(Type.IDENTIFIER, getReferences(Type.IDENTIFIER, newValue));
+			clearDependentCache(Type.ITEM_IDENTIFIER, getReferences(Type.ITEM_IDENTIFIER, newValue));
+		}
+		/*
+		 * constructs removed -> clear caches containing the construct
+		 */
+		else if (event == TopicMapEventType.VARIANT_REMOVED || event == TopicMapEventType.NAME_REMOVED || event == TopicMapEventType.OCCURRENCE_REMOVED
+				|| event == TopicMapEventType.ASSOCIATION_REMOVED || event == TopicMapEventType.ROLE_REMOVED) {
+			clearContainingCache(oldValue, Type.IDENTIFIER, Type.ITEM_IDENTIFIER);
+		}
+		/*
+		 * topic added -> clear caches matching the identifiers of the topic
+		 */
+		else if (event == TopicMapEventType.TOPIC_ADDED) {
+			for (Type type : Type.values()) {
+				clearDependentCache(type, getReferences(type, newValue));
+			}
+		}
+		/*
+		 * topic removed -> clear caches containing the topic
 		 */
-		if (event == TopicMapEventType.VARIANT_REMOVED || event == TopicMapEventType.VARIANT_ADDED || event == TopicMapEventType.NAME_REMOVED || event == TopicMapEventType.NAME_ADDED
-				|| event == TopicMapEventType.OCCURRENCE_REMOVED || event == TopicMapEventType.OCCURRENCE_ADDED || event == TopicMapEventType.ASSOCIATION_REMOVED
-				|| event == TopicMapEventType.ASSOCIATION_ADDED || event == TopicMapEventType.ROLE_REMOVED || event == TopicMapEventType.ROLE_ADDED) {
-			clearDependentCache(Type.IDENTIFIER, Type.ITEM_IDENTIFIER);
+		else if (event == TopicMapEventType.TOPIC_REMOVED) {
+			clearContainingCache(oldValue, Type.values());
 		}
 		/*
-		 * a topic was created, removed or merged
+		 * topic merged -> the merged topic is removed and its identifiers are moved
 		 */
-		else if (event == TopicMapEventType.TOPIC_REMOVED || event == TopicMapEventType.TOPIC_ADDED || event == TopicMapEventType.MERGE) {
-			clearCache();
+		else if (event == TopicMapEventType.MERGE) {
+			clearContainingCache(oldValue, Type.values());
+			for (Type type : Type.values()) {
+				clearDependentCache(type, getReferences(type, newValue));
+			}
 		}
 		/*
-		 * subject-identifier was changed -> clear dependent cache
+		 * subject-identifier added or removed
 		 */
 		else if (event == TopicMapEventType.SUBJECT_IDENTIFIER_ADDED || event == TopicMapEventType.SUBJECT_IDENTIFIER_REMOVED) {
-			clearDependentCache(Type.IDENTIFIER, Type.SUBJECT_IDENTIFIER);
+			Collection<String> references = getReferences(newValue, oldValue);
+			clearDependentCache(Type.IDENTIFIER, references);
+			clearDependentCache(Type.SUBJECT_IDENTIFIER, references);
 		}
 
 		/*
-		 * subject-locator was changed -> clear dependent cache
+		 * subject-locator added or removed
 		 */
 		else if (event == TopicMapEventType.SUBJECT_LOCATOR_ADDED || event == TopicMapEventType.SUBJECT_LOCATOR_REMOVED) {
-			clearDependentCache(Type.IDENTIFIER, Type.SUBJECT_LOCATOR);
+			Collection<String> references = getReferences(newValue, oldValue);
+			clearDependentCache(Type.IDENTIFIER, references);
+			clearDependentCache(Type.SUBJECT_LOCATOR, references);
 		}
 
 		/*
-		 * item-identifier was changed -> clear dependent cache
+		 * item-identifier added or removed
 		 */
 		else if (event == TopicMapEventType.ITEM_IDENTIFIER_ADDED || event == TopicMapEventType.ITEM_IDENTIFIER_REMOVED) {
-			clearDependentCache(Type.IDENTIFIER, Type.ITEM_IDENTIFIER);
+			Collection<String> references = getReferences(newValue, oldValue);
+			clearDependentCache(Type.IDENTIFIER, references);
+			clearDependentCache(Type.ITEM_IDENTIFIER, references);
 		}
 	}
 
 	/**
-	 * Clear all caches
+	 * Clear all internal caches
 	 */
 	protected void clearCache() {
-		if (cachedIdentifiers != null) {
-			cachedIdentifiers.clear();
-		}
-		if (dependentCacheKeys != null) {
-			dependentCacheKeys.clear();
-		}
-		if (cachedConstructs != null) {
-			cachedConstructs.clear();
+		long number = 0;
+		number += cachedIdentifiers.size();
+		cachedIdentifiers.clear();
+		dependentCacheKeys.clear();
+		number += cachedConstructs.size();
+		cachedConstructs.clear();
+		number += cachedNumberOfIdentifiers.size();
+		cachedNumberOfIdentifiers.clear();
+		countCacheInvalidations(number);
+	}
+
+	/**
+	 * Clear all caches of the given type which may be modified by adding or removing one of the given identifiers. A
+	 * cached value depends on the identifiers matching its regular expression, or on all identifiers of the type if it
+	 * has no filter.
+	 * 
+	 * @param type
+	 *            the type of identifiers
+	 * @param references
+	 *            the references of the identifiers or <code>null</code> if they are unknown, which clears all caches of
+	 *            the type
+	 */
+	private void clearDependentCache(Type type, Collection<String> references) {
+		if (references != null && references.isEmpty()) {
+			return;
 		}
-		if (cachedNumberOfIdentifiers != null) {
-			cachedNumberOfIdentifiers.clear();
+		Set<IdentityCacheKey> keys = HashUtil.getHashSet();
+		for (IdentityCacheKey key : getDependentKeys(type)) {
+			if (references == null || !(key.filter instanceof Pattern) || matches((Pattern) key.filter, references)) {
+				keys.add(key);
+			}
 		}
+		removeCachedValues(type, keys);
 	}
 
 	/**
-	 * Clear all caches depend on the given types
+	 * Clear all caches of the given types which may contain the given construct. Because of the construct is already
+	 * removed, its identifiers are unknown. The cached constructs of each filter are checked to contain the construct.
+	 * Cached identifiers, numbers, pages and values without filter are cleared always.
 	 * 
+	 * @param construct
+	 *            the removed construct
 	 * @param types
-	 *            the types
+	 *            the types of identifiers
 	 */
-	private void clearDependentCache(Type... types) {
+	private void clearContainingCache(Object construct, Type... types) {
 		for (Type type : types) {
+			Set<IdentityCacheKey> keys = HashUtil.getHashSet();
 			for (IdentityCacheKey key : getDependentKeys(type)) {
-				if (cachedIdentifiers != null) {
-					cachedIdentifiers.remove(key);
+				if (key.filter == null || key.offset != null || key.limit != null) {
+					keys.add(key);
+				} else {
+					Collection<? extends Construct> values = cachedConstructs.get(key);
+					if (values == null || values.contains(construct)) {
+						keys.add(key);
+					}
 				}
-				if (dependentCacheKeys != null) {
-					dependentCacheKeys.remove(key);
+			}
+			removeCachedValues(type, keys);
+		}
+	}
+
+	/**
+	 * Removes the values of the given keys and the number of identifiers of the given type from all internal caches
+	 * 
+	 * @param type
+	 *            the type of identifiers
+	 * @param keys
+	 *            the keys
+	 */
+	private void removeCachedValues(Type type, Collection<IdentityCacheKey> keys) {
+		long number = 0;
+		for (IdentityCacheKey key : keys) {
+			if (cachedIdentifiers.remove(key) != null) {
+				number++;
+			}
+			if (cachedConstructs.remove(key) != null) {
+				number++;
+			}
+		}
+		getDependentKeys(type).removeAll(keys);
+		if (cachedNumberOfIdentifiers.remove(type) != null) {
+			number++;
+		}
+		countCacheInvalidations(number);
+	}
+
+	/**
+	 * Returns the references of the identifiers of the given type of the given construct
+	 * 
+	 * @param type
+	 *            the type of identifiers
+	 * @param construct
+	 *            the construct
+	 * @return the references or <code>null</code> if they cannot be determined
+	 */
+	private Collection<String> getReferences(Type type, Object construct) {
+		if (!(construct instanceof Construct)) {
+			return null;
+		}
+		Set<String> references = HashUtil.getHashSet();
+		try {
+			if (type == Type.IDENTIFIER) {
+				references.add(((Construct) construct).getId());
+			}
+			if (type == Type.IDENTIFIER || type == Type.ITEM_IDENTIFIER) {
+				references.addAll(getReferences(((Construct) construct).getItemIdentifiers().toArray()));
+			}
+			if (construct instanceof Topic) {
+				Topic topic = (Topic) construct;
+				if (type == Type.IDENTIFIER || type == Type.SUBJECT_IDENTIFIER) {
+					references.addAll(getReferences(topic.getSubjectIdentifiers().toArray()));
 				}
-				if (cachedConstructs != null) {
-					cachedConstructs.remove(key);
+				if (type == Type.IDENTIFIER || type == Type.SUBJECT_LOCATOR) {
+					references.addAll(getReferences(topic.getSubjectLocators().toArray()));
 				}
 			}
+		} catch (RuntimeException e) {
+			return null;
 		}
-		if (cachedNumberOfIdentifiers != null) {
-			cachedNumberOfIdentifiers.clear();
+		return references;
+	}
+
+	/**
+	 * Returns the references of the given locators
+	 * 
+	 * @param locators
+	 *            the locators, which may contain <code>null</code>
+	 * @return the references
+	 */
+	private Collection<String> getReferences(Object... locators) {
+		Set<String> references = HashUtil.getHashSet();
+		for (Object locator : locators) {
+			if (locator instanceof Locator) {
+				references.add(((Locator) locator).getReference());
+			}
+		}
+		return references;
+	}
+
+	/**
+	 * Checks if the given regular expression matches one of the given references
+	 * 
+	 * @param pattern
+	 *            the regular expression
+	 * @param references
+	 *            the references
+	 * @return <code>true</code> if the expression matches, <code>false</code> otherwise
+	 */
+	private boolean matches(Pattern pattern, Collection<String> references) {
+		for (String reference : references) {
+			if (reference != null && pattern.matcher(reference).find()) {
+				return true;
+			}
 		}
+		return false;
 	}
 
 	/**
@@ -208,16 +363,10 @@ public abstract class BaseCachedIdentityIndexImpl<T extends ITopicMapStore> exte
 	 * @return the identifiers or <code>null</code> if key is unknown.
 	 */
 	protected final Collection<Locator> readLocators(Type type, Pattern filter, Integer offset, Integer limit, Comparator<Locator> comparator) {
-		/*
-		 * check main cache
-		 */
-		if (cachedIdentifiers == null) {
-			return null;
-		}
 		/*
 		 * store cached identifiers by type
 		 */
-		return cachedIdentifiers.get(generateCacheKey(type, filter, offset, limit, comparator));
+		return countCacheAccess(cachedIdentifiers.get(generateCacheKey(type, filter, offset, limit, comparator)));
 	}
 
 	/**
@@ -281,16 +430,10 @@ public abstract class BaseCachedIdentityIndexImpl<T extends ITopicMapStore> exte
 	 *            the locators to store
 	 */
 	protected final void cacheLocators(Type type, Pattern filter, Integer offset, Integer limit, Comparator<Locator> comparator, Collection<Locator> values) {
-		/*
-		 * initialize cache
-		 */
-		if (cachedIdentifiers == null) {
-			cachedIdentifiers = HashUtil.getWeakHashMap();
-		}
 		/*
 		 * get cached identifiers by type
 		 */
-		cachedIdentifiers.put(generateCacheKey(type, filter, offset, limit, comparator), values);
+		cachedIdentifiers.put(register(generateCacheKey(type, filter, offset, limit, comparator)), values);
 	}
 
 	/**
@@ -302,9 +445,6 @@ public abstract class BaseCachedIdentityIndexImpl<T extends ITopicMapStore> exte
 	 *            the number
 	 */
 	protected final void cache(Type type, long number) {
-		if (cachedNumberOfIdentifiers == null) {
-			cachedNumberOfIdentifiers = HashUtil.getHashMap(5);
-		}
 		cachedNumberOfIdentifiers.put(type, number);
 	}
 
@@ -345,13 +485,7 @@ public abstract class BaseCachedIdentityIndexImpl<T extends ITopicMapStore> exte
 	 *            the value to cache
 	 */
 	protected final <X extends Construct> void cache(Type type, Pattern filter, Integer offset, Integer limit, Comparator<X> comparator, Collection<X> constructs) {
-		/*
-		 * initialize cache
-		 */
-		if (cachedConstructs == null) {
-			cachedConstructs = HashUtil.getWeakHashMap();
-		}
-		cachedConstructs.put(generateCacheKey(type, filter, offset, limit, comparator), constructs);
+		cachedConstructs.put(register(generateCacheKey(type, filter, offset, limit, comparator)), constructs);
 	}
 
 	/**
@@ -362,10 +496,8 @@ public abstract class BaseCachedIdentityIndexImpl<T extends ITopicMapStore> exte
 	 * @return the cached number or <code>-1</code>
 	 */
 	protected final long read(Type type) {
-		if (cachedNumberOfIdentifiers == null || !cachedNumberOfIdentifiers.containsKey(type)) {
-			return -1;
-		}
-		return cachedNumberOfIdentifiers.get(type);
+		Long value = countCacheAccess(cachedNumberOfIdentifiers.get(type));
+		return value == null ? -1 : value;
 	}
 
 	/**
@@ -394,13 +526,7 @@ public abstract class BaseCachedIdentityIndexImpl<T extends ITopicMapStore> exte
 	 */
 	@SuppressWarnings("unchecked")
 	protected final <X extends Construct> Collection<X> read(Type type, Pattern filter, Integer offset, Integer limit, Comparator<X> comparator) {
-		/*
-		 * check main cache
-		 */
-		if (cachedConstructs == null) {
-			return null;
-		}
-		return (Collection<X>) cachedConstructs.get(generateCacheKey(type, filter, offset, limit, comparator));
+		return (Collection<X>) countCacheAccess(cachedConstructs.get(generateCacheKey(type, filter, offset, limit, comparator)));
 	}
 
 	/**
@@ -419,17 +545,24 @@ public abstract class BaseCachedIdentityIndexImpl<T extends ITopicMapStore> exte
 	 * @return the generated cache key;
 	 */
 	private IdentityCacheKey generateCacheKey(Type type, Object filter, Integer offset, Integer limit, Comparator<?> comparator) {
-		IdentityCacheKey key = new IdentityCacheKey(type, filter, offset, limit, comparator);
-		/*
-		 * store dependent keys for clearing cache
-		 */
-		if (dependentCacheKeys == null) {
-			dependentCacheKeys = HashUtil.getHashMap();
-		}
-		Set<IdentityCacheKey> keys = dependentCacheKeys.get(type);
+		return new IdentityCacheKey(type, filter, offset, limit, comparator);
+	}
+
+	/**
+	 * Registers the given key as dependent on its type of identifiers
+	 * 
+	 * @param key
+	 *            the key
+	 * @return the key
+	 */
+	private IdentityCacheKey register(IdentityCacheKey key) {
+		Set<IdentityCacheKey> keys = dependentCacheKeys.get(key.type);
 		if (keys == null) {
-			keys = HashUtil.getHashSet();
-			dependentCacheKeys.put(type, keys);
+			Set<IdentityCacheKey> set = Collections.newSetFromMap(new ConcurrentHashMap<IdentityCacheKey, Boolean>());
+			keys = dependentCacheKeys.putIfAbsent(key.type, set);
+			if (keys == null) {
+				keys = set;
+			}
 		}
 		keys.add(key);
 		return key;
@@ -443,10 +576,11 @@ public abstract class BaseCachedIdentityIndexImpl<T extends ITopicMapStore> exte
 	 * @return all dependent keys
 	 */
 	private Set<IdentityCacheKey> getDependentKeys(Type type) {
-		if (dependentCacheKeys == null || !dependentCacheKeys.containsKey(type)) {
+		Set<IdentityCacheKey> keys = dependentCacheKeys.get(type);
+		if (keys == null) {
 			return Collections.emptySet();
 		}
-		return dependentCacheKeys.get(type);
+		return keys;
 	}
 
 	/**
@@ -525,10 +659,10 @@ class IdentityCacheKey {
 	 */
 	public int hashCode() {
 		int hashCode = type.hashCode();
-		hashCode |= (filter == null) ? 0 : filter.hashCode();
-		hashCode |= (comparator == null) ? 0 : comparator.hashCode();
-		hashCode |= (offset == null) ? 0 : offset.hashCode();
-		hashCode |= (limit == null) ? 0 : limit.hashCode();
+		hashCode = 31 * hashCode + ((filter == null) ? 0 : filter.hashCode());
+		hashCode = 31 * hashCode + ((comparator == null) ? 0 : comparator.hashCode());
+		hashCode = 31 * hashCode + ((offset == null) ? 0 : offset.hashCode());
+		hashCode = 31 * hashCode + ((limit == null) ? 0 : limit.hashCode());
 		return hashCode;
 	}
 }
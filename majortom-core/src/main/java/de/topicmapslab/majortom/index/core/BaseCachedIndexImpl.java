@@ -16,6 +16,7 @@
 package de.topicmapslab.majortom.index.core;
 
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.tmapi.core.Construct;
 import org.tmapi.core.Topic;
@@ -35,6 +36,19 @@ import de.topicmapslab.majortom.model.transaction.ITransaction;
  */
 public abstract class BaseCachedIndexImpl<T extends ITopicMapStore> extends IndexImpl<T> implements ITopicMapListener {
 
+	/**
+	 * the number of cache reads returning a cached value
+	 */
+	private final AtomicLong cacheHits = new AtomicLong();
+	/**
+	 * the number of cache reads missing a cached value
+	 */
+	private final AtomicLong cacheMisses = new AtomicLong();
+	/**
+	 * the number of cached values removed because of a modification of the topic map
+	 */
+	private final AtomicLong cacheInvalidations = new AtomicLong();
+
 	/**
 	 * constructor
 	 * 
@@ -156,6 +170,68 @@ public abstract class BaseCachedIndexImpl<T extends ITopicMapStore> extends Inde
 		return false;
 	}
 
+	/**
+	 * Internal method to count a read access to the internal cache
+	 * 
+	 * @param value
+	 *            the cached value or <code>null</code> if the key is unknown
+	 * @return the given value
+	 */
+	protected final <V> V countCacheAccess(V value) {
+		if (value == null) {
+			cacheMisses.incrementAndGet();
+		} else {
+			cacheHits.incrementAndGet();
+		}
+		return value;
+	}
+
+	/**
+	 * Internal method to count the removal of cached values because of a modification of the topic map
+	 * 
+	 * @param number
+	 *            the number of removed values
+	 */
+	protected final void countCacheInvalidations(long number) {
+		cacheInvalidations.addAndGet(number);
+	}
+
+	/**
+	 * Returns the number of cache reads returning a cached value since the last reset
+	 * 
+	 * @return the number of cache hits
+	 */
+	public long getCacheHits() {
+		return cacheHits.get();
+	}
+
+	/**
+	 * Returns the number of cache reads missing a cached value since the last reset
+	 * 
+	 * @return the number of cache misses
+	 */
+	public long getCacheMisses() {
+		return cacheMisses.get();
+	}
+
+	/**
+	 * Returns the number of cached values removed because of a modification of the topic map since the last reset
+	 * 
+	 * @return the number of invalidations
+	 */
+	public long getCacheInvalidations() {
+		return cacheInvalidations.get();
+	}
+
+	/**
+	 * Resets the cache statistics
+	 */
+	public void resetCacheStatistics() {
+		cacheHits.set(0);
+		cacheMisses.set(0);
+		cacheInvalidations.set(0);
+	}
+
 	/**
 	 * Checks if the underlying topic map store supports caching
 	 * 
@@ -16,12 +16,27 @@
 package de.topicmapslab.majortom.index.core;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Pattern;
 
 import org.tmapi.core.Construct;
+import org.tmapi.core.DatatypeAware;
+import org.tmapi.core.Locator;
+import org.tmapi.core.Name;
+import org.tmapi.core.Occurrence;
+import org.tmapi.core.Topic;
+import org.tmapi.core.Variant;
 
 import de.topicmapslab.majortom.model.core.IConstruct;
+import de.topicmapslab.majortom.model.core.IDatatypeAware;
 import de.topicmapslab.majortom.model.event.ITopicMapListener;
 import de.topicmapslab.majortom.model.event.TopicMapEventType;
 import de.topicmapslab.majortom.model.store.ITopicMapStore;
@@ -33,15 +48,35 @@ import de.topicmapslab.majortom.util.HashUtil;
  */
 public abstract class BaseCachedLiteralIndexImpl<X extends ITopicMapStore> extends BaseCachedIndexImpl<X> implements ITopicMapListener {
 
-	private Map<LiteralCacheKey, Collection<? extends Construct>> cachedConstructs;
-	private Map<LiteralCacheKey, Collection<? extends Construct>> cachedLiterals;
+	/**
+	 * the maximum number of values of each cache
+	 */
+	public static final int MAXIMUM_CACHE_SIZE = 1000;
+
+	/**
+	 * the keys evicted from the caches, their dependencies are removed after the modification of the cache
+	 */
+	private final Queue<LiteralCacheKey> evictedKeys = new ConcurrentLinkedQueue<LiteralCacheKey>();
+	/**
+	 * the cached constructs and literals, filled concurrently by readers sharing the read lock of the store
+	 */
+	private final Map<LiteralCacheKey, Collection<? extends Construct>> cachedConstructs = createCache();
+	private final Map<LiteralCacheKey, Collection<? extends Construct>> cachedLiterals = createCache();
 
 	/**
+	 * the dependencies of all cached values
+	 */
+	private final CacheDependencies<LiteralCacheKey> dependencies;
+
+	/**
+	 * constructor
+	 * 
 	 * @param store
-	 * @param parentIndex
+	 *            the parent store
 	 */
 	public BaseCachedLiteralIndexImpl(X store) {
 		super(store);
+		this.dependencies = new CacheDependencies<LiteralCacheKey>();
 	}
 
 	/**
@@ -49,23 +84,45 @@ public abstract class BaseCachedLiteralIndexImpl<X extends ITopicMapStore> exten
 	 */
 	public void topicMapChanged(String id, TopicMapEventType event, Construct notifier, Object newValue, Object oldValue) {
 		/*
-		 * construct was removed
+		 * characteristics removed -> clear caches containing the construct
 		 */
-		if (event == TopicMapEventType.VARIANT_REMOVED || event == TopicMapEventType.NAME_REMOVED || event == TopicMapEventType.OCCURRENCE_REMOVED || event == TopicMapEventType.TOPIC_REMOVED
-				|| event == TopicMapEventType.ASSOCIATION_REMOVED || event == TopicMapEventType.ROLE_REMOVED) {
+		if (event == TopicMapEventType.VARIANT_REMOVED || event == TopicMapEventType.NAME_REMOVED || event == TopicMapEventType.OCCURRENCE_REMOVED) {
+			clearContainingCache(oldValue);
+		}
+		/*
+		 * topic removed -> characteristics of the topic may be removed without notification
+		 */
+		else if (event == TopicMapEventType.TOPIC_REMOVED) {
 			clearCache();
 		}
 		/*
-		 * new construct
+		 * characteristics added -> clear caches depending on the value and datatype
 		 */
 		else if (event == TopicMapEventType.OCCURRENCE_ADDED || event == TopicMapEventType.NAME_ADDED || event == TopicMapEventType.VARIANT_ADDED) {
-			clearCache();
+			clearDependentCache(getLiterals(newValue));
 		}
 		/*
-		 * data type or value modified
+		 * value or datatype modified -> clear caches depending on the old or new value and datatype
 		 */
 		else if (event == TopicMapEventType.DATATYPE_SET || event == TopicMapEventType.VALUE_MODIFIED) {
-			clearCache();
+			clearDependentCache(getLiterals(notifier, newValue, oldValue));
+		}
+		/*
+		 * topic merged -> the characteristics of the merged topic are moved
+		 */
+		else if (event == TopicMapEventType.MERGE) {
+			if (newValue instanceof Topic) {
+				Topic topic = (Topic) newValue;
+				Collection<Object> constructs = HashUtil.getHashSet();
+				for (Name name : topic.getNames()) {
+					constructs.add(name);
+					constructs.addAll(name.getVariants());
+				}
+				constructs.addAll(topic.getOccurrences());
+				clearDependentCache(getLiterals(constructs.toArray()));
+			} else {
+				clearCache();
+			}
 		}
 	}
 
@@ -139,16 +196,10 @@ public abstract class BaseCachedLiteralIndexImpl<X extends ITopicMapStore> exten
 	 */
 	@SuppressWarnings("unchecked")
 	protected final <T extends Construct> Collection<T> readConstructs(Class<T> clazz, Object filter, Object datatype, Integer offset, Integer limit, Comparator<T> comparator) {
-		/*
-		 * check main cache
-		 */
-		if (cachedConstructs == null) {
-			return null;
-		}
 		/*
 		 * get cached constructs by type
 		 */
-		return (Collection<T>) cachedConstructs.get(generateCacheKey(clazz, filter, datatype, offset, limit, comparator));
+		return (Collection<T>) countCacheAccess(cachedConstructs.get(generateCacheKey(clazz, filter, datatype, offset, limit, comparator)));
 	}
 
 	/**
@@ -224,16 +275,15 @@ public abstract class BaseCachedLiteralIndexImpl<X extends ITopicMapStore> exten
 	 *            the values to store
 	 */
 	protected final <T extends Construct> void cacheConstructs(Class<T> clazz, Object filter, Object datatype, Integer offset, Integer limit, Comparator<T> comparator, Collection<T> values) {
-		/*
-		 * initialize cache
-		 */
-		if (cachedConstructs == null) {
-			cachedConstructs = HashUtil.getWeakHashMap();
-		}
 		/*
 		 * store cached constructs by type
 		 */
-		cachedConstructs.put(generateCacheKey(clazz, filter, datatype, offset, limit, comparator), values);
+		LiteralCacheKey key = generateCacheKey(clazz, filter, datatype, offset, limit, comparator);
+		synchronized (dependencies) {
+			cachedConstructs.put(key, values);
+			dependencies.register(clazz, key, getFilterDependencies(clazz, filter, datatype));
+		}
+		removeEvictedKeys();
 	}
 
 	/**
@@ -280,16 +330,10 @@ public abstract class BaseCachedLiteralIndexImpl<X extends ITopicMapStore> exten
 	 */
 	@SuppressWarnings("unchecked")
 	protected final <T extends IConstruct> Collection<T> read(Class<?> clazz, Object filter, Object deviance, Integer offset, Integer limit, Comparator<?> comparator) {
-		/*
-		 * initialize cache
-		 */
-		if (cachedLiterals == null) {
-			return null;
-		}
 		/*
 		 * get cached constructs by comparator
 		 */
-		return (Collection<T>) cachedLiterals.get(generateCacheKey(clazz, filter, deviance, offset, limit, comparator));
+		return (Collection<T>) countCacheAccess(cachedLiterals.get(generateCacheKey(clazz, filter, deviance, offset, limit, comparator)));
 	}
 
 	/**
@@ -327,28 +371,233 @@ public abstract class BaseCachedLiteralIndexImpl<X extends ITopicMapStore> exten
 	 *            the values to store
 	 */
 	protected final void cache(Class<?> clazz, Object filter, Object deviance, Integer offset, Integer limit, Comparator<?> comparator, Collection<? extends Construct> values) {
-		/*
-		 * initialize cache
-		 */
-		if (cachedLiterals == null) {
-			cachedLiterals = HashUtil.getWeakHashMap();
-		}
 		/*
 		 * get cached constructs by comparator
 		 */
-		cachedLiterals.put(generateCacheKey(clazz, filter, deviance, offset, limit, comparator), values);
+		LiteralCacheKey key = generateCacheKey(clazz, filter, deviance, offset, limit, comparator);
+		synchronized (dependencies) {
+			cachedLiterals.put(key, values);
+			dependencies.register(clazz, key, getFilterDependencies(clazz, filter, deviance));
+		}
+		removeEvictedKeys();
 	}
 
 	/**
 	 * Internal method to clear all caches
 	 */
 	protected final void clearCache() {
-		if (cachedConstructs != null) {
-			cachedConstructs.clear();
+		long number = 0;
+		number += cachedConstructs.size();
+		cachedConstructs.clear();
+		number += cachedLiterals.size();
+		cachedLiterals.clear();
+		dependencies.clear();
+		evictedKeys.clear();
+		countCacheInvalidations(number);
+	}
+
+	/**
+	 * Clear all caches which may contain the given construct. Because of the construct is already removed, its value is
+	 * unknown. The cached constructs of each filter are checked to contain the construct. Cached pages and values
+	 * without an exact filter are cleared always.
+	 * 
+	 * @param construct
+	 *            the removed construct
+	 */
+	private void clearContainingCache(Object construct) {
+		Set<LiteralCacheKey> keys = HashUtil.getHashSet();
+		for (Map<LiteralCacheKey, Collection<? extends Construct>> map : getCaches()) {
+			/*
+			 * iterate over a copy, the dependencies must not be locked while the cache is locked
+			 */
+			List<Entry<LiteralCacheKey, Collection<? extends Construct>>> entries;
+			synchronized (map) {
+				entries = HashUtil.getList(map.entrySet());
+			}
+			for (Entry<LiteralCacheKey, Collection<? extends Construct>> entry : entries) {
+				LiteralCacheKey key = entry.getKey();
+				if (dependencies.isUnbound(key) || key.offset != null || key.limit != null || entry.getValue().contains(construct)) {
+					keys.add(key);
+				}
+			}
+		}
+		removeCachedValues(keys);
+	}
+
+	/**
+	 * Clear all caches depending on one of the given values or datatypes. Cached values of a regular expression are
+	 * only cleared if the expression matches one of the values.
+	 * 
+	 * @param literals
+	 *            the string representation of the values and datatypes or <code>null</code> if they are unknown, which
+	 *            clears all caches
+	 */
+	private void clearDependentCache(Collection<String> literals) {
+		if (literals == null) {
+			clearCache();
+			return;
+		}
+		Set<LiteralCacheKey> keys = dependencies.getKeys(literals);
+		for (LiteralCacheKey key : dependencies.getUnboundKeys()) {
+			if (!(key.filter instanceof Pattern) || matches((Pattern) key.filter, literals)) {
+				keys.add(key);
+			}
+		}
+		removeCachedValues(keys);
+	}
+
+	/**
+	 * Removes the values of the given keys from all internal caches
+	 * 
+	 * @param keys
+	 *            the keys
+	 */
+	private void removeCachedValues(Collection<LiteralCacheKey> keys) {
+		long number = 0;
+		for (LiteralCacheKey key : keys) {
+			if (cachedConstructs.remove(key) != null) {
+				number++;
+			}
+			if (cachedLiterals.remove(key) != null) {
+				number++;
+			}
+			dependencies.unregister(key);
+		}
+		countCacheInvalidations(number);
+	}
+
+	/**
+	 * Removes the dependencies of all keys evicted from the caches. The dependencies of a key are kept as long as one
+	 * of the caches still contains the key.
+	 */
+	private void removeEvictedKeys() {
+		LiteralCacheKey key;
+		while ((key = evictedKeys.poll()) != null) {
+			synchronized (dependencies) {
+				if (!cachedConstructs.containsKey(key) && !cachedLiterals.containsKey(key)) {
+					dependencies.unregister(key);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates a new cache, which is bounded by {@link #MAXIMUM_CACHE_SIZE} values and evicts the least recently used
+	 * value first. The cache is synchronized, because each read modifies the access order.
+	 * 
+	 * @return the cache
+	 */
+	private Map<LiteralCacheKey, Collection<? extends Construct>> createCache() {
+		return Collections.synchronizedMap(new LinkedHashMap<LiteralCacheKey, Collection<? extends Construct>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			/**
+			 * {@inheritDoc}
+			 */
+			protected boolean removeEldestEntry(Map.Entry<LiteralCacheKey, Collection<? extends Construct>> eldest) {
+				if (size() > MAXIMUM_CACHE_SIZE) {
+					evictedKeys.add(eldest.getKey());
+					return true;
+				}
+				return false;
+			}
+		});
+	}
+
+	/**
+	 * Returns all initialized internal caches
+	 * 
+	 * @return the caches
+	 */
+	@SuppressWarnings("unchecked")
+	private Collection<Map<LiteralCacheKey, Collection<? extends Construct>>> getCaches() {
+		Collection<Map<LiteralCacheKey, Collection<? extends Construct>>> caches = HashUtil.getList();
+		for (Map<LiteralCacheKey, Collection<? extends Construct>> map : new Map[] { cachedConstructs, cachedLiterals }) {
+			if (map != null) {
+				caches.add(map);
+			}
+		}
+		return caches;
+	}
+
+	/**
+	 * Returns the string representation of the values and datatypes of the given constructs, values or datatypes
+	 * 
+	 * @param objects
+	 *            the constructs, values or datatypes
+	 * @return the string representations or <code>null</code> if any value cannot be determined
+	 */
+	private Collection<String> getLiterals(Object... objects) {
+		Set<String> literals = HashUtil.getHashSet();
+		for (Object obj : objects) {
+			if (obj == null) {
+				continue;
+			}
+			try {
+				if (obj instanceof Name) {
+					literals.add(((Name) obj).getValue());
+				} else if (obj instanceof DatatypeAware) {
+					DatatypeAware datatypeAware = (DatatypeAware) obj;
+					literals.add(datatypeAware.getValue());
+					literals.add(datatypeAware.getDatatype().getReference());
+				} else if (obj instanceof Locator) {
+					literals.add(((Locator) obj).getReference());
+				} else if (obj instanceof Construct) {
+					return null;
+				} else {
+					literals.add(obj.toString());
+				}
+			} catch (RuntimeException e) {
+				return null;
+			}
 		}
-		if (cachedLiterals != null) {
-			cachedLiterals.clear();
+		return literals;
+	}
+
+	/**
+	 * Returns the values or datatypes a cached value with the given filter depends on
+	 * 
+	 * @param clazz
+	 *            the class
+	 * @param filter
+	 *            the filter criteria or <code>null</code>
+	 * @param deviance
+	 *            the deviance, datatype or <code>null</code>
+	 * @return the string representations or <code>null</code> if the cached value depends on all constructs
+	 */
+	private Collection<String> getFilterDependencies(Class<?> clazz, Object filter, Object deviance) {
+		/*
+		 * only string based filters match the value or datatype exactly
+		 */
+		if (!(String.class.equals(clazz) || Name.class.equals(clazz) || Occurrence.class.equals(clazz) || Variant.class.equals(clazz) || IDatatypeAware.class.equals(clazz))) {
+			return null;
+		}
+		if (filter instanceof String) {
+			return Collections.singleton((String) filter);
+		} else if (filter instanceof Locator) {
+			return Collections.singleton(((Locator) filter).getReference());
+		} else if (filter == null && deviance instanceof Locator) {
+			return Collections.singleton(((Locator) deviance).getReference());
+		}
+		return null;
+	}
+
+	/**
+	 * Checks if the given regular expression matches one of the given literals
+	 * 
+	 * @param pattern
+	 *            the regular expression
+	 * @param literals
+	 *            the literals
+	 * @return <code>true</code> if the expression matches, <code>false</code> otherwise
+	 */
+	private boolean matches(Pattern pattern, Collection<String> literals) {
+		for (String literal : literals) {
+			if (literal != null && pattern.matcher(literal).find()) {
+				return true;
+			}
 		}
+		return false;
 	}
 
 	/**
@@ -455,11 +704,11 @@ class LiteralCacheKey {
 	 */
 	public int hashCode() {
 		int hashCode = clazz.hashCode();
-		hashCode |= (filter == null) ? 0 : filter.hashCode();
-		hashCode |= (deviance == null) ? 0 : deviance.hashCode();
-		hashCode |= (comparator == null) ? 0 : comparator.hashCode();
-		hashCode |= (offset == null) ? 0 : offset.hashCode();
-		hashCode |= (limit == null) ? 0 : limit.hashCode();
+		hashCode = 31 * hashCode + ((filter == null) ? 0 : filter.hashCode());
+		hashCode = 31 * hashCode + ((deviance == null) ? 0 : deviance.hashCode());
+		hashCode = 31 * hashCode + ((comparator == null) ? 0 : comparator.hashCode());
+		hashCode = 31 * hashCode + ((offset == null) ? 0 : offset.hashCode());
+		hashCode = 31 * hashCode + ((limit == null) ? 0 : limit.hashCode());
 		return hashCode;
 	}
 }
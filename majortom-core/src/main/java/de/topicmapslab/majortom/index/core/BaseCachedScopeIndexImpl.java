@@ -18,13 +18,16 @@ package de.topicmapslab.majortom.index.core;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.tmapi.core.Association;
 import org.tmapi.core.Construct;
 import org.tmapi.core.Name;
 import org.tmapi.core.Occurrence;
+import org.tmapi.core.Role;
 import org.tmapi.core.Topic;
 import org.tmapi.core.Variant;
 
@@ -34,6 +37,7 @@ import de.topicmapslab.majortom.model.core.IName;
 import de.topicmapslab.majortom.model.core.IOccurrence;
 import de.topicmapslab.majortom.model.core.IScopable;
 import de.topicmapslab.majortom.model.core.IScope;
+import de.topicmapslab.majortom.model.core.ITopic;
 import de.topicmapslab.majortom.model.core.IVariant;
 import de.topicmapslab.majortom.model.event.ITopicMapListener;
 import de.topicmapslab.majortom.model.event.TopicMapEventType;
@@ -50,30 +54,31 @@ import de.topicmapslab.majortom.util.HashUtil;
 public abstract class BaseCachedScopeIndexImpl<T extends ITopicMapStore> extends BaseCachedIndexImpl<T> implements ITopicMapListener {
 
 	/**
-	 * Cache containing the scopes of specific constructs
+	 * Cache containing the scopes of specific constructs, filled concurrently by readers sharing the read lock of the
+	 * store like all caches of this index
 	 */
-	private Map<ScopesCacheKey, Collection<IScope>> cachedScopes;
+	private final Map<ScopesCacheKey, Collection<IScope>> cachedScopes = new ConcurrentHashMap<ScopesCacheKey, Collection<IScope>>();
 	/**
 	 * Cache containing the scope of a set of themes
 	 */
-	private Map<Collection<? extends Topic>, IScope> scopesByThemes;
+	private final Map<Collection<? extends Topic>, IScope> scopesByThemes = new ConcurrentHashMap<Collection<? extends Topic>, IScope>();
 	/**
 	 * Cache containing the themes of specific constructs
 	 */
-	private Map<ScopesCacheKey, Collection<Topic>> cachedThemes;
+	private final Map<ScopesCacheKey, Collection<Topic>> cachedThemes = new ConcurrentHashMap<ScopesCacheKey, Collection<Topic>>();
 	/**
 	 * Cache containing the number of matching constructs
 	 */
-	private Map<ScopesCacheKey, Long> cacheNumberOfConstructs;
+	private final Map<ScopesCacheKey, Long> cacheNumberOfConstructs = new ConcurrentHashMap<ScopesCacheKey, Long>();
 	/**
 	 * Cache containing all constructs
 	 */
-	private Map<ScopesCacheKey, Collection<? extends Construct>> cachedConstructs;
+	private final Map<ScopesCacheKey, Collection<? extends Construct>> cachedConstructs = new ConcurrentHashMap<ScopesCacheKey, Collection<? extends Construct>>();
 
 	/**
-	 * Caching map for all cache keys depends on the given class
+	 * the dependencies of all cached values
 	 */
-	private Map<Class<? extends IScopable>, Set<ScopesCacheKey>> cacheKeys;
+	private final CacheDependencies<ScopesCacheKey> dependencies;
 
 	/**
 	 * constructor
@@ -83,6 +88,7 @@ public abstract class BaseCachedScopeIndexImpl<T extends ITopicMapStore> extends
 	 */
 	public BaseCachedScopeIndexImpl(T store) {
 		super(store);
+		this.dependencies = new CacheDependencies<ScopesCacheKey>();
 	}
 
 	/**
@@ -91,36 +97,64 @@ public abstract class BaseCachedScopeIndexImpl<T extends ITopicMapStore> extends
 	@SuppressWarnings("unchecked")
 	public void topicMapChanged(String id, TopicMapEventType event, Construct notifier, Object newValue, Object oldValue) {
 		/*
-		 * construct was removed -> clear dependent caches
+		 * construct was added -> clear caches depending on its scope
 		 */
-		if (event == TopicMapEventType.VARIANT_REMOVED || event == TopicMapEventType.VARIANT_ADDED) {
-			clearDependentCache(IName.class, IVariant.class);
-		} else if (event == TopicMapEventType.NAME_REMOVED || event == TopicMapEventType.NAME_ADDED) {
-			clearDependentCache(IName.class, IVariant.class);
-		} else if (event == TopicMapEventType.OCCURRENCE_REMOVED || event == TopicMapEventType.OCCURRENCE_ADDED) {
-			clearDependentCache(IOccurrence.class);
-		} else if (event == TopicMapEventType.ASSOCIATION_REMOVED || event == TopicMapEventType.ASSOCIATION_ADDED) {
-			clearDependentCache(IAssociation.class);
+		if (event == TopicMapEventType.VARIANT_ADDED) {
+			clearDependentCache(getScopeDependencies(newValue), IVariant.class);
+		} else if (event == TopicMapEventType.NAME_ADDED) {
+			clearDependentCache(getScopeDependencies(newValue), IName.class);
+		} else if (event == TopicMapEventType.OCCURRENCE_ADDED) {
+			clearDependentCache(getScopeDependencies(newValue), IOccurrence.class);
+		} else if (event == TopicMapEventType.ASSOCIATION_ADDED) {
+			clearDependentCache(getScopeDependencies(newValue), IAssociation.class);
 		}
 		/*
-		 * scope was modified -> clear dependent caches
+		 * construct was removed -> clear caches containing the construct
+		 */
+		else if (event == TopicMapEventType.VARIANT_REMOVED) {
+			clearContainingCache(oldValue, IVariant.class);
+		} else if (event == TopicMapEventType.NAME_REMOVED) {
+			clearContainingCache(oldValue, IName.class);
+		} else if (event == TopicMapEventType.OCCURRENCE_REMOVED) {
+			clearContainingCache(oldValue, IOccurrence.class);
+		} else if (event == TopicMapEventType.ASSOCIATION_REMOVED) {
+			clearContainingCache(oldValue, IAssociation.class);
+		}
+		/*
+		 * scope was modified -> clear caches depending on the old or the new scope
 		 */
 		else if (event == TopicMapEventType.SCOPE_MODIFIED) {
+			Collection<Object> scopes = getScopeDependencies(newValue, oldValue);
 			if (notifier instanceof Association) {
-				clearDependentCache(IAssociation.class);
+				clearDependentCache(scopes, IAssociation.class);
 			} else if (notifier instanceof Name) {
-				clearDependentCache(IName.class, IVariant.class);
+				clearDependentCache(scopes, IName.class);
+				/*
+				 * the scope of the variants contains the themes of the name
+				 */
+				clearDependentCache(null, IVariant.class);
 			} else if (notifier instanceof Occurrence) {
-				clearDependentCache(IOccurrence.class);
+				clearDependentCache(scopes, IOccurrence.class);
 			} else if (notifier instanceof Variant) {
-				clearDependentCache(IName.class, IVariant.class);
+				clearDependentCache(scopes, IVariant.class);
 			}
 		}
 		/*
-		 * topic removed or merging
+		 * topic removed
+		 */
+		else if (event == TopicMapEventType.TOPIC_REMOVED) {
+			clearInvolvingCache(oldValue);
+		}
+		/*
+		 * topic merged -> the themes are replaced and the characteristics are moved
 		 */
-		else if (event == TopicMapEventType.MERGE || event == TopicMapEventType.TOPIC_REMOVED) {
-			clearCache();
+		else if (event == TopicMapEventType.MERGE) {
+			clearInvolvingCache(newValue, oldValue);
+			if (newValue instanceof ITopic) {
+				clearMergedCache((ITopic) newValue);
+			} else {
+				clearCache();
+			}
 		}
 	}
 
@@ -128,49 +162,259 @@ public abstract class BaseCachedScopeIndexImpl<T extends ITopicMapStore> extends
 	 * Clear all caches
 	 */
 	protected final void clearCache() {
-		if (cachedConstructs != null) {
-			cachedConstructs.clear();
+		long number = 0;
+		number += cachedConstructs.size();
+		cachedConstructs.clear();
+		number += cachedScopes.size();
+		cachedScopes.clear();
+		number += cachedThemes.size();
+		cachedThemes.clear();
+		number += scopesByThemes.size();
+		scopesByThemes.clear();
+		number += cacheNumberOfConstructs.size();
+		cacheNumberOfConstructs.clear();
+		dependencies.clear();
+		countCacheInvalidations(number);
+	}
+
+	/**
+	 * Clear all caches of the given classes depending on one of the given themes or scopes. The caches of the
+	 * characteristics or any scoped construct are cleared too.
+	 * 
+	 * @param scopes
+	 *            the themes and scopes or <code>null</code> if they are unknown, which clears all caches of the given
+	 *            classes
+	 * @param classes
+	 *            the classes the cache depends on
+	 */
+	private final void clearDependentCache(Collection<Object> scopes, Class<? extends IScopable>... classes) {
+		Set<ScopesCacheKey> keys = HashUtil.getHashSet();
+		for (Class<?> clazz : getDependentClasses(classes)) {
+			if (scopes == null) {
+				keys.addAll(dependencies.getKeys(clazz));
+			} else {
+				keys.addAll(dependencies.getKeys(clazz, scopes));
+			}
 		}
-		if (cachedScopes != null) {
-			cachedScopes.clear();
+		removeCachedValues(keys);
+	}
+
+	/**
+	 * Clear all caches of the given classes which may contain the given construct. Because of the construct is already
+	 * removed, its scope is unknown. The cached constructs of each filter are checked to contain the construct. Cached
+	 * scopes, themes, numbers, pages and values without filter are cleared always.
+	 * 
+	 * @param construct
+	 *            the removed construct
+	 * @param classes
+	 *            the classes the cache depends on
+	 */
+	private final void clearContainingCache(Object construct, Class<? extends IScopable>... classes) {
+		Set<ScopesCacheKey> keys = HashUtil.getHashSet();
+		for (Class<?> clazz : getDependentClasses(classes)) {
+			for (ScopesCacheKey key : dependencies.getKeys(clazz)) {
+				if (dependencies.isUnbound(key) || key.offset != null || key.limit != null) {
+					keys.add(key);
+				} else if (cachedScopes.containsKey(key) || cachedThemes.containsKey(key)) {
+					keys.add(key);
+				} else if (cacheNumberOfConstructs.containsKey(key)) {
+					keys.add(key);
+				} else {
+					Collection<?> values = cachedConstructs.get(key);
+					if (values != null && values.contains(construct)) {
+						keys.add(key);
+					}
+				}
+			}
 		}
-		if (cachedThemes != null) {
-			cachedThemes.clear();
+		removeCachedValues(keys);
+	}
+
+	/**
+	 * Clear all caches using one of the given topics as theme
+	 * 
+	 * @param topics
+	 *            the topics
+	 */
+	@SuppressWarnings("unchecked")
+	private void clearInvolvingCache(Object... topics) {
+		Set<ScopesCacheKey> keys = HashUtil.getHashSet();
+		for (Map<ScopesCacheKey, ?> map : new Map[] { cachedConstructs, cachedScopes, cachedThemes, cacheNumberOfConstructs }) {
+			for (ScopesCacheKey key : map.keySet()) {
+				if (isInvolved(key.filter, topics)) {
+					keys.add(key);
+				}
+			}
 		}
-		if (cacheKeys != null) {
-			cacheKeys.clear();
+		removeCachedValues(keys);
+		long number = 0;
+		for (Iterator<Collection<? extends Topic>> iterator = scopesByThemes.keySet().iterator(); iterator.hasNext();) {
+			if (isInvolved(iterator.next(), topics)) {
+				iterator.remove();
+				number++;
+			}
 		}
-		if (scopesByThemes != null) {
-			scopesByThemes.clear();
+		countCacheInvalidations(number);
+	}
+
+	/**
+	 * Clear all caches depending on the scopes of the characteristics and associations of the given topic
+	 * 
+	 * @param topic
+	 *            the topic containing the merged characteristics
+	 */
+	@SuppressWarnings("unchecked")
+	private void clearMergedCache(ITopic topic) {
+		Collection<Object> nameScopes = HashUtil.getHashSet();
+		Collection<Object> variantScopes = HashUtil.getHashSet();
+		for (Name name : topic.getNames()) {
+			nameScopes.addAll(getScopeDependencies(name));
+			for (Variant variant : name.getVariants()) {
+				variantScopes.addAll(getScopeDependencies(variant));
+			}
 		}
-		if (cacheNumberOfConstructs != null) {
-			cacheNumberOfConstructs.clear();
+		clearDependentCache(nameScopes, IName.class);
+		clearDependentCache(variantScopes, IVariant.class);
+		Collection<Object> occurrenceScopes = HashUtil.getHashSet();
+		for (Occurrence occurrence : topic.getOccurrences()) {
+			occurrenceScopes.addAll(getScopeDependencies(occurrence));
+		}
+		clearDependentCache(occurrenceScopes, IOccurrence.class);
+		Collection<Object> associationScopes = HashUtil.getHashSet();
+		for (Role role : topic.getRolesPlayed()) {
+			associationScopes.addAll(getScopeDependencies(role.getParent()));
+		}
+		clearDependentCache(associationScopes, IAssociation.class);
+	}
+
+	/**
+	 * Removes the values of the given keys from all internal caches
+	 * 
+	 * @param keys
+	 *            the keys
+	 */
+	private void removeCachedValues(Collection<ScopesCacheKey> keys) {
+		long number = 0;
+		for (ScopesCacheKey key : keys) {
+			if (cachedConstructs.remove(key) != null) {
+				number++;
+			}
+			if (cachedScopes.remove(key) != null) {
+				number++;
+			}
+			if (cachedThemes.remove(key) != null) {
+				number++;
+			}
+			if (cacheNumberOfConstructs.remove(key) != null) {
+				number++;
+			}
+			dependencies.unregister(key);
 		}
+		countCacheInvalidations(number);
 	}
 
 	/**
-	 * Clear all caches depending on given classes
+	 * Returns the given classes and the classes of cached values which may contain constructs of the given classes
 	 * 
 	 * @param classes
-	 *            the classes the cache depends on
+	 *            the classes
+	 * @return the dependent classes
 	 */
-	private final void clearDependentCache(Class<? extends IScopable>... classes) {
+	private Set<Class<?>> getDependentClasses(Class<? extends IScopable>... classes) {
+		Set<Class<?>> set = HashUtil.getHashSet();
 		for (Class<? extends IScopable> clazz : classes) {
-			for (ScopesCacheKey key : getDependentKeys(clazz)) {
-				if (cachedConstructs != null) {
-					cachedConstructs.remove(key);
-				}
-				if (cachedScopes != null) {
-					cachedScopes.remove(key);
+			set.add(clazz);
+			if (ICharacteristics.class.isAssignableFrom(clazz)) {
+				set.add(ICharacteristics.class);
+			}
+		}
+		set.add(IScopable.class);
+		return set;
+	}
+
+	/**
+	 * Returns the scopes and themes of the given scopes or scoped constructs, which are the dependencies of cached
+	 * values affected by a modification of the constructs.
+	 * 
+	 * @param values
+	 *            the scopes or scoped constructs
+	 * @return the scopes and themes or <code>null</code> if any scope cannot be determined
+	 */
+	private Collection<Object> getScopeDependencies(Object... values) {
+		Collection<Object> set = HashUtil.getHashSet();
+		for (Object value : values) {
+			IScope scope;
+			if (value instanceof IScope) {
+				scope = (IScope) value;
+			} else if (value instanceof IScopable) {
+				try {
+					scope = ((IScopable) value).getScopeObject();
+				} catch (RuntimeException e) {
+					return null;
 				}
-				if (cachedThemes != null) {
-					cachedThemes.remove(key);
+			} else if (value == null) {
+				continue;
+			} else {
+				return null;
+			}
+			if (scope == null) {
+				return null;
+			}
+			set.add(scope);
+			set.addAll(scope.getThemes());
+		}
+		return set;
+	}
+
+	/**
+	 * Returns the themes and scopes a cached value with the given filter depends on
+	 * 
+	 * @param filter
+	 *            the filter criteria (a theme, a collection, a scope ) or <code>null</code>
+	 * @return the themes and scopes or <code>null</code> if the cached value depends on all constructs
+	 */
+	private Collection<?> getFilterDependencies(Object filter) {
+		if (filter instanceof Topic || filter instanceof IScope) {
+			return Collections.singleton(filter);
+		}
+		if (filter instanceof Collection<?>) {
+			Collection<?> collection = (Collection<?>) filter;
+			for (Object obj : collection) {
+				if (!(obj instanceof Topic || obj instanceof IScope)) {
+					return null;
 				}
-				if (cacheNumberOfConstructs != null) {
-					cacheNumberOfConstructs.remove(key);
+			}
+			return HashUtil.getHashSet(collection);
+		}
+		return null;
+	}
+
+	/**
+	 * Checks if the given filter uses one of the given topics as theme
+	 * 
+	 * @param filter
+	 *            the filter criteria (a theme, a collection, a scope ) or <code>null</code>
+	 * @param topics
+	 *            the topics
+	 * @return <code>true</code> if the filter uses one of the topics, <code>false</code> otherwise
+	 */
+	private boolean isInvolved(Object filter, Object... topics) {
+		if (filter instanceof Collection<?>) {
+			for (Object obj : (Collection<?>) filter) {
+				if (isInvolved(obj, topics)) {
+					return true;
 				}
 			}
+			return false;
 		}
+		for (Object topic : topics) {
+			if (filter instanceof IScope && ((IScope) filter).getThemes().contains(topic)) {
+				return true;
+			} else if (filter != null && filter.equals(topic)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -181,10 +425,7 @@ public abstract class BaseCachedScopeIndexImpl<T extends ITopicMapStore> extends
 	 * @return the scope or <code>null</code> if the key is unknown
 	 */
 	protected final IScope readScope(Collection<? extends Topic> themes) {
-		if (scopesByThemes == null) {
-			return null;
-		}
-		return scopesByThemes.get(themes);
+		return countCacheAccess(scopesByThemes.get(themes));
 	}
 
 	/**
@@ -196,9 +437,6 @@ public abstract class BaseCachedScopeIndexImpl<T extends ITopicMapStore> extends
 	 *            the scope to store
 	 */
 	protected final void cacheScope(Collection<? extends Topic> themes, IScope scope) {
-		if (scopesByThemes == null) {
-			scopesByThemes = HashUtil.getHashMap();
-		}
 		scopesByThemes.put(themes, scope);
 	}
 
@@ -263,16 +501,12 @@ public abstract class BaseCachedScopeIndexImpl<T extends ITopicMapStore> extends
 	 *            the values to store
 	 */
 	protected final void cacheScopes(Class<? extends IScopable> clazz, Object filter, boolean multiMatch, Integer offset, Integer limit, Comparator<IScope> comparator, Collection<IScope> values) {
-		/*
-		 * initialize cache
-		 */
-		if (cachedScopes == null) {
-			cachedScopes = HashUtil.getWeakHashMap();
-		}
 		/*
 		 * store scopes of the specific type
 		 */
-		cachedScopes.put(generateScopesCacheKey(clazz, filter, multiMatch, offset, limit, comparator), values);
+		ScopesCacheKey key = generateScopesCacheKey(clazz, filter, multiMatch, offset, limit, comparator);
+		cachedScopes.put(key, values);
+		dependencies.register(clazz, key, getFilterDependencies(filter));
 	}
 
 	/**
@@ -336,14 +570,8 @@ public abstract class BaseCachedScopeIndexImpl<T extends ITopicMapStore> extends
 	 * @return the scopes or <code>null</code> if the key is unknown
 	 */
 	protected final Collection<IScope> readScopes(Class<? extends IScopable> clazz, Object filter, boolean multiMatch, Integer offset, Integer limit, Comparator<IScope> comparator) {
-		/*
-		 * check main cache
-		 */
-		if (cachedScopes == null) {
-			return null;
-		}
 		ScopesCacheKey key = generateScopesCacheKey(clazz, filter, multiMatch, offset, limit, comparator);
-		return cachedScopes.get(key);
+		return countCacheAccess(cachedScopes.get(key));
 	}
 
 	/**
@@ -371,16 +599,10 @@ public abstract class BaseCachedScopeIndexImpl<T extends ITopicMapStore> extends
 	 * @return the themes or <code>null</code> if the key is unknown
 	 */
 	protected final Collection<Topic> readThemes(Class<? extends IScopable> clazz, Integer offset, Integer limit, Comparator<Topic> comparator) {
-		/*
-		 * check main cache
-		 */
-		if (cachedThemes == null) {
-			return null;
-		}
 		/*
 		 * get cached themes of the specific type
 		 */
-		return cachedThemes.get(generateScopesCacheKey(clazz, null, false, offset, limit, comparator));
+		return countCacheAccess(cachedThemes.get(generateScopesCacheKey(clazz, null, false, offset, limit, comparator)));
 	}
 
 	/**
@@ -410,16 +632,12 @@ public abstract class BaseCachedScopeIndexImpl<T extends ITopicMapStore> extends
 	 *            the values to store
 	 */
 	protected final void cacheThemes(Class<? extends IScopable> clazz, Integer offset, Integer limit, Comparator<Topic> comparator, Collection<Topic> values) {
-		/*
-		 * initialize cache
-		 */
-		if (cachedThemes == null) {
-			cachedThemes = HashUtil.getWeakHashMap();
-		}
 		/*
 		 * store themes of the specific type
 		 */
-		cachedThemes.put(generateScopesCacheKey(clazz, null, false, offset, limit, comparator), values);
+		ScopesCacheKey key = generateScopesCacheKey(clazz, null, false, offset, limit, comparator);
+		cachedThemes.put(key, values);
+		dependencies.register(clazz, key, null);
 	}
 
 	/**
@@ -460,13 +678,7 @@ public abstract class BaseCachedScopeIndexImpl<T extends ITopicMapStore> extends
 	 */
 	@SuppressWarnings("unchecked")
 	protected final <X extends Construct> Collection<X> read(Class<? extends IScopable> clazz, Object filter, boolean multiMatch, Integer offset, Integer limit, Comparator<X> comparator) {
-		/*
-		 * check main cache
-		 */
-		if (cachedConstructs == null) {
-			return null;
-		}
-		return (Collection<X>) cachedConstructs.get(generateScopesCacheKey(clazz, filter, multiMatch, offset, limit, comparator));
+		return (Collection<X>) countCacheAccess(cachedConstructs.get(generateScopesCacheKey(clazz, filter, multiMatch, offset, limit, comparator)));
 	}
 
 	/**
@@ -506,16 +718,12 @@ public abstract class BaseCachedScopeIndexImpl<T extends ITopicMapStore> extends
 	 *            the values to store
 	 */
 	protected final <X extends Construct> void cache(Class<? extends IScopable> clazz, Object filter, boolean multiMatch, Integer offset, Integer limit, Comparator<X> comparator, Collection<X> values) {
-		/*
-		 * initialize cache
-		 */
-		if (cachedConstructs == null) {
-			cachedConstructs = HashUtil.getWeakHashMap();
-		}
 		/*
 		 * store theme-dependent constructs by theme
 		 */
-		cachedConstructs.put(generateScopesCacheKey(clazz, filter, multiMatch, offset, limit, comparator), values);
+		ScopesCacheKey key = generateScopesCacheKey(clazz, filter, multiMatch, offset, limit, comparator);
+		cachedConstructs.put(key, values);
+		dependencies.register(clazz, key, getFilterDependencies(filter));
 	}
 
 	/**
@@ -530,16 +738,10 @@ public abstract class BaseCachedScopeIndexImpl<T extends ITopicMapStore> extends
 	 * @return the number or <code>-1</code>
 	 */
 	protected final long readNumberOfConstructs(Class<? extends IScopable> clazz, Object filter, Boolean matchall) {
-		/*
-		 * check main cache
-		 */
-		if (cacheNumberOfConstructs == null) {
-			return -1;
-		}
 		/*
 		 * get cached themes of the specific type
 		 */
-		Long value = cacheNumberOfConstructs.get(generateScopesCacheKey(clazz, filter, matchall, null, null, null));
+		Long value = countCacheAccess(cacheNumberOfConstructs.get(generateScopesCacheKey(clazz, filter, matchall, null, null, null)));
 		return value == null ? -1 : value;
 	}
 
@@ -556,16 +758,12 @@ public abstract class BaseCachedScopeIndexImpl<T extends ITopicMapStore> extends
 	 *            the number
 	 */
 	protected final void cacheNumberOfConstructs(Class<? extends IScopable> clazz, Object filter, Boolean matchall, long number) {
-		/*
-		 * check main cache
-		 */
-		if (cacheNumberOfConstructs == null) {
-			cacheNumberOfConstructs = HashUtil.getHashMap();
-		}
 		/*
 		 * store cached
 		 */
-		cacheNumberOfConstructs.put(generateScopesCacheKey(clazz, filter, matchall, null, null, null), number);
+		ScopesCacheKey key = generateScopesCacheKey(clazz, filter, matchall, null, null, null);
+		cacheNumberOfConstructs.put(key, number);
+		dependencies.register(clazz, key, getFilterDependencies(filter));
 	}
 
 	/**
@@ -663,41 +861,7 @@ public abstract class BaseCachedScopeIndexImpl<T extends ITopicMapStore> extends
 	 * @return the generated key
 	 */
 	protected ScopesCacheKey generateScopesCacheKey(Class<? extends IScopable> clazz, Object filter, boolean multiMatch, Integer offset, Integer limit, Comparator<?> comparator) {
-		ScopesCacheKey key = new ScopesCacheKey(clazz, filter, multiMatch, offset, limit, comparator);
-		if (cacheKeys == null) {
-			cacheKeys = HashUtil.getHashMap();
-		}
-		Set<ScopesCacheKey> keys = cacheKeys.get(clazz);
-		if (keys == null) {
-			keys = HashUtil.getHashSet();
-			cacheKeys.put(clazz, keys);
-		}
-		keys.add(key);
-		return key;
-	}
-
-	/**
-	 * Returns a set containing all dependent cache keys for the given class
-	 * 
-	 * @param clazz
-	 *            the class
-	 * @return a set of depending cache keys
-	 */
-	private Set<ScopesCacheKey> getDependentKeys(Class<? extends IScopable> clazz) {
-		if (cacheKeys == null) {
-			return Collections.emptySet();
-		}
-		Set<ScopesCacheKey> keys = HashUtil.getHashSet();
-		if (cacheKeys.containsKey(clazz)) {
-			keys.addAll(cacheKeys.get(clazz));
-		}
-		if (ICharacteristics.class.isAssignableFrom(clazz) && cacheKeys.containsKey(ICharacteristics.class)) {
-			keys.addAll(cacheKeys.get(ICharacteristics.class));
-		}
-		if (cacheKeys.containsKey(IScopable.class)) {
-			keys.addAll(cacheKeys.get(IScopable.class));
-		}
-		return keys;
+		return new ScopesCacheKey(clazz, filter, multiMatch, offset, limit, comparator);
 	}
 
 	/**
@@ -787,11 +951,11 @@ class ScopesCacheKey {
 	 */
 	public int hashCode() {
 		int hashCode = clazz.hashCode();
-		hashCode |= multiMatch.hashCode();
-		hashCode |= (filter == null) ? 0 : filter.hashCode();
-		hashCode |= (comparator == null) ? 0 : comparator.hashCode();
-		hashCode |= (offset == null) ? 0 : offset.hashCode();
-		hashCode |= (limit == null) ? 0 : limit.hashCode();
+		hashCode = 31 * hashCode + multiMatch.hashCode();
+		hashCode = 31 * hashCode + ((filter == null) ? 0 : filter.hashCode());
+		hashCode = 31 * hashCode + ((comparator == null) ? 0 : comparator.hashCode());
+		hashCode = 31 * hashCode + ((offset == null) ? 0 : offset.hashCode());
+		hashCode = 31 * hashCode + ((limit == null) ? 0 : limit.hashCode());
 		return hashCode;
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -17,7 +17,9 @@ package de.topicmapslab.majortom.index.core;
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.tmapi.core.Construct;
 import org.tmapi.core.Topic;
@@ -57,9 +59,11 @@ public abstract class BaseCachedSupertypeSubtypeIndexImpl<T extends ITopicMapSto
 		DIRECT_SUBTYPE
 	}
 
-	private Map<SupertypeSubtypeCacheKey, Collection<Topic>> cache;
-
-	private Map<SupertypeSubtypeCacheKey, Long> cacheNumberOfConstructs;
+	/**
+	 * the internal caches, filled concurrently by readers sharing the read lock of the store
+	 */
+	private final Map<SupertypeSubtypeCacheKey, Collection<Topic>> cache = new ConcurrentHashMap<SupertypeSubtypeCacheKey, Collection<Topic>>();
+	private final Map<SupertypeSubtypeCacheKey, Long> cacheNumberOfConstructs = new ConcurrentHashMap<SupertypeSubtypeCacheKey, Long>();
 
 	/**
 	 * constructor
@@ -78,9 +82,15 @@ public abstract class BaseCachedSupertypeSubtypeIndexImpl<T extends ITopicMapSto
 		/*
 		 * a topic was removed
 		 */
-		if (event == TopicMapEventType.TOPIC_REMOVED || event == TopicMapEventType.MERGE || event == TopicMapEventType.TOPIC_ADDED) {
+		if (event == TopicMapEventType.TOPIC_REMOVED || event == TopicMapEventType.MERGE) {
 			clearCache();
 		}
+		/*
+		 * a new topic is not part of any type hierarchy yet
+		 */
+		else if (event == TopicMapEventType.TOPIC_ADDED) {
+			clearUnfilteredCache();
+		}
 		/*
 		 * a super type relation was changed
 		 */
@@ -93,12 +103,29 @@ public abstract class BaseCachedSupertypeSubtypeIndexImpl<T extends ITopicMapSto
 	 * Clear all caches
 	 */
 	protected final void clearCache() {
-		if (cache != null) {
-			cache.clear();
-		}
-		if (cacheNumberOfConstructs != null) {
-			cacheNumberOfConstructs.clear();
+		long number = 0;
+		number += cache.size();
+		cache.clear();
+		number += cacheNumberOfConstructs.size();
+		cacheNumberOfConstructs.clear();
+		countCacheInvalidations(number);
+	}
+
+	/**
+	 * Clear all cached values without a filter criteria
+	 */
+	@SuppressWarnings("unchecked")
+	private void clearUnfilteredCache() {
+		long number = 0;
+		for (Map<SupertypeSubtypeCacheKey, ?> map : new Map[] { cache, cacheNumberOfConstructs }) {
+			for (Iterator<SupertypeSubtypeCacheKey> iterator = map.keySet().iterator(); iterator.hasNext();) {
+				if (iterator.next().filter == null) {
+					iterator.remove();
+					number++;
+				}
+			}
 		}
+		countCacheInvalidations(number);
 	}
 	
 	/**
@@ -110,13 +137,7 @@ public abstract class BaseCachedSupertypeSubtypeIndexImpl<T extends ITopicMapSto
 	 * @return the number or <code>-1</code>
 	 */
 	protected long readNumberOfConstructs(Type type, Object filter, Boolean multiMatch) {
-		/*
-		 * check main cache for compared type hierarchy
-		 */
-		if (cacheNumberOfConstructs == null) {
-			return -1;
-		}
-		Long value = cacheNumberOfConstructs.get(generateCacheKey(type, filter, multiMatch, null, null, null));
+		Long value = countCacheAccess(cacheNumberOfConstructs.get(generateCacheKey(type, filter, multiMatch, null, null, null)));
 		return value == null ? -1 : value;
 	}
 
@@ -153,13 +174,7 @@ public abstract class BaseCachedSupertypeSubtypeIndexImpl<T extends ITopicMapSto
 	 * @return the type-hierarchy topics of the given type from cache or <code>null</code> if key is unknown
 	 */
 	protected final Collection<Topic> read(Type type, Object filter, Boolean multiMatch, Integer offset, Integer limit, Comparator<Topic> comparator) {
-		/*
-		 * check main cache for compared type hierarchy
-		 */
-		if (cache == null) {
-			return null;
-		}
-		return cache.get(generateCacheKey(type, filter, multiMatch, offset, limit, comparator));
+		return countCacheAccess(cache.get(generateCacheKey(type, filter, multiMatch, offset, limit, comparator)));
 	}
 	
 	/**
@@ -171,12 +186,6 @@ public abstract class BaseCachedSupertypeSubtypeIndexImpl<T extends ITopicMapSto
 	 * @param number the number
 	 */
 	protected void cacheNumberOfConstructs(Type type, Object filter, Boolean multiMatch, long number) {
-		/*
-		 * check main cache for compared type hierarchy
-		 */
-		if (cacheNumberOfConstructs == null) {
-			cacheNumberOfConstructs = HashUtil.getHashMap();
-		}
 		cacheNumberOfConstructs.put(generateCacheKey(type, filter, multiMatch, null, null, null), number);	
 	}
 
@@ -217,12 +226,6 @@ public abstract class BaseCachedSupertypeSubtypeIndexImpl<T extends ITopicMapSto
 	 *            the values to store
 	 */
 	protected final void cache(Type type, Object filter, Boolean multiMatch, Integer offset, Integer limit, Comparator<Topic> comparator, Collection<Topic> values) {
-		/*
-		 * initialize cache for compared type hierarchy
-		 */
-		if (cache == null) {
-			cache = HashUtil.getWeakHashMap();
-		}
 		/*
 		 * store compared list
 		 */
@@ -332,11 +335,11 @@ class SupertypeSubtypeCacheKey {
 	 */
 	public int hashCode() {
 		int hashCode = type.hashCode();
-		hashCode |= (multiMatch == null) ? 0 : multiMatch.hashCode();
-		hashCode |= (filter == null) ? 0 : filter.hashCode();
-		hashCode |= (comparator == null) ? 0 : comparator.hashCode();
-		hashCode |= (offset == null) ? 0 : offset.hashCode();
-		hashCode |= (limit == null) ? 0 : limit.hashCode();
+		hashCode = 31 * hashCode + ((multiMatch == null) ? 0 : multiMatch.hashCode());
+		hashCode = 31 * hashCode + ((filter == null) ? 0 : filter.hashCode());
+		hashCode = 31 * hashCode + ((comparator == null) ? 0 : comparator.hashCode());
+		hashCode = 31 * hashCode + ((offset == null) ? 0 : offset.hashCode());
+		hashCode = 31 * hashCode + ((limit == null) ? 0 : limit.hashCode());
 		return hashCode;
 	}
 
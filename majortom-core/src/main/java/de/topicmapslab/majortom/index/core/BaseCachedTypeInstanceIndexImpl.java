@@ -20,9 +20,12 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.tmapi.core.Construct;
+import org.tmapi.core.Role;
 import org.tmapi.core.Topic;
+import org.tmapi.core.Typed;
 
 import de.topicmapslab.majortom.model.core.IAssociation;
 import de.topicmapslab.majortom.model.core.IAssociationRole;
@@ -33,6 +36,9 @@ import de.topicmapslab.majortom.model.core.IOccurrence;
 import de.topicmapslab.majortom.model.core.ITopic;
 import de.topicmapslab.majortom.model.event.ITopicMapListener;
 import de.topicmapslab.majortom.model.event.TopicMapEventType;
+import de.topicmapslab.majortom.model.index.ISupertypeSubtypeIndex;
+import de.topicmapslab.majortom.model.index.ITransitiveTypeInstanceIndex;
+import de.topicmapslab.majortom.model.index.paging.IPagedTransitiveTypeInstanceIndex;
 import de.topicmapslab.majortom.model.index.paging.IPagedTypeInstanceIndex;
 import de.topicmapslab.majortom.model.store.ITopicMapStore;
 import de.topicmapslab.majortom.util.HashUtil;
@@ -45,21 +51,24 @@ import de.topicmapslab.majortom.util.HashUtil;
  */
 public abstract class BaseCachedTypeInstanceIndexImpl<E extends ITopicMapStore> extends BaseCachedIndexImpl<E> implements ITopicMapListener {
 
-	private Map<Class<?>, Set<TypeInstanceCacheKey>> dependentCacheKeys;
+	/**
+	 * the dependencies of all cached values
+	 */
+	private final CacheDependencies<TypeInstanceCacheKey> dependencies;
 
 	/**
-	 * internal cache for typed constructs
+	 * internal cache for typed constructs, filled concurrently by readers sharing the read lock of the store
 	 */
-	private Map<TypeInstanceCacheKey, Collection<?>> cachedConstructs;
+	private final Map<TypeInstanceCacheKey, Collection<?>> cachedConstructs = new ConcurrentHashMap<TypeInstanceCacheKey, Collection<?>>();
 	/**
 	 * internal cache for number of typed constructs
 	 */
-	private Map<TypeInstanceCacheKey, Long> cachedNumberOfConstructs;
+	private final Map<TypeInstanceCacheKey, Long> cachedNumberOfConstructs = new ConcurrentHashMap<TypeInstanceCacheKey, Long>();
 
 	/**
 	 * internal cache for types of constructs
 	 */
-	private Map<TypeInstanceCacheKey, Collection<Topic>> cachedTypes;
+	private final Map<TypeInstanceCacheKey, Collection<Topic>> cachedTypes = new ConcurrentHashMap<TypeInstanceCacheKey, Collection<Topic>>();
 
 	/**
 	 * constructor
@@ -69,6 +78,7 @@ public abstract class BaseCachedTypeInstanceIndexImpl<E extends ITopicMapStore>
 	 */
 	public BaseCachedTypeInstanceIndexImpl(E store) {
 		super(store);
+		this.dependencies = new CacheDependencies<TypeInstanceCacheKey>();
 	}
 
 	/**
@@ -79,52 +89,91 @@ public abstract class BaseCachedTypeInstanceIndexImpl<E extends ITopicMapStore>
 		/*
 		 * association added or removed
 		 */
-		if (event == TopicMapEventType.ASSOCIATION_ADDED || event == TopicMapEventType.ASSOCIATION_REMOVED) {
-			clearDependentCache(IAssociation.class);
+		if (event == TopicMapEventType.ASSOCIATION_ADDED) {
+			clearDependentCache(getDependentTypes(newValue), IAssociation.class);
+		} else if (event == TopicMapEventType.ASSOCIATION_REMOVED) {
+			clearContainingCache(oldValue, IAssociation.class);
 		}
 		/*
 		 * role added or removed
 		 */
-		else if (event == TopicMapEventType.ROLE_ADDED || event == TopicMapEventType.ROLE_REMOVED) {
-			clearDependentCache(IAssociationRole.class);
+		else if (event == TopicMapEventType.ROLE_ADDED) {
+			clearDependentCache(getDependentTypes(newValue), IAssociationRole.class);
+		} else if (event == TopicMapEventType.ROLE_REMOVED) {
+			clearContainingCache(oldValue, IAssociationRole.class);
 		}
 		/*
 		 * name added or removed
 		 */
-		else if (event == TopicMapEventType.NAME_ADDED || event == TopicMapEventType.NAME_REMOVED) {
-			clearDependentCache(IName.class, ICharacteristics.class);
+		else if (event == TopicMapEventType.NAME_ADDED) {
+			clearDependentCache(getDependentTypes(newValue), IName.class, ICharacteristics.class);
+		} else if (event == TopicMapEventType.NAME_REMOVED) {
+			clearContainingCache(oldValue, IName.class, ICharacteristics.class);
 		}
 		/*
 		 * occurrence added or removed
 		 */
-		else if (event == TopicMapEventType.OCCURRENCE_ADDED || event == TopicMapEventType.OCCURRENCE_REMOVED) {
-			clearDependentCache(IOccurrence.class, ICharacteristics.class);
+		else if (event == TopicMapEventType.OCCURRENCE_ADDED) {
+			clearDependentCache(getDependentTypes(newValue), IOccurrence.class, ICharacteristics.class);
+		} else if (event == TopicMapEventType.OCCURRENCE_REMOVED) {
+			clearContainingCache(oldValue, IOccurrence.class, ICharacteristics.class);
 		}
 		/*
-		 * topic merged or removed
+		 * topic removed
 		 */
-		else if (event == TopicMapEventType.TOPIC_REMOVED || event == TopicMapEventType.MERGE) {
-			clearCache();
+		else if (event == TopicMapEventType.TOPIC_REMOVED) {
+			clearContainingCache(oldValue, ITopic.class);
+			removeCachedValues(dependencies.getKeys(Collections.singleton(oldValue)));
+		}
+		/*
+		 * topic merged -> the supertype hierarchy may change for all subtypes of the merged topics
+		 */
+		else if (event == TopicMapEventType.MERGE) {
+			if (newValue instanceof ITopic && !isTransitive()) {
+				clearMergedCache((ITopic) newValue, oldValue);
+			} else {
+				clearCache();
+			}
 		}
 		/*
 		 * type modified
 		 */
 		else if (event == TopicMapEventType.TYPE_SET) {
+			Collection<Topic> types = getDependentTypes(newValue, oldValue);
 			if (notifier instanceof IAssociation) {
-				clearDependentCache(IAssociation.class);
+				clearDependentCache(types, IAssociation.class);
 			} else if (notifier instanceof IAssociationRole) {
-				clearDependentCache(IAssociationRole.class);
+				clearDependentCache(types, IAssociationRole.class);
 			} else if (notifier instanceof IName) {
-				clearDependentCache(IName.class, ICharacteristics.class);
+				clearDependentCache(types, IName.class, ICharacteristics.class);
 			} else {
-				clearDependentCache(IOccurrence.class, ICharacteristics.class);
+				clearDependentCache(types, IOccurrence.class, ICharacteristics.class);
 			}
 		}
 		/*
 		 * type added or removed
 		 */
-		else if (event == TopicMapEventType.TYPE_ADDED || event == TopicMapEventType.TYPE_REMOVED || event == TopicMapEventType.TOPIC_ADDED) {
-			clearDependentCache(ITopic.class);
+		else if (event == TopicMapEventType.TYPE_ADDED) {
+			clearDependentCache(getDependentTypes(newValue), ITopic.class);
+		} else if (event == TopicMapEventType.TYPE_REMOVED) {
+			clearDependentCache(getDependentTypes(oldValue), ITopic.class);
+		}
+		/*
+		 * a new topic only modifies the results without a type filter
+		 */
+		else if (event == TopicMapEventType.TOPIC_ADDED) {
+			clearDependentCache(Collections.<Topic> emptySet(), ITopic.class);
+		}
+		/*
+		 * type hierarchy modified, which only matters for transitive indexes
+		 */
+		else if (isTransitive() && (event == TopicMapEventType.SUPERTYPE_ADDED || event == TopicMapEventType.SUPERTYPE_REMOVED)) {
+			Collection<Topic> types = getDependentTypes(event == TopicMapEventType.SUPERTYPE_ADDED ? newValue : oldValue);
+			if (types == null) {
+				clearCache();
+			} else {
+				removeCachedValues(dependencies.getKeys(types));
+			}
 		}
 	}
 
@@ -132,43 +181,194 @@ public abstract class BaseCachedTypeInstanceIndexImpl<E extends ITopicMapStore>
 	 * clear all internal caches
 	 */
 	public final void clearCache() {
-		if (cachedTypes != null) {
-			cachedTypes.clear();
-			cachedTypes = HashUtil.getHashMap();
-		}
-		if (cachedConstructs != null) {
-			cachedConstructs.clear();
-			cachedConstructs = HashUtil.getHashMap();
+		long number = 0;
+		number += cachedTypes.size();
+		cachedTypes.clear();
+		number += cachedConstructs.size();
+		cachedConstructs.clear();
+		number += cachedNumberOfConstructs.size();
+		cachedNumberOfConstructs.clear();
+		dependencies.clear();
+		countCacheInvalidations(number);
+	}
+
+	/**
+	 * Method clears all caches depending on one of the given classes
+	 * 
+	 * @param classes
+	 *            the classes
+	 */
+	public final void clearDependentCache(Class<? extends IConstruct>... classes) {
+		for (Class<? extends IConstruct> clazz : classes) {
+			removeCachedValues(dependencies.getKeys(clazz));
 		}
-		if (dependentCacheKeys != null) {
-			dependentCacheKeys.clear();
-			dependentCacheKeys = HashUtil.getHashMap();
+	}
+
+	/**
+	 * Method clears all caches of the given classes depending on one of the given types or on all constructs of the
+	 * class.
+	 * 
+	 * @param types
+	 *            the types or <code>null</code> if they are unknown, which clears all caches of the given classes
+	 * @param classes
+	 *            the classes
+	 */
+	protected final void clearDependentCache(Collection<Topic> types, Class<? extends IConstruct>... classes) {
+		if (types == null) {
+			clearDependentCache(classes);
+			return;
 		}
-		if (cachedNumberOfConstructs != null) {
-			cachedNumberOfConstructs.clear();
+		for (Class<? extends IConstruct> clazz : classes) {
+			removeCachedValues(dependencies.getKeys(clazz, types));
 		}
 	}
 
 	/**
-	 * Method clears all caches depending on one of the given classes
+	 * Method clears all caches of the given classes which may contain the given construct. Because of the construct is
+	 * already removed, its type is unknown. The cached constructs of each filter are checked to contain the
+	 * construct. Cached numbers, pages and values without filter are cleared always.
 	 * 
+	 * @param construct
+	 *            the construct
 	 * @param classes
 	 *            the classes
 	 */
-	public final void clearDependentCache(Class<? extends IConstruct>... classes) {
+	protected final void clearContainingCache(Object construct, Class<? extends IConstruct>... classes) {
+		Set<TypeInstanceCacheKey> keys = HashUtil.getHashSet();
 		for (Class<? extends IConstruct> clazz : classes) {
-			for (TypeInstanceCacheKey key : getDependentKeys(clazz)) {
-				if (cachedTypes != null) {
-					cachedTypes.remove(key);
-				}
-				if (cachedConstructs != null) {
-					cachedConstructs.remove(key);
+			for (TypeInstanceCacheKey key : dependencies.getKeys(clazz)) {
+				if (dependencies.isUnbound(key) || key.offset != null || key.limit != null) {
+					keys.add(key);
+				} else if (cachedNumberOfConstructs.containsKey(key)) {
+					keys.add(key);
+				} else {
+					Collection<?> values = cachedConstructs.get(key);
+					if (values != null && values.contains(construct)) {
+						keys.add(key);
+					}
 				}
-				if (cachedNumberOfConstructs != null) {
-					cachedNumberOfConstructs.remove(key);
+			}
+		}
+		removeCachedValues(keys);
+	}
+
+	/**
+	 * Method clears all caches affected by the merge of the given topics
+	 * 
+	 * @param topic
+	 *            the topic containing the merged characteristics
+	 * @param other
+	 *            the merged topic
+	 */
+	@SuppressWarnings("unchecked")
+	private void clearMergedCache(ITopic topic, Object other) {
+		Set<Object> merged = HashUtil.getHashSet();
+		merged.add(topic);
+		merged.add(other);
+		removeCachedValues(dependencies.getKeys(merged));
+		clearContainingCache(other, ITopic.class);
+		clearDependentCache(getDependentTypes(topic.getTypes().toArray()), ITopic.class);
+		clearDependentCache(getDependentTypes(topic.getNames().toArray()), IName.class, ICharacteristics.class);
+		clearDependentCache(getDependentTypes(topic.getOccurrences().toArray()), IOccurrence.class, ICharacteristics.class);
+		Collection<Role> roles = topic.getRolesPlayed();
+		clearDependentCache(getDependentTypes(roles.toArray()), IAssociationRole.class);
+		Set<Object> associations = HashUtil.getHashSet();
+		for (Role role : roles) {
+			associations.add(role.getParent());
+		}
+		clearDependentCache(getDependentTypes(associations.toArray()), IAssociation.class);
+	}
+
+	/**
+	 * Removes the values of the given keys from all internal caches
+	 * 
+	 * @param keys
+	 *            the keys
+	 */
+	private void removeCachedValues(Collection<TypeInstanceCacheKey> keys) {
+		long number = 0;
+		for (TypeInstanceCacheKey key : keys) {
+			if (cachedTypes.remove(key) != null) {
+				number++;
+			}
+			if (cachedConstructs.remove(key) != null) {
+				number++;
+			}
+			if (cachedNumberOfConstructs.remove(key) != null) {
+				number++;
+			}
+			dependencies.unregister(key);
+		}
+		countCacheInvalidations(number);
+	}
+
+	/**
+	 * Returns the types of the given typed constructs or topics. If the index is transitive, the supertypes of each
+	 * type are added too, because the cached results of a supertype contain the constructs of its subtypes.
+	 * 
+	 * @param values
+	 *            the typed constructs or types
+	 * @return the types or <code>null</code> if any type cannot be determined
+	 */
+	private Collection<Topic> getDependentTypes(Object... values) {
+		Set<Topic> types = HashUtil.getHashSet();
+		for (Object value : values) {
+			Topic type = null;
+			if (value instanceof Topic) {
+				type = (Topic) value;
+			} else if (value instanceof Typed) {
+				try {
+					type = ((Typed) value).getType();
+				} catch (RuntimeException e) {
+					return null;
 				}
+			} else if (value != null) {
+				return null;
+			}
+			if (type != null) {
+				types.add(type);
+			}
+		}
+		if (isTransitive() && !types.isEmpty()) {
+			ISupertypeSubtypeIndex index = getTopicMapStore().getIndex(ISupertypeSubtypeIndex.class);
+			if (!index.isOpen()) {
+				index.open();
+			}
+			for (Topic type : HashUtil.getHashSet(types)) {
+				types.addAll(index.getSupertypes(type));
+			}
+		}
+		return types;
+	}
+
+	/**
+	 * Checks if the cached results of this index contain the instances of the subtypes of a type
+	 * 
+	 * @return <code>true</code> if this index is transitive, <code>false</code> otherwise
+	 */
+	private boolean isTransitive() {
+		return this instanceof ITransitiveTypeInstanceIndex || this instanceof IPagedTransitiveTypeInstanceIndex;
+	}
+
+	/**
+	 * Returns the types a cached result with the given filter depends on
+	 * 
+	 * @param filter
+	 *            the filter criteria (a type or a collection of types) or <code>null</code>
+	 * @return the types or <code>null</code> if the result depends on all constructs
+	 */
+	private Collection<?> getFilterDependencies(Object filter) {
+		if (filter == null) {
+			return null;
+		}
+		if (filter instanceof Collection<?>) {
+			Collection<?> types = (Collection<?>) filter;
+			if (types.contains(null)) {
+				return null;
 			}
+			return HashUtil.getHashSet(types);
 		}
+		return Collections.singleton(filter);
 	}
 
 	/**
@@ -183,16 +383,10 @@ public abstract class BaseCachedTypeInstanceIndexImpl<E extends ITopicMapStore>
 	 * @return the number of constructs or <code> -1 </code>
 	 */
 	protected long readNumberOfConstructs(Class<? extends Construct> clazz, Object filter, Boolean matchAll) {
-		/*
-		 * check main cache
-		 */
-		if (cachedNumberOfConstructs == null) {
-			return -1;
-		}
 		/*
 		 * get cached types
 		 */
-		Long value = cachedNumberOfConstructs.get(generateCacheKey(clazz, filter, matchAll, null, null, null));
+		Long value = countCacheAccess(cachedNumberOfConstructs.get(generateCacheKey(clazz, filter, matchAll, null, null, null)));
 		return value == null ? -1 : value;
 	}
 
@@ -227,16 +421,10 @@ public abstract class BaseCachedTypeInstanceIndexImpl<E extends ITopicMapStore>
 	 * @return the types or <code>null</code> if the key-pairs is unknown
 	 */
 	protected Collection<Topic> read(Class<? extends Construct> clazz, Integer offset, Integer limit, Comparator<Topic> comparator) {
-		/*
-		 * check main cache
-		 */
-		if (cachedTypes == null) {
-			return null;
-		}
 		/*
 		 * get cached types
 		 */
-		return cachedTypes.get(generateCacheKey(clazz, null, false, offset, limit, comparator));
+		return countCacheAccess(cachedTypes.get(generateCacheKey(clazz, null, false, offset, limit, comparator)));
 	}
 
 	/**
@@ -252,16 +440,12 @@ public abstract class BaseCachedTypeInstanceIndexImpl<E extends ITopicMapStore>
 	 *            the number of constructs
 	 */
 	protected void cacheNumberOfConstructs(Class<? extends Construct> clazz, Object filter, Boolean matchAll, long number) {
-		/*
-		 * check main cache
-		 */
-		if (cachedNumberOfConstructs == null) {
-			cachedNumberOfConstructs = HashUtil.getHashMap();
-		}
 		/*
 		 * get cached types
 		 */
-		cachedNumberOfConstructs.put(generateCacheKey(clazz, filter, matchAll, null, null, null), number);
+		TypeInstanceCacheKey key = generateCacheKey(clazz, filter, matchAll, null, null, null);
+		cachedNumberOfConstructs.put(key, number);
+		dependencies.register(clazz, key, getFilterDependencies(filter));
 	}
 
 	/**
@@ -291,16 +475,12 @@ public abstract class BaseCachedTypeInstanceIndexImpl<E extends ITopicMapStore>
 	 *            the values to store
 	 */
 	protected void cache(Class<? extends IConstruct> clazz, Integer offset, Integer limit, Comparator<Topic> comparator, Collection<Topic> values) {
-		/*
-		 * initialize main cache
-		 */
-		if (cachedTypes == null) {
-			cachedTypes = HashUtil.getHashMap();
-		}
 		/*
 		 * store cached types
 		 */
-		cachedTypes.put(generateCacheKey(clazz, null, false, offset, limit, comparator), values);
+		TypeInstanceCacheKey key = generateCacheKey(clazz, null, false, offset, limit, comparator);
+		cachedTypes.put(key, values);
+		dependencies.register(clazz, key, null);
 	}
 
 	/**
@@ -337,13 +517,7 @@ public abstract class BaseCachedTypeInstanceIndexImpl<E extends ITopicMapStore>
 	 */
 	@SuppressWarnings("unchecked")
 	protected <T extends Construct> Collection<T> read(Class<? extends IConstruct> clazz, Object filter, Boolean multiMatch, Integer offset, Integer limit, Comparator<? extends Construct> comparator) {
-		/*
-		 * check main main cache
-		 */
-		if (cachedConstructs == null) {
-			return null;
-		}
-		return (Collection<T>) cachedConstructs.get(generateCacheKey(clazz, filter, multiMatch, offset, limit, comparator));
+		return (Collection<T>) countCacheAccess(cachedConstructs.get(generateCacheKey(clazz, filter, multiMatch, offset, limit, comparator)));
 	}
 
 	/**
@@ -382,16 +556,12 @@ public abstract class BaseCachedTypeInstanceIndexImpl<E extends ITopicMapStore>
 	 */
 	protected <T extends Construct> void cache(Class<? extends IConstruct> clazz, Object filter, Boolean multiMatch, Integer offset, Integer limit, Comparator<? extends Construct> comparator,
 			Collection<T> values) {
-		/*
-		 * initialize main cache
-		 */
-		if (cachedConstructs == null) {
-			cachedConstructs = HashUtil.getHashMap();
-		}
 		/*
 		 * store cached types
 		 */
-		cachedConstructs.put(generateCacheKey(clazz, filter, multiMatch, offset, limit, comparator), values);
+		TypeInstanceCacheKey key = generateCacheKey(clazz, filter, multiMatch, offset, limit, comparator);
+		cachedConstructs.put(key, values);
+		dependencies.register(clazz, key, getFilterDependencies(filter));
 	}
 
 	/**
@@ -412,34 +582,7 @@ public abstract class BaseCachedTypeInstanceIndexImpl<E extends ITopicMapStore>
 	 * @return the generated cache key;
 	 */
 	private TypeInstanceCacheKey generateCacheKey(Class<?> clazz, Object filter, Boolean multiMatch, Integer offset, Integer limit, Comparator<?> comparator) {
-		TypeInstanceCacheKey key = new TypeInstanceCacheKey(clazz, filter, multiMatch, offset, limit, comparator);
-		/*
-		 * store dependent keys for clearing cache
-		 */
-		if (dependentCacheKeys == null) {
-			dependentCacheKeys = HashUtil.getHashMap();
-		}
-		Set<TypeInstanceCacheKey> keys = dependentCacheKeys.get(clazz);
-		if (keys == null) {
-			keys = HashUtil.getHashSet();
-			dependentCacheKeys.put(clazz, keys);
-		}
-		keys.add(key);
-		return key;
-	}
-
-	/**
-	 * Returns a set of cache keys dependents on the given type
-	 * 
-	 * @param type
-	 *            the type
-	 * @return all dependent keys
-	 */
-	private Set<TypeInstanceCacheKey> getDependentKeys(Class<?> clazz) {
-		if (dependentCacheKeys == null || !dependentCacheKeys.containsKey(clazz)) {
-			return Collections.emptySet();
-		}
-		return dependentCacheKeys.get(clazz);
+		return new TypeInstanceCacheKey(clazz, filter, multiMatch, offset, limit, comparator);
 	}
 
 	/**
@@ -524,11 +667,11 @@ class TypeInstanceCacheKey {
 	 */
 	public int hashCode() {
 		int hashCode = clazz.hashCode();
-		hashCode |= (multiMatch == null) ? 0 : multiMatch.hashCode();
-		hashCode |= (filter == null) ? 0 : filter.hashCode();
-		hashCode |= (comparator == null) ? 0 : comparator.hashCode();
-		hashCode |= (offset == null) ? 0 : offset.hashCode();
-		hashCode |= (limit == null) ? 0 : limit.hashCode();
+		hashCode = 31 * hashCode + ((multiMatch == null) ? 0 : multiMatch.hashCode());
+		hashCode = 31 * hashCode + ((filter == null) ? 0 : filter.hashCode());
+		hashCode = 31 * hashCode + ((comparator == null) ? 0 : comparator.hashCode());
+		hashCode = 31 * hashCode + ((offset == null) ? 0 : offset.hashCode());
+		hashCode = 31 * hashCode + ((limit == null) ? 0 : limit.hashCode());
 		return hashCode;
 	}
 
@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.index.core;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.tmapi.core.Construct;
+import org.tmapi.core.Name;
+import org.tmapi.core.Occurrence;
+import org.tmapi.core.TMAPIRuntimeException;
+import org.tmapi.core.Topic;
+import org.tmapi.core.Variant;
+
+import de.topicmapslab.majortom.index.IndexImpl;
+import de.topicmapslab.majortom.index.fulltext.FullTextQuery;
+import de.topicmapslab.majortom.index.fulltext.FullTextSearcher;
+import de.topicmapslab.majortom.model.core.IConstruct;
+import de.topicmapslab.majortom.model.core.ITopic;
+import de.topicmapslab.majortom.model.event.ITopicMapListener;
+import de.topicmapslab.majortom.model.event.TopicMapEventType;
+import de.topicmapslab.majortom.model.index.IFullTextIndex;
+import de.topicmapslab.majortom.model.store.ITopicMapStore;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Base class of all full-text indexes. By default the index is built if it is
+ * opened, updated incrementally by the events of the topic map store and
+ * cleared if it is closed. Persistent implementations may keep the index across
+ * closing by overwriting {@link #doOpen()} and {@link #doClose()}.
+ * Characteristics removed without a notification are dropped lazily, if they
+ * are returned by a query.
+ *
+ * @author Sven Krosse
+ *
+ * @param <T>
+ *            the topic map store class
+ */
+public abstract class BaseFullTextIndexImpl<T extends ITopicMapStore> extends IndexImpl<T> implements IFullTextIndex, ITopicMapListener {
+
+	/**
+	 * constructor
+	 *
+	 * @param store
+	 *            the store
+	 */
+	public BaseFullTextIndexImpl(T store) {
+		super(store);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void open() {
+		super.open();
+		doOpen();
+	}
+
+	/**
+	 * Called if the index is opened. The default implementation registers the
+	 * index as listener of the topic map store and builds the index.
+	 */
+	protected void doOpen() {
+		getTopicMapStore().addTopicMapListener(this);
+		doReindex();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void close() {
+		doClose();
+		super.close();
+	}
+
+	/**
+	 * Called if the index is closed. The default implementation removes the
+	 * index as listener of the topic map store and removes all content of the
+	 * index.
+	 */
+	protected void doClose() {
+		getTopicMapStore().removeTopicMapListener(this);
+		doClear();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void reindex() {
+		super.reindex();
+		doReindex();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<Construct> getConstructs(String query) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (query == null) {
+			throw new IllegalArgumentException("Query cannot be null!");
+		}
+		return FullTextSearcher.rank(score(query));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<Topic> getTopics(String query) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (query == null) {
+			throw new IllegalArgumentException("Query cannot be null!");
+		}
+		Map<Topic, Double> scores = new LinkedHashMap<Topic, Double>();
+		for (Entry<Construct, Double> entry : score(query).entrySet()) {
+			Topic topic = getTopic(entry.getKey());
+			Double score = scores.get(topic);
+			if (score == null || score < entry.getValue()) {
+				scores.put(topic, entry.getValue());
+			}
+		}
+		return FullTextSearcher.rank(scores);
+	}
+
+	/**
+	 * Evaluates the given query and returns the scores of all matching
+	 * characteristics.
+	 *
+	 * @param query
+	 *            the query string
+	 * @return a map of the matching characteristics to their scores
+	 */
+	protected Map<Construct, Double> score(String query) {
+		FullTextQuery q = FullTextQuery.parse(query);
+		if (q.isEmpty()) {
+			return new LinkedHashMap<Construct, Double>();
+		}
+		return doScore(q);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void topicMapChanged(String id, TopicMapEventType event, Construct notifier, Object newValue, Object oldValue) {
+		/*
+		 * characteristics added -> index value
+		 */
+		if (event == TopicMapEventType.NAME_ADDED || event == TopicMapEventType.OCCURRENCE_ADDED || event == TopicMapEventType.VARIANT_ADDED) {
+			index((Construct) newValue);
+		}
+		/*
+		 * value modified -> replace the terms of the characteristics
+		 */
+		else if (event == TopicMapEventType.VALUE_MODIFIED) {
+			index(notifier);
+		}
+		/*
+		 * characteristics removed -> remove terms
+		 */
+		else if (event == TopicMapEventType.NAME_REMOVED || event == TopicMapEventType.OCCURRENCE_REMOVED || event == TopicMapEventType.VARIANT_REMOVED) {
+			doUnindex((IConstruct) oldValue);
+		}
+		/*
+		 * topic removed -> characteristics of the topic may be removed without notification
+		 */
+		else if (event == TopicMapEventType.TOPIC_REMOVED) {
+			doUnindexTopic((ITopic) oldValue);
+		}
+		/*
+		 * topic merged -> the characteristics of the merged topic are moved
+		 */
+		else if (event == TopicMapEventType.MERGE) {
+			if (newValue instanceof Topic) {
+				indexTopic((Topic) newValue);
+			} else {
+				doReindex();
+			}
+		}
+	}
+
+	/**
+	 * Indexes the value of the given construct, if it is a name, occurrence or
+	 * variant.
+	 *
+	 * @param construct
+	 *            the construct
+	 */
+	protected void index(Construct construct) {
+		String value = getValue(construct);
+		if (value != null) {
+			doIndex((IConstruct) construct, value);
+		}
+	}
+
+	/**
+	 * Indexes the values of all names, variants and occurrences of the given
+	 * topic.
+	 *
+	 * @param topic
+	 *            the topic
+	 */
+	protected void indexTopic(Topic topic) {
+		for (Construct construct : getCharacteristics(topic)) {
+			index(construct);
+		}
+	}
+
+	/**
+	 * Returns the value of the given construct
+	 *
+	 * @param construct
+	 *            the construct
+	 * @return the value or <code>null</code> if the construct is not a name,
+	 *         occurrence or variant
+	 */
+	protected String getValue(Construct construct) {
+		if (construct instanceof Name) {
+			return ((Name) construct).getValue();
+		} else if (construct instanceof Occurrence) {
+			return ((Occurrence) construct).getValue();
+		} else if (construct instanceof Variant) {
+			return ((Variant) construct).getValue();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns all names, variants and occurrences of the given topic
+	 *
+	 * @param topic
+	 *            the topic
+	 * @return the characteristics
+	 */
+	protected List<Construct> getCharacteristics(Topic topic) {
+		List<Construct> constructs = HashUtil.getList();
+		for (Name name : topic.getNames()) {
+			constructs.add(name);
+			constructs.addAll(name.getVariants());
+		}
+		constructs.addAll(topic.getOccurrences());
+		return constructs;
+	}
+
+	/**
+	 * Removes all content of the index and indexes the values of all
+	 * characteristics of the topic map.
+	 */
+	protected void doReindex() {
+		doClear();
+		for (Topic topic : getTopicMapStore().getTopicMap().getTopics()) {
+			indexTopic(topic);
+		}
+	}
+
+	/**
+	 * Returns the topic containing the given characteristics
+	 *
+	 * @param construct
+	 *            the name, occurrence or variant
+	 * @return the topic
+	 */
+	protected Topic getTopic(Construct construct) {
+		if (construct instanceof Variant) {
+			return ((Variant) construct).getParent().getParent();
+		} else if (construct instanceof Name) {
+			return ((Name) construct).getParent();
+		}
+		return ((Occurrence) construct).getParent();
+	}
+
+	/**
+	 * Adds the terms of the given value for the given characteristics. Existing
+	 * terms of the characteristics are replaced.
+	 *
+	 * @param construct
+	 *            the name, occurrence or variant
+	 * @param value
+	 *            the value
+	 */
+	protected abstract void doIndex(IConstruct construct, String value);
+
+	/**
+	 * Removes the terms of the given characteristics.
+	 *
+	 * @param construct
+	 *            the name, occurrence or variant
+	 */
+	protected abstract void doUnindex(IConstruct construct);
+
+	/**
+	 * Removes the terms of all characteristics of the given removed topic.
+	 *
+	 * @param topic
+	 *            the removed topic
+	 */
+	protected abstract void doUnindexTopic(ITopic topic);
+
+	/**
+	 * Removes all content of the index.
+	 */
+	protected abstract void doClear();
+
+	/**
+	 * Evaluates the given query and returns the scores of all matching
+	 * characteristics, which are not removed.
+	 *
+	 * @param query
+	 *            the query
+	 * @return a map of the matching characteristics to their scores
+	 */
+	protected abstract Map<Construct, Double> doScore(FullTextQuery query);
+}
@@ -0,0 +1,258 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.index.core;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Registry of the dependencies of cached index results. Each cache key is registered for the class of constructs its
+ * result contains and for the objects the result depends on, e.g. the types or themes used as filter. A key without
+ * any dependency depends on each construct of its class. The registry is synchronized, because readers of a
+ * concurrent store register their results in parallel.
+ *
+ * @author Sven Krosse
+ *
+ * @param <K>
+ *            the type of cache keys
+ */
+class CacheDependencies<K> {
+
+	/**
+	 * all keys by class
+	 */
+	private final Map<Class<?>, Set<K>> keysByClass;
+	/**
+	 * the keys without dependencies by class
+	 */
+	private final Map<Class<?>, Set<K>> unboundKeysByClass;
+	/**
+	 * the keys by dependency
+	 */
+	private final Map<Object, Set<K>> keysByDependency;
+	/**
+	 * the class of each key
+	 */
+	private final Map<K, Class<?>> classes;
+	/**
+	 * the dependencies of each key
+	 */
+	private final Map<K, Collection<?>> dependencies;
+
+	/**
+	 * constructor
+	 */
+	CacheDependencies() {
+		keysByClass = HashUtil.getHashMap();
+		unboundKeysByClass = HashUtil.getHashMap();
+		keysByDependency = HashUtil.getHashMap();
+		classes = HashUtil.getHashMap();
+		dependencies = HashUtil.getHashMap();
+	}
+
+	/**
+	 * Registers the given key. A former registration of the key is replaced.
+	 *
+	 * @param clazz
+	 *            the class of constructs the cached result contains
+	 * @param key
+	 *            the key
+	 * @param dependencies
+	 *            the objects the result depends on or <code>null</code> if the result depends on each construct of the
+	 *            class
+	 */
+	synchronized void register(Class<?> clazz, K key, Collection<?> dependencies) {
+		unregister(key);
+		classes.put(key, clazz);
+		add(keysByClass, clazz, key);
+		if (dependencies == null || dependencies.isEmpty()) {
+			add(unboundKeysByClass, clazz, key);
+		} else {
+			this.dependencies.put(key, dependencies);
+			for (Object dependency : dependencies) {
+				add(keysByDependency, dependency, key);
+			}
+		}
+	}
+
+	/**
+	 * Removes the registration of the given key
+	 *
+	 * @param key
+	 *            the key
+	 */
+	synchronized void unregister(K key) {
+		Class<?> clazz = classes.remove(key);
+		if (clazz == null) {
+			return;
+		}
+		remove(keysByClass, clazz, key);
+		Collection<?> dependencies = this.dependencies.remove(key);
+		if (dependencies == null) {
+			remove(unboundKeysByClass, clazz, key);
+		} else {
+			for (Object dependency : dependencies) {
+				remove(keysByDependency, dependency, key);
+			}
+		}
+	}
+
+	/**
+	 * Returns all keys of the given class
+	 *
+	 * @param clazz
+	 *            the class
+	 * @return the keys
+	 */
+	synchronized Set<K> getKeys(Class<?> clazz) {
+		return copy(keysByClass.get(clazz));
+	}
+
+	/**
+	 * Returns the keys of the given class depending on at least one of the given objects or on each construct of the
+	 * class
+	 *
+	 * @param clazz
+	 *            the class
+	 * @param dependencies
+	 *            the objects
+	 * @return the keys
+	 */
+	synchronized Set<K> getKeys(Class<?> clazz, Collection<?> dependencies) {
+		Set<K> keys = copy(unboundKeysByClass.get(clazz));
+		for (Object dependency : dependencies) {
+			Set<K> set = keysByDependency.get(dependency);
+			if (set != null) {
+				for (K key : set) {
+					if (clazz.equals(classes.get(key))) {
+						keys.add(key);
+					}
+				}
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Returns the keys of any class depending on at least one of the given objects
+	 *
+	 * @param dependencies
+	 *            the objects
+	 * @return the keys
+	 */
+	synchronized Set<K> getKeys(Collection<?> dependencies) {
+		Set<K> keys = HashUtil.getHashSet();
+		for (Object dependency : dependencies) {
+			Set<K> set = keysByDependency.get(dependency);
+			if (set != null) {
+				keys.addAll(set);
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Returns the keys of any class depending on each construct of its class
+	 *
+	 * @return the keys
+	 */
+	synchronized Set<K> getUnboundKeys() {
+		Set<K> keys = HashUtil.getHashSet();
+		for (Set<K> set : unboundKeysByClass.values()) {
+			keys.addAll(set);
+		}
+		return keys;
+	}
+
+	/**
+	 * Checks if the given key depends on each construct of its class
+	 *
+	 * @param key
+	 *            the key
+	 * @return <code>true</code> if the key has no dependencies, <code>false</code> otherwise
+	 */
+	synchronized boolean isUnbound(K key) {
+		return classes.containsKey(key) && !dependencies.containsKey(key);
+	}
+
+	/**
+	 * Removes all registrations
+	 */
+	synchronized void clear() {
+		keysByClass.clear();
+		unboundKeysByClass.clear();
+		keysByDependency.clear();
+		classes.clear();
+		dependencies.clear();
+	}
+
+	/**
+	 * Internal method to add a key to the set of the given map
+	 *
+	 * @param map
+	 *            the map
+	 * @param index
+	 *            the index of the set
+	 * @param key
+	 *            the key
+	 */
+	private <I> void add(Map<I, Set<K>> map, I index, K key) {
+		Set<K> set = map.get(index);
+		if (set == null) {
+			set = HashUtil.getHashSet();
+			map.put(index, set);
+		}
+		set.add(key);
+	}
+
+	/**
+	 * Internal method to remove a key from the set of the given map
+	 *
+	 * @param map
+	 *            the map
+	 * @param index
+	 *            the index of the set
+	 * @param key
+	 *            the key
+	 */
+	private <I> void remove(Map<I, Set<K>> map, I index, K key) {
+		Set<K> set = map.get(index);
+		if (set != null) {
+			set.remove(key);
+			if (set.isEmpty()) {
+				map.remove(index);
+			}
+		}
+	}
+
+	/**
+	 * Internal method to copy the given set
+	 *
+	 * @param set
+	 *            the set or <code>null</code>
+	 * @return the copy
+	 */
+	private Set<K> copy(Set<K> set) {
+		if (set == null) {
+			return HashUtil.getHashSet();
+		}
+		return HashUtil.getHashSet(set);
+	}
+
+}
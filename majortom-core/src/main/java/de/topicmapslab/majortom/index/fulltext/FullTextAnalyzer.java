@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.index.fulltext;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Utility class splitting values into the normalized terms of the full-text
+ * index. A term is a maximal sequence of letters and digits, which is converted
+ * to lower case and stripped of all diacritical marks.
+ *
+ * @author Sven Krosse
+ *
+ */
+public final class FullTextAnalyzer {
+
+	/**
+	 * the maximum length of a term, longer terms are truncated
+	 */
+	public static final int MAX_TERM_LENGTH = 128;
+
+	/**
+	 * pattern matching the combining diacritical marks of a decomposed value
+	 */
+	private static final Pattern DIACRITICS = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+
+	/**
+	 * hidden constructor
+	 */
+	private FullTextAnalyzer() {
+		// NOTHING TO DO
+	}
+
+	/**
+	 * Splits the given value into its normalized terms. The index of a term in
+	 * the returned list is its position within the value.
+	 *
+	 * @param value
+	 *            the value
+	 * @return the terms of the value, which is empty if the value is
+	 *         <code>null</code> or does not contain any letter or digit
+	 */
+	public static List<String> tokenize(String value) {
+		List<String> terms = HashUtil.getList();
+		if (value == null) {
+			return terms;
+		}
+		String normalized = normalize(value);
+		int start = -1;
+		for (int i = 0; i <= normalized.length(); i++) {
+			boolean part = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+			if (part && start == -1) {
+				start = i;
+			} else if (!part && start != -1) {
+				terms.add(normalized.substring(start, Math.min(i, start + MAX_TERM_LENGTH)));
+				start = -1;
+			}
+		}
+		return terms;
+	}
+
+	/**
+	 * Normalizes the given value by removing all diacritical marks and
+	 * converting it to lower case.
+	 *
+	 * @param value
+	 *            the value
+	 * @return the normalized value
+	 */
+	public static String normalize(String value) {
+		String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+		return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ENGLISH);
+	}
+}
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.index.fulltext;
+
+import java.util.Collections;
+import java.util.List;
+
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * A parsed full-text query. The query consists of a list of clauses, each
+ * matching a sequence of terms at consecutive positions. The last term of a
+ * clause may be a prefix.
+ *
+ * @author Sven Krosse
+ *
+ */
+public class FullTextQuery {
+
+	/**
+	 * the occurrence of a clause in the matching values
+	 */
+	public enum Occur {
+		/**
+		 * the clause has to match
+		 */
+		MUST,
+		/**
+		 * the clause may match
+		 */
+		SHOULD,
+		/**
+		 * the clause must not match
+		 */
+		MUST_NOT
+	}
+
+	/**
+	 * A single clause of a full-text query
+	 */
+	public static class Clause {
+
+		/**
+		 * the occurrence of the clause
+		 */
+		private final Occur occur;
+		/**
+		 * the terms of the clause
+		 */
+		private final String[] terms;
+		/**
+		 * flag indicating if the last term is a prefix
+		 */
+		private final boolean prefix;
+
+		/**
+		 * constructor
+		 *
+		 * @param occur
+		 *            the occurrence of the clause
+		 * @param terms
+		 *            the normalized terms
+		 * @param prefix
+		 *            flag indicating if the last term is a prefix
+		 */
+		public Clause(Occur occur, String[] terms, boolean prefix) {
+			this.occur = occur;
+			this.terms = terms;
+			this.prefix = prefix;
+		}
+
+		/**
+		 * Returns the occurrence of the clause
+		 *
+		 * @return the occurrence
+		 */
+		public Occur getOccur() {
+			return occur;
+		}
+
+		/**
+		 * Returns the normalized terms of the clause
+		 *
+		 * @return the terms
+		 */
+		public String[] getTerms() {
+			return terms;
+		}
+
+		/**
+		 * Returns <code>true</code> if the last term of the clause is a prefix
+		 *
+		 * @return <code>true</code> if the last term is a prefix,
+		 *         <code>false</code> otherwise
+		 */
+		public boolean isPrefix() {
+			return prefix;
+		}
+
+		/**
+		 * Returns <code>true</code> if the clause is a phrase of more than one
+		 * term
+		 *
+		 * @return <code>true</code> if the clause is a phrase,
+		 *         <code>false</code> otherwise
+		 */
+		public boolean isPhrase() {
+			return terms.length > 1;
+		}
+	}
+
+	/**
+	 * the clauses of the query
+	 */
+	private final List<Clause> clauses;
+
+	/**
+	 * constructor
+	 *
+	 * @param clauses
+	 *            the clauses of the query
+	 */
+	public FullTextQuery(List<Clause> clauses) {
+		this.clauses = Collections.unmodifiableList(clauses);
+	}
+
+	/**
+	 * Returns the clauses of the query
+	 *
+	 * @return the clauses
+	 */
+	public List<Clause> getClauses() {
+		return clauses;
+	}
+
+	/**
+	 * Returns <code>true</code> if the query does not contain any clause
+	 *
+	 * @return <code>true</code> if the query is empty, <code>false</code>
+	 *         otherwise
+	 */
+	public boolean isEmpty() {
+		return clauses.isEmpty();
+	}
+
+	/**
+	 * Parses the given query string. Words are separated by white-spaces, a
+	 * phrase is enclosed in double quotes and a word or phrase ending with an
+	 * asterisk is a prefix. A leading <code>+</code> or the keyword
+	 * <code>AND</code> marks a required clause, a leading <code>-</code> or
+	 * the keyword <code>NOT</code> a prohibited clause. The keyword
+	 * <code>AND</code> also makes the preceding clause required.
+	 *
+	 * @param query
+	 *            the query string
+	 * @return the parsed query
+	 */
+	public static FullTextQuery parse(String query) {
+		List<Clause> clauses = HashUtil.getList();
+		if (query == null) {
+			return new FullTextQuery(clauses);
+		}
+		Occur next = null;
+		int i = 0;
+		final int length = query.length();
+		while (i < length) {
+			char c = query.charAt(i);
+			if (Character.isWhitespace(c)) {
+				i++;
+				continue;
+			}
+			Occur occur = next;
+			if (c == '+' || c == '-') {
+				occur = c == '+' ? Occur.MUST : Occur.MUST_NOT;
+				if (++i == length) {
+					break;
+				}
+				c = query.charAt(i);
+			}
+			String text;
+			if (c == '"') {
+				int end = query.indexOf('"', i + 1);
+				if (end == -1) {
+					end = length;
+				}
+				text = query.substring(i + 1, end);
+				i = end + 1;
+			} else {
+				int end = i;
+				while (end < length && !Character.isWhitespace(query.charAt(end))) {
+					end++;
+				}
+				text = query.substring(i, end);
+				i = end;
+				/*
+				 * keywords are only recognized without a leading operator
+				 */
+				if (occur == null && "AND".equals(text)) {
+					int last = clauses.size() - 1;
+					if (last >= 0 && clauses.get(last).getOccur() == Occur.SHOULD) {
+						Clause clause = clauses.get(last);
+						clauses.set(last, new Clause(Occur.MUST, clause.getTerms(), clause.isPrefix()));
+					}
+					next = Occur.MUST;
+					continue;
+				} else if (occur == null && "OR".equals(text)) {
+					next = null;
+					continue;
+				} else if (occur == null && "NOT".equals(text)) {
+					next = Occur.MUST_NOT;
+					continue;
+				}
+			}
+			next = null;
+			List<String> terms = FullTextAnalyzer.tokenize(text);
+			if (terms.isEmpty()) {
+				continue;
+			}
+			String trimmed = text.trim();
+			boolean prefix = trimmed.length() > 1 && trimmed.charAt(trimmed.length() - 1) == '*'
+					&& Character.isLetterOrDigit(trimmed.charAt(trimmed.length() - 2));
+			clauses.add(new Clause(occur == null ? Occur.SHOULD : occur, terms.toArray(new String[terms.size()]), prefix));
+		}
+		return new FullTextQuery(clauses);
+	}
+}
@@ -0,0 +1,339 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.index.fulltext;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import de.topicmapslab.majortom.index.fulltext.FullTextQuery.Clause;
+import de.topicmapslab.majortom.index.fulltext.FullTextQuery.Occur;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Base class of the evaluation of full-text queries. The searcher matches the
+ * clauses of a query against the postings of the underlying index and ranks the
+ * matching documents by the Okapi BM25 function.
+ *
+ * @author Sven Krosse
+ *
+ * @param <T>
+ *            the type of the indexed documents
+ */
+public abstract class FullTextSearcher<T> {
+
+	/**
+	 * the BM25 parameter controlling the saturation of the term frequency
+	 */
+	public static final double K1 = 1.2;
+	/**
+	 * the BM25 parameter controlling the normalization by the document length
+	 */
+	public static final double B = 0.75;
+	/**
+	 * the maximum number of terms a prefix is expanded to
+	 */
+	public static final int MAX_EXPANSIONS = 1024;
+
+	/**
+	 * Returns the number of indexed documents
+	 *
+	 * @return the number of documents
+	 */
+	protected abstract int getDocumentCount();
+
+	/**
+	 * Returns the average number of terms of the indexed documents
+	 *
+	 * @return the average length
+	 */
+	protected abstract double getAverageLength();
+
+	/**
+	 * Returns the number of terms of the given document
+	 *
+	 * @param document
+	 *            the document
+	 * @return the length of the document
+	 */
+	protected abstract int getLength(T document);
+
+	/**
+	 * Returns the positions of the given term within all documents containing
+	 * it.
+	 *
+	 * @param term
+	 *            the normalized term
+	 * @return a new map of all documents containing the term to the ascending
+	 *         positions of the term, which may be modified by the caller
+	 */
+	protected abstract Map<T, int[]> getPositions(String term);
+
+	/**
+	 * Returns the known terms starting with the given prefix.
+	 *
+	 * @param prefix
+	 *            the normalized prefix
+	 * @param max
+	 *            the maximum number of returned terms
+	 * @return the terms
+	 */
+	protected abstract Collection<String> getTerms(String prefix, int max);
+
+	/**
+	 * Returns all documents matching the given query ordered by their score.
+	 *
+	 * @param query
+	 *            the query
+	 * @return the matching documents, the best first
+	 */
+	public List<T> search(FullTextQuery query) {
+		return rank(score(query));
+	}
+
+	/**
+	 * Evaluates the given query and returns the score of each matching
+	 * document. Documents matching a required clause are returned only if they
+	 * match all required clauses, optional clauses are only added to the score
+	 * of these documents. If the query does not contain a required clause, each
+	 * document matching an optional clause is returned. Documents matching a
+	 * prohibited clause are never returned.
+	 *
+	 * @param query
+	 *            the query
+	 * @return a map of the matching documents to their scores
+	 */
+	public Map<T, Double> score(FullTextQuery query) {
+		Map<T, Double> scores = null;
+		for (Clause clause : query.getClauses()) {
+			if (clause.getOccur() == Occur.MUST) {
+				Map<T, Double> matches = score(clause);
+				if (scores == null) {
+					scores = matches;
+				} else {
+					for (Iterator<Entry<T, Double>> iterator = scores.entrySet().iterator(); iterator.hasNext();) {
+						Entry<T, Double> entry = iterator.next();
+						Double score = matches.get(entry.getKey());
+						if (score == null) {
+							iterator.remove();
+						} else {
+							entry.setValue(entry.getValue() + score);
+						}
+					}
+				}
+				if (scores.isEmpty()) {
+					return scores;
+				}
+			}
+		}
+		boolean required = scores != null;
+		if (!required) {
+			scores = new LinkedHashMap<T, Double>();
+		}
+		for (Clause clause : query.getClauses()) {
+			if (clause.getOccur() == Occur.SHOULD) {
+				for (Entry<T, Double> entry : score(clause).entrySet()) {
+					Double score = scores.get(entry.getKey());
+					if (score != null) {
+						scores.put(entry.getKey(), score + entry.getValue());
+					} else if (!required) {
+						scores.put(entry.getKey(), entry.getValue());
+					}
+				}
+			}
+		}
+		for (Clause clause : query.getClauses()) {
+			if (clause.getOccur() == Occur.MUST_NOT && !scores.isEmpty()) {
+				scores.keySet().removeAll(match(clause).keySet());
+			}
+		}
+		return scores;
+	}
+
+	/**
+	 * Orders the given documents by their descending score. Documents with the
+	 * same score keep the order of the map.
+	 *
+	 * @param <X>
+	 *            the type of the documents
+	 * @param scores
+	 *            the scores of the documents
+	 * @return the ordered documents
+	 */
+	public static <X> List<X> rank(Map<X, Double> scores) {
+		List<Entry<X, Double>> entries = HashUtil.getList(scores.entrySet());
+		Collections.sort(entries, new Comparator<Entry<X, Double>>() {
+			public int compare(Entry<X, Double> o1, Entry<X, Double> o2) {
+				return o2.getValue().compareTo(o1.getValue());
+			}
+		});
+		List<X> list = HashUtil.getList();
+		for (Entry<X, Double> entry : entries) {
+			list.add(entry.getKey());
+		}
+		return list;
+	}
+
+	/**
+	 * Calculates the BM25 score of all documents matching the given clause. The
+	 * weight of a phrase is the sum of the inverse document frequencies of its
+	 * terms.
+	 *
+	 * @param clause
+	 *            the clause
+	 * @return a map of the matching documents to their scores
+	 */
+	protected Map<T, Double> score(Clause clause) {
+		List<Map<T, int[]>> positions = getPositions(clause);
+		Map<T, Integer> frequencies = match(positions);
+		Map<T, Double> scores = new LinkedHashMap<T, Double>();
+		if (frequencies.isEmpty()) {
+			return scores;
+		}
+		final int count = getDocumentCount();
+		double weight = 0;
+		for (Map<T, int[]> p : positions) {
+			weight += idf(count, p.size());
+		}
+		final double average = Math.max(getAverageLength(), 1);
+		for (Entry<T, Integer> entry : frequencies.entrySet()) {
+			double tf = entry.getValue();
+			double norm = K1 * (1 - B + B * getLength(entry.getKey()) / average);
+			scores.put(entry.getKey(), weight * tf * (K1 + 1) / (tf + norm));
+		}
+		return scores;
+	}
+
+	/**
+	 * Returns the inverse document frequency of a term
+	 *
+	 * @param count
+	 *            the number of documents
+	 * @param frequency
+	 *            the number of documents containing the term
+	 * @return the inverse document frequency
+	 */
+	protected double idf(int count, int frequency) {
+		return Math.log(1 + (count - frequency + 0.5) / (frequency + 0.5));
+	}
+
+	/**
+	 * Returns all documents matching the given clause.
+	 *
+	 * @param clause
+	 *            the clause
+	 * @return a map of the matching documents to the number of matches
+	 */
+	protected Map<T, Integer> match(Clause clause) {
+		return match(getPositions(clause));
+	}
+
+	/**
+	 * Returns the positions of each term of the given clause. The positions of
+	 * a prefix are the merged positions of all terms starting with the prefix.
+	 *
+	 * @param clause
+	 *            the clause
+	 * @return the positions of the terms in the order of the clause
+	 */
+	protected List<Map<T, int[]>> getPositions(Clause clause) {
+		String[] terms = clause.getTerms();
+		List<Map<T, int[]>> positions = HashUtil.getList();
+		for (int i = 0; i < terms.length; i++) {
+			if (i == terms.length - 1 && clause.isPrefix()) {
+				positions.add(getPrefixPositions(terms[i]));
+			} else {
+				positions.add(getPositions(terms[i]));
+			}
+			if (positions.get(i).isEmpty()) {
+				break;
+			}
+		}
+		return positions;
+	}
+
+	/**
+	 * Returns the merged positions of all terms starting with the given prefix.
+	 *
+	 * @param prefix
+	 *            the prefix
+	 * @return a map of all documents containing a term with the given prefix to
+	 *         the ascending positions of these terms
+	 */
+	protected Map<T, int[]> getPrefixPositions(String prefix) {
+		Map<T, int[]> merged = null;
+		for (String term : getTerms(prefix, MAX_EXPANSIONS)) {
+			Map<T, int[]> positions = getPositions(term);
+			if (merged == null) {
+				merged = positions;
+				continue;
+			}
+			for (Entry<T, int[]> entry : positions.entrySet()) {
+				int[] other = merged.get(entry.getKey());
+				if (other == null) {
+					merged.put(entry.getKey(), entry.getValue());
+				} else {
+					int[] p = new int[other.length + entry.getValue().length];
+					System.arraycopy(other, 0, p, 0, other.length);
+					System.arraycopy(entry.getValue(), 0, p, other.length, entry.getValue().length);
+					Arrays.sort(p);
+					merged.put(entry.getKey(), p);
+				}
+			}
+		}
+		if (merged == null) {
+			return new LinkedHashMap<T, int[]>();
+		}
+		return merged;
+	}
+
+	/**
+	 * Returns all documents containing the terms at consecutive positions.
+	 *
+	 * @param positions
+	 *            the positions of each term
+	 * @return a map of the matching documents to the number of matches
+	 */
+	protected Map<T, Integer> match(List<Map<T, int[]>> positions) {
+		Map<T, Integer> frequencies = new LinkedHashMap<T, Integer>();
+		if (positions.isEmpty() || positions.get(positions.size() - 1).isEmpty()) {
+			return frequencies;
+		}
+		for (Entry<T, int[]> entry : positions.get(0).entrySet()) {
+			int count = 0;
+			for (int position : entry.getValue()) {
+				boolean match = true;
+				for (int i = 1; i < positions.size() && match; i++) {
+					int[] p = positions.get(i).get(entry.getKey());
+					match = p != null && Arrays.binarySearch(p, position + i) >= 0;
+				}
+				if (match) {
+					count++;
+				}
+			}
+			if (count > 0) {
+				frequencies.put(entry.getKey(), count);
+			}
+		}
+		return frequencies;
+	}
+}
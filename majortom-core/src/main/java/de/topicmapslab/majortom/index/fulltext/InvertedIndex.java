@@ -0,0 +1,332 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.index.fulltext;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * In-memory inverted index of the full-text search. Each indexed document gets
+ * an internal number, which increases with each added document. The postings
+ * of a term are stored as a primitive array of long values, each containing the
+ * number of the document in the upper and the position of the term in the lower
+ * 32 bits. Because the numbers are increasing, adding a document only appends
+ * to the postings and the arrays are always sorted. Removed documents are only
+ * marked as deleted and dropped from the postings if more than half of the
+ * numbers are deleted.
+ *
+ * @author Sven Krosse
+ *
+ * @param <T>
+ *            the type of the indexed documents
+ */
+public class InvertedIndex<T> extends FullTextSearcher<T> {
+
+	/**
+	 * the initial capacity of the document arrays
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/**
+	 * The postings of a single term
+	 */
+	static class Postings {
+
+		/**
+		 * the packed document numbers and positions
+		 */
+		private long[] entries = new long[2];
+		/**
+		 * the number of used entries
+		 */
+		private int size;
+
+		/**
+		 * Appends a posting
+		 *
+		 * @param document
+		 *            the number of the document
+		 * @param position
+		 *            the position of the term
+		 */
+		void add(int document, int position) {
+			if (size == entries.length) {
+				entries = Arrays.copyOf(entries, size + (size >> 1) + 1);
+			}
+			entries[size++] = ((long) document << 32) | position;
+		}
+	}
+
+	/**
+	 * the postings of each term in lexicographical order
+	 */
+	private final TreeMap<String, Postings> postings = new TreeMap<String, Postings>();
+	/**
+	 * the internal number of each document
+	 */
+	private final Map<T, Integer> numbers = HashUtil.getHashMap();
+	/**
+	 * the documents by their numbers
+	 */
+	private Object[] documents = new Object[INITIAL_CAPACITY];
+	/**
+	 * the lengths of the documents by their numbers
+	 */
+	private int[] lengths = new int[INITIAL_CAPACITY];
+	/**
+	 * the numbers of the removed documents
+	 */
+	private BitSet removed = new BitSet();
+	/**
+	 * the number of removed documents
+	 */
+	private int removedCount;
+	/**
+	 * the next free document number
+	 */
+	private int next;
+	/**
+	 * the sum of the lengths of all documents
+	 */
+	private long totalLength;
+
+	/**
+	 * Adds the given document with the terms of the given value. If the
+	 * document is already contained, its terms are replaced.
+	 *
+	 * @param document
+	 *            the document
+	 * @param value
+	 *            the value
+	 */
+	public synchronized void add(T document, String value) {
+		remove(document);
+		List<String> terms = FullTextAnalyzer.tokenize(value);
+		if (terms.isEmpty()) {
+			return;
+		}
+		if (next == documents.length) {
+			documents = Arrays.copyOf(documents, next * 2);
+			lengths = Arrays.copyOf(lengths, next * 2);
+		}
+		final int number = next++;
+		documents[number] = document;
+		lengths[number] = terms.size();
+		numbers.put(document, number);
+		totalLength += terms.size();
+		for (int position = 0; position < terms.size(); position++) {
+			Postings p = postings.get(terms.get(position));
+			if (p == null) {
+				p = new Postings();
+				postings.put(terms.get(position), p);
+			}
+			p.add(number, position);
+		}
+	}
+
+	/**
+	 * Removes the given document.
+	 *
+	 * @param document
+	 *            the document
+	 * @return <code>true</code> if the document was contained,
+	 *         <code>false</code> otherwise
+	 */
+	public synchronized boolean remove(T document) {
+		Integer number = numbers.remove(document);
+		if (number == null) {
+			return false;
+		}
+		removed.set(number);
+		removedCount++;
+		documents[number] = null;
+		totalLength -= lengths[number];
+		if (removedCount > numbers.size()) {
+			compact();
+		}
+		return true;
+	}
+
+	/**
+	 * Returns <code>true</code> if the given document is indexed.
+	 *
+	 * @param document
+	 *            the document
+	 * @return <code>true</code> if the document is indexed, <code>false</code>
+	 *         otherwise
+	 */
+	public synchronized boolean contains(T document) {
+		return numbers.containsKey(document);
+	}
+
+	/**
+	 * Returns the number of indexed documents.
+	 *
+	 * @return the number of documents
+	 */
+	public synchronized int size() {
+		return numbers.size();
+	}
+
+	/**
+	 * Removes all documents.
+	 */
+	public synchronized void clear() {
+		postings.clear();
+		numbers.clear();
+		documents = new Object[INITIAL_CAPACITY];
+		lengths = new int[INITIAL_CAPACITY];
+		removed = new BitSet();
+		removedCount = 0;
+		next = 0;
+		totalLength = 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized Map<T, Double> score(FullTextQuery query) {
+		return super.score(query);
+	}
+
+	/**
+	 * Drops the removed documents from the postings and renumbers the remaining
+	 * documents, keeping their order.
+	 */
+	private void compact() {
+		int[] mapping = new int[next];
+		int count = 0;
+		for (int i = 0; i < next; i++) {
+			if (removed.get(i)) {
+				mapping[i] = -1;
+			} else {
+				mapping[i] = count;
+				documents[count] = documents[i];
+				lengths[count] = lengths[i];
+				numbers.put(document(count), count);
+				count++;
+			}
+		}
+		Arrays.fill(documents, count, next, null);
+		for (Iterator<Postings> iterator = postings.values().iterator(); iterator.hasNext();) {
+			Postings p = iterator.next();
+			int size = 0;
+			for (int i = 0; i < p.size; i++) {
+				int number = mapping[(int) (p.entries[i] >>> 32)];
+				if (number != -1) {
+					p.entries[size++] = ((long) number << 32) | (p.entries[i] & 0xFFFFFFFFL);
+				}
+			}
+			if (size == 0) {
+				iterator.remove();
+			} else {
+				p.size = size;
+				if (size < p.entries.length >> 1) {
+					p.entries = Arrays.copyOf(p.entries, size);
+				}
+			}
+		}
+		removed = new BitSet();
+		removedCount = 0;
+		next = count;
+	}
+
+	/**
+	 * Returns the document with the given number
+	 *
+	 * @param number
+	 *            the number
+	 * @return the document
+	 */
+	@SuppressWarnings("unchecked")
+	private T document(int number) {
+		return (T) documents[number];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected int getDocumentCount() {
+		return numbers.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected double getAverageLength() {
+		if (numbers.isEmpty()) {
+			return 0;
+		}
+		return totalLength / (double) numbers.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected int getLength(T document) {
+		return lengths[numbers.get(document)];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected Map<T, int[]> getPositions(String term) {
+		Map<T, int[]> positions = new LinkedHashMap<T, int[]>();
+		Postings p = postings.get(term);
+		if (p == null) {
+			return positions;
+		}
+		int i = 0;
+		while (i < p.size) {
+			int number = (int) (p.entries[i] >>> 32);
+			int end = i + 1;
+			while (end < p.size && (int) (p.entries[end] >>> 32) == number) {
+				end++;
+			}
+			if (!removed.get(number)) {
+				int[] array = new int[end - i];
+				for (int j = i; j < end; j++) {
+					array[j - i] = (int) p.entries[j];
+				}
+				positions.put(document(number), array);
+			}
+			i = end;
+		}
+		return positions;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected Collection<String> getTerms(String prefix, int max) {
+		List<String> terms = HashUtil.getList();
+		for (String term : postings.tailMap(prefix).keySet()) {
+			if (!term.startsWith(prefix) || terms.size() == max) {
+				break;
+			}
+			terms.add(term);
+		}
+		return terms;
+	}
+}
@@ -16,8 +16,10 @@
 package de.topicmapslab.majortom.index.nonpaged;
 
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import org.tmapi.core.Locator;
@@ -26,6 +28,7 @@ import org.tmapi.core.Occurrence;
 import org.tmapi.core.TMAPIRuntimeException;
 import org.tmapi.core.Variant;
 
+import de.topicmapslab.geotype.wgs84.Wgs84Circuit;
 import de.topicmapslab.geotype.wgs84.Wgs84Coordinate;
 import de.topicmapslab.majortom.index.core.BaseCachedLiteralIndexImpl;
 import de.topicmapslab.majortom.model.core.ICharacteristics;
@@ -272,6 +275,81 @@ public abstract class CachedLiteralIndexImpl<X extends ITopicMapStore> extends B
 		return results;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getCoordinates(Wgs84Circuit area) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (area == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetCoordinates(area);
+		}
+		Collection<ICharacteristics> results = read(Wgs84Circuit.class, area, null);
+		if (results == null) {
+			results = doGetCoordinates(area);
+			cache(Wgs84Circuit.class, area, null, results);
+		}
+		return results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getCoordinatesInBoundingBox(Wgs84Coordinate southWest, Wgs84Coordinate northEast) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (southWest == null || northEast == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetCoordinatesInBoundingBox(southWest, northEast);
+		}
+		Collection<ICharacteristics> results = read(Wgs84Coordinate.class, Arrays.asList(southWest, northEast), null);
+		if (results == null) {
+			results = doGetCoordinatesInBoundingBox(southWest, northEast);
+			cache(Wgs84Coordinate.class, Arrays.asList(southWest, northEast), null, results);
+		}
+		return results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getNearestCoordinates(Wgs84Coordinate value, int count) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (value == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (count < 0) {
+			throw new IllegalArgumentException("Count cannot be negative.");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetNearestCoordinates(value, count);
+		}
+		Collection<ICharacteristics> results = read(List.class, value, count);
+		if (results == null) {
+			results = doGetNearestCoordinates(value, count);
+			cache(List.class, value, count, results);
+		}
+		return (List<ICharacteristics>) results;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -347,6 +425,30 @@ public abstract class CachedLiteralIndexImpl<X extends ITopicMapStore> extends B
 		return results;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getDateTimeBetween(Calendar lower, Calendar upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if ( lower == null || upper == null ){
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetDateTimeBetween(lower, upper);
+		}
+		Collection<ICharacteristics> results = read(Calendar.class, Arrays.asList(lower, upper), null);
+		if (results == null) {
+			results = doGetDateTimeBetween(lower, upper);
+			cache(Calendar.class, Arrays.asList(lower, upper), null, results);
+		}
+		return results;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -389,6 +491,27 @@ public abstract class CachedLiteralIndexImpl<X extends ITopicMapStore> extends B
 		return results;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getDoublesBetween(double lower, double upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetDoublesBetween(lower, upper);
+		}
+		Collection<ICharacteristics> results = read(Double.class, Arrays.asList(lower, upper), null);
+		if (results == null) {
+			results = doGetDoublesBetween(lower, upper);
+			cache(Double.class, Arrays.asList(lower, upper), null, results);
+		}
+		return results;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -431,6 +554,27 @@ public abstract class CachedLiteralIndexImpl<X extends ITopicMapStore> extends B
 		return results;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getFloatsBetween(float lower, float upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetFloatsBetween(lower, upper);
+		}
+		Collection<ICharacteristics> results = read(Float.class, Arrays.asList(lower, upper), null);
+		if (results == null) {
+			results = doGetFloatsBetween(lower, upper);
+			cache(Float.class, Arrays.asList(lower, upper), null, results);
+		}
+		return results;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -473,6 +617,27 @@ public abstract class CachedLiteralIndexImpl<X extends ITopicMapStore> extends B
 		return results;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getIntegersBetween(int lower, int upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetIntegersBetween(lower, upper);
+		}
+		Collection<ICharacteristics> results = read(Integer.class, Arrays.asList(lower, upper), null);
+		if (results == null) {
+			results = doGetIntegersBetween(lower, upper);
+			cache(Integer.class, Arrays.asList(lower, upper), null, results);
+		}
+		return results;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -515,6 +680,27 @@ public abstract class CachedLiteralIndexImpl<X extends ITopicMapStore> extends B
 		return results;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getLongsBetween(long lower, long upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetLongsBetween(lower, upper);
+		}
+		Collection<ICharacteristics> results = read(Long.class, Arrays.asList(lower, upper), null);
+		if (results == null) {
+			results = doGetLongsBetween(lower, upper);
+			cache(Long.class, Arrays.asList(lower, upper), null, results);
+		}
+		return results;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -874,6 +1060,18 @@ public abstract class CachedLiteralIndexImpl<X extends ITopicMapStore> extends B
 	 */
 	protected abstract Collection<ICharacteristics> doGetLongs(long value);
 
+	/**
+	 * Returns all characteristics with the datatype xsd:integer and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @return the characteristics
+	 */
+	protected abstract Collection<ICharacteristics> doGetIntegersBetween(int lower, int upper);
+
 	/**
 	 * Returns all characteristics with the datatype xsd:long and a value
 	 * contained by the given range [value - deviance, value + deviance].
@@ -898,6 +1096,18 @@ public abstract class CachedLiteralIndexImpl<X extends ITopicMapStore> extends B
 	 */
 	protected abstract Collection<ICharacteristics> doGetFloats(float value);
 
+	/**
+	 * Returns all characteristics with the datatype xsd:long and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @return the characteristics
+	 */
+	protected abstract Collection<ICharacteristics> doGetLongsBetween(long lower, long upper);
+
 	/**
 	 * Returns all characteristics with the datatype xsd:float and a value
 	 * contained by the given range [value - deviance, value + deviance].
@@ -920,6 +1130,18 @@ public abstract class CachedLiteralIndexImpl<X extends ITopicMapStore> extends B
 	 */
 	protected abstract Collection<ICharacteristics> doGetDoubles(double value);
 
+	/**
+	 * Returns all characteristics with the datatype xsd:float and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @return the characteristics
+	 */
+	protected abstract Collection<ICharacteristics> doGetFloatsBetween(float lower, float upper);
+
 	/**
 	 * Returns all characteristics with the datatype xsd:double and a value
 	 * contained by the given range [value - deviance, value + deviance].
@@ -943,6 +1165,18 @@ public abstract class CachedLiteralIndexImpl<X extends ITopicMapStore> extends B
 	 */
 	protected abstract Collection<ICharacteristics> doGetDateTime(Calendar value);
 
+	/**
+	 * Returns all characteristics with the datatype xsd:double and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @return the characteristics
+	 */
+	protected abstract Collection<ICharacteristics> doGetDoublesBetween(double lower, double upper);
+
 	/**
 	 * Returns all characteristics with the datatype xsd:time and with a time
 	 * value which has a difference from the given value lower or equals than
@@ -972,6 +1206,18 @@ public abstract class CachedLiteralIndexImpl<X extends ITopicMapStore> extends B
 	 */
 	protected abstract Collection<ICharacteristics> doGetBooleans(boolean value);
 
+	/**
+	 * Returns all characteristics with the datatype xsd:dateTime or xsd:date and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @return the characteristics
+	 */
+	protected abstract Collection<ICharacteristics> doGetDateTimeBetween(Calendar lower, Calendar upper);
+
 	/**
 	 * Returns all characteristics with the given value and the datatype tm:geo.
 	 * 
@@ -1006,6 +1252,40 @@ public abstract class CachedLiteralIndexImpl<X extends ITopicMapStore> extends B
 	 */
 	protected abstract Collection<IDatatypeAware> doGetDatatypeAwares(Locator dataType);
 
+	/**
+	 * Returns all characteristics with the datatype tm:geo and a geographical
+	 * coordinate contained by the given area.
+	 * 
+	 * @param area
+	 *            the area
+	 * @return the characteristics
+	 */
+	protected abstract Collection<ICharacteristics> doGetCoordinates(Wgs84Circuit area);
+
+	/**
+	 * Returns all characteristics with the datatype tm:geo and a geographical
+	 * coordinate located within the bounding box spanned by the given corners.
+	 * 
+	 * @param southWest
+	 *            the south-west corner
+	 * @param northEast
+	 *            the north-east corner
+	 * @return the characteristics
+	 */
+	protected abstract Collection<ICharacteristics> doGetCoordinatesInBoundingBox(Wgs84Coordinate southWest, Wgs84Coordinate northEast);
+
+	/**
+	 * Returns the characteristics with the datatype tm:geo and a geographical
+	 * coordinate nearest to the given one, ordered by their distance.
+	 * 
+	 * @param value
+	 *            the coordinate
+	 * @param count
+	 *            the maximum number of characteristics
+	 * @return the characteristics
+	 */
+	protected abstract List<ICharacteristics> doGetNearestCoordinates(Wgs84Coordinate value, int count);
+
 	/**
 	 * Return all names contained by the current topic map.
 	 * 
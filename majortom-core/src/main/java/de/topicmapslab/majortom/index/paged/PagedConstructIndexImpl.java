@@ -21,6 +21,8 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.tmapi.core.Association;
 import org.tmapi.core.Construct;
@@ -65,9 +67,12 @@ public abstract class PagedConstructIndexImpl<T extends ITopicMapStore> extends
 		TOPIC
 	}
 
-	private Map<ConstructCacheKey, Long> cachedNumbersOfChildren;
-	private Map<ConstructCacheKey, List<? extends Construct>> cachedConstructs;
-	private Map<Object, Set<ConstructCacheKey>> dependentKeys;
+	/**
+	 * the internal caches, filled concurrently by readers sharing the read lock of the store
+	 */
+	private final Map<ConstructCacheKey, Long> cachedNumbersOfChildren = new ConcurrentHashMap<ConstructCacheKey, Long>();
+	private final Map<ConstructCacheKey, List<? extends Construct>> cachedConstructs = new ConcurrentHashMap<ConstructCacheKey, List<? extends Construct>>();
+	private final ConcurrentMap<Object, Set<ConstructCacheKey>> dependentKeys = new ConcurrentHashMap<Object, Set<ConstructCacheKey>>();
 
 	/**
 	 * @param store
@@ -818,12 +823,6 @@ public abstract class PagedConstructIndexImpl<T extends ITopicMapStore> extends
 	 * @return dependent constructs from cache
 	 */
 	protected final Long readNumberOfConstructs(Type type, Construct context) {
-		/*
-		 * check main cache
-		 */
-		if (cachedNumbersOfChildren == null) {
-			return null;
-		}
 		/*
 		 * get constructs by key
 		 */
@@ -842,12 +841,6 @@ public abstract class PagedConstructIndexImpl<T extends ITopicMapStore> extends
 	 * @return dependent constructs from cache
 	 */
 	protected final void cacheNumberOfConstructs(Type type, Construct context, Long noc) {
-		/*
-		 * check main cache
-		 */
-		if (cachedNumbersOfChildren == null) {
-			cachedNumbersOfChildren = HashUtil.getHashMap();
-		}
 		/*
 		 * add to internal cache
 		 */
@@ -894,12 +887,6 @@ public abstract class PagedConstructIndexImpl<T extends ITopicMapStore> extends
 	 */
 	@SuppressWarnings("unchecked")
 	protected final <X extends Construct> List<X> readConstructs(Type type, Construct context, Integer offset, Integer limit, Comparator<?> comparator) {
-		/*
-		 * check main cache
-		 */
-		if (cachedConstructs == null) {
-			return null;
-		}
 		/*
 		 * get constructs by key
 		 */
@@ -947,12 +934,6 @@ public abstract class PagedConstructIndexImpl<T extends ITopicMapStore> extends
 	 *            the values to store
 	 */
 	protected final <X extends Construct> void cacheConstructs(Type type, Construct context, Integer offset, Integer limit, Comparator<X> comparator, List<X> values) {
-		/*
-		 * initialize cache
-		 */
-		if (cachedConstructs == null) {
-			cachedConstructs = HashUtil.getHashMap();
-		}
 		/*
 		 * add to internal cache
 		 */
@@ -1034,12 +1015,8 @@ public abstract class PagedConstructIndexImpl<T extends ITopicMapStore> extends
 		 * clear cache for dependent keys
 		 */
 		for (ConstructCacheKey key : keys) {
-			if (cachedNumbersOfChildren != null) {
-				cachedNumbersOfChildren.remove(key);
-			}
-			if (cachedConstructs != null) {
-				cachedConstructs.remove(key);
-			}
+			cachedNumbersOfChildren.remove(key);
+			cachedConstructs.remove(key);
 		}
 	}
 
@@ -1047,15 +1024,9 @@ public abstract class PagedConstructIndexImpl<T extends ITopicMapStore> extends
 	 * Internal method to clear the cache
 	 */
 	public final void clearCache() {
-		if (cachedConstructs != null) {
-			cachedConstructs.clear();
-		}
-		if (cachedNumbersOfChildren != null) {
-			cachedNumbersOfChildren.clear();
-		}
-		if (dependentKeys != null) {
-			dependentKeys.clear();
-		}
+		cachedConstructs.clear();
+		cachedNumbersOfChildren.clear();
+		dependentKeys.clear();
 	}
 
 	/**
@@ -1078,23 +1049,32 @@ public abstract class PagedConstructIndexImpl<T extends ITopicMapStore> extends
 		/*
 		 * store dependent keys for clearing cache
 		 */
-		if (dependentKeys == null) {
-			dependentKeys = HashUtil.getHashMap();
-		}
-		Set<ConstructCacheKey> keys = dependentKeys.get(type);
-		if (keys == null) {
-			keys = HashUtil.getHashSet();
-			dependentKeys.put(type, keys);
-		}
-		keys.add(key);
+		addDependentKey(type, key);
+		addDependentKey(context, key);
+		return key;
+	}
 
-		keys = dependentKeys.get(context);
+	/**
+	 * Internal method to register the given key as dependent on the given criteria
+	 * 
+	 * @param criteria
+	 *            the criteria or <code>null</code>
+	 * @param key
+	 *            the key
+	 */
+	private void addDependentKey(Object criteria, ConstructCacheKey key) {
+		if (criteria == null) {
+			return;
+		}
+		Set<ConstructCacheKey> keys = dependentKeys.get(criteria);
 		if (keys == null) {
-			keys = HashUtil.getHashSet();
-			dependentKeys.put(context, keys);
+			Set<ConstructCacheKey> set = Collections.newSetFromMap(new ConcurrentHashMap<ConstructCacheKey, Boolean>());
+			keys = dependentKeys.putIfAbsent(criteria, set);
+			if (keys == null) {
+				keys = set;
+			}
 		}
 		keys.add(key);
-		return key;
 	}
 
 	/**
@@ -1105,10 +1085,11 @@ public abstract class PagedConstructIndexImpl<T extends ITopicMapStore> extends
 	 * @return all dependent keys
 	 */
 	private Set<ConstructCacheKey> getDependentKeys(Object criteria) {
-		if (dependentKeys == null || !dependentKeys.containsKey(criteria)) {
+		Set<ConstructCacheKey> keys = criteria == null ? null : dependentKeys.get(criteria);
+		if (keys == null) {
 			return Collections.emptySet();
 		}
-		return dependentKeys.get(criteria);
+		return keys;
 	}
 
 	/**
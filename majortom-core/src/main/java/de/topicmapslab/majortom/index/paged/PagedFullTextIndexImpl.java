@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.index.paged;
+
+import java.util.List;
+
+import org.tmapi.core.Construct;
+import org.tmapi.core.TMAPIRuntimeException;
+import org.tmapi.core.Topic;
+
+import de.topicmapslab.majortom.model.event.TopicMapEventType;
+import de.topicmapslab.majortom.model.index.IFullTextIndex;
+import de.topicmapslab.majortom.model.index.paging.IPagedFullTextIndex;
+import de.topicmapslab.majortom.model.store.ITopicMapStore;
+
+/**
+ * Paged full-text index. The ranking of the last query is cached, so reading
+ * the following pages of the same query does not evaluate the query again. The
+ * cached ranking is dropped by any modification of the topic map.
+ *
+ * @author Sven Krosse
+ *
+ * @param <T>
+ *            the topic map store class
+ */
+public class PagedFullTextIndexImpl<T extends ITopicMapStore> extends PagedIndexImpl<T, IFullTextIndex> implements IPagedFullTextIndex {
+
+	/**
+	 * the query of the cached constructs
+	 */
+	private String constructsQuery;
+	/**
+	 * the cached constructs of the last query
+	 */
+	private List<Construct> constructs;
+	/**
+	 * the query of the cached topics
+	 */
+	private String topicsQuery;
+	/**
+	 * the cached topics of the last query
+	 */
+	private List<Topic> topics;
+
+	/**
+	 * constructor
+	 *
+	 * @param store
+	 *            the store
+	 * @param parentIndex
+	 *            the parent index
+	 */
+	public PagedFullTextIndexImpl(T store, IFullTextIndex parentIndex) {
+		super(store, parentIndex);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized List<Construct> getConstructs(String query, int offset, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (query == null) {
+			throw new IllegalArgumentException("Query cannot be null!");
+		}
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return secureSubList(getParentIndex().getConstructs(query), offset, limit);
+		}
+		if (constructs == null || !query.equals(constructsQuery)) {
+			constructs = getParentIndex().getConstructs(query);
+			constructsQuery = query;
+		}
+		return secureSubList(constructs, offset, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized List<Topic> getTopics(String query, int offset, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (query == null) {
+			throw new IllegalArgumentException("Query cannot be null!");
+		}
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return secureSubList(getParentIndex().getTopics(query), offset, limit);
+		}
+		if (topics == null || !query.equals(topicsQuery)) {
+			topics = getParentIndex().getTopics(query);
+			topicsQuery = query;
+		}
+		return secureSubList(topics, offset, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized void clear() {
+		constructs = null;
+		constructsQuery = null;
+		topics = null;
+		topicsQuery = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void close() {
+		clear();
+		super.close();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void topicMapChanged(String id, TopicMapEventType event, Construct notifier, Object newValue, Object oldValue) {
+		clear();
+	}
+}
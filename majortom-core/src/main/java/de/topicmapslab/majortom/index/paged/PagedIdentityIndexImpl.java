@@ -29,7 +29,9 @@ import org.tmapi.core.Topic;
 import de.topicmapslab.majortom.index.core.BaseCachedIdentityIndexImpl;
 import de.topicmapslab.majortom.model.index.IIdentityIndex;
 import de.topicmapslab.majortom.model.index.paging.IPagedIdentityIndex;
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
 import de.topicmapslab.majortom.model.store.ITopicMapStore;
+import de.topicmapslab.majortom.util.CursorUtils;
 import de.topicmapslab.majortom.util.HashUtil;
 
 /**
@@ -864,4 +866,284 @@ public abstract class PagedIdentityIndexImpl<T extends ITopicMapStore> extends B
 		return getParentIndex().getSubjectLocators().size();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Construct> getConstructsByIdentifier(Pattern regExp, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (regExp == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetConstructsByIdentifier(regExp, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Construct> getConstructsByIdentifier(Pattern regExp, String cursor, int limit, Comparator<Construct> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (regExp == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedConstructsByIdentifier(regExp, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Construct> getConstructsByItemIdentifier(Pattern regExp, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (regExp == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetConstructsByItemIdentifier(regExp, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Construct> getConstructsByItemIdentifier(Pattern regExp, String cursor, int limit, Comparator<Construct> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (regExp == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedConstructsByItemIdentifier(regExp, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Topic> getTopicsBySubjectIdentifier(Pattern regExp, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (regExp == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetTopicsBySubjectIdentifier(regExp, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Topic> getTopicsBySubjectIdentifier(Pattern regExp, String cursor, int limit, Comparator<Topic> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (regExp == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedTopicsBySubjectIdentifier(regExp, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Topic> getTopicsBySubjectLocator(Pattern regExp, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (regExp == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetTopicsBySubjectLocator(regExp, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Topic> getTopicsBySubjectLocator(Pattern regExp, String cursor, int limit, Comparator<Topic> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (regExp == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedTopicsBySubjectLocator(regExp, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns the page of all constructs with an identifier matching the given regular expression following the given cursor. The constructs are ordered by their identifiers.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of constructs
+	 */
+	protected PagedResult<Construct> doGetConstructsByIdentifier(Pattern regExp, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedConstructsByIdentifier(regExp, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all constructs with an identifier matching the given regular expression sorted by the given comparator and by their identifiers. The sorted view is cached once per
+	 * comparator and shared by all pages.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Construct> getSortedConstructsByIdentifier(Pattern regExp, Comparator<Construct> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return CursorUtils.toSortedView(getParentIndex().getConstructsByIdentifier(regExp), comparator);
+		}
+		Comparator<Construct> key = CursorUtils.getViewKey(comparator);
+		Collection<Construct> view = read(BaseCachedIdentityIndexImpl.Type.IDENTIFIER, regExp, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getConstructsByIdentifier(regExp), comparator);
+			cache(BaseCachedIdentityIndexImpl.Type.IDENTIFIER, regExp, null, null, key, view);
+		}
+		return (List<Construct>) view;
+	}
+
+	/**
+	 * Returns the page of all constructs with an item-identifier matching the given regular expression following the given cursor. The constructs are ordered by their identifiers.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of constructs
+	 */
+	protected PagedResult<Construct> doGetConstructsByItemIdentifier(Pattern regExp, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedConstructsByItemIdentifier(regExp, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all constructs with an item-identifier matching the given regular expression sorted by the given comparator and by their identifiers. The sorted view is cached once per
+	 * comparator and shared by all pages.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Construct> getSortedConstructsByItemIdentifier(Pattern regExp, Comparator<Construct> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return CursorUtils.toSortedView(getParentIndex().getConstructsByItemIdentifier(regExp), comparator);
+		}
+		Comparator<Construct> key = CursorUtils.getViewKey(comparator);
+		Collection<Construct> view = read(BaseCachedIdentityIndexImpl.Type.ITEM_IDENTIFIER, regExp, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getConstructsByItemIdentifier(regExp), comparator);
+			cache(BaseCachedIdentityIndexImpl.Type.ITEM_IDENTIFIER, regExp, null, null, key, view);
+		}
+		return (List<Construct>) view;
+	}
+
+	/**
+	 * Returns the page of all topics with a subject-identifier matching the given regular expression following the given cursor. The topics are ordered by their identifiers.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of topics
+	 */
+	protected PagedResult<Topic> doGetTopicsBySubjectIdentifier(Pattern regExp, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedTopicsBySubjectIdentifier(regExp, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all topics with a subject-identifier matching the given regular expression sorted by the given comparator and by their identifiers. The sorted view is cached once per
+	 * comparator and shared by all pages.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Topic> getSortedTopicsBySubjectIdentifier(Pattern regExp, Comparator<Topic> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return CursorUtils.toSortedView(getParentIndex().getTopicsBySubjectIdentifier(regExp), comparator);
+		}
+		Comparator<Topic> key = CursorUtils.getViewKey(comparator);
+		Collection<Topic> view = read(BaseCachedIdentityIndexImpl.Type.SUBJECT_IDENTIFIER, regExp, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getTopicsBySubjectIdentifier(regExp), comparator);
+			cache(BaseCachedIdentityIndexImpl.Type.SUBJECT_IDENTIFIER, regExp, null, null, key, view);
+		}
+		return (List<Topic>) view;
+	}
+
+	/**
+	 * Returns the page of all topics with a subject-locator matching the given regular expression following the given cursor. The topics are ordered by their identifiers.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of topics
+	 */
+	protected PagedResult<Topic> doGetTopicsBySubjectLocator(Pattern regExp, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedTopicsBySubjectLocator(regExp, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all topics with a subject-locator matching the given regular expression sorted by the given comparator and by their identifiers. The sorted view is cached once per
+	 * comparator and shared by all pages.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Topic> getSortedTopicsBySubjectLocator(Pattern regExp, Comparator<Topic> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return CursorUtils.toSortedView(getParentIndex().getTopicsBySubjectLocator(regExp), comparator);
+		}
+		Comparator<Topic> key = CursorUtils.getViewKey(comparator);
+		Collection<Topic> view = read(BaseCachedIdentityIndexImpl.Type.SUBJECT_LOCATOR, regExp, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getTopicsBySubjectLocator(regExp), comparator);
+			cache(BaseCachedIdentityIndexImpl.Type.SUBJECT_LOCATOR, regExp, null, null, key, view);
+		}
+		return (List<Topic>) view;
+	}
+
 }
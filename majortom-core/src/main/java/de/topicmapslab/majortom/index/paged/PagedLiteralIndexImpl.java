@@ -16,6 +16,7 @@
 package de.topicmapslab.majortom.index.paged;
 
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
@@ -29,13 +30,16 @@ import org.tmapi.core.Occurrence;
 import org.tmapi.core.TMAPIRuntimeException;
 import org.tmapi.core.Variant;
 
+import de.topicmapslab.geotype.wgs84.Wgs84Circuit;
 import de.topicmapslab.geotype.wgs84.Wgs84Coordinate;
 import de.topicmapslab.majortom.index.core.BaseCachedLiteralIndexImpl;
 import de.topicmapslab.majortom.model.core.ICharacteristics;
 import de.topicmapslab.majortom.model.core.IDatatypeAware;
 import de.topicmapslab.majortom.model.index.ILiteralIndex;
 import de.topicmapslab.majortom.model.index.paging.IPagedLiteralIndex;
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
 import de.topicmapslab.majortom.model.store.ITopicMapStore;
+import de.topicmapslab.majortom.util.CursorUtils;
 import de.topicmapslab.majortom.util.HashUtil;
 
 /**
@@ -540,6 +544,132 @@ public abstract class PagedLiteralIndexImpl<X extends ITopicMapStore> extends Ba
 		return (List<ICharacteristics>) results;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getCoordinates(Wgs84Circuit area, int offset, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (area == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetCoordinates(area, offset, limit);
+		}
+		Collection<ICharacteristics> results = read(Wgs84Circuit.class, area, null, offset, limit, null);
+		if (results == null) {
+			results = doGetCoordinates(area, offset, limit);
+			cache(Wgs84Circuit.class, area, null, offset, limit, null, results);
+		}
+		return (List<ICharacteristics>) results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getCoordinates(Wgs84Circuit area, int offset, int limit, Comparator<ICharacteristics> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (area == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetCoordinates(area, offset, limit, comparator);
+		}
+		Collection<ICharacteristics> results = read(Wgs84Circuit.class, area, null, offset, limit, comparator);
+		if (results == null) {
+			results = doGetCoordinates(area, offset, limit, comparator);
+			cache(Wgs84Circuit.class, area, null, offset, limit, comparator, results);
+		}
+		return (List<ICharacteristics>) results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getCoordinatesInBoundingBox(Wgs84Coordinate southWest, Wgs84Coordinate northEast, int offset, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (southWest == null || northEast == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetCoordinatesInBoundingBox(southWest, northEast, offset, limit);
+		}
+		Collection<ICharacteristics> results = read(Wgs84Coordinate.class, Arrays.asList(southWest, northEast), null, offset, limit, null);
+		if (results == null) {
+			results = doGetCoordinatesInBoundingBox(southWest, northEast, offset, limit);
+			cache(Wgs84Coordinate.class, Arrays.asList(southWest, northEast), null, offset, limit, null, results);
+		}
+		return (List<ICharacteristics>) results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getCoordinatesInBoundingBox(Wgs84Coordinate southWest, Wgs84Coordinate northEast, int offset, int limit, Comparator<ICharacteristics> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (southWest == null || northEast == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetCoordinatesInBoundingBox(southWest, northEast, offset, limit, comparator);
+		}
+		Collection<ICharacteristics> results = read(Wgs84Coordinate.class, Arrays.asList(southWest, northEast), null, offset, limit, comparator);
+		if (results == null) {
+			results = doGetCoordinatesInBoundingBox(southWest, northEast, offset, limit, comparator);
+			cache(Wgs84Coordinate.class, Arrays.asList(southWest, northEast), null, offset, limit, comparator, results);
+		}
+		return (List<ICharacteristics>) results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getNearestCoordinates(Wgs84Coordinate value, int offset, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (value == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetNearestCoordinates(value, offset, limit);
+		}
+		Collection<ICharacteristics> results = read(List.class, value, null, offset, limit, null);
+		if (results == null) {
+			results = doGetNearestCoordinates(value, offset, limit);
+			cache(List.class, value, null, offset, limit, null, results);
+		}
+		return (List<ICharacteristics>) results;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -699,6 +829,57 @@ public abstract class PagedLiteralIndexImpl<X extends ITopicMapStore> extends Ba
 		return (List<ICharacteristics>) results;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getDateTimeBetween(Calendar lower, Calendar upper, int offset, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (lower == null || upper == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetDateTimeBetween(lower, upper, offset, limit);
+		}
+		Collection<ICharacteristics> results = read(Calendar.class, Arrays.asList(lower, upper), null, offset, limit, null);
+		if (results == null) {
+			results = doGetDateTimeBetween(lower, upper, offset, limit);
+			cache(Calendar.class, Arrays.asList(lower, upper), null, offset, limit, null, results);
+		}
+		return (List<ICharacteristics>) results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getDateTimeBetween(Calendar lower, Calendar upper, int offset, int limit, Comparator<ICharacteristics> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (lower == null || upper == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetDateTimeBetween(lower, upper, offset, limit, comparator);
+		}
+		Collection<ICharacteristics> results = read(Calendar.class, Arrays.asList(lower, upper), null, offset, limit, comparator);
+		if (results == null) {
+			results = doGetDateTimeBetween(lower, upper, offset, limit, comparator);
+			cache(Calendar.class, Arrays.asList(lower, upper), null, offset, limit, comparator, results);
+		}
+		return (List<ICharacteristics>) results;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -789,6 +970,51 @@ public abstract class PagedLiteralIndexImpl<X extends ITopicMapStore> extends Ba
 		return (List<ICharacteristics>) results;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getDoublesBetween(double lower, double upper, int offset, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetDoublesBetween(lower, upper, offset, limit);
+		}
+		Collection<ICharacteristics> results = read(Double.class, Arrays.asList(lower, upper), null, offset, limit, null);
+		if (results == null) {
+			results = doGetDoublesBetween(lower, upper, offset, limit);
+			cache(Double.class, Arrays.asList(lower, upper), null, offset, limit, null, results);
+		}
+		return (List<ICharacteristics>) results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getDoublesBetween(double lower, double upper, int offset, int limit, Comparator<ICharacteristics> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetDoublesBetween(lower, upper, offset, limit, comparator);
+		}
+		Collection<ICharacteristics> results = read(Double.class, Arrays.asList(lower, upper), null, offset, limit, comparator);
+		if (results == null) {
+			results = doGetDoublesBetween(lower, upper, offset, limit, comparator);
+			cache(Double.class, Arrays.asList(lower, upper), null, offset, limit, comparator, results);
+		}
+		return (List<ICharacteristics>) results;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -879,6 +1105,51 @@ public abstract class PagedLiteralIndexImpl<X extends ITopicMapStore> extends Ba
 		return (List<ICharacteristics>) results;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getFloatsBetween(float lower, float upper, int offset, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetFloatsBetween(lower, upper, offset, limit);
+		}
+		Collection<ICharacteristics> results = read(Float.class, Arrays.asList(lower, upper), null, offset, limit, null);
+		if (results == null) {
+			results = doGetFloatsBetween(lower, upper, offset, limit);
+			cache(Float.class, Arrays.asList(lower, upper), null, offset, limit, null, results);
+		}
+		return (List<ICharacteristics>) results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getFloatsBetween(float lower, float upper, int offset, int limit, Comparator<ICharacteristics> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetFloatsBetween(lower, upper, offset, limit, comparator);
+		}
+		Collection<ICharacteristics> results = read(Float.class, Arrays.asList(lower, upper), null, offset, limit, comparator);
+		if (results == null) {
+			results = doGetFloatsBetween(lower, upper, offset, limit, comparator);
+			cache(Float.class, Arrays.asList(lower, upper), null, offset, limit, comparator, results);
+		}
+		return (List<ICharacteristics>) results;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -969,6 +1240,51 @@ public abstract class PagedLiteralIndexImpl<X extends ITopicMapStore> extends Ba
 		return (List<ICharacteristics>) results;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getIntegersBetween(int lower, int upper, int offset, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetIntegersBetween(lower, upper, offset, limit);
+		}
+		Collection<ICharacteristics> results = read(Integer.class, Arrays.asList(lower, upper), null, offset, limit, null);
+		if (results == null) {
+			results = doGetIntegersBetween(lower, upper, offset, limit);
+			cache(Integer.class, Arrays.asList(lower, upper), null, offset, limit, null, results);
+		}
+		return (List<ICharacteristics>) results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getIntegersBetween(int lower, int upper, int offset, int limit, Comparator<ICharacteristics> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetIntegersBetween(lower, upper, offset, limit, comparator);
+		}
+		Collection<ICharacteristics> results = read(Integer.class, Arrays.asList(lower, upper), null, offset, limit, comparator);
+		if (results == null) {
+			results = doGetIntegersBetween(lower, upper, offset, limit, comparator);
+			cache(Integer.class, Arrays.asList(lower, upper), null, offset, limit, comparator, results);
+		}
+		return (List<ICharacteristics>) results;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -1062,7 +1378,7 @@ public abstract class PagedLiteralIndexImpl<X extends ITopicMapStore> extends Ba
 	/**
 	 * {@inheritDoc}
 	 */
-	public List<Name> getNames(int offset, int limit) {
+	public List<ICharacteristics> getLongsBetween(long lower, long upper, int offset, int limit) {
 		if (!isOpen()) {
 			throw new TMAPIRuntimeException("Index is closed!");
 		}
@@ -1070,20 +1386,20 @@ public abstract class PagedLiteralIndexImpl<X extends ITopicMapStore> extends Ba
 		 * redirect to real store if caching is disabled
 		 */
 		if (!getTopicMapStore().isCachingEnabled()) {
-			return doGetNames(offset, limit);
+			return doGetLongsBetween(lower, upper, offset, limit);
 		}
-		Collection<Name> results = readConstructs(Name.class, offset, limit, null);
+		Collection<ICharacteristics> results = read(Long.class, Arrays.asList(lower, upper), null, offset, limit, null);
 		if (results == null) {
-			results = doGetNames(offset, limit);
-			cacheConstructs(Name.class, offset, limit, null, results);
+			results = doGetLongsBetween(lower, upper, offset, limit);
+			cache(Long.class, Arrays.asList(lower, upper), null, offset, limit, null, results);
 		}
-		return (List<Name>) results;
+		return (List<ICharacteristics>) results;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
-	public List<Name> getNames(int offset, int limit, Comparator<Name> comparator) {
+	public List<ICharacteristics> getLongsBetween(long lower, long upper, int offset, int limit, Comparator<ICharacteristics> comparator) {
 		if (!isOpen()) {
 			throw new TMAPIRuntimeException("Index is closed!");
 		}
@@ -1094,20 +1410,65 @@ public abstract class PagedLiteralIndexImpl<X extends ITopicMapStore> extends Ba
 		 * redirect to real store if caching is disabled
 		 */
 		if (!getTopicMapStore().isCachingEnabled()) {
-			return doGetNames(offset, limit, comparator);
+			return doGetLongsBetween(lower, upper, offset, limit, comparator);
 		}
-		Collection<Name> results = readConstructs(Name.class, offset, limit, comparator);
+		Collection<ICharacteristics> results = read(Long.class, Arrays.asList(lower, upper), null, offset, limit, comparator);
 		if (results == null) {
-			results = doGetNames(offset, limit, comparator);
-			cacheConstructs(Name.class, offset, limit, comparator, results);
+			results = doGetLongsBetween(lower, upper, offset, limit, comparator);
+			cache(Long.class, Arrays.asList(lower, upper), null, offset, limit, comparator, results);
 		}
-		return (List<Name>) results;
+		return (List<ICharacteristics>) results;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
-	public List<Occurrence> getOccurrences(int offset, int limit) {
+	public List<Name> getNames(int offset, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetNames(offset, limit);
+		}
+		Collection<Name> results = readConstructs(Name.class, offset, limit, null);
+		if (results == null) {
+			results = doGetNames(offset, limit);
+			cacheConstructs(Name.class, offset, limit, null, results);
+		}
+		return (List<Name>) results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<Name> getNames(int offset, int limit, Comparator<Name> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return doGetNames(offset, limit, comparator);
+		}
+		Collection<Name> results = readConstructs(Name.class, offset, limit, comparator);
+		if (results == null) {
+			results = doGetNames(offset, limit, comparator);
+			cacheConstructs(Name.class, offset, limit, comparator, results);
+		}
+		return (List<Name>) results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<Occurrence> getOccurrences(int offset, int limit) {
 		if (!isOpen()) {
 			throw new TMAPIRuntimeException("Index is closed!");
 		}
@@ -1574,6 +1935,47 @@ public abstract class PagedLiteralIndexImpl<X extends ITopicMapStore> extends Ba
 		return HashUtil.secureSubList(list, offset, limit);
 	}
 
+	/**
+	 * Returns all characteristics with the datatype xsd:integer and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the characteristics within the given range
+	 */
+	protected List<ICharacteristics> doGetIntegersBetween(int lower, int upper, int offset, int limit) {
+		List<ICharacteristics> list = HashUtil.getList(getParentIndex().getIntegersBetween(lower, upper));
+		return HashUtil.secureSubList(list, offset, limit);
+	}
+
+	/**
+	 * Returns all characteristics with the datatype xsd:integer and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the characteristics within the given range
+	 */
+	protected List<ICharacteristics> doGetIntegersBetween(int lower, int upper, int offset, int limit, Comparator<ICharacteristics> comparator) {
+		List<ICharacteristics> list = HashUtil.getList(getParentIndex().getIntegersBetween(lower, upper));
+		Collections.sort(list, comparator);
+		return HashUtil.secureSubList(list, offset, limit);
+	}
+
 	/**
 	 * Returns all characteristics with the given value and the datatype
 	 * xsd:long.
@@ -1656,6 +2058,47 @@ public abstract class PagedLiteralIndexImpl<X extends ITopicMapStore> extends Ba
 		return HashUtil.secureSubList(list, offset, limit);
 	}
 
+	/**
+	 * Returns all characteristics with the datatype xsd:long and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the characteristics within the given range
+	 */
+	protected List<ICharacteristics> doGetLongsBetween(long lower, long upper, int offset, int limit) {
+		List<ICharacteristics> list = HashUtil.getList(getParentIndex().getLongsBetween(lower, upper));
+		return HashUtil.secureSubList(list, offset, limit);
+	}
+
+	/**
+	 * Returns all characteristics with the datatype xsd:long and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the characteristics within the given range
+	 */
+	protected List<ICharacteristics> doGetLongsBetween(long lower, long upper, int offset, int limit, Comparator<ICharacteristics> comparator) {
+		List<ICharacteristics> list = HashUtil.getList(getParentIndex().getLongsBetween(lower, upper));
+		Collections.sort(list, comparator);
+		return HashUtil.secureSubList(list, offset, limit);
+	}
+
 	/**
 	 * Returns all characteristics with the given value and the datatype
 	 * xsd:float.
@@ -1742,6 +2185,47 @@ public abstract class PagedLiteralIndexImpl<X extends ITopicMapStore> extends Ba
 		return HashUtil.secureSubList(list, offset, limit);
 	}
 
+	/**
+	 * Returns all characteristics with the datatype xsd:float and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the characteristics within the given range
+	 */
+	protected List<ICharacteristics> doGetFloatsBetween(float lower, float upper, int offset, int limit) {
+		List<ICharacteristics> list = HashUtil.getList(getParentIndex().getFloatsBetween(lower, upper));
+		return HashUtil.secureSubList(list, offset, limit);
+	}
+
+	/**
+	 * Returns all characteristics with the datatype xsd:float and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the characteristics within the given range
+	 */
+	protected List<ICharacteristics> doGetFloatsBetween(float lower, float upper, int offset, int limit, Comparator<ICharacteristics> comparator) {
+		List<ICharacteristics> list = HashUtil.getList(getParentIndex().getFloatsBetween(lower, upper));
+		Collections.sort(list, comparator);
+		return HashUtil.secureSubList(list, offset, limit);
+	}
+
 	/**
 	 * Returns all characteristics with the given value and the datatype
 	 * xsd:double.
@@ -1824,6 +2308,47 @@ public abstract class PagedLiteralIndexImpl<X extends ITopicMapStore> extends Ba
 		return HashUtil.secureSubList(list, offset, limit);
 	}
 
+	/**
+	 * Returns all characteristics with the datatype xsd:double and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the characteristics within the given range
+	 */
+	protected List<ICharacteristics> doGetDoublesBetween(double lower, double upper, int offset, int limit) {
+		List<ICharacteristics> list = HashUtil.getList(getParentIndex().getDoublesBetween(lower, upper));
+		return HashUtil.secureSubList(list, offset, limit);
+	}
+
+	/**
+	 * Returns all characteristics with the datatype xsd:double and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the characteristics within the given range
+	 */
+	protected List<ICharacteristics> doGetDoublesBetween(double lower, double upper, int offset, int limit, Comparator<ICharacteristics> comparator) {
+		List<ICharacteristics> list = HashUtil.getList(getParentIndex().getDoublesBetween(lower, upper));
+		Collections.sort(list, comparator);
+		return HashUtil.secureSubList(list, offset, limit);
+	}
+
 	/**
 	 * Returns all characteristics with the given value and the datatype
 	 * xsd:dateTime.
@@ -1918,6 +2443,47 @@ public abstract class PagedLiteralIndexImpl<X extends ITopicMapStore> extends Ba
 		return HashUtil.secureSubList(list, offset, limit);
 	}
 
+	/**
+	 * Returns all characteristics with the datatype xsd:dateTime or xsd:date and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the characteristics within the given range
+	 */
+	protected List<ICharacteristics> doGetDateTimeBetween(Calendar lower, Calendar upper, int offset, int limit) {
+		List<ICharacteristics> list = HashUtil.getList(getParentIndex().getDateTimeBetween(lower, upper));
+		return HashUtil.secureSubList(list, offset, limit);
+	}
+
+	/**
+	 * Returns all characteristics with the datatype xsd:dateTime or xsd:date and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the characteristics within the given range
+	 */
+	protected List<ICharacteristics> doGetDateTimeBetween(Calendar lower, Calendar upper, int offset, int limit, Comparator<ICharacteristics> comparator) {
+		List<ICharacteristics> list = HashUtil.getList(getParentIndex().getDateTimeBetween(lower, upper));
+		Collections.sort(list, comparator);
+		return HashUtil.secureSubList(list, offset, limit);
+	}
+
 	/**
 	 * Returns all characteristics with the given value and the datatype
 	 * xsd:boolean.
@@ -2041,6 +2607,102 @@ public abstract class PagedLiteralIndexImpl<X extends ITopicMapStore> extends Ba
 		return HashUtil.secureSubList(list, offset, limit);
 	}
 
+	/**
+	 * Returns all characteristics with the datatype tm:geo and a geographical
+	 * coordinate contained by the given area.
+	 * 
+	 * @param area
+	 *            the area
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the characteristics within the given area
+	 */
+	protected List<ICharacteristics> doGetCoordinates(Wgs84Circuit area, int offset, int limit) {
+		List<ICharacteristics> list = HashUtil.getList(getParentIndex().getCoordinates(area));
+		return HashUtil.secureSubList(list, offset, limit);
+	}
+
+	/**
+	 * Returns all characteristics with the datatype tm:geo and a geographical
+	 * coordinate contained by the given area.
+	 * 
+	 * @param area
+	 *            the area
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the characteristics within the given area
+	 */
+	protected List<ICharacteristics> doGetCoordinates(Wgs84Circuit area, int offset, int limit, Comparator<ICharacteristics> comparator) {
+		List<ICharacteristics> list = HashUtil.getList(getParentIndex().getCoordinates(area));
+		Collections.sort(list, comparator);
+		return HashUtil.secureSubList(list, offset, limit);
+	}
+
+	/**
+	 * Returns all characteristics with the datatype tm:geo and a geographical
+	 * coordinate located within the bounding box spanned by the given corners.
+	 * 
+	 * @param southWest
+	 *            the south-west corner
+	 * @param northEast
+	 *            the north-east corner
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the characteristics within the given bounding box
+	 */
+	protected List<ICharacteristics> doGetCoordinatesInBoundingBox(Wgs84Coordinate southWest, Wgs84Coordinate northEast, int offset, int limit) {
+		List<ICharacteristics> list = HashUtil.getList(getParentIndex().getCoordinatesInBoundingBox(southWest, northEast));
+		return HashUtil.secureSubList(list, offset, limit);
+	}
+
+	/**
+	 * Returns all characteristics with the datatype tm:geo and a geographical
+	 * coordinate located within the bounding box spanned by the given corners.
+	 * 
+	 * @param southWest
+	 *            the south-west corner
+	 * @param northEast
+	 *            the north-east corner
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the characteristics within the given bounding box
+	 */
+	protected List<ICharacteristics> doGetCoordinatesInBoundingBox(Wgs84Coordinate southWest, Wgs84Coordinate northEast, int offset, int limit,
+			Comparator<ICharacteristics> comparator) {
+		List<ICharacteristics> list = HashUtil.getList(getParentIndex().getCoordinatesInBoundingBox(southWest, northEast));
+		Collections.sort(list, comparator);
+		return HashUtil.secureSubList(list, offset, limit);
+	}
+
+	/**
+	 * Returns the characteristics with the datatype tm:geo and a geographical
+	 * coordinate nearest to the given one, ordered by their distance.
+	 * 
+	 * @param value
+	 *            the coordinate
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the nearest characteristics
+	 */
+	protected List<ICharacteristics> doGetNearestCoordinates(Wgs84Coordinate value, int offset, int limit) {
+		List<ICharacteristics> list = getParentIndex().getNearestCoordinates(value, Math.max(0, offset + limit));
+		return HashUtil.secureSubList(list, offset, limit);
+	}
+
 	/**
 	 * Returns all variants and occurrences with the given data-type.
 	 * 
@@ -2179,4 +2841,284 @@ public abstract class PagedLiteralIndexImpl<X extends ITopicMapStore> extends Ba
 		return HashUtil.secureSubList(list, offset, limit);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<ICharacteristics> getCharacteristics(String value, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (value == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetCharacteristics(value, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<ICharacteristics> getCharacteristics(String value, String cursor, int limit, Comparator<ICharacteristics> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (value == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedCharacteristics(value, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<ICharacteristics> getCharacteristics(Locator datatype, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (datatype == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetCharacteristics(datatype, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<ICharacteristics> getCharacteristics(Locator datatype, String cursor, int limit, Comparator<ICharacteristics> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (datatype == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedCharacteristics(datatype, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<ICharacteristics> getCharacteristicsMatches(Pattern regExp, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (regExp == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetCharacteristicsMatches(regExp, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<ICharacteristics> getCharacteristicsMatches(Pattern regExp, String cursor, int limit, Comparator<ICharacteristics> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (regExp == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedCharacteristicsMatches(regExp, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<IDatatypeAware> getDatatypeAwares(Locator dataType, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (dataType == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetDatatypeAwares(dataType, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<IDatatypeAware> getDatatypeAwares(Locator dataType, String cursor, int limit, Comparator<IDatatypeAware> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (dataType == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedDatatypeAwares(dataType, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns the page of all characteristics with the given value following the given cursor. The characteristics are ordered by their identifiers.
+	 * 
+	 * @param value
+	 *            the value
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of characteristics
+	 */
+	protected PagedResult<ICharacteristics> doGetCharacteristics(String value, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedCharacteristics(value, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all characteristics with the given value sorted by the given comparator and by their identifiers. The sorted view is cached once per
+	 * comparator and shared by all pages.
+	 * 
+	 * @param value
+	 *            the value
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<ICharacteristics> getSortedCharacteristics(String value, Comparator<ICharacteristics> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return CursorUtils.toSortedView(getParentIndex().getCharacteristics(value), comparator);
+		}
+		Comparator<ICharacteristics> key = CursorUtils.getViewKey(comparator);
+		Collection<ICharacteristics> view = read(String.class, value, null, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getCharacteristics(value), comparator);
+			cache(String.class, value, null, null, null, key, view);
+		}
+		return (List<ICharacteristics>) view;
+	}
+
+	/**
+	 * Returns the page of all characteristics with the given datatype following the given cursor. The characteristics are ordered by their identifiers.
+	 * 
+	 * @param datatype
+	 *            the datatype
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of characteristics
+	 */
+	protected PagedResult<ICharacteristics> doGetCharacteristics(Locator datatype, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedCharacteristics(datatype, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all characteristics with the given datatype sorted by the given comparator and by their identifiers. The sorted view is cached once per
+	 * comparator and shared by all pages.
+	 * 
+	 * @param datatype
+	 *            the datatype
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<ICharacteristics> getSortedCharacteristics(Locator datatype, Comparator<ICharacteristics> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return CursorUtils.toSortedView(getParentIndex().getCharacteristics(datatype), comparator);
+		}
+		Comparator<ICharacteristics> key = CursorUtils.getViewKey(comparator);
+		Collection<ICharacteristics> view = read(String.class, datatype, null, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getCharacteristics(datatype), comparator);
+			cache(String.class, datatype, null, null, null, key, view);
+		}
+		return (List<ICharacteristics>) view;
+	}
+
+	/**
+	 * Returns the page of all characteristics with a value matching the given regular expression following the given cursor. The characteristics are ordered by their identifiers.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of characteristics
+	 */
+	protected PagedResult<ICharacteristics> doGetCharacteristicsMatches(Pattern regExp, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedCharacteristicsMatches(regExp, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all characteristics with a value matching the given regular expression sorted by the given comparator and by their identifiers. The sorted view is cached once per
+	 * comparator and shared by all pages.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<ICharacteristics> getSortedCharacteristicsMatches(Pattern regExp, Comparator<ICharacteristics> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return CursorUtils.toSortedView(getParentIndex().getCharacteristicsMatches(regExp), comparator);
+		}
+		Comparator<ICharacteristics> key = CursorUtils.getViewKey(comparator);
+		Collection<ICharacteristics> view = read(Pattern.class, regExp, null, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getCharacteristicsMatches(regExp), comparator);
+			cache(Pattern.class, regExp, null, null, null, key, view);
+		}
+		return (List<ICharacteristics>) view;
+	}
+
+	/**
+	 * Returns the page of all data-type-aware constructs with the given datatype following the given cursor. The constructs are ordered by their identifiers.
+	 * 
+	 * @param dataType
+	 *            the datatype
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of constructs
+	 */
+	protected PagedResult<IDatatypeAware> doGetDatatypeAwares(Locator dataType, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedDatatypeAwares(dataType, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all data-type-aware constructs with the given datatype sorted by the given comparator and by their identifiers. The sorted view is cached once per
+	 * comparator and shared by all pages.
+	 * 
+	 * @param dataType
+	 *            the datatype
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<IDatatypeAware> getSortedDatatypeAwares(Locator dataType, Comparator<IDatatypeAware> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled()) {
+			return CursorUtils.toSortedView(getParentIndex().getDatatypeAwares(dataType), comparator);
+		}
+		Comparator<IDatatypeAware> key = CursorUtils.getViewKey(comparator);
+		Collection<IDatatypeAware> view = readConstructs(IDatatypeAware.class, null, dataType, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getDatatypeAwares(dataType), comparator);
+			cacheConstructs(IDatatypeAware.class, null, dataType, null, null, key, view);
+		}
+		return (List<IDatatypeAware>) view;
+	}
+
 }
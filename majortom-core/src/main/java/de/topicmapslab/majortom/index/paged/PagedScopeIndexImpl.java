@@ -39,7 +39,9 @@ import de.topicmapslab.majortom.model.core.ITopic;
 import de.topicmapslab.majortom.model.core.IVariant;
 import de.topicmapslab.majortom.model.index.IScopedIndex;
 import de.topicmapslab.majortom.model.index.paging.IPagedScopedIndex;
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
 import de.topicmapslab.majortom.model.store.ITopicMapStore;
+import de.topicmapslab.majortom.util.CursorUtils;
 import de.topicmapslab.majortom.util.HashUtil;
 
 /**
@@ -3150,4 +3152,354 @@ public abstract class PagedScopeIndexImpl<T extends ITopicMapStore> extends Base
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Scoped> getScopables(IScope scope, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (scope == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetScopables(scope, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Scoped> getScopables(IScope scope, String cursor, int limit, Comparator<Scoped> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (scope == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedScopables(scope, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Association> getAssociations(Topic theme, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (theme == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetAssociations(theme, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Association> getAssociations(Topic theme, String cursor, int limit, Comparator<Association> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (theme == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedAssociations(theme, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Name> getNames(Topic theme, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (theme == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetNames(theme, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Name> getNames(Topic theme, String cursor, int limit, Comparator<Name> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (theme == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedNames(theme, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Occurrence> getOccurrences(Topic theme, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (theme == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetOccurrences(theme, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Occurrence> getOccurrences(Topic theme, String cursor, int limit, Comparator<Occurrence> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (theme == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedOccurrences(theme, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Variant> getVariants(Topic theme, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (theme == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetVariants(theme, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Variant> getVariants(Topic theme, String cursor, int limit, Comparator<Variant> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (theme == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedVariants(theme, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns the page of all constructs scoped by the given scope following the given cursor. The constructs are ordered by their identifiers.
+	 * 
+	 * @param scope
+	 *            the scope
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of constructs
+	 */
+	protected PagedResult<Scoped> doGetScopables(IScope scope, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedScopables(scope, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all constructs scoped by the given scope sorted by the given comparator and by their identifiers. The sorted view is cached once per
+	 * comparator and shared by all pages.
+	 * 
+	 * @param scope
+	 *            the scope
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Scoped> getSortedScopables(IScope scope, Comparator<Scoped> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled() || isOnTransactionContext(scope)) {
+			return CursorUtils.toSortedView(getParentIndex().getScopables(scope), comparator);
+		}
+		Comparator<Scoped> key = CursorUtils.getViewKey(comparator);
+		Collection<Scoped> view = read(IScopable.class, scope, false, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getScopables(scope), comparator);
+			cache(IScopable.class, scope, false, null, null, key, view);
+		}
+		return (List<Scoped>) view;
+	}
+
+	/**
+	 * Returns the page of all associations in the scope containing the given theme following the given cursor. The associations are ordered by their identifiers.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of associations
+	 */
+	protected PagedResult<Association> doGetAssociations(Topic theme, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedAssociations(theme, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all associations in the scope containing the given theme sorted by the given comparator and by their identifiers. The sorted view is cached once per
+	 * comparator and shared by all pages.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Association> getSortedAssociations(Topic theme, Comparator<Association> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled() || isOnTransactionContext(theme)) {
+			return CursorUtils.toSortedView(getParentIndex().getAssociations(theme), comparator);
+		}
+		Comparator<Association> key = CursorUtils.getViewKey(comparator);
+		Collection<Association> view = read(IAssociation.class, theme, false, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getAssociations(theme), comparator);
+			cache(IAssociation.class, theme, false, null, null, key, view);
+		}
+		return (List<Association>) view;
+	}
+
+	/**
+	 * Returns the page of all names in the scope containing the given theme following the given cursor. The names are ordered by their identifiers.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of names
+	 */
+	protected PagedResult<Name> doGetNames(Topic theme, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedNames(theme, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all names in the scope containing the given theme sorted by the given comparator and by their identifiers. The sorted view is cached once per
+	 * comparator and shared by all pages.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Name> getSortedNames(Topic theme, Comparator<Name> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled() || isOnTransactionContext(theme)) {
+			return CursorUtils.toSortedView(getParentIndex().getNames(theme), comparator);
+		}
+		Comparator<Name> key = CursorUtils.getViewKey(comparator);
+		Collection<Name> view = read(IName.class, theme, false, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getNames(theme), comparator);
+			cache(IName.class, theme, false, null, null, key, view);
+		}
+		return (List<Name>) view;
+	}
+
+	/**
+	 * Returns the page of all occurrences in the scope containing the given theme following the given cursor. The occurrences are ordered by their identifiers.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of occurrences
+	 */
+	protected PagedResult<Occurrence> doGetOccurrences(Topic theme, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedOccurrences(theme, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all occurrences in the scope containing the given theme sorted by the given comparator and by their identifiers. The sorted view is cached once per
+	 * comparator and shared by all pages.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Occurrence> getSortedOccurrences(Topic theme, Comparator<Occurrence> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled() || isOnTransactionContext(theme)) {
+			return CursorUtils.toSortedView(getParentIndex().getOccurrences(theme), comparator);
+		}
+		Comparator<Occurrence> key = CursorUtils.getViewKey(comparator);
+		Collection<Occurrence> view = read(IOccurrence.class, theme, false, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getOccurrences(theme), comparator);
+			cache(IOccurrence.class, theme, false, null, null, key, view);
+		}
+		return (List<Occurrence>) view;
+	}
+
+	/**
+	 * Returns the page of all variants in the scope containing the given theme following the given cursor. The variants are ordered by their identifiers.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of variants
+	 */
+	protected PagedResult<Variant> doGetVariants(Topic theme, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedVariants(theme, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all variants in the scope containing the given theme sorted by the given comparator and by their identifiers. The sorted view is cached once per
+	 * comparator and shared by all pages.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Variant> getSortedVariants(Topic theme, Comparator<Variant> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled() || isOnTransactionContext(theme)) {
+			return CursorUtils.toSortedView(getParentIndex().getVariants(theme), comparator);
+		}
+		Comparator<Variant> key = CursorUtils.getViewKey(comparator);
+		Collection<Variant> view = read(IVariant.class, theme, false, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getVariants(theme), comparator);
+			cache(IVariant.class, theme, false, null, null, key, view);
+		}
+		return (List<Variant>) view;
+	}
+
 }
@@ -26,7 +26,9 @@ import org.tmapi.core.Topic;
 import de.topicmapslab.majortom.index.core.BaseCachedSupertypeSubtypeIndexImpl;
 import de.topicmapslab.majortom.model.index.ISupertypeSubtypeIndex;
 import de.topicmapslab.majortom.model.index.paging.IPagedSupertypeSubtypeIndex;
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
 import de.topicmapslab.majortom.model.store.ITopicMapStore;
+import de.topicmapslab.majortom.util.CursorUtils;
 import de.topicmapslab.majortom.util.HashUtil;
 
 /**
@@ -1125,4 +1127,144 @@ public abstract class PagedSupertypeSubtypeIndexImpl<T extends ITopicMapStore> e
 		return getParentIndex().getSubtypes(types, all).size();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Topic> getSupertypes(Topic type, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (type == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetSupertypes(type, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Topic> getSupertypes(Topic type, String cursor, int limit, Comparator<Topic> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (type == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedSupertypes(type, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Topic> getSubtypes(Topic type, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (type == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetSubtypes(type, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Topic> getSubtypes(Topic type, String cursor, int limit, Comparator<Topic> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (type == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedSubtypes(type, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns the page of all supertypes of the given topic type following the given cursor. The supertypes are ordered by their identifiers.
+	 * 
+	 * @param type
+	 *            the topic type
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of supertypes
+	 */
+	protected PagedResult<Topic> doGetSupertypes(Topic type, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedSupertypes(type, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all supertypes of the given topic type sorted by the given comparator and by their identifiers. The sorted view is cached once per
+	 * comparator and shared by all pages.
+	 * 
+	 * @param type
+	 *            the topic type
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Topic> getSortedSupertypes(Topic type, Comparator<Topic> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled() || isOnTransactionContext(type)) {
+			return CursorUtils.toSortedView(getParentIndex().getSupertypes(type), comparator);
+		}
+		Comparator<Topic> key = CursorUtils.getViewKey(comparator);
+		Collection<Topic> view = read(Type.SUPERTYPE, type, false, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getSupertypes(type), comparator);
+			cache(Type.SUPERTYPE, type, false, null, null, key, view);
+		}
+		return (List<Topic>) view;
+	}
+
+	/**
+	 * Returns the page of all subtypes of the given topic type following the given cursor. The subtypes are ordered by their identifiers.
+	 * 
+	 * @param type
+	 *            the topic type
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of subtypes
+	 */
+	protected PagedResult<Topic> doGetSubtypes(Topic type, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedSubtypes(type, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all subtypes of the given topic type sorted by the given comparator and by their identifiers. The sorted view is cached once per
+	 * comparator and shared by all pages.
+	 * 
+	 * @param type
+	 *            the topic type
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Topic> getSortedSubtypes(Topic type, Comparator<Topic> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled() || isOnTransactionContext(type)) {
+			return CursorUtils.toSortedView(getParentIndex().getSubtypes(type), comparator);
+		}
+		Comparator<Topic> key = CursorUtils.getViewKey(comparator);
+		Collection<Topic> view = read(Type.SUBTYPE, type, false, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getSubtypes(type), comparator);
+			cache(Type.SUBTYPE, type, false, null, null, key, view);
+		}
+		return (List<Topic>) view;
+	}
+
 }
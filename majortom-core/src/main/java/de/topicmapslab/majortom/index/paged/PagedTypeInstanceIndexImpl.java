@@ -21,12 +21,14 @@ import java.util.Comparator;
 import java.util.List;
 
 import org.tmapi.core.Association;
+import org.tmapi.core.Construct;
 import org.tmapi.core.Name;
 import org.tmapi.core.Occurrence;
 import org.tmapi.core.Role;
 import org.tmapi.core.TMAPIRuntimeException;
 import org.tmapi.core.Topic;
 
+import de.topicmapslab.majortom.comparator.ConstructByIdComparator;
 import de.topicmapslab.majortom.index.core.BaseCachedTypeInstanceIndexImpl;
 import de.topicmapslab.majortom.model.core.IAssociation;
 import de.topicmapslab.majortom.model.core.IAssociationRole;
@@ -36,7 +38,9 @@ import de.topicmapslab.majortom.model.core.IOccurrence;
 import de.topicmapslab.majortom.model.core.ITopic;
 import de.topicmapslab.majortom.model.index.ITypeInstanceIndex;
 import de.topicmapslab.majortom.model.index.paging.IPagedTypeInstanceIndex;
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
 import de.topicmapslab.majortom.model.store.ITopicMapStore;
+import de.topicmapslab.majortom.util.CursorUtils;
 import de.topicmapslab.majortom.util.HashUtil;
 
 /**
@@ -1398,6 +1402,151 @@ public abstract class PagedTypeInstanceIndexImpl<E extends ITopicMapStore> exten
 		return value;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Topic> getTopics(Topic type, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (type == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetTopics(type, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Topic> getTopics(Topic type, String cursor, int limit, Comparator<Topic> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (type == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedTopics(type, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Name> getNames(Topic type, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (type == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetNames(type, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Name> getNames(Topic type, String cursor, int limit, Comparator<Name> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (type == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedNames(type, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Occurrence> getOccurrences(Topic type, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (type == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetOccurrences(type, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Occurrence> getOccurrences(Topic type, String cursor, int limit, Comparator<Occurrence> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (type == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedOccurrences(type, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Association> getAssociations(Topic type, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (type == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetAssociations(type, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Association> getAssociations(Topic type, String cursor, int limit, Comparator<Association> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (type == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedAssociations(type, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Role> getRoles(Topic type, String cursor, int limit) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (type == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		return doGetRoles(type, cursor, limit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PagedResult<Role> getRoles(Topic type, String cursor, int limit, Comparator<Role> comparator) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (type == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		if (comparator == null) {
+			throw new IllegalArgumentException("Comparator cannot be null.");
+		}
+		return CursorUtils.getPage(getSortedRoles(type, comparator), comparator, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
 	/**
 	 * Returns all topic types of the topic map.
 	 * 
@@ -2210,6 +2359,216 @@ public abstract class PagedTypeInstanceIndexImpl<E extends ITopicMapStore> exten
 		return getParentIndex().getOccurrences(types).size();
 	}
 
+	/**
+	 * Returns the page of all topic instances of the given topic type following the given cursor. The topic instances are
+	 * ordered by their identifiers.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of topic instances
+	 */
+	protected PagedResult<Topic> doGetTopics(Topic type, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedTopics(type, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all topic instances of the given topic type sorted by the given comparator and by their identifiers. The
+	 * sorted view is cached once per comparator and shared by all pages.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Topic> getSortedTopics(Topic type, Comparator<Topic> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled() || isOnTransactionContext(type)) {
+			return CursorUtils.toSortedView(getParentIndex().getTopics(type), comparator);
+		}
+		Comparator<? extends Construct> key = comparator == null ? ConstructByIdComparator.getInstance() : comparator;
+		Collection<Topic> view = read(ITopic.class, type, false, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getTopics(type), comparator);
+			cache(ITopic.class, type, false, null, null, key, view);
+		}
+		return (List<Topic>) view;
+	}
+
+	/**
+	 * Returns the page of all names of the given topic type following the given cursor. The names are
+	 * ordered by their identifiers.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of names
+	 */
+	protected PagedResult<Name> doGetNames(Topic type, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedNames(type, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all names of the given topic type sorted by the given comparator and by their identifiers. The
+	 * sorted view is cached once per comparator and shared by all pages.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Name> getSortedNames(Topic type, Comparator<Name> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled() || isOnTransactionContext(type)) {
+			return CursorUtils.toSortedView(getParentIndex().getNames(type), comparator);
+		}
+		Comparator<? extends Construct> key = comparator == null ? ConstructByIdComparator.getInstance() : comparator;
+		Collection<Name> view = read(IName.class, type, false, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getNames(type), comparator);
+			cache(IName.class, type, false, null, null, key, view);
+		}
+		return (List<Name>) view;
+	}
+
+	/**
+	 * Returns the page of all occurrences of the given topic type following the given cursor. The occurrences are
+	 * ordered by their identifiers.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of occurrences
+	 */
+	protected PagedResult<Occurrence> doGetOccurrences(Topic type, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedOccurrences(type, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all occurrences of the given topic type sorted by the given comparator and by their identifiers. The
+	 * sorted view is cached once per comparator and shared by all pages.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Occurrence> getSortedOccurrences(Topic type, Comparator<Occurrence> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled() || isOnTransactionContext(type)) {
+			return CursorUtils.toSortedView(getParentIndex().getOccurrences(type), comparator);
+		}
+		Comparator<? extends Construct> key = comparator == null ? ConstructByIdComparator.getInstance() : comparator;
+		Collection<Occurrence> view = read(IOccurrence.class, type, false, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getOccurrences(type), comparator);
+			cache(IOccurrence.class, type, false, null, null, key, view);
+		}
+		return (List<Occurrence>) view;
+	}
+
+	/**
+	 * Returns the page of all associations of the given topic type following the given cursor. The associations are
+	 * ordered by their identifiers.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of associations
+	 */
+	protected PagedResult<Association> doGetAssociations(Topic type, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedAssociations(type, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all associations of the given topic type sorted by the given comparator and by their identifiers. The
+	 * sorted view is cached once per comparator and shared by all pages.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Association> getSortedAssociations(Topic type, Comparator<Association> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled() || isOnTransactionContext(type)) {
+			return CursorUtils.toSortedView(getParentIndex().getAssociations(type), comparator);
+		}
+		Comparator<? extends Construct> key = comparator == null ? ConstructByIdComparator.getInstance() : comparator;
+		Collection<Association> view = read(IAssociation.class, type, false, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getAssociations(type), comparator);
+			cache(IAssociation.class, type, false, null, null, key, view);
+		}
+		return (List<Association>) view;
+	}
+
+	/**
+	 * Returns the page of all roles of the given topic type following the given cursor. The roles are
+	 * ordered by their identifiers.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of roles
+	 */
+	protected PagedResult<Role> doGetRoles(Topic type, String cursor, int limit) {
+		return CursorUtils.getPage(getSortedRoles(type, null), null, getTopicMapStore().getTopicMap(), cursor, limit);
+	}
+
+	/**
+	 * Returns all roles of the given topic type sorted by the given comparator and by their identifiers. The
+	 * sorted view is cached once per comparator and shared by all pages.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers only
+	 * @return the sorted view
+	 */
+	protected List<Role> getSortedRoles(Topic type, Comparator<Role> comparator) {
+		/*
+		 * redirect to real store if caching is disabled
+		 */
+		if (!getTopicMapStore().isCachingEnabled() || isOnTransactionContext(type)) {
+			return CursorUtils.toSortedView(getParentIndex().getRoles(type), comparator);
+		}
+		Comparator<? extends Construct> key = comparator == null ? ConstructByIdComparator.getInstance() : comparator;
+		Collection<Role> view = read(IAssociationRole.class, type, false, null, null, key);
+		if (view == null) {
+			view = CursorUtils.toSortedView(getParentIndex().getRoles(type), comparator);
+			cache(IAssociationRole.class, type, false, null, null, key, view);
+		}
+		return (List<Role>) view;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -189,6 +189,24 @@ public abstract class ReadOnlyTopicMapStoreImpl extends TopicMapStoreImpl {
 		return internalDoRead(context, paramType, params);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public void doPrefetch(Collection<? extends IConstruct> contexts, TopicMapStoreParameterType paramType) throws TopicMapStoreException {
+		if (!isConnected()) {
+			throw new TopicMapStoreException("Connection is not established");
+		}
+		if (contexts == null || paramType == null) {
+			throw new IllegalArgumentException("Argument cannot be null.");
+		}
+		/*
+		 * prefetched values are only kept by the cache
+		 */
+		if (isCachingEnabled() && !contexts.isEmpty()) {
+			cache.doPrefetch(contexts, paramType);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -1253,6 +1271,86 @@ public abstract class ReadOnlyTopicMapStoreImpl extends TopicMapStoreImpl {
 	 */
 	public abstract String doReadBestIdentifier(ITopic topic, boolean withPrefix);
 
+	/**
+	 * Read the names of all given topics at once. The method is called by the cache to prefetch the names of a
+	 * number of topics. The default implementation returns <code>null</code>, which means the store does not support
+	 * bulk reading and the values are read one by one on demand.
+	 * 
+	 * @param topics
+	 *            the topics
+	 * @return a map containing the names of each topic or <code>null</code> if bulk reading is not supported
+	 * @throws TopicMapStoreException
+	 *             thrown if operation fails
+	 * @since 1.3.0
+	 */
+	public Map<ITopic, Set<IName>> doReadNames(Collection<ITopic> topics) throws TopicMapStoreException {
+		return null;
+	}
+
+	/**
+	 * Read the occurrences of all given topics at once. The method is called by the cache to prefetch the occurrences of a
+	 * number of topics. The default implementation returns <code>null</code>, which means the store does not support
+	 * bulk reading and the values are read one by one on demand.
+	 * 
+	 * @param topics
+	 *            the topics
+	 * @return a map containing the occurrences of each topic or <code>null</code> if bulk reading is not supported
+	 * @throws TopicMapStoreException
+	 *             thrown if operation fails
+	 * @since 1.3.0
+	 */
+	public Map<ITopic, Set<IOccurrence>> doReadOccurrences(Collection<ITopic> topics) throws TopicMapStoreException {
+		return null;
+	}
+
+	/**
+	 * Read the direct types of all given topics at once. The method is called by the cache to prefetch the types of a
+	 * number of topics. The default implementation returns <code>null</code>, which means the store does not support
+	 * bulk reading and the values are read one by one on demand.
+	 * 
+	 * @param topics
+	 *            the topics
+	 * @return a map containing the types of each topic or <code>null</code> if bulk reading is not supported
+	 * @throws TopicMapStoreException
+	 *             thrown if operation fails
+	 * @since 1.3.0
+	 */
+	public Map<ITopic, Set<ITopic>> doReadTypes(Collection<ITopic> topics) throws TopicMapStoreException {
+		return null;
+	}
+
+	/**
+	 * Read the subject-identifiers of all given topics at once. The method is called by the cache to prefetch the subject-identifiers of a
+	 * number of topics. The default implementation returns <code>null</code>, which means the store does not support
+	 * bulk reading and the values are read one by one on demand.
+	 * 
+	 * @param topics
+	 *            the topics
+	 * @return a map containing the subject-identifiers of each topic or <code>null</code> if bulk reading is not supported
+	 * @throws TopicMapStoreException
+	 *             thrown if operation fails
+	 * @since 1.3.0
+	 */
+	public Map<ITopic, Set<ILocator>> doReadSubjectIdentifiers(Collection<ITopic> topics) throws TopicMapStoreException {
+		return null;
+	}
+
+	/**
+	 * Read the subject-locators of all given topics at once. The method is called by the cache to prefetch the subject-locators of a
+	 * number of topics. The default implementation returns <code>null</code>, which means the store does not support
+	 * bulk reading and the values are read one by one on demand.
+	 * 
+	 * @param topics
+	 *            the topics
+	 * @return a map containing the subject-locators of each topic or <code>null</code> if bulk reading is not supported
+	 * @throws TopicMapStoreException
+	 *             thrown if operation fails
+	 * @since 1.3.0
+	 */
+	public Map<ITopic, Set<ILocator>> doReadSubjectLocators(Collection<ITopic> topics) throws TopicMapStoreException {
+		return null;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -15,6 +15,7 @@
  ******************************************************************************/
 package de.topicmapslab.majortom.store;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Random;
 import java.util.Set;
@@ -30,6 +31,8 @@ import cern.jet.random.engine.MersenneTwister;
 import cern.jet.random.engine.RandomEngine;
 import de.topicmapslab.majortom.core.ConstructFactoryImpl;
 import de.topicmapslab.majortom.core.TopicMapSystemImpl;
+import de.topicmapslab.majortom.event.OverflowStrategy;
+import de.topicmapslab.majortom.event.TopicMapEventBus;
 import de.topicmapslab.majortom.model.core.IConstruct;
 import de.topicmapslab.majortom.model.core.IConstructFactory;
 import de.topicmapslab.majortom.model.core.ILocator;
@@ -40,6 +43,7 @@ import de.topicmapslab.majortom.model.event.TopicMapEventType;
 import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
 import de.topicmapslab.majortom.model.store.ITopicMapStore;
 import de.topicmapslab.majortom.model.store.ITopicMapStoreMetaData;
+import de.topicmapslab.majortom.model.store.TopicMapStoreParameterType;
 import de.topicmapslab.majortom.util.FeatureStrings;
 import de.topicmapslab.majortom.util.HashUtil;
 
@@ -55,7 +59,7 @@ public abstract class TopicMapStoreImpl implements ITopicMapStore {
 	public static boolean OUTPUT = false;
 
 	private boolean connected = false;
-	private Set<ITopicMapListener> listeners = null;
+	private volatile TopicMapEventBus eventBus;
 	private ITopicMapSystem topicMapSystem;
 	private ITopicMap topicMap;
 	private IConstructFactory factory;
@@ -130,29 +134,118 @@ public abstract class TopicMapStoreImpl implements ITopicMapStore {
 	 * {@inheritDoc}
 	 */
 	public void addTopicMapListener(ITopicMapListener listener) {
-		if (listeners == null) {
-			listeners = HashUtil.getHashSet();
-		}
-		listeners.add(listener);
+		getEventBus().subscribe(listener);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public void removeTopicMapListener(ITopicMapListener listener) {
-		if (listeners != null) {
-			listeners.remove(listener);
+		if (eventBus != null) {
+			eventBus.unsubscribe(listener);
+		}
+	}
+
+	/**
+	 * Register a listener of an external component like an application using the topic map. If the property
+	 * {@link TopicMapStoreProperty#EVENT_ASYNCHRONOUS} is set, the listener is notified asynchronously by the event
+	 * bus, otherwise it is registered as synchronous listener.
+	 * 
+	 * @param listener
+	 *            the listener
+	 */
+	public void addExternalTopicMapListener(ITopicMapListener listener) {
+		if (isAsynchronousEventDispatch()) {
+			getEventBus().addListener(listener);
+		} else {
+			addTopicMapListener(listener);
+		}
+	}
+
+	/**
+	 * Removes a listener of an external component like an application using the topic map.
+	 * 
+	 * @param listener
+	 *            the listener
+	 */
+	public void removeExternalTopicMapListener(ITopicMapListener listener) {
+		if (isAsynchronousEventDispatch()) {
+			if (eventBus != null) {
+				eventBus.removeListener(listener);
+			}
+		} else {
+			removeTopicMapListener(listener);
 		}
 	}
 
 	/**
+	 * Returns the synchronous listeners
+	 * 
 	 * @return the listeners
 	 */
 	public Set<ITopicMapListener> getListeners() {
-		if (listeners == null) {
+		if (eventBus == null) {
 			return Collections.emptySet();
 		}
-		return listeners;
+		return eventBus.getSubscribers();
+	}
+
+	/**
+	 * Returns the event bus of the store, which is created on first access.
+	 * 
+	 * @return the event bus
+	 */
+	public synchronized TopicMapEventBus getEventBus() {
+		if (eventBus == null) {
+			int capacity = getIntProperty(TopicMapStoreProperty.EVENT_CAPACITY, TopicMapEventBus.DEFAULT_CAPACITY);
+			int batchSize = getIntProperty(TopicMapStoreProperty.EVENT_BATCH_SIZE, TopicMapEventBus.DEFAULT_BATCH_SIZE);
+			OverflowStrategy strategy = TopicMapEventBus.DEFAULT_OVERFLOW_STRATEGY;
+			Object overflow = getTopicMapSystem() == null ? null : getTopicMapSystem().getProperty(TopicMapStoreProperty.EVENT_OVERFLOW);
+			if (overflow != null) {
+				try {
+					strategy = OverflowStrategy.valueOf(overflow.toString().trim().toUpperCase());
+				} catch (IllegalArgumentException e) {
+					// NOTHING TO DO
+				}
+			}
+			eventBus = new TopicMapEventBus(capacity, batchSize, strategy);
+		}
+		return eventBus;
+	}
+
+	/**
+	 * Checks if listeners of external components are notified asynchronously.
+	 * 
+	 * @return <code>true</code> if the property {@link TopicMapStoreProperty#EVENT_ASYNCHRONOUS} is set to
+	 *         <code>true</code>, <code>false</code> otherwise
+	 */
+	protected boolean isAsynchronousEventDispatch() {
+		if (getTopicMapSystem() == null) {
+			return false;
+		}
+		Object value = getTopicMapSystem().getProperty(TopicMapStoreProperty.EVENT_ASYNCHRONOUS);
+		return value != null && Boolean.parseBoolean(value.toString());
+	}
+
+	/**
+	 * Internal method to read an integer property of the topic map system
+	 * 
+	 * @param property
+	 *            the property name
+	 * @param defaultValue
+	 *            the value used if the property is not set or not a number
+	 * @return the integer value
+	 */
+	private int getIntProperty(String property, int defaultValue) {
+		Object value = getTopicMapSystem() == null ? null : getTopicMapSystem().getProperty(property);
+		if (value != null) {
+			try {
+				return Integer.parseInt(value.toString());
+			} catch (NumberFormatException e) {
+				// NOTHING TO DO
+			}
+		}
+		return defaultValue;
 	}
 
 	/**
@@ -168,12 +261,8 @@ public abstract class TopicMapStoreImpl implements ITopicMapStore {
 	 *            the old value
 	 */
 	public void notifyListeners(TopicMapEventType event, IConstruct notifier, Object newValue, Object oldValue) {
-		String id = null;
-		for (ITopicMapListener listener : getListeners()) {
-			if (id == null) {
-				id = generateStringId();
-			}
-			listener.topicMapChanged(id, event, notifier, newValue, oldValue);
+		if (eventBus != null) {
+			eventBus.publish(event, notifier, newValue, oldValue);
 		}
 	}
 
@@ -315,6 +404,12 @@ public abstract class TopicMapStoreImpl implements ITopicMapStore {
 			return;
 		}
 		connected = true;
+		/*
+		 * the event bus is closed by a previous call of close()
+		 */
+		if (eventBus != null) {
+			eventBus.open();
+		}
 		this.random = new MersenneTwister((new Random()).nextInt());
 
 		Object maximum = getTopicMapSystem().getProperty(TopicMapStoreProperty.THREADPOOL_MAXIMUM);
@@ -360,6 +455,9 @@ public abstract class TopicMapStoreImpl implements ITopicMapStore {
 		}
 		((TopicMapSystemImpl) getTopicMapSystem()).removeTopicMap(getTopicMapBaseLocator());
 		connected = false;
+		if (eventBus != null) {
+			eventBus.close();
+		}
 		this.factory = null;
 		this.metaData = null;
 	}
@@ -422,7 +520,7 @@ public abstract class TopicMapStoreImpl implements ITopicMapStore {
 	 * @return the generated meta data instance
 	 */
 	protected ITopicMapStoreMetaData createMetaDataInstance() {
-		return new TopicMapStoreMetaDataImpl();
+		return new TopicMapStoreMetaDataImpl(this);
 	}
 
 	/**
@@ -459,6 +557,13 @@ public abstract class TopicMapStoreImpl implements ITopicMapStore {
 		return Long.toString(generateId());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public void doPrefetch(Collection<? extends IConstruct> contexts, TopicMapStoreParameterType paramType) throws TopicMapStoreException {
+		// NOTHING TO DO HERE
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -16,7 +16,11 @@
 package de.topicmapslab.majortom.store;
 
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
 
+import de.topicmapslab.majortom.cache.Cache;
+import de.topicmapslab.majortom.model.store.ICacheStatistics;
 import de.topicmapslab.majortom.model.store.ITopicMapStoreMetaData;
 
 /**
@@ -27,11 +31,23 @@ public class TopicMapStoreMetaDataImpl implements ITopicMapStoreMetaData {
 
 	private final Calendar creationTime;
 	private Calendar lastModificationTime;
+	private final TopicMapStoreImpl store;
 
 	/**
 	 * constructor
 	 */
 	public TopicMapStoreMetaDataImpl() {
+		this(null);
+	}
+
+	/**
+	 * constructor
+	 * 
+	 * @param store
+	 *            the store described by the meta data
+	 */
+	public TopicMapStoreMetaDataImpl(TopicMapStoreImpl store) {
+		this.store = store;
 		this.creationTime = Calendar.getInstance();
 		this.lastModificationTime = creationTime;
 	}
@@ -59,4 +75,18 @@ public class TopicMapStoreMetaDataImpl implements ITopicMapStoreMetaData {
 		this.lastModificationTime = Calendar.getInstance();
 	}
 
+	/**
+	 * 
+	 * {@inheritDoc}
+	 */
+	public Collection<ICacheStatistics> getCacheStatistics() {
+		if (store instanceof ReadOnlyTopicMapStoreImpl) {
+			Cache cache = ((ReadOnlyTopicMapStoreImpl) store).getCache();
+			if (cache != null) {
+				return cache.getStatistics();
+			}
+		}
+		return Collections.emptySet();
+	}
+
 }
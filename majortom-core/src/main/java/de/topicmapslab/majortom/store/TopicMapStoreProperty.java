@@ -29,4 +29,31 @@ public interface TopicMapStoreProperty {
 	
 	public static final String SET_IMPLEMENTATION_CLASS = PREFIX + ".collection.set";
 	
+	/**
+	 * the maximum weight of each region of the cache, a non-positive value or missing property means unbounded
+	 */
+	public static final String CACHE_MAXIMUM_WEIGHT = PREFIX + ".cache.maximumWeight";
+	
+	/**
+	 * if <code>true</code>, the listeners registered at the topic map are notified asynchronously by the event bus of
+	 * the store, default is <code>false</code>
+	 */
+	public static final String EVENT_ASYNCHRONOUS = PREFIX + ".event.asynchronous";
+	
+	/**
+	 * the number of events buffered for asynchronous listeners
+	 */
+	public static final String EVENT_CAPACITY = PREFIX + ".event.capacity";
+	
+	/**
+	 * the maximum number of events delivered to asynchronous listeners in one batch
+	 */
+	public static final String EVENT_BATCH_SIZE = PREFIX + ".event.batchSize";
+	
+	/**
+	 * the name of the {@link de.topicmapslab.majortom.event.OverflowStrategy} if the event buffer is full, default is
+	 * <code>DISCARD_OLDEST</code>
+	 */
+	public static final String EVENT_OVERFLOW = PREFIX + ".event.overflow";
+	
 }
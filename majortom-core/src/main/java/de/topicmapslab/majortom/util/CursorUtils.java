@@ -0,0 +1,224 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.tmapi.core.Construct;
+import org.tmapi.core.TopicMap;
+
+import de.topicmapslab.majortom.comparator.ConstructByIdComparator;
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
+
+/**
+ * Utility class for cursor based paging over sorted views. A sorted view is the list of all results of an index
+ * query, ordered by a comparator and by the identifiers of the constructs. The cursor of a page contains the position
+ * behind the last item and the identifier of the last item, so the next page is found in constant time if the view
+ * is unchanged and by binary search otherwise.
+ *
+ * @author Sven Krosse
+ *
+ */
+public class CursorUtils {
+
+	/**
+	 * the separator of position and identifier
+	 */
+	private static final char SEPARATOR = ':';
+
+	/**
+	 * hidden constructor
+	 */
+	private CursorUtils() {
+	}
+
+	/**
+	 * Creates the sorted view of the given constructs
+	 *
+	 * @param <T>
+	 *            the type of constructs
+	 * @param constructs
+	 *            the constructs
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers
+	 * @return the sorted view
+	 */
+	public static <T extends Construct> List<T> toSortedView(Collection<T> constructs, Comparator<? super T> comparator) {
+		List<T> view = HashUtil.getList(constructs);
+		Collections.sort(view, new ViewComparator<T>(comparator));
+		return view;
+	}
+
+	/**
+	 * Returns the comparator used as key of the sorted view in the caches of the indexes. The view ordered by
+	 * identifiers only is stored with the {@link ConstructByIdComparator}, so it cannot be mistaken for the unsorted
+	 * results stored without comparator.
+	 *
+	 * @param <T>
+	 *            the type of constructs
+	 * @param comparator
+	 *            the comparator or <code>null</code> to order by identifiers
+	 * @return the key of the sorted view
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Construct> Comparator<T> getViewKey(Comparator<T> comparator) {
+		if (comparator == null) {
+			return (Comparator<T>) (Comparator<? super T>) ConstructByIdComparator.getInstance();
+		}
+		return comparator;
+	}
+
+	/**
+	 * Returns the page of the given sorted view following the given cursor
+	 *
+	 * @param <T>
+	 *            the type of constructs
+	 * @param view
+	 *            the sorted view
+	 * @param comparator
+	 *            the comparator the view was sorted with or <code>null</code> if it is ordered by identifiers
+	 * @param topicMap
+	 *            the topic map used to resolve the last item of the previous page
+	 * @param cursor
+	 *            the cursor of the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page
+	 * @throws IllegalArgumentException
+	 *             thrown if the cursor is invalid
+	 */
+	public static <T extends Construct> PagedResult<T> getPage(List<T> view, Comparator<? super T> comparator, TopicMap topicMap, String cursor, int limit) {
+		int from = getStart(view, comparator, topicMap, cursor);
+		int to = from + limit;
+		if (to < from || to > view.size()) {
+			to = view.size();
+		}
+		List<T> items = HashUtil.getList(view.subList(from, to));
+		if (to == view.size() || items.isEmpty()) {
+			return new PagedResult<T>(items, null);
+		}
+		return new PagedResult<T>(items, Integer.toString(to) + SEPARATOR + items.get(items.size() - 1).getId());
+	}
+
+	/**
+	 * Internal method to find the position of the first item following the given cursor
+	 *
+	 * @param <T>
+	 *            the type of constructs
+	 * @param view
+	 *            the sorted view
+	 * @param comparator
+	 *            the comparator the view was sorted with or <code>null</code> if it is ordered by identifiers
+	 * @param topicMap
+	 *            the topic map used to resolve the last item of the previous page
+	 * @param cursor
+	 *            the cursor or <code>null</code>
+	 * @return the position
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T extends Construct> int getStart(List<T> view, Comparator<? super T> comparator, TopicMap topicMap, String cursor) {
+		if (cursor == null) {
+			return 0;
+		}
+		int index = cursor.indexOf(SEPARATOR);
+		if (index < 1) {
+			throw new IllegalArgumentException("Invalid cursor '" + cursor + "'.");
+		}
+		int position;
+		try {
+			position = Integer.parseInt(cursor.substring(0, index));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid cursor '" + cursor + "'.");
+		}
+		String id = cursor.substring(index + 1);
+		/*
+		 * view is unchanged since the last page
+		 */
+		if (position > 0 && position <= view.size() && id.equals(view.get(position - 1).getId())) {
+			return position;
+		}
+		/*
+		 * view is ordered by identifiers -> seek the first greater identifier
+		 */
+		if (comparator == null) {
+			int low = 0;
+			int high = view.size();
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (view.get(middle).getId().compareTo(id) <= 0) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+		/*
+		 * last item still exists -> seek its position
+		 */
+		Construct last = topicMap.getConstructById(id);
+		if (last != null) {
+			try {
+				int result = Collections.binarySearch(view, (T) last, new ViewComparator<T>(comparator));
+				return result < 0 ? -result - 1 : result + 1;
+			} catch (ClassCastException e) {
+				throw new IllegalArgumentException("Invalid cursor '" + cursor + "'.");
+			}
+		}
+		/*
+		 * last item was removed -> continue at the former position
+		 */
+		return Math.max(0, Math.min(position, view.size()));
+	}
+
+	/**
+	 * Comparator ordering by the given comparator and by identifiers if the comparator does not distinguish two
+	 * constructs
+	 *
+	 * @param <T>
+	 *            the type of constructs
+	 */
+	private static class ViewComparator<T extends Construct> implements Comparator<T> {
+
+		private final Comparator<? super T> comparator;
+
+		/**
+		 * constructor
+		 *
+		 * @param comparator
+		 *            the comparator or <code>null</code>
+		 */
+		public ViewComparator(Comparator<? super T> comparator) {
+			this.comparator = comparator;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public int compare(T o1, T o2) {
+			if (comparator != null) {
+				int compare = comparator.compare(o1, o2);
+				if (compare != 0) {
+					return compare;
+				}
+			}
+			return ConstructByIdComparator.getInstance().compare(o1, o2);
+		}
+	}
+}
@@ -60,6 +60,8 @@ public class FeatureStrings {
 	
 	public static final String CONCURRENT_COLLECTIONS = MAJORTOM_PREFIX + ".collection.concurrent";
 	
+	public static final String CONCURRENT_STORE = MAJORTOM_PREFIX + ".topicmapstore.concurrent";
+	
 	public static final String DELETION_CONSTRAINTS_REIFICATION = DELETION_CONSTRAINTS + ".reification";
 	
 	public static final Set<String> FEATURES = HashUtil.getHashSet();
@@ -83,5 +85,6 @@ public class FeatureStrings {
 		FEATURES.add(DELETION_CONSTRAINTS_REIFICATION);
 		
 		FEATURES.add(CONCURRENT_COLLECTIONS);
+		FEATURES.add(CONCURRENT_STORE);
 	}
 }
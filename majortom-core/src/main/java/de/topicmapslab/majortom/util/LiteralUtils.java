@@ -28,6 +28,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import de.topicmapslab.geotype.wgs84.Wgs84Coordinate;
 import de.topicmapslab.majortom.model.namespace.Namespaces;
 
 /**
@@ -474,4 +475,35 @@ public class LiteralUtils {
 		long distance = Math.abs(relative.getTimeInMillis() - value.getTimeInMillis());
 		return distance <= range;
 	}
+
+	/**
+	 * Method checks if the given coordinate is located within the bounding
+	 * box spanned by the south-west and the north-east corner. If the
+	 * longitude of the south-west corner is greater than the longitude of the
+	 * north-east corner, the box crosses the 180th meridian.
+	 * 
+	 * @param value
+	 *            the coordinate to check
+	 * @param southWest
+	 *            the south-west corner
+	 * @param northEast
+	 *            the north-east corner
+	 * @return <code>true</code> if the coordinate is located within the
+	 *         bounding box, <code>false</code> otherwise.
+	 * @since 1.3.0
+	 */
+	public static boolean inBoundingBox(Wgs84Coordinate value, Wgs84Coordinate southWest, Wgs84Coordinate northEast) {
+		double latitude = value.getLatitude().getValue();
+		if (latitude < southWest.getLatitude().getValue() || latitude > northEast.getLatitude().getValue()) {
+			return false;
+		}
+		double longitude = value.getLongitude().getValue();
+		double west = southWest.getLongitude().getValue();
+		double east = northEast.getLongitude().getValue();
+		if (west <= east) {
+			return west <= longitude && longitude <= east;
+		}
+		return west <= longitude || longitude <= east;
+	}
+
 }
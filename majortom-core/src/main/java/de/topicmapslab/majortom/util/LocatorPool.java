@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.util;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.tmapi.core.MalformedIRIException;
+
+import de.topicmapslab.majortom.core.LocatorImpl;
+import de.topicmapslab.majortom.model.core.ILocator;
+
+/**
+ * Pool of canonical locator instances. The pool returns the same {@link ILocator} for each call with the same IRI
+ * reference as long as the locator is used by anyone, so identifiers and datatypes are not duplicated on the heap and
+ * equality checks of locators of the same store mostly end with the identity check. The locators are only weakly
+ * referenced by the pool, unused locators are removed by the garbage collector. The pool does not lock, concurrent
+ * readers of the same locator only meet at the entries of the concurrent map.
+ *
+ * @author Sven Krosse
+ *
+ */
+public class LocatorPool {
+
+	/**
+	 * weak reference of a pooled locator knowing its key
+	 */
+	private static class LocatorReference extends WeakReference<ILocator> {
+
+		/**
+		 * the key of the locator
+		 */
+		private final String reference;
+
+		/**
+		 * constructor
+		 *
+		 * @param reference
+		 *            the key of the locator
+		 * @param locator
+		 *            the locator
+		 * @param queue
+		 *            the reference queue
+		 */
+		public LocatorReference(String reference, ILocator locator, ReferenceQueue<ILocator> queue) {
+			super(locator, queue);
+			this.reference = reference;
+		}
+	}
+
+	/**
+	 * the pooled locators
+	 */
+	private final ConcurrentMap<String, LocatorReference> locators;
+	/**
+	 * the queue of collected locators
+	 */
+	private final ReferenceQueue<ILocator> queue = new ReferenceQueue<ILocator>();
+
+	/**
+	 * constructor
+	 */
+	public LocatorPool() {
+		this(16);
+	}
+
+	/**
+	 * constructor
+	 *
+	 * @param capacity
+	 *            the initial capacity of the pool
+	 */
+	public LocatorPool(final int capacity) {
+		/*
+		 * not using HashUtil, the pool needs the atomic operations of the concurrent map
+		 */
+		this.locators = new ConcurrentHashMap<String, LocatorReference>(capacity);
+	}
+
+	/**
+	 * Returns the canonical locator of the given IRI reference.
+	 *
+	 * @param reference
+	 *            the IRI reference
+	 * @return the locator
+	 * @throws MalformedIRIException
+	 *             thrown if the reference is not a valid absolute IRI
+	 */
+	public ILocator getLocator(final String reference) throws MalformedIRIException {
+		purge();
+		LocatorReference ref = locators.get(reference);
+		if (ref != null) {
+			ILocator locator = ref.get();
+			if (locator != null) {
+				return locator;
+			}
+		}
+		ILocator locator = new LocatorImpl(reference);
+		/*
+		 * share the string of the locator as key if possible
+		 */
+		String key = reference.equals(locator.getReference()) ? locator.getReference() : reference;
+		LocatorReference created = new LocatorReference(key, locator, queue);
+		while (true) {
+			if (ref == null) {
+				ref = locators.putIfAbsent(key, created);
+				if (ref == null) {
+					return locator;
+				}
+			}
+			/*
+			 * another thread may have pooled the locator in the meantime
+			 */
+			ILocator pooled = ref.get();
+			if (pooled != null) {
+				created.clear();
+				return pooled;
+			}
+			/*
+			 * replace the entry of the collected locator
+			 */
+			if (locators.replace(key, ref, created)) {
+				return locator;
+			}
+			ref = locators.get(key);
+		}
+	}
+
+	/**
+	 * Returns the number of pooled locators.
+	 *
+	 * @return the number of locators
+	 */
+	public int size() {
+		purge();
+		return locators.size();
+	}
+
+	/**
+	 * Removes all locators from the pool.
+	 */
+	public void clear() {
+		locators.clear();
+		while (queue.poll() != null) {
+			// NOTHING TO DO
+		}
+	}
+
+	/**
+	 * Removes all entries of collected locators.
+	 */
+	private void purge() {
+		LocatorReference ref;
+		while ((ref = (LocatorReference) queue.poll()) != null) {
+			/*
+			 * the entry may be replaced by a new locator already
+			 */
+			locators.remove(ref.reference, ref);
+		}
+	}
+}
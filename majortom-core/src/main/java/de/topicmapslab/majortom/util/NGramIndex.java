@@ -0,0 +1,518 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.util;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted n-gram index of string values. Each item is stored by all substrings of a fixed length (n-grams) of its
+ * case-folded value. A regular expression is analyzed for the literal character sequences each matching value has to
+ * contain, the n-grams of these literals select a set of candidate items, which are a superset of the items matching
+ * the expression. The candidates still have to be checked by the regular expression itself.
+ *
+ * @author Sven Krosse
+ *
+ * @param <T>
+ *            the type of the indexed items
+ */
+public class NGramIndex<T> {
+
+	/**
+	 * the default length of the n-grams
+	 */
+	public static final int DEFAULT_LENGTH = 3;
+
+	/**
+	 * the length of the n-grams
+	 */
+	private final int length;
+
+	/**
+	 * the items by n-gram
+	 */
+	private final Map<String, Set<T>> items;
+
+	/**
+	 * the indexed value of each item
+	 */
+	private final Map<T, String> values;
+
+	/**
+	 * constructor
+	 */
+	public NGramIndex() {
+		this(DEFAULT_LENGTH);
+	}
+
+	/**
+	 * constructor
+	 *
+	 * @param length
+	 *            the length of the n-grams
+	 */
+	public NGramIndex(int length) {
+		if (length < 1) {
+			throw new IllegalArgumentException("Length of n-grams has to be greater than 0.");
+		}
+		this.length = length;
+		this.items = HashUtil.getHashMap();
+		this.values = HashUtil.getHashMap();
+	}
+
+	/**
+	 * Adds the given item with the given value to the index. A former value of the item is replaced.
+	 *
+	 * @param item
+	 *            the item
+	 * @param value
+	 *            the value
+	 */
+	public void put(T item, String value) {
+		String old = values.get(item);
+		if (value.equals(old)) {
+			return;
+		}
+		if (old != null) {
+			remove(item);
+		}
+		values.put(item, value);
+		for (String gram : getNGrams(value, length)) {
+			Set<T> set = items.get(gram);
+			if (set == null) {
+				set = HashUtil.getHashSet();
+				items.put(gram, set);
+			}
+			set.add(item);
+		}
+	}
+
+	/**
+	 * Removes the given item from the index
+	 *
+	 * @param item
+	 *            the item
+	 */
+	public void remove(T item) {
+		String value = values.remove(item);
+		if (value == null) {
+			return;
+		}
+		for (String gram : getNGrams(value, length)) {
+			Set<T> set = items.get(gram);
+			if (set != null) {
+				set.remove(item);
+				if (set.isEmpty()) {
+					items.remove(gram);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks if the given item is indexed
+	 *
+	 * @param item
+	 *            the item
+	 * @return <code>true</code> if the item is contained, <code>false</code> otherwise
+	 */
+	public boolean contains(T item) {
+		return values.containsKey(item);
+	}
+
+	/**
+	 * Returns the number of indexed items
+	 *
+	 * @return the number of items
+	 */
+	public int size() {
+		return values.size();
+	}
+
+	/**
+	 * Removes all items from the index
+	 */
+	public void clear() {
+		items.clear();
+		values.clear();
+	}
+
+	/**
+	 * Returns the candidates of all items whose values may match the given regular expression.
+	 *
+	 * @param regExp
+	 *            the regular expression
+	 * @return the candidates or <code>null</code> if the expression does not require any n-gram, so all items are
+	 *         candidates
+	 */
+	public Set<T> getCandidates(Pattern regExp) {
+		List<String> literals = getLiterals(regExp);
+		if (literals == null) {
+			return null;
+		}
+		Set<String> grams = HashUtil.getHashSet();
+		for (String literal : literals) {
+			grams.addAll(getNGrams(literal, length));
+		}
+		return getCandidates(grams);
+	}
+
+	/**
+	 * Returns the candidates of all items whose values may contain the given string.
+	 *
+	 * @param substring
+	 *            the string
+	 * @return the candidates or <code>null</code> if the string is shorter than the n-grams, so all items are
+	 *         candidates
+	 */
+	public Set<T> getCandidates(String substring) {
+		return getCandidates(getNGrams(substring, length));
+	}
+
+	/**
+	 * Internal method to intersect the items of the given n-grams
+	 *
+	 * @param grams
+	 *            the n-grams
+	 * @return the candidates or <code>null</code> if the n-grams are empty
+	 */
+	private Set<T> getCandidates(Set<String> grams) {
+		if (grams.isEmpty()) {
+			return null;
+		}
+		List<Set<T>> sets = HashUtil.getList();
+		for (String gram : grams) {
+			Set<T> set = items.get(gram);
+			if (set == null) {
+				return Collections.emptySet();
+			}
+			sets.add(set);
+		}
+		/*
+		 * intersect starting with the smallest set
+		 */
+		Collections.sort(sets, new Comparator<Set<T>>() {
+			public int compare(Set<T> o1, Set<T> o2) {
+				return o1.size() - o2.size();
+			}
+		});
+		Set<T> candidates = HashUtil.getHashSet(sets.get(0));
+		for (int i = 1; i < sets.size() && !candidates.isEmpty(); i++) {
+			candidates.retainAll(sets.get(i));
+		}
+		return candidates;
+	}
+
+	/**
+	 * Returns all n-grams of the case-folded value
+	 *
+	 * @param value
+	 *            the value
+	 * @param length
+	 *            the length of the n-grams
+	 * @return the n-grams
+	 */
+	public static Set<String> getNGrams(String value, int length) {
+		Set<String> grams = HashUtil.getHashSet();
+		String folded = fold(value);
+		for (int i = 0; i + length <= folded.length(); i++) {
+			grams.add(folded.substring(i, i + length));
+		}
+		return grams;
+	}
+
+	/**
+	 * Returns the case-folded representation of the given value. The folding keeps the length of the value, so a
+	 * substring of a value is folded to a substring of the folded value.
+	 *
+	 * @param value
+	 *            the value
+	 * @return the folded value
+	 */
+	private static String fold(String value) {
+		char[] chars = value.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * Extracts the literal character sequences every string matching the given regular expression has to contain. The
+	 * analysis is conservative, any construct which is not a plain character, like groups, character classes, escaped
+	 * classes or optional characters, ends the current literal.
+	 *
+	 * @param regExp
+	 *            the regular expression
+	 * @return the required literals or <code>null</code> if the expression cannot be analyzed, e.g. because of a
+	 *         top-level alternative
+	 */
+	public static List<String> getLiterals(Pattern regExp) {
+		String pattern = regExp.pattern();
+		List<String> literals = HashUtil.getList();
+		if ((regExp.flags() & Pattern.LITERAL) != 0) {
+			literals.add(pattern);
+			return literals;
+		}
+		if ((regExp.flags() & (Pattern.COMMENTS | Pattern.CANON_EQ)) != 0) {
+			return null;
+		}
+		StringBuilder literal = new StringBuilder();
+		int i = 0;
+		while (i < pattern.length()) {
+			char c = pattern.charAt(i);
+			switch (c) {
+				case '\\': {
+					if (i + 1 >= pattern.length()) {
+						return null;
+					}
+					char d = pattern.charAt(i + 1);
+					if (d == 'Q') {
+						int end = pattern.indexOf("\\E", i + 2);
+						end = end == -1 ? pattern.length() : end;
+						literal.append(pattern, i + 2, end);
+						i = end + 2;
+					} else if (Character.isLetterOrDigit(d)) {
+						/*
+						 * escaped classes, anchors, back references and character codes
+						 */
+						addLiteral(literals, literal);
+						i = skipEscape(pattern, i + 1);
+					} else {
+						literal.append(d);
+						i += 2;
+					}
+				}
+					break;
+				case '[': {
+					addLiteral(literals, literal);
+					i = skipClass(pattern, i);
+				}
+					break;
+				case '(': {
+					addLiteral(literals, literal);
+					/*
+					 * inline comment flag changes the meaning of white spaces
+					 */
+					if (pattern.startsWith("(?", i)) {
+						for (int j = i + 2; j < pattern.length(); j++) {
+							char flag = pattern.charAt(j);
+							if (flag == 'x') {
+								return null;
+							}
+							if (!Character.isLetter(flag) && flag != '-') {
+								break;
+							}
+						}
+					}
+					i = skipGroup(pattern, i);
+					if (i < 0) {
+						return null;
+					}
+				}
+					break;
+				case '|': {
+					/*
+					 * no literal is required by a top-level alternative
+					 */
+					return null;
+				}
+				case '*':
+				case '?': {
+					removeLast(literal);
+					addLiteral(literals, literal);
+					i++;
+				}
+					break;
+				case '{': {
+					int end = pattern.indexOf('}', i);
+					if (end == -1) {
+						return null;
+					}
+					if (pattern.charAt(i + 1) == '0' || pattern.charAt(i + 1) == ',') {
+						removeLast(literal);
+					}
+					addLiteral(literals, literal);
+					i = end + 1;
+				}
+					break;
+				case '+':
+				case '.':
+				case '^':
+				case '$': {
+					addLiteral(literals, literal);
+					i++;
+				}
+					break;
+				default: {
+					literal.append(c);
+					i++;
+				}
+			}
+		}
+		addLiteral(literals, literal);
+		return literals;
+	}
+
+	/**
+	 * Internal method to finish the current literal
+	 *
+	 * @param literals
+	 *            the list of literals
+	 * @param literal
+	 *            the current literal, which is reset
+	 */
+	private static void addLiteral(List<String> literals, StringBuilder literal) {
+		if (literal.length() > 0) {
+			literals.add(literal.toString());
+			literal.setLength(0);
+		}
+	}
+
+	/**
+	 * Internal method to remove the last character of the literal, which is quantified as optional
+	 *
+	 * @param literal
+	 *            the current literal
+	 */
+	private static void removeLast(StringBuilder literal) {
+		if (literal.length() > 0) {
+			literal.setLength(literal.length() - 1);
+		}
+	}
+
+	/**
+	 * Internal method to skip an escape sequence
+	 *
+	 * @param pattern
+	 *            the pattern
+	 * @param index
+	 *            the index of the character after the backslash
+	 * @return the index after the escape sequence
+	 */
+	private static int skipEscape(String pattern, int index) {
+		char c = pattern.charAt(index);
+		int i = index + 1;
+		if ((c == 'p' || c == 'P' || c == 'x') && i < pattern.length() && pattern.charAt(i) == '{') {
+			int end = pattern.indexOf('}', i);
+			return end == -1 ? pattern.length() : end + 1;
+		}
+		if (c == 'k' && i < pattern.length() && pattern.charAt(i) == '<') {
+			int end = pattern.indexOf('>', i);
+			return end == -1 ? pattern.length() : end + 1;
+		}
+		int count = 0;
+		if (c == 'p' || c == 'P' || c == 'c') {
+			count = 1;
+		} else if (c == 'x') {
+			count = 2;
+		} else if (c == 'u') {
+			count = 4;
+		} else if (Character.isDigit(c)) {
+			/*
+			 * octal values and back references
+			 */
+			while (i < pattern.length() && Character.isDigit(pattern.charAt(i))) {
+				i++;
+			}
+		}
+		return Math.min(pattern.length(), i + count);
+	}
+
+	/**
+	 * Internal method to skip a character class
+	 *
+	 * @param pattern
+	 *            the pattern
+	 * @param index
+	 *            the index of the opening bracket
+	 * @return the index after the closing bracket
+	 */
+	private static int skipClass(String pattern, int index) {
+		int depth = 0;
+		int i = index;
+		while (i < pattern.length()) {
+			char c = pattern.charAt(i);
+			if (c == '\\') {
+				i += 2;
+				continue;
+			}
+			if (c == '[') {
+				depth++;
+				/*
+				 * a closing bracket as first character is a literal
+				 */
+				if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '^') {
+					i++;
+				}
+				if (i + 1 < pattern.length() && pattern.charAt(i + 1) == ']') {
+					i++;
+				}
+			} else if (c == ']') {
+				depth--;
+				if (depth == 0) {
+					return i + 1;
+				}
+			}
+			i++;
+		}
+		return pattern.length();
+	}
+
+	/**
+	 * Internal method to skip a group
+	 *
+	 * @param pattern
+	 *            the pattern
+	 * @param index
+	 *            the index of the opening parenthesis
+	 * @return the index after the closing parenthesis or <code>-1</code> if the group is not closed
+	 */
+	private static int skipGroup(String pattern, int index) {
+		int depth = 0;
+		int i = index;
+		while (i < pattern.length()) {
+			char c = pattern.charAt(i);
+			if (c == '\\') {
+				if (pattern.startsWith("\\Q", i)) {
+					int end = pattern.indexOf("\\E", i + 2);
+					i = end == -1 ? pattern.length() : end + 2;
+				} else {
+					i += 2;
+				}
+				continue;
+			}
+			if (c == '[') {
+				i = skipClass(pattern, i);
+				continue;
+			}
+			if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				depth--;
+				if (depth == 0) {
+					return i + 1;
+				}
+			}
+			i++;
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.database.jdbc.core;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * A connection bound to one thread for the lifetime of a batch. All sessions opened by this thread share the same
+ * physical connection and therefore the same database transaction. The sessions cannot close the connection or modify
+ * its auto-commit mode, the transaction is only finished by {@link #commit()} or {@link #rollback()}.
+ *
+ * @author Sven Krosse
+ *
+ */
+public class BatchConnection implements InvocationHandler {
+
+	private final Connection connection;
+	private final Connection proxy;
+	private boolean released = false;
+
+	/**
+	 * constructor
+	 *
+	 * @param connection
+	 *            the physical connection borrowed from the pool
+	 * @throws SQLException
+	 *             thrown if the auto-commit mode cannot be disabled
+	 */
+	public BatchConnection(Connection connection) throws SQLException {
+		this.connection = connection;
+		this.connection.setAutoCommit(false);
+		this.proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, this);
+	}
+
+	/**
+	 * Returns the connection used by the sessions of the batch
+	 *
+	 * @return the connection
+	 */
+	public Connection getConnection() {
+		return proxy;
+	}
+
+	/**
+	 * Commit all changes of the batch and return the physical connection to the pool
+	 *
+	 * @throws SQLException
+	 *             thrown if commit failed
+	 */
+	public void commit() throws SQLException {
+		try {
+			connection.commit();
+		} finally {
+			release();
+		}
+	}
+
+	/**
+	 * Discard all changes of the batch and return the physical connection to the pool
+	 *
+	 * @throws SQLException
+	 *             thrown if rollback failed
+	 */
+	public void rollback() throws SQLException {
+		try {
+			connection.rollback();
+		} finally {
+			release();
+		}
+	}
+
+	/**
+	 * Internal method to return the physical connection to the pool
+	 *
+	 * @throws SQLException
+	 *             thrown if operation fails
+	 */
+	private void release() throws SQLException {
+		released = true;
+		try {
+			connection.setAutoCommit(true);
+		} finally {
+			connection.close();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		String name = method.getName();
+		/*
+		 * the transaction is controlled by the batch only
+		 */
+		if (name.equals("close") || name.equals("setAutoCommit") || name.equals("commit") || (name.equals("rollback") && (args == null || args.length == 0))) {
+			return null;
+		}
+		if (name.equals("isClosed")) {
+			return released || connection.isClosed();
+		}
+		if (name.equals("equals")) {
+			return proxy == args[0];
+		}
+		if (name.equals("hashCode")) {
+			return System.identityHashCode(proxy);
+		}
+		if (name.equals("toString")) {
+			return "BatchConnection[" + connection + "]";
+		}
+		if (released) {
+			throw new SQLException("Batch connection was already released!");
+		}
+		try {
+			return method.invoke(connection, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+}
@@ -0,0 +1,261 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.database.jdbc.core;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.dbcp.BasicDataSource;
+
+/**
+ * Long-living connection pool shared by all sessions of one connection provider. Physical connections and their
+ * prepared statements are kept open after a session is closed and reused by the next session.
+ *
+ * @author Sven Krosse
+ *
+ */
+public class ConnectionPool {
+
+	/**
+	 * default number of maximum active connections
+	 */
+	public static final int DEFAULT_MAX_ACTIVE = 20;
+	/**
+	 * default number of idle connections kept open
+	 */
+	public static final int DEFAULT_MAX_IDLE = 10;
+	/**
+	 * default number of idle connections created in advance
+	 */
+	public static final int DEFAULT_MIN_IDLE = 0;
+	/**
+	 * default timeout in milliseconds to wait for a free connection, <code>-1</code> means to wait for ever
+	 */
+	public static final long DEFAULT_MAX_WAIT = -1;
+	/**
+	 * default number of pooled prepared statements per connection, <code>-1</code> means unlimited
+	 */
+	public static final int DEFAULT_MAX_OPEN_STATEMENTS = -1;
+
+	private final BasicDataSource dataSource;
+
+	private final AtomicLong requests = new AtomicLong();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong waitTime = new AtomicLong();
+	private final AtomicLong maxWaitTime = new AtomicLong();
+
+	/**
+	 * Constructor
+	 *
+	 * @param driverClassName
+	 *            the name of the JDBC driver class
+	 * @param url
+	 *            the database URL
+	 * @param user
+	 *            the database user
+	 * @param password
+	 *            the database password
+	 */
+	public ConnectionPool(final String driverClassName, final String url, final String user, final String password) {
+		dataSource = new BasicDataSource();
+		dataSource.setDriverClassName(driverClassName);
+		dataSource.setUrl(url);
+		dataSource.setUsername(user);
+		dataSource.setPassword(password);
+		dataSource.setMaxActive(DEFAULT_MAX_ACTIVE);
+		dataSource.setMaxIdle(DEFAULT_MAX_IDLE);
+		dataSource.setMinIdle(DEFAULT_MIN_IDLE);
+		dataSource.setMaxWait(DEFAULT_MAX_WAIT);
+		dataSource.setPoolPreparedStatements(true);
+		dataSource.setMaxOpenPreparedStatements(DEFAULT_MAX_OPEN_STATEMENTS);
+	}
+
+	/**
+	 * Borrows a connection from the pool. Closing the connection returns it to the pool.
+	 *
+	 * @return the connection
+	 * @throws SQLException
+	 *             thrown if no connection can be established
+	 */
+	public Connection getConnection() throws SQLException {
+		requests.incrementAndGet();
+		if (dataSource.getNumIdle() > 0) {
+			hits.incrementAndGet();
+		}
+		long start = System.nanoTime();
+		try {
+			return dataSource.getConnection();
+		} finally {
+			long waited = System.nanoTime() - start;
+			waitTime.addAndGet(waited);
+			long max = maxWaitTime.get();
+			while (waited > max && !maxWaitTime.compareAndSet(max, waited)) {
+				max = maxWaitTime.get();
+			}
+		}
+	}
+
+	/**
+	 * Closing the pool and all idle connections. Borrowed connections are closed if they are returned.
+	 *
+	 * @throws SQLException
+	 *             thrown if operation fails
+	 */
+	public void close() throws SQLException {
+		dataSource.close();
+	}
+
+	/**
+	 * Modify the maximum number of active connections
+	 *
+	 * @param maxActive
+	 *            the maximum number of active connections, a negative value means no limit
+	 */
+	public void setMaxActive(int maxActive) {
+		dataSource.setMaxActive(maxActive);
+	}
+
+	/**
+	 * Modify the maximum number of idle connections kept open
+	 *
+	 * @param maxIdle
+	 *            the maximum number of idle connections
+	 */
+	public void setMaxIdle(int maxIdle) {
+		dataSource.setMaxIdle(maxIdle);
+	}
+
+	/**
+	 * Modify the minimum number of idle connections kept open
+	 *
+	 * @param minIdle
+	 *            the minimum number of idle connections
+	 */
+	public void setMinIdle(int minIdle) {
+		dataSource.setMinIdle(minIdle);
+	}
+
+	/**
+	 * Modify the timeout to wait for a free connection
+	 *
+	 * @param maxWait
+	 *            the timeout in milliseconds, <code>-1</code> to wait for ever
+	 */
+	public void setMaxWait(long maxWait) {
+		dataSource.setMaxWait(maxWait);
+	}
+
+	/**
+	 * Modify the maximum number of pooled prepared statements per connection
+	 *
+	 * @param maxOpenStatements
+	 *            the maximum number of statements, a negative value means no limit
+	 */
+	public void setMaxOpenPreparedStatements(int maxOpenStatements) {
+		dataSource.setMaxOpenPreparedStatements(maxOpenStatements);
+	}
+
+	/**
+	 * Returns the number of connections currently borrowed by sessions
+	 *
+	 * @return the number of active connections
+	 */
+	public int getNumActive() {
+		return dataSource.getNumActive();
+	}
+
+	/**
+	 * Returns the number of idle connections waiting in the pool
+	 *
+	 * @return the number of idle connections
+	 */
+	public int getNumIdle() {
+		return dataSource.getNumIdle();
+	}
+
+	/**
+	 * Returns the number of connection requests
+	 *
+	 * @return the number of requests
+	 */
+	public long getRequestCount() {
+		return requests.get();
+	}
+
+	/**
+	 * Returns the number of connection requests served by an idle connection of the pool
+	 *
+	 * @return the number of hits
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the ratio of connection requests served by an idle connection of the pool
+	 *
+	 * @return the hit rate between <code>0</code> and <code>1</code>
+	 */
+	public double getHitRate() {
+		long count = requests.get();
+		if (count == 0) {
+			return 0;
+		}
+		return hits.get() / (double) count;
+	}
+
+	/**
+	 * Returns the accumulated time spent to wait for a connection
+	 *
+	 * @return the wait time in milliseconds
+	 */
+	public double getTotalWaitTime() {
+		return waitTime.get() / 1000000D;
+	}
+
+	/**
+	 * Returns the average time spent to wait for a connection
+	 *
+	 * @return the average wait time in milliseconds
+	 */
+	public double getAverageWaitTime() {
+		long count = requests.get();
+		if (count == 0) {
+			return 0;
+		}
+		return getTotalWaitTime() / count;
+	}
+
+	/**
+	 * Returns the longest time spent to wait for a connection
+	 *
+	 * @return the maximum wait time in milliseconds
+	 */
+	public double getMaximumWaitTime() {
+		return maxWaitTime.get() / 1000000D;
+	}
+
+	/**
+	 * Reset all statistic counters of the pool
+	 */
+	public void resetStatistics() {
+		requests.set(0);
+		hits.set(0);
+		waitTime.set(0);
+		maxWaitTime.set(0);
+	}
+}
@@ -18,8 +18,6 @@ package de.topicmapslab.majortom.database.jdbc.core;
 import java.sql.Connection;
 import java.sql.SQLException;
 
-import org.apache.commons.dbcp.BasicDataSource;
-
 import de.topicmapslab.majortom.database.jdbc.model.IConnectionProvider;
 import de.topicmapslab.majortom.database.jdbc.model.IQueryProcessor;
 import de.topicmapslab.majortom.database.jdbc.model.ISession;
@@ -27,49 +25,28 @@ import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
 import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
 
 /**
+ * Base implementation of a session. The session borrows a connection from the shared pool of its connection provider
+ * on first use and returns it if the session is closed.
+ * 
  * @author Sven Krosse
  * 
  */
 public abstract class SessionImpl implements ISession {
 
-	// private final String user;
-	// private final String password;
-	// private final String url;
 	private IQueryProcessor processor;
 	private Connection connection;
 	private final IConnectionProvider connectionProvider;
 	private final boolean autoCommit;
-	private BasicDataSource bds;
-
-	// private HashMap<Connection, IQueryProcessor> processors;
 
 	/**
 	 * Constructor
 	 * 
 	 * @param connectionProvider
 	 *            the parent connection provider
-	 * @param url
-	 *            the URL
-	 * @param user
-	 *            the user
-	 * @param password
-	 *            the password
 	 */
-	public <T extends IConnectionProvider> SessionImpl(final T connectionProvider, final String url, final String user, final String password) {
-		// this.url = url;
-		// this.user = user;
-		// this.password = password;
+	public <T extends IConnectionProvider> SessionImpl(final T connectionProvider) {
 		this.connectionProvider = connectionProvider;
 		this.autoCommit = true;
-		bds = new BasicDataSource();
-		bds.setDriverClassName(connectionProvider.getDriverClassName());
-		bds.setUsername(user);
-		bds.setPassword(password);
-		bds.setUrl(url);
-		bds.setDefaultAutoCommit(isAutoCommit());
-		bds.setMaxActive(20);
-		bds.setPoolPreparedStatements(true);
-		// processors = new HashMap<Connection, IQueryProcessor>();
 	}
 
 	/**
@@ -105,12 +82,20 @@ public abstract class SessionImpl implements ISession {
 	 * {@inheritDoc}
 	 */
 	public void close() throws SQLException {
+		/*
+		 * closing the processor returns the prepared statements to the statement pool of the connection
+		 */
 		if (processor != null) {
 			processor.close();
+			processor = null;
 		}
+		/*
+		 * closing the connection returns it to the shared pool
+		 */
 		if (connection != null && !connection.isClosed()) {
 			connection.close();
 		}
+		connection = null;
 	}
 
 	/**
@@ -141,15 +126,14 @@ public abstract class SessionImpl implements ISession {
 	}
 
 	/**
-	 * Internal method to open a connection to the defined database
+	 * Internal method to borrow a connection from the shared pool of the connection provider
 	 * 
 	 * @return the connection
 	 * @throws SQLException
 	 *             thrown if connection cannot be established
 	 */
 	protected Connection openConnection() throws SQLException {
-		// connection = DriverManager.getConnection(url, user, password);
-		connection = bds.getConnection();
+		connection = getConnectionProvider().getConnection();
 		connection.setAutoCommit(isAutoCommit());
 		return connection;
 	}
@@ -38,7 +38,7 @@ public class HSQLDBConnectionProvider extends RDBMSConnectionProvider{
 	@SuppressWarnings("unchecked")
 	public RDBMSSession openSession() {	
 		if(session == null) {
-			session = new HSQLDBSession(this, getUrl(), getUser(), getPassword());
+			session = new HSQLDBSession(this);
 		}
 		return session;
 	}
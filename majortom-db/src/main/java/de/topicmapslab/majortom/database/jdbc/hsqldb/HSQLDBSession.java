@@ -11,8 +11,8 @@ public class HSQLDBSession extends RDBMSSession {
 
 	public static int numProcessors = 0;
 
-	public HSQLDBSession(RDBMSConnectionProvider connectionProvider, String url, String user, String password) {
-		super(connectionProvider, url, user, password);
+	public HSQLDBSession(RDBMSConnectionProvider connectionProvider) {
+		super(connectionProvider);
 	}
 
 	@Override
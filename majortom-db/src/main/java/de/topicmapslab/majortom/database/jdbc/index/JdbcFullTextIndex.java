@@ -0,0 +1,771 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.database.jdbc.index;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.tmapi.core.Construct;
+import org.tmapi.core.Name;
+import org.tmapi.core.Occurrence;
+import org.tmapi.core.Topic;
+import org.tmapi.core.Variant;
+
+import de.topicmapslab.majortom.database.jdbc.model.ISession;
+import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
+import de.topicmapslab.majortom.index.core.BaseFullTextIndexImpl;
+import de.topicmapslab.majortom.index.fulltext.FullTextAnalyzer;
+import de.topicmapslab.majortom.index.fulltext.FullTextQuery;
+import de.topicmapslab.majortom.index.fulltext.FullTextSearcher;
+import de.topicmapslab.majortom.model.core.IConstruct;
+import de.topicmapslab.majortom.model.core.ITopic;
+import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
+import de.topicmapslab.majortom.model.index.IFullTextIndex;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Implementation class of {@link IFullTextIndex} of the Jdbc Topic Map Store.
+ * The terms are stored in derived tables, which are created if the index is
+ * opened the first time. The table 'fulltext_postings' contains the position of
+ * each term within the value of a characteristics, the table
+ * 'fulltext_documents' contains the number of terms and the parents of each
+ * characteristics. The table 'fulltext_state' marks the topic maps whose
+ * content is indexed. The ranking of the matching characteristics is calculated
+ * by the engine.
+ * <p>
+ * The index of a topic map is built only once and kept if the index is closed.
+ * It is maintained by the topic map store within the session of each
+ * modification, so changes are part of the same batch transaction. The
+ * marker is read within the session of each modification, so an index built
+ * by another store connected to the same topic map is maintained too.
+ * </p>
+ *
+ * @author Sven Krosse
+ *
+ */
+public class JdbcFullTextIndex extends BaseFullTextIndexImpl<JdbcTopicMapStore> {
+
+	/**
+	 * the names of the derived tables
+	 */
+	public static final List<String> TABLES = Arrays.asList("fulltext_documents", "fulltext_postings", "fulltext_state");
+
+	/**
+	 * the number of rows written by one batch
+	 */
+	private static final int BATCH_SIZE = 1000;
+
+	private static final String[] QUERIES_CREATE_TABLES = {
+			"CREATE TABLE fulltext_documents ( id_topicmap bigint NOT NULL, id_construct bigint NOT NULL, id_parent bigint NOT NULL, id_topic bigint NOT NULL, term_count integer NOT NULL )",
+			"CREATE TABLE fulltext_postings ( id_topicmap bigint NOT NULL, id_construct bigint NOT NULL, term varchar(" + FullTextAnalyzer.MAX_TERM_LENGTH + ") NOT NULL, pos integer NOT NULL )",
+			"CREATE INDEX idx_fulltext_documents_construct ON fulltext_documents ( id_construct )",
+			"CREATE INDEX idx_fulltext_documents_parent ON fulltext_documents ( id_parent )",
+			"CREATE INDEX idx_fulltext_documents_topic ON fulltext_documents ( id_topic )",
+			"CREATE INDEX idx_fulltext_postings_term ON fulltext_postings ( id_topicmap, term )",
+			"CREATE INDEX idx_fulltext_postings_construct ON fulltext_postings ( id_construct )" };
+	private static final String QUERY_CREATE_STATE = "CREATE TABLE fulltext_state ( id_topicmap bigint NOT NULL PRIMARY KEY )";
+
+	private static final String QUERY_READ_STATE = "SELECT id_topicmap FROM fulltext_state WHERE id_topicmap = ?";
+	private static final String QUERY_INSERT_STATE = "INSERT INTO fulltext_state ( id_topicmap ) VALUES ( ? )";
+	private static final String QUERY_DELETE_STATE = "DELETE FROM fulltext_state WHERE id_topicmap = ?";
+
+	private static final String QUERY_INSERT_DOCUMENT = "INSERT INTO fulltext_documents ( id_topicmap, id_construct, id_parent, id_topic, term_count ) VALUES ( ?, ?, ?, ?, ? )";
+	private static final String QUERY_INSERT_POSTING = "INSERT INTO fulltext_postings ( id_topicmap, id_construct, term, pos ) VALUES ( ?, ?, ?, ? )";
+
+	private static final String QUERY_DELETE_DOCUMENT = "DELETE FROM fulltext_documents WHERE id_construct = ?";
+	private static final String QUERY_DELETE_POSTINGS_BY_CONSTRUCT = "DELETE FROM fulltext_postings WHERE id_construct = ?";
+	private static final String QUERY_DELETE_DOCUMENTS = "DELETE FROM fulltext_documents WHERE id_construct = ? OR id_parent = ?";
+	private static final String QUERY_DELETE_POSTINGS = "DELETE FROM fulltext_postings WHERE id_construct = ? OR id_construct IN ( SELECT id_construct FROM fulltext_documents WHERE id_parent = ? )";
+	private static final String QUERY_DELETE_DOCUMENTS_BY_TOPIC = "DELETE FROM fulltext_documents WHERE id_topic = ?";
+	private static final String QUERY_DELETE_POSTINGS_BY_TOPIC = "DELETE FROM fulltext_postings WHERE id_construct IN ( SELECT id_construct FROM fulltext_documents WHERE id_topic = ? )";
+	private static final String QUERY_DELETE_DOCUMENTS_BY_TOPICMAP = "DELETE FROM fulltext_documents WHERE id_topicmap = ?";
+	private static final String QUERY_DELETE_POSTINGS_BY_TOPICMAP = "DELETE FROM fulltext_postings WHERE id_topicmap = ?";
+
+	private static final String QUERY_READ_STATISTICS = "SELECT COUNT(*), SUM(term_count) FROM fulltext_documents WHERE id_topicmap = ?";
+	private static final String QUERY_READ_POSITIONS = "SELECT p.id_construct, p.pos, d.term_count FROM fulltext_postings AS p, fulltext_documents AS d WHERE p.id_topicmap = ? AND p.term = ? AND d.id_construct = p.id_construct ORDER BY p.id_construct, p.pos";
+	private static final String QUERY_READ_TERMS = "SELECT DISTINCT term FROM fulltext_postings WHERE id_topicmap = ? AND term LIKE ? ORDER BY term";
+
+	/**
+	 * Searcher reading the postings from the derived tables
+	 */
+	class Searcher extends FullTextSearcher<Long> {
+
+		/**
+		 * the connection
+		 */
+		private final Connection connection;
+		/**
+		 * the number of indexed characteristics
+		 */
+		private int count;
+		/**
+		 * the number of terms of all indexed characteristics
+		 */
+		private long length;
+		/**
+		 * the lengths of the characteristics read with the postings
+		 */
+		private final Map<Long, Integer> lengths = HashUtil.getHashMap();
+
+		/**
+		 * constructor
+		 *
+		 * @param connection
+		 *            the connection
+		 * @throws SQLException
+		 *             thrown if the statistics cannot be read
+		 */
+		Searcher(Connection connection) throws SQLException {
+			this.connection = connection;
+			PreparedStatement stmt = connection.prepareStatement(QUERY_READ_STATISTICS);
+			try {
+				stmt.setLong(1, getTopicMapId());
+				ResultSet rs = stmt.executeQuery();
+				if (rs.next()) {
+					count = rs.getInt(1);
+					length = rs.getLong(2);
+				}
+				rs.close();
+			} finally {
+				stmt.close();
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		protected int getDocumentCount() {
+			return count;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		protected double getAverageLength() {
+			if (count == 0) {
+				return 0;
+			}
+			return length / (double) count;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		protected int getLength(Long document) {
+			return lengths.get(document);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		protected Map<Long, int[]> getPositions(String term) {
+			Map<Long, int[]> positions = new LinkedHashMap<Long, int[]>();
+			try {
+				PreparedStatement stmt = connection.prepareStatement(QUERY_READ_POSITIONS);
+				try {
+					stmt.setLong(1, getTopicMapId());
+					stmt.setString(2, term);
+					ResultSet rs = stmt.executeQuery();
+					Long current = null;
+					List<Integer> list = HashUtil.getList();
+					while (rs.next()) {
+						Long id = rs.getLong(1);
+						if (!id.equals(current)) {
+							put(positions, current, list);
+							current = id;
+							lengths.put(id, rs.getInt(3));
+						}
+						list.add(rs.getInt(2));
+					}
+					put(positions, current, list);
+					rs.close();
+				} finally {
+					stmt.close();
+				}
+			} catch (SQLException e) {
+				throw new TopicMapStoreException("Internal database error!", e);
+			}
+			return positions;
+		}
+
+		/**
+		 * Stores the collected positions of a characteristics and clears the
+		 * given list.
+		 *
+		 * @param positions
+		 *            the positions of all characteristics
+		 * @param id
+		 *            the id of the characteristics or <code>null</code>
+		 * @param list
+		 *            the collected positions
+		 */
+		private void put(Map<Long, int[]> positions, Long id, List<Integer> list) {
+			if (id == null) {
+				return;
+			}
+			int[] array = new int[list.size()];
+			for (int i = 0; i < array.length; i++) {
+				array[i] = list.get(i);
+			}
+			positions.put(id, array);
+			list.clear();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		protected Collection<String> getTerms(String prefix, int max) {
+			List<String> terms = HashUtil.getList();
+			try {
+				PreparedStatement stmt = connection.prepareStatement(QUERY_READ_TERMS);
+				try {
+					stmt.setMaxRows(max);
+					stmt.setLong(1, getTopicMapId());
+					/*
+					 * normalized terms never contain any wildcard of the like
+					 * operator
+					 */
+					stmt.setString(2, prefix + "%");
+					ResultSet rs = stmt.executeQuery();
+					while (rs.next()) {
+						terms.add(rs.getString(1));
+					}
+					rs.close();
+				} finally {
+					stmt.close();
+				}
+			} catch (SQLException e) {
+				throw new TopicMapStoreException("Internal database error!", e);
+			}
+			return terms;
+		}
+	}
+
+	/**
+	 * flag indicates if the derived tables exist, the tables are never dropped
+	 */
+	private volatile boolean tablesExist;
+
+	/**
+	 * constructor
+	 *
+	 * @param store
+	 *            the store
+	 */
+	public JdbcFullTextIndex(JdbcTopicMapStore store) {
+		super(store);
+	}
+
+	/**
+	 * Creates the derived tables if necessary and builds the index if the
+	 * content of the topic map was not indexed before.
+	 */
+	protected void doOpen() {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			try {
+				Connection connection = session.getConnection();
+				createTables(connection);
+				if (!isBuilt(connection)) {
+					build(connection);
+				}
+				session.commit();
+			} finally {
+				session.close();
+			}
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * The derived tables are kept and maintained by the topic map store, if the
+	 * index is closed.
+	 */
+	protected void doClose() {
+		// NOTHING TO DO
+	}
+
+	/**
+	 * Creates the derived tables if they do not exist.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @throws SQLException
+	 *             thrown if the tables cannot be created
+	 */
+	protected void createTables(Connection connection) throws SQLException {
+		Set<String> tables = readTables(connection);
+		if (tables.containsAll(TABLES)) {
+			return;
+		}
+		Statement stmt = connection.createStatement();
+		try {
+			if (!tables.contains("fulltext_documents")) {
+				for (String query : QUERIES_CREATE_TABLES) {
+					stmt.executeUpdate(query);
+				}
+			}
+			if (!tables.contains("fulltext_state")) {
+				stmt.executeUpdate(QUERY_CREATE_STATE);
+			}
+		} finally {
+			stmt.close();
+		}
+	}
+
+	/**
+	 * Returns the names of all tables of the database
+	 *
+	 * @param connection
+	 *            the connection
+	 * @return the names in lower case
+	 * @throws SQLException
+	 *             thrown if the meta data cannot be read
+	 */
+	private Set<String> readTables(Connection connection) throws SQLException {
+		Set<String> tables = HashUtil.getHashSet();
+		ResultSet rs = connection.getMetaData().getTables(null, null, null, new String[] { "TABLE" });
+		while (rs.next()) {
+			tables.add(rs.getString("TABLE_NAME").toLowerCase());
+		}
+		rs.close();
+		return tables;
+	}
+
+	/**
+	 * Returns <code>true</code> if the content of the topic map is indexed and
+	 * the derived tables have to be maintained by the topic map store. The
+	 * marker is read from the database on each call, because the index may be
+	 * built or removed by another store.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @return <code>true</code> if the index is built, <code>false</code>
+	 *         otherwise
+	 * @throws SQLException
+	 *             thrown if the marker cannot be read
+	 */
+	public boolean isBuilt(Connection connection) throws SQLException {
+		if (!tablesExist) {
+			if (!readTables(connection).containsAll(TABLES)) {
+				return false;
+			}
+			tablesExist = true;
+		}
+		PreparedStatement stmt = connection.prepareStatement(QUERY_READ_STATE);
+		try {
+			stmt.setLong(1, getTopicMapId());
+			ResultSet rs = stmt.executeQuery();
+			boolean built = rs.next();
+			rs.close();
+			return built;
+		} finally {
+			stmt.close();
+		}
+	}
+
+	/**
+	 * Removes all rows of the topic map, indexes the values of all
+	 * characteristics and marks the topic map as indexed.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @throws SQLException
+	 *             thrown if the index cannot be built
+	 */
+	private void build(Connection connection) throws SQLException {
+		delete(connection, QUERY_DELETE_POSTINGS_BY_TOPICMAP, getTopicMapId());
+		delete(connection, QUERY_DELETE_DOCUMENTS_BY_TOPICMAP, getTopicMapId());
+		delete(connection, QUERY_DELETE_STATE, getTopicMapId());
+		PreparedStatement documents = connection.prepareStatement(QUERY_INSERT_DOCUMENT);
+		PreparedStatement postings = connection.prepareStatement(QUERY_INSERT_POSTING);
+		try {
+			int rows = 0;
+			for (Topic topic : getTopicMapStore().getTopicMap().getTopics()) {
+				for (Construct construct : getCharacteristics(topic)) {
+					rows += insert(documents, postings, (IConstruct) construct, getValue(construct));
+					if (rows >= BATCH_SIZE) {
+						documents.executeBatch();
+						postings.executeBatch();
+						rows = 0;
+					}
+				}
+			}
+			documents.executeBatch();
+			postings.executeBatch();
+		} finally {
+			documents.close();
+			postings.close();
+		}
+		PreparedStatement stmt = connection.prepareStatement(QUERY_INSERT_STATE);
+		try {
+			stmt.setLong(1, getTopicMapId());
+			stmt.executeUpdate();
+		} finally {
+			stmt.close();
+		}
+	}
+
+	/**
+	 * Replaces the terms of the given characteristics, if the index is built.
+	 * Called by the topic map store within the session of the modification.
+	 *
+	 * @param connection
+	 *            the connection of the session
+	 * @param construct
+	 *            the name, occurrence or variant
+	 * @param value
+	 *            the new value
+	 * @throws SQLException
+	 *             thrown if the rows cannot be written
+	 */
+	public void updateCharacteristics(Connection connection, IConstruct construct, String value) throws SQLException {
+		if (!isBuilt(connection)) {
+			return;
+		}
+		delete(connection, QUERY_DELETE_POSTINGS_BY_CONSTRUCT, construct.longId());
+		delete(connection, QUERY_DELETE_DOCUMENT, construct.longId());
+		PreparedStatement documents = connection.prepareStatement(QUERY_INSERT_DOCUMENT);
+		PreparedStatement postings = connection.prepareStatement(QUERY_INSERT_POSTING);
+		try {
+			insert(documents, postings, construct, value);
+			documents.executeBatch();
+			postings.executeBatch();
+		} finally {
+			documents.close();
+			postings.close();
+		}
+	}
+
+	/**
+	 * Removes the terms of the given characteristics and the variants of a
+	 * name, if the index is built. Called by the topic map store within the
+	 * session of the modification.
+	 *
+	 * @param connection
+	 *            the connection of the session
+	 * @param id
+	 *            the id of the name, occurrence or variant
+	 * @throws SQLException
+	 *             thrown if the rows cannot be deleted
+	 */
+	public void removeCharacteristics(Connection connection, long id) throws SQLException {
+		if (!isBuilt(connection)) {
+			return;
+		}
+		delete(connection, QUERY_DELETE_POSTINGS, id);
+		delete(connection, QUERY_DELETE_DOCUMENTS, id);
+	}
+
+	/**
+	 * Removes the terms of all characteristics of the given topic, if the index
+	 * is built. Called by the topic map store within the session of the
+	 * modification.
+	 *
+	 * @param connection
+	 *            the connection of the session
+	 * @param id
+	 *            the id of the topic
+	 * @throws SQLException
+	 *             thrown if the rows cannot be deleted
+	 */
+	public void removeTopic(Connection connection, long id) throws SQLException {
+		if (!isBuilt(connection)) {
+			return;
+		}
+		delete(connection, QUERY_DELETE_POSTINGS_BY_TOPIC, id);
+		delete(connection, QUERY_DELETE_DOCUMENTS_BY_TOPIC, id);
+	}
+
+	/**
+	 * Replaces the terms of all characteristics of the given topic, if the
+	 * index is built. Called by the topic map store within the session of the
+	 * modification.
+	 *
+	 * @param connection
+	 *            the connection of the session
+	 * @param topic
+	 *            the topic
+	 * @throws SQLException
+	 *             thrown if the rows cannot be written
+	 */
+	public void updateTopic(Connection connection, ITopic topic) throws SQLException {
+		if (!isBuilt(connection)) {
+			return;
+		}
+		delete(connection, QUERY_DELETE_POSTINGS_BY_TOPIC, topic.longId());
+		delete(connection, QUERY_DELETE_DOCUMENTS_BY_TOPIC, topic.longId());
+		PreparedStatement documents = connection.prepareStatement(QUERY_INSERT_DOCUMENT);
+		PreparedStatement postings = connection.prepareStatement(QUERY_INSERT_POSTING);
+		try {
+			for (Construct construct : getCharacteristics(topic)) {
+				insert(documents, postings, (IConstruct) construct, getValue(construct));
+			}
+			documents.executeBatch();
+			postings.executeBatch();
+		} finally {
+			documents.close();
+			postings.close();
+		}
+	}
+
+	/**
+	 * Removes the terms of all characteristics of the topic map, which is
+	 * cleared. The topic map stays marked as indexed. Called by the topic map
+	 * store within the session of the modification.
+	 *
+	 * @param connection
+	 *            the connection of the session
+	 * @throws SQLException
+	 *             thrown if the rows cannot be deleted
+	 */
+	public void clear(Connection connection) throws SQLException {
+		if (!isBuilt(connection)) {
+			return;
+		}
+		delete(connection, QUERY_DELETE_POSTINGS_BY_TOPICMAP, getTopicMapId());
+		delete(connection, QUERY_DELETE_DOCUMENTS_BY_TOPICMAP, getTopicMapId());
+	}
+
+	/**
+	 * Removes all rows and the marker of the topic map, which is removed.
+	 * Called by the topic map store within the session of the modification.
+	 *
+	 * @param connection
+	 *            the connection of the session
+	 * @throws SQLException
+	 *             thrown if the rows cannot be deleted
+	 */
+	public void removeTopicMap(Connection connection) throws SQLException {
+		clear(connection);
+		delete(connection, QUERY_DELETE_STATE, getTopicMapId());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void doReindex() {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			try {
+				Connection connection = session.getConnection();
+				createTables(connection);
+				build(connection);
+				session.commit();
+			} finally {
+				session.close();
+			}
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void doIndex(IConstruct construct, String value) {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			try {
+				updateCharacteristics(session.getConnection(), construct, value);
+				session.commit();
+			} finally {
+				session.close();
+			}
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void doUnindex(IConstruct construct) {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			try {
+				removeCharacteristics(session.getConnection(), construct.longId());
+				session.commit();
+			} finally {
+				session.close();
+			}
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void doUnindexTopic(ITopic topic) {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			try {
+				removeTopic(session.getConnection(), topic.longId());
+				session.commit();
+			} finally {
+				session.close();
+			}
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * Removes all rows and the marker of the topic map, so the index is built
+	 * again if it is opened.
+	 */
+	protected void doClear() {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			try {
+				removeTopicMap(session.getConnection());
+				session.commit();
+			} finally {
+				session.close();
+			}
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected Map<Construct, Double> doScore(FullTextQuery query) {
+		Map<Construct, Double> constructs = new LinkedHashMap<Construct, Double>();
+		try {
+			ISession session = getTopicMapStore().openSession();
+			try {
+				Connection connection = session.getConnection();
+				Map<Long, Double> scores = new Searcher(connection).score(query);
+				for (Entry<Long, Double> entry : scores.entrySet()) {
+					IConstruct construct = (IConstruct) getTopicMapStore().getTopicMap().getConstructById(entry.getKey().toString());
+					if (construct == null || construct.isRemoved()) {
+						/*
+						 * characteristics removed without notification
+						 */
+						removeCharacteristics(connection, entry.getKey());
+					} else {
+						constructs.put(construct, entry.getValue());
+					}
+				}
+				session.commit();
+			} finally {
+				session.close();
+			}
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+		return constructs;
+	}
+
+	/**
+	 * Adds the rows of the given characteristics to the batches of the given
+	 * statements.
+	 *
+	 * @param documents
+	 *            the statement inserting into the documents table
+	 * @param postings
+	 *            the statement inserting into the postings table
+	 * @param construct
+	 *            the name, occurrence or variant
+	 * @param value
+	 *            the value
+	 * @return the number of added rows
+	 * @throws SQLException
+	 *             thrown if the parameters cannot be set
+	 */
+	private int insert(PreparedStatement documents, PreparedStatement postings, IConstruct construct, String value) throws SQLException {
+		List<String> terms = FullTextAnalyzer.tokenize(value);
+		if (terms.isEmpty()) {
+			return 0;
+		}
+		IConstruct parent;
+		ITopic topic;
+		if (construct instanceof Variant) {
+			Name name = ((Variant) construct).getParent();
+			parent = (IConstruct) name;
+			topic = (ITopic) name.getParent();
+		} else if (construct instanceof Name) {
+			topic = (ITopic) ((Name) construct).getParent();
+			parent = topic;
+		} else {
+			topic = (ITopic) ((Occurrence) construct).getParent();
+			parent = topic;
+		}
+		documents.setLong(1, getTopicMapId());
+		documents.setLong(2, construct.longId());
+		documents.setLong(3, parent.longId());
+		documents.setLong(4, topic.longId());
+		documents.setInt(5, terms.size());
+		documents.addBatch();
+		for (int position = 0; position < terms.size(); position++) {
+			postings.setLong(1, getTopicMapId());
+			postings.setLong(2, construct.longId());
+			postings.setString(3, terms.get(position));
+			postings.setInt(4, position);
+			postings.addBatch();
+		}
+		return terms.size() + 1;
+	}
+
+	/**
+	 * Executes the given delete query with the given id as value of all
+	 * parameters.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param query
+	 *            the query
+	 * @param id
+	 *            the id
+	 * @throws SQLException
+	 *             thrown if the query fails
+	 */
+	private void delete(Connection connection, String query, long id) throws SQLException {
+		PreparedStatement stmt = connection.prepareStatement(query);
+		try {
+			int index = 1;
+			for (int i = query.indexOf('?'); i != -1; i = query.indexOf('?', i + 1)) {
+				stmt.setLong(index++, id);
+			}
+			stmt.executeUpdate();
+		} finally {
+			stmt.close();
+		}
+	}
+
+	/**
+	 * Returns the id of the topic map of the store
+	 *
+	 * @return the id
+	 */
+	private long getTopicMapId() {
+		return getTopicMapStore().getTopicMapIdentity().longId();
+	}
+}
@@ -23,6 +23,8 @@ import java.sql.SQLException;
 import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import org.tmapi.core.Locator;
@@ -31,7 +33,9 @@ import org.tmapi.core.Occurrence;
 import org.tmapi.core.TMAPIRuntimeException;
 import org.tmapi.core.Variant;
 
+import de.topicmapslab.geotype.wgs84.Wgs84Circuit;
 import de.topicmapslab.geotype.wgs84.Wgs84Coordinate;
+import de.topicmapslab.majortom.comparator.CharacteristicsByDistanceComparator;
 import de.topicmapslab.majortom.core.LocatorImpl;
 import de.topicmapslab.majortom.database.jdbc.model.ISession;
 import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
@@ -43,6 +47,7 @@ import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
 import de.topicmapslab.majortom.model.namespace.Namespaces;
 import de.topicmapslab.majortom.util.DatatypeAwareUtils;
 import de.topicmapslab.majortom.util.HashUtil;
+import de.topicmapslab.majortom.util.LiteralUtils;
 
 /**
  * @author Sven Krosse
@@ -400,6 +405,75 @@ public class JdbcLiteralIndex extends CachedLiteralIndexImpl<JdbcTopicMapStore>
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> doGetCoordinates(Wgs84Circuit area) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (area == null) {
+			throw new IllegalArgumentException("Area cannot be null");
+		}
+		try {
+			Collection<ICharacteristics> col = HashUtil.getHashSet();
+			for (ICharacteristics coordinate : doGetCharacteristics(new LocatorImpl(Namespaces.XSD.WGS84_COORDINATE))) {
+				IOccurrence occ = (IOccurrence) coordinate;
+				if (area.contains(occ.coordinateValue())) {
+					col.add(occ);
+				}
+			}
+			return col;
+		} catch (ParseException e) {
+			throw new TopicMapStoreException("Internal engine error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> doGetCoordinatesInBoundingBox(Wgs84Coordinate southWest, Wgs84Coordinate northEast) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (southWest == null || northEast == null) {
+			throw new IllegalArgumentException("Corner cannot be null");
+		}
+		try {
+			Collection<ICharacteristics> col = HashUtil.getHashSet();
+			for (ICharacteristics coordinate : doGetCharacteristics(new LocatorImpl(Namespaces.XSD.WGS84_COORDINATE))) {
+				IOccurrence occ = (IOccurrence) coordinate;
+				if (LiteralUtils.inBoundingBox(occ.coordinateValue(), southWest, northEast)) {
+					col.add(occ);
+				}
+			}
+			return col;
+		} catch (ParseException e) {
+			throw new TopicMapStoreException("Internal engine error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> doGetNearestCoordinates(Wgs84Coordinate value, int count) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (value == null) {
+			throw new IllegalArgumentException("Value cannot be null");
+		}
+		CharacteristicsByDistanceComparator comparator = new CharacteristicsByDistanceComparator(value);
+		List<ICharacteristics> list = HashUtil.getList();
+		for (ICharacteristics coordinate : doGetCharacteristics(new LocatorImpl(Namespaces.XSD.WGS84_COORDINATE))) {
+			if (comparator.getDistance(coordinate) != Double.POSITIVE_INFINITY) {
+				list.add(coordinate);
+			}
+		}
+		Collections.sort(list, comparator);
+		return HashUtil.secureSubList(list, 0, count);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -476,6 +550,28 @@ public class JdbcLiteralIndex extends CachedLiteralIndexImpl<JdbcTopicMapStore>
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> doGetDateTimeBetween(Calendar lower, Calendar upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (lower == null || upper == null) {
+			throw new IllegalArgumentException("Value cannot be null");
+		}
+		try {
+			Collection<ICharacteristics> col = HashUtil.getHashSet();
+			ISession session = getTopicMapStore().openSession();
+			col.addAll(session.getProcessor().getOccurrences(getTopicMapStore().getTopicMap(), lower, upper, -1, -1));
+			session.commit();
+			session.close();
+			return col;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -514,6 +610,33 @@ public class JdbcLiteralIndex extends CachedLiteralIndexImpl<JdbcTopicMapStore>
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> doGetDoublesBetween(double lower, double upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (lower > upper) {
+			return Collections.emptySet();
+		}
+		try {
+			/*
+			 * the range is mapped to its center and the maximum difference
+			 */
+			double value = (upper / 2d) + (lower / 2d);
+			double deviance = (upper / 2d) - (lower / 2d);
+			Collection<ICharacteristics> col = HashUtil.getHashSet();
+			ISession session = getTopicMapStore().openSession();
+			col.addAll(session.getProcessor().getOccurrences(getTopicMapStore().getTopicMap(), value, deviance, Namespaces.XSD.DOUBLE, -1, -1));
+			session.commit();
+			session.close();
+			return col;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -552,6 +675,33 @@ public class JdbcLiteralIndex extends CachedLiteralIndexImpl<JdbcTopicMapStore>
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> doGetFloatsBetween(float lower, float upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (lower > upper) {
+			return Collections.emptySet();
+		}
+		try {
+			/*
+			 * the range is mapped to its center and the maximum difference
+			 */
+			double value = (upper / 2d) + (lower / 2d);
+			double deviance = (upper / 2d) - (lower / 2d);
+			Collection<ICharacteristics> col = HashUtil.getHashSet();
+			ISession session = getTopicMapStore().openSession();
+			col.addAll(session.getProcessor().getOccurrences(getTopicMapStore().getTopicMap(), value, deviance, Namespaces.XSD.FLOAT, -1, -1));
+			session.commit();
+			session.close();
+			return col;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -590,6 +740,33 @@ public class JdbcLiteralIndex extends CachedLiteralIndexImpl<JdbcTopicMapStore>
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> doGetIntegersBetween(int lower, int upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (lower > upper) {
+			return Collections.emptySet();
+		}
+		try {
+			/*
+			 * the range is mapped to its center and the maximum difference
+			 */
+			double value = (upper / 2d) + (lower / 2d);
+			double deviance = (upper / 2d) - (lower / 2d);
+			Collection<ICharacteristics> col = HashUtil.getHashSet();
+			ISession session = getTopicMapStore().openSession();
+			col.addAll(session.getProcessor().getOccurrences(getTopicMapStore().getTopicMap(), value, deviance, Namespaces.XSD.INT, -1, -1));
+			session.commit();
+			session.close();
+			return col;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -628,6 +805,33 @@ public class JdbcLiteralIndex extends CachedLiteralIndexImpl<JdbcTopicMapStore>
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> doGetLongsBetween(long lower, long upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (lower > upper) {
+			return Collections.emptySet();
+		}
+		try {
+			/*
+			 * the range is mapped to its center and the maximum difference
+			 */
+			double value = (upper / 2d) + (lower / 2d);
+			double deviance = (upper / 2d) - (lower / 2d);
+			Collection<ICharacteristics> col = HashUtil.getHashSet();
+			ISession session = getTopicMapStore().openSession();
+			col.addAll(session.getProcessor().getOccurrences(getTopicMapStore().getTopicMap(), value, deviance, Namespaces.XSD.LONG, -1, -1));
+			session.commit();
+			session.close();
+			return col;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -24,7 +24,6 @@ import java.util.Collection;
 import java.util.Collections;
 
 import org.tmapi.core.Association;
-import org.tmapi.core.Construct;
 import org.tmapi.core.Name;
 import org.tmapi.core.Occurrence;
 import org.tmapi.core.Role;
@@ -36,7 +35,6 @@ import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
 import de.topicmapslab.majortom.index.nonpaged.CachedTypeInstanceIndexImpl;
 import de.topicmapslab.majortom.model.core.ICharacteristics;
 import de.topicmapslab.majortom.model.core.ITopic;
-import de.topicmapslab.majortom.model.event.TopicMapEventType;
 import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
 import de.topicmapslab.majortom.model.index.ITransitiveTypeInstanceIndex;
 import de.topicmapslab.majortom.util.HashUtil;
@@ -588,22 +586,4 @@ public class JdbcTransitiveTypeInstanceIndex extends CachedTypeInstanceIndexImpl
 		return getTopics(Arrays.asList(types), all);
 	}
 
-	/**
-	 * {@inheritDoc}
-	 */
-	public void topicMapChanged(String id, TopicMapEventType event, Construct notifier, Object newValue, Object oldValue) {
-		/*
-		 * supertype added or removed
-		 */
-		if (event == TopicMapEventType.SUPERTYPE_ADDED || event == TopicMapEventType.SUPERTYPE_REMOVED) {
-			clearCache();
-		}
-		/*
-		 * redirect to super class
-		 */
-		else {
-			super.topicMapChanged(id, event, notifier, newValue, oldValue);
-		}
-	}
-
 }
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.database.jdbc.index.paged;
+
+import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
+import de.topicmapslab.majortom.index.paged.PagedFullTextIndexImpl;
+import de.topicmapslab.majortom.model.index.IFullTextIndex;
+import de.topicmapslab.majortom.model.index.paging.IPagedFullTextIndex;
+
+/**
+ * Implementation class of {@link IPagedFullTextIndex} of the Jdbc Topic Map Store.
+ * 
+ * @author Sven Krosse
+ * 
+ */
+public class JdbcPagedFullTextIndex extends PagedFullTextIndexImpl<JdbcTopicMapStore> {
+
+	/**
+	 * constructor
+	 * 
+	 * @param store
+	 *            the store
+	 * @param parentIndex
+	 *            the parent index ( non-paged index)
+	 */
+	public JdbcPagedFullTextIndex(JdbcTopicMapStore store, IFullTextIndex parentIndex) {
+		super(store, parentIndex);
+	}
+
+}
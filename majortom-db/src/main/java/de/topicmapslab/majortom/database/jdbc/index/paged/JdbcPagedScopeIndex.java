@@ -31,12 +31,15 @@ import org.tmapi.core.Topic;
 import org.tmapi.core.Variant;
 
 import de.topicmapslab.majortom.database.jdbc.model.ISession;
+import de.topicmapslab.majortom.database.jdbc.util.JdbcCursorUtils;
 import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
 import de.topicmapslab.majortom.index.paged.PagedScopeIndexImpl;
 import de.topicmapslab.majortom.model.core.ICharacteristics;
 import de.topicmapslab.majortom.model.core.IScope;
+import de.topicmapslab.majortom.model.core.ITopic;
 import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
 import de.topicmapslab.majortom.model.index.IScopedIndex;
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
 import de.topicmapslab.majortom.util.HashUtil;
 
 /**
@@ -778,4 +781,84 @@ public class JdbcPagedScopeIndex extends PagedScopeIndexImpl<JdbcTopicMapStore>
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * <b>Hint:</b> The cursor is translated to a seek on the identifiers, so every page is read by one query
+	 * independent from its depth.
+	 * </p>
+	 */
+	protected PagedResult<Association> doGetAssociations(Topic theme, String cursor, int limit) {
+		try {
+			List<Association> list = HashUtil.getList();
+			ISession session = getTopicMapStore().openSession();
+			list.addAll(session.getProcessor().getAssociationsByThemeAfter((ITopic) theme, JdbcCursorUtils.toId(cursor), limit));
+			session.commit();
+			session.close();
+			return JdbcCursorUtils.toPage(list, limit);
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * <b>Hint:</b> The cursor is translated to a seek on the identifiers, so every page is read by one query
+	 * independent from its depth.
+	 * </p>
+	 */
+	protected PagedResult<Name> doGetNames(Topic theme, String cursor, int limit) {
+		try {
+			List<Name> list = HashUtil.getList();
+			ISession session = getTopicMapStore().openSession();
+			list.addAll(session.getProcessor().getNamesByThemeAfter((ITopic) theme, JdbcCursorUtils.toId(cursor), limit));
+			session.commit();
+			session.close();
+			return JdbcCursorUtils.toPage(list, limit);
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * <b>Hint:</b> The cursor is translated to a seek on the identifiers, so every page is read by one query
+	 * independent from its depth.
+	 * </p>
+	 */
+	protected PagedResult<Occurrence> doGetOccurrences(Topic theme, String cursor, int limit) {
+		try {
+			List<Occurrence> list = HashUtil.getList();
+			ISession session = getTopicMapStore().openSession();
+			list.addAll(session.getProcessor().getOccurrencesByThemeAfter((ITopic) theme, JdbcCursorUtils.toId(cursor), limit));
+			session.commit();
+			session.close();
+			return JdbcCursorUtils.toPage(list, limit);
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * <b>Hint:</b> The cursor is translated to a seek on the identifiers, so every page is read by one query
+	 * independent from its depth.
+	 * </p>
+	 */
+	protected PagedResult<Variant> doGetVariants(Topic theme, String cursor, int limit) {
+		try {
+			List<Variant> list = HashUtil.getList();
+			ISession session = getTopicMapStore().openSession();
+			list.addAll(session.getProcessor().getVariantsByThemeAfter((ITopic) theme, JdbcCursorUtils.toId(cursor), limit));
+			session.commit();
+			session.close();
+			return JdbcCursorUtils.toPage(list, limit);
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
 }
@@ -20,6 +20,7 @@ package de.topicmapslab.majortom.database.jdbc.index.paged;
 
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 
@@ -537,4 +538,184 @@ public class JdbcPagedTransitiveTypeInstanceIndex extends PagedTypeInstanceIndex
 			throw new TopicMapStoreException("Internal database error!", e);
 		}
 	}	
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected long doGetNumberOfAssociations(Topic type) {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			long number = session.getProcessor().doReadNumberOfAssociationsByTypesTransitive(Collections.singleton(type));
+			session.commit();
+			session.close();
+			return number;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected long doGetNumberOfAssociations(Collection<? extends Topic> types) {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			long number = session.getProcessor().doReadNumberOfAssociationsByTypesTransitive(types);
+			session.commit();
+			session.close();
+			return number;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected long doGetNumberOfCharacteristics(Topic type) {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			long number = session.getProcessor().doReadNumberOfCharacteristicsByTypesTransitive(Collections.singleton(type));
+			session.commit();
+			session.close();
+			return number;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected long doGetNumberOfCharacteristics(Collection<? extends Topic> types) {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			long number = session.getProcessor().doReadNumberOfCharacteristicsByTypesTransitive(types);
+			session.commit();
+			session.close();
+			return number;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected long doGetNumberOfNames(Topic type) {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			long number = session.getProcessor().doReadNumberOfNamesByTypesTransitive(Collections.singleton(type));
+			session.commit();
+			session.close();
+			return number;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected long doGetNumberOfNames(Collection<? extends Topic> types) {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			long number = session.getProcessor().doReadNumberOfNamesByTypesTransitive(types);
+			session.commit();
+			session.close();
+			return number;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected long doGetNumberOfOccurrences(Topic type) {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			long number = session.getProcessor().doReadNumberOfOccurrencesByTypesTransitive(Collections.singleton(type));
+			session.commit();
+			session.close();
+			return number;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected long doGetNumberOfOccurrences(Collection<? extends Topic> types) {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			long number = session.getProcessor().doReadNumberOfOccurrencesByTypesTransitive(types);
+			session.commit();
+			session.close();
+			return number;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected long doGetNumberOfRoles(Topic type) {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			long number = session.getProcessor().doReadNumberOfRolesByTypesTransitive(Collections.singleton(type));
+			session.commit();
+			session.close();
+			return number;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected long doGetNumberOfRoles(Collection<? extends Topic> types) {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			long number = session.getProcessor().doReadNumberOfRolesByTypesTransitive(types);
+			session.commit();
+			session.close();
+			return number;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected long doGetNumberOfTopics(Topic type) {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			long number = session.getProcessor().doReadNumberOfTopicsByTypesTransitive(Collections.singleton(type), false);
+			session.commit();
+			session.close();
+			return number;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected long doGetNumberOfTopics(Collection<Topic> types, boolean all) {
+		try {
+			ISession session = getTopicMapStore().openSession();
+			long number = session.getProcessor().doReadNumberOfTopicsByTypesTransitive(types, all);
+			session.commit();
+			session.close();
+			return number;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
 }
@@ -30,12 +30,14 @@ import org.tmapi.core.Role;
 import org.tmapi.core.Topic;
 
 import de.topicmapslab.majortom.database.jdbc.model.ISession;
+import de.topicmapslab.majortom.database.jdbc.util.JdbcCursorUtils;
 import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
 import de.topicmapslab.majortom.index.paged.PagedTypeInstanceIndexImpl;
 import de.topicmapslab.majortom.model.core.ICharacteristics;
 import de.topicmapslab.majortom.model.core.ITopic;
 import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
 import de.topicmapslab.majortom.model.index.ITypeInstanceIndex;
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
 import de.topicmapslab.majortom.util.HashUtil;
 
 /**
@@ -542,4 +544,104 @@ public class JdbcPagedTypeInstanceIndex extends PagedTypeInstanceIndexImpl<JdbcT
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * <b>Hint:</b> The cursor is translated to a seek on the identifiers, so every page is read by one query
+	 * independent from its depth.
+	 * </p>
+	 */
+	protected PagedResult<Topic> doGetTopics(Topic type, String cursor, int limit) {
+		try {
+			List<Topic> list = HashUtil.getList();
+			ISession session = getTopicMapStore().openSession();
+			list.addAll(session.getProcessor().getTopicsByTypeAfter((ITopic) type, JdbcCursorUtils.toId(cursor), limit));
+			session.commit();
+			session.close();
+			return JdbcCursorUtils.toPage(list, limit);
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * <b>Hint:</b> The cursor is translated to a seek on the identifiers, so every page is read by one query
+	 * independent from its depth.
+	 * </p>
+	 */
+	protected PagedResult<Name> doGetNames(Topic type, String cursor, int limit) {
+		try {
+			List<Name> list = HashUtil.getList();
+			ISession session = getTopicMapStore().openSession();
+			list.addAll(session.getProcessor().getNamesByTypeAfter((ITopic) type, JdbcCursorUtils.toId(cursor), limit));
+			session.commit();
+			session.close();
+			return JdbcCursorUtils.toPage(list, limit);
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * <b>Hint:</b> The cursor is translated to a seek on the identifiers, so every page is read by one query
+	 * independent from its depth.
+	 * </p>
+	 */
+	protected PagedResult<Occurrence> doGetOccurrences(Topic type, String cursor, int limit) {
+		try {
+			List<Occurrence> list = HashUtil.getList();
+			ISession session = getTopicMapStore().openSession();
+			list.addAll(session.getProcessor().getOccurrencesByTypeAfter((ITopic) type, JdbcCursorUtils.toId(cursor), limit));
+			session.commit();
+			session.close();
+			return JdbcCursorUtils.toPage(list, limit);
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * <b>Hint:</b> The cursor is translated to a seek on the identifiers, so every page is read by one query
+	 * independent from its depth.
+	 * </p>
+	 */
+	protected PagedResult<Association> doGetAssociations(Topic type, String cursor, int limit) {
+		try {
+			List<Association> list = HashUtil.getList();
+			ISession session = getTopicMapStore().openSession();
+			list.addAll(session.getProcessor().getAssociationsByTypeAfter((ITopic) type, JdbcCursorUtils.toId(cursor), limit));
+			session.commit();
+			session.close();
+			return JdbcCursorUtils.toPage(list, limit);
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * <b>Hint:</b> The cursor is translated to a seek on the identifiers, so every page is read by one query
+	 * independent from its depth.
+	 * </p>
+	 */
+	protected PagedResult<Role> doGetRoles(Topic type, String cursor, int limit) {
+		try {
+			List<Role> list = HashUtil.getList();
+			ISession session = getTopicMapStore().openSession();
+			list.addAll(session.getProcessor().getRolesByTypeAfter((ITopic) type, JdbcCursorUtils.toId(cursor), limit));
+			session.commit();
+			session.close();
+			return JdbcCursorUtils.toPage(list, limit);
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		}
+	}
+
 }
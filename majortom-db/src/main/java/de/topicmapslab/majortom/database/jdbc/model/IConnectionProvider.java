@@ -18,9 +18,11 @@
  */
 package de.topicmapslab.majortom.database.jdbc.model;
 
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 
+import de.topicmapslab.majortom.database.jdbc.core.ConnectionPool;
 import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
 import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
 
@@ -47,6 +49,12 @@ public interface IConnectionProvider {
 	 */
 	public final static int STATE_DATABASE_IS_VALID = 2;
 
+	/**
+	 * state code if the database schema is valid but misses parts of the current schema revision, like secondary
+	 * indexes
+	 */
+	public final static int STATE_DATABASE_NEEDS_MIGRATION = 3;
+
 	public final static String DATABASE_NOT_EXISTS = "3D000";
 
 	/**
@@ -56,6 +64,50 @@ public interface IConnectionProvider {
 	 */
 	public <T extends ISession> T openSession();
 
+	/**
+	 * Borrows a connection from the shared connection pool of the provider. Closing the connection returns it to the
+	 * pool.
+	 * 
+	 * @return the connection
+	 * @throws SQLException
+	 *             thrown if connection cannot be established
+	 */
+	public Connection getConnection() throws SQLException;
+
+	/**
+	 * Returns the connection pool shared by all sessions of this provider
+	 * 
+	 * @return the connection pool
+	 */
+	public ConnectionPool getConnectionPool();
+
+	/**
+	 * Starts a batch for the current thread. Until the batch is committed or rolled back, all sessions opened by the
+	 * current thread share one connection and one database transaction.
+	 * 
+	 * @throws SQLException
+	 *             thrown if the connection cannot be established
+	 * @throws TopicMapStoreException
+	 *             thrown if the current thread has already started a batch
+	 */
+	public void beginBatch() throws SQLException, TopicMapStoreException;
+
+	/**
+	 * Commits the batch of the current thread. If the thread has not started a batch, nothing happens.
+	 * 
+	 * @throws SQLException
+	 *             thrown if commit failed
+	 */
+	public void commitBatch() throws SQLException;
+
+	/**
+	 * Discards all changes of the batch of the current thread. If the thread has not started a batch, nothing happens.
+	 * 
+	 * @throws SQLException
+	 *             thrown if rollback failed
+	 */
+	public void rollbackBatch() throws SQLException;
+
 	/**
 	 * Closing the connection provider
 	 * @throws SQLException thrown if operation fails
@@ -91,13 +143,20 @@ public interface IConnectionProvider {
 	 */
 	public void createSchema() throws SQLException;
 
+	/**
+	 * Method called by the connection provider to migrate a valid database schema to the current schema revision,
+	 * e.g. by creating missing secondary indexes.
+	 */
+	public void migrateSchema() throws SQLException;
+
 	/**
 	 * Method checks if the schema of the current database connection is valid..
 	 * 
 	 * @return <p>
 	 *         <code>0</code> if the database is empty. <br />
 	 *         <code>1</code> if the database schema is invalid. <br />
-	 *         <code>2</code> if the database schema is valid.
+	 *         <code>2</code> if the database schema is valid. <br />
+	 *         <code>3</code> if the database schema is valid but has to be migrated.
 	 *         </p>
 	 */
 	public int getDatabaseState() throws SQLException;
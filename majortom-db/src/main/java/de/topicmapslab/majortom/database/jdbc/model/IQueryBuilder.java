@@ -153,6 +153,16 @@ public interface IQueryBuilder {
 
 	public PreparedStatement getQueryReadVariantsWithScope() throws SQLException;
 
+	public PreparedStatement getQueryReadNamesOfTopics() throws SQLException;
+
+	public PreparedStatement getQueryReadOccurrencesOfTopics() throws SQLException;
+
+	public PreparedStatement getQueryReadTypesOfTopics() throws SQLException;
+
+	public PreparedStatement getQueryReadSubjectIdentifiersOfTopics() throws SQLException;
+
+	public PreparedStatement getQueryReadSubjectLocatorsOfTopics() throws SQLException;
+
 	// ***************
 	// * MERGE QUERY *
 	// ***************
@@ -279,6 +289,16 @@ public interface IQueryBuilder {
 
 	public PreparedStatement getQuerySelectTopicsByTypes(long typeCount, boolean all, boolean withLimit) throws SQLException;
 
+	public PreparedStatement getQuerySelectAssociationsByTypeAfter() throws SQLException;
+
+	public PreparedStatement getQuerySelectNamesByTypeAfter() throws SQLException;
+
+	public PreparedStatement getQuerySelectOccurrencesByTypeAfter() throws SQLException;
+
+	public PreparedStatement getQuerySelectRolesByTypeAfter() throws SQLException;
+
+	public PreparedStatement getQuerySelectTopicsByTypeAfter() throws SQLException;
+
 	// TransitiveTypeInstanceIndex
 
 	public PreparedStatement getQuerySelectAssociationsByTypeTransitive(boolean paged) throws SQLException;
@@ -293,6 +313,30 @@ public interface IQueryBuilder {
 
 	public PreparedStatement getQuerySelectTopicsByTypesTransitive(boolean paged) throws SQLException;
 
+	public PreparedStatement getQuerySelectAssociationsByTypesTransitive(long typeCount, boolean paged) throws SQLException;
+
+	public PreparedStatement getQuerySelectCharacteristicsByTypesTransitive(long typeCount, boolean paged) throws SQLException;
+
+	public PreparedStatement getQuerySelectNamesByTypesTransitive(long typeCount, boolean paged) throws SQLException;
+
+	public PreparedStatement getQuerySelectOccurrencesByTypesTransitive(long typeCount, boolean paged) throws SQLException;
+
+	public PreparedStatement getQuerySelectRolesByTypesTransitive(long typeCount, boolean paged) throws SQLException;
+
+	public PreparedStatement getQuerySelectTopicsByTypesTransitive(long typeCount, boolean all, boolean paged) throws SQLException;
+
+	public PreparedStatement getQueryReadNumberOfAssociationsByTypesTransitive(long typeCount) throws SQLException;
+
+	public PreparedStatement getQueryReadNumberOfCharacteristicsByTypesTransitive(long typeCount) throws SQLException;
+
+	public PreparedStatement getQueryReadNumberOfNamesByTypesTransitive(long typeCount) throws SQLException;
+
+	public PreparedStatement getQueryReadNumberOfOccurrencesByTypesTransitive(long typeCount) throws SQLException;
+
+	public PreparedStatement getQueryReadNumberOfRolesByTypesTransitive(long typeCount) throws SQLException;
+
+	public PreparedStatement getQueryReadNumberOfTopicsByTypesTransitive(long typeCount, boolean all) throws SQLException;
+
 	// ScopedIndex
 
 	public PreparedStatement getQueryScopesByThemesUsed() throws SQLException;
@@ -349,6 +393,14 @@ public interface IQueryBuilder {
 
 	public PreparedStatement getQueryVariantThemes(boolean paged) throws SQLException;
 
+	public PreparedStatement getQueryAssociationsByThemeAfter() throws SQLException;
+
+	public PreparedStatement getQueryNamesByThemeAfter() throws SQLException;
+
+	public PreparedStatement getQueryOccurrencesByThemeAfter() throws SQLException;
+
+	public PreparedStatement getQueryVariantsByThemeAfter() throws SQLException;
+
 	// LiteralIndex
 
 	public PreparedStatement getQuerySelectCharacteristics(boolean paged) throws SQLException;
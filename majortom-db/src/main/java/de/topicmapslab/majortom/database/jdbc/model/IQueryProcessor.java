@@ -47,6 +47,7 @@ import de.topicmapslab.majortom.model.core.IVariant;
 import de.topicmapslab.majortom.model.event.TopicMapEventType;
 import de.topicmapslab.majortom.model.revision.Changeset;
 import de.topicmapslab.majortom.model.revision.IRevision;
+import de.topicmapslab.majortom.model.revision.IRevisionChange;
 import de.topicmapslab.majortom.model.store.TopicMapStoreParameterType;
 
 /**
@@ -259,6 +260,71 @@ public interface IQueryProcessor {
 
 	public Collection<IVariant> doReadVariants(IName n, IScope scope) throws SQLException;
 
+	// bulk read
+
+	/**
+	 * Reads the names of all given topics by one query.
+	 * 
+	 * @param topics
+	 *            the topics
+	 * @return a map containing the names of each given topic, topics without names are mapped to an empty collection
+	 * @throws SQLException
+	 *             thrown if a database error occurrs
+	 * @since 1.3.0
+	 */
+	public Map<ITopic, Collection<IName>> doReadNames(Collection<ITopic> topics) throws SQLException;
+
+	/**
+	 * Reads the occurrences of all given topics by one query.
+	 * 
+	 * @param topics
+	 *            the topics
+	 * @return a map containing the occurrences of each given topic, topics without occurrences are mapped to an empty
+	 *         collection
+	 * @throws SQLException
+	 *             thrown if a database error occurrs
+	 * @since 1.3.0
+	 */
+	public Map<ITopic, Collection<IOccurrence>> doReadOccurrences(Collection<ITopic> topics) throws SQLException;
+
+	/**
+	 * Reads the direct types of all given topics by one query.
+	 * 
+	 * @param topics
+	 *            the topics
+	 * @return a map containing the types of each given topic, untyped topics are mapped to an empty collection
+	 * @throws SQLException
+	 *             thrown if a database error occurrs
+	 * @since 1.3.0
+	 */
+	public Map<ITopic, Collection<ITopic>> doReadTypes(Collection<ITopic> topics) throws SQLException;
+
+	/**
+	 * Reads the subject-identifiers of all given topics by one query.
+	 * 
+	 * @param topics
+	 *            the topics
+	 * @return a map containing the subject-identifiers of each given topic, topics without subject-identifiers are
+	 *         mapped to an empty collection
+	 * @throws SQLException
+	 *             thrown if a database error occurrs
+	 * @since 1.3.0
+	 */
+	public Map<ITopic, Collection<ILocator>> doReadSubjectIdentifiers(Collection<ITopic> topics) throws SQLException;
+
+	/**
+	 * Reads the subject-locators of all given topics by one query.
+	 * 
+	 * @param topics
+	 *            the topics
+	 * @return a map containing the subject-locators of each given topic, topics without subject-locators are mapped to
+	 *         an empty collection
+	 * @throws SQLException
+	 *             thrown if a database error occurrs
+	 * @since 1.3.0
+	 */
+	public Map<ITopic, Collection<ILocator>> doReadSubjectLocators(Collection<ITopic> topics) throws SQLException;
+
 	/**
 	 * Returns the best label for the current topic instance. The best label will be identified satisfying the following
 	 * rules in the given order.
@@ -470,6 +536,16 @@ public interface IQueryProcessor {
 
 	public <T extends Topic> Collection<ITopic> getTopicsByTypes(Collection<T> types, boolean all, long offset, long limit) throws SQLException;
 
+	public Collection<IAssociation> getAssociationsByTypeAfter(ITopic type, long id, long limit) throws SQLException;
+
+	public Collection<IName> getNamesByTypeAfter(ITopic type, long id, long limit) throws SQLException;
+
+	public Collection<IOccurrence> getOccurrencesByTypeAfter(ITopic type, long id, long limit) throws SQLException;
+
+	public Collection<IAssociationRole> getRolesByTypeAfter(ITopic type, long id, long limit) throws SQLException;
+
+	public Collection<ITopic> getTopicsByTypeAfter(ITopic type, long id, long limit) throws SQLException;
+
 	// TransitiveTypeInstanceIndex
 
 	public Collection<IAssociation> getAssociationsByTypeTransitive(ITopic type, long offset, long limit) throws SQLException;
@@ -496,6 +572,18 @@ public interface IQueryProcessor {
 
 	public <T extends Topic> Collection<ITopic> getTopicsByTypesTransitive(ITopicMap topicMap, Collection<T> type, boolean all, long offset, long limit) throws SQLException;
 
+	public <T extends Topic> long doReadNumberOfAssociationsByTypesTransitive(Collection<T> types) throws SQLException;
+
+	public <T extends Topic> long doReadNumberOfCharacteristicsByTypesTransitive(Collection<T> types) throws SQLException;
+
+	public <T extends Topic> long doReadNumberOfNamesByTypesTransitive(Collection<T> types) throws SQLException;
+
+	public <T extends Topic> long doReadNumberOfOccurrencesByTypesTransitive(Collection<T> types) throws SQLException;
+
+	public <T extends Topic> long doReadNumberOfRolesByTypesTransitive(Collection<T> types) throws SQLException;
+
+	public <T extends Topic> long doReadNumberOfTopicsByTypesTransitive(Collection<T> types, boolean all) throws SQLException;
+
 	// ScopeIndex
 
 	public <T extends Topic> Collection<IScope> getScopesByThemes(ITopicMap topicMap, Collection<T> themes, boolean all) throws SQLException;
@@ -552,6 +640,14 @@ public interface IQueryProcessor {
 
 	public Collection<ITopic> getVariantThemes(ITopicMap topicMap, long offset, long limit) throws SQLException;
 
+	public Collection<IAssociation> getAssociationsByThemeAfter(ITopic theme, long id, long limit) throws SQLException;
+
+	public Collection<IName> getNamesByThemeAfter(ITopic theme, long id, long limit) throws SQLException;
+
+	public Collection<IOccurrence> getOccurrencesByThemeAfter(ITopic theme, long id, long limit) throws SQLException;
+
+	public Collection<IVariant> getVariantsByThemeAfter(ITopic theme, long id, long limit) throws SQLException;
+
 	// LiteralIndex
 
 	public Collection<ICharacteristics> getCharacteristics(final ITopicMap topicMap, final String value, long offset, long limit) throws SQLException;
@@ -642,6 +738,17 @@ public interface IQueryProcessor {
 
 	public void doCreateChangeSet(IRevision revision, TopicMapEventType type, IConstruct notifier, Object newValue, Object oldValue) throws SQLException;
 
+	/**
+	 * Stores all given changes by one batch of insert statements
+	 * 
+	 * @param changes
+	 *            the changes in the order of their occurrence
+	 * @throws SQLException
+	 *             thrown if a database error occurs
+	 * @since 1.3.0
+	 */
+	public void doCreateChangeSets(Collection<IRevisionChange> changes) throws SQLException;
+
 	public void doCreateTag(final String tag, final Calendar time) throws SQLException;
 
 	public void doCreateMetadata(final IRevision revision, final String key, final String value) throws SQLException;
@@ -51,7 +51,7 @@ public class MySqlConnectionProvider extends RDBMSConnectionProvider {
 	 */
 	@SuppressWarnings("unchecked")
 	public MySqlSession openSession() {
-		return new MySqlSession(this, getUrl(), getUser(), getPassword());
+		return new MySqlSession(this);
 	}
 
 	/**
@@ -43,6 +43,11 @@ import de.topicmapslab.majortom.util.HashUtil;
  */
 public class MySqlQueryBuilder extends RDBMSQueryBuilder {
 
+	/**
+	 * the number of topic ids bound to one bulk read statement
+	 */
+	public static final int BULK_READ_CHUNK_SIZE = 100;
+
 	/**
 	 * @param session
 	 *            the MaJorToM connection session
@@ -1036,6 +1041,67 @@ public class MySqlQueryBuilder extends RDBMSQueryBuilder {
 		return this.preparedStatementReadVariantsWithScope;
 	}
 
+	private PreparedStatement preparedStatementReadNamesOfTopics;
+	private PreparedStatement preparedStatementReadOccurrencesOfTopics;
+	private PreparedStatement preparedStatementReadTypesOfTopics;
+	private PreparedStatement preparedStatementReadSubjectIdentifiersOfTopics;
+	private PreparedStatement preparedStatementReadSubjectLocatorsOfTopics;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadNamesOfTopics() throws SQLException {
+		if (this.preparedStatementReadNamesOfTopics == null) {
+			this.preparedStatementReadNamesOfTopics = createPreparedStatementForBulkRead(
+					IMySqlSelectQueries.NonPaged.QUERY_READ_NAMES_OF_TOPICS);
+		}
+		return this.preparedStatementReadNamesOfTopics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadOccurrencesOfTopics() throws SQLException {
+		if (this.preparedStatementReadOccurrencesOfTopics == null) {
+			this.preparedStatementReadOccurrencesOfTopics = createPreparedStatementForBulkRead(
+					IMySqlSelectQueries.NonPaged.QUERY_READ_OCCURRENCES_OF_TOPICS);
+		}
+		return this.preparedStatementReadOccurrencesOfTopics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadTypesOfTopics() throws SQLException {
+		if (this.preparedStatementReadTypesOfTopics == null) {
+			this.preparedStatementReadTypesOfTopics = createPreparedStatementForBulkRead(
+					IMySqlSelectQueries.NonPaged.QUERY_READ_TYPES_OF_TOPICS);
+		}
+		return this.preparedStatementReadTypesOfTopics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadSubjectIdentifiersOfTopics() throws SQLException {
+		if (this.preparedStatementReadSubjectIdentifiersOfTopics == null) {
+			this.preparedStatementReadSubjectIdentifiersOfTopics = createPreparedStatementForBulkRead(
+					IMySqlSelectQueries.NonPaged.QUERY_READ_SUBJECT_IDENTIFIERS_OF_TOPICS);
+		}
+		return this.preparedStatementReadSubjectIdentifiersOfTopics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadSubjectLocatorsOfTopics() throws SQLException {
+		if (this.preparedStatementReadSubjectLocatorsOfTopics == null) {
+			this.preparedStatementReadSubjectLocatorsOfTopics = createPreparedStatementForBulkRead(
+					IMySqlSelectQueries.NonPaged.QUERY_READ_SUBJECT_LOCATORS_OF_TOPICS);
+		}
+		return this.preparedStatementReadSubjectLocatorsOfTopics;
+	}
+
 	// ****************
 	// * UPDATE QUERY *
 	// ****************
@@ -1960,6 +2026,67 @@ public class MySqlQueryBuilder extends RDBMSQueryBuilder {
 		return stmt;
 	}
 
+	private PreparedStatement preparedStatementIndexAssociationsByTypeAfter;
+	private PreparedStatement preparedStatementIndexNamesByTypeAfter;
+	private PreparedStatement preparedStatementIndexOccurrencesByTypeAfter;
+	private PreparedStatement preparedStatementIndexRolesByTypeAfter;
+	private PreparedStatement preparedStatementIndexTopicsByTypeAfter;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectAssociationsByTypeAfter() throws SQLException {
+		if (this.preparedStatementIndexAssociationsByTypeAfter == null) {
+			this.preparedStatementIndexAssociationsByTypeAfter = getConnection().prepareStatement(
+					IMySqlIndexQueries.QueryTypeInstanceIndex.Paged.QUERY_SELECT_ASSOCIATIONS_BY_TYPE_AFTER);
+		}
+		return this.preparedStatementIndexAssociationsByTypeAfter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectNamesByTypeAfter() throws SQLException {
+		if (this.preparedStatementIndexNamesByTypeAfter == null) {
+			this.preparedStatementIndexNamesByTypeAfter = getConnection().prepareStatement(
+					IMySqlIndexQueries.QueryTypeInstanceIndex.Paged.QUERY_SELECT_NAMES_BY_TYPE_AFTER);
+		}
+		return this.preparedStatementIndexNamesByTypeAfter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectOccurrencesByTypeAfter() throws SQLException {
+		if (this.preparedStatementIndexOccurrencesByTypeAfter == null) {
+			this.preparedStatementIndexOccurrencesByTypeAfter = getConnection().prepareStatement(
+					IMySqlIndexQueries.QueryTypeInstanceIndex.Paged.QUERY_SELECT_OCCURRENCES_BY_TYPE_AFTER);
+		}
+		return this.preparedStatementIndexOccurrencesByTypeAfter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectRolesByTypeAfter() throws SQLException {
+		if (this.preparedStatementIndexRolesByTypeAfter == null) {
+			this.preparedStatementIndexRolesByTypeAfter = getConnection().prepareStatement(
+					IMySqlIndexQueries.QueryTypeInstanceIndex.Paged.QUERY_SELECT_ROLES_BY_TYPE_AFTER);
+		}
+		return this.preparedStatementIndexRolesByTypeAfter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectTopicsByTypeAfter() throws SQLException {
+		if (this.preparedStatementIndexTopicsByTypeAfter == null) {
+			this.preparedStatementIndexTopicsByTypeAfter = getConnection().prepareStatement(
+					IMySqlIndexQueries.QueryTypeInstanceIndex.Paged.QUERY_SELECT_TOPIC_BY_TYPE_AFTER);
+		}
+		return this.preparedStatementIndexTopicsByTypeAfter;
+	}
+
 	// TransitiveTypeInstanceIndex
 
 	/**
@@ -2004,6 +2131,165 @@ public class MySqlQueryBuilder extends RDBMSQueryBuilder {
 		throw new UnsupportedOperationException("Unsupported by the SQL query builder implementation!");
 	}
 
+	/**
+	 * prepared statements of the sub-type closure queries by query and number of types
+	 */
+	private Map<String, Map<Long, PreparedStatement>> preparedStatementsByTypesTransitive;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectAssociationsByTypesTransitive(long typeCount, boolean paged) throws SQLException {
+		if (paged) {
+			return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.Paged.QUERY_SELECT_ASSOCIATIONS_BY_TYPES, typeCount);
+		}
+		return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_SELECT_ASSOCIATIONS_BY_TYPES, typeCount);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectCharacteristicsByTypesTransitive(long typeCount, boolean paged) throws SQLException {
+		if (paged) {
+			return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.Paged.QUERY_SELECT_CHARACTERISTICS_BY_TYPES, typeCount);
+		}
+		return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_SELECT_CHARACTERISTICS_BY_TYPES, typeCount);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectNamesByTypesTransitive(long typeCount, boolean paged) throws SQLException {
+		if (paged) {
+			return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.Paged.QUERY_SELECT_NAMES_BY_TYPES, typeCount);
+		}
+		return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_SELECT_NAMES_BY_TYPES, typeCount);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectOccurrencesByTypesTransitive(long typeCount, boolean paged) throws SQLException {
+		if (paged) {
+			return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.Paged.QUERY_SELECT_OCCURRENCES_BY_TYPES, typeCount);
+		}
+		return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_SELECT_OCCURRENCES_BY_TYPES, typeCount);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectRolesByTypesTransitive(long typeCount, boolean paged) throws SQLException {
+		if (paged) {
+			return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.Paged.QUERY_SELECT_ROLES_BY_TYPES, typeCount);
+		}
+		return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_SELECT_ROLES_BY_TYPES, typeCount);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectTopicsByTypesTransitive(long typeCount, boolean all, boolean paged) throws SQLException {
+		if (all) {
+			if (paged) {
+				return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.Paged.QUERY_SELECT_TOPICS_BY_TYPES_MATCHES_ALL, typeCount);
+			}
+			return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_SELECT_TOPICS_BY_TYPES_MATCHES_ALL, typeCount);
+		}
+		if (paged) {
+			return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.Paged.QUERY_SELECT_TOPICS_BY_TYPES, typeCount);
+		}
+		return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_SELECT_TOPICS_BY_TYPES, typeCount);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadNumberOfAssociationsByTypesTransitive(long typeCount) throws SQLException {
+		return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_READ_NUMBER_OF_ASSOCIATIONS_BY_TYPES, typeCount);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadNumberOfCharacteristicsByTypesTransitive(long typeCount) throws SQLException {
+		return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_READ_NUMBER_OF_CHARACTERISTICS_BY_TYPES, typeCount);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadNumberOfNamesByTypesTransitive(long typeCount) throws SQLException {
+		return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_READ_NUMBER_OF_NAMES_BY_TYPES, typeCount);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadNumberOfOccurrencesByTypesTransitive(long typeCount) throws SQLException {
+		return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_READ_NUMBER_OF_OCCURRENCES_BY_TYPES, typeCount);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadNumberOfRolesByTypesTransitive(long typeCount) throws SQLException {
+		return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_READ_NUMBER_OF_ROLES_BY_TYPES, typeCount);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadNumberOfTopicsByTypesTransitive(long typeCount, boolean all) throws SQLException {
+		if (all) {
+			return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_READ_NUMBER_OF_TOPICS_BY_TYPES_MATCHES_ALL, typeCount);
+		}
+		return getQueryByTypesTransitive(IMySqlIndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_READ_NUMBER_OF_TOPICS_BY_TYPES, typeCount);
+	}
+
+	/**
+	 * Internal method to get the prepared statement of a sub-type closure query for the given number of types. The
+	 * placeholder %ARRAY% of the query is replaced by one parameter for each type, so the seed of the recursion can
+	 * use the primary key of the topics table.
+	 * 
+	 * @param query
+	 *            the base query
+	 * @param typeCount
+	 *            the number of types
+	 * @return the statement
+	 * @throws SQLException
+	 *             thrown if statement cannot created
+	 */
+	private PreparedStatement getQueryByTypesTransitive(String query, long typeCount) throws SQLException {
+		if (preparedStatementsByTypesTransitive == null) {
+			preparedStatementsByTypesTransitive = HashUtil.getHashMap();
+		}
+		Map<Long, PreparedStatement> map = preparedStatementsByTypesTransitive.get(query);
+		if (map == null) {
+			map = HashUtil.getHashMap();
+			preparedStatementsByTypesTransitive.put(query, map);
+		}
+		PreparedStatement stmt = map.get(typeCount);
+		if (stmt == null) {
+			StringBuilder subquery = new StringBuilder();
+			for (long n = 0; n < typeCount; n++) {
+				if (n > 0) {
+					subquery.append(",");
+				}
+				subquery.append("?");
+			}
+			/*
+			 * an empty list is not allowed by MySQL
+			 */
+			if (typeCount == 0) {
+				subquery.append("NULL");
+			}
+			stmt = getConnection().prepareStatement(query.replace("%ARRAY%", subquery.toString()));
+			map.put(typeCount, stmt);
+		}
+		return stmt;
+	}
+
 	// ScopeIndex
 	private PreparedStatement preparedStatementIndexScopesByThemesUsed;
 
@@ -2620,6 +2906,55 @@ public class MySqlQueryBuilder extends RDBMSQueryBuilder {
 		return this.preparedStatementIndexVariantThemes;
 	}
 
+	private PreparedStatement preparedStatementIndexAssociationsByThemeAfter;
+	private PreparedStatement preparedStatementIndexNamesByThemeAfter;
+	private PreparedStatement preparedStatementIndexOccurrencesByThemeAfter;
+	private PreparedStatement preparedStatementIndexVariantsByThemeAfter;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryAssociationsByThemeAfter() throws SQLException {
+		if (this.preparedStatementIndexAssociationsByThemeAfter == null) {
+			this.preparedStatementIndexAssociationsByThemeAfter = getConnection().prepareStatement(
+					IMySqlIndexQueries.QueryScopeIndex.Paged.QUERY_SELECT_ASSOCIATIONS_BY_THEME_AFTER);
+		}
+		return this.preparedStatementIndexAssociationsByThemeAfter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryNamesByThemeAfter() throws SQLException {
+		if (this.preparedStatementIndexNamesByThemeAfter == null) {
+			this.preparedStatementIndexNamesByThemeAfter = getConnection().prepareStatement(
+					IMySqlIndexQueries.QueryScopeIndex.Paged.QUERY_SELECT_NAMES_BY_THEME_AFTER);
+		}
+		return this.preparedStatementIndexNamesByThemeAfter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryOccurrencesByThemeAfter() throws SQLException {
+		if (this.preparedStatementIndexOccurrencesByThemeAfter == null) {
+			this.preparedStatementIndexOccurrencesByThemeAfter = getConnection().prepareStatement(
+					IMySqlIndexQueries.QueryScopeIndex.Paged.QUERY_SELECT_OCCURRENCES_BY_THEME_AFTER);
+		}
+		return this.preparedStatementIndexOccurrencesByThemeAfter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryVariantsByThemeAfter() throws SQLException {
+		if (this.preparedStatementIndexVariantsByThemeAfter == null) {
+			this.preparedStatementIndexVariantsByThemeAfter = getConnection().prepareStatement(
+					IMySqlIndexQueries.QueryScopeIndex.Paged.QUERY_SELECT_VARIANTS_BY_THEME_AFTER);
+		}
+		return this.preparedStatementIndexVariantsByThemeAfter;
+	}
+
 	// LiteralIndex
 
 	private PreparedStatement preparedStatementIndexCharacteristics;
@@ -3341,6 +3676,27 @@ public class MySqlQueryBuilder extends RDBMSQueryBuilder {
 		return getConnection().prepareStatement(query.replaceAll(replacer, subquery));
 	}
 
+	/**
+	 * Method creates a prepared statement to read the information of a chunk of topics. The statement has
+	 * {@link #BULK_READ_CHUNK_SIZE} parameters, so it can be reused for every chunk.
+	 * 
+	 * @param query
+	 *            the base query
+	 * @return the created statement
+	 * @throws SQLException
+	 *             thrown if statement cannot created
+	 */
+	private PreparedStatement createPreparedStatementForBulkRead(String query) throws SQLException {
+		StringBuilder subquery = new StringBuilder();
+		for (int n = 0; n < BULK_READ_CHUNK_SIZE; n++) {
+			if (n > 0) {
+				subquery.append(",");
+			}
+			subquery.append("?");
+		}
+		return getConnection().prepareStatement(query.replace("%ARRAY%", subquery.toString()));
+	}
+
 	// *****************
 	// * PERFORM QUERY *
 	// *****************
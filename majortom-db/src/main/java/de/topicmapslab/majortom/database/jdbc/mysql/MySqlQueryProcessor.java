@@ -2509,443 +2509,136 @@ public class MySqlQueryProcessor extends RDBMSQueryProcessor {
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * MySQL does not support array parameters, so each identifier is bound as one parameter of the list created by
+	 * the query builder for the number of types.
+	 * </p>
 	 */
-	public Collection<IAssociation> getAssociationsByTypeTransitive(ITopic type, long offset, long limit) throws SQLException {
-		/*
-		 * create association set and add associations directly typed by the given type
-		 */
-		Collection<IAssociation> set = HashUtil.getHashSet(getAssociationsByType(type, -1, -1));
-		/*
-		 * iterate over all sub-types of the given type
-		 */
-		for (ITopic t : getSubtypes(type.getTopicMap(), type, -1, -1)) {
-			/*
-			 * add all associations typed by the sub-type
-			 */
-			set.addAll(getAssociationsByType(t, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<IAssociation> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
-	}
-
-	/**
-	 * {@inheritDoc}
-	 */
-	public <T extends Topic> Collection<IAssociation> getAssociationsByTypeTransitive(ITopicMap topicMap, Collection<T> types, long offset, long limit) throws SQLException {
-		/*
-		 * create association set
-		 */
-		Collection<IAssociation> set = HashUtil.getHashSet();
-		/*
-		 * iterate over all types
-		 */
+	protected <T extends Topic> int setTypeIds(PreparedStatement stmt, int parameterIndex, Collection<T> types) throws SQLException {
+		int n = parameterIndex;
 		for (T type : types) {
-			/*
-			 * add associations transitive by type
-			 */
-			set.addAll(getAssociationsByTypeTransitive((ITopic) type, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<IAssociation> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
-	}
-
-	/**
-	 * {@inheritDoc}
-	 */
-	public Collection<ICharacteristics> getCharacteristicsByTypeTransitive(ITopic type, long offset, long limit) throws SQLException {
-		/*
-		 * create characteristics set and add characteristics directly typed by the given type
-		 */
-		Collection<ICharacteristics> set = HashUtil.getHashSet(getCharacteristicsByType(type, -1, -1));
-		/*
-		 * iterate over all sub-types of the given type
-		 */
-		for (ITopic t : getSubtypes(type.getTopicMap(), type, -1, -1)) {
-			/*
-			 * add all characteristics typed by the sub-type
-			 */
-			set.addAll(getCharacteristicsByType(t, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<ICharacteristics> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
-	}
-
-	/**
-	 * {@inheritDoc}
-	 */
-	public <T extends Topic> Collection<ICharacteristics> getCharacteristicsByTypesTransitive(Collection<T> types, long offset, long limit) throws SQLException {
-		/*
-		 * create characteristics set
-		 */
-		Collection<ICharacteristics> set = HashUtil.getHashSet();
-		/*
-		 * iterate over all types
-		 */
-		for (T type : types) {
-			/*
-			 * add characteristics transitive by type
-			 */
-			set.addAll(getCharacteristicsByTypeTransitive((ITopic) type, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<ICharacteristics> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
-	}
-
-	/**
-	 * {@inheritDoc}
-	 */
-	public Collection<IName> getNamesByTypeTransitive(ITopic type, long offset, long limit) throws SQLException {
-		/*
-		 * create name set and add names directly typed by the given type
-		 */
-		Collection<IName> set = HashUtil.getHashSet(getNamesByType(type, -1, -1));
-		/*
-		 * iterate over all sub-types of the given type
-		 */
-		for (ITopic t : getSubtypes(type.getTopicMap(), type, -1, -1)) {
-			/*
-			 * add all names typed by the sub-type
-			 */
-			set.addAll(getNamesByType(t, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<IName> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
+			stmt.setLong(n++, Long.parseLong(type.getId()));
 		}
-		return set;
+		return n;
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * The topics are read in chunks of {@link MySqlQueryBuilder#BULK_READ_CHUNK_SIZE} bound identifiers.
+	 * </p>
 	 */
-	public <T extends Topic> Collection<IName> getNamesByTypeTransitive(ITopicMap topicMap, Collection<T> types, long offset, long limit) throws SQLException {
-		/*
-		 * create name set
-		 */
-		Collection<IName> set = HashUtil.getHashSet();
-		/*
-		 * iterate over all types
-		 */
-		for (T type : types) {
-			/*
-			 * add names transitive by type
-			 */
-			set.addAll(getNamesByTypeTransitive((ITopic) type, -1, -1));
+	public Map<ITopic, Collection<IName>> doReadNames(Collection<ITopic> topics) throws SQLException {
+		Map<ITopic, Collection<IName>> map = HashUtil.getHashMap(topics.size());
+		for (List<ITopic> chunk : toChunks(topics)) {
+			PreparedStatement stmt = getQueryBuilder().getQueryReadNamesOfTopics();
+			setTopicIds(stmt, chunk);
+			map.putAll(Jdbc2Construct.toNamesByParent(chunk, stmt.executeQuery(), "id", "id_parent"));
 		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<IName> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
+		return map;
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * The topics are read in chunks of {@link MySqlQueryBuilder#BULK_READ_CHUNK_SIZE} bound identifiers.
+	 * </p>
 	 */
-	public Collection<IOccurrence> getOccurrencesByTypeTransitive(ITopic type, long offset, long limit) throws SQLException {
-		/*
-		 * create occurrence set and add occurrences directly typed by the given type
-		 */
-		Collection<IOccurrence> set = HashUtil.getHashSet(getOccurrencesByType(type, -1, -1));
-		/*
-		 * iterate over all sub-types of the given type
-		 */
-		for (ITopic t : getSubtypes(type.getTopicMap(), type, -1, -1)) {
-			/*
-			 * add all occurrences typed by the sub-type
-			 */
-			set.addAll(getOccurrencesByType(t, -1, -1));
+	public Map<ITopic, Collection<IOccurrence>> doReadOccurrences(Collection<ITopic> topics) throws SQLException {
+		Map<ITopic, Collection<IOccurrence>> map = HashUtil.getHashMap(topics.size());
+		for (List<ITopic> chunk : toChunks(topics)) {
+			PreparedStatement stmt = getQueryBuilder().getQueryReadOccurrencesOfTopics();
+			setTopicIds(stmt, chunk);
+			map.putAll(Jdbc2Construct.toOccurrencesByParent(chunk, stmt.executeQuery(), "id", "id_parent"));
 		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<IOccurrence> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
+		return map;
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * The topics are read in chunks of {@link MySqlQueryBuilder#BULK_READ_CHUNK_SIZE} bound identifiers.
+	 * </p>
 	 */
-	public <T extends Topic> Collection<IOccurrence> getOccurrencesByTypeTransitive(ITopicMap topicMap, Collection<T> types, long offset, long limit) throws SQLException {
-		/*
-		 * create occurrences set
-		 */
-		Collection<IOccurrence> set = HashUtil.getHashSet();
-		/*
-		 * iterate over all types
-		 */
-		for (T type : types) {
-			/*
-			 * add occurrences transitive by type
-			 */
-			set.addAll(getOccurrencesByTypeTransitive((ITopic) type, -1, -1));
+	public Map<ITopic, Collection<ITopic>> doReadTypes(Collection<ITopic> topics) throws SQLException {
+		Map<ITopic, Collection<ITopic>> map = HashUtil.getHashMap(topics.size());
+		for (List<ITopic> chunk : toChunks(topics)) {
+			PreparedStatement stmt = getQueryBuilder().getQueryReadTypesOfTopics();
+			setTopicIds(stmt, chunk);
+			map.putAll(Jdbc2Construct.toTopicsByTopic(chunk, stmt.executeQuery(), "id_type", "id_instance"));
 		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<IOccurrence> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
+		return map;
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * The topics are read in chunks of {@link MySqlQueryBuilder#BULK_READ_CHUNK_SIZE} bound identifiers.
+	 * </p>
 	 */
-	public Collection<IAssociationRole> getRolesByTypeTransitive(ITopic type, long offset, long limit) throws SQLException {
-		/*
-		 * create role set and add roles directly typed by the given type
-		 */
-		Collection<IAssociationRole> set = HashUtil.getHashSet(getRolesByType(type, -1, -1));
-		/*
-		 * iterate over all sub-types of the given type
-		 */
-		for (ITopic t : getSubtypes(type.getTopicMap(), type, -1, -1)) {
-			/*
-			 * add all roles typed by the sub-type
-			 */
-			set.addAll(getRolesByType(t, -1, -1));
+	public Map<ITopic, Collection<ILocator>> doReadSubjectIdentifiers(Collection<ITopic> topics) throws SQLException {
+		Map<ITopic, Collection<ILocator>> map = HashUtil.getHashMap(topics.size());
+		for (List<ITopic> chunk : toChunks(topics)) {
+			PreparedStatement stmt = getQueryBuilder().getQueryReadSubjectIdentifiersOfTopics();
+			setTopicIds(stmt, chunk);
+			map.putAll(Jdbc2Construct.toLocatorsByTopic(chunk, stmt.executeQuery(), "reference", "id_topic"));
 		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<IAssociationRole> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
+		return map;
 	}
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 * The topics are read in chunks of {@link MySqlQueryBuilder#BULK_READ_CHUNK_SIZE} bound identifiers.
+	 * </p>
 	 */
-	public <T extends Topic> Collection<IAssociationRole> getRolesByTypeTransitive(ITopicMap topicMap, Collection<T> types, long offset, long limit) throws SQLException {
-		/*
-		 * create roles set
-		 */
-		Collection<IAssociationRole> set = HashUtil.getHashSet();
-		/*
-		 * iterate over all types
-		 */
-		for (T type : types) {
-			/*
-			 * add roles transitive by type
-			 */
-			set.addAll(getRolesByTypeTransitive((ITopic) type, -1, -1));
+	public Map<ITopic, Collection<ILocator>> doReadSubjectLocators(Collection<ITopic> topics) throws SQLException {
+		Map<ITopic, Collection<ILocator>> map = HashUtil.getHashMap(topics.size());
+		for (List<ITopic> chunk : toChunks(topics)) {
+			PreparedStatement stmt = getQueryBuilder().getQueryReadSubjectLocatorsOfTopics();
+			setTopicIds(stmt, chunk);
+			map.putAll(Jdbc2Construct.toLocatorsByTopic(chunk, stmt.executeQuery(), "reference", "id_topic"));
 		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<IAssociationRole> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
+		return map;
 	}
 
 	/**
-	 * {@inheritDoc}
-	 */
-	public Collection<ITopic> getTopicsByTypeTransitive(ITopic type, long offset, long limit) throws SQLException {
-		/*
-		 * create topics set and add topics directly typed by the given type
-		 */
-		Collection<ITopic> set = HashUtil.getHashSet(getTopicsByType(type.getTopicMap(), type, -1, -1));
-		/*
-		 * iterate over all sub-types of the given type
-		 */
-		for (ITopic t : getSubtypes(type.getTopicMap(), type, -1, -1)) {
-			/*
-			 * add all topics typed by the sub-type
-			 */
-			set.addAll(getTopicsByType(type.getTopicMap(), t, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<ITopic> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
+	 * Internal method to split the given topics into chunks of at most {@link MySqlQueryBuilder#BULK_READ_CHUNK_SIZE}
+	 * distinct topics
+	 * 
+	 * @param topics
+	 *            the topics
+	 * @return the chunks
+	 */
+	private List<List<ITopic>> toChunks(Collection<ITopic> topics) {
+		List<List<ITopic>> chunks = HashUtil.getList();
+		List<ITopic> chunk = null;
+		for (ITopic topic : HashUtil.getHashSet(topics)) {
+			if (chunk == null || chunk.size() == MySqlQueryBuilder.BULK_READ_CHUNK_SIZE) {
+				chunk = HashUtil.getList();
+				chunks.add(chunk);
+			}
+			chunk.add(topic);
 		}
-		return set;
+		return chunks;
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Internal method to bind the identifiers of the given chunk to a bulk read statement. The remaining parameters
+	 * are filled with the last identifier, because the statement always has
+	 * {@link MySqlQueryBuilder#BULK_READ_CHUNK_SIZE} parameters.
+	 * 
+	 * @param stmt
+	 *            the statement
+	 * @param chunk
+	 *            the topics
+	 * @throws SQLException
+	 *             thrown if a parameter cannot be set
 	 */
-	public <T extends Topic> Collection<ITopic> getTopicsByTypesTransitive(ITopicMap topicMap, Collection<T> types, boolean all, long offset, long limit) throws SQLException {
-		/*
-		 * flag indicates first iteration
-		 */
-		boolean first = true;
-		/*
-		 * create topics set
-		 */
-		Collection<ITopic> set = HashUtil.getHashSet();
-		/*
-		 * iterate over all types
-		 */
-		for (T type : types) {
-			/*
-			 * add roles transitive by type if is first iteration or matching-all flag is false
-			 */
-			if (first || !all) {
-				set.addAll(getTopicsByTypeTransitive((ITopic) type, -1, -1));
-			} else {
-				set.retainAll(getTopicsByTypeTransitive((ITopic) type, -1, -1));
-			}
-			first = false;
+	private void setTopicIds(PreparedStatement stmt, List<ITopic> chunk) throws SQLException {
+		for (int n = 0; n < MySqlQueryBuilder.BULK_READ_CHUNK_SIZE; n++) {
+			stmt.setLong(n + 1, Long.parseLong(chunk.get(Math.min(n, chunk.size() - 1)).getId()));
 		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<ITopic> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
 	}
 
 	// ScopedIndex
@@ -3630,12 +3323,14 @@ public class MySqlQueryProcessor extends RDBMSQueryProcessor {
 		PreparedStatement stmt = getQueryBuilder().getQuerySelectCharacteristicsByPattern(offset != -1);
 		long topicMapId = Long.parseLong(topicMap.getId());
 		stmt.setLong(1, topicMapId);
-		stmt.setString(2, value);
-		stmt.setLong(3, topicMapId);
-		stmt.setString(4, value);
+		stmt.setString(2, toLikeFilter(value));
+		stmt.setString(3, value);
+		stmt.setLong(4, topicMapId);
+		stmt.setString(5, toLikeFilter(value));
+		stmt.setString(6, value);
 		if (offset != -1) {
-			stmt.setLong(5, offset);
-			stmt.setLong(6, limit);
+			stmt.setLong(7, offset);
+			stmt.setLong(8, limit);
 		}
 		ResultSet rs = stmt.executeQuery();
 		return Jdbc2Construct.toCharacteristics(topicMap, rs);
@@ -3653,13 +3348,15 @@ public class MySqlQueryProcessor extends RDBMSQueryProcessor {
 		PreparedStatement stmt = getQueryBuilder().getQuerySelectCharacteristicsByPatternAndDatatype(offset != -1);
 		long topicMapId = Long.parseLong(topicMap.getId());
 		stmt.setLong(1, topicMapId);
-		stmt.setString(2, value);
-		stmt.setString(3, reference);
-		stmt.setLong(4, topicMapId);
-		stmt.setString(5, value);
+		stmt.setString(2, toLikeFilter(value));
+		stmt.setString(3, value);
+		stmt.setString(4, reference);
+		stmt.setLong(5, topicMapId);
+		stmt.setString(6, toLikeFilter(value));
+		stmt.setString(7, value);
 		if (offset != -1) {
-			stmt.setLong(6, offset);
-			stmt.setLong(7, limit);
+			stmt.setLong(8, offset);
+			stmt.setLong(9, limit);
 		}
 		ResultSet rs = stmt.executeQuery();
 		return Jdbc2Construct.toCharacteristics(topicMap, rs);
@@ -3714,7 +3411,8 @@ public class MySqlQueryProcessor extends RDBMSQueryProcessor {
 	public Collection<IName> getNamesByPattern(ITopicMap topicMap, String pattern) throws SQLException {
 		PreparedStatement stmt = getQueryBuilder().getQuerySelectNamesByPattern();
 		stmt.setLong(1, Long.parseLong(topicMap.getId()));
-		stmt.setString(2, pattern);
+		stmt.setString(2, toLikeFilter(pattern));
+		stmt.setString(3, pattern);
 		ResultSet rs = stmt.executeQuery();
 		return Jdbc2Construct.toNames(topicMap, rs, "id", "id_parent");
 	}
@@ -3811,7 +3509,8 @@ public class MySqlQueryProcessor extends RDBMSQueryProcessor {
 	public Collection<IOccurrence> getOccurrencesByPattern(ITopicMap topicMap, String pattern) throws SQLException {
 		PreparedStatement stmt = getQueryBuilder().getQuerySelectOccurrencesByPattern();
 		stmt.setLong(1, Long.parseLong(topicMap.getId()));
-		stmt.setString(2, pattern);
+		stmt.setString(2, toLikeFilter(pattern));
+		stmt.setString(3, pattern);
 		ResultSet rs = stmt.executeQuery();
 		return Jdbc2Construct.toOccurrences(topicMap, rs, "id", "id_parent");
 	}
@@ -3822,8 +3521,9 @@ public class MySqlQueryProcessor extends RDBMSQueryProcessor {
 	public Collection<IOccurrence> getOccurrencesByPattern(ITopicMap topicMap, String pattern, String reference) throws SQLException {
 		PreparedStatement stmt = getQueryBuilder().getQuerySelectOccurrencesByPatternAndDatatype();
 		stmt.setLong(1, Long.parseLong(topicMap.getId()));
-		stmt.setString(2, pattern);
-		stmt.setString(3, reference);
+		stmt.setString(2, toLikeFilter(pattern));
+		stmt.setString(3, pattern);
+		stmt.setString(4, reference);
 		ResultSet rs = stmt.executeQuery();
 		return Jdbc2Construct.toOccurrences(topicMap, rs, "id", "id_parent");
 	}
@@ -3882,7 +3582,8 @@ public class MySqlQueryProcessor extends RDBMSQueryProcessor {
 	public Collection<IVariant> getVariantByPattern(ITopicMap topicMap, String pattern) throws SQLException {
 		PreparedStatement stmt = getQueryBuilder().getQuerySelectVariantsByPattern();
 		stmt.setLong(1, Long.parseLong(topicMap.getId()));
-		stmt.setString(2, pattern);
+		stmt.setString(2, toLikeFilter(pattern));
+		stmt.setString(3, pattern);
 		ResultSet rs = stmt.executeQuery();
 		return Jdbc2Construct.toVariants(topicMap, rs);
 	}
@@ -3893,8 +3594,9 @@ public class MySqlQueryProcessor extends RDBMSQueryProcessor {
 	public Collection<IVariant> getVariantsByPattern(ITopicMap topicMap, String pattern, String reference) throws SQLException {
 		PreparedStatement stmt = getQueryBuilder().getQuerySelectVariantsByPatternAndDatatype();
 		stmt.setLong(1, Long.parseLong(topicMap.getId()));
-		stmt.setString(2, pattern);
-		stmt.setString(3, reference);
+		stmt.setString(2, toLikeFilter(pattern));
+		stmt.setString(3, pattern);
+		stmt.setString(4, reference);
 		ResultSet rs = stmt.executeQuery();
 		return Jdbc2Construct.toVariants(topicMap, rs);
 	}
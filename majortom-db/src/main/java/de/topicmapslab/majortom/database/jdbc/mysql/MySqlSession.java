@@ -32,15 +32,9 @@ public class MySqlSession extends RDBMSSession {
 	 * 
 	 * @param connectionProvider
 	 *            the parent connection provider
-	 * @param url
-	 *            the database URL
-	 * @param user
-	 *            the user database property
-	 * @param password
-	 *            the password database property
 	 */
-	public MySqlSession(RDBMSConnectionProvider connectionProvider, String url, String user, String password) {
-		super(connectionProvider, url, user, password);
+	public MySqlSession(RDBMSConnectionProvider connectionProvider) {
+		super(connectionProvider);
 	}
 
 	/**
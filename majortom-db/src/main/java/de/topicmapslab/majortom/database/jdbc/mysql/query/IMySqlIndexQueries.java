@@ -22,6 +22,7 @@ import de.topicmapslab.majortom.model.index.IIdentityIndex;
 import de.topicmapslab.majortom.model.index.ILiteralIndex;
 import de.topicmapslab.majortom.model.index.IScopedIndex;
 import de.topicmapslab.majortom.model.index.ISupertypeSubtypeIndex;
+import de.topicmapslab.majortom.model.index.ITransitiveTypeInstanceIndex;
 import de.topicmapslab.majortom.model.index.ITypeInstanceIndex;
 
 /**
@@ -99,9 +100,9 @@ public interface IMySqlIndexQueries {
 
 			public static final String QUERY_SELECT_ASSOCIATIONS_BY_TYPES = "SELECT id FROM associations WHERE id_topicmap = ? AND id_type IN ( SELECT unnest( ? ) )  ORDER BY id OFFSET ? LIMIT ? ;";
 
-			public static final String QUERY_SELECT_CHARACTERISTICS_BY_TYPE = "SELECT id, id_parent, type FROM ( SELECT id, id_parent, 'o' AS type FROM occurrences WHERE id_type = ? UNION SELECT id, id_parent, 'n' AS type FROM names WHERE id_type = ? ) AS u ORDER BY id OFFSET ? LIMIT ? ;";
+			public static final String QUERY_SELECT_CHARACTERISTICS_BY_TYPE = "SELECT id, id_parent, type FROM ( SELECT id, id_parent, 'o' AS type FROM occurrences WHERE id_type = ? UNION SELECT id, id_parent, 'n' AS type FROM names WHERE id_type = ? ) AS u ORDER BY id, type OFFSET ? LIMIT ? ;";
 
-			public static final String QUERY_SELECT_CHARACTERISTICS_BY_TYPES = "SELECT id, id_parent, type FROM ( SELECT id, id_parent, 'o' AS type FROM occurrences WHERE id_type IN ( SELECT unnest( ? ) ) UNION SELECT id, id_parent, 'n' AS type FROM names WHERE id_type IN ( SELECT unnest( ? ) ) ) AS u ORDER BY id OFFSET ? LIMIT ? ;";
+			public static final String QUERY_SELECT_CHARACTERISTICS_BY_TYPES = "SELECT id, id_parent, type FROM ( SELECT id, id_parent, 'o' AS type FROM occurrences WHERE id_type IN ( SELECT unnest( ? ) ) UNION SELECT id, id_parent, 'n' AS type FROM names WHERE id_type IN ( SELECT unnest( ? ) ) ) AS u ORDER BY id, type OFFSET ? LIMIT ? ;";
 
 			public static final String QUERY_SELECT_ROLES_BY_TYPE = "SELECT id, id_parent FROM roles WHERE id_topicmap = ? AND id_type = ?  ORDER BY id OFFSET ? LIMIT ? ;";
 
@@ -122,6 +123,79 @@ public interface IMySqlIndexQueries {
 			public static final String QUERY_SELECT_TOPIC_BY_TYPES = "SELECT id_instance FROM rel_instance_of, topics WHERE id = id_instance AND  id_topicmap = ? AND ( %SUBQUERY% )  ORDER BY id_instance OFFSET ? LIMIT ?  ";
 
 			public static final String QUERY_SELECT_TOPIC_BY_TYPES_MATCHES_ALL = "SELECT DISTINCT id_instance FROM rel_instance_of AS r, topics WHERE id = id_instance AND  id_topicmap = ?  AND  ARRAY ( SELECT id_type FROM rel_instance_of AS r2 WHERE r.id_instance = r2.id_instance ) @> CAST ( ARRAY[ %ARRAY%] AS bigint[] )   ORDER BY id_instance OFFSET ? LIMIT ? ";
+
+			public static final String QUERY_SELECT_ASSOCIATIONS_BY_TYPE_AFTER = "SELECT id FROM associations WHERE id_topicmap = ? AND id_type = ? AND id > ? ORDER BY id LIMIT ? ;";
+
+			public static final String QUERY_SELECT_ROLES_BY_TYPE_AFTER = "SELECT id, id_parent FROM roles WHERE id_topicmap = ? AND id_type = ? AND id > ? ORDER BY id LIMIT ? ;";
+
+			public static final String QUERY_SELECT_NAMES_BY_TYPE_AFTER = "SELECT id, id_parent FROM names WHERE id_topicmap = ? AND id_type = ? AND id > ? ORDER BY id LIMIT ? ;";
+
+			public static final String QUERY_SELECT_OCCURRENCES_BY_TYPE_AFTER = "SELECT id, id_parent FROM occurrences WHERE id_topicmap = ? AND id_type = ? AND id > ? ORDER BY id LIMIT ? ;";
+
+			public static final String QUERY_SELECT_TOPIC_BY_TYPE_AFTER = "SELECT DISTINCT id_instance FROM rel_instance_of, topics WHERE id = id_instance AND id_topicmap = ? AND id_type = ? AND id_instance > ? ORDER BY id_instance LIMIT ? ;";
+		}
+
+	}
+
+	/**
+	 * Query definitions to realize methods of {@link ITransitiveTypeInstanceIndex}. The sub-type closure of the
+	 * given types is calculated by a recursive common table expression, so ordering, paging and counting are done
+	 * by the database. MySQL does not support array parameters, so the placeholder %ARRAY% has to be replaced by one
+	 * parameter for each type.
+	 * 
+	 * @author Sven Krosse
+	 * 
+	 */
+	interface QueryTransitiveTypeInstanceIndex {
+
+		interface NonPaged {
+
+			public static final String QUERY_SELECT_ASSOCIATIONS_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT a.id FROM associations AS a, types AS t WHERE a.id_type = t.id;";
+
+			public static final String QUERY_SELECT_CHARACTERISTICS_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT id, id_parent, type FROM ( SELECT n.id, n.id_parent, 'n' AS type FROM names AS n, types AS t WHERE n.id_type = t.id UNION ALL SELECT o.id, o.id_parent, 'o' AS type FROM occurrences AS o, types AS t WHERE o.id_type = t.id ) AS u;";
+
+			public static final String QUERY_SELECT_NAMES_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT n.id, n.id_parent FROM names AS n, types AS t WHERE n.id_type = t.id;";
+
+			public static final String QUERY_SELECT_OCCURRENCES_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT o.id, o.id_parent FROM occurrences AS o, types AS t WHERE o.id_type = t.id;";
+
+			public static final String QUERY_SELECT_ROLES_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT r.id, r.id_parent FROM roles AS r, types AS t WHERE r.id_type = t.id;";
+
+			public static final String QUERY_SELECT_TOPICS_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT DISTINCT i.id_instance AS id FROM rel_instance_of AS i, types AS t WHERE i.id_type = t.id;";
+
+			public static final String QUERY_SELECT_TOPICS_BY_TYPES_MATCHES_ALL = "WITH RECURSIVE types(root, id) AS ( SELECT id, id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT t.root, r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT i.id_instance AS id FROM rel_instance_of AS i, types AS t WHERE i.id_type = t.id GROUP BY i.id_instance HAVING COUNT(DISTINCT t.root) = ?;";
+
+			public static final String QUERY_READ_NUMBER_OF_ASSOCIATIONS_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT COUNT(*) FROM associations AS a, types AS t WHERE a.id_type = t.id;";
+
+			public static final String QUERY_READ_NUMBER_OF_CHARACTERISTICS_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT ( SELECT COUNT(*) FROM names AS n, types AS t WHERE n.id_type = t.id ) + ( SELECT COUNT(*) FROM occurrences AS o, types AS t WHERE o.id_type = t.id ) AS number;";
+
+			public static final String QUERY_READ_NUMBER_OF_NAMES_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT COUNT(*) FROM names AS n, types AS t WHERE n.id_type = t.id;";
+
+			public static final String QUERY_READ_NUMBER_OF_OCCURRENCES_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT COUNT(*) FROM occurrences AS o, types AS t WHERE o.id_type = t.id;";
+
+			public static final String QUERY_READ_NUMBER_OF_ROLES_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT COUNT(*) FROM roles AS r, types AS t WHERE r.id_type = t.id;";
+
+			public static final String QUERY_READ_NUMBER_OF_TOPICS_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT COUNT(DISTINCT i.id_instance) FROM rel_instance_of AS i, types AS t WHERE i.id_type = t.id;";
+
+			public static final String QUERY_READ_NUMBER_OF_TOPICS_BY_TYPES_MATCHES_ALL = "SELECT COUNT(*) FROM ( WITH RECURSIVE types(root, id) AS ( SELECT id, id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT t.root, r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT i.id_instance FROM rel_instance_of AS i, types AS t WHERE i.id_type = t.id GROUP BY i.id_instance HAVING COUNT(DISTINCT t.root) = ? ) AS c;";
+
+		}
+
+		interface Paged {
+
+			public static final String QUERY_SELECT_ASSOCIATIONS_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT a.id FROM associations AS a, types AS t WHERE a.id_type = t.id ORDER BY a.id LIMIT ?, ?;";
+
+			public static final String QUERY_SELECT_CHARACTERISTICS_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT id, id_parent, type FROM ( SELECT n.id, n.id_parent, 'n' AS type FROM names AS n, types AS t WHERE n.id_type = t.id UNION ALL SELECT o.id, o.id_parent, 'o' AS type FROM occurrences AS o, types AS t WHERE o.id_type = t.id ) AS u ORDER BY id, type LIMIT ?, ?;";
+
+			public static final String QUERY_SELECT_NAMES_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT n.id, n.id_parent FROM names AS n, types AS t WHERE n.id_type = t.id ORDER BY n.id LIMIT ?, ?;";
+
+			public static final String QUERY_SELECT_OCCURRENCES_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT o.id, o.id_parent FROM occurrences AS o, types AS t WHERE o.id_type = t.id ORDER BY o.id LIMIT ?, ?;";
+
+			public static final String QUERY_SELECT_ROLES_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT r.id, r.id_parent FROM roles AS r, types AS t WHERE r.id_type = t.id ORDER BY r.id LIMIT ?, ?;";
+
+			public static final String QUERY_SELECT_TOPICS_BY_TYPES = "WITH RECURSIVE types(id) AS ( SELECT id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT DISTINCT i.id_instance AS id FROM rel_instance_of AS i, types AS t WHERE i.id_type = t.id ORDER BY id LIMIT ?, ?;";
+
+			public static final String QUERY_SELECT_TOPICS_BY_TYPES_MATCHES_ALL = "WITH RECURSIVE types(root, id) AS ( SELECT id, id FROM topics WHERE id IN ( %ARRAY% ) UNION SELECT t.root, r.id_subtype FROM rel_kind_of AS r, types AS t WHERE r.id_supertype = t.id ) SELECT i.id_instance AS id FROM rel_instance_of AS i, types AS t WHERE i.id_type = t.id GROUP BY i.id_instance HAVING COUNT(DISTINCT t.root) = ? ORDER BY id LIMIT ?, ?;";
+
 		}
 
 	}
@@ -269,6 +343,14 @@ public interface IMySqlIndexQueries {
 			public static final String QUERY_SELECT_VARIANT_SCOPES = "SELECT id_scope FROM variants WHERE id_topicmap = ? ORDER BY id_scope OFFSET ? LIMIT ?;";
 
 			public static final String QUERY_SELECT_VARIANT_THEMES = "SELECT id_theme FROM rel_themes WHERE id_scope IN ( SELECT id_scope FROM variants WHERE id_topicmap = ? ) OR id_scope IN ( SELECT id_scope FROM names WHERE id_topicmap = ? AND id IN ( SELECT id_parent FROM variants )) ORDER BY id_theme OFFSET ? LIMIT ?;";
+
+			public static final String QUERY_SELECT_ASSOCIATIONS_BY_THEME_AFTER = "SELECT id FROM associations WHERE id_topicmap = ? AND id_scope IN ( SELECT id_scope FROM rel_themes WHERE id_theme = ? ) AND id > ? ORDER BY id LIMIT ? ;";
+
+			public static final String QUERY_SELECT_NAMES_BY_THEME_AFTER = "SELECT id, id_parent FROM names WHERE id_topicmap = ? AND id_scope IN ( SELECT id_scope FROM rel_themes WHERE id_theme = ? ) AND id > ? ORDER BY id LIMIT ? ;";
+
+			public static final String QUERY_SELECT_OCCURRENCES_BY_THEME_AFTER = "SELECT id, id_parent FROM occurrences WHERE id_topicmap = ? AND id_scope IN ( SELECT id_scope FROM rel_themes WHERE id_theme = ? ) AND id > ? ORDER BY id LIMIT ? ;";
+
+			public static final String QUERY_SELECT_VARIANTS_BY_THEME_AFTER = "SELECT v.id, v.id_parent, n.id_parent FROM variants AS v, names AS n WHERE v.id_parent = n.id AND v.id_topicmap = ? AND ( v.id_scope IN ( SELECT id_scope FROM rel_themes WHERE id_theme = ? ) OR n.id_scope IN ( SELECT id_scope FROM rel_themes WHERE id_theme = ? )) AND v.id > ? ORDER BY v.id LIMIT ? ;";
 		}
 	}
 
@@ -281,9 +363,9 @@ public interface IMySqlIndexQueries {
 
 		interface NonPaged {
 
-			public static final String QUERY_SELECT_CHARACTERISTICS_BY_REGEXP_AND_DATATYPE = "SELECT o.id, id_parent, 'o' AS type FROM occurrences AS o, locators AS l WHERE id_topicmap = ? AND value ~* ? AND o.id_datatype = l.id AND l.reference = ? UNION SELECT id, id_parent, 'n' AS type FROM names WHERE id_topicmap = ? AND value ~* ?;";
+			public static final String QUERY_SELECT_CHARACTERISTICS_BY_REGEXP_AND_DATATYPE = "SELECT o.id, id_parent, 'o' AS type FROM occurrences AS o, locators AS l WHERE id_topicmap = ? AND LOWER(value) LIKE LOWER(?) ESCAPE '!' AND value ~* ? AND o.id_datatype = l.id AND l.reference = ? UNION SELECT id, id_parent, 'n' AS type FROM names WHERE id_topicmap = ? AND LOWER(value) LIKE LOWER(?) ESCAPE '!' AND value ~* ?;";
 
-			public static final String QUERY_SELECT_CHARACTERISTICS_BY_REGEXP = "SELECT id, id_parent, 'o' AS type FROM occurrences WHERE id_topicmap = ? AND value ~* ? UNION SELECT id, id_parent, 'n' AS type FROM names WHERE id_topicmap = ? AND value ~* ?;";
+			public static final String QUERY_SELECT_CHARACTERISTICS_BY_REGEXP = "SELECT id, id_parent, 'o' AS type FROM occurrences WHERE id_topicmap = ? AND LOWER(value) LIKE LOWER(?) ESCAPE '!' AND value ~* ? UNION SELECT id, id_parent, 'n' AS type FROM names WHERE id_topicmap = ? AND LOWER(value) LIKE LOWER(?) ESCAPE '!' AND value ~* ?;";
 
 			public static final String QUERY_SELECT_CHARACTERISTICS_BY_DATATYPE = "SELECT o.id, id_parent, 'o' AS type FROM occurrences AS o, locators AS l WHERE id_topicmap = ? AND o.id_datatype = l.id AND l.reference = ? UNION SELECT id, id_parent, 'n' AS type FROM names WHERE id_topicmap = ?;";
 
@@ -297,7 +379,7 @@ public interface IMySqlIndexQueries {
 
 			public static final String QUERY_SELECT_NAMES_BY_VALUE = "SELECT id, id_parent FROM names WHERE id_topicmap = ? AND value ILIKE ?  ;";
 
-			public static final String QUERY_SELECT_NAMES_BY_REGEXP = "SELECT id, id_parent FROM names WHERE id_topicmap = ? AND value ~* ?  ;";
+			public static final String QUERY_SELECT_NAMES_BY_REGEXP = "SELECT id, id_parent FROM names WHERE id_topicmap = ? AND LOWER(value) LIKE LOWER(?) ESCAPE '!' AND value ~* ?  ;";
 
 			public static final String QUERY_SELECT_OCCURRENCES = "SELECT id, id_parent FROM occurrences WHERE id_topicmap = ?  ;";
 
@@ -309,11 +391,11 @@ public interface IMySqlIndexQueries {
 
 			public static final String QUERY_SELECT_OCCURRENCES_BY_VALUE = "SELECT id, id_parent FROM occurrences WHERE id_topicmap = ? AND value ILIKE ?  ;";
 
-			public static final String QUERY_SELECT_OCCURRENCES_BY_REGEXP = "SELECT id, id_parent FROM occurrences WHERE id_topicmap = ? AND value ~* ?  ;";
+			public static final String QUERY_SELECT_OCCURRENCES_BY_REGEXP = "SELECT id, id_parent FROM occurrences WHERE id_topicmap = ? AND LOWER(value) LIKE LOWER(?) ESCAPE '!' AND value ~* ?  ;";
 
 			public static final String QUERY_SELECT_OCCURRENCES_BY_VALUE_AND_DATATYPE = "SELECT o.id, id_parent FROM occurrences AS o, locators AS l WHERE id_topicmap = ? AND value ILIKE ? AND o.id_datatype = l.id AND l.reference = ?  ;";
 
-			public static final String QUERY_SELECT_OCCURRENCES_BY_REGEXP_AND_DATATYPE = "SELECT o.id, id_parent FROM occurrences AS o, locators AS l WHERE id_topicmap = ? AND value ~* ? AND o.id_datatype = l.id AND l.reference = ?  ;";
+			public static final String QUERY_SELECT_OCCURRENCES_BY_REGEXP_AND_DATATYPE = "SELECT o.id, id_parent FROM occurrences AS o, locators AS l WHERE id_topicmap = ? AND LOWER(value) LIKE LOWER(?) ESCAPE '!' AND value ~* ? AND o.id_datatype = l.id AND l.reference = ?  ;";
 
 			public static final String QUERY_SELECT_VARIANTS = "SELECT v.id, v.id_parent, n.id_parent FROM variants AS v, names AS n WHERE v.id_parent = n.id AND v.id_topicmap = ?  ;";
 
@@ -321,18 +403,18 @@ public interface IMySqlIndexQueries {
 
 			public static final String QUERY_SELECT_VARIANTS_BY_VALUE = "SELECT v.id, v.id_parent, n.id_parent FROM variants AS v, names AS n WHERE v.id_parent = n.id AND v.id_topicmap = ? AND v.value ILIKE ?  ;";
 
-			public static final String QUERY_SELECT_VARIANTS_BY_REGEXP = "SELECT v.id, v.id_parent, n.id_parent FROM variants AS v, names AS n WHERE v.id_parent = n.id AND v.id_topicmap = ? AND v.value ~* ?  ;";
+			public static final String QUERY_SELECT_VARIANTS_BY_REGEXP = "SELECT v.id, v.id_parent, n.id_parent FROM variants AS v, names AS n WHERE v.id_parent = n.id AND v.id_topicmap = ? AND LOWER(v.value) LIKE LOWER(?) ESCAPE '!' AND v.value ~* ?  ;";
 
 			public static final String QUERY_SELECT_VARIANTS_BY_VALUE_AND_DATATYPE = "SELECT v.id, v.id_parent, n.id_parent FROM variants AS v, names AS n, locators AS l  WHERE v.id_parent = n.id AND v.id_topicmap = ? AND v.value ILIKE ? AND v.id_datatype = l.id AND l.reference = ?  ;";
 
-			public static final String QUERY_SELECT_VARIANTS_BY_REGEXP_AND_DATATYPE = "SELECT v.id, v.id_parent, n.id_parent FROM variants AS v, names AS n, locators AS l  WHERE v.id_parent = n.id AND v.id_topicmap = ? AND v.value ~* ? AND v.id_datatype = l.id AND l.reference = ?  ;";
+			public static final String QUERY_SELECT_VARIANTS_BY_REGEXP_AND_DATATYPE = "SELECT v.id, v.id_parent, n.id_parent FROM variants AS v, names AS n, locators AS l  WHERE v.id_parent = n.id AND v.id_topicmap = ? AND LOWER(v.value) LIKE LOWER(?) ESCAPE '!' AND v.value ~* ? AND v.id_datatype = l.id AND l.reference = ?  ;";
 		}
 
 		interface Paged {
 
-			public static final String QUERY_SELECT_CHARACTERISTICS_BY_REGEXP_AND_DATATYPE = "SELECT r.id, r.id_parent, r.type FROM ( SELECT o.id, id_parent, 'o' AS type FROM occurrences AS o, locators AS l WHERE id_topicmap = ? AND value ~* ? AND o.id_datatype = l.id AND l.reference = ? UNION SELECT id, id_parent, 'n' AS type FROM names WHERE id_topicmap = ? AND value ~* ?) AS r ORDER BY id OFFSET ? LIMIT ?;";
+			public static final String QUERY_SELECT_CHARACTERISTICS_BY_REGEXP_AND_DATATYPE = "SELECT r.id, r.id_parent, r.type FROM ( SELECT o.id, id_parent, 'o' AS type FROM occurrences AS o, locators AS l WHERE id_topicmap = ? AND LOWER(value) LIKE LOWER(?) ESCAPE '!' AND value ~* ? AND o.id_datatype = l.id AND l.reference = ? UNION SELECT id, id_parent, 'n' AS type FROM names WHERE id_topicmap = ? AND LOWER(value) LIKE LOWER(?) ESCAPE '!' AND value ~* ?) AS r ORDER BY id OFFSET ? LIMIT ?;";
 
-			public static final String QUERY_SELECT_CHARACTERISTICS_BY_REGEXP = "SELECT r.id, r.id_parent, r.type FROM ( SELECT id, id_parent, 'o' AS type FROM occurrences WHERE id_topicmap = ? AND value ~* ? UNION SELECT id, id_parent, 'n' AS type FROM names WHERE id_topicmap = ? AND value ~* ? ) AS r ORDER BY id OFFSET ? LIMIT ?;";
+			public static final String QUERY_SELECT_CHARACTERISTICS_BY_REGEXP = "SELECT r.id, r.id_parent, r.type FROM ( SELECT id, id_parent, 'o' AS type FROM occurrences WHERE id_topicmap = ? AND LOWER(value) LIKE LOWER(?) ESCAPE '!' AND value ~* ? UNION SELECT id, id_parent, 'n' AS type FROM names WHERE id_topicmap = ? AND LOWER(value) LIKE LOWER(?) ESCAPE '!' AND value ~* ? ) AS r ORDER BY id OFFSET ? LIMIT ?;";
 
 			public static final String QUERY_SELECT_CHARACTERISTICS_BY_DATATYPE = "SELECT r.id, r.id_parent, r.type FROM ( SELECT o.id, id_parent, 'o' AS type FROM occurrences AS o, locators AS l WHERE id_topicmap = ? AND o.id_datatype = l.id AND l.reference = ? UNION SELECT id, id_parent, 'n' AS type FROM names WHERE id_topicmap = ?) AS r ORDER BY id OFFSET ? LIMIT ?;";
 
@@ -346,7 +428,7 @@ public interface IMySqlIndexQueries {
 
 			public static final String QUERY_SELECT_NAMES_BY_VALUE = "SELECT id, id_parent FROM names WHERE id_topicmap = ? AND value ILIKE ? ORDER BY id OFFSET ? LIMIT ?  ;";
 
-			public static final String QUERY_SELECT_NAMES_BY_REGEXP = "SELECT id, id_parent FROM names WHERE id_topicmap = ? AND value ~* ?  ORDER BY id OFFSET ? LIMIT ? ;";
+			public static final String QUERY_SELECT_NAMES_BY_REGEXP = "SELECT id, id_parent FROM names WHERE id_topicmap = ? AND LOWER(value) LIKE LOWER(?) ESCAPE '!' AND value ~* ?  ORDER BY id OFFSET ? LIMIT ? ;";
 
 			public static final String QUERY_SELECT_OCCURRENCES = "SELECT id, id_parent FROM occurrences WHERE id_topicmap = ? ORDER BY id OFFSET ? LIMIT ?  ;";
 
@@ -358,11 +440,11 @@ public interface IMySqlIndexQueries {
 
 			public static final String QUERY_SELECT_OCCURRENCES_BY_VALUE = "SELECT id, id_parent FROM occurrences WHERE id_topicmap = ? AND value ILIKE ?   ORDER BY id OFFSET ? LIMIT ?;";
 
-			public static final String QUERY_SELECT_OCCURRENCES_BY_REGEXP = "SELECT id, id_parent FROM occurrences WHERE id_topicmap = ? AND value ~* ?   ORDER BY id OFFSET ? LIMIT ?;";
+			public static final String QUERY_SELECT_OCCURRENCES_BY_REGEXP = "SELECT id, id_parent FROM occurrences WHERE id_topicmap = ? AND LOWER(value) LIKE LOWER(?) ESCAPE '!' AND value ~* ?   ORDER BY id OFFSET ? LIMIT ?;";
 
 			public static final String QUERY_SELECT_OCCURRENCES_BY_VALUE_AND_DATATYPE = "SELECT o.id, id_parent FROM occurrences AS o, locators AS l WHERE id_topicmap = ? AND value ILIKE ? AND o.id_datatype = l.id AND l.reference = ?   ORDER BY o.id OFFSET ? LIMIT ?;";
 
-			public static final String QUERY_SELECT_OCCURRENCES_BY_REGEXP_AND_DATATYPE = "SELECT o.id, id_parent FROM occurrences AS o, locators AS l WHERE id_topicmap = ? AND value ~* ? AND o.id_datatype = l.id AND l.reference = ?   ORDER BY o.id OFFSET ? LIMIT ?;";
+			public static final String QUERY_SELECT_OCCURRENCES_BY_REGEXP_AND_DATATYPE = "SELECT o.id, id_parent FROM occurrences AS o, locators AS l WHERE id_topicmap = ? AND LOWER(value) LIKE LOWER(?) ESCAPE '!' AND value ~* ? AND o.id_datatype = l.id AND l.reference = ?   ORDER BY o.id OFFSET ? LIMIT ?;";
 
 			public static final String QUERY_SELECT_VARIANTS = "SELECT v.id, v.id_parent, n.id_parent FROM variants AS v, names AS n WHERE v.id_parent = n.id AND v.id_topicmap = ?   ORDER BY v.id OFFSET ? LIMIT ?;";
 
@@ -370,11 +452,11 @@ public interface IMySqlIndexQueries {
 
 			public static final String QUERY_SELECT_VARIANTS_BY_VALUE = "SELECT v.id, v.id_parent, n.id_parent FROM variants AS v, names AS n WHERE v.id_parent = n.id AND v.id_topicmap = ? AND v.value ILIKE ?  ORDER BY v.id OFFSET ? LIMIT ? ;";
 
-			public static final String QUERY_SELECT_VARIANTS_BY_REGEXP = "SELECT v.id, v.id_parent, n.id_parent FROM variants AS v, names AS n WHERE v.id_parent = n.id AND v.id_topicmap = ? AND v.value ~* ?  ORDER BY v.id OFFSET ? LIMIT ? ;";
+			public static final String QUERY_SELECT_VARIANTS_BY_REGEXP = "SELECT v.id, v.id_parent, n.id_parent FROM variants AS v, names AS n WHERE v.id_parent = n.id AND v.id_topicmap = ? AND LOWER(v.value) LIKE LOWER(?) ESCAPE '!' AND v.value ~* ?  ORDER BY v.id OFFSET ? LIMIT ? ;";
 
 			public static final String QUERY_SELECT_VARIANTS_BY_VALUE_AND_DATATYPE = "SELECT v.id, v.id_parent, n.id_parent FROM variants AS v, names AS n, locators AS l  WHERE v.id_parent = n.id AND v.id_topicmap = ? AND v.value ILIKE ? AND v.id_datatype = l.id AND l.reference = ? ORDER BY v.id OFFSET ? LIMIT ?;";
 
-			public static final String QUERY_SELECT_VARIANTS_BY_REGEXP_AND_DATATYPE = "SELECT v.id, v.id_parent, n.id_parent FROM variants AS v, names AS n, locators AS l  WHERE v.id_parent = n.id AND v.id_topicmap = ? AND v.value ~* ? AND v.id_datatype = l.id AND l.reference = ?  ORDER BY v.id OFFSET ? LIMIT ?;";
+			public static final String QUERY_SELECT_VARIANTS_BY_REGEXP_AND_DATATYPE = "SELECT v.id, v.id_parent, n.id_parent FROM variants AS v, names AS n, locators AS l  WHERE v.id_parent = n.id AND v.id_topicmap = ? AND LOWER(v.value) LIKE LOWER(?) ESCAPE '!' AND v.value ~* ? AND v.id_datatype = l.id AND l.reference = ?  ORDER BY v.id OFFSET ? LIMIT ?;";
 		}
 	}
 
@@ -581,6 +581,46 @@ public interface IMySqlSelectQueries {
 		 */
 		public static final String QUERY_READ_SUPERTYPES = "SELECT id_supertype AS id FROM rel_kind_of WHERE id_subtype = ?";
 
+		// *************
+		// * BULK READ *
+		// *************
+
+		/**
+		 * Query to read all names of a set of topics
+		 * <p>
+		 * <b>parameters(n):</b> topic ids, the placeholder %ARRAY% has to be replaced by the parameters
+		 * </p>
+		 */
+		public static final String QUERY_READ_NAMES_OF_TOPICS = "SELECT id, id_parent FROM names WHERE id_parent IN ( %ARRAY% );";
+		/**
+		 * Query to read all occurrences of a set of topics
+		 * <p>
+		 * <b>parameters(n):</b> topic ids, the placeholder %ARRAY% has to be replaced by the parameters
+		 * </p>
+		 */
+		public static final String QUERY_READ_OCCURRENCES_OF_TOPICS = "SELECT id, id_parent FROM occurrences WHERE id_parent IN ( %ARRAY% );";
+		/**
+		 * Query to read the types of a set of topics
+		 * <p>
+		 * <b>parameters(n):</b> topic ids, the placeholder %ARRAY% has to be replaced by the parameters
+		 * </p>
+		 */
+		public static final String QUERY_READ_TYPES_OF_TOPICS = "SELECT id_type, id_instance FROM rel_instance_of WHERE id_instance IN ( %ARRAY% );";
+		/**
+		 * Query to read all subject-identifiers of a set of topics
+		 * <p>
+		 * <b>parameters(n):</b> topic ids, the placeholder %ARRAY% has to be replaced by the parameters
+		 * </p>
+		 */
+		public static final String QUERY_READ_SUBJECT_IDENTIFIERS_OF_TOPICS = "SELECT l.id, l.reference, r.id_topic FROM locators AS l, rel_subject_identifiers AS r WHERE r.id_topic IN ( %ARRAY% ) AND r.id_locator = l.id;";
+		/**
+		 * Query to read all subject-locators of a set of topics
+		 * <p>
+		 * <b>parameters(n):</b> topic ids, the placeholder %ARRAY% has to be replaced by the parameters
+		 * </p>
+		 */
+		public static final String QUERY_READ_SUBJECT_LOCATORS_OF_TOPICS = "SELECT l.id, l.reference, r.id_topic FROM locators AS l, rel_subject_locators AS r WHERE r.id_topic IN ( %ARRAY% ) AND r.id_locator = l.id;";
+
 		// **************
 		// * READ SCOPE *
 		// **************
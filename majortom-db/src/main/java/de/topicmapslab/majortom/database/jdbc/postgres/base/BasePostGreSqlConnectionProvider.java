@@ -18,18 +18,16 @@
  */
 package de.topicmapslab.majortom.database.jdbc.postgres.base;
 
-import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import org.postgresql.ds.PGConnectionPoolDataSource;
-
+import de.topicmapslab.majortom.database.jdbc.index.JdbcFullTextIndex;
 import de.topicmapslab.majortom.database.jdbc.rdbms.RDBMSConnectionProvider;
-import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
 import de.topicmapslab.majortom.util.HashUtil;
 
 /**
@@ -51,8 +49,6 @@ public abstract class BasePostGreSqlConnectionProvider extends RDBMSConnectionPr
 	private static final String ORG_POSTGRESQL_DRIVER = "org.postgresql.Driver";
 	protected static final Map<String, List<String>> schemaInformation = HashUtil.getHashMap();
 
-	private PGConnectionPoolDataSource pool;
-
 	static {
 		schemaInformation.put("associations",
 				Arrays.asList(new String[] { "id", "id_parent", "id_topicmap", "id_reifier", "id_scope", "id_type" }));
@@ -126,28 +122,26 @@ public abstract class BasePostGreSqlConnectionProvider extends RDBMSConnectionPr
 	 */
 	public BasePostGreSqlConnectionProvider(String host, String database, String user, String password) {
 		super(host, database, user, password);
-		initializeConnectionPool();
-	}
-
-	/**
-	 * Method is called to initialize the connection pool
-	 */
-	private final void initializeConnectionPool() {
-		if (pool == null) {
-			pool = new PGConnectionPoolDataSource();
-			pool.setPassword(getPassword());
-			pool.setUser(getUser());
-			pool.setServerName(getHost());
-			pool.setDatabaseName(getDatabase());
-		}
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
-	public void setTopicMapStore(JdbcTopicMapStore store) {
-		super.setTopicMapStore(store);
-		initializeConnectionPool();
+	protected String getCurrentSchema() throws SQLException {
+		Statement stmt = getGlobalSession().getConnection().createStatement();
+		try {
+			ResultSet rs = stmt.executeQuery("SELECT current_schema();");
+			try {
+				if (rs.next()) {
+					return rs.getString(1);
+				}
+				return null;
+			} finally {
+				rs.close();
+			}
+		} finally {
+			stmt.close();
+		}
 	}
 
 	/**
@@ -169,6 +163,12 @@ public abstract class BasePostGreSqlConnectionProvider extends RDBMSConnectionPr
 			 */
 			final String tableName = rs.getString("TABLE_NAME");
 
+			/*
+			 * ignore the derived tables of the full-text index
+			 */
+			if (JdbcFullTextIndex.TABLES.contains(tableName)) {
+				continue;
+			}
 			List<String> columnsInformation = schemaInformation.get(tableName);
 			if (columnsInformation == null) {
 				rs.close();
@@ -221,7 +221,7 @@ public abstract class BasePostGreSqlConnectionProvider extends RDBMSConnectionPr
 				return STATE_DATABASE_IS_INVALID;
 			}
 		}
-		return STATE_DATABASE_IS_VALID;
+		return getSchemaRevisionState();
 	}
 
 	/**
@@ -237,14 +237,4 @@ public abstract class BasePostGreSqlConnectionProvider extends RDBMSConnectionPr
 	public String getRdbmsName() {
 		return POSTGRESQL;
 	}
-
-	/**
-	 * Opens a connection by using the connection pool
-	 * 
-	 * @return the connection from connection pool
-	 */
-	public Connection getConnection() throws SQLException {
-		initializeConnectionPool();
-		return pool.getConnection();
-	}
 }
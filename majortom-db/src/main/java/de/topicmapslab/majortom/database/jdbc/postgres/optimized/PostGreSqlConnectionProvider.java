@@ -79,7 +79,7 @@ public class PostGreSqlConnectionProvider extends Sql99ConnectionProvider {
 	 */
 	@SuppressWarnings("unchecked")
 	public PostGreSqlSession openSession() {
-		return new PostGreSqlSession(this, getUrl(), getUser(), getPassword());
+		return new PostGreSqlSession(this);
 	}
 
 	/**
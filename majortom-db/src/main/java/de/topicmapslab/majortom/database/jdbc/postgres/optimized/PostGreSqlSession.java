@@ -31,16 +31,9 @@ public class PostGreSqlSession extends SQL99Session {
 	 * 
 	 * @param connectionProvider
 	 *            the parent connection provider
-	 * @param url
-	 *            the database URL
-	 * @param user
-	 *            the user database property
-	 * @param password
-	 *            the password database property
 	 */
-	public PostGreSqlSession(final PostGreSqlConnectionProvider connectionProvider, String url, String user,
-			String password) {
-		super(connectionProvider, url, user, password);
+	public PostGreSqlSession(final PostGreSqlConnectionProvider connectionProvider) {
+		super(connectionProvider);
 	}
 
 	/**
@@ -16,7 +16,6 @@
 package de.topicmapslab.majortom.database.jdbc.postgres.sql99;
 
 import java.sql.Connection;
-import java.sql.SQLException;
 
 import de.topicmapslab.majortom.database.jdbc.rdbms.RDBMSSession;
 import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
@@ -32,15 +31,9 @@ public class SQL99Session extends RDBMSSession {
 	 * 
 	 * @param connectionProvider
 	 *            the parent connection provider
-	 * @param url
-	 *            the database URL
-	 * @param user
-	 *            the user database property
-	 * @param password
-	 *            the password database property
 	 */
-	public SQL99Session(final Sql99ConnectionProvider connectionProvider, String url, String user, String password) {
-		super(connectionProvider, url, user, password);
+	public SQL99Session(final Sql99ConnectionProvider connectionProvider) {
+		super(connectionProvider);
 	}
 
 	/**
@@ -57,11 +50,4 @@ public class SQL99Session extends RDBMSSession {
 		return (Sql99ConnectionProvider) super.getConnectionProvider();
 	}
 
-	/**
-	 * {@inheritDoc}
-	 */
-	protected Connection openConnection() throws SQLException {
-		return getConnectionProvider().getConnection();
-	}
-
 }
@@ -63,7 +63,7 @@ public class Sql99ConnectionProvider extends BasePostGreSqlConnectionProvider {
 	@Override
 	@SuppressWarnings("unchecked")
 	public SQL99Session openSession() {
-		return new SQL99Session(this, getUrl(), getUser(), getPassword());
+		return new SQL99Session(this);
 	}
 	
 	/**
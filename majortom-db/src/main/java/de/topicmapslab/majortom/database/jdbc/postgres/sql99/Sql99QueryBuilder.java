@@ -850,6 +850,67 @@ public class Sql99QueryBuilder extends RDBMSQueryBuilder {
 		return this.preparedStatementReadVariantsWithScope;
 	}
 
+	private PreparedStatement preparedStatementReadNamesOfTopics;
+	private PreparedStatement preparedStatementReadOccurrencesOfTopics;
+	private PreparedStatement preparedStatementReadTypesOfTopics;
+	private PreparedStatement preparedStatementReadSubjectIdentifiersOfTopics;
+	private PreparedStatement preparedStatementReadSubjectLocatorsOfTopics;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadNamesOfTopics() throws SQLException {
+		if (this.preparedStatementReadNamesOfTopics == null) {
+			this.preparedStatementReadNamesOfTopics = getConnection().prepareStatement(
+					ISql99SelectQueries.NonPaged.QUERY_READ_NAMES_OF_TOPICS);
+		}
+		return this.preparedStatementReadNamesOfTopics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadOccurrencesOfTopics() throws SQLException {
+		if (this.preparedStatementReadOccurrencesOfTopics == null) {
+			this.preparedStatementReadOccurrencesOfTopics = getConnection().prepareStatement(
+					ISql99SelectQueries.NonPaged.QUERY_READ_OCCURRENCES_OF_TOPICS);
+		}
+		return this.preparedStatementReadOccurrencesOfTopics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadTypesOfTopics() throws SQLException {
+		if (this.preparedStatementReadTypesOfTopics == null) {
+			this.preparedStatementReadTypesOfTopics = getConnection().prepareStatement(
+					ISql99SelectQueries.NonPaged.QUERY_READ_TYPES_OF_TOPICS);
+		}
+		return this.preparedStatementReadTypesOfTopics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadSubjectIdentifiersOfTopics() throws SQLException {
+		if (this.preparedStatementReadSubjectIdentifiersOfTopics == null) {
+			this.preparedStatementReadSubjectIdentifiersOfTopics = getConnection().prepareStatement(
+					ISql99SelectQueries.NonPaged.QUERY_READ_SUBJECT_IDENTIFIERS_OF_TOPICS);
+		}
+		return this.preparedStatementReadSubjectIdentifiersOfTopics;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadSubjectLocatorsOfTopics() throws SQLException {
+		if (this.preparedStatementReadSubjectLocatorsOfTopics == null) {
+			this.preparedStatementReadSubjectLocatorsOfTopics = getConnection().prepareStatement(
+					ISql99SelectQueries.NonPaged.QUERY_READ_SUBJECT_LOCATORS_OF_TOPICS);
+		}
+		return this.preparedStatementReadSubjectLocatorsOfTopics;
+	}
+
 	// ****************
 	// * UPDATE QUERY *
 	// ****************
@@ -1636,6 +1697,67 @@ public class Sql99QueryBuilder extends RDBMSQueryBuilder {
 		return stmt;
 	}
 
+	private PreparedStatement preparedStatementIndexAssociationsByTypeAfter;
+	private PreparedStatement preparedStatementIndexNamesByTypeAfter;
+	private PreparedStatement preparedStatementIndexOccurrencesByTypeAfter;
+	private PreparedStatement preparedStatementIndexRolesByTypeAfter;
+	private PreparedStatement preparedStatementIndexTopicsByTypeAfter;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectAssociationsByTypeAfter() throws SQLException {
+		if (this.preparedStatementIndexAssociationsByTypeAfter == null) {
+			this.preparedStatementIndexAssociationsByTypeAfter = getConnection().prepareStatement(
+					ISql99IndexQueries.QueryTypeInstanceIndex.Paged.QUERY_SELECT_ASSOCIATIONS_BY_TYPE_AFTER);
+		}
+		return this.preparedStatementIndexAssociationsByTypeAfter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectNamesByTypeAfter() throws SQLException {
+		if (this.preparedStatementIndexNamesByTypeAfter == null) {
+			this.preparedStatementIndexNamesByTypeAfter = getConnection().prepareStatement(
+					ISql99IndexQueries.QueryTypeInstanceIndex.Paged.QUERY_SELECT_NAMES_BY_TYPE_AFTER);
+		}
+		return this.preparedStatementIndexNamesByTypeAfter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectOccurrencesByTypeAfter() throws SQLException {
+		if (this.preparedStatementIndexOccurrencesByTypeAfter == null) {
+			this.preparedStatementIndexOccurrencesByTypeAfter = getConnection().prepareStatement(
+					ISql99IndexQueries.QueryTypeInstanceIndex.Paged.QUERY_SELECT_OCCURRENCES_BY_TYPE_AFTER);
+		}
+		return this.preparedStatementIndexOccurrencesByTypeAfter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectRolesByTypeAfter() throws SQLException {
+		if (this.preparedStatementIndexRolesByTypeAfter == null) {
+			this.preparedStatementIndexRolesByTypeAfter = getConnection().prepareStatement(
+					ISql99IndexQueries.QueryTypeInstanceIndex.Paged.QUERY_SELECT_ROLES_BY_TYPE_AFTER);
+		}
+		return this.preparedStatementIndexRolesByTypeAfter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectTopicsByTypeAfter() throws SQLException {
+		if (this.preparedStatementIndexTopicsByTypeAfter == null) {
+			this.preparedStatementIndexTopicsByTypeAfter = getConnection().prepareStatement(
+					ISql99IndexQueries.QueryTypeInstanceIndex.Paged.QUERY_SELECT_TOPIC_BY_TYPE_AFTER);
+		}
+		return this.preparedStatementIndexTopicsByTypeAfter;
+	}
+
 	// TransitiveTypeInstanceIndex
 
 	/**
@@ -1680,6 +1802,206 @@ public class Sql99QueryBuilder extends RDBMSQueryBuilder {
 		throw new UnsupportedOperationException("Unsupported by the SQL query builder implementation!");
 	}
 
+	private PreparedStatement preparedStatementIndexAssociationsByTypesTransitive;
+	private PreparedStatement preparedStatementIndexAssociationsByTypesTransitivePaged;
+	private PreparedStatement preparedStatementIndexCharacteristicsByTypesTransitive;
+	private PreparedStatement preparedStatementIndexCharacteristicsByTypesTransitivePaged;
+	private PreparedStatement preparedStatementIndexNamesByTypesTransitive;
+	private PreparedStatement preparedStatementIndexNamesByTypesTransitivePaged;
+	private PreparedStatement preparedStatementIndexOccurrencesByTypesTransitive;
+	private PreparedStatement preparedStatementIndexOccurrencesByTypesTransitivePaged;
+	private PreparedStatement preparedStatementIndexRolesByTypesTransitive;
+	private PreparedStatement preparedStatementIndexRolesByTypesTransitivePaged;
+	private PreparedStatement preparedStatementIndexTopicsByTypesTransitiveAny;
+	private PreparedStatement preparedStatementIndexTopicsByTypesTransitiveAnyPaged;
+	private PreparedStatement preparedStatementIndexTopicsByTypesTransitiveAll;
+	private PreparedStatement preparedStatementIndexTopicsByTypesTransitiveAllPaged;
+	private PreparedStatement preparedStatementReadNumberOfAssociationsByTypesTransitive;
+	private PreparedStatement preparedStatementReadNumberOfCharacteristicsByTypesTransitive;
+	private PreparedStatement preparedStatementReadNumberOfNamesByTypesTransitive;
+	private PreparedStatement preparedStatementReadNumberOfOccurrencesByTypesTransitive;
+	private PreparedStatement preparedStatementReadNumberOfRolesByTypesTransitive;
+	private PreparedStatement preparedStatementReadNumberOfTopicsByTypesTransitive;
+	private PreparedStatement preparedStatementReadNumberOfTopicsByTypesTransitiveAll;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectAssociationsByTypesTransitive(long typeCount, boolean paged) throws SQLException {
+		if (paged) {
+			if (this.preparedStatementIndexAssociationsByTypesTransitivePaged == null) {
+				this.preparedStatementIndexAssociationsByTypesTransitivePaged = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.Paged.QUERY_SELECT_ASSOCIATIONS_BY_TYPES);
+			}
+			return this.preparedStatementIndexAssociationsByTypesTransitivePaged;
+		}
+		if (this.preparedStatementIndexAssociationsByTypesTransitive == null) {
+			this.preparedStatementIndexAssociationsByTypesTransitive = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_SELECT_ASSOCIATIONS_BY_TYPES);
+		}
+		return this.preparedStatementIndexAssociationsByTypesTransitive;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectCharacteristicsByTypesTransitive(long typeCount, boolean paged) throws SQLException {
+		if (paged) {
+			if (this.preparedStatementIndexCharacteristicsByTypesTransitivePaged == null) {
+				this.preparedStatementIndexCharacteristicsByTypesTransitivePaged = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.Paged.QUERY_SELECT_CHARACTERISTICS_BY_TYPES);
+			}
+			return this.preparedStatementIndexCharacteristicsByTypesTransitivePaged;
+		}
+		if (this.preparedStatementIndexCharacteristicsByTypesTransitive == null) {
+			this.preparedStatementIndexCharacteristicsByTypesTransitive = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_SELECT_CHARACTERISTICS_BY_TYPES);
+		}
+		return this.preparedStatementIndexCharacteristicsByTypesTransitive;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectNamesByTypesTransitive(long typeCount, boolean paged) throws SQLException {
+		if (paged) {
+			if (this.preparedStatementIndexNamesByTypesTransitivePaged == null) {
+				this.preparedStatementIndexNamesByTypesTransitivePaged = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.Paged.QUERY_SELECT_NAMES_BY_TYPES);
+			}
+			return this.preparedStatementIndexNamesByTypesTransitivePaged;
+		}
+		if (this.preparedStatementIndexNamesByTypesTransitive == null) {
+			this.preparedStatementIndexNamesByTypesTransitive = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_SELECT_NAMES_BY_TYPES);
+		}
+		return this.preparedStatementIndexNamesByTypesTransitive;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectOccurrencesByTypesTransitive(long typeCount, boolean paged) throws SQLException {
+		if (paged) {
+			if (this.preparedStatementIndexOccurrencesByTypesTransitivePaged == null) {
+				this.preparedStatementIndexOccurrencesByTypesTransitivePaged = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.Paged.QUERY_SELECT_OCCURRENCES_BY_TYPES);
+			}
+			return this.preparedStatementIndexOccurrencesByTypesTransitivePaged;
+		}
+		if (this.preparedStatementIndexOccurrencesByTypesTransitive == null) {
+			this.preparedStatementIndexOccurrencesByTypesTransitive = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_SELECT_OCCURRENCES_BY_TYPES);
+		}
+		return this.preparedStatementIndexOccurrencesByTypesTransitive;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectRolesByTypesTransitive(long typeCount, boolean paged) throws SQLException {
+		if (paged) {
+			if (this.preparedStatementIndexRolesByTypesTransitivePaged == null) {
+				this.preparedStatementIndexRolesByTypesTransitivePaged = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.Paged.QUERY_SELECT_ROLES_BY_TYPES);
+			}
+			return this.preparedStatementIndexRolesByTypesTransitivePaged;
+		}
+		if (this.preparedStatementIndexRolesByTypesTransitive == null) {
+			this.preparedStatementIndexRolesByTypesTransitive = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_SELECT_ROLES_BY_TYPES);
+		}
+		return this.preparedStatementIndexRolesByTypesTransitive;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQuerySelectTopicsByTypesTransitive(long typeCount, boolean all, boolean paged) throws SQLException {
+		if (all) {
+			if (paged) {
+				if (this.preparedStatementIndexTopicsByTypesTransitiveAllPaged == null) {
+					this.preparedStatementIndexTopicsByTypesTransitiveAllPaged = getConnection().prepareStatement(
+							ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.Paged.QUERY_SELECT_TOPICS_BY_TYPES_MATCHES_ALL);
+				}
+				return this.preparedStatementIndexTopicsByTypesTransitiveAllPaged;
+			}
+			if (this.preparedStatementIndexTopicsByTypesTransitiveAll == null) {
+				this.preparedStatementIndexTopicsByTypesTransitiveAll = getConnection().prepareStatement(
+						ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_SELECT_TOPICS_BY_TYPES_MATCHES_ALL);
+			}
+			return this.preparedStatementIndexTopicsByTypesTransitiveAll;
+		}
+		if (paged) {
+			if (this.preparedStatementIndexTopicsByTypesTransitiveAnyPaged == null) {
+				this.preparedStatementIndexTopicsByTypesTransitiveAnyPaged = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.Paged.QUERY_SELECT_TOPICS_BY_TYPES);
+			}
+			return this.preparedStatementIndexTopicsByTypesTransitiveAnyPaged;
+		}
+		if (this.preparedStatementIndexTopicsByTypesTransitiveAny == null) {
+			this.preparedStatementIndexTopicsByTypesTransitiveAny = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_SELECT_TOPICS_BY_TYPES);
+		}
+		return this.preparedStatementIndexTopicsByTypesTransitiveAny;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadNumberOfAssociationsByTypesTransitive(long typeCount) throws SQLException {
+		if (this.preparedStatementReadNumberOfAssociationsByTypesTransitive == null) {
+			this.preparedStatementReadNumberOfAssociationsByTypesTransitive = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_READ_NUMBER_OF_ASSOCIATIONS_BY_TYPES);
+		}
+		return this.preparedStatementReadNumberOfAssociationsByTypesTransitive;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadNumberOfCharacteristicsByTypesTransitive(long typeCount) throws SQLException {
+		if (this.preparedStatementReadNumberOfCharacteristicsByTypesTransitive == null) {
+			this.preparedStatementReadNumberOfCharacteristicsByTypesTransitive = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_READ_NUMBER_OF_CHARACTERISTICS_BY_TYPES);
+		}
+		return this.preparedStatementReadNumberOfCharacteristicsByTypesTransitive;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadNumberOfNamesByTypesTransitive(long typeCount) throws SQLException {
+		if (this.preparedStatementReadNumberOfNamesByTypesTransitive == null) {
+			this.preparedStatementReadNumberOfNamesByTypesTransitive = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_READ_NUMBER_OF_NAMES_BY_TYPES);
+		}
+		return this.preparedStatementReadNumberOfNamesByTypesTransitive;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadNumberOfOccurrencesByTypesTransitive(long typeCount) throws SQLException {
+		if (this.preparedStatementReadNumberOfOccurrencesByTypesTransitive == null) {
+			this.preparedStatementReadNumberOfOccurrencesByTypesTransitive = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_READ_NUMBER_OF_OCCURRENCES_BY_TYPES);
+		}
+		return this.preparedStatementReadNumberOfOccurrencesByTypesTransitive;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadNumberOfRolesByTypesTransitive(long typeCount) throws SQLException {
+		if (this.preparedStatementReadNumberOfRolesByTypesTransitive == null) {
+			this.preparedStatementReadNumberOfRolesByTypesTransitive = getConnection().prepareStatement(ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_READ_NUMBER_OF_ROLES_BY_TYPES);
+		}
+		return this.preparedStatementReadNumberOfRolesByTypesTransitive;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryReadNumberOfTopicsByTypesTransitive(long typeCount, boolean all) throws SQLException {
+		if (all) {
+			if (this.preparedStatementReadNumberOfTopicsByTypesTransitiveAll == null) {
+				this.preparedStatementReadNumberOfTopicsByTypesTransitiveAll = getConnection().prepareStatement(
+						ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_READ_NUMBER_OF_TOPICS_BY_TYPES_MATCHES_ALL);
+			}
+			return this.preparedStatementReadNumberOfTopicsByTypesTransitiveAll;
+		}
+		if (this.preparedStatementReadNumberOfTopicsByTypesTransitive == null) {
+			this.preparedStatementReadNumberOfTopicsByTypesTransitive = getConnection().prepareStatement(
+					ISql99IndexQueries.QueryTransitiveTypeInstanceIndex.NonPaged.QUERY_READ_NUMBER_OF_TOPICS_BY_TYPES);
+		}
+		return this.preparedStatementReadNumberOfTopicsByTypesTransitive;
+	}
+
 	// ScopeIndex
 	private PreparedStatement preparedStatementIndexScopesByThemesUsed;
 
@@ -2296,6 +2618,55 @@ public class Sql99QueryBuilder extends RDBMSQueryBuilder {
 		return this.preparedStatementIndexVariantThemes;
 	}
 
+	private PreparedStatement preparedStatementIndexAssociationsByThemeAfter;
+	private PreparedStatement preparedStatementIndexNamesByThemeAfter;
+	private PreparedStatement preparedStatementIndexOccurrencesByThemeAfter;
+	private PreparedStatement preparedStatementIndexVariantsByThemeAfter;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryAssociationsByThemeAfter() throws SQLException {
+		if (this.preparedStatementIndexAssociationsByThemeAfter == null) {
+			this.preparedStatementIndexAssociationsByThemeAfter = getConnection().prepareStatement(
+					ISql99IndexQueries.QueryScopeIndex.Paged.QUERY_SELECT_ASSOCIATIONS_BY_THEME_AFTER);
+		}
+		return this.preparedStatementIndexAssociationsByThemeAfter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryNamesByThemeAfter() throws SQLException {
+		if (this.preparedStatementIndexNamesByThemeAfter == null) {
+			this.preparedStatementIndexNamesByThemeAfter = getConnection().prepareStatement(
+					ISql99IndexQueries.QueryScopeIndex.Paged.QUERY_SELECT_NAMES_BY_THEME_AFTER);
+		}
+		return this.preparedStatementIndexNamesByThemeAfter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryOccurrencesByThemeAfter() throws SQLException {
+		if (this.preparedStatementIndexOccurrencesByThemeAfter == null) {
+			this.preparedStatementIndexOccurrencesByThemeAfter = getConnection().prepareStatement(
+					ISql99IndexQueries.QueryScopeIndex.Paged.QUERY_SELECT_OCCURRENCES_BY_THEME_AFTER);
+		}
+		return this.preparedStatementIndexOccurrencesByThemeAfter;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public PreparedStatement getQueryVariantsByThemeAfter() throws SQLException {
+		if (this.preparedStatementIndexVariantsByThemeAfter == null) {
+			this.preparedStatementIndexVariantsByThemeAfter = getConnection().prepareStatement(
+					ISql99IndexQueries.QueryScopeIndex.Paged.QUERY_SELECT_VARIANTS_BY_THEME_AFTER);
+		}
+		return this.preparedStatementIndexVariantsByThemeAfter;
+	}
+
 	// LiteralIndex
 
 	private PreparedStatement preparedStatementIndexCharacteristics;
@@ -19,17 +19,25 @@
 package de.topicmapslab.majortom.database.jdbc.rdbms;
 
 import java.io.InputStream;
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.List;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import de.topicmapslab.majortom.database.jdbc.core.BatchConnection;
+import de.topicmapslab.majortom.database.jdbc.core.ConnectionPool;
 import de.topicmapslab.majortom.database.jdbc.model.IConnectionProvider;
 import de.topicmapslab.majortom.database.jdbc.model.ISession;
 import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
 import de.topicmapslab.majortom.database.store.JdbcTopicMapStoreProperty;
 import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
+import de.topicmapslab.majortom.util.HashUtil;
 
 /**
  * Special connection provider for PostGreSQL.
@@ -39,6 +47,11 @@ import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
  */
 public abstract class RDBMSConnectionProvider implements IConnectionProvider {
 
+	/**
+	 * pattern to extract the index name of a create index statement
+	 */
+	private static final Pattern INDEX_NAME = Pattern.compile("CREATE\\s+INDEX\\s+(\\w+)", Pattern.CASE_INSENSITIVE);
+
 	/**
 	 * internal reference of the topic map store
 	 */
@@ -69,7 +82,37 @@ public abstract class RDBMSConnectionProvider implements IConnectionProvider {
 	/**
 	 * the number of connections for connection pool
 	 */
-	private long connectionCount;
+	private long connectionCount = ConnectionPool.DEFAULT_MAX_ACTIVE;
+
+	/**
+	 * the minimum number of idle connections for connection pool
+	 */
+	private int minIdle = ConnectionPool.DEFAULT_MIN_IDLE;
+
+	/**
+	 * the maximum number of idle connections for connection pool
+	 */
+	private int maxIdle = ConnectionPool.DEFAULT_MAX_IDLE;
+
+	/**
+	 * the timeout to wait for a free connection of the connection pool
+	 */
+	private long maxWait = ConnectionPool.DEFAULT_MAX_WAIT;
+
+	/**
+	 * the maximum number of pooled prepared statements per connection
+	 */
+	private int maxOpenStatements = ConnectionPool.DEFAULT_MAX_OPEN_STATEMENTS;
+
+	/**
+	 * the connection pool shared by all sessions of the connection provider
+	 */
+	private ConnectionPool connectionPool;
+
+	/**
+	 * the connection of the batch started by the current thread
+	 */
+	private final ThreadLocal<BatchConnection> batchConnection = new ThreadLocal<BatchConnection>();
 
 	/**
 	 * the global session of the connection provider
@@ -100,7 +143,7 @@ public abstract class RDBMSConnectionProvider implements IConnectionProvider {
 		this.url = "jdbc:" + getRdbmsName() + "://" + host.toString() + "/" + database.toString();
 		this.database = database;
 		this.host = host;
-		this.connectionCount = 10;
+		this.connectionCount = ConnectionPool.DEFAULT_MAX_ACTIVE;
 		this.globalSession = openSession();
 	}
 
@@ -110,7 +153,78 @@ public abstract class RDBMSConnectionProvider implements IConnectionProvider {
 	@Override
 	@SuppressWarnings("unchecked")
 	public RDBMSSession openSession() {
-		return new RDBMSSession(this, getUrl(), getUser(), getPassword());
+		return new RDBMSSession(this);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Connection getConnection() throws SQLException {
+		BatchConnection batch = batchConnection.get();
+		if (batch != null) {
+			return batch.getConnection();
+		}
+		return getConnectionPool().getConnection();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void beginBatch() throws SQLException, TopicMapStoreException {
+		if (batchConnection.get() != null) {
+			throw new TopicMapStoreException("The current thread has already started a batch!");
+		}
+		batchConnection.set(new BatchConnection(getConnectionPool().getConnection()));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void commitBatch() throws SQLException {
+		BatchConnection batch = batchConnection.get();
+		if (batch != null) {
+			batchConnection.remove();
+			batch.commit();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void rollbackBatch() throws SQLException {
+		BatchConnection batch = batchConnection.get();
+		if (batch != null) {
+			batchConnection.remove();
+			batch.rollback();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public synchronized ConnectionPool getConnectionPool() {
+		if (connectionPool == null) {
+			connectionPool = new ConnectionPool(getDriverClassName(), getUrl(), getUser(), getPassword());
+			connectionPool.setMaxActive((int) getConnectionCount());
+			connectionPool.setMinIdle(minIdle);
+			connectionPool.setMaxIdle(maxIdle);
+			connectionPool.setMaxWait(maxWait);
+			connectionPool.setMaxOpenPreparedStatements(maxOpenStatements);
+		}
+		return connectionPool;
+	}
+
+	/**
+	 * Closing the shared connection pool, the next connection request will create a new one.
+	 * 
+	 * @throws SQLException
+	 *             thrown if operation fails
+	 */
+	protected synchronized void closeConnectionPool() throws SQLException {
+		if (connectionPool != null) {
+			connectionPool.close();
+			connectionPool = null;
+		}
 	}
 
 	/**
@@ -180,6 +294,10 @@ public abstract class RDBMSConnectionProvider implements IConnectionProvider {
 		Object user = store.getTopicMapSystem().getProperty(JdbcTopicMapStoreProperty.DATABASE_USER);
 		Object password = store.getTopicMapSystem().getProperty(JdbcTopicMapStoreProperty.DATABASE_PASSWORD);
 		Object count = store.getTopicMapSystem().getProperty(JdbcTopicMapStoreProperty.POOL_CONNECTION_COUNT);
+		Object minIdle = store.getTopicMapSystem().getProperty(JdbcTopicMapStoreProperty.POOL_MIN_IDLE);
+		Object maxIdle = store.getTopicMapSystem().getProperty(JdbcTopicMapStoreProperty.POOL_MAX_IDLE);
+		Object maxWait = store.getTopicMapSystem().getProperty(JdbcTopicMapStoreProperty.POOL_MAX_WAIT);
+		Object maxOpenStatements = store.getTopicMapSystem().getProperty(JdbcTopicMapStoreProperty.POOL_MAX_OPEN_STATEMENTS);
 		if (database == null || host == null || user == null) {
 			throw new TopicMapStoreException("Missing connection properties!");
 		}
@@ -198,14 +316,43 @@ public abstract class RDBMSConnectionProvider implements IConnectionProvider {
 			try {
 				this.connectionCount = Long.parseLong(count.toString());
 			} catch (NumberFormatException e) {
-				this.connectionCount = 10;
+				this.connectionCount = ConnectionPool.DEFAULT_MAX_ACTIVE;
 			}
 		}
+		/*
+		 * set idle and statement limits of the connection pool
+		 */
+		this.minIdle = parseInt(minIdle, ConnectionPool.DEFAULT_MIN_IDLE);
+		this.maxIdle = parseInt(maxIdle, ConnectionPool.DEFAULT_MAX_IDLE);
+		this.maxOpenStatements = parseInt(maxOpenStatements, ConnectionPool.DEFAULT_MAX_OPEN_STATEMENTS);
+		if (maxWait != null) {
+			try {
+				this.maxWait = Long.parseLong(maxWait.toString());
+			} catch (NumberFormatException e) {
+				this.maxWait = ConnectionPool.DEFAULT_MAX_WAIT;
+			}
+		}
+		try {
+			/*
+			 * the connection properties may have changed, so the pool has to be recreated
+			 */
+			if (globalSession != null) {
+				globalSession.close();
+			}
+			closeConnectionPool();
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Cannot close connection pool!", e);
+		}
 		globalSession = openSession();
 		try {
 			switch (getDatabaseState()) {
 				case STATE_DATABASE_IS_EMPTY: {
 					createSchema();
+					migrateSchema();
+				}
+					break;
+				case STATE_DATABASE_NEEDS_MIGRATION: {
+					migrateSchema();
 				}
 					break;
 				case STATE_DATABASE_IS_INVALID: {
@@ -230,6 +377,27 @@ public abstract class RDBMSConnectionProvider implements IConnectionProvider {
 	 */
 	public void close() throws SQLException {
 		getGlobalSession().close();
+		closeConnectionPool();
+	}
+
+	/**
+	 * Internal method to read an integer property value
+	 * 
+	 * @param value
+	 *            the property value
+	 * @param defaultValue
+	 *            the value used if the property is not set or not a number
+	 * @return the integer value
+	 */
+	private static int parseInt(Object value, int defaultValue) {
+		if (value != null) {
+			try {
+				return Integer.parseInt(value.toString());
+			} catch (NumberFormatException e) {
+				// use default value
+			}
+		}
+		return defaultValue;
 	}
 
 	/**
@@ -296,6 +464,133 @@ public abstract class RDBMSConnectionProvider implements IConnectionProvider {
 		return getSchemaQuery().split(";;");
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public void migrateSchema() throws SQLException {
+		List<String> queries = getMissingIndexQueries();
+		if (queries.isEmpty()) {
+			return;
+		}
+		Statement stmt = getGlobalSession().getConnection().createStatement();
+		try {
+			for (String query : queries) {
+				stmt.executeUpdate(query);
+			}
+		} finally {
+			stmt.close();
+		}
+	}
+
+	/**
+	 * Returns the queries creating the secondary indexes of the current schema revision. The indexes are loaded from
+	 * the file 'indexes.sql' in the package of the connection provider, each statement is terminated by a semicolon.
+	 * 
+	 * @return an array of queries, which is empty if the dialect does not define any indexes
+	 */
+	protected String[] getIndexQueries() {
+		InputStream is = getClass().getResourceAsStream("indexes.sql");
+		if (is == null) {
+			return new String[0];
+		}
+		StringBuffer buffer = new StringBuffer();
+		Scanner scanner = new Scanner(is);
+		while (scanner.hasNextLine()) {
+			buffer.append(scanner.nextLine() + "\r\n");
+		}
+		scanner.close();
+		return buffer.toString().split(";");
+	}
+
+	/**
+	 * Returns the queries of all secondary indexes of the current schema revision which are missing in the database.
+	 * 
+	 * @return the queries to create the missing indexes
+	 * @throws SQLException
+	 *             thrown if the database meta data cannot be read
+	 */
+	protected List<String> getMissingIndexQueries() throws SQLException {
+		List<String> queries = HashUtil.getList();
+		Set<String> indexes = null;
+		for (String query : getIndexQueries()) {
+			String q = query.trim();
+			if (q.equals("")) {
+				continue;
+			}
+			Matcher matcher = INDEX_NAME.matcher(q);
+			if (!matcher.find()) {
+				throw new TopicMapStoreException("Invalid index definition '" + q + "'!");
+			}
+			if (indexes == null) {
+				indexes = getExistingIndexes();
+			}
+			if (!indexes.contains(matcher.group(1).toLowerCase())) {
+				queries.add(q);
+			}
+		}
+		return queries;
+	}
+
+	/**
+	 * Returns the name of the schema the connections of this provider are working on. The default implementation
+	 * returns <code>null</code>, which does not restrict the meta data lookup to any schema.
+	 * 
+	 * @return the name of the current schema or <code>null</code>
+	 * @throws SQLException
+	 *             thrown if the schema cannot be read
+	 */
+	protected String getCurrentSchema() throws SQLException {
+		return null;
+	}
+
+	/**
+	 * Returns the names of all indexes of the tables of the current catalog and schema.
+	 * 
+	 * @return the lower-case index names
+	 * @throws SQLException
+	 *             thrown if the database meta data cannot be read
+	 */
+	protected Set<String> getExistingIndexes() throws SQLException {
+		Set<String> indexes = HashUtil.getHashSet();
+		DatabaseMetaData metaData = getDatabaseMetaData();
+		ResultSet rs = metaData.getTables(getGlobalSession().getConnection().getCatalog(), getCurrentSchema(), null,
+				new String[] { "TABLE" });
+		try {
+			while (rs.next()) {
+				ResultSet rsIndexes = metaData.getIndexInfo(rs.getString("TABLE_CAT"), rs.getString("TABLE_SCHEM"),
+						rs.getString("TABLE_NAME"), false, true);
+				try {
+					while (rsIndexes.next()) {
+						String name = rsIndexes.getString("INDEX_NAME");
+						if (name != null) {
+							indexes.add(name.toLowerCase());
+						}
+					}
+				} finally {
+					rsIndexes.close();
+				}
+			}
+		} finally {
+			rs.close();
+		}
+		return indexes;
+	}
+
+	/**
+	 * Checks if the secondary indexes of the current schema revision exist in the database.
+	 * 
+	 * @return {@link #STATE_DATABASE_IS_VALID} if all indexes exist, {@link #STATE_DATABASE_NEEDS_MIGRATION}
+	 *         otherwise
+	 * @throws SQLException
+	 *             thrown if the database meta data cannot be read
+	 */
+	protected int getSchemaRevisionState() throws SQLException {
+		if (getMissingIndexQueries().isEmpty()) {
+			return STATE_DATABASE_IS_VALID;
+		}
+		return STATE_DATABASE_NEEDS_MIGRATION;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -313,6 +608,12 @@ public abstract class RDBMSConnectionProvider implements IConnectionProvider {
 			state = STATE_DATABASE_IS_VALID;
 		}
 		rs.close();
+		/*
+		 * check if the schema has to be migrated to the current revision
+		 */
+		if (state == STATE_DATABASE_IS_VALID) {
+			state = getSchemaRevisionState();
+		}
 		return state;
 	}
 }
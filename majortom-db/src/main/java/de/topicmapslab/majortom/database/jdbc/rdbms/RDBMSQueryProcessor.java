@@ -37,6 +37,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Vector;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.tmapi.core.Association;
 import org.tmapi.core.Name;
@@ -82,9 +84,11 @@ import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
 import de.topicmapslab.majortom.model.namespace.Namespaces;
 import de.topicmapslab.majortom.model.revision.Changeset;
 import de.topicmapslab.majortom.model.revision.IRevision;
+import de.topicmapslab.majortom.model.revision.IRevisionChange;
 import de.topicmapslab.majortom.model.store.TopicMapStoreParameterType;
 import de.topicmapslab.majortom.revision.RevisionImpl;
 import de.topicmapslab.majortom.util.HashUtil;
+import de.topicmapslab.majortom.util.NGramIndex;
 
 /**
  * @author Sven Krosse
@@ -107,6 +111,10 @@ public class RDBMSQueryProcessor implements IQueryProcessor {
 	 * 
 	 */
 	private static final String ID_PREFIX = "id:";
+	/**
+	 * the escape character of the LIKE filters of regular expression queries
+	 */
+	private static final char LIKE_ESCAPE = '!';
 	/**
 	 * 
 	 */
@@ -1796,6 +1804,51 @@ public class RDBMSQueryProcessor implements IQueryProcessor {
 		return Jdbc2Construct.toVariants(n, stmt.executeQuery(), "id");
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Map<ITopic, Collection<IName>> doReadNames(Collection<ITopic> topics) throws SQLException {
+		PreparedStatement stmt = getQueryBuilder().getQueryReadNamesOfTopics();
+		setTypeIds(stmt, 1, topics);
+		return Jdbc2Construct.toNamesByParent(topics, stmt.executeQuery(), "id", "id_parent");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Map<ITopic, Collection<IOccurrence>> doReadOccurrences(Collection<ITopic> topics) throws SQLException {
+		PreparedStatement stmt = getQueryBuilder().getQueryReadOccurrencesOfTopics();
+		setTypeIds(stmt, 1, topics);
+		return Jdbc2Construct.toOccurrencesByParent(topics, stmt.executeQuery(), "id", "id_parent");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Map<ITopic, Collection<ITopic>> doReadTypes(Collection<ITopic> topics) throws SQLException {
+		PreparedStatement stmt = getQueryBuilder().getQueryReadTypesOfTopics();
+		setTypeIds(stmt, 1, topics);
+		return Jdbc2Construct.toTopicsByTopic(topics, stmt.executeQuery(), "id_type", "id_instance");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Map<ITopic, Collection<ILocator>> doReadSubjectIdentifiers(Collection<ITopic> topics) throws SQLException {
+		PreparedStatement stmt = getQueryBuilder().getQueryReadSubjectIdentifiersOfTopics();
+		setTypeIds(stmt, 1, topics);
+		return Jdbc2Construct.toLocatorsByTopic(topics, stmt.executeQuery(), "reference", "id_topic");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Map<ITopic, Collection<ILocator>> doReadSubjectLocators(Collection<ITopic> topics) throws SQLException {
+		PreparedStatement stmt = getQueryBuilder().getQueryReadSubjectLocatorsOfTopics();
+		setTypeIds(stmt, 1, topics);
+		return Jdbc2Construct.toLocatorsByTopic(topics, stmt.executeQuery(), "reference", "id_topic");
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -3192,447 +3245,291 @@ public class RDBMSQueryProcessor implements IQueryProcessor {
 		return Jdbc2Construct.toTopics(topicMap, stmt.executeQuery(), "id");
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<IAssociation> getAssociationsByTypeAfter(ITopic type, long id, long limit) throws SQLException {
+		PreparedStatement stmt = getQueryBuilder().getQuerySelectAssociationsByTypeAfter();
+		stmt.setLong(1, Long.parseLong(type.getTopicMap().getId()));
+		stmt.setLong(2, Long.parseLong(type.getId()));
+		stmt.setLong(3, id);
+		stmt.setLong(4, limit);
+		ResultSet set = stmt.executeQuery();
+		return Jdbc2Construct.toAssociations(type.getTopicMap(), set, "id");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<IName> getNamesByTypeAfter(ITopic type, long id, long limit) throws SQLException {
+		PreparedStatement stmt = getQueryBuilder().getQuerySelectNamesByTypeAfter();
+		stmt.setLong(1, Long.parseLong(type.getTopicMap().getId()));
+		stmt.setLong(2, Long.parseLong(type.getId()));
+		stmt.setLong(3, id);
+		stmt.setLong(4, limit);
+		ResultSet set = stmt.executeQuery();
+		return Jdbc2Construct.toNames(type.getTopicMap(), set, "id", "id_parent");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<IOccurrence> getOccurrencesByTypeAfter(ITopic type, long id, long limit) throws SQLException {
+		PreparedStatement stmt = getQueryBuilder().getQuerySelectOccurrencesByTypeAfter();
+		stmt.setLong(1, Long.parseLong(type.getTopicMap().getId()));
+		stmt.setLong(2, Long.parseLong(type.getId()));
+		stmt.setLong(3, id);
+		stmt.setLong(4, limit);
+		ResultSet set = stmt.executeQuery();
+		return Jdbc2Construct.toOccurrences(type.getTopicMap(), set, "id", "id_parent");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<IAssociationRole> getRolesByTypeAfter(ITopic type, long id, long limit) throws SQLException {
+		PreparedStatement stmt = getQueryBuilder().getQuerySelectRolesByTypeAfter();
+		stmt.setLong(1, Long.parseLong(type.getTopicMap().getId()));
+		stmt.setLong(2, Long.parseLong(type.getId()));
+		stmt.setLong(3, id);
+		stmt.setLong(4, limit);
+		ResultSet set = stmt.executeQuery();
+		return Jdbc2Construct.toRoles(type.getTopicMap(), set, "id", "id_parent");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ITopic> getTopicsByTypeAfter(ITopic type, long id, long limit) throws SQLException {
+		PreparedStatement stmt = getQueryBuilder().getQuerySelectTopicsByTypeAfter();
+		stmt.setLong(1, Long.parseLong(type.getTopicMap().getId()));
+		stmt.setLong(2, Long.parseLong(type.getId()));
+		stmt.setLong(3, id);
+		stmt.setLong(4, limit);
+		return Jdbc2Construct.toTopics(type.getTopicMap(), stmt.executeQuery(), "id_instance");
+	}
+
 	// TransitiveTypeInstanceIndex
 
+	/**
+	 * Binds the identifiers of the given types as one parameter of the given statement. The sub-type closure of the
+	 * types is calculated by the statement itself.
+	 * 
+	 * @param stmt
+	 *            the statement
+	 * @param parameterIndex
+	 *            the parameter index
+	 * @param types
+	 *            the types
+	 * @return the index of the next parameter
+	 * @throws SQLException
+	 *             thrown if the parameter cannot be set
+	 */
+	protected <T extends Topic> int setTypeIds(PreparedStatement stmt, int parameterIndex, Collection<T> types) throws SQLException {
+		Long ids[] = new Long[types.size()];
+		int n = 0;
+		for (T type : types) {
+			ids[n++] = Long.parseLong(type.getId());
+		}
+		stmt.setArray(parameterIndex, getConnection().createArrayOf("bigint", ids));
+		return parameterIndex + 1;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
 	public Collection<IAssociation> getAssociationsByTypeTransitive(ITopic type, long offset, long limit) throws SQLException {
-		/*
-		 * create association set and add associations directly typed by the given type
-		 */
-		Collection<IAssociation> set = HashUtil.getHashSet(getAssociationsByType(type, -1, -1));
-		/*
-		 * iterate over all sub-types of the given type
-		 */
-		for (ITopic t : getSubtypes(type.getTopicMap(), type, -1, -1)) {
-			/*
-			 * add all associations typed by the sub-type
-			 */
-			set.addAll(getAssociationsByType(t, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<IAssociation> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
+		return getAssociationsByTypeTransitive(type.getTopicMap(), Collections.singleton(type), offset, limit);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public <T extends Topic> Collection<IAssociation> getAssociationsByTypeTransitive(ITopicMap topicMap, Collection<T> types, long offset, long limit) throws SQLException {
-		/*
-		 * create association set
-		 */
-		Collection<IAssociation> set = HashUtil.getHashSet();
-		/*
-		 * iterate over all types
-		 */
-		for (T type : types) {
-			/*
-			 * add associations transitive by type
-			 */
-			set.addAll(getAssociationsByTypeTransitive((ITopic) type, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
+		PreparedStatement stmt = queryBuilder.getQuerySelectAssociationsByTypesTransitive(types.size(), offset != -1);
+		int n = setTypeIds(stmt, 1, types);
 		if (offset != -1) {
-			List<IAssociation> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
+			stmt.setLong(n++, offset);
+			stmt.setLong(n++, limit);
 		}
-		return set;
+		return Jdbc2Construct.toAssociations(topicMap, stmt.executeQuery(), "id");
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getCharacteristicsByTypeTransitive(ITopic type, long offset, long limit) throws SQLException {
-		/*
-		 * create characteristics set and add characteristics directly typed by the given type
-		 */
-		Collection<ICharacteristics> set = HashUtil.getHashSet(getCharacteristicsByType(type, -1, -1));
-		/*
-		 * iterate over all sub-types of the given type
-		 */
-		for (ITopic t : getSubtypes(type.getTopicMap(), type, -1, -1)) {
-			/*
-			 * add all characteristics typed by the sub-type
-			 */
-			set.addAll(getCharacteristicsByType(t, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<ICharacteristics> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
+		return getCharacteristicsByTypesTransitive(Collections.singleton(type), offset, limit);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public <T extends Topic> Collection<ICharacteristics> getCharacteristicsByTypesTransitive(Collection<T> types, long offset, long limit) throws SQLException {
-		/*
-		 * create characteristics set
-		 */
-		Collection<ICharacteristics> set = HashUtil.getHashSet();
-		/*
-		 * iterate over all types
-		 */
-		for (T type : types) {
-			/*
-			 * add characteristics transitive by type
-			 */
-			set.addAll(getCharacteristicsByTypeTransitive((ITopic) type, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
+		PreparedStatement stmt = queryBuilder.getQuerySelectCharacteristicsByTypesTransitive(types.size(), offset != -1);
+		int n = setTypeIds(stmt, 1, types);
 		if (offset != -1) {
-			List<ICharacteristics> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
+			stmt.setLong(n++, offset);
+			stmt.setLong(n++, limit);
 		}
-		return set;
+		return Jdbc2Construct.toCharacteristics(getSession().getTopicMapStore().getTopicMap(), stmt.executeQuery());
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public Collection<IName> getNamesByTypeTransitive(ITopic type, long offset, long limit) throws SQLException {
-		/*
-		 * create name set and add names directly typed by the given type
-		 */
-		Collection<IName> set = HashUtil.getHashSet(getNamesByType(type, -1, -1));
-		/*
-		 * iterate over all sub-types of the given type
-		 */
-		for (ITopic t : getSubtypes(type.getTopicMap(), type, -1, -1)) {
-			/*
-			 * add all names typed by the sub-type
-			 */
-			set.addAll(getNamesByType(t, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<IName> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
+		return getNamesByTypeTransitive(type.getTopicMap(), Collections.singleton(type), offset, limit);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public <T extends Topic> Collection<IName> getNamesByTypeTransitive(ITopicMap topicMap, Collection<T> types, long offset, long limit) throws SQLException {
-		/*
-		 * create name set
-		 */
-		Collection<IName> set = HashUtil.getHashSet();
-		/*
-		 * iterate over all types
-		 */
-		for (T type : types) {
-			/*
-			 * add names transitive by type
-			 */
-			set.addAll(getNamesByTypeTransitive((ITopic) type, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
+		PreparedStatement stmt = queryBuilder.getQuerySelectNamesByTypesTransitive(types.size(), offset != -1);
+		int n = setTypeIds(stmt, 1, types);
 		if (offset != -1) {
-			List<IName> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
+			stmt.setLong(n++, offset);
+			stmt.setLong(n++, limit);
 		}
-		return set;
+		return Jdbc2Construct.toNames(topicMap, stmt.executeQuery(), "id", "id_parent");
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public Collection<IOccurrence> getOccurrencesByTypeTransitive(ITopic type, long offset, long limit) throws SQLException {
-		/*
-		 * create occurrence set and add occurrences directly typed by the given type
-		 */
-		Collection<IOccurrence> set = HashUtil.getHashSet(getOccurrencesByType(type, -1, -1));
-		/*
-		 * iterate over all sub-types of the given type
-		 */
-		for (ITopic t : getSubtypes(type.getTopicMap(), type, -1, -1)) {
-			/*
-			 * add all occurrences typed by the sub-type
-			 */
-			set.addAll(getOccurrencesByType(t, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<IOccurrence> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
+		return getOccurrencesByTypeTransitive(type.getTopicMap(), Collections.singleton(type), offset, limit);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public <T extends Topic> Collection<IOccurrence> getOccurrencesByTypeTransitive(ITopicMap topicMap, Collection<T> types, long offset, long limit) throws SQLException {
-		/*
-		 * create occurrences set
-		 */
-		Collection<IOccurrence> set = HashUtil.getHashSet();
-		/*
-		 * iterate over all types
-		 */
-		for (T type : types) {
-			/*
-			 * add occurrences transitive by type
-			 */
-			set.addAll(getOccurrencesByTypeTransitive((ITopic) type, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
+		PreparedStatement stmt = queryBuilder.getQuerySelectOccurrencesByTypesTransitive(types.size(), offset != -1);
+		int n = setTypeIds(stmt, 1, types);
 		if (offset != -1) {
-			List<IOccurrence> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
+			stmt.setLong(n++, offset);
+			stmt.setLong(n++, limit);
 		}
-		return set;
+		return Jdbc2Construct.toOccurrences(topicMap, stmt.executeQuery(), "id", "id_parent");
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public Collection<IAssociationRole> getRolesByTypeTransitive(ITopic type, long offset, long limit) throws SQLException {
-		/*
-		 * create role set and add roles directly typed by the given type
-		 */
-		Collection<IAssociationRole> set = HashUtil.getHashSet(getRolesByType(type, -1, -1));
-		/*
-		 * iterate over all sub-types of the given type
-		 */
-		for (ITopic t : getSubtypes(type.getTopicMap(), type, -1, -1)) {
-			/*
-			 * add all roles typed by the sub-type
-			 */
-			set.addAll(getRolesByType(t, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<IAssociationRole> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
+		return getRolesByTypeTransitive(type.getTopicMap(), Collections.singleton(type), offset, limit);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public <T extends Topic> Collection<IAssociationRole> getRolesByTypeTransitive(ITopicMap topicMap, Collection<T> types, long offset, long limit) throws SQLException {
-		/*
-		 * create roles set
-		 */
-		Collection<IAssociationRole> set = HashUtil.getHashSet();
-		/*
-		 * iterate over all types
-		 */
-		for (T type : types) {
-			/*
-			 * add roles transitive by type
-			 */
-			set.addAll(getRolesByTypeTransitive((ITopic) type, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
+		PreparedStatement stmt = queryBuilder.getQuerySelectRolesByTypesTransitive(types.size(), offset != -1);
+		int n = setTypeIds(stmt, 1, types);
 		if (offset != -1) {
-			List<IAssociationRole> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
+			stmt.setLong(n++, offset);
+			stmt.setLong(n++, limit);
 		}
-		return set;
+		return Jdbc2Construct.toRoles(topicMap, stmt.executeQuery(), "id", "id_parent");
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public Collection<ITopic> getTopicsByTypeTransitive(ITopic type, long offset, long limit) throws SQLException {
-		/*
-		 * create topics set and add topics directly typed by the given type
-		 */
-		Collection<ITopic> set = HashUtil.getHashSet(getTopicsByType(type.getTopicMap(), type, -1, -1));
-		/*
-		 * iterate over all sub-types of the given type
-		 */
-		for (ITopic t : getSubtypes(type.getTopicMap(), type, -1, -1)) {
-			/*
-			 * add all topics typed by the sub-type
-			 */
-			set.addAll(getTopicsByType(type.getTopicMap(), t, -1, -1));
-		}
-		/*
-		 * check if paging is expected
-		 */
-		if (offset != -1) {
-			List<ITopic> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
-		}
-		return set;
+		return getTopicsByTypesTransitive(type.getTopicMap(), Collections.singleton(type), false, offset, limit);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public <T extends Topic> Collection<ITopic> getTopicsByTypesTransitive(ITopicMap topicMap, Collection<T> types, boolean all, long offset, long limit) throws SQLException {
+		PreparedStatement stmt = queryBuilder.getQuerySelectTopicsByTypesTransitive(types.size(), all, offset != -1);
+		int n = setTypeIds(stmt, 1, types);
 		/*
-		 * flag indicates first iteration
-		 */
-		boolean first = true;
-		/*
-		 * create topics set
-		 */
-		Collection<ITopic> set = HashUtil.getHashSet();
-		/*
-		 * iterate over all types
+		 * matching all types means being an instance of the closure of each distinct type
 		 */
-		for (T type : types) {
-			/*
-			 * add roles transitive by type if is first iteration or matching-all flag is false
-			 */
-			if (first || !all) {
-				set.addAll(getTopicsByTypeTransitive((ITopic) type, -1, -1));
-			} else {
-				set.retainAll(getTopicsByTypeTransitive((ITopic) type, -1, -1));
-			}
-			first = false;
+		if (all) {
+			stmt.setLong(n++, HashUtil.getHashSet(types).size());
 		}
-		/*
-		 * check if paging is expected
-		 */
 		if (offset != -1) {
-			List<ITopic> list = HashUtil.getList(set);
-			Collections.sort(list, new Comparator<IConstruct>() {
-				/**
-				 * {@inheritDoc}
-				 */
-				public int compare(IConstruct o1, IConstruct o2) {
-					return (int) (Long.parseLong(o1.getId()) - Long.parseLong(o2.getId()));
-				}
-			});
-			list = list.subList((int) offset, (int) ((offset + limit < list.size()) ? offset + limit : list.size()));
-			return list;
+			stmt.setLong(n++, offset);
+			stmt.setLong(n++, limit);
 		}
-		return set;
+		return Jdbc2Construct.toTopics(topicMap, stmt.executeQuery(), "id");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public <T extends Topic> long doReadNumberOfAssociationsByTypesTransitive(Collection<T> types) throws SQLException {
+		return readNumberOfConstructsByTypesTransitive(queryBuilder.getQueryReadNumberOfAssociationsByTypesTransitive(types.size()), types);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public <T extends Topic> long doReadNumberOfCharacteristicsByTypesTransitive(Collection<T> types) throws SQLException {
+		return readNumberOfConstructsByTypesTransitive(queryBuilder.getQueryReadNumberOfCharacteristicsByTypesTransitive(types.size()), types);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public <T extends Topic> long doReadNumberOfNamesByTypesTransitive(Collection<T> types) throws SQLException {
+		return readNumberOfConstructsByTypesTransitive(queryBuilder.getQueryReadNumberOfNamesByTypesTransitive(types.size()), types);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public <T extends Topic> long doReadNumberOfOccurrencesByTypesTransitive(Collection<T> types) throws SQLException {
+		return readNumberOfConstructsByTypesTransitive(queryBuilder.getQueryReadNumberOfOccurrencesByTypesTransitive(types.size()), types);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public <T extends Topic> long doReadNumberOfRolesByTypesTransitive(Collection<T> types) throws SQLException {
+		return readNumberOfConstructsByTypesTransitive(queryBuilder.getQueryReadNumberOfRolesByTypesTransitive(types.size()), types);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public <T extends Topic> long doReadNumberOfTopicsByTypesTransitive(Collection<T> types, boolean all) throws SQLException {
+		PreparedStatement stmt = queryBuilder.getQueryReadNumberOfTopicsByTypesTransitive(types.size(), all);
+		int n = setTypeIds(stmt, 1, types);
+		if (all) {
+			stmt.setLong(n, HashUtil.getHashSet(types).size());
+		}
+		ResultSet rs = stmt.executeQuery();
+		rs.next();
+		long number = rs.getLong(1);
+		rs.close();
+		return number;
+	}
+
+	/**
+	 * Internal method to execute a count statement for the sub-type closure of the given types.
+	 * 
+	 * @param stmt
+	 *            the count statement
+	 * @param types
+	 *            the types
+	 * @return the number of constructs
+	 * @throws SQLException
+	 *             thrown if the statement fails
+	 */
+	private <T extends Topic> long readNumberOfConstructsByTypesTransitive(PreparedStatement stmt, Collection<T> types) throws SQLException {
+		setTypeIds(stmt, 1, types);
+		ResultSet rs = stmt.executeQuery();
+		rs.next();
+		long number = rs.getLong(1);
+		rs.close();
+		return number;
 	}
 
 	// ScopedIndex
@@ -4237,6 +4134,60 @@ public class RDBMSQueryProcessor implements IQueryProcessor {
 		return Jdbc2Construct.toTopics(topicMap, stmt.executeQuery(), "id_theme");
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<IAssociation> getAssociationsByThemeAfter(ITopic theme, long id, long limit) throws SQLException {
+		PreparedStatement stmt = getQueryBuilder().getQueryAssociationsByThemeAfter();
+		stmt.setLong(1, Long.parseLong(theme.getTopicMap().getId()));
+		stmt.setLong(2, Long.parseLong(theme.getId()));
+		stmt.setLong(3, id);
+		stmt.setLong(4, limit);
+		ResultSet set = stmt.executeQuery();
+		return Jdbc2Construct.toAssociations(theme.getTopicMap(), set, "id");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<IName> getNamesByThemeAfter(ITopic theme, long id, long limit) throws SQLException {
+		PreparedStatement stmt = getQueryBuilder().getQueryNamesByThemeAfter();
+		stmt.setLong(1, Long.parseLong(theme.getTopicMap().getId()));
+		stmt.setLong(2, Long.parseLong(theme.getId()));
+		stmt.setLong(3, id);
+		stmt.setLong(4, limit);
+		ResultSet set = stmt.executeQuery();
+		return Jdbc2Construct.toNames(theme.getTopicMap(), set, "id", "id_parent");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<IOccurrence> getOccurrencesByThemeAfter(ITopic theme, long id, long limit) throws SQLException {
+		PreparedStatement stmt = getQueryBuilder().getQueryOccurrencesByThemeAfter();
+		stmt.setLong(1, Long.parseLong(theme.getTopicMap().getId()));
+		stmt.setLong(2, Long.parseLong(theme.getId()));
+		stmt.setLong(3, id);
+		stmt.setLong(4, limit);
+		ResultSet set = stmt.executeQuery();
+		return Jdbc2Construct.toOccurrences(theme.getTopicMap(), set, "id", "id_parent");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<IVariant> getVariantsByThemeAfter(ITopic theme, long id, long limit) throws SQLException {
+		PreparedStatement stmt = getQueryBuilder().getQueryVariantsByThemeAfter();
+		long themeId = Long.parseLong(theme.getId());
+		stmt.setLong(1, Long.parseLong(theme.getTopicMap().getId()));
+		stmt.setLong(2, themeId);
+		stmt.setLong(3, themeId);
+		stmt.setLong(4, id);
+		stmt.setLong(5, limit);
+		ResultSet set = stmt.executeQuery();
+		return Jdbc2Construct.toVariants(theme.getTopicMap(), set);
+	}
+
 	// LiteralIndex
 
 	/**
@@ -4310,12 +4261,14 @@ public class RDBMSQueryProcessor implements IQueryProcessor {
 		PreparedStatement stmt = queryBuilder.getQuerySelectCharacteristicsByPattern(offset != -1);
 		long topicMapId = Long.parseLong(topicMap.getId());
 		stmt.setLong(1, topicMapId);
-		stmt.setString(2, value);
-		stmt.setLong(3, topicMapId);
-		stmt.setString(4, value);
+		stmt.setString(2, toLikeFilter(value));
+		stmt.setString(3, value);
+		stmt.setLong(4, topicMapId);
+		stmt.setString(5, toLikeFilter(value));
+		stmt.setString(6, value);
 		if (offset != -1) {
-			stmt.setLong(5, offset);
-			stmt.setLong(6, limit);
+			stmt.setLong(7, offset);
+			stmt.setLong(8, limit);
 		}
 		ResultSet rs = stmt.executeQuery();
 		return Jdbc2Construct.toCharacteristics(topicMap, rs);
@@ -4333,13 +4286,15 @@ public class RDBMSQueryProcessor implements IQueryProcessor {
 		PreparedStatement stmt = queryBuilder.getQuerySelectCharacteristicsByPatternAndDatatype(offset != -1);
 		long topicMapId = Long.parseLong(topicMap.getId());
 		stmt.setLong(1, topicMapId);
-		stmt.setString(2, value);
-		stmt.setString(3, reference);
-		stmt.setLong(4, topicMapId);
-		stmt.setString(5, value);
+		stmt.setString(2, toLikeFilter(value));
+		stmt.setString(3, value);
+		stmt.setString(4, reference);
+		stmt.setLong(5, topicMapId);
+		stmt.setString(6, toLikeFilter(value));
+		stmt.setString(7, value);
 		if (offset != -1) {
-			stmt.setLong(6, offset);
-			stmt.setLong(7, limit);
+			stmt.setLong(8, offset);
+			stmt.setLong(9, limit);
 		}
 		ResultSet rs = stmt.executeQuery();
 		return Jdbc2Construct.toCharacteristics(topicMap, rs);
@@ -4394,7 +4349,8 @@ public class RDBMSQueryProcessor implements IQueryProcessor {
 	public Collection<IName> getNamesByPattern(ITopicMap topicMap, String pattern) throws SQLException {
 		PreparedStatement stmt = queryBuilder.getQuerySelectNamesByPattern();
 		stmt.setLong(1, Long.parseLong(topicMap.getId()));
-		stmt.setString(2, pattern);
+		stmt.setString(2, toLikeFilter(pattern));
+		stmt.setString(3, pattern);
 		ResultSet rs = stmt.executeQuery();
 		return Jdbc2Construct.toNames(topicMap, rs, "id", "id_parent");
 	}
@@ -4491,7 +4447,8 @@ public class RDBMSQueryProcessor implements IQueryProcessor {
 	public Collection<IOccurrence> getOccurrencesByPattern(ITopicMap topicMap, String pattern) throws SQLException {
 		PreparedStatement stmt = queryBuilder.getQuerySelectOccurrencesByPattern();
 		stmt.setLong(1, Long.parseLong(topicMap.getId()));
-		stmt.setString(2, pattern);
+		stmt.setString(2, toLikeFilter(pattern));
+		stmt.setString(3, pattern);
 		ResultSet rs = stmt.executeQuery();
 		return Jdbc2Construct.toOccurrences(topicMap, rs, "id", "id_parent");
 	}
@@ -4502,8 +4459,9 @@ public class RDBMSQueryProcessor implements IQueryProcessor {
 	public Collection<IOccurrence> getOccurrencesByPattern(ITopicMap topicMap, String pattern, String reference) throws SQLException {
 		PreparedStatement stmt = queryBuilder.getQuerySelectOccurrencesByPatternAndDatatype();
 		stmt.setLong(1, Long.parseLong(topicMap.getId()));
-		stmt.setString(2, pattern);
-		stmt.setString(3, reference);
+		stmt.setString(2, toLikeFilter(pattern));
+		stmt.setString(3, pattern);
+		stmt.setString(4, reference);
 		ResultSet rs = stmt.executeQuery();
 		return Jdbc2Construct.toOccurrences(topicMap, rs, "id", "id_parent");
 	}
@@ -4562,7 +4520,8 @@ public class RDBMSQueryProcessor implements IQueryProcessor {
 	public Collection<IVariant> getVariantByPattern(ITopicMap topicMap, String pattern) throws SQLException {
 		PreparedStatement stmt = queryBuilder.getQuerySelectVariantsByPattern();
 		stmt.setLong(1, Long.parseLong(topicMap.getId()));
-		stmt.setString(2, pattern);
+		stmt.setString(2, toLikeFilter(pattern));
+		stmt.setString(3, pattern);
 		ResultSet rs = stmt.executeQuery();
 		return Jdbc2Construct.toVariants(topicMap, rs);
 	}
@@ -4573,12 +4532,50 @@ public class RDBMSQueryProcessor implements IQueryProcessor {
 	public Collection<IVariant> getVariantsByPattern(ITopicMap topicMap, String pattern, String reference) throws SQLException {
 		PreparedStatement stmt = queryBuilder.getQuerySelectVariantsByPatternAndDatatype();
 		stmt.setLong(1, Long.parseLong(topicMap.getId()));
-		stmt.setString(2, pattern);
-		stmt.setString(3, reference);
+		stmt.setString(2, toLikeFilter(pattern));
+		stmt.setString(3, pattern);
+		stmt.setString(4, reference);
 		ResultSet rs = stmt.executeQuery();
 		return Jdbc2Construct.toVariants(topicMap, rs);
 	}
 
+	/**
+	 * Returns the case-insensitive LIKE filter prefiltering the values which may match the given regular expression.
+	 * The filter contains the literals every matching value has to contain in their order, see
+	 * {@link NGramIndex#getLiterals(Pattern)}, so the database only evaluates the expression for values passing the
+	 * cheaper filter. The wildcards of the literals are escaped by {@link #LIKE_ESCAPE}.
+	 * 
+	 * @param pattern
+	 *            the regular expression
+	 * @return the filter, which is <code>%</code> if the expression does not require any literal or cannot be
+	 *         analyzed
+	 */
+	protected static String toLikeFilter(String pattern) {
+		List<String> literals;
+		try {
+			literals = NGramIndex.getLiterals(Pattern.compile(pattern));
+		} catch (PatternSyntaxException e) {
+			/*
+			 * the syntax of the database may differ, so the database has to evaluate the expression
+			 */
+			literals = null;
+		}
+		StringBuilder filter = new StringBuilder("%");
+		if (literals != null) {
+			for (String literal : literals) {
+				for (int i = 0; i < literal.length(); i++) {
+					char c = literal.charAt(i);
+					if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+						filter.append(LIKE_ESCAPE);
+					}
+					filter.append(c);
+				}
+				filter.append('%');
+			}
+		}
+		return filter.toString();
+	}
+
 	// IdentityIndex
 
 	/**
@@ -5003,31 +5000,13 @@ public class RDBMSQueryProcessor implements IQueryProcessor {
 		stmt.setLong(1, revision.getId());
 		stmt.setString(2, type.name());
 		stmt.setLong(3, Long.parseLong(notifier.getId()));
-		String nVal = null;
-		if (newValue instanceof IConstruct) {
-			nVal = ((IConstruct) newValue).getId();
-		} else if (newValue instanceof ILocator) {
-			nVal = ((ILocator) newValue).getReference();
-		} else if (newValue instanceof IScope) {
-			nVal = ((IScope) newValue).getId();
-		} else if (newValue != null) {
-			nVal = newValue.toString();
-		}
+		String nVal = toChangeSetValue(newValue);
 		if (nVal != null) {
 			stmt.setString(4, nVal);
 		} else {
 			stmt.setNull(4, Types.VARCHAR);
 		}
-		String oVal = null;
-		if (oldValue instanceof IConstruct) {
-			oVal = ((IConstruct) oldValue).getId();
-		} else if (oldValue instanceof ILocator) {
-			oVal = ((ILocator) oldValue).getReference();
-		} else if (oldValue instanceof IScope) {
-			oVal = ((IScope) oldValue).getId();
-		} else if (oldValue != null) {
-			oVal = oldValue.toString();
-		}
+		String oVal = toChangeSetValue(oldValue);
 		if (oVal != null) {
 			stmt.setString(5, oVal);
 		} else {
@@ -5036,6 +5015,56 @@ public class RDBMSQueryProcessor implements IQueryProcessor {
 		stmt.execute();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public void doCreateChangeSets(Collection<IRevisionChange> changes) throws SQLException {
+		if (changes.isEmpty()) {
+			return;
+		}
+		PreparedStatement stmt = getQueryBuilder().getQueryCreateChangeset();
+		for (IRevisionChange change : changes) {
+			stmt.setLong(1, change.getRevision().getId());
+			stmt.setString(2, change.getType().name());
+			stmt.setLong(3, Long.parseLong(change.getContext().getId()));
+			String nVal = toChangeSetValue(change.getNewValue());
+			if (nVal != null) {
+				stmt.setString(4, nVal);
+			} else {
+				stmt.setNull(4, Types.VARCHAR);
+			}
+			String oVal = toChangeSetValue(change.getOldValue());
+			if (oVal != null) {
+				stmt.setString(5, oVal);
+			} else {
+				stmt.setNull(5, Types.VARCHAR);
+			}
+			stmt.addBatch();
+		}
+		stmt.executeBatch();
+	}
+
+	/**
+	 * Internal method to transform the value of a change set to its string
+	 * representation stored by the database
+	 * 
+	 * @param value
+	 *            the value
+	 * @return the string representation or <code>null</code>
+	 */
+	private String toChangeSetValue(Object value) {
+		if (value instanceof IConstruct) {
+			return ((IConstruct) value).getId();
+		} else if (value instanceof ILocator) {
+			return ((ILocator) value).getReference();
+		} else if (value instanceof IScope) {
+			return ((IScope) value).getId();
+		} else if (value != null) {
+			return value.toString();
+		}
+		return null;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -31,15 +31,9 @@ public class RDBMSSession extends SessionImpl {
 	 * 
 	 * @param connectionProvider
 	 *            the parent connection provider
-	 * @param url
-	 *            the database URL
-	 * @param user
-	 *            the user database property
-	 * @param password
-	 *            the password database property
 	 */
-	public RDBMSSession(final RDBMSConnectionProvider connectionProvider, String url, String user, String password) {
-		super(connectionProvider, url, user, password);
+	public RDBMSSession(final RDBMSConnectionProvider connectionProvider) {
+		super(connectionProvider);
 	}
 
 	/**
@@ -20,8 +20,10 @@ package de.topicmapslab.majortom.database.jdbc.util;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import de.topicmapslab.majortom.core.LocatorImpl;
@@ -34,6 +36,8 @@ import de.topicmapslab.majortom.database.readonly.JdbcReadOnlyName;
 import de.topicmapslab.majortom.database.readonly.JdbcReadOnlyOccurrence;
 import de.topicmapslab.majortom.database.readonly.JdbcReadOnlyTopic;
 import de.topicmapslab.majortom.database.store.JdbcIdentity;
+import de.topicmapslab.majortom.database.store.JdbcIdentityMap;
+import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
 import de.topicmapslab.majortom.model.core.IAssociation;
 import de.topicmapslab.majortom.model.core.IAssociationRole;
 import de.topicmapslab.majortom.model.core.ICharacteristics;
@@ -64,7 +68,7 @@ public class Jdbc2Construct {
 	public static IAssociation toAssociation(ITopicMap topicMap, ResultSet result, String column) throws SQLException {
 		try {
 			if (result.next()) {
-				return topicMap.getStore().getConstructFactory().newAssociation(new JdbcIdentity(result.getLong(column)), topicMap);
+				return association(topicMap, result.getLong(column));
 			}
 			return null;
 		} finally {
@@ -81,7 +85,7 @@ public class Jdbc2Construct {
 				if (id == 0) {
 					return null;
 				}
-				return topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(id), topicMap);
+				return topic(topicMap, id);
 			}
 			return null;
 		} finally {
@@ -92,7 +96,7 @@ public class Jdbc2Construct {
 	public static IName toName(ITopic topic, ResultSet result, String column) throws SQLException {
 		try {
 			if (result.next()) {
-				return topic.getTopicMap().getStore().getConstructFactory().newName(new JdbcIdentity(result.getLong(column)), topic);
+				return name(topic, result.getLong(column));
 			}
 			return null;
 		} finally {
@@ -103,7 +107,7 @@ public class Jdbc2Construct {
 	public static IOccurrence toOccurrence(ITopic topic, ResultSet result, String column) throws SQLException {
 		try {
 			if (result.next()) {
-				return topic.getTopicMap().getStore().getConstructFactory().newOccurrence(new JdbcIdentity(result.getLong(column)), topic);
+				return occurrence(topic, result.getLong(column));
 			}
 			return null;
 		} finally {
@@ -114,7 +118,7 @@ public class Jdbc2Construct {
 	public static IVariant toVariant(IName name, ResultSet result, String column) throws SQLException {
 		try {
 			if (result.next()) {
-				return name.getTopicMap().getStore().getConstructFactory().newVariant(new JdbcIdentity(result.getLong(column)), name);
+				return variant(name, result.getLong(column));
 			}
 			return null;
 		} finally {
@@ -125,7 +129,7 @@ public class Jdbc2Construct {
 	public static IAssociationRole toRole(IAssociation association, ResultSet result, String column) throws SQLException {
 		try {
 			if (result.next()) {
-				return association.getTopicMap().getStore().getConstructFactory().newAssociationRole(new JdbcIdentity(result.getLong(column)), association);
+				return role(association, result.getLong(column));
 			}
 			return null;
 		} finally {
@@ -160,26 +164,17 @@ public class Jdbc2Construct {
 		while (result.next()) {
 			String type = result.getString("type").trim();
 			if ("t".equalsIgnoreCase(type)) {
-				list.add(topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong("id")), topicMap));
+				list.add(topic(topicMap, result.getLong("id")));
 			} else if ("o".equalsIgnoreCase(type)) {
-				list.add(topicMap.getStore().getConstructFactory()
-						.newOccurrence(new JdbcIdentity(result.getLong("id")), topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong("id_parent")), topicMap)));
+				list.add(occurrence(topicMap, result.getLong("id"), result.getLong("id_parent")));
 			} else if ("n".equalsIgnoreCase(type)) {
-				list.add(topicMap.getStore().getConstructFactory()
-						.newName(new JdbcIdentity(result.getLong("id")), topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong("id_parent")), topicMap)));
+				list.add(name(topicMap, result.getLong("id"), result.getLong("id_parent")));
 			} else if ("v".equalsIgnoreCase(type)) {
-				list.add(topicMap
-						.getStore()
-						.getConstructFactory()
-						.newVariant(
-								new JdbcIdentity(result.getLong(1)),
-								topicMap.getStore().getConstructFactory()
-										.newName(new JdbcIdentity(result.getLong(2)), topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong(3)), topicMap))));
+				list.add(variant(topicMap, result.getLong(1), result.getLong(2), result.getLong(3)));
 			} else if ("a".equalsIgnoreCase(type)) {
-				list.add(topicMap.getStore().getConstructFactory().newAssociation(new JdbcIdentity(result.getLong("id")), topicMap));
+				list.add(association(topicMap, result.getLong("id")));
 			} else if ("r".equalsIgnoreCase(type)) {
-				list.add(topicMap.getStore().getConstructFactory()
-						.newAssociationRole(new JdbcIdentity(result.getLong("id")), topicMap.getStore().getConstructFactory().newAssociation(new JdbcIdentity(result.getLong("id_parent")), topicMap)));
+				list.add(role(topicMap, result.getLong("id"), result.getLong("id_parent")));
 			} else if ("tm".equalsIgnoreCase(type)) {
 				String id = result.getString("id");
 				if (id.equalsIgnoreCase(topicMap.getId())) {
@@ -196,7 +191,7 @@ public class Jdbc2Construct {
 	public static List<IAssociation> toAssociations(ITopicMap topicMap, ResultSet result, String column) throws SQLException {
 		List<IAssociation> set = HashUtil.getList();
 		while (result.next()) {
-			set.add(topicMap.getStore().getConstructFactory().newAssociation(new JdbcIdentity(result.getLong(column)), topicMap));
+			set.add(association(topicMap, result.getLong(column)));
 		}
 		result.close();
 		return set;
@@ -205,7 +200,7 @@ public class Jdbc2Construct {
 	public static List<ITopic> toTopics(ITopicMap topicMap, ResultSet result, String column) throws SQLException {
 		List<ITopic> list = HashUtil.getList();
 		while (result.next()) {
-			list.add(topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong(column)), topicMap));
+			list.add(topic(topicMap, result.getLong(column)));
 		}
 		result.close();
 		return list;
@@ -216,11 +211,9 @@ public class Jdbc2Construct {
 		while (result.next()) {
 			String type = result.getString("type").trim();
 			if ("n".equalsIgnoreCase(type)) {
-				list.add(topicMap.getStore().getConstructFactory()
-						.newName(new JdbcIdentity(result.getLong("id")), topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong("id_parent")), topicMap)));
+				list.add(name(topicMap, result.getLong("id"), result.getLong("id_parent")));
 			} else if ("o".equalsIgnoreCase(type)) {
-				list.add(topicMap.getStore().getConstructFactory()
-						.newOccurrence(new JdbcIdentity(result.getLong("id")), topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong("id_parent")), topicMap)));
+				list.add(occurrence(topicMap, result.getLong("id"), result.getLong("id_parent")));
 			} else {
 				throw new TopicMapStoreException("Unknown characteristics type '" + type + "'.");
 			}
@@ -234,16 +227,9 @@ public class Jdbc2Construct {
 		while (result.next()) {
 			String type = result.getString("type").trim();
 			if ("v".equalsIgnoreCase(type)) {
-				list.add(topicMap
-						.getStore()
-						.getConstructFactory()
-						.newVariant(
-								new JdbcIdentity(result.getLong(1)),
-								topicMap.getStore().getConstructFactory()
-										.newName(new JdbcIdentity(result.getLong(2)), topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong(3)), topicMap))));
+				list.add(variant(topicMap, result.getLong(1), result.getLong(2), result.getLong(3)));
 			} else if ("o".equalsIgnoreCase(type)) {
-				list.add(topicMap.getStore().getConstructFactory()
-						.newOccurrence(new JdbcIdentity(result.getLong("id")), topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong("id_parent")), topicMap)));
+				list.add(occurrence(topicMap, result.getLong("id"), result.getLong("id_parent")));
 			} else {
 				throw new TopicMapStoreException("Unknown characteristics type '" + type + "'.");
 			}
@@ -255,7 +241,7 @@ public class Jdbc2Construct {
 	public static List<IName> toNames(ITopic topic, ResultSet result, String column) throws SQLException {
 		List<IName> list = HashUtil.getList();
 		while (result.next()) {
-			list.add(topic.getTopicMap().getStore().getConstructFactory().newName(new JdbcIdentity(result.getLong(column)), topic));
+			list.add(name(topic, result.getLong(column)));
 		}
 		result.close();
 		return list;
@@ -264,8 +250,7 @@ public class Jdbc2Construct {
 	public static List<IName> toNames(ITopicMap topicMap, ResultSet result, String column, String parentColumn) throws SQLException {
 		List<IName> list = HashUtil.getList();
 		while (result.next()) {
-			list.add(topicMap.getStore().getConstructFactory()
-					.newName(new JdbcIdentity(result.getLong(column)), topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong(parentColumn)), topicMap)));
+			list.add(name(topicMap, result.getLong(column), result.getLong(parentColumn)));
 		}
 		result.close();
 		return list;
@@ -274,7 +259,7 @@ public class Jdbc2Construct {
 	public static List<IOccurrence> toOccurrences(ITopic topic, ResultSet result, String column) throws SQLException {
 		List<IOccurrence> list = HashUtil.getList();
 		while (result.next()) {
-			list.add(topic.getParent().getStore().getConstructFactory().newOccurrence(new JdbcIdentity(result.getLong(column)), topic));
+			list.add(occurrence(topic, result.getLong(column)));
 		}
 		result.close();
 		return list;
@@ -283,8 +268,7 @@ public class Jdbc2Construct {
 	public static List<IOccurrence> toOccurrences(ITopicMap topicMap, ResultSet result, String column, String parentColumn) throws SQLException {
 		List<IOccurrence> list = HashUtil.getList();
 		while (result.next()) {
-			list.add(topicMap.getStore().getConstructFactory()
-					.newOccurrence(new JdbcIdentity(result.getLong(column)), topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong(parentColumn)), topicMap)));
+			list.add(occurrence(topicMap, result.getLong(column), result.getLong(parentColumn)));
 		}
 		result.close();
 		return list;
@@ -293,7 +277,7 @@ public class Jdbc2Construct {
 	public static List<IVariant> toVariants(IName name, ResultSet result, String column) throws SQLException {
 		List<IVariant> list = HashUtil.getList();
 		while (result.next()) {
-			list.add(name.getTopicMap().getStore().getConstructFactory().newVariant(new JdbcIdentity(result.getLong(column)), name));
+			list.add(variant(name, result.getLong(column)));
 		}
 		result.close();
 		return list;
@@ -302,13 +286,7 @@ public class Jdbc2Construct {
 	public static List<IVariant> toVariants(ITopicMap topicMap, ResultSet result) throws SQLException {
 		List<IVariant> list = HashUtil.getList();
 		while (result.next()) {
-			list.add(topicMap
-					.getStore()
-					.getConstructFactory()
-					.newVariant(
-							new JdbcIdentity(result.getLong(1)),
-							topicMap.getStore().getConstructFactory()
-									.newName(new JdbcIdentity(result.getLong(2)), topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong(3)), topicMap))));
+			list.add(variant(topicMap, result.getLong(1), result.getLong(2), result.getLong(3)));
 		}
 		result.close();
 		return list;
@@ -317,15 +295,7 @@ public class Jdbc2Construct {
 	public static List<IVariant> toVariants(ITopicMap topicMap, ResultSet result, String column, String nameIdColumn, String topicIdColumn) throws SQLException {
 		List<IVariant> list = HashUtil.getList();
 		while (result.next()) {
-			list.add(topicMap
-					.getStore()
-					.getConstructFactory()
-					.newVariant(
-							new JdbcIdentity(result.getLong(column)),
-							topicMap.getStore()
-									.getConstructFactory()
-									.newName(new JdbcIdentity(result.getLong(nameIdColumn)),
-											topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong(topicIdColumn)), topicMap))));
+			list.add(variant(topicMap, result.getLong(column), result.getLong(nameIdColumn), result.getLong(topicIdColumn)));
 		}
 		result.close();
 		return list;
@@ -334,7 +304,7 @@ public class Jdbc2Construct {
 	public static List<IAssociationRole> toRoles(IAssociation association, ResultSet result, String column) throws SQLException {
 		List<IAssociationRole> list = HashUtil.getList();
 		while (result.next()) {
-			list.add(association.getTopicMap().getStore().getConstructFactory().newAssociationRole(new JdbcIdentity(result.getLong(column)), association));
+			list.add(role(association, result.getLong(column)));
 		}
 		result.close();
 		return list;
@@ -343,8 +313,7 @@ public class Jdbc2Construct {
 	public static List<IAssociationRole> toRoles(ITopicMap topicMap, ResultSet result, String column, String parentIdColumn) throws SQLException {
 		List<IAssociationRole> list = HashUtil.getList();
 		while (result.next()) {
-			list.add(topicMap.getStore().getConstructFactory()
-					.newAssociationRole(new JdbcIdentity(result.getLong(column)), topicMap.getStore().getConstructFactory().newAssociation(new JdbcIdentity(result.getLong(parentIdColumn)), topicMap)));
+			list.add(role(topicMap, result.getLong(column), result.getLong(parentIdColumn)));
 		}
 		result.close();
 		return list;
@@ -355,21 +324,13 @@ public class Jdbc2Construct {
 		while (result.next()) {
 			String type = result.getString("type").trim();
 			if ("v".equalsIgnoreCase(type)) {
-				list.add(topicMap
-						.getStore()
-						.getConstructFactory()
-						.newVariant(
-								new JdbcIdentity(result.getLong(1)),
-								topicMap.getStore().getConstructFactory()
-										.newName(new JdbcIdentity(result.getLong(2)), topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong(3)), topicMap))));
+				list.add(variant(topicMap, result.getLong(1), result.getLong(2), result.getLong(3)));
 			} else if ("o".equalsIgnoreCase(type)) {
-				list.add(topicMap.getStore().getConstructFactory()
-						.newOccurrence(new JdbcIdentity(result.getLong("id")), topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong("id_parent")), topicMap)));
+				list.add(occurrence(topicMap, result.getLong("id"), result.getLong("id_parent")));
 			} else if ("n".equalsIgnoreCase(type)) {
-				list.add(topicMap.getStore().getConstructFactory()
-						.newName(new JdbcIdentity(result.getLong("id")), topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(result.getLong("id_parent")), topicMap)));
+				list.add(name(topicMap, result.getLong("id"), result.getLong("id_parent")));
 			} else if ("a".equalsIgnoreCase(type)) {
-				list.add(topicMap.getStore().getConstructFactory().newAssociation(new JdbcIdentity(result.getLong("id")), topicMap));
+				list.add(association(topicMap, result.getLong("id")));
 			} else {
 				throw new TopicMapStoreException("Unknown characteristics type '" + type + "'.");
 			}
@@ -387,6 +348,70 @@ public class Jdbc2Construct {
 		return list;
 	}
 
+	public static Map<ITopic, Collection<IName>> toNamesByParent(Collection<ITopic> topics, ResultSet result, String column, String parentColumn) throws SQLException {
+		Map<Long, ITopic> parents = toIdMap(topics);
+		Map<ITopic, Collection<IName>> map = HashUtil.getHashMap(topics.size());
+		for (ITopic topic : topics) {
+			map.put(topic, HashUtil.<IName> getList());
+		}
+		while (result.next()) {
+			ITopic parent = parents.get(result.getLong(parentColumn));
+			if (parent != null) {
+				map.get(parent).add(name(parent, result.getLong(column)));
+			}
+		}
+		result.close();
+		return map;
+	}
+
+	public static Map<ITopic, Collection<IOccurrence>> toOccurrencesByParent(Collection<ITopic> topics, ResultSet result, String column, String parentColumn) throws SQLException {
+		Map<Long, ITopic> parents = toIdMap(topics);
+		Map<ITopic, Collection<IOccurrence>> map = HashUtil.getHashMap(topics.size());
+		for (ITopic topic : topics) {
+			map.put(topic, HashUtil.<IOccurrence> getList());
+		}
+		while (result.next()) {
+			ITopic parent = parents.get(result.getLong(parentColumn));
+			if (parent != null) {
+				map.get(parent).add(occurrence(parent, result.getLong(column)));
+			}
+		}
+		result.close();
+		return map;
+	}
+
+	public static Map<ITopic, Collection<ITopic>> toTopicsByTopic(Collection<ITopic> topics, ResultSet result, String column, String topicColumn) throws SQLException {
+		Map<Long, ITopic> owners = toIdMap(topics);
+		Map<ITopic, Collection<ITopic>> map = HashUtil.getHashMap(topics.size());
+		for (ITopic topic : topics) {
+			map.put(topic, HashUtil.<ITopic> getList());
+		}
+		while (result.next()) {
+			ITopic owner = owners.get(result.getLong(topicColumn));
+			if (owner != null) {
+				map.get(owner).add(topic(owner.getTopicMap(), result.getLong(column)));
+			}
+		}
+		result.close();
+		return map;
+	}
+
+	public static Map<ITopic, Collection<ILocator>> toLocatorsByTopic(Collection<ITopic> topics, ResultSet result, String column, String topicColumn) throws SQLException {
+		Map<Long, ITopic> owners = toIdMap(topics);
+		Map<ITopic, Collection<ILocator>> map = HashUtil.getHashMap(topics.size());
+		for (ITopic topic : topics) {
+			map.put(topic, HashUtil.<ILocator> getList());
+		}
+		while (result.next()) {
+			ITopic owner = owners.get(result.getLong(topicColumn));
+			if (owner != null) {
+				map.get(owner).add(new LocatorImpl(result.getString(column), result.getString("id")));
+			}
+		}
+		result.close();
+		return map;
+	}
+
 	public static List<IScope> toScopes(ITopicMap topicMap, ResultSet result) throws SQLException {
 		List<IScope> list = HashUtil.getList();
 		while (result.next()) {
@@ -394,7 +419,7 @@ public class Jdbc2Construct {
 			Long[] themeIds = (Long[]) result.getArray("themes").getArray();
 			Set<ITopic> themes = HashUtil.getHashSet();
 			for (Long themeId : themeIds) {
-				themes.add(topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(themeId), topicMap));
+				themes.add(topic(topicMap, themeId));
 			}
 			list.add(new ScopeImpl(id, themes));
 		}
@@ -600,6 +625,116 @@ public class Jdbc2Construct {
 		return changeset;
 	}
 
+	/**
+	 * Returns the identity map of the store of the given topic map or <code>null</code> if the store is not a JDBC
+	 * store.
+	 * 
+	 * @param topicMap
+	 *            the topic map
+	 * @return the identity map or <code>null</code>
+	 */
+	private static JdbcIdentityMap getIdentityMap(ITopicMap topicMap) {
+		if (topicMap.getStore() instanceof JdbcTopicMapStore) {
+			return ((JdbcTopicMapStore) topicMap.getStore()).getIdentityMap();
+		}
+		return null;
+	}
+
+	/**
+	 * Maps the given topics by their database identifier
+	 * 
+	 * @param topics
+	 *            the topics
+	 * @return the map of all topics by their identifier
+	 */
+	private static Map<Long, ITopic> toIdMap(Collection<ITopic> topics) {
+		Map<Long, ITopic> map = HashUtil.getHashMap(topics.size());
+		for (ITopic topic : topics) {
+			map.put(Long.parseLong(topic.getId()), topic);
+		}
+		return map;
+	}
+
+	private static ITopic topic(ITopicMap topicMap, long id) {
+		JdbcIdentityMap map = getIdentityMap(topicMap);
+		if (map != null) {
+			return map.getTopic(topicMap, id);
+		}
+		return topicMap.getStore().getConstructFactory().newTopic(new JdbcIdentity(id), topicMap);
+	}
+
+	private static IAssociation association(ITopicMap topicMap, long id) {
+		JdbcIdentityMap map = getIdentityMap(topicMap);
+		if (map != null) {
+			return map.getAssociation(topicMap, id);
+		}
+		return topicMap.getStore().getConstructFactory().newAssociation(new JdbcIdentity(id), topicMap);
+	}
+
+	private static IName name(ITopic topic, long id) {
+		JdbcIdentityMap map = getIdentityMap(topic.getTopicMap());
+		if (map != null) {
+			return map.getName(topic, id);
+		}
+		return topic.getTopicMap().getStore().getConstructFactory().newName(new JdbcIdentity(id), topic);
+	}
+
+	private static IName name(ITopicMap topicMap, long id, long parentId) {
+		JdbcIdentityMap map = getIdentityMap(topicMap);
+		if (map != null) {
+			return map.getName(topicMap, id, parentId);
+		}
+		return topicMap.getStore().getConstructFactory().newName(new JdbcIdentity(id), topic(topicMap, parentId));
+	}
+
+	private static IOccurrence occurrence(ITopic topic, long id) {
+		JdbcIdentityMap map = getIdentityMap(topic.getTopicMap());
+		if (map != null) {
+			return map.getOccurrence(topic, id);
+		}
+		return topic.getTopicMap().getStore().getConstructFactory().newOccurrence(new JdbcIdentity(id), topic);
+	}
+
+	private static IOccurrence occurrence(ITopicMap topicMap, long id, long parentId) {
+		JdbcIdentityMap map = getIdentityMap(topicMap);
+		if (map != null) {
+			return map.getOccurrence(topicMap, id, parentId);
+		}
+		return topicMap.getStore().getConstructFactory().newOccurrence(new JdbcIdentity(id), topic(topicMap, parentId));
+	}
+
+	private static IVariant variant(IName name, long id) {
+		JdbcIdentityMap map = getIdentityMap(name.getTopicMap());
+		if (map != null) {
+			return map.getVariant(name, id);
+		}
+		return name.getTopicMap().getStore().getConstructFactory().newVariant(new JdbcIdentity(id), name);
+	}
+
+	private static IVariant variant(ITopicMap topicMap, long id, long nameId, long topicId) {
+		JdbcIdentityMap map = getIdentityMap(topicMap);
+		if (map != null) {
+			return map.getVariant(topicMap, id, nameId, topicId);
+		}
+		return topicMap.getStore().getConstructFactory().newVariant(new JdbcIdentity(id), name(topicMap, nameId, topicId));
+	}
+
+	private static IAssociationRole role(IAssociation association, long id) {
+		JdbcIdentityMap map = getIdentityMap(association.getTopicMap());
+		if (map != null) {
+			return map.getRole(association, id);
+		}
+		return association.getTopicMap().getStore().getConstructFactory().newAssociationRole(new JdbcIdentity(id), association);
+	}
+
+	private static IAssociationRole role(ITopicMap topicMap, long id, long parentId) {
+		JdbcIdentityMap map = getIdentityMap(topicMap);
+		if (map != null) {
+			return map.getRole(topicMap, id, parentId);
+		}
+		return topicMap.getStore().getConstructFactory().newAssociationRole(new JdbcIdentity(id), association(topicMap, parentId));
+	}
+
 }
 
 class RevisionChangeData {
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.database.jdbc.util;
+
+import java.util.List;
+
+import org.tmapi.core.Construct;
+
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
+
+/**
+ * Utility class for the cursors of the paged indexes of the database backend. The cursor of a page is the identifier
+ * of its last item, so the next page is read by a seek on the identifiers independent from its depth.
+ *
+ * @author Sven Krosse
+ *
+ */
+public class JdbcCursorUtils {
+
+	/**
+	 * hidden constructor
+	 */
+	private JdbcCursorUtils() {
+	}
+
+	/**
+	 * Returns the identifier of the last item of the previous page stored by the given cursor
+	 *
+	 * @param cursor
+	 *            the cursor or <code>null</code> for the first page
+	 * @return the identifier or <code>-1</code> for the first page
+	 * @throws IllegalArgumentException
+	 *             thrown if the cursor is invalid
+	 */
+	public static long toId(String cursor) {
+		if (cursor == null) {
+			return -1;
+		}
+		try {
+			return Long.parseLong(cursor);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Invalid cursor '" + cursor + "'.");
+		}
+	}
+
+	/**
+	 * Creates the page of the given items. The cursor of the page is the identifier of the last item.
+	 *
+	 * @param <T>
+	 *            the type of items
+	 * @param items
+	 *            the items of the page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page
+	 */
+	public static <T extends Construct> PagedResult<T> toPage(List<T> items, int limit) {
+		if (items.isEmpty() || items.size() < limit) {
+			return new PagedResult<T>(items, null);
+		}
+		return new PagedResult<T>(items, items.get(items.size() - 1).getId());
+	}
+}
@@ -0,0 +1,429 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.database.store;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.topicmapslab.majortom.model.core.IAssociation;
+import de.topicmapslab.majortom.model.core.IAssociationRole;
+import de.topicmapslab.majortom.model.core.IConstruct;
+import de.topicmapslab.majortom.model.core.IConstructFactory;
+import de.topicmapslab.majortom.model.core.IName;
+import de.topicmapslab.majortom.model.core.IOccurrence;
+import de.topicmapslab.majortom.model.core.ITopic;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.core.IVariant;
+
+/**
+ * Identity map of a {@link JdbcTopicMapStore}. The map resolves a database id always to the same construct instance
+ * as long as this instance is referenced by anyone else. Constructs which are not referenced anymore are collected by
+ * the garbage collector and removed from the map. The database ids are only unique within the table of one construct
+ * kind, so each construct is mapped by its kind and its id.
+ *
+ * @author Sven Krosse
+ *
+ */
+public class JdbcIdentityMap {
+
+	/**
+	 * key of a construct consisting of the construct kind and the database id
+	 */
+	private static class ConstructKey {
+
+		private final Class<? extends IConstruct> kind;
+		private final long id;
+
+		/**
+		 * constructor
+		 *
+		 * @param kind
+		 *            the construct kind
+		 * @param id
+		 *            the database id
+		 */
+		public ConstructKey(Class<? extends IConstruct> kind, long id) {
+			this.kind = kind;
+			this.id = id;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public int hashCode() {
+			return 31 * kind.hashCode() + (int) (id ^ (id >>> 32));
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public boolean equals(Object obj) {
+			if (!(obj instanceof ConstructKey)) {
+				return false;
+			}
+			ConstructKey other = (ConstructKey) obj;
+			return kind == other.kind && id == other.id;
+		}
+	}
+
+	/**
+	 * weak reference remembering the key of the referenced construct
+	 */
+	private static class ConstructReference extends WeakReference<IConstruct> {
+
+		private final ConstructKey key;
+
+		/**
+		 * constructor
+		 *
+		 * @param key
+		 *            the key of the construct
+		 * @param construct
+		 *            the construct
+		 * @param queue
+		 *            the reference queue
+		 */
+		public ConstructReference(ConstructKey key, IConstruct construct, ReferenceQueue<IConstruct> queue) {
+			super(construct, queue);
+			this.key = key;
+		}
+	}
+
+	private final JdbcTopicMapStore store;
+	private final ConcurrentMap<ConstructKey, ConstructReference> constructs = new ConcurrentHashMap<ConstructKey, ConstructReference>();
+	private final ReferenceQueue<IConstruct> queue = new ReferenceQueue<IConstruct>();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * constructor
+	 *
+	 * @param store
+	 *            the parent store
+	 */
+	public JdbcIdentityMap(JdbcTopicMapStore store) {
+		this.store = store;
+	}
+
+	/**
+	 * Returns the topic with the given id
+	 *
+	 * @param topicMap
+	 *            the topic map
+	 * @param id
+	 *            the database id
+	 * @return the topic
+	 */
+	public ITopic getTopic(ITopicMap topicMap, long id) {
+		ITopic topic = lookup(id, ITopic.class);
+		if (topic == null) {
+			topic = register(ITopic.class, id, getFactory().newTopic(new JdbcIdentity(id), topicMap));
+		}
+		return topic;
+	}
+
+	/**
+	 * Returns the association with the given id
+	 *
+	 * @param topicMap
+	 *            the topic map
+	 * @param id
+	 *            the database id
+	 * @return the association
+	 */
+	public IAssociation getAssociation(ITopicMap topicMap, long id) {
+		IAssociation association = lookup(id, IAssociation.class);
+		if (association == null) {
+			association = register(IAssociation.class, id, getFactory().newAssociation(new JdbcIdentity(id), topicMap));
+		}
+		return association;
+	}
+
+	/**
+	 * Returns the name with the given id
+	 *
+	 * @param parent
+	 *            the parent topic
+	 * @param id
+	 *            the database id
+	 * @return the name
+	 */
+	public IName getName(ITopic parent, long id) {
+		IName name = lookup(id, IName.class);
+		if (name == null) {
+			name = register(IName.class, id, getFactory().newName(new JdbcIdentity(id), parent));
+		}
+		return name;
+	}
+
+	/**
+	 * Returns the name with the given id. The parent topic is only resolved if the name is unknown.
+	 *
+	 * @param topicMap
+	 *            the topic map
+	 * @param id
+	 *            the database id
+	 * @param parentId
+	 *            the database id of the parent topic
+	 * @return the name
+	 */
+	public IName getName(ITopicMap topicMap, long id, long parentId) {
+		IName name = lookup(id, IName.class);
+		if (name == null) {
+			name = register(IName.class, id, getFactory().newName(new JdbcIdentity(id), getTopic(topicMap, parentId)));
+		}
+		return name;
+	}
+
+	/**
+	 * Returns the occurrence with the given id
+	 *
+	 * @param parent
+	 *            the parent topic
+	 * @param id
+	 *            the database id
+	 * @return the occurrence
+	 */
+	public IOccurrence getOccurrence(ITopic parent, long id) {
+		IOccurrence occurrence = lookup(id, IOccurrence.class);
+		if (occurrence == null) {
+			occurrence = register(IOccurrence.class, id, getFactory().newOccurrence(new JdbcIdentity(id), parent));
+		}
+		return occurrence;
+	}
+
+	/**
+	 * Returns the occurrence with the given id. The parent topic is only resolved if the occurrence is unknown.
+	 *
+	 * @param topicMap
+	 *            the topic map
+	 * @param id
+	 *            the database id
+	 * @param parentId
+	 *            the database id of the parent topic
+	 * @return the occurrence
+	 */
+	public IOccurrence getOccurrence(ITopicMap topicMap, long id, long parentId) {
+		IOccurrence occurrence = lookup(id, IOccurrence.class);
+		if (occurrence == null) {
+			occurrence = register(IOccurrence.class, id, getFactory().newOccurrence(new JdbcIdentity(id), getTopic(topicMap, parentId)));
+		}
+		return occurrence;
+	}
+
+	/**
+	 * Returns the variant with the given id
+	 *
+	 * @param parent
+	 *            the parent name
+	 * @param id
+	 *            the database id
+	 * @return the variant
+	 */
+	public IVariant getVariant(IName parent, long id) {
+		IVariant variant = lookup(id, IVariant.class);
+		if (variant == null) {
+			variant = register(IVariant.class, id, getFactory().newVariant(new JdbcIdentity(id), parent));
+		}
+		return variant;
+	}
+
+	/**
+	 * Returns the variant with the given id. The parent name and topic are only resolved if the variant is unknown.
+	 *
+	 * @param topicMap
+	 *            the topic map
+	 * @param id
+	 *            the database id
+	 * @param nameId
+	 *            the database id of the parent name
+	 * @param topicId
+	 *            the database id of the topic of the parent name
+	 * @return the variant
+	 */
+	public IVariant getVariant(ITopicMap topicMap, long id, long nameId, long topicId) {
+		IVariant variant = lookup(id, IVariant.class);
+		if (variant == null) {
+			variant = register(IVariant.class, id, getFactory().newVariant(new JdbcIdentity(id), getName(topicMap, nameId, topicId)));
+		}
+		return variant;
+	}
+
+	/**
+	 * Returns the association role with the given id
+	 *
+	 * @param parent
+	 *            the parent association
+	 * @param id
+	 *            the database id
+	 * @return the role
+	 */
+	public IAssociationRole getRole(IAssociation parent, long id) {
+		IAssociationRole role = lookup(id, IAssociationRole.class);
+		if (role == null) {
+			role = register(IAssociationRole.class, id, getFactory().newAssociationRole(new JdbcIdentity(id), parent));
+		}
+		return role;
+	}
+
+	/**
+	 * Returns the association role with the given id. The parent association is only resolved if the role is unknown.
+	 *
+	 * @param topicMap
+	 *            the topic map
+	 * @param id
+	 *            the database id
+	 * @param parentId
+	 *            the database id of the parent association
+	 * @return the role
+	 */
+	public IAssociationRole getRole(ITopicMap topicMap, long id, long parentId) {
+		IAssociationRole role = lookup(id, IAssociationRole.class);
+		if (role == null) {
+			role = register(IAssociationRole.class, id, getFactory().newAssociationRole(new JdbcIdentity(id), getAssociation(topicMap, parentId)));
+		}
+		return role;
+	}
+
+	/**
+	 * Removes the topic with the given id from the identity map, e.g. if the id of the topic was modified by a merge.
+	 *
+	 * @param id
+	 *            the database id of the topic
+	 */
+	public void removeTopic(long id) {
+		constructs.remove(new ConstructKey(ITopic.class, id));
+	}
+
+	/**
+	 * Removes all constructs from the identity map
+	 */
+	public void clear() {
+		constructs.clear();
+		while (queue.poll() != null) {
+			// drain references of the old mappings
+		}
+	}
+
+	/**
+	 * Returns the number of ids currently mapped to a construct instance
+	 *
+	 * @return the size
+	 */
+	public int size() {
+		purge();
+		return constructs.size();
+	}
+
+	/**
+	 * Returns the number of lookups resolved to an existing construct instance
+	 *
+	 * @return the number of hits
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of lookups which have to create a new construct instance
+	 *
+	 * @return the number of misses
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Internal method to lookup the construct with the given id
+	 *
+	 * @param <T>
+	 *            the expected construct type
+	 * @param id
+	 *            the database id
+	 * @param type
+	 *            the expected construct type
+	 * @return the construct or <code>null</code> if the id is unknown or the construct was collected
+	 */
+	private <T extends IConstruct> T lookup(long id, Class<T> type) {
+		purge();
+		ConstructReference reference = constructs.get(new ConstructKey(type, id));
+		if (reference != null) {
+			IConstruct construct = reference.get();
+			if (type.isInstance(construct) && !construct.isRemoved()) {
+				hits.incrementAndGet();
+				return type.cast(construct);
+			}
+		}
+		misses.incrementAndGet();
+		return null;
+	}
+
+	/**
+	 * Internal method to register a new construct. If another thread has registered a construct for the same id in the
+	 * meantime, this construct is returned instead.
+	 *
+	 * @param <T>
+	 *            the construct type
+	 * @param type
+	 *            the construct kind
+	 * @param id
+	 *            the database id
+	 * @param construct
+	 *            the new construct
+	 * @return the registered construct
+	 */
+	@SuppressWarnings("unchecked")
+	private <T extends IConstruct> T register(Class<T> type, long id, T construct) {
+		ConstructKey key = new ConstructKey(type, id);
+		ConstructReference reference = new ConstructReference(key, construct, queue);
+		while (true) {
+			ConstructReference existing = constructs.putIfAbsent(key, reference);
+			if (existing == null) {
+				return construct;
+			}
+			IConstruct other = existing.get();
+			if (other != null && other.getClass() == construct.getClass() && !other.isRemoved()) {
+				return (T) other;
+			}
+			if (constructs.replace(key, existing, reference)) {
+				return construct;
+			}
+		}
+	}
+
+	/**
+	 * Internal method to remove all mappings of collected constructs
+	 */
+	private void purge() {
+		ConstructReference reference;
+		while ((reference = (ConstructReference) queue.poll()) != null) {
+			constructs.remove(reference.key, reference);
+		}
+	}
+
+	/**
+	 * Returns the construct factory of the store
+	 *
+	 * @return the construct factory
+	 */
+	private IConstructFactory getFactory() {
+		return store.getConstructFactory();
+	}
+}
@@ -847,6 +847,8 @@ public class JdbcMergeUtils {
 				ITopic newReifier = store.doCreateTopicWithoutIdentifier(store.getTopicMap());
 				doMerge(store, newReifier, reifier, revision);
 				doMerge(store, newReifier, reifierOfOther, revision);
+				store.getIdentityMap().removeTopic(reifier.longId());
+				store.getIdentityMap().removeTopic(reifierOfOther.longId());
 				((TopicImpl) reifier).getIdentity().setId(newReifier.longId());
 				((TopicImpl) reifierOfOther).getIdentity().setId(newReifier.longId());
 			}
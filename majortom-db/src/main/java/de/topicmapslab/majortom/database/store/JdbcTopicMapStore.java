@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
@@ -39,6 +40,7 @@ import org.tmapi.index.TypeInstanceIndex;
 import de.topicmapslab.majortom.core.ConstructImpl;
 import de.topicmapslab.majortom.core.TopicImpl;
 import de.topicmapslab.majortom.database.jdbc.core.ConnectionProviderFactory;
+import de.topicmapslab.majortom.database.jdbc.index.JdbcFullTextIndex;
 import de.topicmapslab.majortom.database.jdbc.index.JdbcIdentityIndex;
 import de.topicmapslab.majortom.database.jdbc.index.JdbcLiteralIndex;
 import de.topicmapslab.majortom.database.jdbc.index.JdbcRevisionIndex;
@@ -47,6 +49,7 @@ import de.topicmapslab.majortom.database.jdbc.index.JdbcSupertypeSubtypeIndex;
 import de.topicmapslab.majortom.database.jdbc.index.JdbcTransitiveTypeInstanceIndex;
 import de.topicmapslab.majortom.database.jdbc.index.JdbcTypeInstanceIndex;
 import de.topicmapslab.majortom.database.jdbc.index.paged.JdbcPagedConstructIndex;
+import de.topicmapslab.majortom.database.jdbc.index.paged.JdbcPagedFullTextIndex;
 import de.topicmapslab.majortom.database.jdbc.index.paged.JdbcPagedIdentityIndex;
 import de.topicmapslab.majortom.database.jdbc.index.paged.JdbcPagedLiteralIndex;
 import de.topicmapslab.majortom.database.jdbc.index.paged.JdbcPagedScopeIndex;
@@ -74,6 +77,7 @@ import de.topicmapslab.majortom.model.core.ITypeable;
 import de.topicmapslab.majortom.model.core.IVariant;
 import de.topicmapslab.majortom.model.event.TopicMapEventType;
 import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
+import de.topicmapslab.majortom.model.index.IFullTextIndex;
 import de.topicmapslab.majortom.model.index.IIdentityIndex;
 import de.topicmapslab.majortom.model.index.ILiteralIndex;
 import de.topicmapslab.majortom.model.index.IRevisionIndex;
@@ -82,6 +86,7 @@ import de.topicmapslab.majortom.model.index.ISupertypeSubtypeIndex;
 import de.topicmapslab.majortom.model.index.ITransitiveTypeInstanceIndex;
 import de.topicmapslab.majortom.model.index.ITypeInstanceIndex;
 import de.topicmapslab.majortom.model.index.paging.IPagedConstructIndex;
+import de.topicmapslab.majortom.model.index.paging.IPagedFullTextIndex;
 import de.topicmapslab.majortom.model.index.paging.IPagedIdentityIndex;
 import de.topicmapslab.majortom.model.index.paging.IPagedLiteralIndex;
 import de.topicmapslab.majortom.model.index.paging.IPagedScopedIndex;
@@ -91,8 +96,10 @@ import de.topicmapslab.majortom.model.index.paging.IPagedTypeInstanceIndex;
 import de.topicmapslab.majortom.model.namespace.Namespaces;
 import de.topicmapslab.majortom.model.revision.Changeset;
 import de.topicmapslab.majortom.model.revision.IRevision;
+import de.topicmapslab.majortom.model.revision.IRevisionChange;
 import de.topicmapslab.majortom.model.store.TopicMapStoreParameterType;
 import de.topicmapslab.majortom.model.transaction.ITransaction;
+import de.topicmapslab.majortom.revision.RevisionChangeImpl;
 import de.topicmapslab.majortom.store.ModifableTopicMapStoreImpl;
 import de.topicmapslab.majortom.util.DatatypeAwareUtils;
 import de.topicmapslab.majortom.util.HashUtil;
@@ -117,6 +124,10 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 	 * the topic map identity
 	 */
 	private JdbcIdentity identity;
+	/**
+	 * the identity map of all constructs materialized from the database
+	 */
+	private final JdbcIdentityMap identityMap = new JdbcIdentityMap(this);
 
 	// Index Instances
 	private ITypeInstanceIndex typeInstanceIndex;
@@ -126,6 +137,7 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 	private ILiteralIndex literalIndex;
 	private IIdentityIndex identityIndex;
 	private IRevisionIndex revisionIndex;
+	private IFullTextIndex fullTextIndex;
 
 	// Paged Indexes
 	private IPagedTypeInstanceIndex pagedTypeInstanceIndex;
@@ -135,8 +147,19 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 	private IPagedSupertypeSubtypeIndex pagedSupertypeSubtypeIndex;
 	private IPagedTransitiveTypeInstanceIndex pagedTransitiveTypeInstanceIndex;
 	private IPagedLiteralIndex pagedLiteralIndex;
+	private IPagedFullTextIndex pagedFullTextIndex;
 	private String dialect;
 
+	/**
+	 * the change sets stored by the current thread and not written to the database yet
+	 */
+	private final ThreadLocal<List<IRevisionChange>> revisionBuffer = new ThreadLocal<List<IRevisionChange>>();
+
+	/**
+	 * flag indicating if change sets are buffered
+	 */
+	private boolean revisionBufferEnabled = true;
+
 	/**
 	 * constructor
 	 */
@@ -281,6 +304,7 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 		ISession session = provider.openSession();
 		try {
 			IName n = session.getProcessor().doCreateName(topic, value, themes);
+			getFullTextIndex().updateCharacteristics(session.getConnection(), n, value);
 			session.commit();
 			/*
 			 * create revision
@@ -343,6 +367,7 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 		ISession session = provider.openSession();
 		try {
 			IName n = session.getProcessor().doCreateName(topic, type, value, themes);
+			getFullTextIndex().updateCharacteristics(session.getConnection(), n, value);
 			session.commit();
 			/*
 			 * create revision
@@ -440,6 +465,7 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 		ISession session = provider.openSession();
 		try {
 			IOccurrence o = session.getProcessor().doCreateOccurrence(topic, type, value, datatype, themes);
+			getFullTextIndex().updateCharacteristics(session.getConnection(), o, value);
 			session.commit();
 			/*
 			 * notify listener
@@ -713,6 +739,7 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 		ISession session = provider.openSession();
 		try {
 			IVariant v = session.getProcessor().doCreateVariant(name, value, datatype, themes);
+			getFullTextIndex().updateCharacteristics(session.getConnection(), v, value);
 			session.commit();
 			/*
 			 * create revision
@@ -762,6 +789,8 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 			 */
 			session.getProcessor().doMergeTopics(newTopic, context);
 			String oldId = context.getId();
+			long contextId = context.longId();
+			identityMap.removeTopic(context.longId());
 			((TopicImpl) context).getIdentity().setId(newTopic.longId());
 			/*
 			 * store history and notify listeners
@@ -773,7 +802,11 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 			 * merge topics
 			 */
 			session.getProcessor().doMergeTopics(newTopic, other);
+			getFullTextIndex().removeTopic(session.getConnection(), contextId);
+			getFullTextIndex().removeTopic(session.getConnection(), other.longId());
+			getFullTextIndex().updateTopic(session.getConnection(), newTopic);
 			oldId = other.getId();
+			identityMap.removeTopic(other.longId());
 			((TopicImpl) other).getIdentity().setId(newTopic.longId());
 			session.commit();
 			/*
@@ -1197,6 +1230,7 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 		try {
 			String oldValue = session.getProcessor().doReadValue(n).toString();
 			session.getProcessor().doModifyValue(n, value);
+			getFullTextIndex().updateCharacteristics(session.getConnection(), n, value);
 			session.commit();
 			/*
 			 * store history
@@ -1233,6 +1267,7 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 			Object oldValue = session.getProcessor().doReadValue(t);
 			ILocator oldDatatype = session.getProcessor().doReadDataType(t);
 			session.getProcessor().doModifyValue(t, value, datatype);
+			getFullTextIndex().updateCharacteristics(session.getConnection(), t, value);
 			session.commit();
 			/*
 			 * store history
@@ -2534,6 +2569,125 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Map<ITopic, Set<IName>> doReadNames(Collection<ITopic> topics) throws TopicMapStoreException {
+		ISession session = provider.openSession();
+		try {
+			Map<ITopic, Set<IName>> map = toSetMap(session.getProcessor().doReadNames(topics));
+			session.commit();
+			return map;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		} finally {
+			try {
+				session.close();
+			} catch (SQLException e) {
+				throw new TopicMapStoreException(MESSAGE_SESSION_CANNOT_BE_CLOSED, e);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Map<ITopic, Set<IOccurrence>> doReadOccurrences(Collection<ITopic> topics) throws TopicMapStoreException {
+		ISession session = provider.openSession();
+		try {
+			Map<ITopic, Set<IOccurrence>> map = toSetMap(session.getProcessor().doReadOccurrences(topics));
+			session.commit();
+			return map;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		} finally {
+			try {
+				session.close();
+			} catch (SQLException e) {
+				throw new TopicMapStoreException(MESSAGE_SESSION_CANNOT_BE_CLOSED, e);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Map<ITopic, Set<ITopic>> doReadTypes(Collection<ITopic> topics) throws TopicMapStoreException {
+		ISession session = provider.openSession();
+		try {
+			Map<ITopic, Set<ITopic>> map = toSetMap(session.getProcessor().doReadTypes(topics));
+			session.commit();
+			return map;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		} finally {
+			try {
+				session.close();
+			} catch (SQLException e) {
+				throw new TopicMapStoreException(MESSAGE_SESSION_CANNOT_BE_CLOSED, e);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Map<ITopic, Set<ILocator>> doReadSubjectIdentifiers(Collection<ITopic> topics) throws TopicMapStoreException {
+		ISession session = provider.openSession();
+		try {
+			Map<ITopic, Set<ILocator>> map = toSetMap(session.getProcessor().doReadSubjectIdentifiers(topics));
+			session.commit();
+			return map;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		} finally {
+			try {
+				session.close();
+			} catch (SQLException e) {
+				throw new TopicMapStoreException(MESSAGE_SESSION_CANNOT_BE_CLOSED, e);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Map<ITopic, Set<ILocator>> doReadSubjectLocators(Collection<ITopic> topics) throws TopicMapStoreException {
+		ISession session = provider.openSession();
+		try {
+			Map<ITopic, Set<ILocator>> map = toSetMap(session.getProcessor().doReadSubjectLocators(topics));
+			session.commit();
+			return map;
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		} finally {
+			try {
+				session.close();
+			} catch (SQLException e) {
+				throw new TopicMapStoreException(MESSAGE_SESSION_CANNOT_BE_CLOSED, e);
+			}
+		}
+	}
+
+	/**
+	 * Internal method to transform the result of a bulk read to the map of sets expected by the cache
+	 * 
+	 * @param map
+	 *            the result of the bulk read
+	 * @return the transformed map
+	 */
+	private <T> Map<ITopic, Set<T>> toSetMap(Map<ITopic, Collection<T>> map) {
+		Map<ITopic, Set<T>> result = HashUtil.getHashMap(map.size());
+		for (Entry<ITopic, Collection<T>> entry : map.entrySet()) {
+			if (entry.getValue().isEmpty()) {
+				result.put(entry.getKey(), Collections.<T> emptySet());
+			} else {
+				result.put(entry.getKey(), HashUtil.getHashSet(entry.getValue()));
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -2742,6 +2896,7 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 			 * remove name and variants
 			 */
 			session.getProcessor().doRemoveName(name, cascade, revision);
+			getFullTextIndex().removeCharacteristics(session.getConnection(), name.longId());
 			session.commit();
 		} catch (SQLException e) {
 			throw new TopicMapStoreException("Internal database error!", e);
@@ -2777,6 +2932,7 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 		ISession session = provider.openSession();
 		try {
 			session.getProcessor().doRemoveOccurrence(occurrence, cascade, revision);
+			getFullTextIndex().removeCharacteristics(session.getConnection(), occurrence.longId());
 			session.commit();
 		} catch (SQLException e) {
 			throw new TopicMapStoreException("Internal database error!", e);
@@ -2951,6 +3107,7 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 		ISession session = provider.openSession();
 		try {
 			session.getProcessor().doRemoveTopic(topic, cascade);
+			getFullTextIndex().removeTopic(session.getConnection(), topic.longId());
 			session.commit();
 		} catch (SQLException e) {
 			throw new TopicMapStoreException("Internal database error!", e);
@@ -2970,6 +3127,9 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 		ISession session = provider.openSession();
 		try {
 			session.getProcessor().doRemoveTopicMap(topicMap, cascade);
+			if (getFullTextIndex().isBuilt(session.getConnection())) {
+				getFullTextIndex().removeTopicMap(session.getConnection());
+			}
 			session.commit();
 		} catch (SQLException e) {
 			throw new TopicMapStoreException("Internal database error!", e);
@@ -3044,6 +3204,7 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 			 * remove variant
 			 */
 			if (!session.getProcessor().doRemoveVariant(variant, cascade)) {
+				getFullTextIndex().removeCharacteristics(session.getConnection(), variant.longId());
 				session.commit();
 				if (reifier != null) {
 					/*
@@ -3130,6 +3291,11 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 				this.pagedScopedIndex = new JdbcPagedScopeIndex(this, getIndex(IScopedIndex.class));
 			}
 			return (I) pagedScopedIndex;
+		} else if (IPagedFullTextIndex.class.isAssignableFrom(clazz)) {
+			if (this.pagedFullTextIndex == null) {
+				this.pagedFullTextIndex = new JdbcPagedFullTextIndex(this, getIndex(IFullTextIndex.class));
+			}
+			return (I) pagedFullTextIndex;
 		} else if (ITransitiveTypeInstanceIndex.class.isAssignableFrom(clazz)) {
 			if (this.transitiveTypeInstanceIndex == null) {
 				transitiveTypeInstanceIndex = new JdbcTransitiveTypeInstanceIndex(this);
@@ -3165,6 +3331,11 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 				this.revisionIndex = new JdbcRevisionIndex(this);
 			}
 			return (I) this.revisionIndex;
+		} else if (IFullTextIndex.class.isAssignableFrom(clazz)) {
+			if (this.fullTextIndex == null) {
+				this.fullTextIndex = new JdbcFullTextIndex(this);
+			}
+			return (I) this.fullTextIndex;
 		}
 		throw new UnsupportedOperationException("The index class '" + (clazz == null ? "null" : clazz.getCanonicalName()) + "' is not supported by the current engine.");
 	}
@@ -3179,6 +3350,10 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 			throw new TopicMapStoreException("Missing connection properties!");
 		}
 		dialect = oDialect.toString();
+		Object buffer = getTopicMapSystem().getProperty(JdbcTopicMapStoreProperty.REVISION_BUFFER);
+		if (buffer != null) {
+			revisionBufferEnabled = Boolean.parseBoolean(buffer.toString());
+		}
 		provider = ConnectionProviderFactory.getFactory().newConnectionProvider(dialect);
 		provider.setTopicMapStore(this);
 		ISession session = provider.openSession();
@@ -3208,6 +3383,8 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 	 * {@inheritDoc}
 	 */
 	public void close() throws TopicMapStoreException {
+		flushRevisions();
+		identityMap.clear();
 		try {
 			provider.close();
 		} catch (SQLException e) {
@@ -3254,6 +3431,10 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 	 */
 	public IRevision createRevision(TopicMapEventType type) {
 		if (isRevisionManagementEnabled()) {
+			/*
+			 * the change sets of former revisions are complete
+			 */
+			flushRevisions();
 			ISession session = provider.openSession();
 			try {
 				IRevision revision = session.getProcessor().doCreateRevision(getTopicMap(), type);
@@ -3277,6 +3458,15 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 	 */
 	public void storeRevision(IRevision revision, TopicMapEventType type, IConstruct context, Object newValue, Object oldValue) {
 		if (isRevisionManagementEnabled()) {
+			if (revisionBufferEnabled) {
+				List<IRevisionChange> changes = revisionBuffer.get();
+				if (changes == null) {
+					changes = HashUtil.getList();
+					revisionBuffer.set(changes);
+				}
+				changes.add(new RevisionChangeImpl(revision, type, context, newValue, oldValue));
+				return;
+			}
 			ISession session = provider.openSession();
 			try {
 				session.getProcessor().doCreateChangeSet(revision, type, context, newValue, oldValue);
@@ -3293,6 +3483,70 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 		}
 	}
 
+	/**
+	 * Writes all change sets buffered by the current thread to the database using one batch of insert statements. The
+	 * buffer is flushed automatically before the listeners are notified about a modification, before a new revision
+	 * is created, before a session is opened for reading and before a batch is committed.
+	 * 
+	 * @throws TopicMapStoreException
+	 *             thrown if the change sets cannot be written
+	 */
+	public void flushRevisions() throws TopicMapStoreException {
+		List<IRevisionChange> changes = revisionBuffer.get();
+		if (changes == null || changes.isEmpty()) {
+			return;
+		}
+		revisionBuffer.remove();
+		ISession session = provider.openSession();
+		try {
+			session.getProcessor().doCreateChangeSets(changes);
+			session.commit();
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Internal database error!", e);
+		} finally {
+			try {
+				session.close();
+			} catch (SQLException e) {
+				throw new TopicMapStoreException(MESSAGE_SESSION_CANNOT_BE_CLOSED, e);
+			}
+		}
+	}
+
+	/**
+	 * Enable or disable the buffering of change sets. If the buffer is disabled, each change set is written by its own
+	 * session.
+	 * 
+	 * @param enabled
+	 *            <code>true</code> to buffer the change sets
+	 */
+	public void enableRevisionBuffer(boolean enabled) {
+		if (!enabled) {
+			flushRevisions();
+		}
+		this.revisionBufferEnabled = enabled;
+	}
+
+	/**
+	 * Returns whether the change sets are buffered
+	 * 
+	 * @return <code>true</code> if the change sets are buffered
+	 */
+	public boolean isRevisionBufferEnabled() {
+		return revisionBufferEnabled;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The change sets buffered by the current thread are written before any listener is notified, so a listener
+	 * reading the history will see the modification.
+	 * </p>
+	 */
+	public void notifyListeners(TopicMapEventType event, IConstruct notifier, Object newValue, Object oldValue) {
+		flushRevisions();
+		super.notifyListeners(event, notifier, newValue, oldValue);
+	}
+
 	// /***********
 	// * UTILITY *
 	// ***********/
@@ -3478,6 +3732,7 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 	 */
 	public void clear() {
 		super.clearCache();
+		identityMap.clear();
 		boolean wasCachingEnabled = isCachingEnabled();
 		enableCaching(false);
 		ISession session = provider.openSession();
@@ -3504,6 +3759,7 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 			if (revisionIndex != null) {
 				revisionIndex.clear();
 			}
+			getFullTextIndex().clear(session.getConnection());
 
 			// Paged Indexes
 			if (pagedTypeInstanceIndex != null) {
@@ -3527,6 +3783,9 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 			if (pagedLiteralIndex != null) {
 				pagedLiteralIndex.clear();
 			}
+			if (pagedFullTextIndex != null) {
+				pagedFullTextIndex.clear();
+			}
 		} catch (SQLException e) {
 			throw new TopicMapStoreException("Internal database error!", e);
 		} finally {
@@ -3548,6 +3807,85 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 		return identity;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public void clearCache() {
+		super.clearCache();
+		identityMap.clear();
+	}
+
+	/**
+	 * Starts a batch for the current thread. Until the batch is committed or rolled back, all modifications of the
+	 * current thread are executed within one database transaction.
+	 * 
+	 * @throws TopicMapStoreException
+	 *             thrown if the batch cannot be started
+	 */
+	public void beginBatch() throws TopicMapStoreException {
+		try {
+			provider.beginBatch();
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Cannot start batch!", e);
+		}
+	}
+
+	/**
+	 * Commits all modifications of the batch started by the current thread.
+	 * 
+	 * @throws TopicMapStoreException
+	 *             thrown if the commit failed
+	 */
+	public void commitBatch() throws TopicMapStoreException {
+		try {
+			/*
+			 * the change sets are part of the batch transaction
+			 */
+			flushRevisions();
+			provider.commitBatch();
+		} catch (SQLException e) {
+			clearCache();
+			throw new TopicMapStoreException("Cannot commit batch!", e);
+		}
+	}
+
+	/**
+	 * Discards all modifications of the batch started by the current thread. Because the cache and the identity map
+	 * may contain constructs created by the batch, both are cleared.
+	 * 
+	 * @throws TopicMapStoreException
+	 *             thrown if the rollback failed
+	 */
+	public void rollbackBatch() throws TopicMapStoreException {
+		revisionBuffer.remove();
+		try {
+			provider.rollbackBatch();
+		} catch (SQLException e) {
+			throw new TopicMapStoreException("Cannot rollback batch!", e);
+		} finally {
+			clearCache();
+		}
+	}
+
+	/**
+	 * Returns the identity map of this store, which resolves a database id to the same construct instance as long as
+	 * this instance is in use.
+	 * 
+	 * @return the identity map
+	 */
+	public JdbcIdentityMap getIdentityMap() {
+		return identityMap;
+	}
+
+	/**
+	 * Returns the full-text index, whose derived tables are maintained by the modifications of this store.
+	 * 
+	 * @return the full-text index
+	 */
+	private JdbcFullTextIndex getFullTextIndex() {
+		return (JdbcFullTextIndex) getIndex(IFullTextIndex.class);
+	}
+
 	/**
 	 * Creates a new session using connection provider
 	 * 
@@ -3557,6 +3895,10 @@ public class JdbcTopicMapStore extends ModifableTopicMapStoreImpl {
 		if (!isConnected()) {
 			throw new TopicMapStoreException("Topic map store is not connected!");
 		}
+		/*
+		 * sessions opened by indexes and readers have to see the buffered change sets
+		 */
+		flushRevisions();
 		return provider.openSession();
 	}
 
@@ -38,5 +38,33 @@ public final class JdbcTopicMapStoreProperty {
 
 	public static final String SQL_DIALECT = JDBC_PREFIX + ".dialect";
 	
+	/**
+	 * the maximum number of active connections of the shared connection pool
+	 */
 	public static final String POOL_CONNECTION_COUNT = JDBC_PREFIX + ".pool.count";
+
+	/**
+	 * the minimum number of idle connections of the shared connection pool
+	 */
+	public static final String POOL_MIN_IDLE = JDBC_PREFIX + ".pool.minIdle";
+
+	/**
+	 * the maximum number of idle connections of the shared connection pool
+	 */
+	public static final String POOL_MAX_IDLE = JDBC_PREFIX + ".pool.maxIdle";
+
+	/**
+	 * the timeout in milliseconds to wait for a free connection of the shared connection pool
+	 */
+	public static final String POOL_MAX_WAIT = JDBC_PREFIX + ".pool.maxWait";
+
+	/**
+	 * the maximum number of pooled prepared statements per connection
+	 */
+	public static final String POOL_MAX_OPEN_STATEMENTS = JDBC_PREFIX + ".pool.maxOpenStatements";
+
+	/**
+	 * whether the change sets of a revision are buffered and written by one batch, <code>true</code> by default
+	 */
+	public static final String REVISION_BUFFER = JDBC_PREFIX + ".revision.buffer";
 }
@@ -6,6 +6,7 @@ import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -15,7 +16,9 @@ import org.tmapi.core.Occurrence;
 import org.tmapi.core.TMAPIRuntimeException;
 import org.tmapi.core.Variant;
 
+import de.topicmapslab.geotype.wgs84.Wgs84Circuit;
 import de.topicmapslab.geotype.wgs84.Wgs84Coordinate;
+import de.topicmapslab.majortom.comparator.CharacteristicsByDistanceComparator;
 import de.topicmapslab.majortom.database.transaction.TransactionTopicMapStore;
 import de.topicmapslab.majortom.index.IndexImpl;
 import de.topicmapslab.majortom.model.core.ICharacteristics;
@@ -268,6 +271,76 @@ public class TransactionLiteralIndex extends IndexImpl<TransactionTopicMapStore>
 		return Collections.unmodifiableCollection(set);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getCoordinates(Wgs84Circuit area) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (area == null) {
+			throw new IllegalArgumentException("Area cannot be null.");
+		}
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.WGS84_COORDINATE))) {
+			try {
+				if (datatypeAware instanceof IOccurrence && area.contains(datatypeAware.coordinateValue())) {
+					set.add((IOccurrence) datatypeAware);
+				}
+			} catch (ParseException e) {
+				e.printStackTrace();
+			}
+		}
+		return Collections.unmodifiableCollection(set);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getCoordinatesInBoundingBox(Wgs84Coordinate southWest, Wgs84Coordinate northEast) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (southWest == null || northEast == null) {
+			throw new IllegalArgumentException("Corner cannot be null.");
+		}
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.WGS84_COORDINATE))) {
+			try {
+				if (datatypeAware instanceof IOccurrence && LiteralUtils.inBoundingBox(datatypeAware.coordinateValue(), southWest, northEast)) {
+					set.add((IOccurrence) datatypeAware);
+				}
+			} catch (ParseException e) {
+				e.printStackTrace();
+			}
+		}
+		return Collections.unmodifiableCollection(set);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getNearestCoordinates(Wgs84Coordinate value, int count) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (value == null) {
+			throw new IllegalArgumentException("Value cannot be null.");
+		}
+		if (count < 0) {
+			throw new IllegalArgumentException("Count cannot be negative.");
+		}
+		CharacteristicsByDistanceComparator comparator = new CharacteristicsByDistanceComparator(value);
+		List<ICharacteristics> list = HashUtil.getList();
+		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.WGS84_COORDINATE))) {
+			if (datatypeAware instanceof IOccurrence && comparator.getDistance((IOccurrence) datatypeAware) != Double.POSITIVE_INFINITY) {
+				list.add((IOccurrence) datatypeAware);
+			}
+		}
+		Collections.sort(list, comparator);
+		return Collections.unmodifiableList(HashUtil.secureSubList(list, 0, count));
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -321,6 +394,34 @@ public class TransactionLiteralIndex extends IndexImpl<TransactionTopicMapStore>
 		return Collections.unmodifiableCollection(set);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getDateTimeBetween(Calendar lower, Calendar upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (lower == null || upper == null) {
+			throw new IllegalArgumentException("Value cannot be null.");
+		}
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		Set<IDatatypeAware> datatypeAwares = HashUtil.getHashSet(getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.DATETIME)));
+		datatypeAwares.addAll(getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.DATE)));
+		for (IDatatypeAware datatypeAware : datatypeAwares) {
+			try {
+				if (datatypeAware instanceof IOccurrence) {
+					long time = datatypeAware.dateTimeValue().getTimeInMillis();
+					if (time >= lower.getTimeInMillis() && time <= upper.getTimeInMillis()) {
+						set.add((IOccurrence) datatypeAware);
+					}
+				}
+			} catch (ParseException e) {
+				e.printStackTrace();
+			}
+		}
+		return Collections.unmodifiableCollection(set);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -361,6 +462,26 @@ public class TransactionLiteralIndex extends IndexImpl<TransactionTopicMapStore>
 		return Collections.unmodifiableCollection(set);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getDoublesBetween(double lower, double upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.DOUBLE))) {
+			try {
+				if (datatypeAware instanceof IOccurrence && datatypeAware.doubleValue() >= lower && datatypeAware.doubleValue() <= upper) {
+					set.add((IOccurrence) datatypeAware);
+				}
+			} catch (NumberFormatException e) {
+				e.printStackTrace();
+			}
+		}
+		return Collections.unmodifiableCollection(set);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -401,6 +522,26 @@ public class TransactionLiteralIndex extends IndexImpl<TransactionTopicMapStore>
 		return Collections.unmodifiableCollection(set);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getFloatsBetween(float lower, float upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.FLOAT))) {
+			try {
+				if (datatypeAware instanceof IOccurrence && datatypeAware.floatValue() >= lower && datatypeAware.floatValue() <= upper) {
+					set.add((IOccurrence) datatypeAware);
+				}
+			} catch (NumberFormatException e) {
+				e.printStackTrace();
+			}
+		}
+		return Collections.unmodifiableCollection(set);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -441,6 +582,26 @@ public class TransactionLiteralIndex extends IndexImpl<TransactionTopicMapStore>
 		return Collections.unmodifiableCollection(set);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getIntegersBetween(int lower, int upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.INT))) {
+			try {
+				if (datatypeAware instanceof IOccurrence && datatypeAware.intValue() >= lower && datatypeAware.intValue() <= upper) {
+					set.add((IOccurrence) datatypeAware);
+				}
+			} catch (NumberFormatException e) {
+				e.printStackTrace();
+			}
+		}
+		return Collections.unmodifiableCollection(set);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -481,6 +642,26 @@ public class TransactionLiteralIndex extends IndexImpl<TransactionTopicMapStore>
 		return Collections.unmodifiableCollection(set);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getLongsBetween(long lower, long upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.LONG))) {
+			try {
+				if (datatypeAware instanceof IOccurrence && datatypeAware.longValue() >= lower && datatypeAware.longValue() <= upper) {
+					set.add((IOccurrence) datatypeAware);
+				}
+			} catch (NumberFormatException e) {
+				e.printStackTrace();
+			}
+		}
+		return Collections.unmodifiableCollection(set);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -0,0 +1,69 @@
+CREATE INDEX idx_topicmaps_base_locator ON topicmaps (id_base_locator);
+
+CREATE INDEX idx_topics_topicmap ON topics (id_topicmap);
+
+CREATE INDEX idx_associations_type ON associations (id_type, id_topicmap);
+
+CREATE INDEX idx_associations_scope ON associations (id_scope);
+
+CREATE INDEX idx_associations_reifier ON associations (id_reifier);
+
+CREATE INDEX idx_roles_player_type ON roles (id_player, id_type);
+
+CREATE INDEX idx_roles_parent_type ON roles (id_parent, id_type);
+
+CREATE INDEX idx_roles_type ON roles (id_type, id_topicmap);
+
+CREATE INDEX idx_roles_reifier ON roles (id_reifier);
+
+CREATE INDEX idx_names_parent_type ON names (id_parent, id_type, id_scope);
+
+CREATE INDEX idx_names_type ON names (id_type, id_topicmap);
+
+CREATE INDEX idx_names_scope ON names (id_scope);
+
+CREATE INDEX idx_names_value ON names (id_topicmap, value);
+
+CREATE INDEX idx_names_reifier ON names (id_reifier);
+
+CREATE INDEX idx_occurrences_parent_type ON occurrences (id_parent, id_type, id_scope);
+
+CREATE INDEX idx_occurrences_type ON occurrences (id_type, id_topicmap);
+
+CREATE INDEX idx_occurrences_scope ON occurrences (id_scope);
+
+CREATE INDEX idx_occurrences_value ON occurrences (value, id_datatype);
+
+CREATE INDEX idx_occurrences_reifier ON occurrences (id_reifier);
+
+CREATE INDEX idx_variants_parent_scope ON variants (id_parent, id_scope);
+
+CREATE INDEX idx_variants_scope ON variants (id_scope);
+
+CREATE INDEX idx_variants_value ON variants (value, id_datatype);
+
+CREATE INDEX idx_variants_reifier ON variants (id_reifier);
+
+CREATE INDEX idx_rel_themes_theme ON rel_themes (id_theme, id_scope);
+
+CREATE INDEX idx_rel_themes_scope ON rel_themes (id_scope, id_theme);
+
+CREATE INDEX idx_rel_instance_of_instance ON rel_instance_of (id_instance, id_type);
+
+CREATE INDEX idx_rel_instance_of_type ON rel_instance_of (id_type, id_instance);
+
+CREATE INDEX idx_rel_kind_of_subtype ON rel_kind_of (id_subtype, id_supertype);
+
+CREATE INDEX idx_rel_kind_of_supertype ON rel_kind_of (id_supertype, id_subtype);
+
+CREATE INDEX idx_rel_item_identifiers_locator ON rel_item_identifiers (id_locator, id_construct);
+
+CREATE INDEX idx_rel_item_identifiers_construct ON rel_item_identifiers (id_construct, id_locator);
+
+CREATE INDEX idx_rel_subject_identifiers_locator ON rel_subject_identifiers (id_locator, id_topic);
+
+CREATE INDEX idx_rel_subject_identifiers_topic ON rel_subject_identifiers (id_topic, id_locator);
+
+CREATE INDEX idx_rel_subject_locators_locator ON rel_subject_locators (id_locator, id_topic);
+
+CREATE INDEX idx_rel_subject_locators_topic ON rel_subject_locators (id_topic, id_locator);
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.database;
+
+import org.tmapi.core.Topic;
+
+import de.topicmapslab.majortom.database.store.JdbcIdentityMap;
+import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
+import de.topicmapslab.majortom.model.core.IAssociation;
+import de.topicmapslab.majortom.model.core.IName;
+import de.topicmapslab.majortom.model.core.IOccurrence;
+import de.topicmapslab.majortom.model.core.ITopic;
+import de.topicmapslab.majortom.tests.MaJorToMTestCase;
+
+/**
+ * @author Sven Krosse
+ *
+ */
+public class TestIdentityMap extends MaJorToMTestCase {
+
+	public void testCollidingIds() throws Exception {
+		ITopic topic = createTopic();
+		long id = topic.longId();
+		JdbcIdentityMap map = ((JdbcTopicMapStore) topicMap.getStore()).getIdentityMap();
+		map.clear();
+
+		/*
+		 * the ids are only unique within the table of one construct kind
+		 */
+		ITopic t = map.getTopic(topicMap, id);
+		IName name = map.getName(t, id);
+		IOccurrence occurrence = map.getOccurrence(t, id);
+		IAssociation association = map.getAssociation(topicMap, id);
+		assertEquals(4, map.size());
+		assertSame(t, map.getTopic(topicMap, id));
+		assertSame(name, map.getName(t, id));
+		assertSame(occurrence, map.getOccurrence(topicMap, id, id));
+		assertSame(association, map.getAssociation(topicMap, id));
+		assertEquals(4, map.size());
+
+		/*
+		 * removing a merged topic keeps the other constructs with the same id
+		 */
+		map.removeTopic(id);
+		assertEquals(3, map.size());
+		assertSame(name, map.getName(topicMap, id, id));
+		assertNotSame(t, map.getTopic(topicMap, id));
+	}
+
+	public void testReadConstructs() throws Exception {
+		ITopic topic = createTopic();
+		IName name = (IName) topic.createName("Name", new Topic[0]);
+		IOccurrence occurrence = (IOccurrence) topic.createOccurrence(createTopic(), "Value", new Topic[0]);
+		JdbcIdentityMap map = ((JdbcTopicMapStore) topicMap.getStore()).getIdentityMap();
+
+		assertSame(topic, map.getTopic(topicMap, topic.longId()));
+		assertSame(name, map.getName(topicMap, name.longId(), topic.longId()));
+		assertSame(occurrence, map.getOccurrence(topicMap, occurrence.longId(), topic.longId()));
+		assertSame(name, topic.getNames().iterator().next());
+	}
+}
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.database;
+
+import org.tmapi.core.Topic;
+
+import de.topicmapslab.majortom.index.core.BaseCachedIndexImpl;
+import de.topicmapslab.majortom.index.core.BaseCachedLiteralIndexImpl;
+import de.topicmapslab.majortom.model.core.ITopic;
+import de.topicmapslab.majortom.model.index.ILiteralIndex;
+import de.topicmapslab.majortom.model.index.ITypeInstanceIndex;
+import de.topicmapslab.majortom.tests.MaJorToMTestCase;
+
+/**
+ * @author Sven Krosse
+ *
+ */
+public class TestIndexCache extends MaJorToMTestCase {
+
+	public void testTypeInstanceIndex() throws Exception {
+		ITopic type = createTopic();
+		ITopic otherType = createTopic();
+		createTopic().addType(type);
+
+		ITypeInstanceIndex index = topicMap.getIndex(ITypeInstanceIndex.class);
+		index.open();
+		BaseCachedIndexImpl<?> cachedIndex = (BaseCachedIndexImpl<?>) index;
+		assertEquals(1, index.getTopics(type).size());
+		cachedIndex.resetCacheStatistics();
+		assertEquals(1, index.getTopics(type).size());
+		assertEquals(1, cachedIndex.getCacheHits());
+		/*
+		 * instances of another type do not affect the cached instances
+		 */
+		createTopic().addType(otherType);
+		assertEquals(1, index.getTopics(type).size());
+		assertEquals(2, cachedIndex.getCacheHits());
+		assertEquals(0, cachedIndex.getCacheMisses());
+		/*
+		 * a new instance of the type invalidates the cached instances
+		 */
+		createTopic().addType(type);
+		assertEquals(2, index.getTopics(type).size());
+		assertEquals(1, cachedIndex.getCacheMisses());
+		assertTrue(cachedIndex.getCacheInvalidations() > 0);
+	}
+
+	public void testLiteralIndex() throws Exception {
+		ITopic topic = createTopic();
+		topic.createName("Value", new Topic[0]);
+
+		ILiteralIndex index = topicMap.getIndex(ILiteralIndex.class);
+		index.open();
+		BaseCachedIndexImpl<?> cachedIndex = (BaseCachedIndexImpl<?>) index;
+		assertEquals(1, index.getNames("Value").size());
+		cachedIndex.resetCacheStatistics();
+		/*
+		 * a name with another value does not affect the cached names
+		 */
+		topic.createName("Other Value", new Topic[0]);
+		assertEquals(1, index.getNames("Value").size());
+		assertEquals(1, cachedIndex.getCacheHits());
+		assertEquals(0, cachedIndex.getCacheInvalidations());
+		/*
+		 * a name with the same value invalidates the cached names
+		 */
+		createTopic().createName("Value", new Topic[0]);
+		assertEquals(2, index.getNames("Value").size());
+		assertEquals(1, cachedIndex.getCacheMisses());
+		assertEquals(1, cachedIndex.getCacheInvalidations());
+	}
+
+	public void testLiteralIndexIsBounded() throws Exception {
+		createTopic().createName("Value", new Topic[0]);
+
+		ILiteralIndex index = topicMap.getIndex(ILiteralIndex.class);
+		index.open();
+		BaseCachedIndexImpl<?> cachedIndex = (BaseCachedIndexImpl<?>) index;
+		assertEquals(1, index.getNames("Value").size());
+		cachedIndex.resetCacheStatistics();
+		for (int i = 0; i < BaseCachedLiteralIndexImpl.MAXIMUM_CACHE_SIZE; i++) {
+			assertTrue(index.getNames("Value " + i).isEmpty());
+			/*
+			 * the recently used value is kept
+			 */
+			if (i == BaseCachedLiteralIndexImpl.MAXIMUM_CACHE_SIZE / 2) {
+				assertEquals(1, index.getNames("Value").size());
+			}
+		}
+		assertEquals(1, cachedIndex.getCacheHits());
+		/*
+		 * the least recently used value is evicted
+		 */
+		assertTrue(index.getNames("Value 0").isEmpty());
+		assertEquals(1, cachedIndex.getCacheHits());
+		assertEquals(1, index.getNames("Value").size());
+		assertEquals(2, cachedIndex.getCacheHits());
+		/*
+		 * the dependencies of an evicted value are removed, so a new name with its value is not counted as invalidation
+		 */
+		createTopic().createName("Value 1", new Topic[0]);
+		assertEquals(0, cachedIndex.getCacheInvalidations());
+		assertEquals(1, index.getNames("Value 1").size());
+	}
+}
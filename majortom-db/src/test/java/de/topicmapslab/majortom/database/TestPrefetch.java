@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.database;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.tmapi.core.Topic;
+
+import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
+import de.topicmapslab.majortom.model.core.ITopic;
+import de.topicmapslab.majortom.model.store.ICacheStatistics;
+import de.topicmapslab.majortom.model.store.TopicMapStoreParameterType;
+import de.topicmapslab.majortom.tests.MaJorToMTestCase;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * @author Sven Krosse
+ *
+ */
+public class TestPrefetch extends MaJorToMTestCase {
+
+	public void testPrefetchNames() throws Exception {
+		ITopic topic = createTopic();
+		topic.createName("Name", new Topic[0]);
+		ITopic other = createTopic();
+
+		JdbcTopicMapStore store = (JdbcTopicMapStore) topicMap.getStore();
+		store.clearCache();
+		store.doPrefetch(Arrays.asList(topic, other), TopicMapStoreParameterType.NAME);
+		long misses = getMissCount(store);
+		/*
+		 * both topics are answered by the cache, even the topic without names
+		 */
+		assertEquals(1, topic.getNames().size());
+		assertEquals(0, other.getNames().size());
+		assertEquals(misses, getMissCount(store));
+	}
+
+	public void testPrefetchIdentifiersAndTypes() throws Exception {
+		ITopic type = createTopic();
+		ITopic topic = createTopicBySI("http://psi.example.org/topic");
+		topic.addType(type);
+
+		JdbcTopicMapStore store = (JdbcTopicMapStore) topicMap.getStore();
+		store.clearCache();
+		store.doPrefetch(Arrays.asList(topic, type), TopicMapStoreParameterType.SUBJECT_IDENTIFIER);
+		store.doPrefetch(Arrays.asList(topic, type), TopicMapStoreParameterType.TYPE);
+		long misses = getMissCount(store);
+		assertEquals(1, topic.getSubjectIdentifiers().size());
+		assertEquals(0, type.getSubjectIdentifiers().size());
+		assertEquals(1, topic.getTypes().size());
+		assertTrue(topic.getTypes().contains(type));
+		assertEquals(misses, getMissCount(store));
+	}
+
+	public void testPrefetchManyTopics() throws Exception {
+		/*
+		 * more topics than bound to one bulk read statement
+		 */
+		List<ITopic> topics = HashUtil.getList();
+		for (int i = 0; i < 250; i++) {
+			ITopic topic = createTopic();
+			if (i % 2 == 0) {
+				topic.createName("Name " + i, new Topic[0]);
+			}
+			topics.add(topic);
+		}
+
+		JdbcTopicMapStore store = (JdbcTopicMapStore) topicMap.getStore();
+		store.clearCache();
+		store.doPrefetch(topics, TopicMapStoreParameterType.NAME);
+		long misses = getMissCount(store);
+		for (int i = 0; i < topics.size(); i++) {
+			assertEquals(i % 2 == 0 ? 1 : 0, topics.get(i).getNames().size());
+		}
+		assertEquals(misses, getMissCount(store));
+	}
+
+	private long getMissCount(JdbcTopicMapStore store) {
+		long misses = 0;
+		for (ICacheStatistics statistics : store.getCache().getStatistics()) {
+			misses += statistics.getMissCount();
+		}
+		return misses;
+	}
+}
@@ -0,0 +1,76 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.database;
+
+import org.tmapi.core.Topic;
+
+import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
+import de.topicmapslab.majortom.model.core.IName;
+import de.topicmapslab.majortom.model.core.ITopic;
+import de.topicmapslab.majortom.model.event.TopicMapEventType;
+import de.topicmapslab.majortom.model.index.IRevisionIndex;
+import de.topicmapslab.majortom.model.revision.Changeset;
+import de.topicmapslab.majortom.model.revision.IRevision;
+import de.topicmapslab.majortom.tests.MaJorToMTestCase;
+
+/**
+ * @author Sven Krosse
+ *
+ */
+public class TestRevisionBuffer extends MaJorToMTestCase {
+
+	private JdbcTopicMapStore getJdbcStore() {
+		return (JdbcTopicMapStore) topicMap.getStore();
+	}
+
+	public void testBufferedChangeset() throws Exception {
+		getJdbcStore().enableRevisionBuffer(true);
+		ITopic topic = createTopic();
+		IName name = (IName) topic.createName("Name", new Topic[0]);
+
+		IRevisionIndex index = topicMap.getIndex(IRevisionIndex.class);
+		index.open();
+		IRevision revision = index.getLastRevision();
+		Changeset changeset = revision.getChangeset();
+		assertEquals(4, changeset.size());
+		assertEquals(TopicMapEventType.NAME_ADDED, changeset.get(0).getType());
+		assertEquals(name, changeset.get(0).getNewValue());
+		assertEquals(TopicMapEventType.TYPE_SET, changeset.get(1).getType());
+		assertEquals(TopicMapEventType.VALUE_MODIFIED, changeset.get(2).getType());
+		assertEquals(TopicMapEventType.SCOPE_MODIFIED, changeset.get(3).getType());
+	}
+
+	public void testBufferedAndUnbufferedChangesetsAreEqual() throws Exception {
+		IRevisionIndex index = topicMap.getIndex(IRevisionIndex.class);
+		index.open();
+		ITopic topic = createTopic();
+
+		getJdbcStore().enableRevisionBuffer(false);
+		IName first = (IName) topic.createName("Name", new Topic[0]);
+		Changeset unbuffered = index.getLastRevision().getChangeset();
+
+		getJdbcStore().enableRevisionBuffer(true);
+		IName second = (IName) topic.createName("Name", new Topic[0]);
+		Changeset buffered = index.getLastRevision().getChangeset();
+
+		assertEquals(unbuffered.size(), buffered.size());
+		for (int i = 0; i < unbuffered.size(); i++) {
+			assertEquals(unbuffered.get(i).getType(), buffered.get(i).getType());
+		}
+		assertEquals(first, unbuffered.get(0).getNewValue());
+		assertEquals(second, buffered.get(0).getNewValue());
+	}
+}
@@ -16,6 +16,10 @@
 package de.topicmapslab.majortom.database;
 
 import java.io.File;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 import org.tmapi.core.Topic;
 import org.tmapix.io.CTMTopicMapReader;
@@ -23,7 +27,9 @@ import org.tmapix.io.CTMTopicMapReader;
 import de.topicmapslab.majortom.model.core.ITopic;
 import de.topicmapslab.majortom.model.index.ISupertypeSubtypeIndex;
 import de.topicmapslab.majortom.model.index.ITransitiveTypeInstanceIndex;
+import de.topicmapslab.majortom.model.index.paging.IPagedTransitiveTypeInstanceIndex;
 import de.topicmapslab.majortom.tests.MaJorToMTestCase;
+import de.topicmapslab.majortom.util.HashUtil;
 
 /**
  * @author Sven Krosse
@@ -47,6 +53,52 @@ public class TestTransitivity extends MaJorToMTestCase {
 				
 		assertEquals(10, index.getTopics(t).size());
 	}
+
+	public void testTransitiveSubtypes() throws Exception {
+		ITopic root = createTopic();
+		ITopic sub = createTopic();
+		ITopic subsub = createTopic();
+		ITopic other = createTopic();
+		sub.addSupertype(root);
+		subsub.addSupertype(sub);
+
+		ITopic a = createTopic();
+		a.addType(root);
+		ITopic b = createTopic();
+		b.addType(subsub);
+		b.createName(subsub, "b", new Topic[0]);
+		ITopic c = createTopic();
+		c.addType(other);
+		ITopic d = createTopic();
+		d.addType(sub);
+		d.addType(other);
+
+		IPagedTransitiveTypeInstanceIndex index = topicMap.getIndex(IPagedTransitiveTypeInstanceIndex.class);
+		index.open();
+		/*
+		 * the closure of the root type contains all sub-types of each level
+		 */
+		assertEquals(3, index.getNumberOfTopics(root));
+		Set<Topic> topics = HashUtil.getHashSet();
+		for (int offset = 0; offset < 3; offset += 2) {
+			topics.addAll(index.getTopics(root, offset, 2));
+		}
+		assertEquals(3, topics.size());
+		assertTrue(topics.containsAll(Arrays.asList(a, b, d)));
+		assertEquals(1, index.getNumberOfNames(root));
+		assertEquals(0, index.getNumberOfNames(other));
+
+		/*
+		 * several types as seed of the closure
+		 */
+		Collection<Topic> types = Arrays.<Topic> asList(sub, other);
+		assertEquals(3, index.getNumberOfTopics(types, false));
+		assertEquals(1, index.getNumberOfTopics(types, true));
+		List<Topic> all = index.getTopics(types, true, 0, 10);
+		assertEquals(1, all.size());
+		assertEquals(d, all.get(0));
+		assertEquals(1, index.getNumberOfNames(Arrays.<Topic> asList(subsub, other)));
+	}
 	
 	/**
 	 * {@inheritDoc}
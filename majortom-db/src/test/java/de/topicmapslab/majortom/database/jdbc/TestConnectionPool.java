@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.database.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import junit.framework.TestCase;
+import de.topicmapslab.majortom.database.jdbc.core.ConnectionPool;
+
+/**
+ * @author Sven Krosse
+ * 
+ */
+public class TestConnectionPool extends TestCase {
+
+	private ConnectionPool pool;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void setUp() throws Exception {
+		pool = new ConnectionPool("org.hsqldb.jdbc.JDBCDriver", "jdbc:hsqldb:mem:pooltest", "SA", "");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void tearDown() throws Exception {
+		pool.close();
+	}
+
+	public void testConnectionsAreReused() throws Exception {
+		Connection first = pool.getConnection();
+		assertEquals(1, pool.getNumActive());
+		first.close();
+		assertEquals(0, pool.getNumActive());
+		assertEquals(1, pool.getNumIdle());
+
+		for (int i = 0; i < 10; i++) {
+			Connection c = pool.getConnection();
+			PreparedStatement stmt = c.prepareStatement("VALUES (1)");
+			stmt.execute();
+			stmt.close();
+			c.close();
+		}
+		assertEquals(1, pool.getNumIdle());
+		assertEquals(11, pool.getRequestCount());
+		assertEquals(10, pool.getHitCount());
+		assertEquals(10 / 11D, pool.getHitRate(), 0.0001);
+		assertTrue(pool.getTotalWaitTime() >= pool.getMaximumWaitTime());
+		assertTrue(pool.getAverageWaitTime() <= pool.getMaximumWaitTime());
+
+		pool.resetStatistics();
+		assertEquals(0, pool.getRequestCount());
+		assertEquals(0D, pool.getHitRate());
+	}
+
+	public void testPoolLimits() throws Exception {
+		pool.setMaxActive(2);
+		pool.setMaxWait(100);
+		Connection first = pool.getConnection();
+		Connection second = pool.getConnection();
+		try {
+			pool.getConnection();
+			fail("Pool should be exhausted!");
+		} catch (Exception e) {
+			// NOTHING TO DO
+		}
+		first.close();
+		second.close();
+		assertEquals(2, pool.getNumIdle());
+	}
+}
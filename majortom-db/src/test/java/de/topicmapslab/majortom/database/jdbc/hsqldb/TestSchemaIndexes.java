@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.database.jdbc.hsqldb;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import junit.framework.TestCase;
+import de.topicmapslab.majortom.database.jdbc.model.IConnectionProvider;
+
+/**
+ * Test of the secondary indexes and the schema migration of the embedded HSQLDB schema
+ * 
+ * @author Sven Krosse
+ * 
+ */
+public class TestSchemaIndexes extends TestCase {
+
+	private HSQLDBConnectionProvider provider;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void setUp() throws Exception {
+		/*
+		 * the anonymous provider has to be located in the package of the HSQLDB scripts
+		 */
+		provider = new HSQLDBConnectionProvider("localhost", "indextest", "SA", "") {
+			protected String getUrl() {
+				return "jdbc:hsqldb:mem:" + getDatabase();
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void tearDown() throws Exception {
+		provider.close();
+	}
+
+	public void testMigration() throws Exception {
+		assertEquals(IConnectionProvider.STATE_DATABASE_IS_EMPTY, provider.getDatabaseState());
+		provider.createSchema();
+		assertEquals(IConnectionProvider.STATE_DATABASE_NEEDS_MIGRATION, provider.getDatabaseState());
+		provider.migrateSchema();
+		assertEquals(IConnectionProvider.STATE_DATABASE_IS_VALID, provider.getDatabaseState());
+		/*
+		 * migration is idempotent
+		 */
+		provider.migrateSchema();
+		assertEquals(IConnectionProvider.STATE_DATABASE_IS_VALID, provider.getDatabaseState());
+
+		/*
+		 * query plans of the hot lookups
+		 */
+		String plan = explain("SELECT id FROM occurrences WHERE value = 'a' AND id_datatype = 1");
+		assertTrue(plan, plan.contains("IDX_OCCURRENCES_VALUE"));
+		plan = explain("SELECT id FROM variants WHERE value = 'a' AND id_datatype = 1");
+		assertTrue(plan, plan.contains("IDX_VARIANTS_VALUE"));
+		plan = explain("SELECT id FROM names WHERE id_topicmap = 1 AND value = 'a'");
+		assertTrue(plan, plan.contains("IDX_NAMES_VALUE"));
+		plan = explain("SELECT id FROM names WHERE id_parent = 1 AND id_type = 2 AND id_scope = 3");
+		assertFalse(plan, plan.contains("FULL SCAN"));
+		plan = explain("SELECT id_scope FROM rel_themes WHERE id_theme = 1");
+		assertFalse(plan, plan.contains("FULL SCAN"));
+	}
+
+	/**
+	 * Returns the query plan of the given query
+	 * 
+	 * @param query
+	 *            the query
+	 * @return the query plan
+	 * @throws Exception
+	 *             thrown if the query cannot be explained
+	 */
+	private String explain(String query) throws Exception {
+		Connection connection = provider.getConnection();
+		try {
+			Statement stmt = connection.createStatement();
+			ResultSet rs = stmt.executeQuery("EXPLAIN PLAN FOR " + query);
+			StringBuilder builder = new StringBuilder();
+			while (rs.next()) {
+				builder.append(rs.getString(1));
+				builder.append("\n");
+			}
+			rs.close();
+			stmt.close();
+			return builder.toString().toUpperCase();
+		} finally {
+			connection.close();
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.database.jdbc.rdbms;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Set;
+
+import junit.framework.TestCase;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Test of the LIKE filters prefiltering regular expression queries
+ * 
+ * @author Sven Krosse
+ * 
+ */
+public class TestLikeFilter extends TestCase {
+
+	private Connection connection;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void setUp() throws Exception {
+		Class.forName("org.hsqldb.jdbc.JDBCDriver");
+		connection = DriverManager.getConnection("jdbc:hsqldb:mem:liketest", "SA", "");
+		Statement stmt = connection.createStatement();
+		stmt.executeUpdate("CREATE TABLE names ( id BIGINT, value VARCHAR(255) )");
+		String[] values = { "Topic Maps", "Topic Maps Lab", "TOPIC MAPS", "Leipzig", "100% Topic_Maps!" };
+		for (int i = 0; i < values.length; i++) {
+			stmt.executeUpdate("INSERT INTO names VALUES (" + i + ", '" + values[i] + "')");
+		}
+		stmt.close();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void tearDown() throws Exception {
+		Statement stmt = connection.createStatement();
+		stmt.executeUpdate("DROP TABLE names");
+		stmt.close();
+		connection.close();
+	}
+
+	public void testToLikeFilter() throws Exception {
+		assertEquals("%Topic%Lab%", RDBMSQueryProcessor.toLikeFilter("Topic.*Lab"));
+		assertEquals("%Map%", RDBMSQueryProcessor.toLikeFilter(".*Maps?"));
+		assertEquals("%100!%%Topic!_Maps!!%", RDBMSQueryProcessor.toLikeFilter("100% Topic_Maps!".replace(" ", ".")));
+		assertEquals("%", RDBMSQueryProcessor.toLikeFilter("Topic|Leipzig"));
+		assertEquals("%", RDBMSQueryProcessor.toLikeFilter("(Topic"));
+	}
+
+	public void testFilterKeepsAllMatches() throws Exception {
+		assertEquals(HashUtil.getHashSet(Arrays.asList(0L, 1L)), select("Topic Maps.*"));
+		assertEquals(HashUtil.getHashSet(Arrays.asList(2L)), select("TOPIC.*"));
+		assertEquals(HashUtil.getHashSet(Arrays.asList(4L)), select("100%.Topic_Maps!"));
+		assertEquals(HashUtil.getHashSet(Arrays.asList(0L, 1L, 3L)), select("Topic Maps.*|Leipzig"));
+		assertTrue(select(".*Berlin.*").isEmpty());
+	}
+
+	/**
+	 * Selects the ids of all names matching the regular expression like the queries of the literal index
+	 */
+	private Set<Long> select(String regExp) throws Exception {
+		PreparedStatement stmt = connection
+				.prepareStatement("SELECT id FROM names WHERE LOWER(value) LIKE LOWER(?) ESCAPE '!' AND REGEXP_MATCHES(value, ?)");
+		stmt.setString(1, RDBMSQueryProcessor.toLikeFilter(regExp));
+		stmt.setString(2, regExp);
+		ResultSet rs = stmt.executeQuery();
+		Set<Long> ids = HashUtil.getHashSet();
+		while (rs.next()) {
+			ids.add(rs.getLong(1));
+		}
+		rs.close();
+		stmt.close();
+		return ids;
+	}
+}
@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.index;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.tmapi.core.Construct;
+import org.tmapi.core.Variant;
+
+import de.topicmapslab.majortom.index.core.BaseFullTextIndexImpl;
+import de.topicmapslab.majortom.index.fulltext.FullTextQuery;
+import de.topicmapslab.majortom.index.fulltext.InvertedIndex;
+import de.topicmapslab.majortom.inmemory.store.InMemoryTopicMapStore;
+import de.topicmapslab.majortom.model.core.IConstruct;
+import de.topicmapslab.majortom.model.core.ITopic;
+import de.topicmapslab.majortom.model.index.IFullTextIndex;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Implementation of {@link IFullTextIndex} based on an {@link InvertedIndex}
+ * 
+ * @author Sven Krosse
+ * 
+ */
+public class InMemoryFullTextIndex extends BaseFullTextIndexImpl<InMemoryTopicMapStore> {
+
+	/**
+	 * the inverted index of all characteristics
+	 */
+	private final InvertedIndex<IConstruct> index = new InvertedIndex<IConstruct>();
+	/**
+	 * the parent of each indexed characteristics, which is the topic of names
+	 * and occurrences and the name of variants
+	 */
+	private final Map<IConstruct, IConstruct> parents = HashUtil.getHashMap();
+	/**
+	 * the indexed characteristics of each topic and name
+	 */
+	private final Map<IConstruct, Set<IConstruct>> children = HashUtil.getHashMap();
+
+	/**
+	 * @param store
+	 */
+	public InMemoryFullTextIndex(InMemoryTopicMapStore store) {
+		super(store);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected synchronized void doIndex(IConstruct construct, String value) {
+		index.add(construct, value);
+		IConstruct parent = (IConstruct) (construct instanceof Variant ? ((Variant) construct).getParent() : getTopic(construct));
+		IConstruct old = parents.put(construct, parent);
+		if (old != null && !old.equals(parent)) {
+			removeChild(old, construct);
+		}
+		Set<IConstruct> set = children.get(parent);
+		if (set == null) {
+			set = HashUtil.getHashSet();
+			children.put(parent, set);
+		}
+		set.add(construct);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected synchronized void doUnindex(IConstruct construct) {
+		index.remove(construct);
+		IConstruct parent = parents.remove(construct);
+		if (parent != null) {
+			removeChild(parent, construct);
+		}
+		/*
+		 * the variants of a name are removed with the name
+		 */
+		unindexChildren(construct);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected synchronized void doUnindexTopic(ITopic topic) {
+		unindexChildren(topic);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected synchronized void doClear() {
+		index.clear();
+		parents.clear();
+		children.clear();
+	}
+
+	/**
+	 * Removes the terms of all indexed characteristics of the given topic or
+	 * name.
+	 * 
+	 * @param parent
+	 *            the topic or name
+	 */
+	private void unindexChildren(IConstruct parent) {
+		Set<IConstruct> set = children.remove(parent);
+		if (set != null) {
+			for (IConstruct construct : set) {
+				index.remove(construct);
+				parents.remove(construct);
+				unindexChildren(construct);
+			}
+		}
+	}
+
+	/**
+	 * Removes the given characteristics from the indexed characteristics of
+	 * the given topic or name.
+	 * 
+	 * @param parent
+	 *            the topic or name
+	 * @param construct
+	 *            the characteristics
+	 */
+	private void removeChild(IConstruct parent, IConstruct construct) {
+		Set<IConstruct> set = children.get(parent);
+		if (set != null) {
+			set.remove(construct);
+			if (set.isEmpty()) {
+				children.remove(parent);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected Map<Construct, Double> doScore(FullTextQuery query) {
+		Map<Construct, Double> scores = new LinkedHashMap<Construct, Double>();
+		for (Entry<IConstruct, Double> entry : index.score(query).entrySet()) {
+			if (entry.getKey().isRemoved()) {
+				doUnindex(entry.getKey());
+			} else {
+				scores.put(entry.getKey(), entry.getValue());
+			}
+		}
+		return scores;
+	}
+
+	/**
+	 * Returns the number of indexed characteristics
+	 * 
+	 * @return the number of characteristics
+	 */
+	public int size() {
+		return index.size();
+	}
+}
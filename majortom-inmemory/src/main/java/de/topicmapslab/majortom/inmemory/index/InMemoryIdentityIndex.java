@@ -218,10 +218,8 @@ public class InMemoryIdentityIndex extends IndexImpl<InMemoryTopicMapStore> impl
 			throw new IllegalArgumentException("Regular expression cannot be null!");
 		}
 		Set<Construct> set = HashUtil.getHashSet();
-		for (ILocator locator : getTopicMapStore().getIdentityStore().getItemIdentifiers()) {
-			if (regExp.matcher(locator.getReference()).matches()) {
-				set.add(getTopicMapStore().getIdentityStore().byItemIdentifier(locator));
-			}
+		for (ILocator locator : getTopicMapStore().getIdentityStore().getItemIdentifiers(regExp)) {
+			set.add(getTopicMapStore().getIdentityStore().byItemIdentifier(locator));
 		}
 		return Collections.unmodifiableCollection(set);
 	}
@@ -338,10 +336,8 @@ public class InMemoryIdentityIndex extends IndexImpl<InMemoryTopicMapStore> impl
 			throw new IllegalArgumentException("Regular expression cannot be null!");
 		}
 		Set<Topic> set = HashUtil.getHashSet();
-		for (ILocator locator : getTopicMapStore().getIdentityStore().getSubjectIdentifiers()) {
-			if (regExp.matcher(locator.getReference()).matches()) {
-				set.add(getTopicMapStore().getIdentityStore().bySubjectIdentifier(locator));
-			}
+		for (ILocator locator : getTopicMapStore().getIdentityStore().getSubjectIdentifiers(regExp)) {
+			set.add(getTopicMapStore().getIdentityStore().bySubjectIdentifier(locator));
 		}
 		return Collections.unmodifiableCollection(set);
 	}
@@ -370,10 +366,8 @@ public class InMemoryIdentityIndex extends IndexImpl<InMemoryTopicMapStore> impl
 			throw new IllegalArgumentException("Regular expression cannot be null!");
 		}
 		Set<Topic> set = HashUtil.getHashSet();
-		for (ILocator locator : getTopicMapStore().getIdentityStore().getSubjectLocators()) {
-			if (regExp.matcher(locator.getReference()).matches()) {
-				set.add(getTopicMapStore().getIdentityStore().bySubjectLocator(locator));
-			}
+		for (ILocator locator : getTopicMapStore().getIdentityStore().getSubjectLocators(regExp)) {
+			set.add(getTopicMapStore().getIdentityStore().bySubjectLocator(locator));
 		}
 		return Collections.unmodifiableCollection(set);
 	}
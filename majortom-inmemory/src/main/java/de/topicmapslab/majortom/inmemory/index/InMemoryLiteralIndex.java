@@ -6,6 +6,7 @@ import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -15,6 +16,7 @@ import org.tmapi.core.Occurrence;
 import org.tmapi.core.TMAPIRuntimeException;
 import org.tmapi.core.Variant;
 
+import de.topicmapslab.geotype.wgs84.Wgs84Circuit;
 import de.topicmapslab.geotype.wgs84.Wgs84Coordinate;
 import de.topicmapslab.majortom.index.nonpaged.CachedLiteralIndexImpl;
 import de.topicmapslab.majortom.inmemory.store.InMemoryTopicMapStore;
@@ -25,7 +27,6 @@ import de.topicmapslab.majortom.model.core.IOccurrence;
 import de.topicmapslab.majortom.model.index.ILiteralIndex;
 import de.topicmapslab.majortom.model.namespace.Namespaces;
 import de.topicmapslab.majortom.util.HashUtil;
-import de.topicmapslab.majortom.util.LiteralUtils;
 
 /**
  * Implementation of the {@link ILiteralIndex}
@@ -224,10 +225,10 @@ public class InMemoryLiteralIndex extends CachedLiteralIndexImpl<InMemoryTopicMa
 			throw new IllegalArgumentException("Value cannot be null.");
 		}
 		Set<ICharacteristics> set = HashUtil.getHashSet();
-		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.WGS84_COORDINATE))) {
+		for (IOccurrence occurrence : getTopicMapStore().getCharacteristicsStore().getOccurrencesByArea(value, value)) {
 			try {
-				if (datatypeAware instanceof IOccurrence && datatypeAware.coordinateValue().equals(value)) {
-					set.add((IOccurrence) datatypeAware);
+				if (occurrence.coordinateValue().equals(value)) {
+					set.add(occurrence);
 				}
 			} catch (ParseException e) {
 				e.printStackTrace();
@@ -247,41 +248,66 @@ public class InMemoryLiteralIndex extends CachedLiteralIndexImpl<InMemoryTopicMa
 			throw new IllegalArgumentException("Value cannot be null.");
 		}
 		Set<ICharacteristics> set = HashUtil.getHashSet();
-		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.WGS84_COORDINATE))) {
-			try {
-				if (datatypeAware instanceof IOccurrence && value.getDistance(datatypeAware.coordinateValue()) <= deviance) {
-					set.add((IOccurrence) datatypeAware);
-				}
-			} catch (ParseException e) {
-				e.printStackTrace();
-			}
+		set.addAll(getTopicMapStore().getCharacteristicsStore().getOccurrencesByArea(value, deviance));
+		return Collections.unmodifiableCollection(set);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> doGetCoordinates(Wgs84Circuit area) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (area == null) {
+			throw new IllegalArgumentException("Area cannot be null.");
 		}
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		set.addAll(getTopicMapStore().getCharacteristicsStore().getOccurrencesByArea(area));
 		return Collections.unmodifiableCollection(set);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
-	public Collection<ICharacteristics> doGetDateTime(Calendar value) {
+	public Collection<ICharacteristics> doGetCoordinatesInBoundingBox(Wgs84Coordinate southWest, Wgs84Coordinate northEast) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
+		}
+		if (southWest == null || northEast == null) {
+			throw new IllegalArgumentException("Corner cannot be null.");
+		}
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		set.addAll(getTopicMapStore().getCharacteristicsStore().getOccurrencesByArea(southWest, northEast));
+		return Collections.unmodifiableCollection(set);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> doGetNearestCoordinates(Wgs84Coordinate value, int count) {
 		if (!isOpen()) {
 			throw new TMAPIRuntimeException("Index is closed!");
 		}
 		if (value == null) {
 			throw new IllegalArgumentException("Value cannot be null.");
 		}
-		Set<ICharacteristics> set = HashUtil.getHashSet();
-		Set<IDatatypeAware> datatypeAwares = HashUtil.getHashSet(getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.DATETIME)));
-		datatypeAwares.addAll(getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.DATE)));
-		for (IDatatypeAware datatypeAware : datatypeAwares){
-			try {
-				if (datatypeAware instanceof IOccurrence && datatypeAware.dateTimeValue().equals(value)) {
-					set.add((IOccurrence) datatypeAware);
-				}
-			} catch (ParseException e) {
-				e.printStackTrace();
-			}
+		List<ICharacteristics> list = HashUtil.getList();
+		list.addAll(getTopicMapStore().getCharacteristicsStore().getNearestOccurrences(value, count));
+		return Collections.unmodifiableList(list);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> doGetDateTime(Calendar value) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
 		}
-		return Collections.unmodifiableCollection(set);
+		if (value == null) {
+			throw new IllegalArgumentException("Value cannot be null.");
+		}
+		return doGetDateTimeBetween(value.getTimeInMillis(), value.getTimeInMillis());
 	}
 
 	/**
@@ -298,22 +324,23 @@ public class InMemoryLiteralIndex extends CachedLiteralIndexImpl<InMemoryTopicMa
 			throw new IllegalArgumentException("Deviance cannot be null.");
 		}
 
-		double deviance_ = ((double) (deviance.get(Calendar.SECOND) + (deviance.get(Calendar.MINUTE) + (deviance.get(Calendar.HOUR) + (deviance.get(Calendar.DAY_OF_MONTH) + (deviance
+		long deviance_ = ((long) (deviance.get(Calendar.SECOND) + (deviance.get(Calendar.MINUTE) + (deviance.get(Calendar.HOUR) + (deviance.get(Calendar.DAY_OF_MONTH) + (deviance
 				.get(Calendar.MONTH) + deviance.get(Calendar.YEAR) * 12) * 30) * 24) * 60) * 60)) * 1000;
 
-		Set<ICharacteristics> set = HashUtil.getHashSet();
-		Set<IDatatypeAware> datatypeAwares = HashUtil.getHashSet(getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.DATETIME)));
-		datatypeAwares.addAll(getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.DATE)));
-		for (IDatatypeAware datatypeAware : datatypeAwares){
-			try {
-				if (datatypeAware instanceof IOccurrence && LiteralUtils.inRange(datatypeAware.dateTimeValue(), value, deviance_)) {
-					set.add((IOccurrence) datatypeAware);
-				}
-			} catch (ParseException e) {
-				e.printStackTrace();
-			}
+		return doGetDateTimeBetween(value.getTimeInMillis() - deviance_, value.getTimeInMillis() + deviance_);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> doGetDateTimeBetween(Calendar lower, Calendar upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
 		}
-		return Collections.unmodifiableCollection(set);
+		if (lower == null || upper == null) {
+			throw new IllegalArgumentException("Value cannot be null.");
+		}
+		return doGetDateTimeBetween(lower.getTimeInMillis(), upper.getTimeInMillis());
 	}
 
 	/**
@@ -323,17 +350,7 @@ public class InMemoryLiteralIndex extends CachedLiteralIndexImpl<InMemoryTopicMa
 		if (!isOpen()) {
 			throw new TMAPIRuntimeException("Index is closed!");
 		}
-		Set<ICharacteristics> set = HashUtil.getHashSet();
-		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.DOUBLE))) {
-			try {
-				if (datatypeAware instanceof IOccurrence && datatypeAware.doubleValue().equals(value)) {
-					set.add((IOccurrence) datatypeAware);
-				}
-			} catch (NumberFormatException e) {
-				e.printStackTrace();
-			}
-		}
-		return Collections.unmodifiableCollection(set);
+		return getOccurrencesByRange(Namespaces.XSD.DOUBLE, value, value);
 	}
 
 	/**
@@ -343,17 +360,17 @@ public class InMemoryLiteralIndex extends CachedLiteralIndexImpl<InMemoryTopicMa
 		if (!isOpen()) {
 			throw new TMAPIRuntimeException("Index is closed!");
 		}
-		Set<ICharacteristics> set = HashUtil.getHashSet();
-		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.DOUBLE))) {
-			try {
-				if (datatypeAware instanceof IOccurrence && Math.abs(datatypeAware.doubleValue() - value) <= deviance) {
-					set.add((IOccurrence) datatypeAware);
-				}
-			} catch (NumberFormatException e) {
-				e.printStackTrace();
-			}
+		return getOccurrencesByRange(Namespaces.XSD.DOUBLE, value - deviance, value + deviance);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> doGetDoublesBetween(double lower, double upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
 		}
-		return Collections.unmodifiableCollection(set);
+		return getOccurrencesByRange(Namespaces.XSD.DOUBLE, lower, upper);
 	}
 
 	/**
@@ -363,17 +380,7 @@ public class InMemoryLiteralIndex extends CachedLiteralIndexImpl<InMemoryTopicMa
 		if (!isOpen()) {
 			throw new TMAPIRuntimeException("Index is closed!");
 		}
-		Set<ICharacteristics> set = HashUtil.getHashSet();
-		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.FLOAT))) {
-			try {
-				if (datatypeAware instanceof IOccurrence && datatypeAware.floatValue() == value) {
-					set.add((IOccurrence) datatypeAware);
-				}
-			} catch (NumberFormatException e) {
-				e.printStackTrace();
-			}
-		}
-		return Collections.unmodifiableCollection(set);
+		return getOccurrencesByRange(Namespaces.XSD.FLOAT, (double) value, (double) value);
 	}
 
 	/**
@@ -383,17 +390,17 @@ public class InMemoryLiteralIndex extends CachedLiteralIndexImpl<InMemoryTopicMa
 		if (!isOpen()) {
 			throw new TMAPIRuntimeException("Index is closed!");
 		}
-		Set<ICharacteristics> set = HashUtil.getHashSet();
-		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.FLOAT))) {
-			try {
-				if (datatypeAware instanceof IOccurrence && Math.abs(datatypeAware.floatValue() - value) <= deviance) {
-					set.add((IOccurrence) datatypeAware);
-				}
-			} catch (NumberFormatException e) {
-				e.printStackTrace();
-			}
+		return getOccurrencesByRange(Namespaces.XSD.FLOAT, value - deviance, value + deviance);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> doGetFloatsBetween(float lower, float upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
 		}
-		return Collections.unmodifiableCollection(set);
+		return getOccurrencesByRange(Namespaces.XSD.FLOAT, (double) lower, (double) upper);
 	}
 
 	/**
@@ -403,17 +410,7 @@ public class InMemoryLiteralIndex extends CachedLiteralIndexImpl<InMemoryTopicMa
 		if (!isOpen()) {
 			throw new TMAPIRuntimeException("Index is closed!");
 		}
-		Set<ICharacteristics> set = HashUtil.getHashSet();
-		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.INT))) {
-			try {
-				if (datatypeAware instanceof IOccurrence && datatypeAware.intValue() == value) {
-					set.add((IOccurrence) datatypeAware);
-				}
-			} catch (NumberFormatException e) {
-				e.printStackTrace();
-			}
-		}
-		return Collections.unmodifiableCollection(set);
+		return getOccurrencesByRange(Namespaces.XSD.INT, (long) value, (long) value);
 	}
 
 	/**
@@ -423,17 +420,17 @@ public class InMemoryLiteralIndex extends CachedLiteralIndexImpl<InMemoryTopicMa
 		if (!isOpen()) {
 			throw new TMAPIRuntimeException("Index is closed!");
 		}
-		Set<ICharacteristics> set = HashUtil.getHashSet();
-		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.INT))) {
-			try {
-				if (datatypeAware instanceof IOccurrence && Math.abs(datatypeAware.intValue() - value) <= deviance) {
-					set.add((IOccurrence) datatypeAware);
-				}
-			} catch (NumberFormatException e) {
-				e.printStackTrace();
-			}
+		return getOccurrencesByRange(Namespaces.XSD.INT, (long) Math.ceil(value - deviance), (long) Math.floor(value + deviance));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> doGetIntegersBetween(int lower, int upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
 		}
-		return Collections.unmodifiableCollection(set);
+		return getOccurrencesByRange(Namespaces.XSD.INT, (long) lower, (long) upper);
 	}
 
 	/**
@@ -443,17 +440,7 @@ public class InMemoryLiteralIndex extends CachedLiteralIndexImpl<InMemoryTopicMa
 		if (!isOpen()) {
 			throw new TMAPIRuntimeException("Index is closed!");
 		}
-		Set<ICharacteristics> set = HashUtil.getHashSet();
-		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.LONG))) {
-			try {
-				if (datatypeAware instanceof IOccurrence && datatypeAware.longValue() == value) {
-					set.add((IOccurrence) datatypeAware);
-				}
-			} catch (NumberFormatException e) {
-				e.printStackTrace();
-			}
-		}
-		return Collections.unmodifiableCollection(set);
+		return getOccurrencesByRange(Namespaces.XSD.LONG, value, value);
 	}
 
 	/**
@@ -463,17 +450,17 @@ public class InMemoryLiteralIndex extends CachedLiteralIndexImpl<InMemoryTopicMa
 		if (!isOpen()) {
 			throw new TMAPIRuntimeException("Index is closed!");
 		}
-		Set<ICharacteristics> set = HashUtil.getHashSet();
-		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwares(getTopicMapStore().getIdentityStore().createLocator(Namespaces.XSD.LONG))) {
-			try {
-				if (datatypeAware instanceof IOccurrence && Math.abs(datatypeAware.longValue() - value) <= deviance) {
-					set.add((IOccurrence) datatypeAware);
-				}
-			} catch (NumberFormatException e) {
-				e.printStackTrace();
-			}
+		return getOccurrencesByRange(Namespaces.XSD.LONG, (long) Math.ceil(value - deviance), (long) Math.floor(value + deviance));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> doGetLongsBetween(long lower, long upper) {
+		if (!isOpen()) {
+			throw new TMAPIRuntimeException("Index is closed!");
 		}
-		return Collections.unmodifiableCollection(set);
+		return getOccurrencesByRange(Namespaces.XSD.LONG, lower, upper);
 	}
 
 	/**
@@ -668,4 +655,66 @@ public class InMemoryLiteralIndex extends CachedLiteralIndexImpl<InMemoryTopicMa
 		return col;
 	}
 
+	/**
+	 * Internal method to read all occurrences with the data type xsd:dateTime or xsd:date and a time in milliseconds
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound in milliseconds, inclusive
+	 * @param upper
+	 *            the upper bound in milliseconds, inclusive
+	 * @return the occurrences
+	 */
+	private Collection<ICharacteristics> doGetDateTimeBetween(long lower, long upper) {
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		set.addAll(getOccurrencesByRange(Namespaces.XSD.DATETIME, lower, upper));
+		set.addAll(getOccurrencesByRange(Namespaces.XSD.DATE, lower, upper));
+		return Collections.unmodifiableCollection(set);
+	}
+
+	/**
+	 * Internal method to read all occurrences with the given integral data type and a value contained by the given
+	 * range [lower, upper] from the sorted index of the characteristics store.
+	 * 
+	 * @param datatype
+	 *            the data type
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @return the occurrences
+	 */
+	private Collection<ICharacteristics> getOccurrencesByRange(String datatype, long lower, long upper) {
+		ILocator locator = getTopicMapStore().getIdentityStore().createLocator(datatype);
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwaresByRange(locator, lower, upper)) {
+			if (datatypeAware instanceof IOccurrence) {
+				set.add((IOccurrence) datatypeAware);
+			}
+		}
+		return Collections.unmodifiableCollection(set);
+	}
+
+	/**
+	 * Internal method to read all occurrences with the given decimal data type and a value contained by the given
+	 * range [lower, upper] from the sorted index of the characteristics store.
+	 * 
+	 * @param datatype
+	 *            the data type
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @return the occurrences
+	 */
+	private Collection<ICharacteristics> getOccurrencesByRange(String datatype, double lower, double upper) {
+		ILocator locator = getTopicMapStore().getIdentityStore().createLocator(datatype);
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		for (IDatatypeAware datatypeAware : getTopicMapStore().getCharacteristicsStore().getDatatypeAwaresByRange(locator, lower, upper)) {
+			if (datatypeAware instanceof IOccurrence) {
+				set.add((IOccurrence) datatypeAware);
+			}
+		}
+		return Collections.unmodifiableCollection(set);
+	}
 }
@@ -15,6 +15,7 @@
  ******************************************************************************/
 package de.topicmapslab.majortom.inmemory.index;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
@@ -106,14 +107,7 @@ public class InMemoryScopedIndex extends IndexImpl<InMemoryTopicMapStore> implem
 		if (themes == null) {
 			throw new IllegalArgumentException("Themes cannot be null!");
 		}
-		Set<IScope> scopes = HashUtil.getHashSet();
-		for (Topic t : themes) {
-			if (scopes.isEmpty() || !matchAll) {
-				scopes.addAll(getTopicMapStore().getScopeStore().getScopes((ITopic) t));
-			} else {
-				scopes.retainAll(getTopicMapStore().getScopeStore().getScopes((ITopic) t));
-			}
-		}
+		Set<IScope> scopes = getTopicMapStore().getScopeStore().getScopes(toThemes(Arrays.asList(themes)), matchAll);
 		return Collections.unmodifiableCollection(scopes);
 	}
 
@@ -127,14 +121,7 @@ public class InMemoryScopedIndex extends IndexImpl<InMemoryTopicMapStore> implem
 		if (themes == null) {
 			throw new IllegalArgumentException("Themes cannot be null!");
 		}
-		Set<IScope> scopes = HashUtil.getHashSet();
-		for (Topic t : themes) {
-			if (scopes.isEmpty() || !matchAll) {
-				scopes.addAll(getTopicMapStore().getScopeStore().getScopes((ITopic) t));
-			} else {
-				scopes.retainAll(getTopicMapStore().getScopeStore().getScopes((ITopic) t));
-			}
-		}
+		Set<IScope> scopes = getTopicMapStore().getScopeStore().getScopes(toThemes(themes), matchAll);
 		return Collections.unmodifiableCollection(scopes);
 	}
 
@@ -625,4 +612,19 @@ public class InMemoryScopedIndex extends IndexImpl<InMemoryTopicMapStore> implem
 		return Collections.unmodifiableCollection(getVariants(scopes));
 	}
 
+	/**
+	 * Converts the given topics to a set of themes.
+	 * 
+	 * @param themes
+	 *            the topics
+	 * @return the themes
+	 */
+	private Set<ITopic> toThemes(Collection<? extends Topic> themes) {
+		Set<ITopic> set = HashUtil.getHashSet();
+		for (Topic theme : themes) {
+			set.add((ITopic) theme);
+		}
+		return set;
+	}
+
 }
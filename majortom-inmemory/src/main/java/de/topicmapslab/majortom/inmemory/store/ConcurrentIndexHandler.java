@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import org.tmapi.index.Index;
+
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Invocation handler used by the concurrent mode of the {@link InMemoryTopicMapStore}. Index implementations read the
+ * internal data stores directly, so each query of an index is executed holding the read lock of the store. Queries of
+ * the same index run in parallel, the caches of the indexes are thread-safe. Opening, closing, clearing and reindexing
+ * modify the state of the index and hold the write lock.
+ *
+ * @author Sven Krosse
+ *
+ */
+class ConcurrentIndexHandler implements InvocationHandler {
+
+	/**
+	 * the methods modifying the state of an index
+	 */
+	private static final Set<String> MODIFYING_METHODS = HashUtil.getHashSet(Arrays.asList("open", "close", "clear", "reindex"));
+
+	/**
+	 * the wrapped index
+	 */
+	private final Index index;
+	/**
+	 * the lock of the store
+	 */
+	private final ReadWriteLock lock;
+
+	/**
+	 * constructor
+	 *
+	 * @param index
+	 *            the wrapped index
+	 * @param lock
+	 *            the lock of the store
+	 */
+	private ConcurrentIndexHandler(Index index, ReadWriteLock lock) {
+		this.index = index;
+		this.lock = lock;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		Lock l = MODIFYING_METHODS.contains(method.getName()) ? lock.writeLock() : lock.readLock();
+		l.lock();
+		try {
+			return method.invoke(index, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		} finally {
+			l.unlock();
+		}
+	}
+
+	/**
+	 * Creates a proxy of the given index implementing all interfaces of the index.
+	 *
+	 * @param index
+	 *            the index
+	 * @param lock
+	 *            the lock of the store
+	 * @return the proxy
+	 */
+	static Index newProxy(Index index, ReadWriteLock lock) {
+		Set<Class<?>> interfaces = HashUtil.getHashSet();
+		for (Class<?> clazz = index.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+			addInterfaces(interfaces, clazz);
+		}
+		return (Index) Proxy.newProxyInstance(index.getClass().getClassLoader(), interfaces.toArray(new Class<?>[interfaces.size()]), new ConcurrentIndexHandler(index,
+				lock));
+	}
+
+	/**
+	 * Adds all interfaces of the given class and their super interfaces to the given set.
+	 *
+	 * @param interfaces
+	 *            the set of interfaces
+	 * @param clazz
+	 *            the class
+	 */
+	private static void addInterfaces(Set<Class<?>> interfaces, Class<?> clazz) {
+		for (Class<?> i : clazz.getInterfaces()) {
+			if (interfaces.add(i)) {
+				addInterfaces(interfaces, i);
+			}
+		}
+	}
+}
@@ -0,0 +1,47 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store;
+
+import de.topicmapslab.majortom.store.TopicMapStoreProperty;
+
+/**
+ * Properties of the in-memory topic map store
+ *
+ * @author Sven Krosse
+ *
+ */
+public interface IInMemoryTopicMapStoreProperty extends TopicMapStoreProperty {
+
+	public static final String INMEMORY_PREFIX = PREFIX + ".inmemory";
+
+	/**
+	 * the directory containing the snapshots of the topic maps, if missing the content of a topic map is lost at close
+	 */
+	public static final String SNAPSHOT_DIRECTORY = INMEMORY_PREFIX + ".snapshot.directory";
+
+	/**
+	 * if <code>true</code>, each modification is appended to a write-ahead log next to the snapshot and replayed
+	 * after a crash, default is <code>false</code>
+	 */
+	public static final String WRITE_AHEAD_LOG = INMEMORY_PREFIX + ".wal";
+
+	/**
+	 * the interval of forcing the write-ahead log to disk in milliseconds, <code>0</code> forces each record, default
+	 * is <code>1000</code>
+	 */
+	public static final String WRITE_AHEAD_LOG_SYNC_INTERVAL = WRITE_AHEAD_LOG + ".syncInterval";
+
+}
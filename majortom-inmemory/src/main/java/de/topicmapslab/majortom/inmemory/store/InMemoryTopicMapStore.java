@@ -1,5 +1,15 @@
 package de.topicmapslab.majortom.inmemory.store;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
@@ -8,7 +18,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
+import org.tmapi.core.Construct;
+import org.tmapi.core.FeatureNotRecognizedException;
 import org.tmapi.core.ModelConstraintException;
 import org.tmapi.core.Name;
 import org.tmapi.core.TopicInUseException;
@@ -22,6 +37,7 @@ import de.topicmapslab.majortom.comparator.NameByValueComparator;
 import de.topicmapslab.majortom.comparator.ScopeComparator;
 import de.topicmapslab.majortom.core.ConstructImpl;
 import de.topicmapslab.majortom.core.TopicImpl;
+import de.topicmapslab.majortom.inmemory.index.InMemoryFullTextIndex;
 import de.topicmapslab.majortom.inmemory.index.InMemoryIdentityIndex;
 import de.topicmapslab.majortom.inmemory.index.InMemoryLiteralIndex;
 import de.topicmapslab.majortom.inmemory.index.InMemoryRevisionIndex;
@@ -30,6 +46,7 @@ import de.topicmapslab.majortom.inmemory.index.InMemorySupertypeSubtypeIndex;
 import de.topicmapslab.majortom.inmemory.index.InMemoryTransitiveTypeInstanceIndex;
 import de.topicmapslab.majortom.inmemory.index.InMemoryTypeInstanceIndex;
 import de.topicmapslab.majortom.inmemory.index.paged.InMemoryPagedConstructIndex;
+import de.topicmapslab.majortom.inmemory.index.paged.InMemoryPagedFullTextIndex;
 import de.topicmapslab.majortom.inmemory.index.paged.InMemoryPagedIdentityIndex;
 import de.topicmapslab.majortom.inmemory.index.paged.InMemoryPagedLiteralIndex;
 import de.topicmapslab.majortom.inmemory.index.paged.InMemoryPagedScopeIndex;
@@ -41,6 +58,8 @@ import de.topicmapslab.majortom.inmemory.store.internal.CharacteristicsStore;
 import de.topicmapslab.majortom.inmemory.store.internal.IdentityStore;
 import de.topicmapslab.majortom.inmemory.store.internal.ReificationStore;
 import de.topicmapslab.majortom.inmemory.store.internal.ScopeStore;
+import de.topicmapslab.majortom.inmemory.store.internal.SnapshotReader;
+import de.topicmapslab.majortom.inmemory.store.internal.SnapshotWriter;
 import de.topicmapslab.majortom.inmemory.store.internal.TopicTypeStore;
 import de.topicmapslab.majortom.inmemory.store.internal.TypedStore;
 import de.topicmapslab.majortom.inmemory.store.revision.RevisionStore;
@@ -63,6 +82,7 @@ import de.topicmapslab.majortom.model.core.ITypeable;
 import de.topicmapslab.majortom.model.core.IVariant;
 import de.topicmapslab.majortom.model.event.TopicMapEventType;
 import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
+import de.topicmapslab.majortom.model.index.IFullTextIndex;
 import de.topicmapslab.majortom.model.index.IIdentityIndex;
 import de.topicmapslab.majortom.model.index.ILiteralIndex;
 import de.topicmapslab.majortom.model.index.IRevisionIndex;
@@ -71,6 +91,7 @@ import de.topicmapslab.majortom.model.index.ISupertypeSubtypeIndex;
 import de.topicmapslab.majortom.model.index.ITransitiveTypeInstanceIndex;
 import de.topicmapslab.majortom.model.index.ITypeInstanceIndex;
 import de.topicmapslab.majortom.model.index.paging.IPagedConstructIndex;
+import de.topicmapslab.majortom.model.index.paging.IPagedFullTextIndex;
 import de.topicmapslab.majortom.model.index.paging.IPagedIdentityIndex;
 import de.topicmapslab.majortom.model.index.paging.IPagedLiteralIndex;
 import de.topicmapslab.majortom.model.index.paging.IPagedScopedIndex;
@@ -81,11 +102,13 @@ import de.topicmapslab.majortom.model.namespace.Namespaces;
 import de.topicmapslab.majortom.model.revision.Changeset;
 import de.topicmapslab.majortom.model.revision.IRevision;
 import de.topicmapslab.majortom.model.store.ITopicMapStoreIdentity;
+import de.topicmapslab.majortom.model.store.TopicMapStoreParameterType;
 import de.topicmapslab.majortom.model.transaction.ITransaction;
 import de.topicmapslab.majortom.store.ModifableTopicMapStoreImpl;
 import de.topicmapslab.majortom.store.NameMergeCandidate;
 import de.topicmapslab.majortom.store.TopicMapStoreProperty;
 import de.topicmapslab.majortom.util.DatatypeAwareUtils;
+import de.topicmapslab.majortom.util.FeatureStrings;
 import de.topicmapslab.majortom.util.HashUtil;
 import de.topicmapslab.majortom.util.XmlSchemeDatatypes;
 
@@ -139,6 +162,7 @@ public class InMemoryTopicMapStore extends ModifableTopicMapStoreImpl {
 	private IIdentityIndex identityIndex;
 	private ISupertypeSubtypeIndex supertypeSubtypeIndex;
 	private IRevisionIndex revisionIndex;
+	private IFullTextIndex fullTextIndex;
 	/**
 	 * paged indexes
 	 */
@@ -149,6 +173,44 @@ public class InMemoryTopicMapStore extends ModifableTopicMapStoreImpl {
 	private IPagedIdentityIndex pagedIdentityIndex;
 	private IPagedLiteralIndex pagedLiteralIndex;
 	private IPagedConstructIndex pagedConstructIndex;
+	private IPagedFullTextIndex pagedFullTextIndex;
+
+	/**
+	 * the lock of the concurrent mode or <code>null</code> if the feature {@link FeatureStrings#CONCURRENT_STORE} is
+	 * disabled
+	 */
+	private ReadWriteLock lock;
+	/**
+	 * the index proxies of the concurrent mode
+	 */
+	private Map<Class<?>, Index> concurrentIndexes;
+
+	/**
+	 * the write-ahead log or <code>null</code> if the property
+	 * {@link IInMemoryTopicMapStoreProperty#WRITE_AHEAD_LOG} is not set
+	 */
+	private WriteAheadLog writeAheadLog;
+	/**
+	 * the ids generated by the current logged operation
+	 */
+	private List<Long> generatedIds;
+	/**
+	 * the ids to return by {@link #generateId()} while an operation of the write-ahead log is replayed
+	 */
+	private List<Long> replayedIds;
+	/**
+	 * the nesting depth of the current logged operation
+	 */
+	private int operationDepth;
+	/**
+	 * the failure of the write-ahead log which could not be repaired by a checkpoint, the store rejects all further
+	 * modifications after such a failure
+	 */
+	private volatile TopicMapStoreException writeAheadLogFailure;
+	/**
+	 * monitor of writing snapshots
+	 */
+	private final Object snapshotLock = new Object();
 
 	/**
 	 * constructor
@@ -3015,6 +3077,21 @@ public class InMemoryTopicMapStore extends ModifableTopicMapStoreImpl {
 	 * {@inheritDoc}
 	 */
 	public synchronized void close() throws TopicMapStoreException {
+		/*
+		 * persist the content before the internal stores are closed
+		 */
+		if (this.identityStore != null && getSnapshotFile() != null) {
+			doCheckpoint();
+		}
+		if (this.writeAheadLog != null) {
+			try {
+				this.writeAheadLog.close();
+			} catch (IOException e) {
+				throw new TopicMapStoreException("Closing the write-ahead log failed.", e);
+			} finally {
+				this.writeAheadLog = null;
+			}
+		}
 		super.close();
 		getIdentityStore().close();
 		getCharacteristicsStore().close();
@@ -3047,6 +3124,14 @@ public class InMemoryTopicMapStore extends ModifableTopicMapStoreImpl {
 	@SuppressWarnings("unchecked")
 	public void setTopicMapSystem(ITopicMapSystem topicMapSystem) {
 		super.setTopicMapSystem(topicMapSystem);
+		try {
+			if (topicMapSystem.getFeature(FeatureStrings.CONCURRENT_STORE)) {
+				this.lock = new ReentrantReadWriteLock();
+				this.concurrentIndexes = new ConcurrentHashMap<Class<?>, Index>();
+			}
+		} catch (FeatureNotRecognizedException e) {
+			throw new TopicMapStoreException("Feature is missing", e);
+		}
 		Object propertyCapacityOfCollections = topicMapSystem.getProperty(TopicMapStoreProperty.INITIAL_COLLECTION_CAPACITY);
 		if (propertyCapacityOfCollections != null) {
 			try {
@@ -3121,6 +3206,13 @@ public class InMemoryTopicMapStore extends ModifableTopicMapStoreImpl {
 				storeRevision(r, TopicMapEventType.TOPIC_MAP_CREATED, getTopicMap(), getTopicMap(), null);
 			}
 		}
+		/*
+		 * restore the content of the last session
+		 */
+		File snapshot = getSnapshotFile();
+		if (snapshot != null) {
+			restore(snapshot);
+		}
 	}
 
 	/**
@@ -3128,6 +3220,33 @@ public class InMemoryTopicMapStore extends ModifableTopicMapStoreImpl {
 	 */
 	@SuppressWarnings("unchecked")
 	public <I extends Index> I getIndex(Class<I> clazz) {
+		if (!isConcurrent()) {
+			return doGetIndex(clazz);
+		}
+		Index index = concurrentIndexes.get(clazz);
+		if (index == null) {
+			synchronized (concurrentIndexes) {
+				index = concurrentIndexes.get(clazz);
+				if (index == null) {
+					index = ConcurrentIndexHandler.newProxy(doGetIndex(clazz), lock);
+					concurrentIndexes.put(clazz, index);
+				}
+			}
+		}
+		return (I) index;
+	}
+
+	/**
+	 * Returns the index instance of the given index class.
+	 * 
+	 * @param <I>
+	 *            the index type
+	 * @param clazz
+	 *            the index class
+	 * @return the index instance
+	 */
+	@SuppressWarnings("unchecked")
+	protected <I extends Index> I doGetIndex(Class<I> clazz) {
 
 		/*
 		 * non-paged indexes
@@ -3167,6 +3286,11 @@ public class InMemoryTopicMapStore extends ModifableTopicMapStoreImpl {
 				this.revisionIndex = new InMemoryRevisionIndex(this);
 			}
 			return (I) this.revisionIndex;
+		} else if (IFullTextIndex.class.isAssignableFrom(clazz)) {
+			if (this.fullTextIndex == null) {
+				this.fullTextIndex = new InMemoryFullTextIndex(this);
+			}
+			return (I) this.fullTextIndex;
 		}
 		/*
 		 * paged indexes
@@ -3206,6 +3330,11 @@ public class InMemoryTopicMapStore extends ModifableTopicMapStoreImpl {
 				this.pagedConstructIndex = new InMemoryPagedConstructIndex(this);
 			}
 			return (I) this.pagedConstructIndex;
+		} else if (IPagedFullTextIndex.class.isAssignableFrom(clazz)) {
+			if (this.pagedFullTextIndex == null) {
+				this.pagedFullTextIndex = new InMemoryPagedFullTextIndex(this, getIndex(IFullTextIndex.class));
+			}
+			return (I) this.pagedFullTextIndex;
 		}
 		throw new UnsupportedOperationException("The index class '" + (clazz == null ? "null" : clazz.getCanonicalName()) + "' is not supported by the current engine.");
 	}
@@ -3571,6 +3700,19 @@ public class InMemoryTopicMapStore extends ModifableTopicMapStoreImpl {
 		return this.reificationStore;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public void notifyListeners(TopicMapEventType event, IConstruct notifier, Object newValue, Object oldValue) {
+		/*
+		 * keep the transitive closure of the type hierarchy up to date
+		 */
+		if (topicTypeStore != null) {
+			topicTypeStore.topicMapChanged(event, notifier, newValue, oldValue);
+		}
+		super.notifyListeners(event, notifier, newValue, oldValue);
+	}
+
 	/**
 	 * Returns the internal topic-type hierarchy store reference.
 	 * 
@@ -3651,13 +3793,54 @@ public class InMemoryTopicMapStore extends ModifableTopicMapStoreImpl {
 	 * {@inheritDoc}
 	 */
 	public void removeDuplicates() {
-		InMemoryMergeUtils.removeDuplicates2(this, getTopicMap(), true); // TODO rename when working
+		checkWriteAheadLog();
+		if (isConcurrent()) {
+			lock.writeLock().lock();
+		}
+		boolean success = false;
+		beginOperation();
+		try {
+			InMemoryMergeUtils.removeDuplicates2(this, getTopicMap(), true); // TODO rename when working
+			success = true;
+		} finally {
+			try {
+				endOperation(success, WriteAheadLog.REMOVE_DUPLICATES, null, null);
+			} finally {
+				if (isConcurrent()) {
+					lock.writeLock().unlock();
+				}
+			}
+		}
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public void clear() {
+		checkWriteAheadLog();
+		if (isConcurrent()) {
+			lock.writeLock().lock();
+		}
+		boolean success = false;
+		beginOperation();
+		try {
+			doClear();
+			success = true;
+		} finally {
+			try {
+				endOperation(success, WriteAheadLog.CLEAR, null, null);
+			} finally {
+				if (isConcurrent()) {
+					lock.writeLock().unlock();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Removes all content of the internal data stores.
+	 */
+	private void doClear() {
 		getIdentityStore().close();
 		getCharacteristicsStore().close();
 		getTypedStore().close();
@@ -3698,6 +3881,508 @@ public class InMemoryTopicMapStore extends ModifableTopicMapStoreImpl {
 		return identity;
 	}
 
+	// ***************
+	// * PERSISTENCE *
+	// ***************
+
+	/**
+	 * Returns the snapshot file of the topic map in the directory set by the property
+	 * {@link IInMemoryTopicMapStoreProperty#SNAPSHOT_DIRECTORY}. The write-ahead log is stored next to the snapshot
+	 * with the additional extension <code>.wal</code>.
+	 * 
+	 * @return the snapshot file or <code>null</code> if the content is not persisted
+	 * @since 1.3.0
+	 */
+	protected File getSnapshotFile() {
+		Object directory = getTopicMapSystem() == null ? null : getTopicMapSystem().getProperty(IInMemoryTopicMapStoreProperty.SNAPSHOT_DIRECTORY);
+		if (directory == null || getTopicMapBaseLocatorReference() == null) {
+			return null;
+		}
+		try {
+			return new File(directory.toString(), URLEncoder.encode(getTopicMapBaseLocatorReference(), "UTF-8") + ".snapshot");
+		} catch (UnsupportedEncodingException e) {
+			throw new TopicMapStoreException("Encoding of the snapshot file name failed.", e);
+		}
+	}
+
+	/**
+	 * Internal method returning the backup of the given snapshot file, which exists while the snapshot is replaced
+	 * 
+	 * @param snapshot
+	 *            the snapshot file
+	 * @return the backup file
+	 */
+	private File getBackupFile(File snapshot) {
+		return new File(snapshot.getPath() + ".bak");
+	}
+
+	/**
+	 * Internal method to restore the given snapshot and to replay the write-ahead log
+	 * 
+	 * @param snapshot
+	 *            the snapshot file
+	 * @throws TopicMapStoreException
+	 *             thrown if restoring fails
+	 */
+	private void restore(File snapshot) throws TopicMapStoreException {
+		try {
+			/*
+			 * a crash while replacing the snapshot leaves the former one as backup
+			 */
+			File backup = getBackupFile(snapshot);
+			if (!snapshot.exists() && backup.exists() && !backup.renameTo(snapshot)) {
+				throw new IOException("Renaming the snapshot " + backup + " failed.");
+			}
+			if (snapshot.exists()) {
+				readSnapshot(snapshot);
+			} else if (snapshot.getParentFile() != null) {
+				snapshot.getParentFile().mkdirs();
+			}
+			Object enabled = getTopicMapSystem().getProperty(IInMemoryTopicMapStoreProperty.WRITE_AHEAD_LOG);
+			if (enabled == null || !Boolean.parseBoolean(enabled.toString())) {
+				return;
+			}
+			long syncInterval = 1000;
+			Object interval = getTopicMapSystem().getProperty(IInMemoryTopicMapStoreProperty.WRITE_AHEAD_LOG_SYNC_INTERVAL);
+			if (interval != null) {
+				try {
+					syncInterval = Long.parseLong(interval.toString());
+				} catch (NumberFormatException e) {
+					// NOTHING TO DO
+				}
+			}
+			WriteAheadLog log = new WriteAheadLog(new File(snapshot.getPath() + ".wal"), syncInterval);
+			int records = log.replay(this);
+			log.open();
+			this.writeAheadLog = log;
+			/*
+			 * the replayed operations and the ids of the topic map are persisted by a new snapshot
+			 */
+			if (records > 0 || !snapshot.exists()) {
+				doCheckpoint();
+			}
+		} catch (IOException e) {
+			throw new TopicMapStoreException("Restoring the snapshot failed.", e);
+		}
+	}
+
+	/**
+	 * Reads the given snapshot into the store. The snapshot is streamed into the internal data stores without
+	 * revisions, the listeners are notified by one {@link TopicMapEventType#MERGE} event of the topic map.
+	 * 
+	 * @param file
+	 *            the snapshot file
+	 * @throws IOException
+	 *             thrown if reading fails
+	 * @throws TopicMapStoreException
+	 *             thrown if the store is not empty
+	 * @since 1.3.0
+	 */
+	public void readSnapshot(File file) throws IOException, TopicMapStoreException {
+		if (isConcurrent()) {
+			lock.writeLock().lock();
+		}
+		try {
+			if (!getIdentityStore().getTopics().isEmpty() || !getAssociationStore().getAssociations().isEmpty()) {
+				throw new TopicMapStoreException("A snapshot can only be read into an empty store.");
+			}
+			DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16));
+			boolean success = false;
+			try {
+				long id = new SnapshotReader(this, getThreadPool()).read(in);
+				getTopicMapIdentity().setId(id);
+				success = true;
+			} finally {
+				in.close();
+				if (!success) {
+					doClear();
+				}
+			}
+			getSignatureStore().invalidate();
+			notifyListeners(TopicMapEventType.MERGE, getTopicMap(), getTopicMap(), null);
+		} finally {
+			if (isConcurrent()) {
+				lock.writeLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * Writes a snapshot of the store to the given file.
+	 * 
+	 * @param file
+	 *            the file
+	 * @throws IOException
+	 *             thrown if writing fails
+	 * @since 1.3.0
+	 */
+	public void writeSnapshot(File file) throws IOException {
+		if (isConcurrent()) {
+			lock.readLock().lock();
+		}
+		try {
+			doWriteSnapshot(file);
+		} finally {
+			if (isConcurrent()) {
+				lock.readLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * Internal method to write a snapshot of the store to the given file and to force it to disk
+	 * 
+	 * @param file
+	 *            the file
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	private void doWriteSnapshot(File file) throws IOException {
+		FileOutputStream stream = new FileOutputStream(file);
+		try {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16));
+			new SnapshotWriter(this).write(out);
+			out.flush();
+			stream.getFD().sync();
+		} finally {
+			stream.close();
+		}
+	}
+
+	/**
+	 * Writes a new snapshot to the snapshot file and removes all records of the write-ahead log. Does nothing if the
+	 * property {@link IInMemoryTopicMapStoreProperty#SNAPSHOT_DIRECTORY} is not set.
+	 * 
+	 * @throws TopicMapStoreException
+	 *             thrown if writing fails
+	 * @since 1.3.0
+	 */
+	public void checkpoint() throws TopicMapStoreException {
+		if (isConcurrent()) {
+			lock.readLock().lock();
+		}
+		try {
+			doCheckpoint();
+		} finally {
+			if (isConcurrent()) {
+				lock.readLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * Internal method to write a new snapshot and to reset the write-ahead log. The snapshot is written to a temporary
+	 * file first, so a crash while writing keeps the former snapshot and log. If the temporary file cannot replace the
+	 * former snapshot directly, the former snapshot is kept as backup until the new one is in place.
+	 * 
+	 * @throws TopicMapStoreException
+	 *             thrown if writing fails
+	 */
+	private void doCheckpoint() throws TopicMapStoreException {
+		File snapshot = getSnapshotFile();
+		if (snapshot == null) {
+			return;
+		}
+		synchronized (snapshotLock) {
+			try {
+				File temporary = new File(snapshot.getPath() + ".tmp");
+				doWriteSnapshot(temporary);
+				if (!temporary.renameTo(snapshot)) {
+					File backup = getBackupFile(snapshot);
+					backup.delete();
+					if (!snapshot.renameTo(backup)) {
+						throw new IOException("Renaming the snapshot " + snapshot + " failed.");
+					}
+					if (!temporary.renameTo(snapshot)) {
+						backup.renameTo(snapshot);
+						throw new IOException("Renaming the snapshot " + temporary + " failed.");
+					}
+					backup.delete();
+				}
+				if (writeAheadLog != null) {
+					writeAheadLog.reset();
+				}
+			} catch (IOException e) {
+				throw new TopicMapStoreException("Writing the snapshot failed.", e);
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public long generateId() {
+		long id;
+		if (replayedIds != null && !replayedIds.isEmpty()) {
+			id = replayedIds.remove(0);
+		} else {
+			id = super.generateId();
+		}
+		if (generatedIds != null) {
+			generatedIds.add(id);
+		}
+		return id;
+	}
+
+	/**
+	 * Returns the write-ahead log of the store
+	 * 
+	 * @return the write-ahead log or <code>null</code> if the property
+	 *         {@link IInMemoryTopicMapStoreProperty#WRITE_AHEAD_LOG} is not set
+	 */
+	WriteAheadLog getWriteAheadLog() {
+		return writeAheadLog;
+	}
+
+	/**
+	 * Sets the ids returned by {@link #generateId()} while an operation of the write-ahead log is replayed
+	 * 
+	 * @param ids
+	 *            the ids or <code>null</code>
+	 */
+	void setReplayedIds(List<Long> ids) {
+		this.replayedIds = ids;
+	}
+
+	/**
+	 * Internal method called before each modifying operation to reject it, if a former failure of the write-ahead log
+	 * could not be repaired
+	 * 
+	 * @throws TopicMapStoreException
+	 *             the failure of the write-ahead log
+	 */
+	private void checkWriteAheadLog() throws TopicMapStoreException {
+		if (writeAheadLogFailure != null) {
+			throw new TopicMapStoreException("The store rejects modifications after a failure of the write-ahead log.", writeAheadLogFailure);
+		}
+	}
+
+	/**
+	 * Internal method checking if the current logged operation generated any id
+	 * 
+	 * @return <code>true</code> if ids were generated
+	 */
+	private boolean hasGeneratedIds() {
+		return generatedIds != null && !generatedIds.isEmpty();
+	}
+
+	/**
+	 * Internal method called before each modifying operation to record the generated ids
+	 */
+	private void beginOperation() {
+		if (writeAheadLog != null && operationDepth++ == 0) {
+			generatedIds = HashUtil.getList();
+		}
+	}
+
+	/**
+	 * Internal method called after each modifying operation. If the outermost operation was successful, it is appended
+	 * to the write-ahead log. The modification cannot be undone if appending fails, so the log is replaced by a new
+	 * snapshot containing the modification instead. If this checkpoint fails too, the failure is fatal and the store
+	 * rejects all further modifications, because the log would lose them silently.
+	 * 
+	 * @param logged
+	 *            <code>true</code> if the operation has to be logged
+	 * @param operation
+	 *            the operation
+	 * @param context
+	 *            the context of the operation
+	 * @param paramType
+	 *            the parameter type of the operation
+	 * @param params
+	 *            the parameters of the operation
+	 * @throws TopicMapStoreException
+	 *             thrown if writing the log fails
+	 */
+	private void endOperation(boolean logged, byte operation, IConstruct context, TopicMapStoreParameterType paramType, Object... params) throws TopicMapStoreException {
+		if (writeAheadLog == null || --operationDepth > 0) {
+			return;
+		}
+		List<Long> ids = generatedIds;
+		generatedIds = null;
+		if (logged) {
+			try {
+				writeAheadLog.append(operation, ids, context, paramType, params);
+			} catch (IOException e) {
+				try {
+					doCheckpoint();
+				} catch (TopicMapStoreException checkpointFailure) {
+					writeAheadLogFailure = new TopicMapStoreException("Writing the write-ahead log failed.", e);
+					throw writeAheadLogFailure;
+				}
+			}
+		}
+	}
+
+	// *******************
+	// * CONCURRENT MODE *
+	// *******************
+
+	/**
+	 * Returns the internal state of the concurrent mode, enabled by the feature {@link FeatureStrings#CONCURRENT_STORE}
+	 * . In concurrent mode all read operations share the read lock of the store and all write operations hold the
+	 * exclusive write lock, which makes compound updates of the internal data stores atomic.
+	 * 
+	 * @return <code>true</code> if the store is thread-safe, <code>false</code> otherwise
+	 * @since 1.3.0
+	 */
+	public boolean isConcurrent() {
+		return lock != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Object doRead(IConstruct context, TopicMapStoreParameterType paramType, Object... params) throws TopicMapStoreException {
+		if (!isConcurrent()) {
+			return super.doRead(context, paramType, params);
+		}
+		lock.readLock().lock();
+		try {
+			return super.doRead(context, paramType, params);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Object doCreate(IConstruct context, TopicMapStoreParameterType paramType, Object... params) throws TopicMapStoreException {
+		checkWriteAheadLog();
+		if (isConcurrent()) {
+			lock.writeLock().lock();
+		}
+		boolean success = false;
+		beginOperation();
+		try {
+			Object result = super.doCreate(context, paramType, params);
+			success = true;
+			return result;
+		} finally {
+			/*
+			 * locators and scopes are created on demand and do not modify the topic map, but they are logged as soon
+			 * as they allocate ids to keep the ids of the replayed operations in order
+			 */
+			boolean modifying = (paramType != TopicMapStoreParameterType.LOCATOR && paramType != TopicMapStoreParameterType.SCOPE) || hasGeneratedIds();
+			try {
+				endOperation(success && modifying, WriteAheadLog.CREATE, context, paramType, params);
+			} finally {
+				if (isConcurrent()) {
+					lock.writeLock().unlock();
+				}
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void doModify(IConstruct context, TopicMapStoreParameterType paramType, Object... params) throws TopicMapStoreException {
+		checkWriteAheadLog();
+		if (isConcurrent()) {
+			lock.writeLock().lock();
+		}
+		boolean success = false;
+		beginOperation();
+		try {
+			super.doModify(context, paramType, params);
+			success = true;
+		} finally {
+			/*
+			 * meta data and tags belong to the revisions, which are not persisted
+			 */
+			boolean modifying = paramType != TopicMapStoreParameterType.META_DATA && paramType != TopicMapStoreParameterType.TAG;
+			try {
+				endOperation(success && modifying, WriteAheadLog.MODIFY, context, paramType, params);
+			} finally {
+				if (isConcurrent()) {
+					lock.writeLock().unlock();
+				}
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void doRemove(IConstruct context, TopicMapStoreParameterType paramType, Object... params) throws TopicMapStoreException {
+		checkWriteAheadLog();
+		if (isConcurrent()) {
+			lock.writeLock().lock();
+		}
+		boolean success = false;
+		beginOperation();
+		try {
+			super.doRemove(context, paramType, params);
+			success = true;
+		} finally {
+			try {
+				endOperation(success, WriteAheadLog.REMOVE, context, paramType, params);
+			} finally {
+				if (isConcurrent()) {
+					lock.writeLock().unlock();
+				}
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void doRemove(IConstruct context, boolean cascade) throws TopicMapStoreException {
+		checkWriteAheadLog();
+		if (isConcurrent()) {
+			lock.writeLock().lock();
+		}
+		boolean success = false;
+		beginOperation();
+		try {
+			super.doRemove(context, cascade);
+			success = true;
+		} finally {
+			try {
+				endOperation(success, WriteAheadLog.REMOVE_CONSTRUCT, context, null, cascade);
+			} finally {
+				if (isConcurrent()) {
+					lock.writeLock().unlock();
+				}
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public <T extends Construct> void doMerge(T context, T... others) throws TopicMapStoreException {
+		checkWriteAheadLog();
+		if (isConcurrent()) {
+			lock.writeLock().lock();
+		}
+		boolean success = false;
+		beginOperation();
+		try {
+			super.doMerge(context, others);
+			success = true;
+		} finally {
+			/*
+			 * the content of another topic map cannot be described by operations of this store, so merging a topic
+			 * map is persisted by a new snapshot instead of a log record
+			 */
+			boolean topicMap = context instanceof ITopicMap;
+			try {
+				endOperation(success && !topicMap, WriteAheadLog.MERGE, (IConstruct) context, null, (Object[]) others);
+				if (success && topicMap && writeAheadLog != null) {
+					doCheckpoint();
+				}
+			} finally {
+				if (isConcurrent()) {
+					lock.writeLock().unlock();
+				}
+			}
+		}
+	}
+
 	/**
 	 * Returns the internal set property value of the initial collection size
 	 * 
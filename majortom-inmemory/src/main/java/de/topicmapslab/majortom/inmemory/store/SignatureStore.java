@@ -15,8 +15,6 @@
  ******************************************************************************/
 package de.topicmapslab.majortom.inmemory.store;
 
-import java.security.MessageDigest;
-import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -42,21 +40,175 @@ import de.topicmapslab.majortom.model.revision.IRevision;
 import de.topicmapslab.majortom.util.HashUtil;
 
 /**
+ * Store of the signatures of all associations, roles, names, occurrences and variants. The signature is a 128 bit
+ * hash of all properties relevant for the TMDM equality, stored as two long values. All methods modifying or reading
+ * the internal maps are synchronized by the store instance.
+ * 
  * @author Sven Krosse
  * 
  */
 public class SignatureStore implements ITopicMapListener {
 
-	private static final String ASSOCIATION_SIGNATURE = "{0}({1})@{2}";
-	private static final String ROLE_SIGNATURE = "{0}:{1}";
-	private static final String OCCURRENCE_SIGNATURE = "{0}:{1}:{2}{3}{4}";
-	private static final String NAME_SIGNATURE = "{0}:-{1}:{2}{3}";
-	private static final String VARIANT_SIGNATURE = "{0}:{1}{2}{3}";
+	/**
+	 * binary signature of a construct
+	 */
+	static final class Signature implements Comparable<Signature> {
+
+		/**
+		 * the upper 64 bit of the hash
+		 */
+		private final long high;
+		/**
+		 * the lower 64 bit of the hash
+		 */
+		private final long low;
+
+		/**
+		 * constructor
+		 * 
+		 * @param high
+		 *            the upper 64 bit of the hash
+		 * @param low
+		 *            the lower 64 bit of the hash
+		 */
+		Signature(long high, long low) {
+			this.high = high;
+			this.low = low;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj instanceof Signature) {
+				Signature other = (Signature) obj;
+				return high == other.high && low == other.low;
+			}
+			return false;
+		}
 
-	private Map<IConstruct, String> signatures = HashUtil.getHashMap();
-	private Map<String, Set<IConstruct>> constructs = HashUtil.getHashMap();
+		/**
+		 * {@inheritDoc}
+		 */
+		public int hashCode() {
+			return (int) (low ^ (low >>> 32));
+		}
 
-	private final MessageDigest digest;
+		/**
+		 * {@inheritDoc}
+		 */
+		public int compareTo(Signature o) {
+			if (high != o.high) {
+				return high < o.high ? -1 : 1;
+			}
+			if (low != o.low) {
+				return low < o.low ? -1 : 1;
+			}
+			return 0;
+		}
+	}
+
+	/**
+	 * Builder of a binary signature. The given values are hashed by two independent 64 bit hash functions, without
+	 * creating intermediate strings.
+	 */
+	static final class SignatureBuilder {
+
+		private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+		private static final long FNV_PRIME = 0x100000001b3L;
+		private static final long SEED = 0x9e3779b97f4a7c15L;
+		private static final long MULTIPLIER = 0xc2b2ae3d27d4eb4fL;
+
+		private long high = FNV_OFFSET;
+		private long low = SEED;
+
+		/**
+		 * Adds the given value to the signature. The length of the value is hashed too, to separate consecutive
+		 * values.
+		 * 
+		 * @param value
+		 *            the value, may be <code>null</code>
+		 * @return the builder
+		 */
+		SignatureBuilder append(String value) {
+			if (value == null) {
+				return append(-1L);
+			}
+			final int length = value.length();
+			for (int i = 0; i < length; i++) {
+				final char c = value.charAt(i);
+				high = (high ^ c) * FNV_PRIME;
+				low = Long.rotateLeft(low ^ c, 31) * MULTIPLIER;
+			}
+			return append((long) length);
+		}
+
+		/**
+		 * Adds the given signature to the signature.
+		 * 
+		 * @param signature
+		 *            the signature
+		 * @return the builder
+		 */
+		SignatureBuilder append(Signature signature) {
+			append(signature.high);
+			return append(signature.low);
+		}
+
+		/**
+		 * Adds the given number to the signature.
+		 * 
+		 * @param value
+		 *            the number
+		 * @return the builder
+		 */
+		SignatureBuilder append(long value) {
+			high = (high ^ value) * FNV_PRIME;
+			low = Long.rotateLeft(low ^ value, 31) * MULTIPLIER;
+			return this;
+		}
+
+		/**
+		 * Returns the final signature.
+		 * 
+		 * @return the signature
+		 */
+		Signature toSignature() {
+			return new Signature(mix(high), mix(low));
+		}
+
+		/**
+		 * Final avalanche step of the hash functions
+		 * 
+		 * @param h
+		 *            the hash
+		 * @return the mixed hash
+		 */
+		private static long mix(long h) {
+			h ^= h >>> 33;
+			h *= 0xff51afd7ed558ccdL;
+			h ^= h >>> 33;
+			h *= 0xc4ceb9fe1a85ec53L;
+			h ^= h >>> 33;
+			return h;
+		}
+	}
+
+	private static final long ASSOCIATION_SIGNATURE = 1;
+	private static final long ROLE_SIGNATURE = 2;
+	private static final long OCCURRENCE_SIGNATURE = 3;
+	private static final long NAME_SIGNATURE = 4;
+	private static final long VARIANT_SIGNATURE = 5;
+
+	private Map<IConstruct, Signature> signatures = HashUtil.getHashMap();
+	private Map<Signature, Set<IConstruct>> constructs = HashUtil.getHashMap();
+	/**
+	 * flag indicating that the signatures are out of date and have to be calculated again before the next use
+	 */
+	private boolean stale;
 
 	private final InMemoryTopicMapStore topicMapStore;
 
@@ -65,17 +217,15 @@ public class SignatureStore implements ITopicMapListener {
 	 */
 	public SignatureStore(InMemoryTopicMapStore topicMapStore) {
 		this.topicMapStore = topicMapStore;
-		try {
-			digest = MessageDigest.getInstance("SHA-1");
-		} catch (Exception e) {
-			throw new TopicMapStoreException(e);
-		}
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
-	public void topicMapChanged(String id, TopicMapEventType event, Construct notifier, Object newValue, Object oldValue) {
+	public synchronized void topicMapChanged(String id, TopicMapEventType event, Construct notifier, Object newValue, Object oldValue) {
+		if (stale) {
+			return;
+		}
 		/*
 		 * is association creation
 		 */
@@ -245,8 +395,8 @@ public class SignatureStore implements ITopicMapListener {
 	 * @param construct
 	 *            the construct
 	 */
-	private void removeSignature(IConstruct construct) {
-		String oldSignature = signatures.get(construct);
+	private synchronized void removeSignature(IConstruct construct) {
+		Signature oldSignature = signatures.get(construct);
 		/*
 		 * remove old link
 		 */
@@ -269,7 +419,7 @@ public class SignatureStore implements ITopicMapListener {
 	 * @param signature
 	 *            the signature
 	 */
-	private void updateSignature(IConstruct construct, String signature) {
+	private synchronized void updateSignature(IConstruct construct, Signature signature) {
 		removeSignature(construct);
 		signatures.put(construct, signature);
 
@@ -288,7 +438,7 @@ public class SignatureStore implements ITopicMapListener {
 	 *            the association
 	 */
 	private void updateSignature(IAssociation association) {
-		final String signature = toHash(generateSignature(association));
+		final Signature signature = generateSignature(association);
 		updateSignature(association, signature);
 	}
 
@@ -300,7 +450,7 @@ public class SignatureStore implements ITopicMapListener {
 	 */
 	private void updateSignature(IAssociationRole role) {
 		updateSignature(role.getParent());
-		final String signature = toHash(generateSignature(role));
+		final Signature signature = generateSignature(role);
 		updateSignature(role, signature);
 	}
 
@@ -311,7 +461,7 @@ public class SignatureStore implements ITopicMapListener {
 	 *            the name
 	 */
 	private void updateSignature(IName name) {
-		final String signature = toHash(generateSignature(name));
+		final Signature signature = generateSignature(name);
 		updateSignature(name, signature);
 	}
 
@@ -322,7 +472,7 @@ public class SignatureStore implements ITopicMapListener {
 	 *            the occurrence
 	 */
 	private void updateSignature(IOccurrence occurrence) {
-		final String signature = toHash(generateSignature(occurrence));
+		final Signature signature = generateSignature(occurrence);
 		updateSignature(occurrence, signature);
 	}
 
@@ -333,7 +483,7 @@ public class SignatureStore implements ITopicMapListener {
 	 *            the variant
 	 */
 	private void updateSignature(IVariant variant) {
-		final String signature = toHash(generateSignature(variant));
+		final Signature signature = generateSignature(variant);
 		updateSignature(variant, signature);
 	}
 
@@ -344,17 +494,21 @@ public class SignatureStore implements ITopicMapListener {
 	 *            the association
 	 * @return the generated signature
 	 */
-	private String generateSignature(IAssociation association) {
+	private Signature generateSignature(IAssociation association) {
 		final String typeId = getTopicMapStore().getTypedStore().getType(association).getId();
 		final String scopeId = getTopicMapStore().getScopeStore().getScope(association).getId();
-		final Set<String> roleSignatures = HashUtil.getHashSet();
+		final Set<Signature> roleSignatures = HashUtil.getHashSet();
 		for (IAssociationRole role : getTopicMapStore().getAssociationStore().getRoles(association)) {
 			roleSignatures.add(generateSignature(role));
 		}
 
-		List<String> sortedSignatures = new ArrayList<String>(roleSignatures);
+		List<Signature> sortedSignatures = new ArrayList<Signature>(roleSignatures);
 		Collections.sort(sortedSignatures);
-		return MessageFormat.format(ASSOCIATION_SIGNATURE, typeId, sortedSignatures.toString(), scopeId);
+		SignatureBuilder builder = new SignatureBuilder().append(ASSOCIATION_SIGNATURE).append(typeId);
+		for (Signature roleSignature : sortedSignatures) {
+			builder.append(roleSignature);
+		}
+		return builder.append(scopeId).toSignature();
 	}
 
 	/**
@@ -364,10 +518,10 @@ public class SignatureStore implements ITopicMapListener {
 	 *            the role
 	 * @return the generated signature
 	 */
-	private String generateSignature(IAssociationRole role) {
+	private Signature generateSignature(IAssociationRole role) {
 		final String typeId = getTopicMapStore().getTypedStore().getType(role).getId();
 		final String playerId = getTopicMapStore().getAssociationStore().getPlayer(role).getId();
-		return MessageFormat.format(ROLE_SIGNATURE, typeId, playerId);
+		return new SignatureBuilder().append(ROLE_SIGNATURE).append(typeId).append(playerId).toSignature();
 	}
 
 	/**
@@ -377,12 +531,12 @@ public class SignatureStore implements ITopicMapListener {
 	 *            the name
 	 * @return the generated signature
 	 */
-	private String generateSignature(IName name) {
+	private Signature generateSignature(IName name) {
 		final String typeId = getTopicMapStore().getTypedStore().getType(name).getId();
 		final String scopeId = getTopicMapStore().getScopeStore().getScope(name).getId();
 		final String value = getTopicMapStore().getCharacteristicsStore().getValueAsString(name);
 		final String parentId = name.getParent().getId();
-		return MessageFormat.format(NAME_SIGNATURE, parentId, typeId, value, scopeId);
+		return new SignatureBuilder().append(NAME_SIGNATURE).append(parentId).append(typeId).append(value).append(scopeId).toSignature();
 	}
 
 	/**
@@ -392,13 +546,14 @@ public class SignatureStore implements ITopicMapListener {
 	 *            the occurrence
 	 * @return the generated signature
 	 */
-	private String generateSignature(IOccurrence occurrence) {
+	private Signature generateSignature(IOccurrence occurrence) {
 		final String typeId = getTopicMapStore().getTypedStore().getType(occurrence).getId();
 		final String scopeId = getTopicMapStore().getScopeStore().getScope(occurrence).getId();
 		final String value = getTopicMapStore().getCharacteristicsStore().getValueAsString(occurrence);
 		final String datatype = getTopicMapStore().getCharacteristicsStore().getDatatype(occurrence).getReference();
 		final String parentId = occurrence.getParent().getId();
-		return MessageFormat.format(OCCURRENCE_SIGNATURE, parentId, typeId, value, datatype, scopeId);
+		return new SignatureBuilder().append(OCCURRENCE_SIGNATURE).append(parentId).append(typeId).append(value).append(datatype).append(scopeId)
+				.toSignature();
 	}
 
 	/**
@@ -410,12 +565,12 @@ public class SignatureStore implements ITopicMapListener {
 	 *            the variant
 	 * @return the generated signature
 	 */
-	private String generateSignature(IName parent, IVariant variant) {
+	private Signature generateSignature(IName parent, IVariant variant) {
 		final String scopeId = getTopicMapStore().getScopeStore().getScope(variant).getId();
 		final String value = getTopicMapStore().getCharacteristicsStore().getValueAsString(variant);
 		final String datatype = getTopicMapStore().getCharacteristicsStore().getDatatype(variant).getReference();
 		final String parentId = parent.getId();
-		return MessageFormat.format(VARIANT_SIGNATURE, parentId, value, datatype, scopeId);
+		return new SignatureBuilder().append(VARIANT_SIGNATURE).append(parentId).append(value).append(datatype).append(scopeId).toSignature();
 	}
 
 	/**
@@ -425,7 +580,7 @@ public class SignatureStore implements ITopicMapListener {
 	 *            the variant
 	 * @return the generated signature
 	 */
-	private String generateSignature(IVariant variant) {
+	private Signature generateSignature(IVariant variant) {
 		return generateSignature(variant.getParent(), variant);
 	}
 
@@ -453,11 +608,11 @@ public class SignatureStore implements ITopicMapListener {
 			if (removed.contains(name)) {
 				continue;
 			}
-			String signature = signatures.get(name);
+			Signature signature = getSignature(name);
 			if (signature == null) {
 				throw new TopicMapStoreException("Signature is missing!");
 			}
-			Set<IConstruct> set = HashUtil.getHashSet(constructs.get(signature));
+			Set<IConstruct> set = getConstructs(signature);
 			if (set.size() > 1) {
 				for (IConstruct c : set) {
 					/*
@@ -481,11 +636,11 @@ public class SignatureStore implements ITopicMapListener {
 						if (removed.contains(duplicateVariant)) {
 							continue;
 						}
-						String variantSignature = toHash(generateSignature(name, duplicateVariant));
+						Signature variantSignature = generateSignature(name, duplicateVariant);
 						if (variantSignature == null) {
 							throw new TopicMapStoreException("Signature is missing!");
 						}
-						Set<IConstruct> duplicates = constructs.get(variantSignature);
+						Set<IConstruct> duplicates = getConstructs(variantSignature);
 						IVariant variant = null;
 						/*
 						 * copy new variant
@@ -534,11 +689,11 @@ public class SignatureStore implements ITopicMapListener {
 				if (removed.contains(variant)) {
 					continue;
 				}
-				String variantSignature = signatures.get(variant);
+				Signature variantSignature = getSignature(variant);
 				if (variantSignature == null) {
 					throw new TopicMapStoreException("Signature is missing!");
 				}
-				Set<IConstruct> duplicates = HashUtil.getHashSet(constructs.get(variantSignature));
+				Set<IConstruct> duplicates = getConstructs(variantSignature);
 				if (duplicates.size() > 1) {
 					for (IConstruct c2 : duplicates) {
 						if (c2.equals(variant) || removed.contains(c2)) {
@@ -571,11 +726,11 @@ public class SignatureStore implements ITopicMapListener {
 			if (removed.contains(occurrence)) {
 				continue;
 			}
-			String signature = signatures.get(occurrence);
+			Signature signature = getSignature(occurrence);
 			if (signature == null) {
 				throw new TopicMapStoreException("Signature is missing!");
 			}
-			Set<IConstruct> set = HashUtil.getHashSet(constructs.get(signature));
+			Set<IConstruct> set = getConstructs(signature);
 			if (set.size() > 1) {
 				for (IConstruct c : set) {
 					/*
@@ -621,11 +776,11 @@ public class SignatureStore implements ITopicMapListener {
 		if (removed.contains(association)) {
 			return;
 		}
-		String signature = signatures.get(association);
+		Signature signature = getSignature(association);
 		if (signature == null) {
 			throw new TopicMapStoreException("Signature is missing!");
 		}
-		Set<IConstruct> set = HashUtil.getHashSet(constructs.get(signature));
+		Set<IConstruct> set = getConstructs(signature);
 		if (set.size() > 1) {
 			for (IConstruct c : set) {
 				/*
@@ -652,8 +807,8 @@ public class SignatureStore implements ITopicMapListener {
 					/*
 					 * generate signature
 					 */
-					final String sig = toHash(generateSignature(dup));
-					Set<IConstruct> duplicates = HashUtil.getHashSet(constructs.get(sig));
+					final Signature sig = generateSignature(dup);
+					Set<IConstruct> duplicates = getConstructs(sig);
 					/*
 					 * check duplicated roles
 					 */
@@ -693,11 +848,11 @@ public class SignatureStore implements ITopicMapListener {
 			if (removed.contains(r)) {
 				continue;
 			}
-			String roleSignature = signatures.get(r);
+			Signature roleSignature = getSignature(r);
 			if (roleSignature == null) {
 				throw new TopicMapStoreException("Signature is missing!");
 			}
-			Set<IConstruct> duplicates = HashUtil.getHashSet(constructs.get(roleSignature));
+			Set<IConstruct> duplicates = getConstructs(roleSignature);
 			if (duplicates.size() == 1) {
 				continue;
 			}
@@ -730,15 +885,46 @@ public class SignatureStore implements ITopicMapListener {
 	 *            the revision to store changes
 	 */
 	public void removeDuplicates(IRevision revision) {
-		for (ITopic topic : HashUtil.getHashSet(getTopicMapStore().getIdentityStore().getTopics())) {
+		validate();
+		/*
+		 * only the parents of signature groups with more than one member contain duplicates
+		 */
+		Set<ITopic> topics = HashUtil.getHashSet();
+		Set<IAssociation> associations = HashUtil.getHashSet();
+		synchronized (this) {
+			for (Set<IConstruct> group : constructs.values()) {
+				if (group.size() < 2) {
+					continue;
+				}
+				Set<IAssociation> roleParents = HashUtil.getHashSet();
+				for (IConstruct c : group) {
+					if (c instanceof IName || c instanceof IOccurrence) {
+						topics.add((ITopic) c.getParent());
+					} else if (c instanceof IVariant) {
+						topics.add(((IVariant) c).getParent().getParent());
+					} else if (c instanceof IAssociation) {
+						associations.add((IAssociation) c);
+					} else if (c instanceof IAssociationRole) {
+						/*
+						 * roles are only duplicates within the same association
+						 */
+						IAssociation parent = ((IAssociationRole) c).getParent();
+						if (!roleParents.add(parent)) {
+							associations.add(parent);
+						}
+					}
+				}
+			}
+		}
+		for (ITopic topic : topics) {
 			if (topic.isRemoved()) {
 				continue;
 			}
 			internalRemoveDuplicates(topic, revision);
 		}
 		Set<IConstruct> removed = HashUtil.getHashSet();
-		for (IAssociation association : HashUtil.getHashSet(getTopicMapStore().getAssociationStore().getAssociations())) {
-			if (removed.contains(association)) {
+		for (IAssociation association : associations) {
+			if (removed.contains(association) || association.isRemoved()) {
 				continue;
 			}
 			internalRemoveDuplicates(association, removed, revision);
@@ -755,6 +941,7 @@ public class SignatureStore implements ITopicMapListener {
 	 *            the revision to store changes
 	 */
 	public void removeDuplicates(ITopic topic, IRevision revision) {
+		validate();
 		internalRemoveDuplicates(topic, revision);
 		Set<IConstruct> removed = HashUtil.getHashSet();
 		for (IAssociation association : HashUtil.getHashSet(getTopicMapStore().doReadAssociation(topic))) {
@@ -766,14 +953,62 @@ public class SignatureStore implements ITopicMapListener {
 	}
 
 	/**
-	 * Utility method to generate a hash
+	 * Drops all signatures. The signatures are calculated again by the next removal of duplicates. Used if the content
+	 * of the store was modified without notifying the listeners.
+	 */
+	public synchronized void invalidate() {
+		signatures.clear();
+		constructs.clear();
+		stale = true;
+	}
+
+	/**
+	 * Internal method to calculate the signatures of all constructs if they are out of date
+	 */
+	private synchronized void validate() {
+		if (!stale) {
+			return;
+		}
+		stale = false;
+		for (IAssociation association : topicMapStore.getAssociationStore().getAssociations()) {
+			for (IAssociationRole role : topicMapStore.getAssociationStore().getRoles(association)) {
+				updateSignature(role, generateSignature(role));
+			}
+			updateSignature(association);
+		}
+		for (ITopic topic : topicMapStore.getIdentityStore().getTopics()) {
+			for (IName name : topicMapStore.getCharacteristicsStore().getNames(topic)) {
+				updateSignature(name);
+				for (IVariant variant : topicMapStore.getCharacteristicsStore().getVariants(name)) {
+					updateSignature(variant);
+				}
+			}
+			for (IOccurrence occurrence : topicMapStore.getCharacteristicsStore().getOccurrences(topic)) {
+				updateSignature(occurrence);
+			}
+		}
+	}
+
+	/**
+	 * Returns the signature of the given construct.
+	 * 
+	 * @param construct
+	 *            the construct
+	 * @return the signature or <code>null</code>
+	 */
+	private synchronized Signature getSignature(IConstruct construct) {
+		return signatures.get(construct);
+	}
+
+	/**
+	 * Returns a copy of all constructs with the given signature.
 	 * 
-	 * @param string
-	 *            the string
-	 * @return the byte array as hash
+	 * @param signature
+	 *            the signature
+	 * @return the constructs
 	 */
-	private String toHash(final String string) {
-		return new String(digest.digest(string.getBytes()));
+	private synchronized Set<IConstruct> getConstructs(Signature signature) {
+		return HashUtil.getHashSet(constructs.get(signature));
 	}
 
 }
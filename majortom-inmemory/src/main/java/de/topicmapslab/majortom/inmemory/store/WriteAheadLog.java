@@ -0,0 +1,514 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.tmapi.core.Construct;
+import org.tmapi.core.Topic;
+
+import de.topicmapslab.majortom.inmemory.store.internal.SnapshotFormat;
+import de.topicmapslab.majortom.model.core.IConstruct;
+import de.topicmapslab.majortom.model.core.ILocator;
+import de.topicmapslab.majortom.model.core.ITopic;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
+import de.topicmapslab.majortom.model.store.TopicMapStoreParameterType;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Append-only log of the modifications of an {@link InMemoryTopicMapStore} since its last snapshot. Each record
+ * contains one operation of the store with its parameters and the ids generated by the operation, so replaying the
+ * records against the snapshot restores the same constructs with the same ids.
+ * <p>
+ * A record is written as its length, its CRC32 checksum and the operation. The log is forced to disk by a daemon
+ * thread in the configured interval or after each record if the interval is <code>0</code>. A failure of the thread is
+ * thrown by the next append, until the log is reset by a new snapshot. Replaying stops at the first incomplete or
+ * corrupt record, which is the record written during a crash.
+ * </p>
+ *
+ * @author Sven Krosse
+ *
+ */
+public class WriteAheadLog {
+
+	/**
+	 * operation {@link InMemoryTopicMapStore#doCreate(IConstruct, TopicMapStoreParameterType, Object...)}
+	 */
+	public static final byte CREATE = 1;
+	/**
+	 * operation {@link InMemoryTopicMapStore#doModify(IConstruct, TopicMapStoreParameterType, Object...)}
+	 */
+	public static final byte MODIFY = 2;
+	/**
+	 * operation {@link InMemoryTopicMapStore#doRemove(IConstruct, TopicMapStoreParameterType, Object...)}
+	 */
+	public static final byte REMOVE = 3;
+	/**
+	 * operation {@link InMemoryTopicMapStore#doRemove(IConstruct, boolean)}
+	 */
+	public static final byte REMOVE_CONSTRUCT = 4;
+	/**
+	 * operation {@link InMemoryTopicMapStore#doMerge(Construct, Construct...)}
+	 */
+	public static final byte MERGE = 5;
+	/**
+	 * operation {@link InMemoryTopicMapStore#clear()}
+	 */
+	public static final byte CLEAR = 6;
+	/**
+	 * operation {@link InMemoryTopicMapStore#removeDuplicates()}
+	 */
+	public static final byte REMOVE_DUPLICATES = 7;
+
+	/**
+	 * tags of the parameters
+	 */
+	private static final byte NULL = 0;
+	private static final byte STRING = 1;
+	private static final byte LOCATOR = 2;
+	private static final byte CONSTRUCT = 3;
+	private static final byte TOPIC_MAP = 4;
+	private static final byte TOPIC_ARRAY = 5;
+	private static final byte TOPIC_COLLECTION = 6;
+	private static final byte BOOLEAN = 7;
+	private static final byte VALUE = 8;
+
+	/**
+	 * the length of the record header
+	 */
+	private static final int HEADER = 8;
+
+	private final File file;
+	private final long syncInterval;
+	private RandomAccessFile randomAccessFile;
+	private FileChannel channel;
+	private Thread syncThread;
+	/**
+	 * flag indicating that records were written since the last force
+	 */
+	private boolean dirty;
+	/**
+	 * the failure of forcing the log to disk by the sync thread or <code>null</code>
+	 */
+	private IOException syncFailure;
+
+	/**
+	 * constructor
+	 *
+	 * @param file
+	 *            the log file
+	 * @param syncInterval
+	 *            the interval of forcing the log to disk in milliseconds, <code>0</code> to force each record
+	 */
+	public WriteAheadLog(File file, long syncInterval) {
+		this.file = file;
+		this.syncInterval = syncInterval;
+	}
+
+	/**
+	 * Returns the log file
+	 *
+	 * @return the file
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Opens the log to append new records and starts the thread forcing the log to disk.
+	 *
+	 * @throws IOException
+	 *             thrown if the file cannot be opened
+	 */
+	public synchronized void open() throws IOException {
+		if (channel != null) {
+			return;
+		}
+		randomAccessFile = new RandomAccessFile(file, "rw");
+		channel = randomAccessFile.getChannel();
+		channel.position(channel.size());
+		if (syncInterval > 0) {
+			syncThread = new Thread("MaJorToM write-ahead log") {
+				public void run() {
+					while (!isInterrupted()) {
+						try {
+							Thread.sleep(syncInterval);
+							sync();
+						} catch (InterruptedException e) {
+							return;
+						} catch (IOException e) {
+							/*
+							 * the records may be lost, the failure is thrown by the next append
+							 */
+							synchronized (WriteAheadLog.this) {
+								if (syncFailure == null) {
+									syncFailure = e;
+								}
+							}
+						}
+					}
+				}
+			};
+			syncThread.setDaemon(true);
+			syncThread.start();
+		}
+	}
+
+	/**
+	 * Forces all records written since the last call to disk.
+	 *
+	 * @throws IOException
+	 *             thrown if forcing fails
+	 */
+	public synchronized void sync() throws IOException {
+		if (dirty && channel != null) {
+			channel.force(false);
+			dirty = false;
+		}
+	}
+
+	/**
+	 * Appends a record of the given operation.
+	 *
+	 * @param operation
+	 *            the operation
+	 * @param ids
+	 *            the ids generated by the operation
+	 * @param context
+	 *            the context of the operation or <code>null</code>
+	 * @param paramType
+	 *            the parameter type of the operation or <code>null</code>
+	 * @param params
+	 *            the parameters of the operation
+	 * @throws IOException
+	 *             thrown if writing fails or if forcing former records to disk failed
+	 */
+	public void append(byte operation, List<Long> ids, IConstruct context, TopicMapStoreParameterType paramType, Object... params) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(buffer);
+		out.writeInt(0);
+		out.writeInt(0);
+		out.writeByte(operation);
+		SnapshotFormat.writeVarInt(out, ids.size());
+		for (Long id : ids) {
+			SnapshotFormat.writeVarLong(out, id);
+		}
+		writeParameter(out, context);
+		SnapshotFormat.writeString(out, paramType == null ? "" : paramType.name());
+		SnapshotFormat.writeVarInt(out, params == null ? 0 : params.length);
+		if (params != null) {
+			for (Object param : params) {
+				writeParameter(out, param);
+			}
+		}
+		out.flush();
+		ByteBuffer record = ByteBuffer.wrap(buffer.toByteArray());
+		CRC32 crc = new CRC32();
+		crc.update(record.array(), HEADER, record.limit() - HEADER);
+		record.putInt(0, record.limit() - HEADER);
+		record.putInt(4, (int) crc.getValue());
+		synchronized (this) {
+			if (channel == null) {
+				throw new IOException("Write-ahead log is closed.");
+			}
+			if (syncFailure != null) {
+				throw new IOException("Forcing the write-ahead log to disk failed.", syncFailure);
+			}
+			while (record.hasRemaining()) {
+				channel.write(record);
+			}
+			dirty = true;
+			if (syncInterval <= 0) {
+				sync();
+			}
+		}
+	}
+
+	/**
+	 * Removes all records and a former failure of the sync thread, called after a snapshot containing all
+	 * modifications is written.
+	 *
+	 * @throws IOException
+	 *             thrown if truncating fails
+	 */
+	public synchronized void reset() throws IOException {
+		if (channel != null) {
+			channel.truncate(0);
+			channel.position(0);
+			channel.force(false);
+			dirty = false;
+			syncFailure = null;
+		}
+	}
+
+	/**
+	 * Forces all records to disk and closes the log.
+	 *
+	 * @throws IOException
+	 *             thrown if closing fails
+	 */
+	public synchronized void close() throws IOException {
+		if (syncThread != null) {
+			syncThread.interrupt();
+			syncThread = null;
+		}
+		if (channel != null) {
+			sync();
+			randomAccessFile.close();
+			randomAccessFile = null;
+			channel = null;
+		}
+	}
+
+	/**
+	 * Replays all complete records of the log file against the given store. An incomplete or corrupt record and all
+	 * following bytes are removed from the file. The log must not be open.
+	 *
+	 * @param store
+	 *            the store
+	 * @return the number of replayed records
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	public int replay(InMemoryTopicMapStore store) throws IOException {
+		if (!file.exists()) {
+			return 0;
+		}
+		int records = 0;
+		long valid = 0;
+		DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+		try {
+			while (true) {
+				byte[] payload;
+				try {
+					int length = in.readInt();
+					int checksum = in.readInt();
+					if (length < 0 || length > file.length() - valid - HEADER) {
+						break;
+					}
+					payload = new byte[length];
+					in.readFully(payload);
+					CRC32 crc = new CRC32();
+					crc.update(payload);
+					if ((int) crc.getValue() != checksum) {
+						break;
+					}
+				} catch (EOFException e) {
+					break;
+				}
+				redo(store, new DataInputStream(new ByteArrayInputStream(payload)));
+				valid += HEADER + payload.length;
+				records++;
+			}
+		} finally {
+			in.close();
+		}
+		if (valid < file.length()) {
+			RandomAccessFile raf = new RandomAccessFile(file, "rw");
+			try {
+				raf.setLength(valid);
+			} finally {
+				raf.close();
+			}
+		}
+		return records;
+	}
+
+	/**
+	 * Internal method to execute the operation of a record again
+	 *
+	 * @param store
+	 *            the store
+	 * @param in
+	 *            the payload of the record
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	private void redo(InMemoryTopicMapStore store, DataInputStream in) throws IOException {
+		byte operation = in.readByte();
+		int size = SnapshotFormat.readVarInt(in);
+		List<Long> ids = HashUtil.getList();
+		for (int i = 0; i < size; i++) {
+			ids.add(SnapshotFormat.readVarLong(in));
+		}
+		IConstruct context = (IConstruct) readParameter(store, in);
+		String name = SnapshotFormat.readString(in);
+		TopicMapStoreParameterType paramType = name.length() == 0 ? null : TopicMapStoreParameterType.valueOf(name);
+		Object[] params = new Object[SnapshotFormat.readVarInt(in)];
+		for (int i = 0; i < params.length; i++) {
+			params[i] = readParameter(store, in);
+		}
+		store.setReplayedIds(ids);
+		try {
+			switch (operation) {
+				case CREATE:
+					store.doCreate(context, paramType, params);
+					break;
+				case MODIFY:
+					store.doModify(context, paramType, params);
+					break;
+				case REMOVE:
+					store.doRemove(context, paramType, params);
+					break;
+				case REMOVE_CONSTRUCT:
+					store.doRemove(context, (Boolean) params[0]);
+					break;
+				case MERGE: {
+					Construct[] others = new Construct[params.length];
+					System.arraycopy(params, 0, others, 0, params.length);
+					store.doMerge((Construct) context, others);
+					break;
+				}
+				case CLEAR:
+					store.clear();
+					break;
+				case REMOVE_DUPLICATES:
+					store.removeDuplicates();
+					break;
+				default:
+					throw new IOException("Unknown operation " + operation + " in write-ahead log.");
+			}
+		} finally {
+			store.setReplayedIds(null);
+		}
+	}
+
+	/**
+	 * Internal method to write a parameter of an operation
+	 *
+	 * @param out
+	 *            the output
+	 * @param param
+	 *            the parameter
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	private void writeParameter(DataOutputStream out, Object param) throws IOException {
+		if (param == null) {
+			out.writeByte(NULL);
+		} else if (param instanceof String) {
+			out.writeByte(STRING);
+			SnapshotFormat.writeString(out, (String) param);
+		} else if (param instanceof ILocator) {
+			out.writeByte(LOCATOR);
+			SnapshotFormat.writeString(out, ((ILocator) param).getReference());
+		} else if (param instanceof ITopicMap) {
+			out.writeByte(TOPIC_MAP);
+		} else if (param instanceof IConstruct) {
+			out.writeByte(CONSTRUCT);
+			SnapshotFormat.writeString(out, ((IConstruct) param).getId());
+		} else if (param instanceof Topic[]) {
+			Topic[] topics = (Topic[]) param;
+			out.writeByte(TOPIC_ARRAY);
+			SnapshotFormat.writeVarInt(out, topics.length);
+			for (Topic topic : topics) {
+				SnapshotFormat.writeString(out, topic.getId());
+			}
+		} else if (param instanceof Collection<?>) {
+			Collection<?> topics = (Collection<?>) param;
+			out.writeByte(TOPIC_COLLECTION);
+			SnapshotFormat.writeVarInt(out, topics.size());
+			for (Object topic : topics) {
+				SnapshotFormat.writeString(out, ((Topic) topic).getId());
+			}
+		} else if (param instanceof Boolean) {
+			out.writeByte(BOOLEAN);
+			out.writeBoolean((Boolean) param);
+		} else {
+			out.writeByte(VALUE);
+			SnapshotFormat.writeValue(out, param);
+		}
+	}
+
+	/**
+	 * Internal method to read a parameter of an operation
+	 *
+	 * @param store
+	 *            the store to resolve constructs
+	 * @param in
+	 *            the input
+	 * @return the parameter
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	private Object readParameter(InMemoryTopicMapStore store, DataInputStream in) throws IOException {
+		byte tag = in.readByte();
+		switch (tag) {
+			case NULL:
+				return null;
+			case STRING:
+				return SnapshotFormat.readString(in);
+			case LOCATOR:
+				return store.getIdentityStore().createLocator(SnapshotFormat.readString(in));
+			case TOPIC_MAP:
+				return store.getTopicMap();
+			case CONSTRUCT:
+				return resolve(store, SnapshotFormat.readString(in));
+			case TOPIC_ARRAY: {
+				ITopic[] topics = new ITopic[SnapshotFormat.readVarInt(in)];
+				for (int i = 0; i < topics.length; i++) {
+					topics[i] = (ITopic) resolve(store, SnapshotFormat.readString(in));
+				}
+				return topics;
+			}
+			case TOPIC_COLLECTION: {
+				int size = SnapshotFormat.readVarInt(in);
+				List<ITopic> topics = HashUtil.getList();
+				for (int i = 0; i < size; i++) {
+					topics.add((ITopic) resolve(store, SnapshotFormat.readString(in)));
+				}
+				return topics;
+			}
+			case BOOLEAN:
+				return in.readBoolean();
+			case VALUE:
+				return SnapshotFormat.readValue(in, null);
+		}
+		throw new IOException("Unknown parameter tag " + tag + " in write-ahead log.");
+	}
+
+	/**
+	 * Internal method to resolve a construct by its id
+	 *
+	 * @param store
+	 *            the store
+	 * @param id
+	 *            the id
+	 * @return the construct
+	 */
+	private IConstruct resolve(InMemoryTopicMapStore store, String id) {
+		IConstruct construct = store.getIdentityStore().byId(id);
+		if (construct == null) {
+			throw new TopicMapStoreException("The write-ahead log refers to the unknown construct " + id + ", it does not belong to the snapshot.");
+		}
+		return construct;
+	}
+}
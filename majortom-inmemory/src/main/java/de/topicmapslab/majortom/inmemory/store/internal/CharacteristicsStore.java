@@ -15,13 +15,20 @@
  ******************************************************************************/
 package de.topicmapslab.majortom.inmemory.store.internal;
 
+import java.net.URISyntaxException;
+import java.text.ParseException;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.regex.Pattern;
 
+import de.topicmapslab.geotype.wgs84.Wgs84Circuit;
+import de.topicmapslab.geotype.wgs84.Wgs84Coordinate;
 import de.topicmapslab.majortom.inmemory.store.model.IDataStore;
 import de.topicmapslab.majortom.model.core.ICharacteristics;
 import de.topicmapslab.majortom.model.core.IConstruct;
@@ -32,9 +39,11 @@ import de.topicmapslab.majortom.model.core.IOccurrence;
 import de.topicmapslab.majortom.model.core.ITopic;
 import de.topicmapslab.majortom.model.core.IVariant;
 import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
+import de.topicmapslab.majortom.model.namespace.Namespaces;
 import de.topicmapslab.majortom.model.revision.IRevision;
 import de.topicmapslab.majortom.util.DatatypeAwareUtils;
 import de.topicmapslab.majortom.util.HashUtil;
+import de.topicmapslab.majortom.util.NGramIndex;
 
 /**
  * @author Sven Krosse
@@ -87,6 +96,36 @@ public class CharacteristicsStore implements IDataStore {
 	 */
 	private Map<String, Set<IVariant>> variantsByValue;
 
+	/**
+	 * sorted index of all integral and date-time values by the datatype reference
+	 */
+	private Map<String, NavigableMap<Long, Set<IDatatypeAware>>> integralValues;
+
+	/**
+	 * sorted index of all decimal values by the datatype reference
+	 */
+	private Map<String, NavigableMap<Double, Set<IDatatypeAware>>> decimalValues;
+
+	/**
+	 * the datatype reference and key each data-type-aware is stored with in the sorted indexes
+	 */
+	private Map<IDatatypeAware, SortKey> sortKeys;
+
+	/**
+	 * spatial index of all occurrences with the data type tm:geo
+	 */
+	private SpatialIndex<IOccurrence> coordinates;
+
+	/**
+	 * n-gram index of all values of names, occurrences and variants
+	 */
+	private NGramIndex<String> valueGrams;
+
+	/**
+	 * flag indicating that the n-gram index is built by the next regular expression query
+	 */
+	private boolean valueGramsDeferred;
+
 	/**
 	 * the xsd:any locator
 	 */
@@ -137,6 +176,21 @@ public class CharacteristicsStore implements IDataStore {
 		if (variantsByValue != null) {
 			variantsByValue.clear();
 		}
+		if (integralValues != null) {
+			integralValues.clear();
+		}
+		if (decimalValues != null) {
+			decimalValues.clear();
+		}
+		if (sortKeys != null) {
+			sortKeys.clear();
+		}
+		if (coordinates != null) {
+			coordinates.clear();
+		}
+		if (valueGrams != null) {
+			valueGrams.clear();
+		}
 	}
 
 	/**
@@ -238,13 +292,7 @@ public class CharacteristicsStore implements IDataStore {
 	 */
 	public Set<IName> getNamesByValue(final Pattern regExp) {
 		Set<IName> set = HashUtil.getHashSet();
-		if (namesByValue != null) {
-			for (Entry<String, Set<IName>> entry : namesByValue.entrySet()) {
-				if (regExp.matcher(entry.getKey()).matches()) {
-					set.addAll(entry.getValue());
-				}
-			}
-		}
+		addMatches(namesByValue, regExp, set);
 		if (set.isEmpty()) {
 			return Collections.emptySet();
 		}
@@ -318,13 +366,7 @@ public class CharacteristicsStore implements IDataStore {
 	 */
 	public Set<IOccurrence> getOccurrencesByValue(final Pattern regExp) {
 		final Set<IOccurrence> set = HashUtil.getHashSet();
-		if (occurrencesByValue != null) {
-			for (final Entry<String, Set<IOccurrence>> entry : occurrencesByValue.entrySet()) {
-				if (regExp.matcher(entry.getKey()).matches()) {
-					set.addAll(entry.getValue());
-				}
-			}
-		}
+		addMatches(occurrencesByValue, regExp, set);
 		if (set.isEmpty()) {
 			return Collections.emptySet();
 		}
@@ -398,17 +440,124 @@ public class CharacteristicsStore implements IDataStore {
 	 */
 	public Set<IVariant> getVariantsByValue(final Pattern regExp) {
 		Set<IVariant> set = HashUtil.getHashSet();
-		if (variantsByValue != null) {
-			for (Entry<String, Set<IVariant>> entry : variantsByValue.entrySet()) {
+		addMatches(variantsByValue, regExp, set);
+		if (set.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return set;
+	}
+
+	/**
+	 * Internal method to add all constructs of the given value mapping whose value matches the regular expression. The
+	 * values are prefiltered by the n-gram index, only values containing all literals required by the expression are
+	 * matched.
+	 * 
+	 * @param <T>
+	 *            the type of the constructs
+	 * @param byValue
+	 *            the value mapping
+	 * @param regExp
+	 *            the regular expression
+	 * @param set
+	 *            the set to add the matching constructs to
+	 */
+	private <T> void addMatches(Map<String, Set<T>> byValue, Pattern regExp, Set<T> set) {
+		if (byValue == null) {
+			return;
+		}
+		NGramIndex<String> grams = getValueGrams();
+		Set<String> candidates = grams == null ? null : grams.getCandidates(regExp);
+		if (candidates == null) {
+			for (Entry<String, Set<T>> entry : byValue.entrySet()) {
 				if (regExp.matcher(entry.getKey()).matches()) {
 					set.addAll(entry.getValue());
 				}
 			}
+		} else {
+			for (String value : candidates) {
+				Set<T> constructs = byValue.get(value);
+				if (constructs != null && regExp.matcher(value).matches()) {
+					set.addAll(constructs);
+				}
+			}
 		}
-		if (set.isEmpty()) {
-			return Collections.emptySet();
+	}
+
+	/**
+	 * Internal method to add the given value to the n-gram index
+	 * 
+	 * @param value
+	 *            the value
+	 */
+	private void indexValue(String value) {
+		if (valueGramsDeferred) {
+			return;
 		}
-		return set;
+		if (valueGrams == null) {
+			valueGrams = new NGramIndex<String>();
+		}
+		valueGrams.put(value, value);
+	}
+
+	/**
+	 * Disables the maintenance of the n-gram index until the next regular expression query, which builds the index
+	 * once from all stored values. Used to bulk load the store.
+	 */
+	public void deferNGramIndex() {
+		valueGramsDeferred = true;
+		valueGrams = null;
+	}
+
+	/**
+	 * Internal method to get the n-gram index and to build it if it is deferred
+	 * 
+	 * @return the n-gram index or <code>null</code> if there are no values
+	 */
+	private synchronized NGramIndex<String> getValueGrams() {
+		if (valueGramsDeferred) {
+			NGramIndex<String> index = new NGramIndex<String>();
+			indexValues(index, namesByValue);
+			indexValues(index, occurrencesByValue);
+			indexValues(index, variantsByValue);
+			valueGrams = index;
+			valueGramsDeferred = false;
+		}
+		return valueGrams;
+	}
+
+	/**
+	 * Internal method to add all values of the given value mapping to the n-gram index
+	 * 
+	 * @param index
+	 *            the n-gram index
+	 * @param byValue
+	 *            the value mapping
+	 */
+	private static void indexValues(NGramIndex<String> index, Map<String, ?> byValue) {
+		if (byValue == null) {
+			return;
+		}
+		for (String value : byValue.keySet()) {
+			index.put(value, value);
+		}
+	}
+
+	/**
+	 * Internal method to remove the given value from the n-gram index if it is not used by any name, occurrence or
+	 * variant anymore
+	 * 
+	 * @param value
+	 *            the value
+	 */
+	private void unindexValue(String value) {
+		if (valueGrams == null) {
+			return;
+		}
+		if ((namesByValue != null && namesByValue.containsKey(value)) || (occurrencesByValue != null && occurrencesByValue.containsKey(value))
+				|| (variantsByValue != null && variantsByValue.containsKey(value))) {
+			return;
+		}
+		valueGrams.remove(value);
 	}
 
 	/**
@@ -443,6 +592,7 @@ public class CharacteristicsStore implements IDataStore {
 				constructs.remove(n);
 				if (constructs.isEmpty()) {
 					namesByValue.remove(value.toString());
+					unindexValue(value.toString());
 				}
 			}
 		}
@@ -487,9 +637,14 @@ public class CharacteristicsStore implements IDataStore {
 				constructs.remove(o);
 				if (constructs.isEmpty()) {
 					occurrencesByValue.remove(value.toString());
+					unindexValue(value.toString());
 				}
 			}
 		}
+		removeSortKey(o);
+		if (coordinates != null) {
+			coordinates.remove(o);
+		}
 	}
 
 	/**
@@ -541,9 +696,11 @@ public class CharacteristicsStore implements IDataStore {
 				constructs.remove(v);
 				if (constructs.isEmpty()) {
 					variantsByValue.remove(value.toString());
+					unindexValue(value.toString());
 				}
 			}
 		}
+		removeSortKey(v);
 	}
 
 	/**
@@ -666,6 +823,8 @@ public class CharacteristicsStore implements IDataStore {
 			dataTyped.put(dataType, datatypeAwares);
 		}
 		datatypeAwares.add(dataTypeAware);
+		updateSortKey(dataTypeAware);
+		updateCoordinate(dataTypeAware);
 
 		return oldDataType;
 	}
@@ -735,6 +894,10 @@ public class CharacteristicsStore implements IDataStore {
 		} else if (obj instanceof IVariant) {
 			updateReverseValueMapping((IVariant) obj, oldValue == null ? null : oldValue.toString(), value.toString());
 		}
+		if (obj instanceof IDatatypeAware) {
+			updateSortKey((IDatatypeAware) obj);
+			updateCoordinate((IDatatypeAware) obj);
+		}
 
 		return oldValue;
 	}
@@ -764,6 +927,7 @@ public class CharacteristicsStore implements IDataStore {
 			constructs.remove(name);
 			if (constructs.isEmpty()) {
 				namesByValue.remove(oldValue.toString());
+				unindexValue(oldValue);
 			}
 		}
 		/*
@@ -773,6 +937,7 @@ public class CharacteristicsStore implements IDataStore {
 		if (constructs == null) {
 			constructs = HashUtil.getHashSet(initialCapacity);
 			namesByValue.put(value, constructs);
+			indexValue(value);
 		}
 		constructs.add(name);
 	}
@@ -802,6 +967,7 @@ public class CharacteristicsStore implements IDataStore {
 			constructs.remove(occurrence);
 			if (constructs.isEmpty()) {
 				occurrencesByValue.remove(oldValue.toString());
+				unindexValue(oldValue);
 			}
 		}
 		/*
@@ -811,6 +977,7 @@ public class CharacteristicsStore implements IDataStore {
 		if (constructs == null) {
 			constructs = HashUtil.getHashSet(initialCapacity);
 			occurrencesByValue.put(value, constructs);
+			indexValue(value);
 		}
 		constructs.add(occurrence);
 	}
@@ -840,6 +1007,7 @@ public class CharacteristicsStore implements IDataStore {
 			constructs.remove(variant);
 			if (constructs.isEmpty()) {
 				variantsByValue.remove(oldValue.toString());
+				unindexValue(oldValue);
 			}
 		}
 		/*
@@ -849,6 +1017,7 @@ public class CharacteristicsStore implements IDataStore {
 		if (constructs == null) {
 			constructs = HashUtil.getHashSet(initialCapacity);
 			variantsByValue.put(value, constructs);
+			indexValue(value);
 		}
 		constructs.add(variant);
 	}
@@ -895,6 +1064,294 @@ public class CharacteristicsStore implements IDataStore {
 		return dataTyped.get(locator);
 	}
 
+	/**
+	 * Returns all data-typed items with the given integral or date-time data type and a value contained by the given
+	 * range [lower, upper]. Date-time values are compared by their time in milliseconds.
+	 * 
+	 * @param datatype
+	 *            the data type, one of xsd:int, xsd:integer, xsd:long, xsd:dateTime or xsd:date
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @return a set
+	 */
+	public Set<IDatatypeAware> getDatatypeAwaresByRange(ILocator datatype, long lower, long upper) {
+		if (integralValues == null || lower > upper) {
+			return Collections.emptySet();
+		}
+		NavigableMap<Long, Set<IDatatypeAware>> index = integralValues.get(datatype.getReference());
+		if (index == null) {
+			return Collections.emptySet();
+		}
+		Set<IDatatypeAware> set = HashUtil.getHashSet();
+		for (Set<IDatatypeAware> datatypeAwares : index.subMap(lower, true, upper, true).values()) {
+			set.addAll(datatypeAwares);
+		}
+		if (set.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return set;
+	}
+
+	/**
+	 * Returns all data-typed items with the given decimal data type and a value contained by the given range [lower,
+	 * upper].
+	 * 
+	 * @param datatype
+	 *            the data type, one of xsd:float, xsd:double or xsd:decimal
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @return a set
+	 */
+	public Set<IDatatypeAware> getDatatypeAwaresByRange(ILocator datatype, double lower, double upper) {
+		if (decimalValues == null || lower > upper) {
+			return Collections.emptySet();
+		}
+		NavigableMap<Double, Set<IDatatypeAware>> index = decimalValues.get(datatype.getReference());
+		if (index == null) {
+			return Collections.emptySet();
+		}
+		Set<IDatatypeAware> set = HashUtil.getHashSet();
+		for (Set<IDatatypeAware> datatypeAwares : index.subMap(lower, true, upper, true).values()) {
+			set.addAll(datatypeAwares);
+		}
+		if (set.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return set;
+	}
+
+	/**
+	 * Returns all occurrences with the data type tm:geo and a coordinate located within the bounding box spanned by the
+	 * given corners. If the longitude of the south-west corner is greater than the longitude of the north-east corner,
+	 * the box crosses the 180th meridian.
+	 * 
+	 * @param southWest
+	 *            the south-west corner
+	 * @param northEast
+	 *            the north-east corner
+	 * @return a set
+	 */
+	public Set<IOccurrence> getOccurrencesByArea(Wgs84Coordinate southWest, Wgs84Coordinate northEast) {
+		if (coordinates == null) {
+			return Collections.emptySet();
+		}
+		return coordinates.getWithin(southWest, northEast);
+	}
+
+	/**
+	 * Returns all occurrences with the data type tm:geo and a coordinate with a distance to the given center lower or
+	 * equal than the given radius.
+	 * 
+	 * @param center
+	 *            the center
+	 * @param radius
+	 *            the radius in kilometers
+	 * @return a set
+	 */
+	public Set<IOccurrence> getOccurrencesByArea(Wgs84Coordinate center, double radius) {
+		if (coordinates == null) {
+			return Collections.emptySet();
+		}
+		return coordinates.getWithin(center, radius);
+	}
+
+	/**
+	 * Returns all occurrences with the data type tm:geo and a coordinate contained by the given circuit.
+	 * 
+	 * @param area
+	 *            the circuit
+	 * @return a set
+	 */
+	public Set<IOccurrence> getOccurrencesByArea(Wgs84Circuit area) {
+		if (coordinates == null) {
+			return Collections.emptySet();
+		}
+		return coordinates.getWithin(area);
+	}
+
+	/**
+	 * Returns the occurrences with the data type tm:geo and a coordinate nearest to the given one, ordered by their
+	 * distance.
+	 * 
+	 * @param value
+	 *            the coordinate
+	 * @param count
+	 *            the maximum number of occurrences
+	 * @return a list
+	 */
+	public List<IOccurrence> getNearestOccurrences(Wgs84Coordinate value, int count) {
+		if (coordinates == null) {
+			return Collections.emptyList();
+		}
+		return coordinates.getNearest(value, count);
+	}
+
+	/**
+	 * Returns the key the given value is sorted by in the indexes of the given data type. Integral and date-time
+	 * values are sorted by a {@link Long}, decimal values by a {@link Double}.
+	 * 
+	 * @param value
+	 *            the value
+	 * @param reference
+	 *            the reference of the data type
+	 * @return the sort key or <code>null</code> if the data type is not sorted or the value cannot be converted
+	 */
+	protected Object getSortKey(Object value, String reference) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			if (Namespaces.XSD.INT.equals(reference) || Namespaces.XSD.INTEGER.equals(reference) || Namespaces.XSD.LONG.equals(reference)) {
+				return (Long) DatatypeAwareUtils.toValue(value, Long.class);
+			} else if (Namespaces.XSD.DATETIME.equals(reference) || Namespaces.XSD.DATE.equals(reference)) {
+				return ((Calendar) DatatypeAwareUtils.toValue(value, Calendar.class)).getTimeInMillis();
+			} else if (Namespaces.XSD.FLOAT.equals(reference)) {
+				return ((Float) DatatypeAwareUtils.toValue(value, Float.class)).doubleValue();
+			} else if (Namespaces.XSD.DOUBLE.equals(reference) || Namespaces.XSD.DECIMAL.equals(reference)) {
+				return (Double) DatatypeAwareUtils.toValue(value, Double.class);
+			}
+		} catch (IllegalArgumentException e) {
+			// VALUE IS NOT SORTED
+		} catch (ParseException e) {
+			// VALUE IS NOT SORTED
+		} catch (URISyntaxException e) {
+			// VALUE IS NOT SORTED
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the coordinate represented by the given value of the given data type.
+	 * 
+	 * @param value
+	 *            the value
+	 * @param reference
+	 *            the reference of the data type
+	 * @return the coordinate or <code>null</code> if the data type is not tm:geo or the value cannot be converted
+	 */
+	protected Wgs84Coordinate getCoordinate(Object value, String reference) {
+		if (value == null || !Namespaces.XSD.WGS84_COORDINATE.equals(reference)) {
+			return null;
+		}
+		try {
+			return (Wgs84Coordinate) DatatypeAwareUtils.toValue(value, Wgs84Coordinate.class);
+		} catch (IllegalArgumentException e) {
+			// VALUE IS NOT A COORDINATE
+		} catch (ParseException e) {
+			// VALUE IS NOT A COORDINATE
+		} catch (URISyntaxException e) {
+			// VALUE IS NOT A COORDINATE
+		}
+		return null;
+	}
+
+	/**
+	 * Internal method to update the sorted indexes after the value or the data type of the given data-type-aware was
+	 * modified
+	 * 
+	 * @param dataTypeAware
+	 *            the data-type-aware
+	 */
+	private void updateSortKey(IDatatypeAware dataTypeAware) {
+		removeSortKey(dataTypeAware);
+		if (values == null || !values.containsKey(dataTypeAware) || dataTypes == null || !dataTypes.containsKey(dataTypeAware)) {
+			return;
+		}
+		String reference = dataTypes.get(dataTypeAware).getReference();
+		Object key = getSortKey(values.get(dataTypeAware), reference);
+		if (key == null) {
+			return;
+		}
+		if (sortKeys == null) {
+			sortKeys = HashUtil.getHashMap();
+		}
+		sortKeys.put(dataTypeAware, new SortKey(reference, key));
+		Set<IDatatypeAware> set;
+		if (key instanceof Long) {
+			if (integralValues == null) {
+				integralValues = HashUtil.getHashMap();
+			}
+			NavigableMap<Long, Set<IDatatypeAware>> index = integralValues.get(reference);
+			if (index == null) {
+				index = new TreeMap<Long, Set<IDatatypeAware>>();
+				integralValues.put(reference, index);
+			}
+			set = index.get(key);
+			if (set == null) {
+				set = HashUtil.getHashSet();
+				index.put((Long) key, set);
+			}
+		} else {
+			if (decimalValues == null) {
+				decimalValues = HashUtil.getHashMap();
+			}
+			NavigableMap<Double, Set<IDatatypeAware>> index = decimalValues.get(reference);
+			if (index == null) {
+				index = new TreeMap<Double, Set<IDatatypeAware>>();
+				decimalValues.put(reference, index);
+			}
+			set = index.get(key);
+			if (set == null) {
+				set = HashUtil.getHashSet();
+				index.put((Double) key, set);
+			}
+		}
+		set.add(dataTypeAware);
+	}
+
+	/**
+	 * Internal method to remove the given data-type-aware from the sorted indexes
+	 * 
+	 * @param dataTypeAware
+	 *            the data-type-aware
+	 */
+	private void removeSortKey(IDatatypeAware dataTypeAware) {
+		if (sortKeys == null) {
+			return;
+		}
+		SortKey sortKey = sortKeys.remove(dataTypeAware);
+		if (sortKey == null) {
+			return;
+		}
+		Map<?, Set<IDatatypeAware>> index = sortKey.key instanceof Long ? integralValues.get(sortKey.reference) : decimalValues.get(sortKey.reference);
+		Set<IDatatypeAware> set = index.get(sortKey.key);
+		set.remove(dataTypeAware);
+		if (set.isEmpty()) {
+			index.remove(sortKey.key);
+		}
+	}
+
+	/**
+	 * Internal method to update the spatial index after the value or the data type of the given data-type-aware was
+	 * modified
+	 * 
+	 * @param dataTypeAware
+	 *            the data-type-aware
+	 */
+	private void updateCoordinate(IDatatypeAware dataTypeAware) {
+		if (!(dataTypeAware instanceof IOccurrence)) {
+			return;
+		}
+		if (coordinates != null) {
+			coordinates.remove((IOccurrence) dataTypeAware);
+		}
+		if (values == null || !values.containsKey(dataTypeAware) || dataTypes == null || !dataTypes.containsKey(dataTypeAware)) {
+			return;
+		}
+		Wgs84Coordinate coordinate = getCoordinate(values.get(dataTypeAware), dataTypes.get(dataTypeAware).getReference());
+		if (coordinate == null) {
+			return;
+		}
+		if (coordinates == null) {
+			coordinates = new SpatialIndex<IOccurrence>();
+		}
+		coordinates.put((IOccurrence) dataTypeAware, coordinate);
+	}
+
 	/**
 	 * Checks if the store contains any locator of the given {@link IDatatypeAware}.
 	 * 
@@ -948,4 +1405,26 @@ public class CharacteristicsStore implements IDataStore {
 	protected Map<String, Set<IVariant>> getVariantsByValueMap() {
 		return variantsByValue;
 	}
+
+	/**
+	 * The datatype reference and the key a data-type-aware is stored with in the sorted indexes
+	 */
+	private static final class SortKey {
+
+		private final String reference;
+		private final Object key;
+
+		/**
+		 * constructor
+		 * 
+		 * @param reference
+		 *            the datatype reference
+		 * @param key
+		 *            the sort key
+		 */
+		SortKey(String reference, Object key) {
+			this.reference = reference;
+			this.key = key;
+		}
+	}
 }
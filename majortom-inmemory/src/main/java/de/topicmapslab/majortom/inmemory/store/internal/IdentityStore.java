@@ -18,8 +18,8 @@ package de.topicmapslab.majortom.inmemory.store.internal;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 
-import de.topicmapslab.majortom.core.LocatorImpl;
 import de.topicmapslab.majortom.inmemory.store.InMemoryTopicMapStore;
 import de.topicmapslab.majortom.inmemory.store.model.IDataStore;
 import de.topicmapslab.majortom.model.core.IConstruct;
@@ -29,6 +29,8 @@ import de.topicmapslab.majortom.model.event.TopicMapEventType;
 import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
 import de.topicmapslab.majortom.model.revision.IRevision;
 import de.topicmapslab.majortom.util.HashUtil;
+import de.topicmapslab.majortom.util.LocatorPool;
+import de.topicmapslab.majortom.util.NGramIndex;
 
 /**
  * Base implementation of a store object containing all identity informations
@@ -83,6 +85,21 @@ public class IdentityStore implements IDataStore {
 	 */
 	private Set<ITopic> topics;
 
+	/**
+	 * the pool of canonical locators
+	 */
+	private final LocatorPool locators;
+
+	/**
+	 * n-gram index of the references of all identifiers
+	 */
+	private NGramIndex<ILocator> identifierGrams;
+
+	/**
+	 * flag indicating that the n-gram index is built by the next regular expression query
+	 */
+	private boolean identifierGramsDeferred;
+
 	/**
 	 * the parent store
 	 */
@@ -99,6 +116,7 @@ public class IdentityStore implements IDataStore {
 	public IdentityStore(final InMemoryTopicMapStore store, final int capacity) {
 		this.store = store;
 		this.capacity = capacity;
+		this.locators = new LocatorPool(capacity);
 	}
 
 	/**
@@ -129,6 +147,10 @@ public class IdentityStore implements IDataStore {
 		if (topics != null) {
 			topics.clear();
 		}
+		locators.clear();
+		if (identifierGrams != null) {
+			identifierGrams.clear();
+		}
 	}
 
 	/**
@@ -263,6 +285,7 @@ public class IdentityStore implements IDataStore {
 			itemIdentifiers = HashUtil.getHashMap();
 		}
 		this.itemIdentifiers.put(identifier, c);
+		indexIdentifier(identifier);
 
 		/*
 		 * store backward relation
@@ -291,6 +314,7 @@ public class IdentityStore implements IDataStore {
 			subjectIdentifiers = HashUtil.getHashMap(capacity);
 		}
 		this.subjectIdentifiers.put(identifier, t);
+		indexIdentifier(identifier);
 
 		/*
 		 * store backward relation
@@ -319,6 +343,7 @@ public class IdentityStore implements IDataStore {
 			subjectLocators = HashUtil.getHashMap();
 		}
 		this.subjectLocators.put(locator, t);
+		indexIdentifier(locator);
 
 		/*
 		 * store backward relation
@@ -362,6 +387,7 @@ public class IdentityStore implements IDataStore {
 			return;
 		}
 		this.itemIdentifiers.remove(identifier);
+		unindexIdentifier(identifier);
 
 		/*
 		 * remove backward relation
@@ -385,6 +411,7 @@ public class IdentityStore implements IDataStore {
 			return;
 		}
 		this.subjectIdentifiers.remove(identifier);
+		unindexIdentifier(identifier);
 
 		/*
 		 * remove backward relation
@@ -408,6 +435,7 @@ public class IdentityStore implements IDataStore {
 			return;
 		}
 		this.subjectLocators.remove(identifier);
+		unindexIdentifier(identifier);
 
 		/*
 		 * remove backward relation
@@ -434,6 +462,7 @@ public class IdentityStore implements IDataStore {
 			if (constructItemIdentitiers != null && constructItemIdentitiers.containsKey(c)) {
 				for (ILocator l : constructItemIdentitiers.get(c)) {
 					itemIdentifiers.remove(l);
+					unindexIdentifier(l);
 				}
 				constructItemIdentitiers.remove(c);
 			}
@@ -457,6 +486,7 @@ public class IdentityStore implements IDataStore {
 		if (constructItemIdentitiers != null && constructItemIdentitiers.containsKey(t)) {
 			for (ILocator l : constructItemIdentitiers.get(t)) {
 				itemIdentifiers.remove(l);
+				unindexIdentifier(l);
 			}
 			constructItemIdentitiers.remove(t);
 		}
@@ -466,6 +496,7 @@ public class IdentityStore implements IDataStore {
 		if (topicSubjectIdentifiers != null && topicSubjectIdentifiers.containsKey(t)) {
 			for (ILocator l : topicSubjectIdentifiers.get(t)) {
 				subjectIdentifiers.remove(l);
+				unindexIdentifier(l);
 			}
 			topicSubjectIdentifiers.remove(t);
 		}
@@ -475,6 +506,7 @@ public class IdentityStore implements IDataStore {
 		if (topicSubjectLocators != null && topicSubjectLocators.containsKey(t)) {
 			for (ILocator l : topicSubjectLocators.get(t)) {
 				subjectLocators.remove(l);
+				unindexIdentifier(l);
 			}
 			topicSubjectLocators.remove(t);
 		}
@@ -500,14 +532,7 @@ public class IdentityStore implements IDataStore {
 	 * @return the locator
 	 */
 	public ILocator createLocator(String reference) {
-		// if (locators == null) {
-		// locators = HashUtil.getHashMap(CAPACITY);
-		// } else if (locators.containsKey(reference)) {
-		// return locators.get(reference);
-		// }
-		// ILocator l = new LocatorImpl(reference);
-		// locators.put(reference, l);
-		return new LocatorImpl(reference);
+		return locators.getLocator(reference);
 	}
 
 	/**
@@ -640,6 +665,130 @@ public class IdentityStore implements IDataStore {
 		return subjectLocators.keySet();
 	}
 
+	/**
+	 * Return all internal stored item-identifiers matching the given regular expression.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @return the matching item-identifiers
+	 */
+	public Set<ILocator> getItemIdentifiers(Pattern regExp) {
+		Set<ILocator> set = HashUtil.getHashSet();
+		for (ILocator locator : getIdentifierCandidates(regExp, getItemIdentifiers())) {
+			if (containsItemIdentifier(locator) && regExp.matcher(locator.getReference()).matches()) {
+				set.add(locator);
+			}
+		}
+		return set;
+	}
+
+	/**
+	 * Return all internal stored subject-identifiers matching the given regular expression.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @return the matching subject-identifiers
+	 */
+	public Set<ILocator> getSubjectIdentifiers(Pattern regExp) {
+		Set<ILocator> set = HashUtil.getHashSet();
+		for (ILocator locator : getIdentifierCandidates(regExp, getSubjectIdentifiers())) {
+			if (containsSubjectIdentifier(locator) && regExp.matcher(locator.getReference()).matches()) {
+				set.add(locator);
+			}
+		}
+		return set;
+	}
+
+	/**
+	 * Return all internal stored subject-locators matching the given regular expression.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @return the matching subject-locators
+	 */
+	public Set<ILocator> getSubjectLocators(Pattern regExp) {
+		Set<ILocator> set = HashUtil.getHashSet();
+		for (ILocator locator : getIdentifierCandidates(regExp, getSubjectLocators())) {
+			if (containsSubjectLocator(locator) && regExp.matcher(locator.getReference()).matches()) {
+				set.add(locator);
+			}
+		}
+		return set;
+	}
+
+	/**
+	 * Internal method to prefilter the identifiers by the n-gram index
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param identifiers
+	 *            all identifiers of the requested kind, used if the expression does not require any n-gram
+	 * @return the candidates
+	 */
+	private Set<ILocator> getIdentifierCandidates(Pattern regExp, Set<ILocator> identifiers) {
+		NGramIndex<ILocator> grams = getIdentifierGrams();
+		Set<ILocator> candidates = grams == null ? null : grams.getCandidates(regExp);
+		if (candidates == null || candidates.size() > identifiers.size()) {
+			return identifiers;
+		}
+		return candidates;
+	}
+
+	/**
+	 * Disables the maintenance of the n-gram index until the next regular expression query, which builds the index
+	 * once from all stored identifiers. Used to bulk load the store.
+	 */
+	public void deferNGramIndex() {
+		identifierGramsDeferred = true;
+		identifierGrams = null;
+	}
+
+	/**
+	 * Internal method to get the n-gram index and to build it if it is deferred
+	 * 
+	 * @return the n-gram index or <code>null</code> if there are no identifiers
+	 */
+	private synchronized NGramIndex<ILocator> getIdentifierGrams() {
+		if (identifierGramsDeferred) {
+			NGramIndex<ILocator> index = new NGramIndex<ILocator>();
+			for (ILocator locator : getIdentifiers()) {
+				index.put(locator, locator.getReference());
+			}
+			identifierGrams = index;
+			identifierGramsDeferred = false;
+		}
+		return identifierGrams;
+	}
+
+	/**
+	 * Internal method to add the given identifier to the n-gram index
+	 * 
+	 * @param locator
+	 *            the identifier
+	 */
+	private void indexIdentifier(ILocator locator) {
+		if (identifierGramsDeferred) {
+			return;
+		}
+		if (identifierGrams == null) {
+			identifierGrams = new NGramIndex<ILocator>();
+		}
+		identifierGrams.put(locator, locator.getReference());
+	}
+
+	/**
+	 * Internal method to remove the given identifier from the n-gram index if it is not used as any identifier
+	 * anymore
+	 * 
+	 * @param locator
+	 *            the identifier
+	 */
+	private void unindexIdentifier(ILocator locator) {
+		if (identifierGrams != null && !containsIdentifier(locator)) {
+			identifierGrams.remove(locator);
+		}
+	}
+
 	/**
 	 * Checks if the given locator is used as identifier.
 	 * 
@@ -18,6 +18,8 @@ package de.topicmapslab.majortom.inmemory.store.internal;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -51,6 +53,10 @@ public class ScopeStore implements IDataStore {
 	 * storage map of scope-themes mapping
 	 */
 	private Map<IScope, Set<ITopic>> scopes;
+	/**
+	 * storage map of theme-scopes relation, the inverted index of the scope-themes mapping
+	 */
+	private Map<ITopic, Set<IScope>> themeScopes;
 	/**
 	 * storage map of scope-name relation
 	 */
@@ -124,6 +130,9 @@ public class ScopeStore implements IDataStore {
 		if (scopes != null) {
 			scopes.clear();
 		}
+		if (themeScopes != null) {
+			themeScopes.clear();
+		}
 		if (scopedNames != null) {
 			scopedNames.clear();
 		}
@@ -168,26 +177,93 @@ public class ScopeStore implements IDataStore {
 	 *            the themes
 	 * @return the scope instance
 	 */
-	public IScope getScope(Collection<ITopic> themes) {
+	public synchronized IScope getScope(Collection<ITopic> themes) {
 		if (themes == null || themes.isEmpty()) {
 			return emptyScope;
 		}
-		if (scopes == null) {
-			scopes = HashUtil.getHashMap();
+		/*
+		 * only scopes of the theme with the smallest posting list are candidates
+		 */
+		Set<IScope> candidates = null;
+		if (themeScopes != null) {
+			for (ITopic theme : themes) {
+				Set<IScope> set = themeScopes.get(theme);
+				if (set == null) {
+					candidates = null;
+					break;
+				}
+				if (candidates == null || set.size() < candidates.size()) {
+					candidates = set;
+				}
+			}
 		}
-		for (Entry<IScope, Set<ITopic>> entry : scopes.entrySet()) {
-			if (entry.getValue().size() == themes.size() && entry.getValue().containsAll(themes)) {
-				return entry.getKey();
+		if (candidates != null) {
+			for (IScope candidate : candidates) {
+				Set<ITopic> set = scopes.get(candidate);
+				if (set != null && set.size() == themes.size() && set.containsAll(themes)) {
+					return candidate;
+				}
 			}
 		}
 
 		Set<ITopic> set = HashUtil.getHashSet();
 		set.addAll(themes);
 		IScope scope = new ScopeImpl(set);
-		scopes.put(scope, set);
+		putScope(scope, set);
 		return scope;
 	}
 
+	/**
+	 * Stores the given scope and adds it to the posting lists of its themes.
+	 * 
+	 * @param scope
+	 *            the scope
+	 * @param themes
+	 *            the themes of the scope
+	 */
+	protected synchronized void putScope(IScope scope, Set<ITopic> themes) {
+		if (scopes == null) {
+			scopes = HashUtil.getHashMap();
+		}
+		if (themeScopes == null) {
+			themeScopes = HashUtil.getHashMap();
+		}
+		scopes.put(scope, themes);
+		for (ITopic theme : themes) {
+			Set<IScope> set = themeScopes.get(theme);
+			if (set == null) {
+				set = HashUtil.getHashSet();
+				themeScopes.put(theme, set);
+			}
+			set.add(scope);
+		}
+	}
+
+	/**
+	 * Removes the given scope and removes it from the posting lists of its themes.
+	 * 
+	 * @param scope
+	 *            the scope
+	 */
+	protected synchronized void removeScope(IScope scope) {
+		if (scopes == null) {
+			return;
+		}
+		Set<ITopic> themes = scopes.remove(scope);
+		if (themes == null || themeScopes == null) {
+			return;
+		}
+		for (ITopic theme : themes) {
+			Set<IScope> set = themeScopes.get(theme);
+			if (set != null) {
+				set.remove(scope);
+				if (set.isEmpty()) {
+					themeScopes.remove(theme);
+				}
+			}
+		}
+	}
+
 	/**
 	 * Returns all scoped items of the given scope.
 	 * 
@@ -675,9 +751,7 @@ public class ScopeStore implements IDataStore {
 			/*
 			 * remove scope
 			 */
-			if (scopes != null) {
-				scopes.remove(scope);
-			}
+			removeScope(scope);
 		}
 		if (removed.isEmpty()) {
 			return Collections.emptySet();
@@ -741,20 +815,70 @@ public class ScopeStore implements IDataStore {
 	 * @return a collection of all themes
 	 */
 	public Set<IScope> getScopes(ITopic theme) {
-		Set<IScope> set = HashUtil.getHashSet();
-		if (scopes != null) {
-			synchronized (scopes) {
-				for (IScope s : scopes.keySet()) {
-					if (s instanceof ScopeImpl && s.containsTheme(theme)) {
-						set.add(s);
-					}
+		if (themeScopes == null) {
+			return Collections.emptySet();
+		}
+		Set<IScope> set = themeScopes.get(theme);
+		if (set == null || set.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return HashUtil.getHashSet(set);
+	}
+
+	/**
+	 * Return all scopes containing all or at least one of the given themes. The result is the intersection or the
+	 * union of the posting lists of the themes.
+	 * 
+	 * @param themes
+	 *            the themes
+	 * @param matchAll
+	 *            <code>true</code> if the scopes has to contain all themes, <code>false</code> if one theme is
+	 *            sufficient
+	 * @return a collection of all scopes
+	 */
+	public Set<IScope> getScopes(Collection<? extends ITopic> themes, boolean matchAll) {
+		Set<IScope> result = null;
+		if (matchAll) {
+			/*
+			 * intersect posting lists starting with the smallest one
+			 */
+			List<Set<IScope>> postings = HashUtil.getList();
+			for (ITopic theme : themes) {
+				Set<IScope> set = getScopes(theme);
+				if (set.isEmpty()) {
+					return Collections.emptySet();
+				}
+				postings.add(set);
+			}
+			Collections.sort(postings, new Comparator<Set<IScope>>() {
+				public int compare(Set<IScope> o1, Set<IScope> o2) {
+					return o1.size() - o2.size();
+				}
+			});
+			for (Set<IScope> set : postings) {
+				if (result == null) {
+					result = HashUtil.getHashSet(set);
+				} else {
+					result.retainAll(set);
+				}
+				if (result.isEmpty()) {
+					return Collections.emptySet();
+				}
+			}
+		} else {
+			for (ITopic theme : themes) {
+				Set<IScope> set = getScopes(theme);
+				if (result == null) {
+					result = HashUtil.getHashSet(set);
+				} else {
+					result.addAll(set);
 				}
 			}
 		}
-		if (set.isEmpty()) {
+		if (result == null || result.isEmpty()) {
 			return Collections.emptySet();
 		}
-		return set;
+		return result;
 	}
 
 	/**
@@ -0,0 +1,348 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store.internal;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.tmapi.core.Locator;
+
+import de.topicmapslab.majortom.core.LocatorImpl;
+import de.topicmapslab.majortom.util.DatatypeAwareUtils;
+
+/**
+ * Constants and encoding methods of the binary snapshot format of the in-memory store. Counts and references are
+ * written as variable-length integers, strings as their byte length followed by the UTF-8 bytes and values as a tag
+ * byte followed by the value.
+ *
+ * @author Sven Krosse
+ *
+ */
+public final class SnapshotFormat {
+
+	/**
+	 * the first bytes of each snapshot ( "MTSN" )
+	 */
+	public static final int MAGIC = 0x4D54534E;
+	/**
+	 * the version of the format
+	 */
+	public static final int VERSION = 1;
+	/**
+	 * the last bytes of each complete snapshot ( "END!" )
+	 */
+	public static final int END = 0x454E4421;
+	/**
+	 * the maximum number of strings of the dictionary encoded within one block
+	 */
+	public static final int BLOCK_SIZE = 8192;
+	/**
+	 * the charset of all strings
+	 */
+	public static final Charset UTF8 = Charset.forName("UTF-8");
+
+	/**
+	 * tag of a <code>null</code> value
+	 */
+	public static final byte NULL = 0;
+	/**
+	 * tag of a string value written inline
+	 */
+	public static final byte STRING = 1;
+	/**
+	 * tag of a string value written as reference to the dictionary of the snapshot
+	 */
+	public static final byte STRING_REFERENCE = 2;
+	/**
+	 * tag of an integer value
+	 */
+	public static final byte INTEGER = 3;
+	/**
+	 * tag of a long value
+	 */
+	public static final byte LONG = 4;
+	/**
+	 * tag of a float value
+	 */
+	public static final byte FLOAT = 5;
+	/**
+	 * tag of a double value
+	 */
+	public static final byte DOUBLE = 6;
+	/**
+	 * tag of a big integer value
+	 */
+	public static final byte BIG_INTEGER = 7;
+	/**
+	 * tag of a big decimal value
+	 */
+	public static final byte BIG_DECIMAL = 8;
+	/**
+	 * tag of a boolean value
+	 */
+	public static final byte BOOLEAN = 9;
+	/**
+	 * tag of a calendar value
+	 */
+	public static final byte CALENDAR = 10;
+	/**
+	 * tag of a locator value
+	 */
+	public static final byte LOCATOR = 11;
+	/**
+	 * tag of any other value, written as class name and string literal
+	 */
+	public static final byte LITERAL = 12;
+
+	/**
+	 * hidden constructor
+	 */
+	private SnapshotFormat() {
+		// NOTHING TO DO
+	}
+
+	/**
+	 * Writes the given non-negative integer using 7 bits per byte.
+	 *
+	 * @param out
+	 *            the output
+	 * @param value
+	 *            the value
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	public static void writeVarInt(DataOutput out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+
+	/**
+	 * Reads an integer written by {@link #writeVarInt(DataOutput, int)}.
+	 *
+	 * @param in
+	 *            the input
+	 * @return the value
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	public static int readVarInt(DataInput in) throws IOException {
+		int value = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = in.readByte();
+			value |= (b & 0x7F) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+		return value;
+	}
+
+	/**
+	 * Writes the given long using 7 bits per byte. Negative values are zig-zag encoded, to keep the random ids of the
+	 * store short independent of their sign.
+	 *
+	 * @param out
+	 *            the output
+	 * @param value
+	 *            the value
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	public static void writeVarLong(DataOutput out, long value) throws IOException {
+		long v = (value << 1) ^ (value >> 63);
+		while ((v & ~0x7FL) != 0) {
+			out.writeByte((int) ((v & 0x7F) | 0x80));
+			v >>>= 7;
+		}
+		out.writeByte((int) v);
+	}
+
+	/**
+	 * Reads a long written by {@link #writeVarLong(DataOutput, long)}.
+	 *
+	 * @param in
+	 *            the input
+	 * @return the value
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	public static long readVarLong(DataInput in) throws IOException {
+		long v = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = in.readByte();
+			v |= (long) (b & 0x7F) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+		return (v >>> 1) ^ -(v & 1);
+	}
+
+	/**
+	 * Writes the given string as length of its UTF-8 bytes followed by the bytes. In contrast to
+	 * {@link DataOutput#writeUTF(String)} the length of the string is not limited.
+	 *
+	 * @param out
+	 *            the output
+	 * @param value
+	 *            the string
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	public static void writeString(DataOutput out, String value) throws IOException {
+		byte[] bytes = value.getBytes(UTF8);
+		writeVarInt(out, bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Reads a string written by {@link #writeString(DataOutput, String)}.
+	 *
+	 * @param in
+	 *            the input
+	 * @return the string
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	public static String readString(DataInput in) throws IOException {
+		byte[] bytes = new byte[readVarInt(in)];
+		in.readFully(bytes);
+		return new String(bytes, UTF8);
+	}
+
+	/**
+	 * Writes the given value of a name, occurrence or variant. Strings are written inline.
+	 *
+	 * @param out
+	 *            the output
+	 * @param value
+	 *            the value
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	public static void writeValue(DataOutput out, Object value) throws IOException {
+		if (value == null) {
+			out.writeByte(NULL);
+		} else if (value instanceof String) {
+			out.writeByte(STRING);
+			writeString(out, (String) value);
+		} else if (value instanceof Integer) {
+			out.writeByte(INTEGER);
+			out.writeInt((Integer) value);
+		} else if (value instanceof Long) {
+			out.writeByte(LONG);
+			out.writeLong((Long) value);
+		} else if (value instanceof Float) {
+			out.writeByte(FLOAT);
+			out.writeFloat((Float) value);
+		} else if (value instanceof Double) {
+			out.writeByte(DOUBLE);
+			out.writeDouble((Double) value);
+		} else if (value instanceof BigInteger) {
+			out.writeByte(BIG_INTEGER);
+			writeString(out, value.toString());
+		} else if (value instanceof BigDecimal) {
+			out.writeByte(BIG_DECIMAL);
+			writeString(out, value.toString());
+		} else if (value instanceof Boolean) {
+			out.writeByte(BOOLEAN);
+			out.writeBoolean((Boolean) value);
+		} else if (value instanceof Calendar) {
+			Calendar calendar = (Calendar) value;
+			out.writeByte(CALENDAR);
+			out.writeLong(calendar.getTimeInMillis());
+			writeString(out, calendar.getTimeZone().getID());
+		} else if (value instanceof Locator) {
+			out.writeByte(LOCATOR);
+			writeString(out, ((Locator) value).getReference());
+		} else {
+			out.writeByte(LITERAL);
+			writeString(out, value.getClass().getName());
+			writeString(out, value.toString());
+		}
+	}
+
+	/**
+	 * Reads a value written by {@link #writeValue(DataOutput, Object)} or as reference to the given dictionary.
+	 *
+	 * @param in
+	 *            the input
+	 * @param dictionary
+	 *            the dictionary of the snapshot or <code>null</code> if the value cannot be a reference
+	 * @return the value
+	 * @throws IOException
+	 *             thrown if reading fails or the tag is unknown
+	 */
+	public static Object readValue(DataInput in, String[] dictionary) throws IOException {
+		byte tag = in.readByte();
+		switch (tag) {
+			case NULL:
+				return null;
+			case STRING:
+				return readString(in);
+			case STRING_REFERENCE: {
+				if (dictionary == null) {
+					throw new IOException("Unexpected reference to the string dictionary.");
+				}
+				return dictionary[readVarInt(in)];
+			}
+			case INTEGER:
+				return in.readInt();
+			case LONG:
+				return in.readLong();
+			case FLOAT:
+				return in.readFloat();
+			case DOUBLE:
+				return in.readDouble();
+			case BIG_INTEGER:
+				return new BigInteger(readString(in));
+			case BIG_DECIMAL:
+				return new BigDecimal(readString(in));
+			case BOOLEAN:
+				return in.readBoolean();
+			case CALENDAR: {
+				long time = in.readLong();
+				Calendar calendar = Calendar.getInstance(TimeZone.getTimeZone(readString(in)));
+				calendar.setTimeInMillis(time);
+				return calendar;
+			}
+			case LOCATOR:
+				return new LocatorImpl(readString(in));
+			case LITERAL: {
+				String className = readString(in);
+				String literal = readString(in);
+				try {
+					return DatatypeAwareUtils.toValue(literal, Class.forName(className));
+				} catch (Exception e) {
+					/*
+					 * keep the literal if the class is unknown or cannot parse it
+					 */
+					return literal;
+				}
+			}
+		}
+		throw new IOException("Unknown value tag " + tag + ".");
+	}
+}
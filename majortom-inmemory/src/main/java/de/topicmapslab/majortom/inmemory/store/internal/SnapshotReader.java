@@ -0,0 +1,494 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import de.topicmapslab.majortom.inmemory.store.InMemoryIdentity;
+import de.topicmapslab.majortom.inmemory.store.InMemoryTopicMapStore;
+import de.topicmapslab.majortom.model.core.IAssociation;
+import de.topicmapslab.majortom.model.core.IAssociationRole;
+import de.topicmapslab.majortom.model.core.IConstruct;
+import de.topicmapslab.majortom.model.core.IConstructFactory;
+import de.topicmapslab.majortom.model.core.ILocator;
+import de.topicmapslab.majortom.model.core.IName;
+import de.topicmapslab.majortom.model.core.IOccurrence;
+import de.topicmapslab.majortom.model.core.IReifiable;
+import de.topicmapslab.majortom.model.core.IScope;
+import de.topicmapslab.majortom.model.core.ITopic;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.core.IVariant;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Reader of a binary snapshot written by the {@link SnapshotWriter}. The snapshot is read as a stream and the
+ * internal data stores are filled directly, without creating revisions or notifying listeners. The blocks of the
+ * string dictionary are decoded by the given executor while the topics, scopes, associations and roles are restored.
+ * The n-gram indexes of the identifiers and values are built by the first query using them.
+ * <p>
+ * The store has to be empty.
+ * </p>
+ *
+ * @author Sven Krosse
+ *
+ */
+public class SnapshotReader {
+
+	private final InMemoryTopicMapStore store;
+	private final ExecutorService executor;
+
+	/**
+	 * all constructs by their number
+	 */
+	private IConstruct[] constructs;
+	private int count;
+	/**
+	 * the string dictionary and the locators created from its entries
+	 */
+	private String[] dictionary;
+	private ILocator[] locators;
+	/**
+	 * the decoding tasks of the dictionary blocks
+	 */
+	private final List<Future<?>> tasks = HashUtil.getList();
+
+	/**
+	 * constructor
+	 *
+	 * @param store
+	 *            the store to fill
+	 * @param executor
+	 *            the executor decoding the string dictionary or <code>null</code> to decode within the reading thread
+	 */
+	public SnapshotReader(InMemoryTopicMapStore store, ExecutorService executor) {
+		this.store = store;
+		this.executor = executor;
+	}
+
+	/**
+	 * Reads the snapshot from the given input and restores its content.
+	 *
+	 * @param in
+	 *            the input
+	 * @return the id of the topic map stored in the snapshot
+	 * @throws IOException
+	 *             thrown if reading fails or the input is not a complete snapshot
+	 */
+	public long read(DataInputStream in) throws IOException {
+		if (in.readInt() != SnapshotFormat.MAGIC) {
+			throw new IOException("Input is not a snapshot of an in-memory topic map store.");
+		}
+		int version = in.readInt();
+		if (version != SnapshotFormat.VERSION) {
+			throw new IOException("Unsupported snapshot version " + version + ".");
+		}
+		store.getIdentityStore().deferNGramIndex();
+		store.getCharacteristicsStore().deferNGramIndex();
+
+		final long topicMapId = SnapshotFormat.readVarLong(in);
+		final int topics = SnapshotFormat.readVarInt(in);
+		final int associations = SnapshotFormat.readVarInt(in);
+		final int roles = SnapshotFormat.readVarInt(in);
+		final int names = SnapshotFormat.readVarInt(in);
+		final int occurrences = SnapshotFormat.readVarInt(in);
+		final int variants = SnapshotFormat.readVarInt(in);
+		constructs = new IConstruct[topics + associations + roles + names + occurrences + variants];
+
+		readDictionary(in);
+		readTopics(in, topics);
+		IScope[] scopes = readScopes(in);
+		readAssociations(in, associations, scopes);
+		readRoles(in, roles);
+		/*
+		 * the following sections use the dictionary
+		 */
+		awaitDictionary();
+		readNames(in, names, scopes);
+		readOccurrences(in, occurrences, scopes);
+		readVariants(in, variants, scopes);
+		readIdentifiers(in);
+		readTypes(in);
+		readReification(in);
+		if (in.readInt() != SnapshotFormat.END) {
+			throw new IOException("Snapshot is incomplete.");
+		}
+		store.getTopicTypeStore().invalidateClosure();
+		return topicMapId;
+	}
+
+	/**
+	 * Internal method to read the blocks of the string dictionary and to start their decoding
+	 *
+	 * @param in
+	 *            the input
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	private void readDictionary(DataInput in) throws IOException {
+		final int size = SnapshotFormat.readVarInt(in);
+		dictionary = new String[size];
+		locators = new ILocator[size];
+		for (int offset = 0; offset < size;) {
+			final byte[] bytes = new byte[in.readInt()];
+			final int length = in.readInt();
+			in.readFully(bytes);
+			final int start = offset;
+			Callable<Object> task = new Callable<Object>() {
+				public Object call() throws Exception {
+					DataInputStream block = new DataInputStream(new ByteArrayInputStream(bytes));
+					for (int i = start; i < start + length; i++) {
+						dictionary[i] = SnapshotFormat.readString(block);
+					}
+					return null;
+				}
+			};
+			if (executor == null) {
+				try {
+					task.call();
+				} catch (Exception e) {
+					throw new IOException("Decoding of the string dictionary failed.", e);
+				}
+			} else {
+				tasks.add(executor.submit(task));
+			}
+			offset += length;
+		}
+	}
+
+	/**
+	 * Internal method to wait until all blocks of the dictionary are decoded
+	 *
+	 * @throws IOException
+	 *             thrown if decoding fails
+	 */
+	private void awaitDictionary() throws IOException {
+		try {
+			for (Future<?> task : tasks) {
+				task.get();
+			}
+		} catch (ExecutionException e) {
+			throw new IOException("Decoding of the string dictionary failed.", e.getCause());
+		} catch (InterruptedException e) {
+			throw new IOException("Decoding of the string dictionary was interrupted.", e);
+		}
+	}
+
+	/**
+	 * Internal method to read the topics
+	 *
+	 * @param in
+	 *            the input
+	 * @param size
+	 *            the number of topics
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	private void readTopics(DataInput in, int size) throws IOException {
+		IConstructFactory factory = store.getConstructFactory();
+		ITopicMap topicMap = store.getTopicMap();
+		for (int i = 0; i < size; i++) {
+			long id = SnapshotFormat.readVarLong(in);
+			ITopic topic = factory.newTopic(new InMemoryIdentity(id), topicMap);
+			store.getIdentityStore().setId(topic, Long.toString(id));
+			constructs[count++] = topic;
+		}
+	}
+
+	/**
+	 * Internal method to read the scopes
+	 *
+	 * @param in
+	 *            the input
+	 * @return the scopes by their number
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	private IScope[] readScopes(DataInput in) throws IOException {
+		IScope[] scopes = new IScope[SnapshotFormat.readVarInt(in)];
+		for (int i = 0; i < scopes.length; i++) {
+			int size = SnapshotFormat.readVarInt(in);
+			List<ITopic> themes = HashUtil.getList();
+			for (int j = 0; j < size; j++) {
+				themes.add((ITopic) readReference(in));
+			}
+			scopes[i] = store.getScopeStore().getScope(themes);
+		}
+		return scopes;
+	}
+
+	/**
+	 * Internal method to read the associations
+	 *
+	 * @param in
+	 *            the input
+	 * @param size
+	 *            the number of associations
+	 * @param scopes
+	 *            the scopes
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	private void readAssociations(DataInput in, int size, IScope[] scopes) throws IOException {
+		IConstructFactory factory = store.getConstructFactory();
+		ITopicMap topicMap = store.getTopicMap();
+		for (int i = 0; i < size; i++) {
+			long id = SnapshotFormat.readVarLong(in);
+			IAssociation association = factory.newAssociation(new InMemoryIdentity(id), topicMap);
+			store.getIdentityStore().setId(association, Long.toString(id));
+			store.getAssociationStore().addAssociation(association);
+			store.getTypedStore().setType(association, (ITopic) readReference(in));
+			store.getScopeStore().setScope(association, scopes[SnapshotFormat.readVarInt(in)]);
+			constructs[count++] = association;
+		}
+	}
+
+	/**
+	 * Internal method to read the roles
+	 *
+	 * @param in
+	 *            the input
+	 * @param size
+	 *            the number of roles
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	private void readRoles(DataInput in, int size) throws IOException {
+		IConstructFactory factory = store.getConstructFactory();
+		for (int i = 0; i < size; i++) {
+			long id = SnapshotFormat.readVarLong(in);
+			IAssociation association = (IAssociation) readReference(in);
+			IAssociationRole role = factory.newAssociationRole(new InMemoryIdentity(id), association);
+			store.getIdentityStore().setId(role, Long.toString(id));
+			store.getTypedStore().setType(role, (ITopic) readReference(in));
+			store.getAssociationStore().addRole(association, role, (ITopic) readReference(in));
+			constructs[count++] = role;
+		}
+	}
+
+	/**
+	 * Internal method to read the names
+	 *
+	 * @param in
+	 *            the input
+	 * @param size
+	 *            the number of names
+	 * @param scopes
+	 *            the scopes
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	private void readNames(DataInput in, int size, IScope[] scopes) throws IOException {
+		IConstructFactory factory = store.getConstructFactory();
+		for (int i = 0; i < size; i++) {
+			long id = SnapshotFormat.readVarLong(in);
+			ITopic topic = (ITopic) readReference(in);
+			IName name = factory.newName(new InMemoryIdentity(id), topic);
+			store.getIdentityStore().setId(name, Long.toString(id));
+			store.getCharacteristicsStore().addName(topic, name);
+			store.getTypedStore().setType(name, (ITopic) readReference(in));
+			store.getScopeStore().setScope(name, scopes[SnapshotFormat.readVarInt(in)]);
+			store.getCharacteristicsStore().setValue(name, SnapshotFormat.readValue(in, dictionary));
+			constructs[count++] = name;
+		}
+	}
+
+	/**
+	 * Internal method to read the occurrences
+	 *
+	 * @param in
+	 *            the input
+	 * @param size
+	 *            the number of occurrences
+	 * @param scopes
+	 *            the scopes
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	private void readOccurrences(DataInput in, int size, IScope[] scopes) throws IOException {
+		IConstructFactory factory = store.getConstructFactory();
+		for (int i = 0; i < size; i++) {
+			long id = SnapshotFormat.readVarLong(in);
+			ITopic topic = (ITopic) readReference(in);
+			IOccurrence occurrence = factory.newOccurrence(new InMemoryIdentity(id), topic);
+			store.getIdentityStore().setId(occurrence, Long.toString(id));
+			store.getCharacteristicsStore().addOccurrence(topic, occurrence);
+			store.getTypedStore().setType(occurrence, (ITopic) readReference(in));
+			store.getScopeStore().setScope(occurrence, scopes[SnapshotFormat.readVarInt(in)]);
+			ILocator datatype = readLocator(in);
+			store.getCharacteristicsStore().setValue(occurrence, SnapshotFormat.readValue(in, dictionary));
+			store.getCharacteristicsStore().setDatatype(occurrence, datatype);
+			constructs[count++] = occurrence;
+		}
+	}
+
+	/**
+	 * Internal method to read the variants
+	 *
+	 * @param in
+	 *            the input
+	 * @param size
+	 *            the number of variants
+	 * @param scopes
+	 *            the scopes
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	private void readVariants(DataInput in, int size, IScope[] scopes) throws IOException {
+		IConstructFactory factory = store.getConstructFactory();
+		for (int i = 0; i < size; i++) {
+			long id = SnapshotFormat.readVarLong(in);
+			IName name = (IName) readReference(in);
+			IVariant variant = factory.newVariant(new InMemoryIdentity(id), name);
+			store.getIdentityStore().setId(variant, Long.toString(id));
+			store.getCharacteristicsStore().addVariant(name, variant);
+			store.getScopeStore().setScope(variant, scopes[SnapshotFormat.readVarInt(in)]);
+			ILocator datatype = readLocator(in);
+			store.getCharacteristicsStore().setValue(variant, SnapshotFormat.readValue(in, dictionary));
+			store.getCharacteristicsStore().setDatatype(variant, datatype);
+			constructs[count++] = variant;
+		}
+	}
+
+	/**
+	 * Internal method to read the item identifiers, subject identifiers and subject locators
+	 *
+	 * @param in
+	 *            the input
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	private void readIdentifiers(DataInput in) throws IOException {
+		IdentityStore identityStore = store.getIdentityStore();
+		int size = SnapshotFormat.readVarInt(in);
+		for (int i = 0; i < size; i++) {
+			IConstruct construct = readReference(in);
+			int locators = SnapshotFormat.readVarInt(in);
+			for (int j = 0; j < locators; j++) {
+				identityStore.addItemIdentifer(construct, readLocator(in));
+			}
+		}
+		size = SnapshotFormat.readVarInt(in);
+		for (int i = 0; i < size; i++) {
+			ITopic topic = (ITopic) readReference(in);
+			int locators = SnapshotFormat.readVarInt(in);
+			for (int j = 0; j < locators; j++) {
+				identityStore.addSubjectIdentifier(topic, readLocator(in));
+			}
+		}
+		size = SnapshotFormat.readVarInt(in);
+		for (int i = 0; i < size; i++) {
+			ITopic topic = (ITopic) readReference(in);
+			int locators = SnapshotFormat.readVarInt(in);
+			for (int j = 0; j < locators; j++) {
+				identityStore.addSubjectLocator(topic, readLocator(in));
+			}
+		}
+	}
+
+	/**
+	 * Internal method to read the direct types and supertypes of the topics
+	 *
+	 * @param in
+	 *            the input
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	private void readTypes(DataInput in) throws IOException {
+		TopicTypeStore topicTypeStore = store.getTopicTypeStore();
+		int size = SnapshotFormat.readVarInt(in);
+		for (int i = 0; i < size; i++) {
+			ITopic instance = (ITopic) readReference(in);
+			int types = SnapshotFormat.readVarInt(in);
+			for (int j = 0; j < types; j++) {
+				topicTypeStore.addType(instance, (ITopic) readReference(in));
+			}
+		}
+		size = SnapshotFormat.readVarInt(in);
+		for (int i = 0; i < size; i++) {
+			ITopic type = (ITopic) readReference(in);
+			int supertypes = SnapshotFormat.readVarInt(in);
+			for (int j = 0; j < supertypes; j++) {
+				topicTypeStore.addSupertype(type, (ITopic) readReference(in));
+			}
+		}
+	}
+
+	/**
+	 * Internal method to read the reifications
+	 *
+	 * @param in
+	 *            the input
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	private void readReification(DataInput in) throws IOException {
+		int size = SnapshotFormat.readVarInt(in);
+		for (int i = 0; i < size; i++) {
+			IReifiable reifiable = (IReifiable) readReference(in);
+			store.getReificationStore().setReifier(reifiable, (ITopic) readReference(in));
+		}
+	}
+
+	/**
+	 * Internal method to read a reference to a construct
+	 *
+	 * @param in
+	 *            the input
+	 * @return the construct, the topic map or <code>null</code>
+	 * @throws IOException
+	 *             thrown if reading fails or the construct is unknown
+	 */
+	private IConstruct readReference(DataInput in) throws IOException {
+		int reference = SnapshotFormat.readVarInt(in);
+		if (reference == SnapshotWriter.NULL_REFERENCE) {
+			return null;
+		} else if (reference == SnapshotWriter.TOPIC_MAP_REFERENCE) {
+			return store.getTopicMap();
+		}
+		int number = reference - SnapshotWriter.REFERENCE_OFFSET;
+		if (number >= count) {
+			throw new IOException("Snapshot contains a reference to an unknown construct.");
+		}
+		return constructs[number];
+	}
+
+	/**
+	 * Internal method to read a locator as reference to the dictionary
+	 *
+	 * @param in
+	 *            the input
+	 * @return the locator
+	 * @throws IOException
+	 *             thrown if reading fails
+	 */
+	private ILocator readLocator(DataInput in) throws IOException {
+		int index = SnapshotFormat.readVarInt(in);
+		ILocator locator = locators[index];
+		if (locator == null) {
+			locator = store.getIdentityStore().createLocator(dictionary[index]);
+			locators[index] = locator;
+		}
+		return locator;
+	}
+}
@@ -0,0 +1,550 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import de.topicmapslab.majortom.inmemory.store.InMemoryTopicMapStore;
+import de.topicmapslab.majortom.model.core.IAssociation;
+import de.topicmapslab.majortom.model.core.IAssociationRole;
+import de.topicmapslab.majortom.model.core.IConstruct;
+import de.topicmapslab.majortom.model.core.IDatatypeAware;
+import de.topicmapslab.majortom.model.core.ILocator;
+import de.topicmapslab.majortom.model.core.IName;
+import de.topicmapslab.majortom.model.core.IOccurrence;
+import de.topicmapslab.majortom.model.core.IScope;
+import de.topicmapslab.majortom.model.core.ITopic;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.core.IVariant;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Writer of the binary snapshot of the internal data stores of an {@link InMemoryTopicMapStore}. All constructs are
+ * numbered in the order topics, associations, roles, names, occurrences and variants and referenced by their number.
+ * Locators and string values are collected in a dictionary written once at the beginning of the snapshot, so each
+ * identifier, data type and repeated value is only stored once.
+ * <p>
+ * The store must not be modified while the snapshot is written.
+ * </p>
+ *
+ * @author Sven Krosse
+ *
+ */
+public class SnapshotWriter {
+
+	/**
+	 * reference to <code>null</code>
+	 */
+	static final int NULL_REFERENCE = 0;
+	/**
+	 * reference to the topic map itself
+	 */
+	static final int TOPIC_MAP_REFERENCE = 1;
+	/**
+	 * offset of the construct numbers within a reference
+	 */
+	static final int REFERENCE_OFFSET = 2;
+
+	private final InMemoryTopicMapStore store;
+
+	private final List<IAssociation> associations = HashUtil.getList();
+	private final List<IAssociationRole> roles = HashUtil.getList();
+	private final List<ITopic> topics = HashUtil.getList();
+	private final List<IName> names = HashUtil.getList();
+	private final List<IOccurrence> occurrences = HashUtil.getList();
+	private final List<IVariant> variants = HashUtil.getList();
+
+	/**
+	 * the number of each construct
+	 */
+	private final Map<IConstruct, Integer> numbers = HashUtil.getHashMap();
+	/**
+	 * the number of each scope
+	 */
+	private final Map<IScope, Integer> scopes = HashUtil.getHashMap();
+	private final List<IScope> scopeList = HashUtil.getList();
+	/**
+	 * the index of each string within the dictionary
+	 */
+	private final Map<String, Integer> dictionary = HashUtil.getHashMap();
+	private final List<String> strings = HashUtil.getList();
+
+	/**
+	 * constructor
+	 *
+	 * @param store
+	 *            the store to write
+	 */
+	public SnapshotWriter(InMemoryTopicMapStore store) {
+		this.store = store;
+	}
+
+	/**
+	 * Writes the snapshot of the store to the given output.
+	 *
+	 * @param out
+	 *            the output
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	public void write(DataOutputStream out) throws IOException {
+		collect();
+		out.writeInt(SnapshotFormat.MAGIC);
+		out.writeInt(SnapshotFormat.VERSION);
+		SnapshotFormat.writeVarLong(out, store.getTopicMapIdentity().longId());
+		SnapshotFormat.writeVarInt(out, topics.size());
+		SnapshotFormat.writeVarInt(out, associations.size());
+		SnapshotFormat.writeVarInt(out, roles.size());
+		SnapshotFormat.writeVarInt(out, names.size());
+		SnapshotFormat.writeVarInt(out, occurrences.size());
+		SnapshotFormat.writeVarInt(out, variants.size());
+		writeDictionary(out);
+		for (ITopic topic : topics) {
+			writeId(out, topic);
+		}
+		writeScopes(out);
+		writeConstructs(out);
+		writeIdentifiers(out);
+		writeTypes(out);
+		writeReification(out);
+		out.writeInt(SnapshotFormat.END);
+		out.flush();
+	}
+
+	/**
+	 * Internal method to number all constructs and scopes and to build the dictionary
+	 */
+	private void collect() {
+		CharacteristicsStore characteristicsStore = store.getCharacteristicsStore();
+		for (ITopic topic : store.getIdentityStore().getTopics()) {
+			number(topic, topics);
+		}
+		for (IAssociation association : store.getAssociationStore().getAssociations()) {
+			number(association, associations);
+			scope(store.getScopeStore().getScope(association));
+		}
+		for (IAssociation association : associations) {
+			for (IAssociationRole role : store.getAssociationStore().getRoles(association)) {
+				number(role, roles);
+			}
+		}
+		for (ITopic topic : topics) {
+			for (IName name : characteristicsStore.getNames(topic)) {
+				number(name, names);
+				scope(store.getScopeStore().getScope(name));
+				string(characteristicsStore.getValuesMap().get(name));
+			}
+		}
+		for (ITopic topic : topics) {
+			for (IOccurrence occurrence : characteristicsStore.getOccurrences(topic)) {
+				number(occurrence, occurrences);
+				scope(store.getScopeStore().getScope(occurrence));
+				string(characteristicsStore.getDatatype(occurrence).getReference());
+				string(characteristicsStore.getValuesMap().get(occurrence));
+			}
+		}
+		for (IName name : names) {
+			for (IVariant variant : characteristicsStore.getVariants(name)) {
+				number(variant, variants);
+				scope(getOwnScope(variant));
+				string(characteristicsStore.getDatatype(variant).getReference());
+				string(characteristicsStore.getValuesMap().get(variant));
+			}
+		}
+		IdentityStore identityStore = store.getIdentityStore();
+		collectLocators(identityStore.getConstructItemIdentitiersMap());
+		collectLocators(identityStore.getTopicSubjectIdentifiersMap());
+		collectLocators(identityStore.getTopicSubjectLocatorsMap());
+	}
+
+	/**
+	 * Internal method to assign the next number to the given construct
+	 *
+	 * @param <T>
+	 *            the type of the construct
+	 * @param construct
+	 *            the construct
+	 * @param list
+	 *            the list of the constructs of the same kind
+	 */
+	private <T extends IConstruct> void number(T construct, List<T> list) {
+		numbers.put(construct, numbers.size());
+		list.add(construct);
+	}
+
+	/**
+	 * Internal method to assign the next number to the given scope if it is unknown
+	 *
+	 * @param scope
+	 *            the scope
+	 */
+	private void scope(IScope scope) {
+		if (!scopes.containsKey(scope)) {
+			scopes.put(scope, scopeList.size());
+			scopeList.add(scope);
+		}
+	}
+
+	/**
+	 * Internal method to add the given value to the dictionary if it is a string
+	 *
+	 * @param value
+	 *            the value
+	 */
+	private void string(Object value) {
+		if (value instanceof String && !dictionary.containsKey(value)) {
+			dictionary.put((String) value, strings.size());
+			strings.add((String) value);
+		}
+	}
+
+	/**
+	 * Internal method to add all locators of the given identifier mapping to the dictionary
+	 *
+	 * @param map
+	 *            the mapping
+	 */
+	private void collectLocators(Map<? extends IConstruct, Set<ILocator>> map) {
+		if (map == null) {
+			return;
+		}
+		for (Set<ILocator> locators : map.values()) {
+			for (ILocator locator : locators) {
+				string(locator.getReference());
+			}
+		}
+	}
+
+	/**
+	 * Returns the scope stored for the given variant without the themes of the parent name
+	 *
+	 * @param variant
+	 *            the variant
+	 * @return the scope
+	 */
+	private IScope getOwnScope(IVariant variant) {
+		Map<IVariant, IScope> map = store.getScopeStore().getVariantScopesMap();
+		IScope scope = map == null ? null : map.get(variant);
+		return scope == null ? store.getScopeStore().getEmptyScope() : scope;
+	}
+
+	/**
+	 * Internal method to write the dictionary. The strings are split into blocks prefixed with their length in bytes,
+	 * so the reader can decode the blocks in parallel.
+	 *
+	 * @param out
+	 *            the output
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	private void writeDictionary(DataOutputStream out) throws IOException {
+		SnapshotFormat.writeVarInt(out, strings.size());
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		DataOutputStream block = new DataOutputStream(buffer);
+		for (int offset = 0; offset < strings.size(); offset += SnapshotFormat.BLOCK_SIZE) {
+			int end = Math.min(strings.size(), offset + SnapshotFormat.BLOCK_SIZE);
+			buffer.reset();
+			for (int i = offset; i < end; i++) {
+				SnapshotFormat.writeString(block, strings.get(i));
+			}
+			block.flush();
+			out.writeInt(buffer.size());
+			out.writeInt(end - offset);
+			buffer.writeTo(out);
+		}
+	}
+
+	/**
+	 * Internal method to write all scopes as lists of their themes
+	 *
+	 * @param out
+	 *            the output
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	private void writeScopes(DataOutput out) throws IOException {
+		SnapshotFormat.writeVarInt(out, scopeList.size());
+		for (IScope scope : scopeList) {
+			writeReferences(out, scope.getThemes());
+		}
+	}
+
+	/**
+	 * Internal method to write all constructs except topics with their parent, type, scope and value
+	 *
+	 * @param out
+	 *            the output
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	private void writeConstructs(DataOutput out) throws IOException {
+		TypedStore typedStore = store.getTypedStore();
+		ScopeStore scopeStore = store.getScopeStore();
+		for (IAssociation association : associations) {
+			writeId(out, association);
+			writeReference(out, typedStore.getType(association));
+			SnapshotFormat.writeVarInt(out, scopes.get(scopeStore.getScope(association)));
+		}
+		for (IAssociationRole role : roles) {
+			writeId(out, role);
+			writeReference(out, role.getParent());
+			writeReference(out, typedStore.getType(role));
+			writeReference(out, store.getAssociationStore().getPlayer(role));
+		}
+		for (IName name : names) {
+			writeId(out, name);
+			writeReference(out, name.getParent());
+			writeReference(out, typedStore.getType(name));
+			SnapshotFormat.writeVarInt(out, scopes.get(scopeStore.getScope(name)));
+			writeValue(out, name);
+		}
+		for (IOccurrence occurrence : occurrences) {
+			writeId(out, occurrence);
+			writeReference(out, occurrence.getParent());
+			writeReference(out, typedStore.getType(occurrence));
+			SnapshotFormat.writeVarInt(out, scopes.get(scopeStore.getScope(occurrence)));
+			writeDatatype(out, occurrence);
+			writeValue(out, occurrence);
+		}
+		for (IVariant variant : variants) {
+			writeId(out, variant);
+			writeReference(out, variant.getParent());
+			SnapshotFormat.writeVarInt(out, scopes.get(getOwnScope(variant)));
+			writeDatatype(out, variant);
+			writeValue(out, variant);
+		}
+	}
+
+	/**
+	 * Internal method to write the item identifiers, subject identifiers and subject locators
+	 *
+	 * @param out
+	 *            the output
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	private void writeIdentifiers(DataOutput out) throws IOException {
+		IdentityStore identityStore = store.getIdentityStore();
+		writeLocators(out, identityStore.getConstructItemIdentitiersMap());
+		writeLocators(out, identityStore.getTopicSubjectIdentifiersMap());
+		writeLocators(out, identityStore.getTopicSubjectLocatorsMap());
+	}
+
+	/**
+	 * Internal method to write the direct types and supertypes of all topics. Types only derived from type-instance or
+	 * supertype-subtype associations are not part of these mappings and restored with the associations.
+	 *
+	 * @param out
+	 *            the output
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	private void writeTypes(DataOutput out) throws IOException {
+		writeTopicMapping(out, store.getTopicTypeStore().getTypesMap());
+		writeTopicMapping(out, store.getTopicTypeStore().getSupertypesMap());
+	}
+
+	/**
+	 * Internal method to write all reifications
+	 *
+	 * @param out
+	 *            the output
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	private void writeReification(DataOutput out) throws IOException {
+		Map<?, ?> reification = store.getReificationStore().getReificationMap();
+		if (reification == null) {
+			SnapshotFormat.writeVarInt(out, 0);
+			return;
+		}
+		List<Entry<?, ?>> entries = HashUtil.getList();
+		for (Entry<?, ?> entry : reification.entrySet()) {
+			if (isKnown((IConstruct) entry.getKey()) && isKnown((IConstruct) entry.getValue())) {
+				entries.add(entry);
+			}
+		}
+		SnapshotFormat.writeVarInt(out, entries.size());
+		for (Entry<?, ?> entry : entries) {
+			writeReference(out, (IConstruct) entry.getValue());
+			writeReference(out, (IConstruct) entry.getKey());
+		}
+	}
+
+	/**
+	 * Internal method to write the given construct-locators mapping
+	 *
+	 * @param out
+	 *            the output
+	 * @param map
+	 *            the mapping
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	private void writeLocators(DataOutput out, Map<? extends IConstruct, Set<ILocator>> map) throws IOException {
+		if (map == null) {
+			SnapshotFormat.writeVarInt(out, 0);
+			return;
+		}
+		List<Entry<? extends IConstruct, Set<ILocator>>> entries = HashUtil.getList();
+		for (Entry<? extends IConstruct, Set<ILocator>> entry : map.entrySet()) {
+			if (isKnown(entry.getKey())) {
+				entries.add(entry);
+			}
+		}
+		SnapshotFormat.writeVarInt(out, entries.size());
+		for (Entry<? extends IConstruct, Set<ILocator>> entry : entries) {
+			writeReference(out, entry.getKey());
+			SnapshotFormat.writeVarInt(out, entry.getValue().size());
+			for (ILocator locator : entry.getValue()) {
+				SnapshotFormat.writeVarInt(out, dictionary.get(locator.getReference()));
+			}
+		}
+	}
+
+	/**
+	 * Internal method to write the given topic-topics mapping
+	 *
+	 * @param out
+	 *            the output
+	 * @param map
+	 *            the mapping
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	private void writeTopicMapping(DataOutput out, Map<ITopic, Set<ITopic>> map) throws IOException {
+		if (map == null) {
+			SnapshotFormat.writeVarInt(out, 0);
+			return;
+		}
+		List<Entry<ITopic, Set<ITopic>>> entries = HashUtil.getList();
+		for (Entry<ITopic, Set<ITopic>> entry : map.entrySet()) {
+			if (isKnown(entry.getKey())) {
+				entries.add(entry);
+			}
+		}
+		SnapshotFormat.writeVarInt(out, entries.size());
+		for (Entry<ITopic, Set<ITopic>> entry : entries) {
+			writeReference(out, entry.getKey());
+			writeReferences(out, entry.getValue());
+		}
+	}
+
+	/**
+	 * Checks if the given construct is the topic map or one of the numbered constructs. Mappings of other constructs
+	 * are not written.
+	 *
+	 * @param construct
+	 *            the construct
+	 * @return <code>true</code> if the construct can be referenced, <code>false</code> otherwise
+	 */
+	private boolean isKnown(IConstruct construct) {
+		return construct instanceof ITopicMap || numbers.containsKey(construct);
+	}
+
+	/**
+	 * Internal method to write the id of the given construct
+	 *
+	 * @param out
+	 *            the output
+	 * @param construct
+	 *            the construct
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	private void writeId(DataOutput out, IConstruct construct) throws IOException {
+		SnapshotFormat.writeVarLong(out, Long.parseLong(construct.getId()));
+	}
+
+	/**
+	 * Internal method to write the reference to the given construct
+	 *
+	 * @param out
+	 *            the output
+	 * @param construct
+	 *            the construct, the topic map or <code>null</code>
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	private void writeReference(DataOutput out, IConstruct construct) throws IOException {
+		if (construct == null) {
+			SnapshotFormat.writeVarInt(out, NULL_REFERENCE);
+		} else if (construct instanceof ITopicMap) {
+			SnapshotFormat.writeVarInt(out, TOPIC_MAP_REFERENCE);
+		} else {
+			SnapshotFormat.writeVarInt(out, numbers.get(construct) + REFERENCE_OFFSET);
+		}
+	}
+
+	/**
+	 * Internal method to write the number and the references of the given constructs
+	 *
+	 * @param out
+	 *            the output
+	 * @param constructs
+	 *            the constructs
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	private void writeReferences(DataOutput out, Collection<? extends IConstruct> constructs) throws IOException {
+		SnapshotFormat.writeVarInt(out, constructs.size());
+		for (IConstruct construct : constructs) {
+			writeReference(out, construct);
+		}
+	}
+
+	/**
+	 * Internal method to write the data type of the given construct as reference to the dictionary
+	 *
+	 * @param out
+	 *            the output
+	 * @param aware
+	 *            the construct
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	private void writeDatatype(DataOutput out, IDatatypeAware aware) throws IOException {
+		SnapshotFormat.writeVarInt(out, dictionary.get(store.getCharacteristicsStore().getDatatype(aware).getReference()));
+	}
+
+	/**
+	 * Internal method to write the value of the given construct, strings are written as reference to the dictionary
+	 *
+	 * @param out
+	 *            the output
+	 * @param construct
+	 *            the construct
+	 * @throws IOException
+	 *             thrown if writing fails
+	 */
+	private void writeValue(DataOutput out, IConstruct construct) throws IOException {
+		Object value = store.getCharacteristicsStore().getValuesMap().get(construct);
+		if (value instanceof String) {
+			out.writeByte(SnapshotFormat.STRING_REFERENCE);
+			SnapshotFormat.writeVarInt(out, dictionary.get(value));
+		} else {
+			SnapshotFormat.writeValue(out, value);
+		}
+	}
+}
@@ -0,0 +1,397 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store.internal;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import de.topicmapslab.geotype.wgs84.Wgs84Circuit;
+import de.topicmapslab.geotype.wgs84.Wgs84Coordinate;
+import de.topicmapslab.majortom.util.HashUtil;
+import de.topicmapslab.majortom.util.LiteralUtils;
+
+/**
+ * Grid based spatial index of WGS 84 coordinates. The earth surface is split into cells of a fixed size in degree and
+ * each cell stores the items located within. Only cells containing at least one item are stored. The cells are sorted
+ * by row and column, so an area query only visits the cells of the area which contain any item.
+ *
+ * @author Sven Krosse
+ *
+ * @param <T>
+ *            the type of the indexed items
+ */
+public class SpatialIndex<T> {
+
+	/**
+	 * the default size of a cell in degree
+	 */
+	public static final double DEFAULT_CELL_SIZE = 0.1;
+
+	/**
+	 * the earth radius in kilometers used by {@link Wgs84Coordinate#getDistance(Wgs84Coordinate)}
+	 */
+	private static final double EARTH_RADIUS = 6378.388;
+
+	/**
+	 * the longest distance of two points of the earth surface
+	 */
+	private static final double MAX_DISTANCE = Math.PI * EARTH_RADIUS;
+
+	private final double cellSize;
+
+	/**
+	 * the non-empty cells by row and column
+	 */
+	private final NavigableMap<Integer, NavigableMap<Integer, Map<T, Wgs84Coordinate>>> cells;
+
+	/**
+	 * the coordinate of each item
+	 */
+	private final Map<T, Wgs84Coordinate> coordinates;
+
+	/**
+	 * constructor
+	 */
+	public SpatialIndex() {
+		this(DEFAULT_CELL_SIZE);
+	}
+
+	/**
+	 * constructor
+	 *
+	 * @param cellSize
+	 *            the size of a cell in degree
+	 */
+	public SpatialIndex(double cellSize) {
+		if (cellSize <= 0) {
+			throw new IllegalArgumentException("Cell size has to be greater than 0.");
+		}
+		this.cellSize = cellSize;
+		this.cells = new TreeMap<Integer, NavigableMap<Integer, Map<T, Wgs84Coordinate>>>();
+		this.coordinates = HashUtil.getHashMap();
+	}
+
+	/**
+	 * Adds the given item located at the given coordinate to the index. A former location of the item is replaced.
+	 *
+	 * @param item
+	 *            the item
+	 * @param coordinate
+	 *            the coordinate
+	 */
+	public void put(T item, Wgs84Coordinate coordinate) {
+		remove(item);
+		coordinates.put(item, coordinate);
+		int row = getRow(coordinate.getLatitude().getValue());
+		NavigableMap<Integer, Map<T, Wgs84Coordinate>> columns = cells.get(row);
+		if (columns == null) {
+			columns = new TreeMap<Integer, Map<T, Wgs84Coordinate>>();
+			cells.put(row, columns);
+		}
+		int column = getColumn(coordinate.getLongitude().getValue());
+		Map<T, Wgs84Coordinate> cell = columns.get(column);
+		if (cell == null) {
+			cell = HashUtil.getHashMap();
+			columns.put(column, cell);
+		}
+		cell.put(item, coordinate);
+	}
+
+	/**
+	 * Removes the given item from the index
+	 *
+	 * @param item
+	 *            the item
+	 */
+	public void remove(T item) {
+		Wgs84Coordinate coordinate = coordinates.remove(item);
+		if (coordinate == null) {
+			return;
+		}
+		int row = getRow(coordinate.getLatitude().getValue());
+		NavigableMap<Integer, Map<T, Wgs84Coordinate>> columns = cells.get(row);
+		int column = getColumn(coordinate.getLongitude().getValue());
+		Map<T, Wgs84Coordinate> cell = columns.get(column);
+		cell.remove(item);
+		if (cell.isEmpty()) {
+			columns.remove(column);
+			if (columns.isEmpty()) {
+				cells.remove(row);
+			}
+		}
+	}
+
+	/**
+	 * Returns the coordinate of the given item
+	 *
+	 * @param item
+	 *            the item
+	 * @return the coordinate or <code>null</code> if the item is not indexed
+	 */
+	public Wgs84Coordinate getCoordinate(T item) {
+		return coordinates.get(item);
+	}
+
+	/**
+	 * Returns the number of indexed items
+	 *
+	 * @return the number of items
+	 */
+	public int size() {
+		return coordinates.size();
+	}
+
+	/**
+	 * Removes all items from the index
+	 */
+	public void clear() {
+		cells.clear();
+		coordinates.clear();
+	}
+
+	/**
+	 * Returns all items located within the bounding box spanned by the given corners. If the longitude of the
+	 * south-west corner is greater than the longitude of the north-east corner, the box crosses the 180th meridian.
+	 *
+	 * @param southWest
+	 *            the south-west corner
+	 * @param northEast
+	 *            the north-east corner
+	 * @return the items
+	 */
+	public Set<T> getWithin(Wgs84Coordinate southWest, Wgs84Coordinate northEast) {
+		Set<T> set = HashUtil.getHashSet();
+		for (Entry<T, Wgs84Coordinate> entry : getCandidates(southWest.getLatitude().getValue(), northEast.getLatitude().getValue(), southWest.getLongitude().getValue(),
+				northEast.getLongitude().getValue())) {
+			if (LiteralUtils.inBoundingBox(entry.getValue(), southWest, northEast)) {
+				set.add(entry.getKey());
+			}
+		}
+		if (set.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return set;
+	}
+
+	/**
+	 * Returns all items with a distance to the given center lower or equal than the given radius
+	 *
+	 * @param center
+	 *            the center
+	 * @param radius
+	 *            the radius in kilometers
+	 * @return the items
+	 */
+	public Set<T> getWithin(Wgs84Coordinate center, double radius) {
+		Set<T> set = HashUtil.getHashSet();
+		for (Entry<T, Wgs84Coordinate> entry : getCandidates(center, radius)) {
+			if (getDistance(center, entry.getValue()) <= radius) {
+				set.add(entry.getKey());
+			}
+		}
+		if (set.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return set;
+	}
+
+	/**
+	 * Returns all items contained by the given circuit
+	 *
+	 * @param circuit
+	 *            the circuit
+	 * @return the items
+	 */
+	public Set<T> getWithin(Wgs84Circuit circuit) {
+		Set<T> set = HashUtil.getHashSet();
+		for (Entry<T, Wgs84Coordinate> entry : getCandidates(circuit.getCenterPoint(), circuit.getRadius())) {
+			if (circuit.contains(entry.getValue())) {
+				set.add(entry.getKey());
+			}
+		}
+		if (set.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return set;
+	}
+
+	/**
+	 * Returns the items nearest to the given coordinate ordered by their distance, the nearest first. The search
+	 * starts with the radius of one cell and doubles the radius until enough items are found. Any item outside the
+	 * final radius is farther away than every item found within, so the result is exact.
+	 *
+	 * @param value
+	 *            the coordinate
+	 * @param count
+	 *            the maximum number of items
+	 * @return the nearest items
+	 */
+	public List<T> getNearest(Wgs84Coordinate value, int count) {
+		if (count <= 0 || coordinates.isEmpty()) {
+			return Collections.emptyList();
+		}
+		double radius = cellSize * Math.PI * EARTH_RADIUS / 180;
+		final Map<T, Double> distances = HashUtil.getHashMap();
+		while (true) {
+			distances.clear();
+			for (Entry<T, Wgs84Coordinate> entry : getCandidates(value, radius)) {
+				double distance = getDistance(value, entry.getValue());
+				if (distance <= radius) {
+					distances.put(entry.getKey(), distance);
+				}
+			}
+			if (distances.size() >= count || radius >= MAX_DISTANCE) {
+				break;
+			}
+			radius *= 2;
+		}
+		List<T> list = HashUtil.getList(distances.keySet());
+		Collections.sort(list, new Comparator<T>() {
+			public int compare(T o1, T o2) {
+				return Double.compare(distances.get(o1), distances.get(o2));
+			}
+		});
+		return HashUtil.secureSubList(list, 0, count);
+	}
+
+	/**
+	 * Internal method to read all entries of the cells overlapping the bounding box of the circle around the given
+	 * center
+	 *
+	 * @param center
+	 *            the center
+	 * @param radius
+	 *            the radius in kilometers
+	 * @return the entries
+	 */
+	private List<Entry<T, Wgs84Coordinate>> getCandidates(Wgs84Coordinate center, double radius) {
+		if (radius >= MAX_DISTANCE) {
+			return getCandidates(-90, 90, -180, 180);
+		}
+		double angle = Math.toDegrees(radius / EARTH_RADIUS);
+		double latitude = center.getLatitude().getValue();
+		double south = latitude - angle;
+		double north = latitude + angle;
+		/*
+		 * the circle contains a pole, so any longitude is affected
+		 */
+		if (south <= -90 || north >= 90) {
+			return getCandidates(Math.max(south, -90), Math.min(north, 90), -180, 180);
+		}
+		double delta = Math.toDegrees(Math.asin(Math.min(1, Math.sin(radius / EARTH_RADIUS) / Math.cos(Math.toRadians(latitude)))));
+		double longitude = center.getLongitude().getValue();
+		double west = longitude - delta;
+		double east = longitude + delta;
+		if (west < -180) {
+			west += 360;
+		}
+		if (east > 180) {
+			east -= 360;
+		}
+		return getCandidates(south, north, west, east);
+	}
+
+	/**
+	 * Internal method to read all entries of the cells overlapping the given bounding box
+	 *
+	 * @param south
+	 *            the southern latitude
+	 * @param north
+	 *            the northern latitude
+	 * @param west
+	 *            the western longitude
+	 * @param east
+	 *            the eastern longitude, lower than the western one if the box crosses the 180th meridian
+	 * @return the entries
+	 */
+	private List<Entry<T, Wgs84Coordinate>> getCandidates(double south, double north, double west, double east) {
+		List<Entry<T, Wgs84Coordinate>> list = HashUtil.getList();
+		if (south > north) {
+			return list;
+		}
+		for (NavigableMap<Integer, Map<T, Wgs84Coordinate>> columns : cells.subMap(getRow(south), true, getRow(north), true).values()) {
+			if (west <= east) {
+				addAll(list, columns.subMap(getColumn(west), true, getColumn(east), true));
+			} else {
+				addAll(list, columns.tailMap(getColumn(west), true));
+				addAll(list, columns.headMap(getColumn(east), true));
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * Internal method to add the entries of the given cells to the given list
+	 *
+	 * @param list
+	 *            the list
+	 * @param columns
+	 *            the cells
+	 */
+	private void addAll(List<Entry<T, Wgs84Coordinate>> list, Map<Integer, Map<T, Wgs84Coordinate>> columns) {
+		for (Map<T, Wgs84Coordinate> cell : columns.values()) {
+			list.addAll(cell.entrySet());
+		}
+	}
+
+	/**
+	 * Internal method to calculate the row of the given latitude
+	 *
+	 * @param latitude
+	 *            the latitude
+	 * @return the row
+	 */
+	private int getRow(double latitude) {
+		return (int) Math.floor(latitude / cellSize);
+	}
+
+	/**
+	 * Internal method to calculate the column of the given longitude
+	 *
+	 * @param longitude
+	 *            the longitude
+	 * @return the column
+	 */
+	private int getColumn(double longitude) {
+		return (int) Math.floor(longitude / cellSize);
+	}
+
+	/**
+	 * Internal method to calculate the distance of the given coordinates
+	 *
+	 * @param coordinate
+	 *            the first coordinate
+	 * @param other
+	 *            the second coordinate
+	 * @return the distance in kilometers
+	 */
+	private double getDistance(Wgs84Coordinate coordinate, Wgs84Coordinate other) {
+		double distance = coordinate.getDistance(other);
+		/*
+		 * rounding errors let the arc cosine of identical points fail
+		 */
+		if (Double.isNaN(distance)) {
+			return 0;
+		}
+		return distance;
+	}
+}
@@ -17,14 +17,20 @@ package de.topicmapslab.majortom.inmemory.store.internal;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.tmapi.core.Association;
+import org.tmapi.core.Role;
 
 import de.topicmapslab.majortom.inmemory.store.InMemoryTopicMapStore;
 import de.topicmapslab.majortom.inmemory.store.model.IDataStore;
 import de.topicmapslab.majortom.model.core.IAssociation;
+import de.topicmapslab.majortom.model.core.IAssociationRole;
+import de.topicmapslab.majortom.model.core.IConstruct;
 import de.topicmapslab.majortom.model.core.ITopic;
 import de.topicmapslab.majortom.model.event.TopicMapEventType;
 import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
@@ -57,6 +63,16 @@ public class TopicTypeStore implements IDataStore {
 	 * internal storage of the type-subtypes relations
 	 */
 	private Map<ITopic, Set<ITopic>> subtypes;
+	/**
+	 * materialized transitive closure of the type-supertypes relations, filled
+	 * by concurrent readers
+	 */
+	private final ConcurrentMap<ITopic, Set<ITopic>> supertypeClosure = new ConcurrentHashMap<ITopic, Set<ITopic>>();
+	/**
+	 * materialized transitive closure of the type-subtypes relations, filled by
+	 * concurrent readers
+	 */
+	private final ConcurrentMap<ITopic, Set<ITopic>> subtypeClosure = new ConcurrentHashMap<ITopic, Set<ITopic>>();
 
 	/**
 	 * the parent store
@@ -89,6 +105,7 @@ public class TopicTypeStore implements IDataStore {
 		if (instances != null) {
 			instances.clear();
 		}
+		invalidateClosure();
 	}
 
 	/**
@@ -399,8 +416,23 @@ public class TopicTypeStore implements IDataStore {
 	 * @return the super types
 	 */
 	public Set<ITopic> getSupertypes(ITopic type) {
-		Set<ITopic> set = HashUtil.getHashSet();
-		return getSupertypes(type, set);
+		if (!isClosureEnabled()) {
+			Set<ITopic> set = HashUtil.getHashSet();
+			return getSupertypes(type, set);
+		}
+		Set<ITopic> closure = supertypeClosure.get(type);
+		if (closure == null) {
+			Set<ITopic> set = HashUtil.getHashSet();
+			closure = HashUtil.getHashSet(getSupertypes(type, set));
+			Set<ITopic> existing = supertypeClosure.putIfAbsent(type, closure);
+			if (existing != null) {
+				closure = existing;
+			}
+		}
+		if (closure.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return HashUtil.getHashSet(closure);
 	}
 
 	/**
@@ -563,8 +595,23 @@ public class TopicTypeStore implements IDataStore {
 	 * @return the sub types
 	 */
 	public Set<ITopic> getSubtypes(ITopic type) {
-		Set<ITopic> set = HashUtil.getHashSet();
-		return getSubtypes(type, set);
+		if (!isClosureEnabled()) {
+			Set<ITopic> set = HashUtil.getHashSet();
+			return getSubtypes(type, set);
+		}
+		Set<ITopic> closure = subtypeClosure.get(type);
+		if (closure == null) {
+			Set<ITopic> set = HashUtil.getHashSet();
+			closure = HashUtil.getHashSet(getSubtypes(type, set));
+			Set<ITopic> existing = subtypeClosure.putIfAbsent(type, closure);
+			if (existing != null) {
+				closure = existing;
+			}
+		}
+		if (closure.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return HashUtil.getHashSet(closure);
 	}
 
 	/**
@@ -743,6 +790,7 @@ public class TopicTypeStore implements IDataStore {
 		if ( set.isEmpty()){
 			supertypes.remove(type);
 		}
+		invalidateClosure();
 
 		/*
 		 * get sub types of the super type
@@ -851,6 +899,10 @@ public class TopicTypeStore implements IDataStore {
 		 * add sub type if not contained
 		 */
 		set.add(type);
+		/*
+		 * update transitive closure
+		 */
+		addToClosure(type, supertype);
 	}
 
 	/**
@@ -916,6 +968,7 @@ public class TopicTypeStore implements IDataStore {
 		if (this.types != null) {
 			this.types.remove(topic);
 		}
+		invalidateClosure();
 		/*
 		 * return dependent removed topics
 		 */
@@ -1000,7 +1053,141 @@ public class TopicTypeStore implements IDataStore {
 		if (subtypes != null) {
 			subtypes.remove(topic);
 		}
+		invalidateClosure();
+	}
+
+	// **********************
+	// * TRANSITIVE CLOSURE *
+	// **********************
+
+	/**
+	 * Returns the internal state of the materialized transitive closure of the type hierarchy. If the closure is
+	 * enabled, the transitive super and sub types of a type are calculated once and updated incrementally if a new
+	 * super type relation is added. Removing a relation drops the closure.
+	 * 
+	 * @return <code>true</code> if the closure is enabled, <code>false</code> otherwise
+	 */
+	protected boolean isClosureEnabled() {
+		return true;
+	}
+
+	/**
+	 * Drops the materialized transitive closure of the type hierarchy. The closure will be calculated again by the
+	 * next transitive query.
+	 */
+	public void invalidateClosure() {
+		supertypeClosure.clear();
+		subtypeClosure.clear();
+	}
+
+	/**
+	 * Updates the materialized transitive closure after adding a new super type relation between the given types.
+	 * 
+	 * @param type
+	 *            the topic type
+	 * @param supertype
+	 *            the super type
+	 */
+	protected void addToClosure(ITopic type, ITopic supertype) {
+		if (!isClosureEnabled()) {
+			return;
+		}
+		/*
+		 * all known sub types of the type get the new super type and its super types
+		 */
+		if (!supertypeClosure.isEmpty()) {
+			Set<ITopic> added = HashUtil.getHashSet(getSupertypes(supertype));
+			added.add(supertype);
+			for (Entry<ITopic, Set<ITopic>> entry : supertypeClosure.entrySet()) {
+				if (entry.getKey().equals(type) || entry.getValue().contains(type)) {
+					entry.getValue().addAll(added);
+				}
+			}
+		}
+		/*
+		 * all known super types of the super type get the new sub type and its sub types
+		 */
+		if (!subtypeClosure.isEmpty()) {
+			Set<ITopic> added = HashUtil.getHashSet(getSubtypes(type));
+			added.add(type);
+			for (Entry<ITopic, Set<ITopic>> entry : subtypeClosure.entrySet()) {
+				if (entry.getKey().equals(supertype) || entry.getValue().contains(supertype)) {
+					entry.getValue().addAll(added);
+				}
+			}
+		}
+	}
 
+	/**
+	 * Keeps the materialized transitive closure up to date if the type hierarchy is changed by TMDM supertype-subtype
+	 * associations.
+	 * 
+	 * @param event
+	 *            the event type
+	 * @param notifier
+	 *            the notifier of the event
+	 * @param newValue
+	 *            the new value
+	 * @param oldValue
+	 *            the old value
+	 */
+	public void topicMapChanged(TopicMapEventType event, IConstruct notifier, Object newValue, Object oldValue) {
+		if (!isClosureEnabled() || !store.recognizingSupertypeSubtypeAssociation()) {
+			return;
+		}
+		switch (event) {
+			case ROLE_ADDED: {
+				if (isSupertypeSubtypeAssociation(notifier)) {
+					IAssociation association = (IAssociation) notifier;
+					Set<Role> subtypeRoles = association.getRoles(store.getTmdmSubtypeRoleType());
+					Set<Role> supertypeRoles = association.getRoles(store.getTmdmSupertypeRoleType());
+					if (!subtypeRoles.isEmpty() && !supertypeRoles.isEmpty()) {
+						addToClosure((ITopic) subtypeRoles.iterator().next().getPlayer(), (ITopic) supertypeRoles.iterator().next().getPlayer());
+					}
+				}
+			}
+				break;
+			case PLAYER_MODIFIED: {
+				if (notifier instanceof IAssociationRole && isSupertypeSubtypeAssociation(((IAssociationRole) notifier).getParent())) {
+					invalidateClosure();
+				}
+			}
+				break;
+			case ROLE_REMOVED: {
+				if (isSupertypeSubtypeAssociation(notifier)) {
+					invalidateClosure();
+				}
+			}
+				break;
+			case TYPE_SET: {
+				if (notifier instanceof IAssociation && store.existsTmdmSupertypeSubtypeAssociationType()) {
+					ITopic associationType = store.getTmdmSupertypeSubtypeAssociationType();
+					if (associationType.equals(newValue) || associationType.equals(oldValue)) {
+						invalidateClosure();
+					}
+				}
+			}
+				break;
+			case ASSOCIATION_REMOVED:
+			case MERGE: {
+				invalidateClosure();
+			}
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Checks if the given construct is a TMDM supertype-subtype association.
+	 * 
+	 * @param construct
+	 *            the construct
+	 * @return <code>true</code> if the construct is a supertype-subtype association, <code>false</code> otherwise
+	 */
+	private boolean isSupertypeSubtypeAssociation(IConstruct construct) {
+		return construct instanceof IAssociation && store.existsTmdmSupertypeSubtypeAssociationType()
+				&& store.getTmdmSupertypeSubtypeAssociationType().equals(((IAssociation) construct).getType());
 	}
 
 	/**
@@ -15,6 +15,8 @@
  ******************************************************************************/
 package de.topicmapslab.majortom.inmemory.virtual;
 
+import java.io.File;
+
 import de.topicmapslab.majortom.inmemory.store.InMemoryTopicMapStore;
 import de.topicmapslab.majortom.inmemory.virtual.internal.VirtualAssociationStore;
 import de.topicmapslab.majortom.inmemory.virtual.internal.VirtualCharacteristicsStore;
@@ -98,6 +100,16 @@ public abstract class VirtualTopicMapStore extends InMemoryTopicMapStore {
 		return false;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The content of a virtual store is never persisted, it is part of the real store.
+	 * </p>
+	 */
+	protected File getSnapshotFile() {
+		return null;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -16,6 +16,7 @@
 package de.topicmapslab.majortom.inmemory.virtual.internal;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -23,7 +24,10 @@ import org.tmapi.core.Name;
 import org.tmapi.core.Occurrence;
 import org.tmapi.core.Variant;
 
+import de.topicmapslab.geotype.wgs84.Wgs84Circuit;
+import de.topicmapslab.geotype.wgs84.Wgs84Coordinate;
 import de.topicmapslab.majortom.inmemory.store.internal.CharacteristicsStore;
+import de.topicmapslab.majortom.inmemory.store.internal.SpatialIndex;
 import de.topicmapslab.majortom.inmemory.virtual.VirtualTopicMapStore;
 import de.topicmapslab.majortom.model.core.IConstruct;
 import de.topicmapslab.majortom.model.core.IDatatypeAware;
@@ -35,6 +39,7 @@ import de.topicmapslab.majortom.model.core.IVariant;
 import de.topicmapslab.majortom.model.exception.ConstructRemovedException;
 import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
 import de.topicmapslab.majortom.model.index.ILiteralIndex;
+import de.topicmapslab.majortom.model.namespace.Namespaces;
 import de.topicmapslab.majortom.model.store.TopicMapStoreParameterType;
 import de.topicmapslab.majortom.util.HashUtil;
 
@@ -167,6 +172,93 @@ public class VirtualCharacteristicsStore<T extends VirtualTopicMapStore> extends
 		return set;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Set<IDatatypeAware> getDatatypeAwaresByRange(ILocator datatype, long lower, long upper) {
+		/*
+		 * the values of the real store are not part of the virtual sorted indexes
+		 */
+		Set<IDatatypeAware> set = HashUtil.getHashSet();
+		for (IDatatypeAware datatypeAware : getDatatypeAwares(datatype)) {
+			Object key = getSortKey(getValue(datatypeAware), datatype.getReference());
+			if (key instanceof Long && (Long) key >= lower && (Long) key <= upper) {
+				set.add(datatypeAware);
+			}
+		}
+		if (set.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return set;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Set<IDatatypeAware> getDatatypeAwaresByRange(ILocator datatype, double lower, double upper) {
+		/*
+		 * the values of the real store are not part of the virtual sorted indexes
+		 */
+		Set<IDatatypeAware> set = HashUtil.getHashSet();
+		for (IDatatypeAware datatypeAware : getDatatypeAwares(datatype)) {
+			Object key = getSortKey(getValue(datatypeAware), datatype.getReference());
+			if (key instanceof Double && (Double) key >= lower && (Double) key <= upper) {
+				set.add(datatypeAware);
+			}
+		}
+		if (set.isEmpty()) {
+			return Collections.emptySet();
+		}
+		return set;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Set<IOccurrence> getOccurrencesByArea(Wgs84Coordinate southWest, Wgs84Coordinate northEast) {
+		return getSpatialIndex().getWithin(southWest, northEast);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Set<IOccurrence> getOccurrencesByArea(Wgs84Coordinate center, double radius) {
+		return getSpatialIndex().getWithin(center, radius);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Set<IOccurrence> getOccurrencesByArea(Wgs84Circuit area) {
+		return getSpatialIndex().getWithin(area);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<IOccurrence> getNearestOccurrences(Wgs84Coordinate value, int count) {
+		return getSpatialIndex().getNearest(value, count);
+	}
+
+	/**
+	 * Internal method to create a spatial index of all virtual occurrences with the data type tm:geo. The occurrences
+	 * of the real store are not part of the virtual spatial index, so it has to be created for each query.
+	 * 
+	 * @return the spatial index
+	 */
+	private SpatialIndex<IOccurrence> getSpatialIndex() {
+		SpatialIndex<IOccurrence> index = new SpatialIndex<IOccurrence>();
+		for (IDatatypeAware datatypeAware : getDatatypeAwares(getVirtualIdentityStore().createLocator(Namespaces.XSD.WGS84_COORDINATE))) {
+			if (datatypeAware instanceof IOccurrence) {
+				Wgs84Coordinate coordinate = getCoordinate(getValue(datatypeAware), Namespaces.XSD.WGS84_COORDINATE);
+				if (coordinate != null) {
+					index.put((IOccurrence) datatypeAware, coordinate);
+				}
+			}
+		}
+		return index;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -512,7 +512,7 @@ public class VirtualIdentityStore<T extends VirtualTopicMapStore> extends Identi
 	/**
 	 * {@inheritDoc}
 	 */
-	public void setId(IConstruct c, String id) {
+	public synchronized void setId(IConstruct c, String id) {
 		if (virtualConstructs == null) {
 			virtualConstructs = HashUtil.getHashSet();
 		}
@@ -560,7 +560,7 @@ public class VirtualIdentityStore<T extends VirtualTopicMapStore> extends Identi
 	 * @param scope
 	 *            the virtual scope
 	 */
-	public void setVirtual(IScope scope) {
+	public synchronized void setVirtual(IScope scope) {
 		if (virtualConstructs == null) {
 			virtualConstructs = HashUtil.getHashSet();
 		}
@@ -545,8 +545,8 @@ public class VirtualScopeStore<T extends VirtualTopicMapStore> extends ScopeStor
 				themes.remove(construct);
 				themes.add(newConstruct);
 				IScope newScope = new ScopeImpl(scope.getId(), themes);
-				scopesMap.remove(scope);
-				scopesMap.put(newScope, themes);
+				removeScope(scope);
+				putScope(newScope, themes);
 				for ( IScopable scoped : getScoped(scope)){
 					super.setScope(scoped, newScope);
 				}
@@ -71,6 +71,16 @@ public class VirtualTopicTypeStore<T extends VirtualTopicMapStore> extends Topic
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	protected boolean isClosureEnabled() {
+		/*
+		 * the hierarchy of the underlying real store may change at any time
+		 */
+		return false;
+	}
+
 	/**
 	 * Internal method to access the virtual-identity store
 	 * 
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import junit.framework.TestCase;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Test of the bounded regions of the read-through cache
+ * 
+ * @author Sven Krosse
+ * 
+ */
+public class TestCacheRegion extends TestCase {
+
+	public void testEviction() throws Exception {
+		CacheRegion region = new CacheRegion("test", 3);
+		Map<String, String> map = region.newMap();
+		map.put("a", "a");
+		map.put("b", "b");
+		map.put("c", "c");
+		assertEquals(3, region.getWeight());
+		/*
+		 * the least recently used entry is evicted
+		 */
+		map.get("a");
+		map.put("d", "d");
+		assertEquals(3, map.size());
+		assertEquals(3, region.getWeight());
+		assertEquals(1, region.getEvictionCount());
+		assertNull(map.get("b"));
+		assertEquals("a", map.get("a"));
+
+		/*
+		 * all maps of a region share the maximum weight
+		 */
+		Map<String, String> other = region.newMap();
+		other.put("e", "e");
+		assertEquals(3, region.getWeight());
+		assertEquals(2, region.getEvictionCount());
+	}
+
+	public void testWeights() throws Exception {
+		CacheRegion region = new CacheRegion("test", -1);
+		Map<String, Set<String>> map = region.newMap();
+		Set<String> set = HashUtil.getHashSet();
+		set.add("a");
+		set.add("b");
+		map.put("key", set);
+		assertEquals(3, region.getWeight());
+		/*
+		 * a value modified in place is weighed again by the next access
+		 */
+		map.get("key").add("c");
+		map.get("key");
+		assertEquals(4, region.getWeight());
+		map.get("key").clear();
+		assertTrue(map.containsKey("key"));
+		map.get("key");
+		assertEquals(1, region.getWeight());
+		/*
+		 * replacing and removing release the weight
+		 */
+		set = HashUtil.getHashSet();
+		set.add("d");
+		map.put("key", set);
+		assertEquals(2, region.getWeight());
+		map.remove("key");
+		assertEquals(0, region.getWeight());
+		map.put("key", set);
+		map.clear();
+		assertEquals(0, region.getWeight());
+	}
+
+	public void testStatistics() throws Exception {
+		CacheRegion region = new CacheRegion("test", -1);
+		Map<String, String> map = region.newMap();
+		assertEquals(0, region.getHitRate(), 0);
+		/*
+		 * a failed check is a miss
+		 */
+		assertFalse(map.containsKey("a"));
+		assertEquals(0, region.getHitCount());
+		assertEquals(1, region.getMissCount());
+		map.put("a", "a");
+		/*
+		 * a successful check followed by a read is one hit
+		 */
+		assertTrue(map.containsKey("a"));
+		assertEquals("a", map.get("a"));
+		assertEquals(1, region.getHitCount());
+		assertEquals(1, region.getMissCount());
+		assertEquals("a", map.get("a"));
+		assertNull(map.get("b"));
+		assertEquals(2, region.getHitCount());
+		assertEquals(2, region.getMissCount());
+		assertEquals(0.5, region.getHitRate(), 0.0001);
+	}
+
+	public void testIterationWhileModified() throws Exception {
+		CacheRegion region = new CacheRegion("test", 100);
+		final Map<Integer, Integer> map = region.newMap();
+		final List<Throwable> errors = new CopyOnWriteArrayList<Throwable>();
+		Thread writer = new Thread() {
+			public void run() {
+				try {
+					for (int i = 0; i < 10000; i++) {
+						map.put(i, i);
+						map.get(i / 2);
+					}
+				} catch (Throwable e) {
+					errors.add(e);
+				}
+			}
+		};
+		writer.start();
+		while (writer.isAlive()) {
+			for (Entry<Integer, Integer> entry : map.entrySet()) {
+				assertEquals(entry.getKey(), entry.getValue());
+			}
+		}
+		writer.join();
+		assertTrue(errors.toString(), errors.isEmpty());
+		assertEquals(100, region.getWeight());
+	}
+}
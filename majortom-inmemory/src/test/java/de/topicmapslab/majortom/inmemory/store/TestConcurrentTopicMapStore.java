@@ -0,0 +1,312 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import junit.framework.TestCase;
+
+import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMapSystem;
+import org.tmapi.core.TopicMapSystemFactory;
+import org.tmapi.index.Index;
+
+import de.topicmapslab.majortom.index.paged.PagedScopeIndexImpl;
+import de.topicmapslab.majortom.index.paged.PagedTypeInstanceIndexImpl;
+import de.topicmapslab.majortom.model.core.ITopic;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.index.IScopedIndex;
+import de.topicmapslab.majortom.model.index.ISupertypeSubtypeIndex;
+import de.topicmapslab.majortom.model.index.ITypeInstanceIndex;
+import de.topicmapslab.majortom.model.index.paging.IPagedScopedIndex;
+import de.topicmapslab.majortom.model.index.paging.IPagedTypeInstanceIndex;
+import de.topicmapslab.majortom.model.store.ITopicMapStore;
+import de.topicmapslab.majortom.util.FeatureStrings;
+
+/**
+ * Stress test of the concurrent mode of the in-memory store, running parallel readers and writers.
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestConcurrentTopicMapStore extends TestCase {
+
+	private static final int WRITERS = 4;
+	private static final int READERS = 4;
+	private static final int TOPICS_PER_WRITER = 500;
+
+	private ITopicMap topicMap;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void setUp() throws Exception {
+		TopicMapSystemFactory factory = TopicMapSystemFactory.newInstance();
+		factory.setFeature(FeatureStrings.CONCURRENT_STORE, true);
+		TopicMapSystem system = factory.newTopicMapSystem();
+		topicMap = (ITopicMap) system.createTopicMap("http://engine.topicmapslab.de/concurrent/");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void tearDown() throws Exception {
+		topicMap.close();
+	}
+
+	public void testConcurrentMode() throws Exception {
+		assertTrue(((InMemoryTopicMapStore) topicMap.getStore()).isConcurrent());
+	}
+
+	public void testParallelIndexReaders() throws Exception {
+		final CyclicBarrier barrier = new CyclicBarrier(2);
+		final Index index = ConcurrentIndexHandler.newProxy(new Index() {
+
+			public boolean isAutoUpdated() {
+				/*
+				 * only passes if both readers are inside the index at the same time
+				 */
+				try {
+					barrier.await(5, TimeUnit.SECONDS);
+					return true;
+				} catch (Exception e) {
+					return false;
+				}
+			}
+
+			public void close() {
+			}
+
+			public boolean isOpen() {
+				return true;
+			}
+
+			public void open() {
+			}
+
+			public void reindex() {
+			}
+		}, new ReentrantReadWriteLock());
+
+		final List<Boolean> results = new CopyOnWriteArrayList<Boolean>();
+		Thread[] threads = new Thread[2];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread() {
+				public void run() {
+					results.add(index.isAutoUpdated());
+				}
+			};
+			threads[i].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(2, results.size());
+		assertTrue("The readers of an index were serialized.", results.get(0) && results.get(1));
+	}
+
+	public void testParallelTransitiveReaders() throws Exception {
+		final ITopic[] types = new ITopic[50];
+		for (int i = 0; i < types.length; i++) {
+			types[i] = (ITopic) topicMap.createTopic();
+			if (i > 0) {
+				types[i].addSupertype(types[i - 1]);
+			}
+		}
+		final ISupertypeSubtypeIndex index = topicMap.getIndex(ISupertypeSubtypeIndex.class);
+		index.open();
+
+		/*
+		 * the readers fill the materialized closure of the type hierarchy at the same time
+		 */
+		final List<Throwable> errors = new CopyOnWriteArrayList<Throwable>();
+		final CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[READERS];
+		for (int i = 0; i < READERS; i++) {
+			final int reader = i;
+			threads[i] = new Thread() {
+				public void run() {
+					try {
+						start.await();
+						for (int j = 0; j < types.length; j++) {
+							int k = (j + reader * 7) % types.length;
+							assertEquals(k, index.getSupertypes(types[k]).size());
+							assertEquals(types.length - k - 1, index.getSubtypes(types[k]).size());
+						}
+					} catch (Throwable e) {
+						errors.add(e);
+					}
+				}
+			};
+			threads[i].start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertTrue(errors.toString(), errors.isEmpty());
+	}
+
+	public void testParallelCachedIndexReaders() throws Exception {
+		final Topic[] types = new Topic[10];
+		final Topic[] themes = new Topic[10];
+		for (int i = 0; i < types.length; i++) {
+			types[i] = topicMap.createTopic();
+			themes[i] = topicMap.createTopic();
+			for (int j = 0; j <= i; j++) {
+				Topic topic = topicMap.createTopic();
+				topic.addType(types[i]);
+				topic.createName("Name " + i + "/" + j, themes[i]);
+			}
+		}
+		/*
+		 * the in-memory store disables the caches of its indexes, so the indexes are created on a view of the store
+		 * enabling them
+		 */
+		final ITopicMapStore store = topicMap.getStore();
+		ITopicMapStore cachingStore = (ITopicMapStore) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { ITopicMapStore.class }, new InvocationHandler() {
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				if (method.getName().equals("isCachingEnabled")) {
+					return true;
+				}
+				try {
+					return method.invoke(store, args);
+				} catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+			}
+		});
+		ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+		final IPagedTypeInstanceIndex typeInstanceIndex = (IPagedTypeInstanceIndex) ConcurrentIndexHandler.newProxy(new PagedTypeInstanceIndexImpl<ITopicMapStore>(cachingStore,
+				topicMap.getIndex(ITypeInstanceIndex.class)) {
+		}, lock);
+		typeInstanceIndex.open();
+		final IPagedScopedIndex scopedIndex = (IPagedScopedIndex) ConcurrentIndexHandler.newProxy(new PagedScopeIndexImpl<ITopicMapStore>(cachingStore, topicMap.getIndex(IScopedIndex.class)) {
+		}, lock);
+		scopedIndex.open();
+
+		/*
+		 * the readers fill the caches of the type-instance and scoped index at the same time
+		 */
+		final List<Throwable> errors = new CopyOnWriteArrayList<Throwable>();
+		final CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[READERS];
+		for (int i = 0; i < READERS; i++) {
+			final int reader = i;
+			threads[i] = new Thread() {
+				public void run() {
+					try {
+						start.await();
+						for (int n = 0; n < 20; n++) {
+							for (int j = 0; j < types.length; j++) {
+								int k = (j + reader * 3) % types.length;
+								assertEquals(k + 1, typeInstanceIndex.getNumberOfTopics(types[k]));
+								assertEquals(k + 1, typeInstanceIndex.getTopics(types[k], 0, 100).size());
+								assertEquals(Math.min(k + 1, 2), typeInstanceIndex.getTopics(types[k], 0, 2).size());
+								assertEquals(k + 1, scopedIndex.getNumberOfNames(themes[k]));
+								assertEquals(k + 1, scopedIndex.getNames(themes[k], 0, 100).size());
+								assertEquals(Math.min(k + 1, 2), scopedIndex.getNames(themes[k], 0, 2).size());
+							}
+						}
+					} catch (Throwable e) {
+						errors.add(e);
+					}
+				}
+			};
+			threads[i].start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertTrue(errors.toString(), errors.isEmpty());
+	}
+
+	public void testParallelReadersAndWriters() throws Exception {
+		final Topic type = topicMap.createTopicBySubjectIdentifier(topicMap.createLocator("http://psi.example.org/type"));
+		final ITypeInstanceIndex index = topicMap.getIndex(ITypeInstanceIndex.class);
+		index.open();
+
+		final List<Throwable> errors = new CopyOnWriteArrayList<Throwable>();
+		final CountDownLatch start = new CountDownLatch(1);
+		final CountDownLatch writersDone = new CountDownLatch(WRITERS);
+		Thread[] threads = new Thread[WRITERS + READERS];
+		for (int i = 0; i < WRITERS; i++) {
+			final int writer = i;
+			threads[i] = new Thread() {
+				public void run() {
+					try {
+						start.await();
+						for (int j = 0; j < TOPICS_PER_WRITER; j++) {
+							Topic topic = topicMap.createTopicBySubjectIdentifier(topicMap.createLocator("http://psi.example.org/" + writer + "/" + j));
+							topic.addType(type);
+							topic.createName("Topic " + writer + "/" + j);
+						}
+					} catch (Throwable e) {
+						errors.add(e);
+					} finally {
+						writersDone.countDown();
+					}
+				}
+			};
+		}
+		for (int i = WRITERS; i < WRITERS + READERS; i++) {
+			threads[i] = new Thread() {
+				public void run() {
+					try {
+						start.await();
+						while (writersDone.getCount() > 0) {
+							for (Topic topic : index.getTopics(type)) {
+								topic.getNames();
+								topic.getSubjectIdentifiers();
+							}
+							topicMap.getTopics().size();
+						}
+					} catch (Throwable e) {
+						errors.add(e);
+					}
+				}
+			};
+		}
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertTrue(errors.toString(), errors.isEmpty());
+		assertEquals(WRITERS * TOPICS_PER_WRITER, index.getTopics(type).size());
+		for (int i = 0; i < WRITERS; i++) {
+			for (int j = 0; j < TOPICS_PER_WRITER; j++) {
+				Topic topic = topicMap.getTopicBySubjectIdentifier(topicMap.createLocator("http://psi.example.org/" + i + "/" + j));
+				assertNotNull(topic);
+				assertEquals(1, topic.getNames().size());
+				assertTrue(topic.getTypes().contains(type));
+			}
+		}
+	}
+}
@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store;
+
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.tmapi.core.Construct;
+import org.tmapi.core.Name;
+import org.tmapi.core.Occurrence;
+import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMapSystemFactory;
+import org.tmapi.core.Variant;
+
+import de.topicmapslab.majortom.index.fulltext.FullTextAnalyzer;
+import de.topicmapslab.majortom.index.fulltext.FullTextQuery;
+import de.topicmapslab.majortom.index.fulltext.FullTextQuery.Occur;
+import de.topicmapslab.majortom.index.fulltext.InvertedIndex;
+import de.topicmapslab.majortom.inmemory.index.InMemoryFullTextIndex;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.index.IFullTextIndex;
+import de.topicmapslab.majortom.model.index.paging.IPagedFullTextIndex;
+
+/**
+ * Test of the full-text index of the in-memory store
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestFullTextIndex extends TestCase {
+
+	private ITopicMap topicMap;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void setUp() throws Exception {
+		topicMap = (ITopicMap) TopicMapSystemFactory.newInstance().newTopicMapSystem().createTopicMap("http://engine.topicmapslab.de/fulltext/");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void tearDown() throws Exception {
+		topicMap.close();
+	}
+
+	public void testAnalyzer() throws Exception {
+		List<String> terms = FullTextAnalyzer.tokenize("M\u00fcller-L\u00fcdenscheidt, 2010: Caf\u00e9");
+		assertEquals(4, terms.size());
+		assertEquals("muller", terms.get(0));
+		assertEquals("ludenscheidt", terms.get(1));
+		assertEquals("2010", terms.get(2));
+		assertEquals("cafe", terms.get(3));
+
+		FullTextQuery query = FullTextQuery.parse("topic AND map* -\"semantic web\" NOT xml");
+		assertEquals(4, query.getClauses().size());
+		assertEquals(Occur.MUST, query.getClauses().get(0).getOccur());
+		assertEquals(Occur.MUST, query.getClauses().get(1).getOccur());
+		assertTrue(query.getClauses().get(1).isPrefix());
+		assertEquals(Occur.MUST_NOT, query.getClauses().get(2).getOccur());
+		assertTrue(query.getClauses().get(2).isPhrase());
+		assertEquals(Occur.MUST_NOT, query.getClauses().get(3).getOccur());
+	}
+
+	public void testInvertedIndex() throws Exception {
+		InvertedIndex<String> index = new InvertedIndex<String>();
+		index.add("a", "topic maps are semantic");
+		index.add("b", "maps of the world");
+		index.add("c", "topic topic topic");
+		assertEquals(3, index.size());
+
+		List<String> result = index.search(FullTextQuery.parse("topic"));
+		assertEquals(2, result.size());
+		assertEquals("c", result.get(0));
+
+		result = index.search(FullTextQuery.parse("\"topic maps\""));
+		assertEquals(1, result.size());
+		assertEquals("a", result.get(0));
+
+		result = index.search(FullTextQuery.parse("map*"));
+		assertEquals(2, result.size());
+
+		result = index.search(FullTextQuery.parse("maps -semantic"));
+		assertEquals(1, result.size());
+		assertEquals("b", result.get(0));
+
+		result = index.search(FullTextQuery.parse("+topic maps"));
+		assertEquals(2, result.size());
+		assertEquals("a", result.get(0));
+
+		assertTrue(index.remove("a"));
+		assertTrue(index.remove("b"));
+		assertFalse(index.contains("a"));
+		assertTrue(index.search(FullTextQuery.parse("maps")).isEmpty());
+		assertEquals(1, index.search(FullTextQuery.parse("topic")).size());
+
+		index.add("c", "world");
+		assertEquals(1, index.size());
+		assertTrue(index.search(FullTextQuery.parse("topic")).isEmpty());
+		assertEquals(1, index.search(FullTextQuery.parse("world")).size());
+	}
+
+	public void testIndex() throws Exception {
+		IFullTextIndex index = topicMap.getIndex(IFullTextIndex.class);
+		Topic type = topicMap.createTopic();
+		Topic a = topicMap.createTopic();
+		Name name = a.createName("Topic Maps Lab");
+		Topic b = topicMap.createTopic();
+		Occurrence occurrence = b.createOccurrence(type, "A lab for topic maps and other maps");
+		index.open();
+
+		List<Construct> constructs = index.getConstructs("lab");
+		assertEquals(2, constructs.size());
+		assertEquals(name, constructs.get(0));
+
+		/*
+		 * incremental updates
+		 */
+		Variant variant = name.createVariant("Leipzig", type);
+		assertEquals(1, index.getConstructs("leipzig").size());
+		assertEquals(variant, index.getConstructs("leipzig").get(0));
+		List<Topic> topics = index.getTopics("leipzig");
+		assertEquals(1, topics.size());
+		assertEquals(a, topics.get(0));
+
+		occurrence.setValue("Semantic Web");
+		assertEquals(1, index.getConstructs("lab").size());
+		assertEquals(1, index.getConstructs("semantic").size());
+
+		variant.remove();
+		assertTrue(index.getConstructs("leipzig").isEmpty());
+
+		b.remove();
+		assertTrue(index.getConstructs("semantic").isEmpty());
+
+		/*
+		 * merging
+		 */
+		Topic c = topicMap.createTopic();
+		c.createName("Maps");
+		a.mergeIn(c);
+		topics = index.getTopics("maps");
+		assertEquals(1, topics.size());
+		assertEquals(2, index.getConstructs("maps").size());
+
+		index.close();
+	}
+
+	public void testRemovedCharacteristics() throws Exception {
+		IFullTextIndex index = topicMap.getIndex(IFullTextIndex.class);
+		Topic type = topicMap.createTopic();
+		Topic a = topicMap.createTopic();
+		a.createName("Topic Maps Lab").createVariant("Leipzig", type);
+		a.createOccurrence(type, "Semantic Web");
+		Topic b = topicMap.createTopic();
+		Name name = b.createName("Topic Maps");
+		name.createVariant("Maps", type);
+		b.createName("Lab");
+		index.open();
+		InMemoryFullTextIndex fullTextIndex = (InMemoryFullTextIndex) index;
+		assertEquals(6, fullTextIndex.size());
+
+		/*
+		 * the characteristics of a removed topic do not count as documents
+		 */
+		a.remove();
+		assertEquals(3, fullTextIndex.size());
+		assertTrue(index.getConstructs("leipzig").isEmpty());
+
+		/*
+		 * the variants are removed with their name
+		 */
+		name.remove();
+		assertEquals(1, fullTextIndex.size());
+		assertEquals(1, index.getConstructs("lab").size());
+
+		/*
+		 * closing removes all content
+		 */
+		index.close();
+		assertEquals(0, fullTextIndex.size());
+	}
+
+	public void testPagedIndex() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			topicMap.createTopic().createName("Topic " + i);
+		}
+		IPagedFullTextIndex index = topicMap.getIndex(IPagedFullTextIndex.class);
+		index.open();
+		assertEquals(10, index.getTopics("topic", 0, 100).size());
+		assertEquals(5, index.getConstructs("topic", 5, 5).size());
+		assertEquals(1, index.getConstructs("topic 3", 0, 1).size());
+		topicMap.createTopic().createName("Topic");
+		assertEquals(11, index.getConstructs("topic", 0, 100).size());
+		index.close();
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store;
+
+import java.util.concurrent.CountDownLatch;
+
+import junit.framework.TestCase;
+
+import org.tmapi.core.Locator;
+import org.tmapi.core.Occurrence;
+import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMapSystemFactory;
+
+import de.topicmapslab.majortom.model.core.ILocator;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.util.LocatorPool;
+
+/**
+ * Test of the canonical locators of the in-memory store
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestLocatorPool extends TestCase {
+
+	private ITopicMap topicMap;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void setUp() throws Exception {
+		topicMap = (ITopicMap) TopicMapSystemFactory.newInstance().newTopicMapSystem().createTopicMap("http://engine.topicmapslab.de/pool/");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void tearDown() throws Exception {
+		topicMap.close();
+	}
+
+	public void testCanonicalLocators() throws Exception {
+		Locator l = topicMap.createLocator("http://psi.example.org/a");
+		assertSame(l, topicMap.createLocator("http://psi.example.org/a"));
+		assertNotSame(l, topicMap.createLocator("http://psi.example.org/b"));
+
+		Topic topic = topicMap.createTopicBySubjectIdentifier(topicMap.createLocator("http://psi.example.org/c"));
+		assertSame(topic.getSubjectIdentifiers().iterator().next(), topicMap.createLocator("http://psi.example.org/c"));
+	}
+
+	public void testSharedDatatypes() throws Exception {
+		Topic topic = topicMap.createTopic();
+		Occurrence occurrence = topic.createOccurrence(topic, "Value");
+		Occurrence other = topic.createOccurrence(topic, "Other");
+		assertSame(occurrence.getDatatype(), other.getDatatype());
+	}
+
+	public void testPool() throws Exception {
+		LocatorPool pool = new LocatorPool();
+		assertSame(pool.getLocator("http://psi.example.org/a"), pool.getLocator("http://psi.example.org/a"));
+		pool.clear();
+		assertEquals(0, pool.size());
+	}
+
+	public void testConcurrentPool() throws Exception {
+		final LocatorPool pool = new LocatorPool();
+		final int threads = 8;
+		final int references = 1000;
+		final ILocator[][] locators = new ILocator[threads][references];
+		final CountDownLatch start = new CountDownLatch(1);
+		Thread[] workers = new Thread[threads];
+		for (int i = 0; i < threads; i++) {
+			final int thread = i;
+			workers[i] = new Thread() {
+				public void run() {
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						return;
+					}
+					for (int j = 0; j < references; j++) {
+						locators[thread][j] = pool.getLocator("http://psi.example.org/" + j);
+					}
+				}
+			};
+			workers[i].start();
+		}
+		start.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		for (int j = 0; j < references; j++) {
+			assertNotNull(locators[0][j]);
+			for (int i = 1; i < threads; i++) {
+				assertSame(locators[0][j], locators[i][j]);
+			}
+		}
+		assertEquals(references, pool.size());
+	}
+}
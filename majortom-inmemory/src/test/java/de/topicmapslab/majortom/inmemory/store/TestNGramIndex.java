@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import junit.framework.TestCase;
+
+import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMapSystemFactory;
+
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.index.IIdentityIndex;
+import de.topicmapslab.majortom.model.index.ILiteralIndex;
+import de.topicmapslab.majortom.util.NGramIndex;
+
+/**
+ * Test of the n-gram prefiltering of regular expression searches
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestNGramIndex extends TestCase {
+
+	public void testLiterals() throws Exception {
+		assertEquals(Arrays.asList("abc"), NGramIndex.getLiterals(Pattern.compile("abc")));
+		assertEquals(Arrays.asList("a", "cdef"), NGramIndex.getLiterals(Pattern.compile("ab*cdef")));
+		assertEquals(Arrays.asList("http://psi.example.org/"), NGramIndex.getLiterals(Pattern.compile("http://psi\\.example\\.org/.*")));
+		assertEquals(Arrays.asList("x", "yzw"), NGramIndex.getLiterals(Pattern.compile("x(abc|def)yzw")));
+		assertEquals(Arrays.asList("foo", "bar"), NGramIndex.getLiterals(Pattern.compile("foo\\d{2,}bar")));
+		assertEquals(Arrays.asList("a.b*c"), NGramIndex.getLiterals(Pattern.compile("\\Qa.b*c\\E")));
+		assertNull(NGramIndex.getLiterals(Pattern.compile("abc|def")));
+		assertNull(NGramIndex.getLiterals(Pattern.compile("(?x)a b c")));
+	}
+
+	public void testCandidates() throws Exception {
+		NGramIndex<String> index = new NGramIndex<String>();
+		for (String value : new String[] { "Hello World", "hello there", "other" }) {
+			index.put(value, value);
+		}
+		Set<String> candidates = index.getCandidates(Pattern.compile("(?i)hello.*world"));
+		assertEquals(1, candidates.size());
+		assertTrue(candidates.contains("Hello World"));
+		assertEquals(2, index.getCandidates(Pattern.compile("hel+o.*")).size());
+		assertTrue(index.getCandidates(Pattern.compile(".*xyz.*")).isEmpty());
+		assertNull(index.getCandidates(Pattern.compile(".*")));
+		index.remove("other");
+		assertEquals(2, index.size());
+		assertTrue(index.getCandidates("other").isEmpty());
+	}
+
+	public void testRegularExpressionSearch() throws Exception {
+		ITopicMap topicMap = (ITopicMap) TopicMapSystemFactory.newInstance().newTopicMapSystem().createTopicMap("http://engine.topicmapslab.de/ngrams/");
+		try {
+			Topic topic = topicMap.createTopicBySubjectIdentifier(topicMap.createLocator("http://psi.example.org/berlin"));
+			topicMap.createTopicBySubjectIdentifier(topicMap.createLocator("http://psi.example.org/leipzig"));
+			topic.createName("Berlin");
+			topic.createName("Leipzig").setValue("Bern");
+			topic.createOccurrence(topic, "capital of Germany");
+
+			ILiteralIndex literalIndex = topicMap.getIndex(ILiteralIndex.class);
+			literalIndex.open();
+			assertEquals(1, literalIndex.getNames("Berlin").size());
+			assertEquals(1, literalIndex.getCharacteristicsMatches("Ber.*n").size());
+			assertEquals(2, literalIndex.getCharacteristicsMatches("Ber.*").size());
+			assertEquals(1, literalIndex.getCharacteristicsMatches(".*of Germany").size());
+			assertTrue(literalIndex.getCharacteristicsMatches("Leip.*").isEmpty());
+
+			IIdentityIndex identityIndex = topicMap.getIndex(IIdentityIndex.class);
+			identityIndex.open();
+			assertEquals(2, identityIndex.getTopicsBySubjectIdentifier("http://psi\\.example\\.org/.*").size());
+			assertEquals(1, identityIndex.getTopicsBySubjectIdentifier(".*/berlin").size());
+			topic.remove();
+			assertTrue(identityIndex.getTopicsBySubjectIdentifier(".*/berlin").isEmpty());
+			assertTrue(literalIndex.getCharacteristicsMatches("Ber.*").isEmpty());
+		} finally {
+			topicMap.close();
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store;
+
+import junit.framework.TestCase;
+
+import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMapSystemFactory;
+
+import de.topicmapslab.majortom.inmemory.store.SignatureStore.Signature;
+import de.topicmapslab.majortom.inmemory.store.SignatureStore.SignatureBuilder;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+
+/**
+ * Test of the binary signatures of the {@link SignatureStore}
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestSignatureStore extends TestCase {
+
+	public void testSignatureBuilder() throws Exception {
+		Signature s1 = new SignatureBuilder().append(1).append("ab").append("c").toSignature();
+		Signature s2 = new SignatureBuilder().append(1).append("ab").append("c").toSignature();
+		Signature s3 = new SignatureBuilder().append(1).append("a").append("bc").toSignature();
+		Signature s4 = new SignatureBuilder().append(1).append("ab").append((String) null).toSignature();
+		assertEquals(s1, s2);
+		assertEquals(s1.hashCode(), s2.hashCode());
+		assertEquals(0, s1.compareTo(s2));
+		assertFalse(s1.equals(s3));
+		assertFalse(s1.equals(s4));
+	}
+
+	public void testRemoveDuplicates() throws Exception {
+		ITopicMap topicMap = (ITopicMap) TopicMapSystemFactory.newInstance().newTopicMapSystem().createTopicMap("http://engine.topicmapslab.de/signatures/");
+		try {
+			InMemoryTopicMapStore store = (InMemoryTopicMapStore) topicMap.getStore();
+			Topic topic = topicMap.createTopic();
+			Topic type = topicMap.createTopic();
+			for (int i = 0; i < 10; i++) {
+				topic.createName("Name");
+				topic.createOccurrence(type, "Value");
+				topicMap.createAssociation(type).createRole(type, topic);
+			}
+			topic.createName("Other");
+			store.removeDuplicates();
+			assertEquals(2, topic.getNames().size());
+			assertEquals(1, topic.getOccurrences().size());
+			assertEquals(1, topicMap.getAssociations().size());
+		} finally {
+			topicMap.close();
+		}
+	}
+}
@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLEncoder;
+
+import junit.framework.TestCase;
+
+import org.tmapi.core.Association;
+import org.tmapi.core.Name;
+import org.tmapi.core.Occurrence;
+import org.tmapi.core.Role;
+import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMapSystemFactory;
+import org.tmapi.core.Variant;
+
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.namespace.Namespaces;
+import de.topicmapslab.majortom.util.FeatureStrings;
+
+/**
+ * Test of the snapshots and the write-ahead log of the in-memory store
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestSnapshot extends TestCase {
+
+	private static final String BASE = "http://engine.topicmapslab.de/snapshot/";
+
+	private File directory;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void setUp() throws Exception {
+		directory = File.createTempFile("majortom", "snapshot");
+		directory.delete();
+		directory.mkdirs();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void tearDown() throws Exception {
+		delete(directory);
+	}
+
+	public void testWriteAndReadSnapshot() throws Exception {
+		ITopicMap topicMap = (ITopicMap) TopicMapSystemFactory.newInstance().newTopicMapSystem().createTopicMap(BASE);
+		fill(topicMap);
+		File file = new File(directory, "topicmap.snapshot");
+		((InMemoryTopicMapStore) topicMap.getStore()).writeSnapshot(file);
+		String id = topicMap.getId();
+		topicMap.close();
+
+		ITopicMap restored = (ITopicMap) TopicMapSystemFactory.newInstance().newTopicMapSystem().createTopicMap(BASE);
+		((InMemoryTopicMapStore) restored.getStore()).readSnapshot(file);
+		assertEquals(id, restored.getId());
+		check(restored);
+		try {
+			((InMemoryTopicMapStore) restored.getStore()).readSnapshot(file);
+			fail("A snapshot can only be read into an empty store.");
+		} catch (Exception e) {
+			// NOTHING TO DO
+		}
+		restored.close();
+	}
+
+	public void testRestartFromSnapshot() throws Exception {
+		ITopicMap topicMap = createTopicMap(directory, false);
+		fill(topicMap);
+		topicMap.close();
+		assertTrue(new File(directory, URLEncoder.encode(BASE, "UTF-8") + ".snapshot").exists());
+
+		ITopicMap restored = createTopicMap(directory, false);
+		check(restored);
+		restored.close();
+	}
+
+	public void testReplayOfWriteAheadLog() throws Exception {
+		ITopicMap topicMap = createTopicMap(directory, true);
+		fill(topicMap);
+		Topic removed = topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(BASE + "removed"));
+		removed.remove();
+		String id = topicMap.getTopicBySubjectIdentifier(topicMap.createLocator(BASE + "person")).getId();
+
+		/*
+		 * simulate a crash by copying the files of the open topic map and append a torn record
+		 */
+		File crashed = new File(directory, "crashed");
+		crashed.mkdirs();
+		String name = URLEncoder.encode(BASE, "UTF-8") + ".snapshot";
+		copy(new File(directory, name), new File(crashed, name));
+		copy(new File(directory, name + ".wal"), new File(crashed, name + ".wal"));
+		long length = new File(crashed, name + ".wal").length();
+		assertTrue(length > 0);
+		OutputStream out = new FileOutputStream(new File(crashed, name + ".wal"), true);
+		out.write(new byte[] { 0, 0, 0, 42, 1, 2, 3 });
+		out.close();
+		topicMap.close();
+
+		ITopicMap restored = createTopicMap(crashed, true);
+		check(restored);
+		assertNull(restored.getTopicBySubjectIdentifier(restored.createLocator(BASE + "removed")));
+		assertEquals(id, restored.getTopicBySubjectIdentifier(restored.createLocator(BASE + "person")).getId());
+		restored.close();
+	}
+
+	public void testRestoreFromBackupSnapshot() throws Exception {
+		ITopicMap topicMap = createTopicMap(directory, true);
+		fill(topicMap);
+
+		/*
+		 * simulate a crash while replacing the snapshot, after the former one is renamed to the backup
+		 */
+		File crashed = new File(directory, "crashed");
+		crashed.mkdirs();
+		String name = URLEncoder.encode(BASE, "UTF-8") + ".snapshot";
+		copy(new File(directory, name), new File(crashed, name + ".bak"));
+		copy(new File(directory, name + ".wal"), new File(crashed, name + ".wal"));
+		topicMap.close();
+
+		ITopicMap restored = createTopicMap(crashed, true);
+		check(restored);
+		assertTrue(new File(crashed, name).exists());
+		assertFalse(new File(crashed, name + ".bak").exists());
+		restored.close();
+	}
+
+	public void testFailureOfWriteAheadLog() throws Exception {
+		final ITopicMap topicMap = createTopicMap(directory, true, true);
+		InMemoryTopicMapStore store = (InMemoryTopicMapStore) topicMap.getStore();
+		String name = URLEncoder.encode(BASE, "UTF-8") + ".snapshot";
+
+		/*
+		 * a failing log is replaced by a checkpoint containing the modification
+		 */
+		store.getWriteAheadLog().close();
+		topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(BASE + "checkpointed"));
+		File copy = new File(directory, "copy");
+		copy.mkdirs();
+		copy(new File(directory, name), new File(copy, name));
+		ITopicMap restored = createTopicMap(copy, false, false);
+		assertNotNull(restored.getTopicBySubjectIdentifier(restored.createLocator(BASE + "checkpointed")));
+		restored.close();
+
+		/*
+		 * if the checkpoint fails too, all further modifications are rejected but the lock is released
+		 */
+		File blocked = new File(directory, name + ".tmp");
+		blocked.mkdirs();
+		try {
+			topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(BASE + "lost"));
+			fail("The failure of the write-ahead log has to be fatal.");
+		} catch (Exception e) {
+			// NOTHING TO DO
+		}
+		try {
+			topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(BASE + "rejected"));
+			fail("The store has to reject modifications after a fatal failure of the write-ahead log.");
+		} catch (Exception e) {
+			// NOTHING TO DO
+		}
+		final Topic[] read = new Topic[1];
+		Thread reader = new Thread() {
+			public void run() {
+				read[0] = topicMap.getTopicBySubjectIdentifier(topicMap.createLocator(BASE + "checkpointed"));
+			}
+		};
+		reader.start();
+		reader.join(5000);
+		assertFalse("The write lock was not released.", reader.isAlive());
+		assertNotNull(read[0]);
+		blocked.delete();
+		topicMap.close();
+	}
+
+	/**
+	 * Creates a new topic map persisted in the given directory
+	 */
+	private ITopicMap createTopicMap(File dir, boolean writeAheadLog) throws Exception {
+		return createTopicMap(dir, writeAheadLog, false);
+	}
+
+	/**
+	 * Creates a new topic map persisted in the given directory
+	 */
+	private ITopicMap createTopicMap(File dir, boolean writeAheadLog, boolean concurrent) throws Exception {
+		TopicMapSystemFactory factory = TopicMapSystemFactory.newInstance();
+		factory.setFeature(FeatureStrings.CONCURRENT_STORE, concurrent);
+		factory.setProperty(IInMemoryTopicMapStoreProperty.SNAPSHOT_DIRECTORY, dir.getAbsolutePath());
+		if (writeAheadLog) {
+			factory.setProperty(IInMemoryTopicMapStoreProperty.WRITE_AHEAD_LOG, "true");
+			factory.setProperty(IInMemoryTopicMapStoreProperty.WRITE_AHEAD_LOG_SYNC_INTERVAL, "0");
+		}
+		return (ITopicMap) factory.newTopicMapSystem().createTopicMap(BASE);
+	}
+
+	/**
+	 * Fills the topic map with one construct of each kind
+	 */
+	private void fill(ITopicMap topicMap) {
+		Topic type = topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(BASE + "type"));
+		Topic person = topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(BASE + "person"));
+		person.addSubjectLocator(topicMap.createLocator(BASE + "person.html"));
+		person.addType(type);
+		Topic theme = topicMap.createTopicByItemIdentifier(topicMap.createLocator(BASE + "theme"));
+		Name name = person.createName("Sven Krosse", theme);
+		name.createVariant("Krosse", topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(BASE + "sort")));
+		person.createOccurrence(type, "42", topicMap.createLocator(Namespaces.XSD.INTEGER));
+		Association association = topicMap.createAssociation(type, theme);
+		association.createRole(type, person);
+		Topic reifier = topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(BASE + "reifier"));
+		association.setReifier(reifier);
+	}
+
+	/**
+	 * Checks the content created by {@link #fill(ITopicMap)}
+	 */
+	private void check(ITopicMap topicMap) {
+		Topic type = topicMap.getTopicBySubjectIdentifier(topicMap.createLocator(BASE + "type"));
+		Topic person = topicMap.getTopicBySubjectIdentifier(topicMap.createLocator(BASE + "person"));
+		Topic theme = (Topic) topicMap.getConstructByItemIdentifier(topicMap.createLocator(BASE + "theme"));
+		assertNotNull(type);
+		assertNotNull(person);
+		assertNotNull(theme);
+		assertEquals(person, topicMap.getTopicBySubjectLocator(topicMap.createLocator(BASE + "person.html")));
+		assertTrue(person.getTypes().contains(type));
+
+		assertEquals(1, person.getNames().size());
+		Name name = person.getNames().iterator().next();
+		assertEquals("Sven Krosse", name.getValue());
+		assertTrue(name.getScope().contains(theme));
+		assertEquals(1, name.getVariants().size());
+		Variant variant = name.getVariants().iterator().next();
+		assertEquals("Krosse", variant.getValue());
+		assertEquals(2, variant.getScope().size());
+
+		assertEquals(1, person.getOccurrences(type).size());
+		Occurrence occurrence = person.getOccurrences(type).iterator().next();
+		assertEquals(42, occurrence.intValue());
+		assertEquals(Namespaces.XSD.INTEGER, occurrence.getDatatype().getReference());
+
+		assertEquals(1, person.getRolesPlayed().size());
+		Role role = person.getRolesPlayed().iterator().next();
+		Association association = role.getParent();
+		assertEquals(type, association.getType());
+		assertEquals(type, role.getType());
+		assertTrue(association.getScope().contains(theme));
+		assertEquals(topicMap.getTopicBySubjectIdentifier(topicMap.createLocator(BASE + "reifier")), association.getReifier());
+	}
+
+	/**
+	 * Copies the given file
+	 */
+	private void copy(File source, File target) throws IOException {
+		InputStream in = new FileInputStream(source);
+		OutputStream out = new FileOutputStream(target);
+		byte[] buffer = new byte[4096];
+		int read;
+		while ((read = in.read(buffer)) != -1) {
+			out.write(buffer, 0, read);
+		}
+		in.close();
+		out.close();
+	}
+
+	/**
+	 * Deletes the given file or directory
+	 */
+	private void delete(File file) {
+		File[] children = file.listFiles();
+		if (children != null) {
+			for (File child : children) {
+				delete(child);
+			}
+		}
+		file.delete();
+	}
+}
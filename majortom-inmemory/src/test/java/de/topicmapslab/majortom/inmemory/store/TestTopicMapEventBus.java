@@ -0,0 +1,225 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import org.tmapi.core.Construct;
+import org.tmapi.core.TopicMapSystemFactory;
+
+import de.topicmapslab.majortom.event.IListenerErrorHandler;
+import de.topicmapslab.majortom.event.OverflowStrategy;
+import de.topicmapslab.majortom.event.TopicMapEventBus;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.event.ITopicMapListener;
+import de.topicmapslab.majortom.model.event.TopicMapEventType;
+import de.topicmapslab.majortom.store.TopicMapStoreProperty;
+import de.topicmapslab.majortom.util.FeatureStrings;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Test of the synchronous and asynchronous dispatch of the {@link TopicMapEventBus}
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestTopicMapEventBus extends TestCase {
+
+	/**
+	 * listener recording the event types
+	 */
+	class RecordingListener implements ITopicMapListener {
+
+		final List<TopicMapEventType> events = HashUtil.getList();
+		Thread thread;
+
+		public synchronized void topicMapChanged(String id, TopicMapEventType event, Construct notifier, Object newValue, Object oldValue) {
+			events.add(event);
+			thread = Thread.currentThread();
+		}
+	}
+
+	public void testAsynchronousListener() throws Exception {
+		TopicMapSystemFactory factory = TopicMapSystemFactory.newInstance();
+		factory.setProperty(TopicMapStoreProperty.EVENT_ASYNCHRONOUS, "true");
+		ITopicMap topicMap = (ITopicMap) factory.newTopicMapSystem().createTopicMap("http://engine.topicmapslab.de/events/");
+		try {
+			InMemoryTopicMapStore store = (InMemoryTopicMapStore) topicMap.getStore();
+			RecordingListener listener = new RecordingListener();
+			topicMap.addTopicMapListener(listener);
+			assertTrue(store.getEventBus().getListeners().contains(listener));
+			assertFalse(store.getListeners().contains(listener));
+
+			for (int i = 0; i < 100; i++) {
+				topicMap.createTopic();
+			}
+			store.getEventBus().flush();
+			synchronized (listener) {
+				int topics = 0;
+				for (TopicMapEventType event : listener.events) {
+					if (event == TopicMapEventType.TOPIC_ADDED) {
+						topics++;
+					}
+				}
+				assertEquals(100, topics);
+				assertNotSame(Thread.currentThread(), listener.thread);
+			}
+
+			topicMap.removeTopicMapListener(listener);
+			assertTrue(store.getEventBus().getListeners().isEmpty());
+		} finally {
+			topicMap.close();
+		}
+	}
+
+	public void testSynchronousSubscriber() throws Exception {
+		TopicMapEventBus bus = new TopicMapEventBus();
+		RecordingListener subscriber = new RecordingListener();
+		bus.subscribe(subscriber);
+		bus.publish(TopicMapEventType.TOPIC_ADDED, null, null, null);
+		assertEquals(1, subscriber.events.size());
+		assertSame(Thread.currentThread(), subscriber.thread);
+		bus.close();
+	}
+
+	public void testReopenedBus() throws Exception {
+		TopicMapEventBus bus = new TopicMapEventBus();
+		RecordingListener listener = new RecordingListener();
+		bus.addListener(listener);
+		bus.publish(TopicMapEventType.TOPIC_ADDED, null, null, null);
+		bus.close();
+		bus.flush();
+		bus.publish(TopicMapEventType.TOPIC_REMOVED, null, null, null);
+
+		bus.open();
+		bus.publish(TopicMapEventType.NAME_ADDED, null, null, null);
+		bus.flush();
+		synchronized (listener) {
+			assertEquals(2, listener.events.size());
+			assertEquals(TopicMapEventType.TOPIC_ADDED, listener.events.get(0));
+			assertEquals(TopicMapEventType.NAME_ADDED, listener.events.get(1));
+		}
+		assertEquals(1, bus.getDiscardedEvents());
+		bus.close();
+	}
+
+	public void testListenerReadingTopicMapWhileBufferIsFull() throws Exception {
+		TopicMapSystemFactory factory = TopicMapSystemFactory.newInstance();
+		factory.setFeature(FeatureStrings.CONCURRENT_STORE, true);
+		factory.setProperty(TopicMapStoreProperty.EVENT_ASYNCHRONOUS, "true");
+		factory.setProperty(TopicMapStoreProperty.EVENT_CAPACITY, "2");
+		factory.setProperty(TopicMapStoreProperty.EVENT_BATCH_SIZE, "1");
+		final ITopicMap topicMap = (ITopicMap) factory.newTopicMapSystem().createTopicMap("http://engine.topicmapslab.de/events/full/");
+		try {
+			InMemoryTopicMapStore store = (InMemoryTopicMapStore) topicMap.getStore();
+			assertEquals(OverflowStrategy.DISCARD_OLDEST, store.getEventBus().getOverflowStrategy());
+			final AtomicInteger reads = new AtomicInteger();
+			topicMap.addTopicMapListener(new ITopicMapListener() {
+				public void topicMapChanged(String id, TopicMapEventType event, Construct notifier, Object newValue, Object oldValue) {
+					/*
+					 * reading needs the read lock the writer may hold
+					 */
+					reads.addAndGet(topicMap.getTopics().size());
+					try {
+						Thread.sleep(5);
+					} catch (InterruptedException e) {
+						// NOTHING TO DO
+					}
+				}
+			});
+			Thread writer = new Thread() {
+				public void run() {
+					for (int i = 0; i < 200; i++) {
+						topicMap.createTopic();
+					}
+				}
+			};
+			writer.start();
+			writer.join(30000);
+			assertFalse("The writer and the dispatcher are deadlocked.", writer.isAlive());
+			assertEquals(200, topicMap.getTopics().size());
+			store.getEventBus().flush();
+			assertTrue(reads.get() > 0);
+		} finally {
+			topicMap.close();
+		}
+	}
+
+	public void testFailingListener() throws Exception {
+		final List<RuntimeException> failures = HashUtil.getList();
+		TopicMapEventBus bus = new TopicMapEventBus();
+		bus.setErrorHandler(new IListenerErrorHandler() {
+			public void listenerFailed(ITopicMapListener listener, String id, TopicMapEventType event, RuntimeException failure) {
+				synchronized (failures) {
+					failures.add(failure);
+				}
+			}
+		});
+		bus.addListener(new ITopicMapListener() {
+			public void topicMapChanged(String id, TopicMapEventType event, Construct notifier, Object newValue, Object oldValue) {
+				throw new IllegalStateException("failing listener");
+			}
+		});
+		RecordingListener listener = new RecordingListener();
+		bus.addListener(listener);
+		bus.publish(TopicMapEventType.TOPIC_ADDED, null, null, null);
+		bus.publish(TopicMapEventType.TOPIC_ADDED, null, null, null);
+		bus.flush();
+		assertEquals(2, bus.getFailedDeliveries());
+		synchronized (failures) {
+			assertEquals(2, failures.size());
+			assertEquals("failing listener", failures.get(0).getMessage());
+		}
+		synchronized (listener) {
+			assertEquals(2, listener.events.size());
+		}
+		bus.close();
+	}
+
+	public void testOverflow() throws Exception {
+		final CountDownLatch blocked = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		TopicMapEventBus bus = new TopicMapEventBus(4, 1, OverflowStrategy.DISCARD_NEWEST);
+		bus.addListener(new ITopicMapListener() {
+			public void topicMapChanged(String id, TopicMapEventType event, Construct notifier, Object newValue, Object oldValue) {
+				blocked.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					// NOTHING TO DO
+				}
+			}
+		});
+		/*
+		 * first event blocks the dispatcher
+		 */
+		bus.publish(TopicMapEventType.TOPIC_ADDED, null, null, null);
+		blocked.await();
+		for (int i = 0; i < 10; i++) {
+			bus.publish(TopicMapEventType.TOPIC_ADDED, null, null, null);
+		}
+		assertEquals(4, bus.size());
+		assertEquals(6, bus.getDiscardedEvents());
+		release.countDown();
+		bus.flush();
+		assertEquals(0, bus.size());
+		bus.close();
+	}
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store.internal;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.tmapi.core.TopicMapSystemFactory;
+
+import de.topicmapslab.majortom.inmemory.store.InMemoryTopicMapStore;
+import de.topicmapslab.majortom.model.core.IScope;
+import de.topicmapslab.majortom.model.core.ITopic;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+
+/**
+ * Test of the theme-scopes index of the {@link ScopeStore}
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestScopeStore extends TestCase {
+
+	private ITopicMap topicMap;
+	private ScopeStore store;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void setUp() throws Exception {
+		topicMap = (ITopicMap) TopicMapSystemFactory.newInstance().newTopicMapSystem().createTopicMap("http://engine.topicmapslab.de/scopes/");
+		store = ((InMemoryTopicMapStore) topicMap.getStore()).getScopeStore();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void tearDown() throws Exception {
+		topicMap.close();
+	}
+
+	public void testThemeQueries() throws Exception {
+		ITopic a = (ITopic) topicMap.createTopic();
+		ITopic b = (ITopic) topicMap.createTopic();
+		ITopic c = (ITopic) topicMap.createTopic();
+
+		IScope ab = store.getScope(a, b);
+		IScope bc = store.getScope(b, c);
+		IScope ac = store.getScope(a, c);
+		assertSame(ab, store.getScope(b, a));
+
+		Set<IScope> scopes = store.getScopes(b);
+		assertEquals(2, scopes.size());
+		assertTrue(scopes.contains(ab));
+		assertTrue(scopes.contains(bc));
+
+		scopes = store.getScopes(Arrays.asList(a, b), true);
+		assertEquals(1, scopes.size());
+		assertTrue(scopes.contains(ab));
+
+		scopes = store.getScopes(Arrays.asList(a, b), false);
+		assertEquals(3, scopes.size());
+		assertTrue(scopes.contains(ac));
+	}
+
+	public void testRemoveScopes() throws Exception {
+		ITopic a = (ITopic) topicMap.createTopic();
+		ITopic b = (ITopic) topicMap.createTopic();
+		IScope ab = store.getScope(a, b);
+		store.removeScopes(a);
+		assertTrue(store.getScopes(a).isEmpty());
+		assertTrue(store.getScopes(b).isEmpty());
+		assertNotSame(ab, store.getScope(a, b));
+	}
+}
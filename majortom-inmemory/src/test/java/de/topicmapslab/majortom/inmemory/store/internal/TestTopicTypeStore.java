@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.inmemory.store.internal;
+
+import junit.framework.TestCase;
+
+import org.tmapi.core.Association;
+import org.tmapi.core.TopicMapSystemFactory;
+
+import de.topicmapslab.majortom.inmemory.store.InMemoryTopicMapStore;
+import de.topicmapslab.majortom.model.core.ITopic;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.namespace.Namespaces;
+
+/**
+ * Test of the transitive closure of the {@link TopicTypeStore}
+ *
+ * @author Sven Krosse
+ *
+ */
+public class TestTopicTypeStore extends TestCase {
+
+	private ITopicMap topicMap;
+	private TopicTypeStore store;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void setUp() throws Exception {
+		topicMap = (ITopicMap) TopicMapSystemFactory.newInstance().newTopicMapSystem().createTopicMap("http://engine.topicmapslab.de/types/");
+		store = ((InMemoryTopicMapStore) topicMap.getStore()).getTopicTypeStore();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void tearDown() throws Exception {
+		topicMap.close();
+	}
+
+	public void testClosure() throws Exception {
+		ITopic a = (ITopic) topicMap.createTopic();
+		ITopic b = (ITopic) topicMap.createTopic();
+		ITopic c = (ITopic) topicMap.createTopic();
+		ITopic d = (ITopic) topicMap.createTopic();
+
+		b.addSupertype(a);
+		assertEquals(1, store.getSupertypes(b).size());
+		assertEquals(1, store.getSubtypes(a).size());
+
+		c.addSupertype(b);
+		assertEquals(2, store.getSupertypes(c).size());
+		assertTrue(store.getSupertypes(c).contains(a));
+		assertEquals(2, store.getSubtypes(a).size());
+		assertTrue(store.getSubtypes(a).contains(c));
+
+		/*
+		 * add hierarchy by association
+		 */
+		Association association = topicMap.createAssociation(topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(Namespaces.TMDM.SUPERTYPE_SUBTYPE)));
+		association.createRole(topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(Namespaces.TMDM.SUBTYPE)), d);
+		association.createRole(topicMap.createTopicBySubjectIdentifier(topicMap.createLocator(Namespaces.TMDM.SUPERTYPE)), c);
+		assertEquals(3, store.getSupertypes(d).size());
+		assertTrue(store.getSubtypes(a).contains(d));
+
+		/*
+		 * remove hierarchy
+		 */
+		c.removeSupertype(b);
+		assertTrue(store.getSupertypes(c).isEmpty());
+		assertEquals(1, store.getSubtypes(a).size());
+		association.remove();
+		assertTrue(store.getSupertypes(d).isEmpty());
+		assertTrue(store.getSubtypes(c).isEmpty());
+	}
+}
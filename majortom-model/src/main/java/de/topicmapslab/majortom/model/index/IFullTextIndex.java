@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.model.index;
+
+import java.util.List;
+
+import org.tmapi.core.Construct;
+import org.tmapi.core.Topic;
+
+/**
+ * Interface specification of a full-text index. The index tokenizes the values
+ * of all names, occurrences and variants of the topic map and returns the
+ * matching constructs ranked by their relevance.
+ * <p>
+ * A query is a sequence of clauses separated by white-spaces. A clause is a
+ * single term (e.g. <code>topic</code>), a prefix ending with an asterisk (e.g.
+ * <code>top*</code>) or a phrase in double quotes (e.g.
+ * <code>"topic maps"</code>). A clause prefixed by <code>+</code> or the keyword
+ * <code>AND</code> is required, a clause prefixed by <code>-</code> or the
+ * keyword <code>NOT</code> is prohibited, all other clauses are optional.
+ * </p>
+ *
+ * @author Sven Krosse
+ *
+ */
+public interface IFullTextIndex extends IIndex {
+
+	/**
+	 * Returns all names, occurrences and variants matching the given query,
+	 * ordered by their relevance.
+	 *
+	 * @param query
+	 *            the query
+	 * @return a list of the matching constructs, the most relevant first
+	 */
+	public List<Construct> getConstructs(final String query);
+
+	/**
+	 * Returns all topics with at least one name, occurrence or variant matching
+	 * the given query, ordered by the relevance of their best matching
+	 * characteristic.
+	 *
+	 * @param query
+	 *            the query
+	 * @return a list of the topics, the most relevant first
+	 */
+	public List<Topic> getTopics(final String query);
+
+}
@@ -18,6 +18,7 @@ package de.topicmapslab.majortom.model.index;
 import java.net.URI;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import org.tmapi.core.Locator;
@@ -26,6 +27,7 @@ import org.tmapi.core.Occurrence;
 import org.tmapi.core.Variant;
 import org.tmapi.index.LiteralIndex;
 
+import de.topicmapslab.geotype.wgs84.Wgs84Circuit;
 import de.topicmapslab.geotype.wgs84.Wgs84Coordinate;
 import de.topicmapslab.majortom.model.core.ICharacteristics;
 import de.topicmapslab.majortom.model.core.IDatatypeAware;
@@ -143,6 +145,19 @@ public interface ILiteralIndex extends LiteralIndex,IIndex {
 	 */
 	public Collection<ICharacteristics> getIntegers(final int value, final double deviance);
 
+	/**
+	 * Returns all characteristics with the datatype xsd:integer and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @return the characteristics
+	 * @since 1.3.0
+	 */
+	public Collection<ICharacteristics> getIntegersBetween(final int lower, final int upper);
+
 	/**
 	 * Returns all characteristics with the given value and the datatype
 	 * xsd:long.
@@ -165,6 +180,19 @@ public interface ILiteralIndex extends LiteralIndex,IIndex {
 	 */
 	public Collection<ICharacteristics> getLongs(final long value, final double deviance);
 
+	/**
+	 * Returns all characteristics with the datatype xsd:long and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @return the characteristics
+	 * @since 1.3.0
+	 */
+	public Collection<ICharacteristics> getLongsBetween(final long lower, final long upper);
+
 	/**
 	 * Returns all characteristics with the given value and the datatype
 	 * xsd:float.
@@ -187,6 +215,19 @@ public interface ILiteralIndex extends LiteralIndex,IIndex {
 	 */
 	public Collection<ICharacteristics> getFloats(final float value, final double deviance);
 
+	/**
+	 * Returns all characteristics with the datatype xsd:float and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @return the characteristics
+	 * @since 1.3.0
+	 */
+	public Collection<ICharacteristics> getFloatsBetween(final float lower, final float upper);
+
 	/**
 	 * Returns all characteristics with the given value and the datatype
 	 * xsd:double.
@@ -209,6 +250,19 @@ public interface ILiteralIndex extends LiteralIndex,IIndex {
 	 */
 	public Collection<ICharacteristics> getDoubles(final double value, final double deviance);
 
+	/**
+	 * Returns all characteristics with the datatype xsd:double and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @return the characteristics
+	 * @since 1.3.0
+	 */
+	public Collection<ICharacteristics> getDoublesBetween(final double lower, final double upper);
+
 	/**
 	 * Returns all characteristics with the given value and the datatype
 	 * xsd:dateTime.
@@ -236,6 +290,19 @@ public interface ILiteralIndex extends LiteralIndex,IIndex {
 	 */
 	public Collection<ICharacteristics> getDateTime(final Calendar value, final Calendar deviance);
 
+	/**
+	 * Returns all characteristics with the datatype xsd:dateTime or xsd:date
+	 * and a value contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @return the characteristics
+	 * @since 1.3.0
+	 */
+	public Collection<ICharacteristics> getDateTimeBetween(final Calendar lower, final Calendar upper);
+
 	/**
 	 * Returns all characteristics with the given value and the datatype
 	 * xsd:boolean.
@@ -277,6 +344,47 @@ public interface ILiteralIndex extends LiteralIndex,IIndex {
 	 */
 	public Collection<IDatatypeAware> getDatatypeAwares(final Locator dataType);
 
+	/**
+	 * Returns all characteristics with the datatype tm:geo and a
+	 * geographical coordinate contained by the given circuit.
+	 * 
+	 * @param area
+	 *            the circuit
+	 * @return the characteristics
+	 * @since 1.3.0
+	 */
+	public Collection<ICharacteristics> getCoordinates(final Wgs84Circuit area);
+
+	/**
+	 * Returns all characteristics with the datatype tm:geo and a
+	 * geographical coordinate contained by the bounding box spanned by the
+	 * given corners. If the longitude of the south-west corner is greater than
+	 * the longitude of the north-east corner, the box crosses the 180th
+	 * meridian.
+	 * 
+	 * @param southWest
+	 *            the south-west corner
+	 * @param northEast
+	 *            the north-east corner
+	 * @return the characteristics
+	 * @since 1.3.0
+	 */
+	public Collection<ICharacteristics> getCoordinatesInBoundingBox(final Wgs84Coordinate southWest, final Wgs84Coordinate northEast);
+
+	/**
+	 * Returns the characteristics with the datatype tm:geo which are nearest
+	 * to the given coordinate. The characteristics are ordered by their
+	 * distance to the given coordinate, the nearest first.
+	 * 
+	 * @param value
+	 *            the coordinate
+	 * @param count
+	 *            the maximum number of returned characteristics
+	 * @return the nearest characteristics
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getNearestCoordinates(final Wgs84Coordinate value, final int count);
+
 	/**
 	 * Return all names contained by the current topic map.
 	 * 
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.model.index.paging;
+
+import java.util.List;
+
+import org.tmapi.core.Construct;
+import org.tmapi.core.Topic;
+
+import de.topicmapslab.majortom.model.index.IFullTextIndex;
+import de.topicmapslab.majortom.model.index.IIndex;
+
+/**
+ * Special {@link IFullTextIndex} supporting paging.
+ *
+ * @author Sven Krosse
+ *
+ */
+public interface IPagedFullTextIndex extends IIndex {
+
+	/**
+	 * Returns all names, occurrences and variants matching the given query,
+	 * ordered by their relevance.
+	 *
+	 * @param query
+	 *            the query
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the constructs within the given range
+	 */
+	public List<Construct> getConstructs(final String query, int offset, int limit);
+
+	/**
+	 * Returns all topics with at least one name, occurrence or variant matching
+	 * the given query, ordered by the relevance of their best matching
+	 * characteristic.
+	 *
+	 * @param query
+	 *            the query
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the topics within the given range
+	 */
+	public List<Topic> getTopics(final String query, int offset, int limit);
+
+}
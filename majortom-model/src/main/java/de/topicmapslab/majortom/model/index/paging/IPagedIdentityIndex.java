@@ -430,4 +430,124 @@ public interface IPagedIdentityIndex extends IIndex {
 	public List<Construct> getConstructsByIdentifier(final Pattern regExp,
 			int offset, int limit, Comparator<Construct> comparator);
 
+	/**
+	 * Returns the page of all constructs with an identifier matching the given regular expression following the given cursor. The constructs are ordered by their identifiers.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of constructs
+	 * @since 1.3.0
+	 */
+	public PagedResult<Construct> getConstructsByIdentifier(Pattern regExp, String cursor, int limit);
+
+	/**
+	 * Returns the page of all constructs with an identifier matching the given regular expression following the given cursor. The constructs are ordered by the given comparator.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of constructs
+	 * @since 1.3.0
+	 */
+	public PagedResult<Construct> getConstructsByIdentifier(Pattern regExp, String cursor, int limit, Comparator<Construct> comparator);
+
+	/**
+	 * Returns the page of all constructs with an item-identifier matching the given regular expression following the given cursor. The constructs are ordered by their identifiers.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of constructs
+	 * @since 1.3.0
+	 */
+	public PagedResult<Construct> getConstructsByItemIdentifier(Pattern regExp, String cursor, int limit);
+
+	/**
+	 * Returns the page of all constructs with an item-identifier matching the given regular expression following the given cursor. The constructs are ordered by the given comparator.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of constructs
+	 * @since 1.3.0
+	 */
+	public PagedResult<Construct> getConstructsByItemIdentifier(Pattern regExp, String cursor, int limit, Comparator<Construct> comparator);
+
+	/**
+	 * Returns the page of all topics with a subject-identifier matching the given regular expression following the given cursor. The topics are ordered by their identifiers.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of topics
+	 * @since 1.3.0
+	 */
+	public PagedResult<Topic> getTopicsBySubjectIdentifier(Pattern regExp, String cursor, int limit);
+
+	/**
+	 * Returns the page of all topics with a subject-identifier matching the given regular expression following the given cursor. The topics are ordered by the given comparator.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of topics
+	 * @since 1.3.0
+	 */
+	public PagedResult<Topic> getTopicsBySubjectIdentifier(Pattern regExp, String cursor, int limit, Comparator<Topic> comparator);
+
+	/**
+	 * Returns the page of all topics with a subject-locator matching the given regular expression following the given cursor. The topics are ordered by their identifiers.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of topics
+	 * @since 1.3.0
+	 */
+	public PagedResult<Topic> getTopicsBySubjectLocator(Pattern regExp, String cursor, int limit);
+
+	/**
+	 * Returns the page of all topics with a subject-locator matching the given regular expression following the given cursor. The topics are ordered by the given comparator.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of topics
+	 * @since 1.3.0
+	 */
+	public PagedResult<Topic> getTopicsBySubjectLocator(Pattern regExp, String cursor, int limit, Comparator<Topic> comparator);
+
 }
@@ -26,6 +26,7 @@ import org.tmapi.core.Name;
 import org.tmapi.core.Occurrence;
 import org.tmapi.core.Variant;
 
+import de.topicmapslab.geotype.wgs84.Wgs84Circuit;
 import de.topicmapslab.geotype.wgs84.Wgs84Coordinate;
 import de.topicmapslab.majortom.model.core.ICharacteristics;
 import de.topicmapslab.majortom.model.core.IDatatypeAware;
@@ -395,6 +396,45 @@ public interface IPagedLiteralIndex extends IIndex {
 			final double deviance, int offset, int limit,
 			Comparator<ICharacteristics> comparator);
 
+	/**
+	 * Returns all characteristics with the datatype xsd:integer and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the characteristics within the given range
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getIntegersBetween(final int lower,
+			final int upper, int offset, int limit);
+
+	/**
+	 * Returns all characteristics with the datatype xsd:integer and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the characteristics within the given range
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getIntegersBetween(final int lower,
+			final int upper, int offset, int limit,
+			Comparator<ICharacteristics> comparator);
+
 	/**
 	 * Returns all characteristics with the given value and the datatype
 	 * xsd:long.
@@ -468,6 +508,45 @@ public interface IPagedLiteralIndex extends IIndex {
 			final double deviance, int offset, int limit,
 			Comparator<ICharacteristics> comparator);
 
+	/**
+	 * Returns all characteristics with the datatype xsd:long and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the characteristics within the given range
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getLongsBetween(final long lower,
+			final long upper, int offset, int limit);
+
+	/**
+	 * Returns all characteristics with the datatype xsd:long and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the characteristics within the given range
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getLongsBetween(final long lower,
+			final long upper, int offset, int limit,
+			Comparator<ICharacteristics> comparator);
+
 	/**
 	 * Returns all characteristics with the given value and the datatype
 	 * xsd:float.
@@ -545,6 +624,45 @@ public interface IPagedLiteralIndex extends IIndex {
 			final double deviance, int offset, int limit,
 			Comparator<ICharacteristics> comparator);
 
+	/**
+	 * Returns all characteristics with the datatype xsd:float and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the characteristics within the given range
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getFloatsBetween(final float lower,
+			final float upper, int offset, int limit);
+
+	/**
+	 * Returns all characteristics with the datatype xsd:float and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the characteristics within the given range
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getFloatsBetween(final float lower,
+			final float upper, int offset, int limit,
+			Comparator<ICharacteristics> comparator);
+
 	/**
 	 * Returns all characteristics with the given value and the datatype
 	 * xsd:double.
@@ -618,6 +736,45 @@ public interface IPagedLiteralIndex extends IIndex {
 			final double deviance, int offset, int limit,
 			Comparator<ICharacteristics> comparator);
 
+	/**
+	 * Returns all characteristics with the datatype xsd:double and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the characteristics within the given range
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getDoublesBetween(final double lower,
+			final double upper, int offset, int limit);
+
+	/**
+	 * Returns all characteristics with the datatype xsd:double and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the characteristics within the given range
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getDoublesBetween(final double lower,
+			final double upper, int offset, int limit,
+			Comparator<ICharacteristics> comparator);
+
 	/**
 	 * Returns all characteristics with the given value and the datatype
 	 * xsd:dateTime.
@@ -703,6 +860,45 @@ public interface IPagedLiteralIndex extends IIndex {
 			final Calendar deviance, int offset, int limit,
 			Comparator<ICharacteristics> comparator);
 
+	/**
+	 * Returns all characteristics with the datatype xsd:dateTime or xsd:date and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the characteristics within the given range
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getDateTimeBetween(final Calendar lower,
+			final Calendar upper, int offset, int limit);
+
+	/**
+	 * Returns all characteristics with the datatype xsd:dateTime or xsd:date and a value
+	 * contained by the given range [lower, upper].
+	 * 
+	 * @param lower
+	 *            the lower bound, inclusive
+	 * @param upper
+	 *            the upper bound, inclusive
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the characteristics within the given range
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getDateTimeBetween(final Calendar lower,
+			final Calendar upper, int offset, int limit,
+			Comparator<ICharacteristics> comparator);
+
 	/**
 	 * Returns all characteristics with the given value and the datatype
 	 * xsd:boolean.
@@ -828,6 +1024,98 @@ public interface IPagedLiteralIndex extends IIndex {
 	public List<IDatatypeAware> getDatatypeAwares(final Locator dataType,
 			int offset, int limit);
 
+	/**
+	 * Returns all characteristics with the datatype tm:geo and a
+	 * geographical coordinate contained by the given circuit.
+	 * 
+	 * @param area
+	 *            the circuit
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the characteristics within the given range
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getCoordinates(final Wgs84Circuit area,
+			int offset, int limit);
+
+	/**
+	 * Returns all characteristics with the datatype tm:geo and a
+	 * geographical coordinate contained by the given circuit.
+	 * 
+	 * @param area
+	 *            the circuit
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the characteristics within the given range
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getCoordinates(final Wgs84Circuit area,
+			int offset, int limit, Comparator<ICharacteristics> comparator);
+
+	/**
+	 * Returns all characteristics with the datatype tm:geo and a
+	 * geographical coordinate contained by the bounding box spanned by the
+	 * given corners.
+	 * 
+	 * @param southWest
+	 *            the south-west corner
+	 * @param northEast
+	 *            the north-east corner
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the characteristics within the given range
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getCoordinatesInBoundingBox(
+			final Wgs84Coordinate southWest, final Wgs84Coordinate northEast,
+			int offset, int limit);
+
+	/**
+	 * Returns all characteristics with the datatype tm:geo and a
+	 * geographical coordinate contained by the bounding box spanned by the
+	 * given corners.
+	 * 
+	 * @param southWest
+	 *            the south-west corner
+	 * @param northEast
+	 *            the north-east corner
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the characteristics within the given range
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getCoordinatesInBoundingBox(
+			final Wgs84Coordinate southWest, final Wgs84Coordinate northEast,
+			int offset, int limit, Comparator<ICharacteristics> comparator);
+
+	/**
+	 * Returns the characteristics with the datatype tm:geo ordered by their
+	 * distance to the given coordinate, the nearest first.
+	 * 
+	 * @param value
+	 *            the coordinate
+	 * @param offset
+	 *            the index of the first item
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the characteristics within the given range
+	 * @since 1.3.0
+	 */
+	public List<ICharacteristics> getNearestCoordinates(
+			final Wgs84Coordinate value, int offset, int limit);
+
 	/**
 	 * Returns all variants and occurrences with the given data-type.
 	 * 
@@ -927,4 +1215,124 @@ public interface IPagedLiteralIndex extends IIndex {
 	public List<Variant> getVariants(int offset, int limit,
 			Comparator<Variant> comparator);
 
+	/**
+	 * Returns the page of all characteristics with the given value following the given cursor. The characteristics are ordered by their identifiers.
+	 * 
+	 * @param value
+	 *            the value
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of characteristics
+	 * @since 1.3.0
+	 */
+	public PagedResult<ICharacteristics> getCharacteristics(String value, String cursor, int limit);
+
+	/**
+	 * Returns the page of all characteristics with the given value following the given cursor. The characteristics are ordered by the given comparator.
+	 * 
+	 * @param value
+	 *            the value
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of characteristics
+	 * @since 1.3.0
+	 */
+	public PagedResult<ICharacteristics> getCharacteristics(String value, String cursor, int limit, Comparator<ICharacteristics> comparator);
+
+	/**
+	 * Returns the page of all characteristics with the given datatype following the given cursor. The characteristics are ordered by their identifiers.
+	 * 
+	 * @param datatype
+	 *            the datatype
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of characteristics
+	 * @since 1.3.0
+	 */
+	public PagedResult<ICharacteristics> getCharacteristics(Locator datatype, String cursor, int limit);
+
+	/**
+	 * Returns the page of all characteristics with the given datatype following the given cursor. The characteristics are ordered by the given comparator.
+	 * 
+	 * @param datatype
+	 *            the datatype
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of characteristics
+	 * @since 1.3.0
+	 */
+	public PagedResult<ICharacteristics> getCharacteristics(Locator datatype, String cursor, int limit, Comparator<ICharacteristics> comparator);
+
+	/**
+	 * Returns the page of all characteristics with a value matching the given regular expression following the given cursor. The characteristics are ordered by their identifiers.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of characteristics
+	 * @since 1.3.0
+	 */
+	public PagedResult<ICharacteristics> getCharacteristicsMatches(Pattern regExp, String cursor, int limit);
+
+	/**
+	 * Returns the page of all characteristics with a value matching the given regular expression following the given cursor. The characteristics are ordered by the given comparator.
+	 * 
+	 * @param regExp
+	 *            the regular expression
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of characteristics
+	 * @since 1.3.0
+	 */
+	public PagedResult<ICharacteristics> getCharacteristicsMatches(Pattern regExp, String cursor, int limit, Comparator<ICharacteristics> comparator);
+
+	/**
+	 * Returns the page of all data-type-aware constructs with the given datatype following the given cursor. The constructs are ordered by their identifiers.
+	 * 
+	 * @param dataType
+	 *            the datatype
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of constructs
+	 * @since 1.3.0
+	 */
+	public PagedResult<IDatatypeAware> getDatatypeAwares(Locator dataType, String cursor, int limit);
+
+	/**
+	 * Returns the page of all data-type-aware constructs with the given datatype following the given cursor. The constructs are ordered by the given comparator.
+	 * 
+	 * @param dataType
+	 *            the datatype
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of constructs
+	 * @since 1.3.0
+	 */
+	public PagedResult<IDatatypeAware> getDatatypeAwares(Locator dataType, String cursor, int limit, Comparator<IDatatypeAware> comparator);
+
 }
@@ -1067,4 +1067,154 @@ public interface IPagedScopedIndex extends IIndex {
 	 */
 	public long getNumberOfVariants(Collection<IScope> scopes);
 
+	/**
+	 * Returns the page of all constructs scoped by the given scope following the given cursor. The constructs are ordered by their identifiers.
+	 * 
+	 * @param scope
+	 *            the scope
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of constructs
+	 * @since 1.3.0
+	 */
+	public PagedResult<Scoped> getScopables(IScope scope, String cursor, int limit);
+
+	/**
+	 * Returns the page of all constructs scoped by the given scope following the given cursor. The constructs are ordered by the given comparator.
+	 * 
+	 * @param scope
+	 *            the scope
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of constructs
+	 * @since 1.3.0
+	 */
+	public PagedResult<Scoped> getScopables(IScope scope, String cursor, int limit, Comparator<Scoped> comparator);
+
+	/**
+	 * Returns the page of all associations in the scope containing the given theme following the given cursor. The associations are ordered by their identifiers.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of associations
+	 * @since 1.3.0
+	 */
+	public PagedResult<Association> getAssociations(Topic theme, String cursor, int limit);
+
+	/**
+	 * Returns the page of all associations in the scope containing the given theme following the given cursor. The associations are ordered by the given comparator.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of associations
+	 * @since 1.3.0
+	 */
+	public PagedResult<Association> getAssociations(Topic theme, String cursor, int limit, Comparator<Association> comparator);
+
+	/**
+	 * Returns the page of all names in the scope containing the given theme following the given cursor. The names are ordered by their identifiers.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of names
+	 * @since 1.3.0
+	 */
+	public PagedResult<Name> getNames(Topic theme, String cursor, int limit);
+
+	/**
+	 * Returns the page of all names in the scope containing the given theme following the given cursor. The names are ordered by the given comparator.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of names
+	 * @since 1.3.0
+	 */
+	public PagedResult<Name> getNames(Topic theme, String cursor, int limit, Comparator<Name> comparator);
+
+	/**
+	 * Returns the page of all occurrences in the scope containing the given theme following the given cursor. The occurrences are ordered by their identifiers.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of occurrences
+	 * @since 1.3.0
+	 */
+	public PagedResult<Occurrence> getOccurrences(Topic theme, String cursor, int limit);
+
+	/**
+	 * Returns the page of all occurrences in the scope containing the given theme following the given cursor. The occurrences are ordered by the given comparator.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of occurrences
+	 * @since 1.3.0
+	 */
+	public PagedResult<Occurrence> getOccurrences(Topic theme, String cursor, int limit, Comparator<Occurrence> comparator);
+
+	/**
+	 * Returns the page of all variants in the scope containing the given theme following the given cursor. The variants are ordered by their identifiers.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of variants
+	 * @since 1.3.0
+	 */
+	public PagedResult<Variant> getVariants(Topic theme, String cursor, int limit);
+
+	/**
+	 * Returns the page of all variants in the scope containing the given theme following the given cursor. The variants are ordered by the given comparator.
+	 * 
+	 * @param theme
+	 *            the theme
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of variants
+	 * @since 1.3.0
+	 */
+	public PagedResult<Variant> getVariants(Topic theme, String cursor, int limit, Comparator<Variant> comparator);
+
 }
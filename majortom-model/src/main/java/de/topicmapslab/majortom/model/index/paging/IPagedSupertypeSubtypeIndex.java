@@ -440,4 +440,64 @@ public interface IPagedSupertypeSubtypeIndex extends IIndex {
 	 */
 	public List<Topic> getSubtypes(Collection<? extends Topic> types, boolean all, int offset, int limit, Comparator<Topic> comparator);
 
+	/**
+	 * Returns the page of all supertypes of the given topic type following the given cursor. The supertypes are ordered by their identifiers.
+	 * 
+	 * @param type
+	 *            the topic type
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of supertypes
+	 * @since 1.3.0
+	 */
+	public PagedResult<Topic> getSupertypes(Topic type, String cursor, int limit);
+
+	/**
+	 * Returns the page of all supertypes of the given topic type following the given cursor. The supertypes are ordered by the given comparator.
+	 * 
+	 * @param type
+	 *            the topic type
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of supertypes
+	 * @since 1.3.0
+	 */
+	public PagedResult<Topic> getSupertypes(Topic type, String cursor, int limit, Comparator<Topic> comparator);
+
+	/**
+	 * Returns the page of all subtypes of the given topic type following the given cursor. The subtypes are ordered by their identifiers.
+	 * 
+	 * @param type
+	 *            the topic type
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of subtypes
+	 * @since 1.3.0
+	 */
+	public PagedResult<Topic> getSubtypes(Topic type, String cursor, int limit);
+
+	/**
+	 * Returns the page of all subtypes of the given topic type following the given cursor. The subtypes are ordered by the given comparator.
+	 * 
+	 * @param type
+	 *            the topic type
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of subtypes
+	 * @since 1.3.0
+	 */
+	public PagedResult<Topic> getSubtypes(Topic type, String cursor, int limit, Comparator<Topic> comparator);
+
 }
@@ -716,4 +716,164 @@ public interface IPagedTypeInstanceIndex extends IIndex {
 	 * @since 1.2.0
 	 */
 	public long getNumberOfOccurrences(Collection<? extends Topic> types);
+
+	/**
+	 * Returns the page of all topic instances typed by the given topic type following the given cursor. The topic instances are ordered by
+	 * their identifiers.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of topic instances
+	 * @since 1.3.0
+	 */
+	public PagedResult<Topic> getTopics(Topic type, String cursor, int limit);
+
+	/**
+	 * Returns the page of all topic instances typed by the given topic type following the given cursor. The topic instances are ordered by
+	 * the given comparator.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of topic instances
+	 * @since 1.3.0
+	 */
+	public PagedResult<Topic> getTopics(Topic type, String cursor, int limit, Comparator<Topic> comparator);
+
+	/**
+	 * Returns the page of all names typed by the given topic type following the given cursor. The names are ordered by
+	 * their identifiers.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of names
+	 * @since 1.3.0
+	 */
+	public PagedResult<Name> getNames(Topic type, String cursor, int limit);
+
+	/**
+	 * Returns the page of all names typed by the given topic type following the given cursor. The names are ordered by
+	 * the given comparator.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of names
+	 * @since 1.3.0
+	 */
+	public PagedResult<Name> getNames(Topic type, String cursor, int limit, Comparator<Name> comparator);
+
+	/**
+	 * Returns the page of all occurrences typed by the given topic type following the given cursor. The occurrences are ordered by
+	 * their identifiers.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of occurrences
+	 * @since 1.3.0
+	 */
+	public PagedResult<Occurrence> getOccurrences(Topic type, String cursor, int limit);
+
+	/**
+	 * Returns the page of all occurrences typed by the given topic type following the given cursor. The occurrences are ordered by
+	 * the given comparator.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of occurrences
+	 * @since 1.3.0
+	 */
+	public PagedResult<Occurrence> getOccurrences(Topic type, String cursor, int limit, Comparator<Occurrence> comparator);
+
+	/**
+	 * Returns the page of all associations typed by the given topic type following the given cursor. The associations are ordered by
+	 * their identifiers.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of associations
+	 * @since 1.3.0
+	 */
+	public PagedResult<Association> getAssociations(Topic type, String cursor, int limit);
+
+	/**
+	 * Returns the page of all associations typed by the given topic type following the given cursor. The associations are ordered by
+	 * the given comparator.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of associations
+	 * @since 1.3.0
+	 */
+	public PagedResult<Association> getAssociations(Topic type, String cursor, int limit, Comparator<Association> comparator);
+
+	/**
+	 * Returns the page of all roles typed by the given topic type following the given cursor. The roles are ordered by
+	 * their identifiers.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @return the page of roles
+	 * @since 1.3.0
+	 */
+	public PagedResult<Role> getRoles(Topic type, String cursor, int limit);
+
+	/**
+	 * Returns the page of all roles typed by the given topic type following the given cursor. The roles are ordered by
+	 * the given comparator.
+	 * 
+	 * @param type
+	 *            the type
+	 * @param cursor
+	 *            the continuation token returned with the previous page or <code>null</code> for the first page
+	 * @param limit
+	 *            the maximum count of returned values
+	 * @param comparator
+	 *            the comparator
+	 * @return the page of roles
+	 * @since 1.3.0
+	 */
+	public PagedResult<Role> getRoles(Topic type, String cursor, int limit, Comparator<Role> comparator);
 }
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.model.index.paging;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a cursor based paging request. The page contains the items and an opaque continuation token (cursor)
+ * which has to be used to request the next page. The token is only valid for the index method it was returned by.
+ *
+ * @author Sven Krosse
+ * @since 1.3.0
+ *
+ * @param <T>
+ *            the type of items
+ */
+public class PagedResult<T> {
+
+	private final List<T> items;
+	private final String cursor;
+
+	/**
+	 * constructor
+	 *
+	 * @param items
+	 *            the items of the page
+	 * @param cursor
+	 *            the continuation token of the next page or <code>null</code> if this is the last page
+	 */
+	public PagedResult(List<T> items, String cursor) {
+		this.items = Collections.unmodifiableList(items);
+		this.cursor = cursor;
+	}
+
+	/**
+	 * Returns the items of this page
+	 *
+	 * @return the items
+	 */
+	public List<T> getItems() {
+		return items;
+	}
+
+	/**
+	 * Returns the continuation token to request the next page.
+	 *
+	 * @return the token or <code>null</code> if this is the last page
+	 */
+	public String getCursor() {
+		return cursor;
+	}
+
+	/**
+	 * Checks if there is a further page after this one
+	 *
+	 * @return <code>true</code> if there is a next page, <code>false</code> otherwise
+	 */
+	public boolean hasNext() {
+		return cursor != null;
+	}
+}
@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.model.store;
+
+/**
+ * Statistics of one region of the read-through cache of a topic map store
+ * 
+ * @author Sven Krosse
+ */
+public interface ICacheStatistics {
+
+	/**
+	 * Returns the name of the cache region
+	 * 
+	 * @return the name
+	 */
+	public String getName();
+
+	/**
+	 * Returns the number of read accesses answered by the cache region
+	 * 
+	 * @return the number of hits
+	 */
+	public long getHitCount();
+
+	/**
+	 * Returns the number of read accesses the cache region could not answer
+	 * 
+	 * @return the number of misses
+	 */
+	public long getMissCount();
+
+	/**
+	 * Returns the ratio of read accesses answered by the cache region
+	 * 
+	 * @return the hit rate between <code>0</code> and <code>1</code>
+	 */
+	public double getHitRate();
+
+	/**
+	 * Returns the number of entries removed from the cache region to keep its weight below the maximum weight
+	 * 
+	 * @return the number of evictions
+	 */
+	public long getEvictionCount();
+
+	/**
+	 * Returns the current weight of the cache region. Every entry weighs one plus the number of elements of a cached
+	 * collection.
+	 * 
+	 * @return the weight
+	 */
+	public long getWeight();
+
+	/**
+	 * Returns the maximum weight of the cache region
+	 * 
+	 * @return the maximum weight or <code>-1</code> if the region is unbounded
+	 */
+	public long getMaximumWeight();
+
+}
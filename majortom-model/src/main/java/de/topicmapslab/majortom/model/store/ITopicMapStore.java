@@ -1,5 +1,7 @@
 package de.topicmapslab.majortom.model.store;
 
+import java.util.Collection;
+
 import org.tmapi.core.Construct;
 import org.tmapi.core.Locator;
 import org.tmapi.index.Index;
@@ -131,6 +133,23 @@ public interface ITopicMapStore {
 	 */
 	Object doRead(final IConstruct context, TopicMapStoreParameterType paramType, Object... params) throws TopicMapStoreException;
 
+	/**
+	 * Operation method to read the given information for a number of constructs at once and keep it in the read cache
+	 * of the store. Following calls of {@link #doRead(IConstruct, TopicMapStoreParameterType, Object...)} for one of
+	 * the constructs are answered without a further round trip to the back-end. Stores without a remote back-end or
+	 * with disabled caching ignore the call, so it can be used unconditionally. Unsupported parameter types are ignored
+	 * too.
+	 * 
+	 * @param contexts
+	 *            the constructs
+	 * @param paramType
+	 *            the parameter specify the content to read
+	 * @throws TopicMapStoreException
+	 *             thrown if the operation fails
+	 * @since 1.3.0
+	 */
+	void doPrefetch(final Collection<? extends IConstruct> contexts, TopicMapStoreParameterType paramType) throws TopicMapStoreException;
+
 	/**
 	 * Operation method to create a new information item
 	 * 
@@ -17,6 +17,7 @@
 package de.topicmapslab.majortom.model.store;
 
 import java.util.Calendar;
+import java.util.Collection;
 
 /**
  * Meta data interface of a topic map store
@@ -36,5 +37,12 @@ public interface ITopicMapStoreMetaData {
 	 * @return the last modification time
 	 */
 	public Calendar getLastModificationTime();
+
+	/**
+	 * Returns the statistics of every region of the read-through cache of the topic map store
+	 * 
+	 * @return the statistics of the cache regions, an empty collection if caching is disabled
+	 */
+	public Collection<ICacheStatistics> getCacheStatistics();
 	
 }
@@ -174,8 +174,12 @@ public class FileWriterMapHandler implements IHandler {
 
 			provider = new PostGreSqlConnectionProvider(localhost, db, user, password);
 			int r = provider.getDatabaseState();
-			if (r == IConnectionProvider.STATE_DATABASE_IS_EMPTY)
+			if (r == IConnectionProvider.STATE_DATABASE_IS_EMPTY) {
 				provider.createSchema();
+				provider.migrateSchema();
+			} else if (r == IConnectionProvider.STATE_DATABASE_NEEDS_MIGRATION) {
+				provider.migrateSchema();
+			}
 			connection = provider.getConnection();
 			connection.setAutoCommit(false);
 		} catch (SQLException e) {
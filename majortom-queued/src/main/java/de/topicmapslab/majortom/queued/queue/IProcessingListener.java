@@ -15,6 +15,8 @@
  ******************************************************************************/
 package de.topicmapslab.majortom.queued.queue;
 
+import java.util.List;
+
 import de.topicmapslab.majortom.queued.queue.task.IQueueTask;
 
 /**
@@ -31,4 +33,29 @@ public interface IProcessingListener {
 	 */
 	public void finished(IQueueTask task);
 
+	/**
+	 * Method which will be notified by the queue if a batch of tasks was finished.
+	 * 
+	 * @param batchSize
+	 *            the number of tasks of the batch
+	 * @param queueDepth
+	 *            the number of tasks still waiting in the queue
+	 * @param latency
+	 *            the time in milliseconds between the creation of the oldest task of the batch and the end of its
+	 *            execution
+	 */
+	public void batchFinished(int batchSize, int queueDepth, long latency);
+
+	/**
+	 * Method which will be notified by the queue if the execution of a batch failed. The tasks of a batch are reported
+	 * as finished after the batch was committed, so the tasks of a batch executed within one transaction are never
+	 * reported as finished if the batch failed. The queue stops after a failed batch.
+	 * 
+	 * @param batch
+	 *            the tasks of the batch
+	 * @param cause
+	 *            the cause of the failure
+	 */
+	public void batchFailed(List<IQueueTask> batch, Exception cause);
+
 }
@@ -3,25 +3,63 @@
  */
 package de.topicmapslab.majortom.queued.queue;
 
-import java.util.Queue;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import de.topicmapslab.majortom.database.store.JdbcTopicMapStore;
 import de.topicmapslab.majortom.model.store.ITopicMapStore;
+import de.topicmapslab.majortom.queued.queue.task.CreateTask;
 import de.topicmapslab.majortom.queued.queue.task.IQueueTask;
+import de.topicmapslab.majortom.queued.queue.task.ModifyTask;
 import de.topicmapslab.majortom.util.HashUtil;
 
 /**
+ * Worker thread applying the tasks of the queue to the topic map store. The worker sleeps until a new task is added.
+ * Consecutive creation and modification tasks are collected to batches, which are executed within one transaction if
+ * the topic map store is a {@link JdbcTopicMapStore}. A batch ends before a task referring to a construct created by
+ * the same batch, because the construct gets the identity of the database when the batch was committed.
+ * 
  * @author Sven Krosse
  * 
  */
 public class TopicMapStoreQueue extends Thread {
 
+	/**
+	 * default maximum number of tasks of one batch
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 100;
+	/**
+	 * default time in milliseconds to wait for further tasks to fill a batch
+	 */
+	public static final long DEFAULT_MAXIMUM_DELAY = 0;
+	/**
+	 * default number of pending tasks, which blocks new tasks until the worker has caught up
+	 */
+	public static final int DEFAULT_MAXIMUM_DEPTH = 10000;
+
 	private ITopicMapStore topicMapStore;
 
-	private Queue<IQueueTask> tasks;
+	private final BlockingQueue<IQueueTask> tasks;
 	private Set<IProcessingListener> listeners;
-	private boolean busy = false;
+	/**
+	 * the number of tasks added but not finished yet
+	 */
+	private final AtomicInteger pending = new AtomicInteger();
+	/**
+	 * monitor of threads waiting for free capacity
+	 */
+	private final Object capacity = new Object();
+
+	private final int batchSize;
+	private final long maximumDelay;
+	private final int maximumDepth;
 
 	/**
 	 * constructor
@@ -30,51 +68,246 @@ public class TopicMapStoreQueue extends Thread {
 	 *            the topic map store
 	 */
 	public TopicMapStoreQueue(ITopicMapStore topicMapStore) {
-		this.topicMapStore = topicMapStore;
+		this(topicMapStore, DEFAULT_BATCH_SIZE, DEFAULT_MAXIMUM_DELAY, DEFAULT_MAXIMUM_DEPTH);
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * constructor
+	 * 
+	 * @param topicMapStore
+	 *            the topic map store
+	 * @param batchSize
+	 *            the maximum number of tasks of one batch
+	 * @param maximumDelay
+	 *            the time in milliseconds to wait for further tasks to fill a batch
+	 * @param maximumDepth
+	 *            the number of pending tasks blocking new tasks, a non-positive value disables the back-pressure
 	 */
-	public synchronized void start() {
-		this.tasks = new ConcurrentLinkedQueue<IQueueTask>();
-		super.start();
+	public TopicMapStoreQueue(ITopicMapStore topicMapStore, int batchSize, long maximumDelay, int maximumDepth) {
+		this.topicMapStore = topicMapStore;
+		this.tasks = new LinkedBlockingQueue<IQueueTask>();
+		this.batchSize = Math.max(1, batchSize);
+		this.maximumDelay = Math.max(0, maximumDelay);
+		this.maximumDepth = maximumDepth;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	public void run() {
+		IQueueTask next = null;
 		while (!isInterrupted()) {
+			List<IQueueTask> batch = HashUtil.getList();
 			try {
-				while (!tasks.isEmpty()) {		
-					IQueueTask task = tasks.poll();
-					task.doTask(topicMapStore);
-					if (listeners != null) {
-						for (IProcessingListener listener : listeners) {
-							listener.finished(task);
+				/*
+				 * wait for the first task
+				 */
+				IQueueTask task = next == null ? tasks.take() : next;
+				next = null;
+				batch.add(task);
+				/*
+				 * collect following tasks which can be executed in the same transaction
+				 */
+				if (isBatchable(task)) {
+					Set<Object> created = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+					addCreatedConstruct(created, task);
+					long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maximumDelay);
+					while (batch.size() < batchSize) {
+						task = tasks.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+						if (task == null) {
+							break;
+						} else if (!isBatchable(task) || isDependent(task, created)) {
+							next = task;
+							break;
 						}
+						batch.add(task);
+						addCreatedConstruct(created, task);
 					}
-					busy = !tasks.isEmpty();
 				}
+			} catch (InterruptedException e) {
+				/*
+				 * the collected tasks are not executed anymore
+				 */
+				release(batch.size());
+				break;
+			}
+			try {
+				process(batch);
 			} catch (Exception e) {
 				interrupt();
 				e.printStackTrace();
 			}
+		}
+		/*
+		 * the task following the last batch is not executed anymore
+		 */
+		release(next == null ? 0 : 1);
+	}
+
+	/**
+	 * Internal method to execute a batch of tasks and notify the listeners
+	 * 
+	 * @param batch
+	 *            the tasks
+	 */
+	private void process(List<IQueueTask> batch) {
+		boolean transactional = batch.size() > 1 && topicMapStore instanceof JdbcTopicMapStore;
+		List<IQueueTask> executed = HashUtil.getList();
+		try {
+			if (transactional) {
+				((JdbcTopicMapStore) topicMapStore).beginBatch();
+			}
 			try {
-				sleep(1000);
-			} catch (InterruptedException e) {
-				break;
+				for (IQueueTask task : batch) {
+					task.doTask(topicMapStore);
+					executed.add(task);
+				}
+				if (transactional) {
+					((JdbcTopicMapStore) topicMapStore).commitBatch();
+				}
+			} catch (RuntimeException e) {
+				/*
+				 * the tasks of a rolled back batch are not reported as finished, so their constructs stay in the
+				 * virtual layer
+				 */
+				if (transactional) {
+					executed.clear();
+					((JdbcTopicMapStore) topicMapStore).rollbackBatch();
+				}
+				notifyFinished(executed);
+				if (listeners != null) {
+					for (IProcessingListener listener : listeners) {
+						listener.batchFailed(batch, e);
+					}
+				}
+				throw e;
+			}
+			/*
+			 * the listeners are notified after the commit, the tasks of a batch are independent of each other
+			 */
+			notifyFinished(executed);
+			long latency = System.currentTimeMillis() - batch.get(0).getTimeStamp().getTimeInMillis();
+			if (listeners != null) {
+				for (IProcessingListener listener : listeners) {
+					listener.batchFinished(batch.size(), tasks.size(), latency);
+				}
 			}
+		} finally {
+			release(batch.size());
 		}
 	}
 
+	/**
+	 * Internal method to notify the listeners about the given finished tasks
+	 * 
+	 * @param finished
+	 *            the finished tasks
+	 */
+	private void notifyFinished(List<IQueueTask> finished) {
+		if (listeners == null) {
+			return;
+		}
+		for (IQueueTask task : finished) {
+			for (IProcessingListener listener : listeners) {
+				listener.finished(task);
+			}
+		}
+	}
+
+	/**
+	 * Internal method to remove the given number of tasks from the pending tasks and wake up the threads waiting for
+	 * free capacity
+	 * 
+	 * @param number
+	 *            the number of tasks
+	 */
+	private void release(int number) {
+		pending.addAndGet(-number);
+		synchronized (capacity) {
+			capacity.notifyAll();
+		}
+	}
+
+	/**
+	 * Internal method to remember the construct created in the virtual layer by the given task
+	 * 
+	 * @param created
+	 *            the constructs created by the tasks of the current batch
+	 * @param task
+	 *            the task
+	 */
+	private void addCreatedConstruct(Set<Object> created, IQueueTask task) {
+		if (task instanceof CreateTask && ((CreateTask) task).getInMemoryClone() != null) {
+			created.add(((CreateTask) task).getInMemoryClone());
+		}
+	}
+
+	/**
+	 * Checks if the given task refers to a construct created by a task of the current batch. The construct gets the
+	 * identity of the database not until the batch was committed, so the task has to be executed by the next batch.
+	 * 
+	 * @param task
+	 *            the task
+	 * @param created
+	 *            the constructs created by the tasks of the current batch
+	 * @return <code>true</code> if the task depends on the current batch, <code>false</code> otherwise
+	 */
+	private boolean isDependent(IQueueTask task, Set<Object> created) {
+		if (created.isEmpty()) {
+			return false;
+		}
+		if (created.contains(task.getContext())) {
+			return true;
+		}
+		Object[] parameters = task instanceof CreateTask ? ((CreateTask) task).getParameters() : ((ModifyTask) task).getParameters();
+		return refersTo(parameters, created);
+	}
+
+	/**
+	 * Checks if the given parameter value is or contains one of the given constructs
+	 * 
+	 * @param value
+	 *            the parameter value
+	 * @param created
+	 *            the constructs
+	 * @return <code>true</code> if the value refers to one of the constructs, <code>false</code> otherwise
+	 */
+	private boolean refersTo(Object value, Set<Object> created) {
+		if (value instanceof Object[]) {
+			for (Object o : (Object[]) value) {
+				if (refersTo(o, created)) {
+					return true;
+				}
+			}
+			return false;
+		} else if (value instanceof Collection<?>) {
+			for (Object o : (Collection<?>) value) {
+				if (refersTo(o, created)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return value != null && created.contains(value);
+	}
+
+	/**
+	 * Checks if the given task can be executed as part of a batch
+	 * 
+	 * @param task
+	 *            the task
+	 * @return <code>true</code> if the task can be part of a batch, <code>false</code> otherwise
+	 */
+	private boolean isBatchable(IQueueTask task) {
+		return task instanceof CreateTask || task instanceof ModifyTask;
+	}
+
 	/**
 	 * Returns the number of tasks in the internal queue
 	 * 
 	 * @return the number of tasks
 	 */
-	public synchronized int size() {
+	public int size() {
 		return tasks.size();
 	}
 
@@ -82,7 +315,9 @@ public class TopicMapStoreQueue extends Thread {
 	 * removes all tasks from the internal queue
 	 */
 	public void clear() {
-		tasks.clear();
+		List<IQueueTask> removed = HashUtil.getList();
+		tasks.drainTo(removed);
+		release(removed.size());
 	}
 
 	/**
@@ -92,8 +327,33 @@ public class TopicMapStoreQueue extends Thread {
 	 *            the new task
 	 * @return <code>true</code> if the task could add to queue, <code>false</code> otherwise
 	 */
-	public synchronized boolean add(IQueueTask e) {
-		return tasks.add(e);
+	public boolean add(IQueueTask e) {
+		pending.incrementAndGet();
+		if (!tasks.add(e)) {
+			pending.decrementAndGet();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Blocks the calling thread as long as the number of pending tasks exceeds the maximum depth of the queue. The
+	 * method returns immediately if called by the worker thread itself or if the worker thread was shutdown.
+	 */
+	public void awaitCapacity() {
+		if (maximumDepth <= 0 || currentThread() == this) {
+			return;
+		}
+		synchronized (capacity) {
+			while (pending.get() >= maximumDepth && getState() != State.TERMINATED && !isInterrupted()) {
+				try {
+					capacity.wait(100);
+				} catch (InterruptedException e) {
+					currentThread().interrupt();
+					return;
+				}
+			}
+		}
 	}
 
 	/**
@@ -129,7 +389,34 @@ public class TopicMapStoreQueue extends Thread {
 	 * @return <code>true</code> if there are any tasks to do or a task is currently in progress.
 	 */
 	public boolean isBusy() {
-		return busy || !tasks.isEmpty();
+		return pending.get() > 0;
+	}
+
+	/**
+	 * Returns the maximum number of tasks of one batch
+	 * 
+	 * @return the batch size
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Returns the time in milliseconds the worker waits for further tasks to fill a batch
+	 * 
+	 * @return the maximum delay
+	 */
+	public long getMaximumDelay() {
+		return maximumDelay;
+	}
+
+	/**
+	 * Returns the number of pending tasks blocking new tasks
+	 * 
+	 * @return the maximum depth or a non-positive value if back-pressure is disabled
+	 */
+	public int getMaximumDepth() {
+		return maximumDepth;
 	}
 
 }
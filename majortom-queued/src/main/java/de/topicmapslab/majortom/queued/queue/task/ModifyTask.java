@@ -52,4 +52,11 @@ public class ModifyTask extends QueueTaskImpl {
 		return null;
 	}
 
+	/**
+	 * @return the parameters
+	 */
+	public Object[] getParameters() {
+		return parameters;
+	}
+
 }
@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.queued.store;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Read-write lock of the queued topic map store. Any number of readers may access the virtual layer at the same time,
+ * modifications of the virtual layer and updates of the worker thread are exclusive. If the caching of the database
+ * layer is enabled, read operations fill the caches of the database store, so read access is exclusive too.
+ * 
+ * @author Sven Krosse
+ * 
+ */
+class QueuedStoreLock implements ReadWriteLock {
+
+	private final QueuedTopicMapStore store;
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(true);
+
+	/**
+	 * constructor
+	 * 
+	 * @param store
+	 *            the queued store
+	 */
+	public QueuedStoreLock(QueuedTopicMapStore store) {
+		this.store = store;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Lock readLock() {
+		if (store.isCachingEnabled()) {
+			return lock.writeLock();
+		}
+		return lock.readLock();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Lock writeLock() {
+		return lock.writeLock();
+	}
+
+}
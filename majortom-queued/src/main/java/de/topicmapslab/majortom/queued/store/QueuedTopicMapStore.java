@@ -3,10 +3,11 @@
  */
 package de.topicmapslab.majortom.queued.store;
 
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReadWriteLock;
 
 import org.tmapi.core.Construct;
 import org.tmapi.core.Locator;
@@ -68,7 +69,11 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 	private VirtualInMemoryTopicMapStore inMemoryTopicMapStore;
 	private JdbcTopicMapStore jdbcTopicMapStore;
 	private TopicMapStoreQueue queue;
-	Lock lock = new ReentrantLock(true);
+	/**
+	 * the cause of the last failed batch of the queue
+	 */
+	private volatile Exception failure;
+	final ReadWriteLock lock = new QueuedStoreLock(this);
 
 	private ConcurrentScopedIndex scopedIndex;
 	private ConcurrentIdentityIndex identityIndex;
@@ -136,7 +141,9 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 		/*
 		 * initialize queue
 		 */
-		queue = new TopicMapStoreQueue(jdbcTopicMapStore);
+		queue = new TopicMapStoreQueue(jdbcTopicMapStore, getIntProperty(QueuedTopicMapStoreProperty.QUEUE_BATCH_SIZE, TopicMapStoreQueue.DEFAULT_BATCH_SIZE),
+				getIntProperty(QueuedTopicMapStoreProperty.QUEUE_MAXIMUM_DELAY, (int) TopicMapStoreQueue.DEFAULT_MAXIMUM_DELAY), getIntProperty(
+						QueuedTopicMapStoreProperty.QUEUE_MAXIMUM_DEPTH, TopicMapStoreQueue.DEFAULT_MAXIMUM_DEPTH));
 		queue.addProcessingListener(this);
 		queue.start();
 	}
@@ -152,6 +159,27 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 		super.close();
 	}
 
+	/**
+	 * Internal method to read an integer property of the topic map system
+	 * 
+	 * @param property
+	 *            the property name
+	 * @param defaultValue
+	 *            the value used if the property is not set or not a number
+	 * @return the integer value
+	 */
+	private int getIntProperty(String property, int defaultValue) {
+		Object value = getTopicMapSystem().getProperty(property);
+		if (value != null) {
+			try {
+				return Integer.parseInt(value.toString());
+			} catch (NumberFormatException e) {
+				// use default value
+			}
+		}
+		return defaultValue;
+	}
+
 	/**
 	 * shutdown the worker thread queue
 	 */
@@ -234,7 +262,7 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 	 * {@inheritDoc}
 	 */
 	public boolean isCachingEnabled() {
-		return jdbcTopicMapStore.isCachingEnabled();
+		return jdbcTopicMapStore != null && jdbcTopicMapStore.isCachingEnabled();
 	}
 
 	/**
@@ -248,10 +276,9 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 	 * {@inheritDoc}
 	 */
 	public Object doRead(IConstruct context, TopicMapStoreParameterType paramType, Object... params) throws TopicMapStoreException {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			if (!isConnected()) {
 				throw new TopicMapStoreException("Connection is not established");
 			}
@@ -268,7 +295,7 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 			 */
 			return inMemoryTopicMapStore.doRead(context, paramType, params);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -276,10 +303,12 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 	 * {@inheritDoc}
 	 */
 	public <T extends Construct> void doMerge(T context, T... others) throws TopicMapStoreException {
+		/*
+		 * wait until the worker thread has caught up
+		 */
+		queue.awaitCapacity();
+		lock.writeLock().lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			/*
 			 * merge in virtual layer
 			 */
@@ -293,7 +322,7 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 			 */
 			queue.add(task);
 		} finally {
-			lock.unlock();
+			lock.writeLock().unlock();
 		}
 	}
 
@@ -301,10 +330,12 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 	 * {@inheritDoc}
 	 */
 	public void doRemove(IConstruct context, TopicMapStoreParameterType paramType, Object... params) throws TopicMapStoreException {
+		/*
+		 * wait until the worker thread has caught up
+		 */
+		queue.awaitCapacity();
+		lock.writeLock().lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			/*
 			 * remove from virtual memory layer
 			 */
@@ -318,7 +349,7 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 			 */
 			queue.add(task);
 		} finally {
-			lock.unlock();
+			lock.writeLock().unlock();
 		}
 
 	}
@@ -341,10 +372,12 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 			jdbcTopicMapStore.doRemove(context, cascade);
 			return;
 		}
+		/*
+		 * wait until the worker thread has caught up
+		 */
+		queue.awaitCapacity();
+		lock.writeLock().lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			/*
 			 * remove from virtual memory layer
 			 */
@@ -358,7 +391,7 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 			 */
 			queue.add(task);
 		} finally {
-			lock.unlock();
+			lock.writeLock().unlock();
 		}
 	}
 
@@ -366,10 +399,12 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 	 * {@inheritDoc}
 	 */
 	public Object doCreate(IConstruct context, TopicMapStoreParameterType paramType, Object... params) throws TopicMapStoreException {
+		/*
+		 * wait until the worker thread has caught up
+		 */
+		queue.awaitCapacity();
+		lock.writeLock().lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			/*
 			 * create in the virtual memory layer
 			 */
@@ -384,7 +419,7 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 			queue.add(task);
 			return object;
 		} finally {
-			lock.unlock();
+			lock.writeLock().unlock();
 		}
 	}
 
@@ -392,10 +427,12 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 	 * {@inheritDoc}
 	 */
 	public void doModify(IConstruct context, TopicMapStoreParameterType paramType, Object... params) throws TopicMapStoreException {
+		/*
+		 * wait until the worker thread has caught up
+		 */
+		queue.awaitCapacity();
+		lock.writeLock().lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			/*
 			 * modify in virtual memory layer
 			 */
@@ -409,7 +446,7 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 			 */
 			queue.add(task);
 		} finally {
-			lock.unlock();
+			lock.writeLock().unlock();
 		}
 	}
 
@@ -438,6 +475,9 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 				// VOID
 			}
 		}
+		if (failure != null) {
+			throw new TopicMapStoreException("Worker thread was shutdown, because a batch of tasks was rolled back!", failure);
+		}
 		if (queue.isInterrupted() || !queue.isAlive()) {
 			throw new TopicMapStoreException("Worker thread was shutdown!");
 		}
@@ -457,12 +497,18 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 		/*
 		 * remove duplicates from virtual store
 		 */
-		inMemoryTopicMapStore.removeDuplicates();
+		lock.writeLock().lock();
+		try {
+			inMemoryTopicMapStore.removeDuplicates();
+		} finally {
+			lock.writeLock().unlock();
+		}
 
 		/*
 		 * add task to queue
 		 */
 		RemoveDuplicatesTask task = new RemoveDuplicatesTask(getTopicMap());
+		queue.awaitCapacity();
 		queue.add(task);
 	}
 
@@ -474,7 +520,12 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 		 * wait for finishing all tasks of the worker tread
 		 */
 		commit();
-		inMemoryTopicMapStore.clear();
+		lock.writeLock().lock();
+		try {
+			inMemoryTopicMapStore.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
 		jdbcTopicMapStore.clear();
 	}
 
@@ -506,18 +557,30 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 	 * {@inheritDoc}
 	 */
 	public void finished(IQueueTask task) {
-		while (!lock.tryLock()) {
-			// WAIT
-		}
+		lock.writeLock().lock();
 		try {
 			if (task instanceof CreateTask) {
 				updateVirtualLayer((CreateTask) task);
 			}
 		} finally {
-			lock.unlock();
+			lock.writeLock().unlock();
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public void batchFinished(int batchSize, int queueDepth, long latency) {
+		// NOTHING TO DO
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void batchFailed(List<IQueueTask> batch, Exception cause) {
+		failure = cause;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -532,6 +595,20 @@ public class QueuedTopicMapStore extends TopicMapStoreImpl implements IProcessin
 		jdbcTopicMapStore.removeTopicMapListener(listener);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public void addExternalTopicMapListener(ITopicMapListener listener) {
+		jdbcTopicMapStore.addExternalTopicMapListener(listener);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void removeExternalTopicMapListener(ITopicMapListener listener) {
+		jdbcTopicMapStore.removeExternalTopicMapListener(listener);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
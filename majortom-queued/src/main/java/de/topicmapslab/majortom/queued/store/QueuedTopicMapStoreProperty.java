@@ -0,0 +1,31 @@
+/**
+ * 
+ */
+package de.topicmapslab.majortom.queued.store;
+
+import de.topicmapslab.majortom.store.TopicMapStoreProperty;
+
+/**
+ * @author Sven Krosse
+ * 
+ */
+public final class QueuedTopicMapStoreProperty {
+
+	private static final String QUEUE_PREFIX = TopicMapStoreProperty.PREFIX + ".queue";
+
+	/**
+	 * the maximum number of tasks executed within one transaction
+	 */
+	public static final String QUEUE_BATCH_SIZE = QUEUE_PREFIX + ".batchSize";
+
+	/**
+	 * the time in milliseconds the worker thread waits for further tasks to fill a batch
+	 */
+	public static final String QUEUE_MAXIMUM_DELAY = QUEUE_PREFIX + ".maximumDelay";
+
+	/**
+	 * the number of pending tasks blocking any modification until the worker thread has caught up, a non-positive value
+	 * disables the back-pressure
+	 */
+	public static final String QUEUE_MAXIMUM_DEPTH = QUEUE_PREFIX + ".maximumDepth";
+}
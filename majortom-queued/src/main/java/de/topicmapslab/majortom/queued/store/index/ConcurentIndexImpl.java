@@ -16,11 +16,14 @@
 package de.topicmapslab.majortom.queued.store.index;
 
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 
 import de.topicmapslab.majortom.model.index.IIndex;
 
 /**
- * Base class of a concurrent index implementation
+ * Base class of a concurrent index implementation. Read operations of the index share the read lock of the store, so
+ * any number of threads can use the index in parallel. They are only blocked as long as the store holds the write
+ * lock to modify the virtual layer.
  * 
  * @author Sven Krosse
  * 
@@ -28,9 +31,17 @@ import de.topicmapslab.majortom.model.index.IIndex;
 public abstract class ConcurentIndexImpl<T extends IIndex> implements IIndex {
 
 	private final T parentIndex;
-	final Lock lock;
+	final ReadWriteLock lock;
 
-	public ConcurentIndexImpl(T parentIndex, Lock lock) {
+	/**
+	 * constructor
+	 * 
+	 * @param parentIndex
+	 *            the parent index
+	 * @param lock
+	 *            the read-write lock of the store
+	 */
+	public ConcurentIndexImpl(T parentIndex, ReadWriteLock lock) {
 		this.parentIndex = parentIndex;
 		this.lock = lock;
 	}
@@ -74,24 +85,25 @@ public abstract class ConcurentIndexImpl<T extends IIndex> implements IIndex {
 	 * {@inheritDoc}
 	 */
 	public void reindex() {
+		Lock writeLock = lock.writeLock();
+		writeLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			parentIndex.reindex();
 		} finally {
-			lock.unlock();
+			writeLock.unlock();
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
 	public void clear() {
+		Lock writeLock = lock.writeLock();
+		writeLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			parentIndex.clear();
 		} finally {
-			lock.unlock();
+			writeLock.unlock();
 		}
 	}
 	
@@ -17,6 +17,7 @@ package de.topicmapslab.majortom.queued.store.index;
 
 import java.util.Collection;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.regex.Pattern;
 
 import org.tmapi.core.Construct;
@@ -36,7 +37,7 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * @param parentIndex
 	 * @param lock
 	 */
-	public ConcurrentIdentityIndex(IIdentityIndex parentIndex, Lock lock) {
+	public ConcurrentIdentityIndex(IIdentityIndex parentIndex, ReadWriteLock lock) {
 		super(parentIndex, lock);
 	}
 
@@ -44,13 +45,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Collection<Locator> getItemIdentifiers() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getItemIdentifiers();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -58,13 +58,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Collection<Locator> getSubjectIdentifiers() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getSubjectIdentifiers();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -72,13 +71,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Collection<Locator> getSubjectLocators() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getSubjectLocators();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -86,13 +84,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Construct getConstructByItemIdentifier(String reference) throws MalformedIRIException {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getConstructByItemIdentifier(reference);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -100,13 +97,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Construct getConstructByItemIdentifier(Locator locator) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getConstructByItemIdentifier(locator);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -114,13 +110,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Collection<Construct> getConstructsByItemIdentifier(String regExp) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getConstructsByItemIdentifier(regExp);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -128,13 +123,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Collection<Construct> getConstructsByItemIdentifier(Pattern regExp) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getConstructsByItemIdentifier(regExp);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -142,13 +136,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Topic getTopicBySubjectIdentifier(String reference) throws MalformedIRIException {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getTopicBySubjectIdentifier(reference);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -156,13 +149,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Topic getTopicBySubjectIdentifier(Locator locator) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getTopicBySubjectIdentifier(locator);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -170,13 +162,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getTopicsBySubjectIdentifier(String regExp) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getTopicsBySubjectIdentifier(regExp);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -184,13 +175,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getTopicsBySubjectIdentifier(Pattern regExp) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getTopicsBySubjectIdentifier(regExp);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -198,13 +188,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Topic getTopicBySubjectLocator(String reference) throws MalformedIRIException {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getTopicBySubjectLocator(reference);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -212,13 +201,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Topic getTopicBySubjectLocator(Locator locator) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getTopicBySubjectLocator(locator);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -226,13 +214,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getTopicsBySubjectLocator(String regExp) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getTopicsBySubjectLocator(regExp);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -240,13 +227,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getTopicsBySubjectLocator(Pattern regExp) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getTopicsBySubjectLocator(regExp);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -254,13 +240,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Collection<Construct> getConstructsByIdentifier(String regExp) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getConstructsByIdentifier(regExp);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -268,13 +253,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public Collection<Construct> getConstructsByIdentifier(Pattern regExp) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getConstructsByIdentifier(regExp);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -282,13 +266,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public boolean existsSubjectIdentifier(String reference) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().existsSubjectIdentifier(reference);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -296,13 +279,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public boolean existsSubjectIdentifier(Locator locator) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().existsSubjectIdentifier(locator);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -310,13 +292,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public boolean existsSubjectLocator(String reference) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().existsSubjectLocator(reference);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -324,13 +305,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public boolean existsSubjectLocator(Locator locator) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().existsSubjectLocator(locator);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -338,13 +318,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public boolean existsItemIdentifier(String reference) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().existsItemIdentifier(reference);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -352,13 +331,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public boolean existsItemIdentifier(Locator locator) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().existsItemIdentifier(locator);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -366,13 +344,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public boolean existsIdentifier(String reference) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().existsIdentifier(reference);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -380,13 +357,12 @@ public class ConcurrentIdentityIndex extends ConcurentIndexImpl<IIdentityIndex>
 	 * {@inheritDoc}
 	 */
 	public boolean existsIdentifier(Locator locator) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().existsIdentifier(locator);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -18,7 +18,9 @@ package de.topicmapslab.majortom.queued.store.index;
 import java.net.URI;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.regex.Pattern;
 
 import org.tmapi.core.Locator;
@@ -26,6 +28,7 @@ import org.tmapi.core.Name;
 import org.tmapi.core.Occurrence;
 import org.tmapi.core.Variant;
 
+import de.topicmapslab.geotype.wgs84.Wgs84Circuit;
 import de.topicmapslab.geotype.wgs84.Wgs84Coordinate;
 import de.topicmapslab.majortom.model.core.ICharacteristics;
 import de.topicmapslab.majortom.model.core.IDatatypeAware;
@@ -41,7 +44,7 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * @param parentIndex
 	 * @param lock
 	 */
-	public ConcurrentLiteralIndex(ILiteralIndex parentIndex, Lock lock) {
+	public ConcurrentLiteralIndex(ILiteralIndex parentIndex, ReadWriteLock lock) {
 		super(parentIndex, lock);
 	}
 
@@ -49,13 +52,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<Occurrence> getOccurrences(String value) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getOccurrences(value);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -63,13 +65,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<Occurrence> getOccurrences(Locator value) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getOccurrences(value);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -77,13 +78,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<Occurrence> getOccurrences(String value, Locator datatype) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getOccurrences(value, datatype);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -91,13 +91,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<Variant> getVariants(String value) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getVariants(value);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -105,13 +104,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<Variant> getVariants(Locator value) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getVariants(value);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -119,13 +117,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<Variant> getVariants(String value, Locator datatype) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getVariants(value, datatype);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -133,13 +130,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<Name> getNames(String value) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getNames(value);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -147,13 +143,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getCharacteristics(String value) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getCharacteristics(value);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -161,13 +156,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getCharacteristics(Locator datatype) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getCharacteristics(datatype);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -175,13 +169,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getCharacteristics(String value, Locator datatype) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getCharacteristics(value, datatype);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -189,13 +182,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getCharacteristicsMatches(String regExp) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getCharacteristicsMatches(regExp);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -203,13 +195,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getCharacteristicsMatches(String regExp, Locator datatype) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getCharacteristicsMatches(regExp, datatype);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -217,13 +208,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getCharacteristicsMatches(Pattern regExp) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getCharacteristicsMatches(regExp);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -231,13 +221,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getCharacteristicsMatches(Pattern regExp, Locator datatype) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getCharacteristicsMatches(regExp, datatype);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -245,13 +234,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getUris(URI value) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getUris(value);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -259,13 +247,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getIntegers(int value) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getIntegers(value);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -273,13 +260,25 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getIntegers(int value, double deviance) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getIntegers(value, deviance);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getIntegersBetween(int lower, int upper) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return getParentIndex().getIntegersBetween(lower, upper);
+		} finally {
+			readLock.unlock();
 		}
 	}
 
@@ -287,13 +286,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getLongs(long value) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getLongs(value);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -301,13 +299,25 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getLongs(long value, double deviance) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getLongs(value, deviance);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getLongsBetween(long lower, long upper) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return getParentIndex().getLongsBetween(lower, upper);
+		} finally {
+			readLock.unlock();
 		}
 	}
 
@@ -315,13 +325,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getFloats(float value) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getFloats(value);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -329,13 +338,25 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getFloats(float value, double deviance) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getFloats(value, deviance);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getFloatsBetween(float lower, float upper) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return getParentIndex().getFloatsBetween(lower, upper);
+		} finally {
+			readLock.unlock();
 		}
 	}
 
@@ -343,13 +364,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getDoubles(double value) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getDoubles(value);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -357,13 +377,25 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getDoubles(double value, double deviance) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getDoubles(value, deviance);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getDoublesBetween(double lower, double upper) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return getParentIndex().getDoublesBetween(lower, upper);
+		} finally {
+			readLock.unlock();
 		}
 	}
 
@@ -371,13 +403,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getDateTime(Calendar value) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getDateTime(value);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -385,13 +416,25 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getDateTime(Calendar value, Calendar deviance) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getDateTime(value, deviance);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getDateTimeBetween(Calendar lower, Calendar upper) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return getParentIndex().getDateTimeBetween(lower, upper);
+		} finally {
+			readLock.unlock();
 		}
 	}
 
@@ -399,13 +442,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getBooleans(boolean value) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getBooleans(value);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -413,13 +455,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getCoordinates(Wgs84Coordinate value) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getCoordinates(value);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -427,13 +468,51 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getCoordinates(Wgs84Coordinate value, double deviance) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getCoordinates(value, deviance);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getCoordinates(Wgs84Circuit area) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return getParentIndex().getCoordinates(area);
+		} finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getCoordinatesInBoundingBox(Wgs84Coordinate southWest, Wgs84Coordinate northEast) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return getParentIndex().getCoordinatesInBoundingBox(southWest, northEast);
+		} finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getNearestCoordinates(Wgs84Coordinate value, int count) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
+		try {
+			return getParentIndex().getNearestCoordinates(value, count);
+		} finally {
+			readLock.unlock();
 		}
 	}
 
@@ -441,13 +520,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<IDatatypeAware> getDatatypeAwares(Locator dataType) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getDatatypeAwares(dataType);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -455,13 +533,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<Name> getNames() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getNames();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -469,13 +546,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<Occurrence> getOccurrences() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getOccurrences();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -483,13 +559,12 @@ public class ConcurrentLiteralIndex extends ConcurentIndexImpl<ILiteralIndex> im
 	 * {@inheritDoc}
 	 */
 	public Collection<Variant> getVariants() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getVariants();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
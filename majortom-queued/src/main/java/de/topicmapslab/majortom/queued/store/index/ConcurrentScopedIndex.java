@@ -17,6 +17,7 @@ package de.topicmapslab.majortom.queued.store.index;
 
 import java.util.Collection;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 
 import org.tmapi.core.Association;
 import org.tmapi.core.Name;
@@ -43,7 +44,7 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * @param lock
 	 *            the lock
 	 */
-	public ConcurrentScopedIndex(IScopedIndex parentIndex, Lock lock) {
+	public ConcurrentScopedIndex(IScopedIndex parentIndex, ReadWriteLock lock) {
 		super(parentIndex, lock);
 	}
 
@@ -58,13 +59,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Association> getAssociations(Topic theme) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getAssociations(theme);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -72,13 +72,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Association> getAssociations(Topic[] themes, boolean matchAll) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getAssociations(themes, matchAll);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -86,13 +85,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getAssociationThemes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getAssociationThemes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -100,13 +98,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Occurrence> getOccurrences(Topic theme) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getOccurrences(theme);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -114,13 +111,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Occurrence> getOccurrences(Topic[] themes, boolean matchAll) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getOccurrences(themes, matchAll);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -128,13 +124,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getOccurrenceThemes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getOccurrenceThemes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -142,13 +137,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Name> getNames(Topic theme) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getNames(theme);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -156,13 +150,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Name> getNames(Topic[] themes, boolean matchAll) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getNames(themes, matchAll);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -170,13 +163,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getNameThemes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getNameThemes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -184,13 +176,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Variant> getVariants(Topic theme) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getVariants(theme);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -198,13 +189,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Variant> getVariants(Topic[] themes, boolean matchAll) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getVariants(themes, matchAll);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -212,13 +202,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getVariantThemes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getVariantThemes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -226,13 +215,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public IScope getScope(Topic... themes) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getScope(themes);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -240,13 +228,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public IScope getScope(Collection<? extends Topic> themes) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getScope(themes);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -254,13 +241,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<IScope> getScopes(Topic... themes) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getScopes(themes);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -268,13 +254,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<IScope> getScopes(Topic[] themes, boolean matchAll) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getScopes(themes, matchAll);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -282,13 +267,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<IScope> getScopes(Collection<Topic> themes, boolean matchAll) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getScopes(themes, matchAll);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -296,13 +280,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Scoped> getScopables(IScope scope) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getScopables(scope);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -310,13 +293,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Scoped> getScopables(IScope... scopes) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getScopables(scopes);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -324,13 +306,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<IScope> getAssociationScopes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getAssociationScopes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -338,13 +319,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Association> getAssociations(IScope scope) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getAssociations(scope);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -352,13 +332,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Association> getAssociations(IScope... scopes) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getAssociations(scopes);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -366,13 +345,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Association> getAssociations(Collection<IScope> scopes) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getAssociations(scopes);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -380,13 +358,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getCharacteristics(IScope scope) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getCharacteristics(scope);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -394,13 +371,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getCharacteristics(IScope... scopes) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getCharacteristics(scopes);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -408,13 +384,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<IScope> getOccurrenceScopes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getOccurrenceScopes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -422,13 +397,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Occurrence> getOccurrences(IScope scope) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getOccurrences(scope);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -436,13 +410,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Occurrence> getOccurrences(IScope... scopes) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getOccurrences(scopes);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -450,13 +423,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Occurrence> getOccurrences(Collection<IScope> scopes) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getOccurrences(scopes);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -464,13 +436,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<IScope> getNameScopes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getNameScopes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -478,13 +449,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Name> getNames(IScope scope) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getNames(scope);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -492,13 +462,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Name> getNames(IScope... scopes) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getNames(scopes);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -506,13 +475,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Name> getNames(Collection<IScope> scopes) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getNames(scopes);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -520,13 +488,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<IScope> getVariantScopes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getVariantScopes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -534,13 +501,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Variant> getVariants(IScope scope) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getVariants(scope);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -548,13 +514,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Variant> getVariants(IScope... scopes) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getVariants(scopes);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -562,13 +527,12 @@ public class ConcurrentScopedIndex extends ConcurentIndexImpl<IScopedIndex> impl
 	 * {@inheritDoc}
 	 */
 	public Collection<Variant> getVariants(Collection<IScope> scopes) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getVariants(scopes);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
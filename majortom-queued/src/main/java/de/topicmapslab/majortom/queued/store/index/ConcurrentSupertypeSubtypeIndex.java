@@ -17,6 +17,7 @@ package de.topicmapslab.majortom.queued.store.index;
 
 import java.util.Collection;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 
 import org.tmapi.core.Topic;
 
@@ -32,7 +33,7 @@ public class ConcurrentSupertypeSubtypeIndex extends ConcurentIndexImpl<ISuperty
 	 * @param parentIndex
 	 * @param lock
 	 */
-	public ConcurrentSupertypeSubtypeIndex(ISupertypeSubtypeIndex parentIndex, Lock lock) {
+	public ConcurrentSupertypeSubtypeIndex(ISupertypeSubtypeIndex parentIndex, ReadWriteLock lock) {
 		super(parentIndex, lock);
 	}
 
@@ -40,13 +41,12 @@ public class ConcurrentSupertypeSubtypeIndex extends ConcurentIndexImpl<ISuperty
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getSupertypes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getSupertypes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -54,13 +54,12 @@ public class ConcurrentSupertypeSubtypeIndex extends ConcurentIndexImpl<ISuperty
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getSupertypes(Topic type) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getSupertypes(type);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -68,13 +67,12 @@ public class ConcurrentSupertypeSubtypeIndex extends ConcurentIndexImpl<ISuperty
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getDirectSupertypes(Topic type) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getDirectSupertypes(type);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -82,13 +80,12 @@ public class ConcurrentSupertypeSubtypeIndex extends ConcurentIndexImpl<ISuperty
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getSupertypes(Topic... types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getSupertypes(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -96,13 +93,12 @@ public class ConcurrentSupertypeSubtypeIndex extends ConcurentIndexImpl<ISuperty
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getSupertypes(Collection<? extends Topic> types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getSupertypes(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -110,13 +106,12 @@ public class ConcurrentSupertypeSubtypeIndex extends ConcurentIndexImpl<ISuperty
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getSupertypes(Collection<? extends Topic> types, boolean all) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getSupertypes(types, all);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -124,13 +119,12 @@ public class ConcurrentSupertypeSubtypeIndex extends ConcurentIndexImpl<ISuperty
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getSubtypes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getSubtypes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -138,13 +132,12 @@ public class ConcurrentSupertypeSubtypeIndex extends ConcurentIndexImpl<ISuperty
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getSubtypes(Topic type) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getSubtypes(type);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -152,13 +145,12 @@ public class ConcurrentSupertypeSubtypeIndex extends ConcurentIndexImpl<ISuperty
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getDirectSubtypes(Topic type) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getDirectSubtypes(type);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -166,13 +158,12 @@ public class ConcurrentSupertypeSubtypeIndex extends ConcurentIndexImpl<ISuperty
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getSubtypes(Topic... types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getSubtypes(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -180,13 +171,12 @@ public class ConcurrentSupertypeSubtypeIndex extends ConcurentIndexImpl<ISuperty
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getSubtypes(Collection<? extends Topic> types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getSubtypes(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -194,13 +184,12 @@ public class ConcurrentSupertypeSubtypeIndex extends ConcurentIndexImpl<ISuperty
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getSubtypes(Collection<? extends Topic> types, boolean all) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getSubtypes(types, all);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
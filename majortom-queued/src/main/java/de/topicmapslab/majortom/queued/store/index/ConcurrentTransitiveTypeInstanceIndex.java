@@ -15,7 +15,7 @@
  ******************************************************************************/
 package de.topicmapslab.majortom.queued.store.index;
 
-import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 
 import de.topicmapslab.majortom.model.index.ITransitiveTypeInstanceIndex;
 
@@ -29,7 +29,7 @@ public class ConcurrentTransitiveTypeInstanceIndex extends ConcurrentTypeInstanc
 	 * @param parentIndex
 	 * @param lock
 	 */
-	public ConcurrentTransitiveTypeInstanceIndex(ITransitiveTypeInstanceIndex parentIndex, Lock lock) {
+	public ConcurrentTransitiveTypeInstanceIndex(ITransitiveTypeInstanceIndex parentIndex, ReadWriteLock lock) {
 		super(parentIndex, lock);
 	}
 
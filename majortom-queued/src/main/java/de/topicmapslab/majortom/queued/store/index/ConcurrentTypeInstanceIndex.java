@@ -17,6 +17,7 @@ package de.topicmapslab.majortom.queued.store.index;
 
 import java.util.Collection;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 
 import org.tmapi.core.Association;
 import org.tmapi.core.Name;
@@ -37,7 +38,7 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * @param parentIndex
 	 * @param lock
 	 */
-	public ConcurrentTypeInstanceIndex(ITypeInstanceIndex parentIndex, Lock lock) {
+	public ConcurrentTypeInstanceIndex(ITypeInstanceIndex parentIndex, ReadWriteLock lock) {
 		super(parentIndex, lock);
 	}
 
@@ -45,13 +46,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getTopics(Topic type) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getTopics(type);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -59,13 +59,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getTopics(Topic[] types, boolean matchAll) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getTopics(types, matchAll);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -73,13 +72,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getTopicTypes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getTopicTypes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -87,13 +85,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Association> getAssociations(Topic type) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getAssociations(type);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -101,13 +98,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getAssociationTypes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getAssociationTypes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -115,13 +111,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Role> getRoles(Topic type) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getRoles(type);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -129,13 +124,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getRoleTypes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getRoleTypes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -143,13 +137,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Occurrence> getOccurrences(Topic type) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getOccurrences(type);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -157,13 +150,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getOccurrenceTypes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getOccurrenceTypes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -171,13 +163,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Name> getNames(Topic type) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getNames(type);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -185,13 +176,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getNameTypes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getNameTypes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -199,13 +189,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getTopics(Topic... types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getTopics(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -213,13 +202,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getTopics(Collection<Topic> types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getTopics(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -227,13 +215,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getTopics(Collection<Topic> types, boolean all) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getTopics(types, all);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -241,13 +228,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Association> getAssociations(Topic... types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getAssociations(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -255,13 +241,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Association> getAssociations(Collection<? extends Topic> types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getAssociations(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -269,13 +254,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Role> getRoles(Topic... types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getRoles(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -283,13 +267,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Role> getRoles(Collection<? extends Topic> types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getRoles(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -297,13 +280,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Topic> getCharacteristicTypes() {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getCharacteristicTypes();
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -311,13 +293,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getCharacteristics(Topic type) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getCharacteristics(type);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -325,13 +306,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getCharacteristics(Topic... types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getCharacteristics(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -339,13 +319,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<ICharacteristics> getCharacteristics(Collection<? extends Topic> types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getCharacteristics(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -353,13 +332,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Name> getNames(Topic... types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getNames(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -367,13 +345,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Name> getNames(Collection<? extends Topic> types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getNames(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -381,13 +358,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Occurrence> getOccurrences(Topic... types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getOccurrences(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
@@ -395,13 +371,12 @@ public class ConcurrentTypeInstanceIndex extends ConcurentIndexImpl<ITypeInstanc
 	 * {@inheritDoc}
 	 */
 	public Collection<Occurrence> getOccurrences(Collection<? extends Topic> types) {
+		Lock readLock = lock.readLock();
+		readLock.lock();
 		try {
-			while (!lock.tryLock()) {
-				// WAIT
-			}
 			return getParentIndex().getOccurrences(types);
 		} finally {
-			lock.unlock();
+			readLock.unlock();
 		}
 	}
 
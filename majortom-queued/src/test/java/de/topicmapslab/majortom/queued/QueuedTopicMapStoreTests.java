@@ -17,6 +17,7 @@ package de.topicmapslab.majortom.queued;
 
 import junit.framework.Test;
 import junit.framework.TestSuite;
+import de.topicmapslab.majortom.queued.store.index.TestConcurrentIndexContention;
 import de.topicmapslab.majortom.tests.MaJorToMTestSuite;
 
 /**
@@ -29,6 +30,7 @@ public class QueuedTopicMapStoreTests {
 		TestSuite suite = new TestSuite("Test for de.topicmapslab.majortom.queued");
 		// $JUnit-BEGIN$
 		suite.addTest(MaJorToMTestSuite.suite());
+		suite.addTestSuite(TestConcurrentIndexContention.class);
 		// $JUnit-END$
 		return suite;
 	}
@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.queued.queue;
+
+import java.util.List;
+
+import junit.framework.TestCase;
+import de.topicmapslab.majortom.model.exception.TopicMapStoreException;
+import de.topicmapslab.majortom.model.store.ITopicMapStore;
+import de.topicmapslab.majortom.queued.queue.task.CreateTask;
+import de.topicmapslab.majortom.queued.queue.task.IQueueTask;
+import de.topicmapslab.majortom.queued.queue.task.ModifyTask;
+import de.topicmapslab.majortom.queued.queue.task.RemoveTask;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * @author Sven Krosse
+ *
+ */
+public class TestTopicMapStoreQueue extends TestCase {
+
+	/**
+	 * modification task only recording its execution
+	 */
+	class RecordingTask extends ModifyTask {
+
+		public RecordingTask(Object... parameters) {
+			super(null, null, parameters);
+		}
+
+		public void doTask(ITopicMapStore topicMapStore) throws TopicMapStoreException {
+			executed.add(this);
+		}
+	}
+
+	/**
+	 * creation task only recording its execution
+	 */
+	class RecordingCreateTask extends CreateTask {
+
+		public RecordingCreateTask(Object inMemoryClone) {
+			super(inMemoryClone, null, null);
+		}
+
+		public void doTask(ITopicMapStore topicMapStore) throws TopicMapStoreException {
+			executed.add(this);
+		}
+	}
+
+	/**
+	 * removal task only recording its execution
+	 */
+	class RecordingRemoveTask extends RemoveTask {
+
+		public RecordingRemoveTask() {
+			super(null, null);
+		}
+
+		public void doTask(ITopicMapStore topicMapStore) throws TopicMapStoreException {
+			executed.add(this);
+		}
+	}
+
+	/**
+	 * modification task failing on execution
+	 */
+	class FailingTask extends ModifyTask {
+
+		public FailingTask() {
+			super(null, null);
+		}
+
+		public void doTask(ITopicMapStore topicMapStore) throws TopicMapStoreException {
+			throw new TopicMapStoreException("failing task");
+		}
+	}
+
+	/**
+	 * listener recording the batch sizes
+	 */
+	class RecordingListener implements IProcessingListener {
+
+		public void finished(IQueueTask task) {
+			finished.add(task);
+		}
+
+		public void batchFinished(int batchSize, int queueDepth, long latency) {
+			batches.add(batchSize);
+			assertTrue(latency >= 0);
+		}
+
+		public void batchFailed(List<IQueueTask> batch, Exception cause) {
+			failed.addAll(batch);
+		}
+	}
+
+	private final List<IQueueTask> executed = HashUtil.getList();
+	private final List<IQueueTask> finished = HashUtil.getList();
+	private final List<Integer> batches = HashUtil.getList();
+	private final List<IQueueTask> failed = HashUtil.getList();
+	private TopicMapStoreQueue queue;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void tearDown() throws Exception {
+		if (queue != null) {
+			queue.interrupt();
+			queue.join(1000);
+		}
+		super.tearDown();
+	}
+
+	/**
+	 * Waits until the queue has finished all tasks
+	 */
+	private void awaitQueue(long timeout) throws InterruptedException {
+		long end = System.currentTimeMillis() + timeout;
+		while (queue.isBusy() && System.currentTimeMillis() < end) {
+			Thread.sleep(5);
+		}
+		assertFalse("Queue should have finished all tasks!", queue.isBusy());
+	}
+
+	public void testWakeUpOnAdd() throws Exception {
+		queue = new TopicMapStoreQueue(null);
+		queue.addProcessingListener(new RecordingListener());
+		queue.start();
+		/*
+		 * give the worker the chance to fall asleep
+		 */
+		Thread.sleep(50);
+		IQueueTask task = new RecordingTask();
+		queue.add(task);
+		awaitQueue(500);
+		assertEquals(1, executed.size());
+		assertSame(task, finished.get(0));
+	}
+
+	public void testBatches() throws Exception {
+		queue = new TopicMapStoreQueue(null, 3, 0, -1);
+		queue.addProcessingListener(new RecordingListener());
+		List<IQueueTask> tasks = HashUtil.getList();
+		for (int i = 0; i < 5; i++) {
+			tasks.add(new RecordingTask());
+		}
+		tasks.add(new RecordingRemoveTask());
+		tasks.add(new RecordingTask());
+		for (IQueueTask task : tasks) {
+			queue.add(task);
+		}
+		assertEquals(tasks.size(), queue.size());
+		queue.start();
+		awaitQueue(1000);
+		/*
+		 * the order of all tasks is kept and the removal is executed alone
+		 */
+		assertEquals(tasks, executed);
+		assertEquals(tasks, finished);
+		assertEquals(4, batches.size());
+		assertEquals(3, batches.get(0).intValue());
+		assertEquals(2, batches.get(1).intValue());
+		assertEquals(1, batches.get(2).intValue());
+		assertEquals(1, batches.get(3).intValue());
+	}
+
+	public void testDependentTaskEndsBatch() throws Exception {
+		queue = new TopicMapStoreQueue(null, 10, 0, -1);
+		queue.addProcessingListener(new RecordingListener());
+		Object clone = new Object();
+		List<IQueueTask> tasks = HashUtil.getList();
+		tasks.add(new RecordingCreateTask(clone));
+		tasks.add(new RecordingTask(new Object()));
+		tasks.add(new RecordingTask("value", new Object[] { clone }));
+		tasks.add(new RecordingTask());
+		for (IQueueTask task : tasks) {
+			queue.add(task);
+		}
+		queue.start();
+		awaitQueue(1000);
+		/*
+		 * the task using the construct created by the first batch is executed by the next batch
+		 */
+		assertEquals(tasks, executed);
+		assertEquals(tasks, finished);
+		assertEquals(2, batches.size());
+		assertEquals(2, batches.get(0).intValue());
+		assertEquals(2, batches.get(1).intValue());
+	}
+
+	public void testBackPressure() throws Exception {
+		queue = new TopicMapStoreQueue(null, 10, 0, 2);
+		queue.add(new RecordingTask());
+		queue.add(new RecordingTask());
+		Thread producer = new Thread() {
+			public void run() {
+				queue.awaitCapacity();
+				queue.add(new RecordingTask());
+			}
+		};
+		producer.start();
+		producer.join(200);
+		/*
+		 * producer is blocked until the worker thread has caught up
+		 */
+		assertTrue(producer.isAlive());
+		assertEquals(2, queue.size());
+		queue.start();
+		producer.join(1000);
+		assertFalse(producer.isAlive());
+		awaitQueue(1000);
+		assertEquals(3, executed.size());
+	}
+
+	public void testFailedBatch() throws Exception {
+		queue = new TopicMapStoreQueue(null, 3, 0, 2);
+		queue.addProcessingListener(new RecordingListener());
+		IQueueTask first = new RecordingTask();
+		IQueueTask failing = new FailingTask();
+		queue.add(first);
+		queue.add(failing);
+		queue.start();
+		queue.join(1000);
+		/*
+		 * the failed batch is reported, the worker stops and does not block producers any longer
+		 */
+		assertFalse(queue.isAlive());
+		assertEquals(1, executed.size());
+		assertSame(first, finished.get(0));
+		assertEquals(2, failed.size());
+		assertSame(failing, failed.get(1));
+		assertTrue(batches.isEmpty());
+		assertFalse(queue.isBusy());
+		queue.awaitCapacity();
+	}
+
+	public void testFailedBatchReleasesFollowingTask() throws Exception {
+		queue = new TopicMapStoreQueue(null, 3, 0, -1);
+		queue.add(new FailingTask());
+		queue.add(new RecordingRemoveTask());
+		queue.start();
+		queue.join(1000);
+		/*
+		 * the removal held back by the worker is not executed and not pending anymore
+		 */
+		assertFalse(queue.isAlive());
+		assertTrue(executed.isEmpty());
+		assertFalse(queue.isBusy());
+	}
+}
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.queued.store;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import junit.framework.TestCase;
+
+import org.tmapi.core.Topic;
+import org.tmapi.core.TopicMapSystemFactory;
+
+import de.topicmapslab.majortom.inmemory.store.InMemoryTopicMapStore;
+import de.topicmapslab.majortom.model.core.ITopicMap;
+import de.topicmapslab.majortom.model.index.ITypeInstanceIndex;
+import de.topicmapslab.majortom.queued.store.index.ConcurrentTypeInstanceIndex;
+import de.topicmapslab.majortom.store.TopicMapStoreProperty;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * Test of the read-write lock of the queued store and of the concurrent index wrappers using it
+ * 
+ * @author Sven Krosse
+ * 
+ */
+public class TestQueuedStoreLock extends TestCase {
+
+	private static final long TIMEOUT = 5000;
+	private static final long BLOCKED = 200;
+	private static final int TOPICS = 10;
+
+	/**
+	 * Thread acquiring a lock, holding it until it is released by the test
+	 */
+	class LockHolder extends Thread {
+
+		private final Lock lock;
+		private final CountDownLatch acquired = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+
+		/**
+		 * constructor
+		 * 
+		 * @param lock
+		 *            the lock to hold
+		 */
+		public LockHolder(Lock lock) {
+			this.lock = lock;
+			setDaemon(true);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public void run() {
+			lock.lock();
+			try {
+				acquired.countDown();
+				release.await();
+			} catch (InterruptedException e) {
+				// NOTHING TO DO
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Starts the thread and waits until it holds the lock
+		 * 
+		 * @return <code>true</code> if the lock was acquired in time
+		 * @throws InterruptedException
+		 *             thrown if the test is interrupted
+		 */
+		public boolean acquire() throws InterruptedException {
+			start();
+			return acquired.await(TIMEOUT, TimeUnit.MILLISECONDS);
+		}
+
+		/**
+		 * Releases the lock and waits until the thread is finished
+		 * 
+		 * @throws InterruptedException
+		 *             thrown if the test is interrupted
+		 */
+		public void release() throws InterruptedException {
+			release.countDown();
+			join(TIMEOUT);
+		}
+	}
+
+	private QueuedTopicMapStore store;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void setUp() throws Exception {
+		store = new QueuedTopicMapStore();
+	}
+
+	public void testReadersShareTheLock() throws Exception {
+		assertFalse(store.isCachingEnabled());
+		LockHolder first = new LockHolder(store.lock.readLock());
+		LockHolder second = new LockHolder(store.lock.readLock());
+		assertTrue(first.acquire());
+		assertTrue("A second reader has to acquire the lock while the first one holds it.", second.acquire());
+		first.release();
+		second.release();
+	}
+
+	public void testWriterExcludesReaders() throws Exception {
+		LockHolder writer = new LockHolder(store.lock.writeLock());
+		assertTrue(writer.acquire());
+		LockHolder reader = new LockHolder(store.lock.readLock());
+		reader.start();
+		assertFalse("A reader must not acquire the lock held by a writer.", reader.acquired.await(BLOCKED, TimeUnit.MILLISECONDS));
+		writer.release();
+		assertTrue(reader.acquired.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		reader.release();
+	}
+
+	public void testReadersExcludeWriter() throws Exception {
+		LockHolder first = new LockHolder(store.lock.readLock());
+		LockHolder second = new LockHolder(store.lock.readLock());
+		assertTrue(first.acquire());
+		assertTrue(second.acquire());
+		LockHolder writer = new LockHolder(store.lock.writeLock());
+		writer.start();
+		assertFalse("A writer must not acquire the lock held by readers.", writer.acquired.await(BLOCKED, TimeUnit.MILLISECONDS));
+		first.release();
+		assertFalse(writer.acquired.await(BLOCKED, TimeUnit.MILLISECONDS));
+		second.release();
+		assertTrue(writer.acquired.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		writer.release();
+	}
+
+	public void testReadersAreExclusiveIfCachingIsEnabled() throws Exception {
+		/*
+		 * reads fill the caches of the database store
+		 */
+		store = new QueuedTopicMapStore() {
+			public boolean isCachingEnabled() {
+				return true;
+			}
+		};
+		LockHolder first = new LockHolder(store.lock.readLock());
+		assertTrue(first.acquire());
+		LockHolder second = new LockHolder(store.lock.readLock());
+		second.start();
+		assertFalse(second.acquired.await(BLOCKED, TimeUnit.MILLISECONDS));
+		first.release();
+		assertTrue(second.acquired.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		second.release();
+	}
+
+	public void testIndexReadsUseTheLock() throws Exception {
+		TopicMapSystemFactory factory = TopicMapSystemFactory.newInstance();
+		factory.setProperty(TopicMapStoreProperty.TOPICMAPSTORE_CLASS, InMemoryTopicMapStore.class.getName());
+		ITopicMap topicMap = (ITopicMap) factory.newTopicMapSystem().createTopicMap("http://engine.topicmapslab.de/lock/");
+		final Topic type = topicMap.createTopic();
+		for (int i = 0; i < TOPICS; i++) {
+			topicMap.createTopic().addType(type);
+		}
+		ITypeInstanceIndex index = topicMap.getIndex(ITypeInstanceIndex.class);
+		index.open();
+		final ConcurrentTypeInstanceIndex concurrentIndex = new ConcurrentTypeInstanceIndex(index, store.lock);
+		final List<Integer> results = HashUtil.getList();
+		final CountDownLatch read = new CountDownLatch(1);
+		Thread reader = new Thread() {
+			public void run() {
+				int size = concurrentIndex.getTopics(type).size();
+				synchronized (results) {
+					results.add(size);
+				}
+				read.countDown();
+			}
+		};
+		reader.setDaemon(true);
+
+		/*
+		 * an index read passes a reader holding the lock, but waits for a writer
+		 */
+		LockHolder otherReader = new LockHolder(store.lock.readLock());
+		assertTrue(otherReader.acquire());
+		assertEquals(TOPICS, concurrentIndex.getTopics(type).size());
+		otherReader.release();
+
+		LockHolder writer = new LockHolder(store.lock.writeLock());
+		assertTrue(writer.acquire());
+		reader.start();
+		assertFalse("An index read must wait for the writer.", read.await(BLOCKED, TimeUnit.MILLISECONDS));
+		writer.release();
+		assertTrue(read.await(TIMEOUT, TimeUnit.MILLISECONDS));
+		assertEquals(TOPICS, results.get(0).intValue());
+
+		index.close();
+		topicMap.close();
+	}
+}
@@ -14,4 +14,6 @@ public interface IRedisTopicMapStoreProperty extends TopicMapStoreProperty{
 	
 	public static final String REDIS_DATABASE = REDIS_PREFIX + ".database";
 	
+	public static final String REDIS_POOL_SIZE = REDIS_PREFIX + ".pool.size";
+	
 }
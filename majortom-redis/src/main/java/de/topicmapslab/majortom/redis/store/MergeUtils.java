@@ -35,6 +35,7 @@ import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.TYPED_OCCU
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.TYPED_ROLES;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.TYPES;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.VARIANT;
+import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.registry;
 
 import java.util.Map;
 import java.util.Set;
@@ -164,6 +165,7 @@ public class MergeUtils {
 		// copy item-identifiers
 		for (String ii : redis.smembers(other + COLON + ITEM_IDENTIFIER)) {
 			redis.set(ITEM_IDENTIFIER + COLON + ii, context);
+			redis.sadd(registry(ITEM_IDENTIFIER), ITEM_IDENTIFIER + COLON + ii);
 			redis.sadd(context + COLON + ITEM_IDENTIFIER, ii);
 		}
 		redis.del(other + COLON + ITEM_IDENTIFIER);
@@ -174,12 +176,14 @@ public class MergeUtils {
 		// copy subject-identifiers
 		for (String si : redis.smembers(other + COLON + SUBJECT_IDENTIFIER)) {
 			redis.set(SUBJECT_IDENTIFIER + COLON + si, context);
+			redis.sadd(registry(SUBJECT_IDENTIFIER), SUBJECT_IDENTIFIER + COLON + si);
 			redis.sadd(context + COLON + SUBJECT_IDENTIFIER, si);
 		}
 
 		// copy subject-locators
 		for (String sl : redis.smembers(other + COLON + SUBJECT_LOCATOR)) {
 			redis.set(SUBJECT_LOCATOR + COLON + sl, context);
+			redis.sadd(registry(SUBJECT_LOCATOR), SUBJECT_LOCATOR + COLON + sl);
 			redis.sadd(context + COLON + SUBJECT_LOCATOR, sl);
 		}
 		redis.del(other + COLON + SUBJECT_IDENTIFIER, other + COLON + SUBJECT_LOCATOR);
@@ -192,22 +196,22 @@ public class MergeUtils {
 		// characteristics
 		for (String typed : redis.smembers(TYPED_CHARACTERISTICS + COLON + other)) {
 			redis.set(typed, TYPE, context);
-			redis.sadd(TYPED_CHARACTERISTICS + COLON + context, typed);
+			redis.register(registry(TYPED_CHARACTERISTICS), TYPED_CHARACTERISTICS + COLON + context, typed);
 		}
 		// names
 		for (String typed : redis.smembers(TYPED_NAMES + COLON + other)) {
 			redis.set(typed, TYPE, context);
-			redis.sadd(TYPED_NAMES + COLON + context, typed);
+			redis.register(registry(TYPED_NAMES), TYPED_NAMES + COLON + context, typed);
 		}
 		// ocurrences
 		for (String typed : redis.smembers(TYPED_OCCURRENCES + COLON + other)) {
 			redis.set(typed, TYPE, context);
-			redis.sadd(TYPED_OCCURRENCES + COLON + context, typed);
+			redis.register(registry(TYPED_OCCURRENCES), TYPED_OCCURRENCES + COLON + context, typed);
 		}
 		// associations
 		for (String typed : redis.smembers(TYPED_ASSOCIATIONS + COLON + other)) {
 			redis.set(typed, TYPE, context);
-			redis.sadd(TYPED_ASSOCIATIONS + COLON + context, typed);
+			redis.register(registry(TYPED_ASSOCIATIONS), TYPED_ASSOCIATIONS + COLON + context, typed);
 		}
 		// roles by association type
 		for (String id : redis.smembers(ROLES_BY_ASSOCTYPE + COLON + other)) {
@@ -216,7 +220,7 @@ public class MergeUtils {
 		// roles
 		for (String typed : redis.smembers(TYPED_ROLES + COLON + other)) {
 			redis.set(typed, TYPE, context);
-			redis.sadd(TYPED_ROLES + COLON + context, typed);
+			redis.register(registry(TYPED_ROLES), TYPED_ROLES + COLON + context, typed);
 			String a = redis.get(typed, PARENT);
 			redis.srem(a + COLON + TYPE, other);
 			redis.sadd(a + COLON + TYPE, context);
@@ -226,14 +230,14 @@ public class MergeUtils {
 		// copy types
 		for (String type : redis.smembers(other + COLON + TYPES)) {
 			redis.sadd(context + COLON + TYPES, type);
-			redis.sadd(type + COLON + INSTANCES, context);
+			redis.register(registry(INSTANCES), type + COLON + INSTANCES, context);
 			redis.srem(type + COLON + INSTANCES, other);
 		}
 		redis.del(other + COLON + TYPES);
 		// copy supertypes
 		for (String type : redis.smembers(other + COLON + SUPERTYPES)) {
-			redis.sadd(context + COLON + SUPERTYPES, type);
-			redis.sadd(type + COLON + SUBTYPES, context);
+			redis.register(registry(SUPERTYPES), context + COLON + SUPERTYPES, type);
+			redis.register(registry(SUBTYPES), type + COLON + SUBTYPES, context);
 			redis.srem(type + COLON + SUBTYPES, other);
 		}
 		redis.del(other + COLON + SUPERTYPES);
@@ -276,22 +280,22 @@ public class MergeUtils {
 			// characteristics
 			for (String scoped : redis.smembers(SCOPED_CHARACTERISTICS + COLON + scopeId)) {
 				redis.set(scoped, SCOPE, newScopeId);
-				redis.sadd(SCOPED_CHARACTERISTICS + COLON + newScopeId, scoped);
+				redis.register(registry(SCOPED_CHARACTERISTICS), SCOPED_CHARACTERISTICS + COLON + newScopeId, scoped);
 			}
 			// names
 			for (String scoped : redis.smembers(SCOPED_NAMES + COLON + scopeId)) {
 				redis.set(scoped, SCOPE, newScopeId);
-				redis.sadd(SCOPED_NAMES + COLON + newScopeId, scoped);
+				redis.register(registry(SCOPED_NAMES), SCOPED_NAMES + COLON + newScopeId, scoped);
 			}
 			// ocurrences
 			for (String scoped : redis.smembers(SCOPED_OCCURRENCES + COLON + scopeId)) {
 				redis.set(scoped, SCOPE, newScopeId);
-				redis.sadd(SCOPED_OCCURRENCES + COLON + newScopeId, scoped);
+				redis.register(registry(SCOPED_OCCURRENCES), SCOPED_OCCURRENCES + COLON + newScopeId, scoped);
 			}
 			// associations
 			for (String scoped : redis.smembers(SCOPED_ASSOCIATIONS + COLON + scopeId)) {
 				redis.set(scoped, SCOPE, newScopeId);
-				redis.sadd(SCOPED_ASSOCIATIONS + COLON + newScopeId, scoped);
+				redis.register(registry(SCOPED_ASSOCIATIONS), SCOPED_ASSOCIATIONS + COLON + newScopeId, scoped);
 			}
 			redis.del(SCOPED_ASSOCIATIONS + COLON + scopeId, SCOPED_OCCURRENCES + COLON + scopeId, SCOPED_NAMES + COLON + scopeId,
 					SCOPED_CHARACTERISTICS + COLON + scopeId, scopeId);
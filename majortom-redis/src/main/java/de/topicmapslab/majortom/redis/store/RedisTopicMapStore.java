@@ -2,9 +2,11 @@ package de.topicmapslab.majortom.redis.store;
 
 import java.net.URISyntaxException;
 import java.text.ParseException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -79,6 +81,7 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 	private String password;
 	private int database;
 	private int port;
+	private int poolSize = RedisHandler.DEFAULT_POOL_SIZE;
 
 	public static final String HASHPOSTFIX = "h";
 	public static final String COLON = ":";
@@ -129,6 +132,44 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 	public static final String STAR = "*";
 	public static final String EMPTY_SCOPE_ID = "s:0";
 	public static final IScope EMPTY_SCOPE = new ScopeImpl(EMPTY_SCOPE_ID);
+	/**
+	 * prefix of the registries, value indexes and number indexes
+	 */
+	public static final String REGISTRY = "#";
+	/**
+	 * key marking that the registries of the database are complete
+	 */
+	public static final String REGISTRY_MARKER = REGISTRY + "registries";
+	/**
+	 * key marking that the value indexes of the database contain the trigram
+	 * sets of the values
+	 */
+	public static final String NGRAM_MARKER = REGISTRY + "ngrams";
+	/**
+	 * key of the set of families whose registries are already built for a
+	 * database written without registries
+	 */
+	public static final String REGISTRY_PROGRESS = REGISTRY + "progress";
+	/**
+	 * number of characteristics read at once while their value index is built
+	 */
+	private static final int REGISTRY_CHUNK_SIZE = 1000;
+	/**
+	 * datatypes of the occurrences stored in a number index
+	 */
+	private static final String[] NUMBER_DATATYPES = { Namespaces.XSD.DOUBLE, Namespaces.XSD.FLOAT, Namespaces.XSD.INT, Namespaces.XSD.LONG };
+	/**
+	 * families of keys with the family as prefix, like
+	 * <code>tn:&lt;type-id&gt;</code>
+	 */
+	private static final String[] PREFIXED_FAMILIES = { TYPED_ASSOCIATIONS, TYPED_NAMES, TYPED_OCCURRENCES, TYPED_ROLES, TYPED_CHARACTERISTICS,
+			SCOPED_ASSOCIATIONS, SCOPED_NAMES, SCOPED_OCCURRENCES, SCOPED_VARIANTS, SCOPED_CHARACTERISTICS, ITEM_IDENTIFIER, SUBJECT_IDENTIFIER,
+			SUBJECT_LOCATOR };
+	/**
+	 * families of keys with the family as suffix of a topic id, like
+	 * <code>&lt;topic-id&gt;:sb</code>
+	 */
+	private static final String[] SUFFIXED_FAMILIES = { SUPERTYPES, SUBTYPES, INSTANCES };
 
 	private RedisHandler redis;
 	private static Set<ITopic> EmptyTopicSet = Collections.emptySet();
@@ -166,7 +207,8 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 	@Override
 	public void connect() throws TopicMapStoreException {
 		super.connect();
-		redis = new RedisHandler(host, port, password, database);
+		redis = new RedisHandler(host, port, password, database, poolSize);
+		buildRegistries();
 		topicMapIdentity = new RedisStoreIdentity(getNewRedisId(TOPICMAP));
 		scopeCache = HashUtil.getHashMap();
 	}
@@ -213,6 +255,27 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		}else{
 			this.port = Integer.MIN_VALUE;
 		}
+		/*
+		 * set pool size
+		 */
+		Object poolSize = getTopicMapSystem().getProperty(IRedisTopicMapStoreProperty.REDIS_POOL_SIZE);
+		if (poolSize != null) {
+			try {
+				this.poolSize = Integer.parseInt(poolSize.toString());
+			} catch (NumberFormatException e) {
+				throw new TopicMapStoreException("Invalid argument for redis.pool.size property. A Number is expected.");
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void close() throws TopicMapStoreException {
+		if (redis != null) {
+			redis.close();
+		}
+		super.close();
 	}
 
 	@SuppressWarnings("unchecked")
@@ -296,6 +359,208 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		return new LocatorImpl(getNewRedisId(LOCATORS));
 	}
 
+	/**
+	 * Returns the key of the registry containing all keys of the given family,
+	 * e.g. all keys of typed names or all item-identifier keys. The registries
+	 * of names, occurrences and variants contain the construct ids.
+	 * 
+	 * @param family
+	 *            the family
+	 * @return the key of the registry
+	 */
+	public static String registry(final String family) {
+		return REGISTRY + family;
+	}
+
+	/**
+	 * Returns the key of the value index of the given kind of characteristics,
+	 * see {@link RedisHandler#zaddValue(String, String, String)}.
+	 * 
+	 * @param kind
+	 *            the kind, one of {@link #NAME}, {@link #OCCURRENCE} or
+	 *            {@link #VARIANT}
+	 * @return the key of the value index
+	 */
+	public static String values(final String kind) {
+		return REGISTRY + VALUE + COLON + kind;
+	}
+
+	/**
+	 * Returns the key of the number index of all occurrences of the given
+	 * datatype. The score of each occurrence is its numeric value.
+	 * 
+	 * @param datatype
+	 *            the datatype
+	 * @return the key of the number index
+	 */
+	public static String numbers(final String datatype) {
+		return REGISTRY + DATATYPE + COLON + datatype;
+	}
+
+	/**
+	 * Internal method to build the registries, value indexes and number
+	 * indexes of a database written without them. Afterwards the registries
+	 * are maintained by each modification. A new database is marked as
+	 * complete at once.
+	 * <p>
+	 * Only a legacy database is listed by the KEYS command. The bundled Jedis
+	 * version does not support SCAN, and KEYS blocks the server while it
+	 * iterates the whole key space. Each family is therefore listed by its own
+	 * command and recorded as done afterwards, so an interrupted migration
+	 * continues with the next family on the next connect.
+	 * </p>
+	 */
+	private void buildRegistries() {
+		if (redis.exists(REGISTRY_MARKER)) {
+			buildNGramIndexes();
+			return;
+		}
+		if (!redis.isEmpty()) {
+			Set<String> done = redis.smembers(REGISTRY_PROGRESS);
+			for (String family : PREFIXED_FAMILIES) {
+				if (!done.contains(family)) {
+					redis.sadd(registry(family), redis.list(family + COLON + STAR));
+					redis.sadd(REGISTRY_PROGRESS, family);
+				}
+			}
+			for (String family : SUFFIXED_FAMILIES) {
+				if (!done.contains(family)) {
+					List<String> keys = HashUtil.getList();
+					for (String key : redis.list(STAR + COLON + family)) {
+						if (key.startsWith(TOPIC + COLON)) {
+							keys.add(key);
+						}
+					}
+					redis.sadd(registry(family), keys);
+					redis.sadd(REGISTRY_PROGRESS, family);
+				}
+			}
+			for (String kind : new String[] { NAME, OCCURRENCE, VARIANT }) {
+				if (!done.contains(kind)) {
+					buildValueIndex(kind);
+					redis.sadd(REGISTRY_PROGRESS, kind);
+				}
+			}
+		}
+		redis.set(REGISTRY_MARKER, String.valueOf(System.currentTimeMillis()));
+		redis.set(NGRAM_MARKER, String.valueOf(System.currentTimeMillis()));
+		redis.del(REGISTRY_PROGRESS);
+	}
+
+	/**
+	 * Internal method to add the trigram sets to the value indexes of a
+	 * database whose registries were built without them. The ids are read
+	 * from the registries, so no KEYS command is necessary. Each kind of
+	 * characteristics is recorded as done afterwards, like the families of
+	 * {@link #buildRegistries()}.
+	 */
+	private void buildNGramIndexes() {
+		if (redis.exists(NGRAM_MARKER)) {
+			return;
+		}
+		Set<String> done = redis.smembers(REGISTRY_PROGRESS);
+		for (String kind : new String[] { NAME, OCCURRENCE, VARIANT }) {
+			if (!done.contains(NGRAM_MARKER + COLON + kind)) {
+				indexValues(kind, HashUtil.getList(redis.smembers(registry(kind))));
+				redis.sadd(REGISTRY_PROGRESS, NGRAM_MARKER + COLON + kind);
+			}
+		}
+		redis.set(NGRAM_MARKER, String.valueOf(System.currentTimeMillis()));
+		redis.del(REGISTRY_PROGRESS);
+	}
+
+	/**
+	 * Internal method to build the registry and the value index of the given
+	 * kind of characteristics of a database written without them.
+	 * 
+	 * @param kind
+	 *            the kind, one of {@link #NAME}, {@link #OCCURRENCE} or
+	 *            {@link #VARIANT}
+	 */
+	private void buildValueIndex(final String kind) {
+		List<String> ids = HashUtil.getList();
+		for (String key : redis.list(kind + COLON + STAR)) {
+			/*
+			 * skip the item-identifier and variant sets of the constructs
+			 */
+			if (key.endsWith(COLON + HASHPOSTFIX)) {
+				ids.add(key);
+			}
+		}
+		redis.sadd(registry(kind), ids);
+		indexValues(kind, ids);
+	}
+
+	/**
+	 * Internal method to add the characteristics of the given kind to the
+	 * value index and, for occurrences, to the number index of their
+	 * datatype. The values are read in chunks of {@link #REGISTRY_CHUNK_SIZE}
+	 * characteristics. Adding a characteristic twice has no effect.
+	 * 
+	 * @param kind
+	 *            the kind, one of {@link #NAME}, {@link #OCCURRENCE} or
+	 *            {@link #VARIANT}
+	 * @param ids
+	 *            the ids of the characteristics
+	 */
+	private void indexValues(final String kind, final List<String> ids) {
+		for (int offset = 0; offset < ids.size(); offset += REGISTRY_CHUNK_SIZE) {
+			List<String> chunk = ids.subList(offset, Math.min(offset + REGISTRY_CHUNK_SIZE, ids.size()));
+			List<List<String>> values = redis.hmget(chunk, VALUE, DATATYPE);
+			for (int i = 0; i < chunk.size(); i++) {
+				List<String> fields = values.get(i);
+				if (fields.get(0) != null) {
+					redis.zaddValue(values(kind), fields.get(0), chunk.get(i));
+					if (OCCURRENCE.equals(kind)) {
+						addNumber(chunk.get(i), fields.get(0), fields.get(1));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Internal method to add the occurrence to the number index of its
+	 * datatype, if the datatype is numeric
+	 * 
+	 * @param id
+	 *            the occurrence id
+	 * @param value
+	 *            the value
+	 * @param datatype
+	 *            the datatype
+	 */
+	private void addNumber(final String id, final String value, final String datatype) {
+		for (String numeric : NUMBER_DATATYPES) {
+			if (numeric.equals(datatype)) {
+				try {
+					redis.zadd(numbers(datatype), Double.parseDouble(value), id);
+				} catch (NumberFormatException e) {
+					// invalid values cannot be found by range queries
+				}
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Internal method to remove the occurrence from the number index of its
+	 * datatype, if the datatype is numeric
+	 * 
+	 * @param id
+	 *            the occurrence id
+	 * @param datatype
+	 *            the datatype
+	 */
+	private void removeNumber(final String id, final String datatype) {
+		for (String numeric : NUMBER_DATATYPES) {
+			if (numeric.equals(datatype)) {
+				redis.zrem(numbers(datatype), id);
+				return;
+			}
+		}
+	}
+
 	@Override
 	protected IAssociation doCreateAssociation(ITopicMap topicMap, ITopic type) throws TopicMapStoreException {
 		return doCreateAssociation(topicMap, type, EmptyTopicSet);
@@ -311,9 +576,9 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		// store as association of the topic map
 		redis.sadd(ASSOCIATION_OF_TOPICMAP, id);
 		// typed associations
-		redis.sadd(TYPED_ASSOCIATIONS + COLON + type.getId(), id);
+		redis.register(registry(TYPED_ASSOCIATIONS), TYPED_ASSOCIATIONS + COLON + type.getId(), id);
 		// scoped assocaitions
-		redis.sadd(SCOPED_ASSOCIATIONS + COLON + scope.getId(), id);
+		redis.register(registry(SCOPED_ASSOCIATIONS), SCOPED_ASSOCIATIONS + COLON + scope.getId(), id);
 		IAssociation a = getConstructFactory().newAssociation(new RedisStoreIdentity(id), getTopicMap());
 		/*
 		 * notify listeners
@@ -349,11 +614,14 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		redis.sadd(topic.getId() + COLON + CHARACTERISTICS, id);
 		redis.sadd(topic.getId() + COLON + NAME, id);
 		// store typed characteristics
-		redis.sadd(TYPED_CHARACTERISTICS + COLON + type.getId(), id);
-		redis.sadd(TYPED_NAMES + COLON + type.getId(), id);
+		redis.register(registry(TYPED_CHARACTERISTICS), TYPED_CHARACTERISTICS + COLON + type.getId(), id);
+		redis.register(registry(TYPED_NAMES), TYPED_NAMES + COLON + type.getId(), id);
 		// store scoped characteristics
-		redis.sadd(SCOPED_CHARACTERISTICS + COLON + scope.getId(), id);
-		redis.sadd(SCOPED_NAMES + COLON + scope.getId(), id);
+		redis.register(registry(SCOPED_CHARACTERISTICS), SCOPED_CHARACTERISTICS + COLON + scope.getId(), id);
+		redis.register(registry(SCOPED_NAMES), SCOPED_NAMES + COLON + scope.getId(), id);
+		// store as name of the topic map
+		redis.sadd(registry(NAME), id);
+		redis.zaddValue(values(NAME), value, id);
 		IName n = getConstructFactory().newName(new RedisStoreIdentity(id), topic);
 		/*
 		 * notify listeners
@@ -405,11 +673,15 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		redis.sadd(topic.getId() + COLON + CHARACTERISTICS, id);
 		redis.sadd(topic.getId() + COLON + OCCURRENCE, id);
 		// store typed characteristics
-		redis.sadd(TYPED_CHARACTERISTICS + COLON + type.getId(), id);
-		redis.sadd(TYPED_OCCURRENCES + COLON + type.getId(), id);
+		redis.register(registry(TYPED_CHARACTERISTICS), TYPED_CHARACTERISTICS + COLON + type.getId(), id);
+		redis.register(registry(TYPED_OCCURRENCES), TYPED_OCCURRENCES + COLON + type.getId(), id);
 		// store scoped characteristics
-		redis.sadd(SCOPED_CHARACTERISTICS + COLON + scope.getId(), id);
-		redis.sadd(SCOPED_OCCURRENCES + COLON + scope.getId(), id);
+		redis.register(registry(SCOPED_CHARACTERISTICS), SCOPED_CHARACTERISTICS + COLON + scope.getId(), id);
+		redis.register(registry(SCOPED_OCCURRENCES), SCOPED_OCCURRENCES + COLON + scope.getId(), id);
+		// store as occurrence of the topic map
+		redis.sadd(registry(OCCURRENCE), id);
+		redis.zaddValue(values(OCCURRENCE), value, id);
+		addNumber(id, value, datatype);
 		IOccurrence o = getConstructFactory().newOccurrence(new RedisStoreIdentity(id), topic);
 		/*
 		 * notify listeners
@@ -434,7 +706,7 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		// add role player
 		redis.sadd(association.getId() + COLON + PLAYER, player.getId());
 		// add typed role
-		redis.sadd(TYPED_ROLES + COLON + type.getId(), id);
+		redis.register(registry(TYPED_ROLES), TYPED_ROLES + COLON + type.getId(), id);
 		redis.sadd(ROLES_BY_ASSOCTYPE + COLON + doReadType(association).getId(), id);
 		// add played role
 		redis.sadd(player.getId() + COLON + PLAYED_ROLE, id);
@@ -488,14 +760,17 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		if (subjectIdentifier != null) {
 			redis.sadd(id + COLON + SUBJECT_IDENTIFIER, subjectIdentifier);
 			redis.set(SUBJECT_IDENTIFIER + COLON + subjectIdentifier, id);
+			redis.sadd(registry(SUBJECT_IDENTIFIER), SUBJECT_IDENTIFIER + COLON + subjectIdentifier);
 		}
 		if (subjectLocator != null) {
 			redis.sadd(id + COLON + SUBJECT_LOCATOR, subjectLocator);
 			redis.set(SUBJECT_LOCATOR + COLON + subjectLocator, id);
+			redis.sadd(registry(SUBJECT_LOCATOR), SUBJECT_LOCATOR + COLON + subjectLocator);
 		}
 		if (itemIdentifier != null) {
 			redis.sadd(id + COLON + ITEM_IDENTIFIER, itemIdentifier);
 			redis.set(ITEM_IDENTIFIER + COLON + itemIdentifier, id);
+			redis.sadd(registry(ITEM_IDENTIFIER), ITEM_IDENTIFIER + COLON + itemIdentifier);
 		}
 		ITopic t = getConstructFactory().newTopic(new RedisStoreIdentity(id), topicMap);
 		/*
@@ -538,7 +813,10 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		// getNames
 		redis.sadd( name.getId() + COLON + VARIANT, id);
 
-		redis.sadd(SCOPED_VARIANTS + COLON + scope.getId(), id);
+		redis.register(registry(SCOPED_VARIANTS), SCOPED_VARIANTS + COLON + scope.getId(), id);
+		// store as variant of the topic map
+		redis.sadd(registry(VARIANT), id);
+		redis.zaddValue(values(VARIANT), value, id);
 		IVariant v = getConstructFactory().newVariant(new RedisStoreIdentity(id), name);
 		/*
 		 * notify listeners
@@ -561,6 +839,7 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		redis.sadd(c.getId() + COLON + ITEM_IDENTIFIER, itemIdentifier);
 		// get construct from item identifier
 		redis.set(ITEM_IDENTIFIER + COLON + itemIdentifier, c.getId());
+		redis.sadd(registry(ITEM_IDENTIFIER), ITEM_IDENTIFIER + COLON + itemIdentifier);
 	}
 
 	@Override
@@ -632,20 +911,20 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		}
 		if (s instanceof ICharacteristics) {
 			redis.srem(SCOPED_CHARACTERISTICS + COLON + oldScope.getId(), s.getId());
-			redis.sadd(SCOPED_CHARACTERISTICS + COLON + newScope.getId(), s.getId());
+			redis.register(registry(SCOPED_CHARACTERISTICS), SCOPED_CHARACTERISTICS + COLON + newScope.getId(), s.getId());
 			if (s instanceof IName) {
 				redis.srem(SCOPED_NAMES + COLON + oldScope.getId(), s.getId());
-				redis.sadd(SCOPED_NAMES + COLON + newScope.getId(), s.getId());
+				redis.register(registry(SCOPED_NAMES), SCOPED_NAMES + COLON + newScope.getId(), s.getId());
 			} else {
 				redis.srem(SCOPED_OCCURRENCES + COLON + oldScope.getId(), s.getId());
-				redis.sadd(SCOPED_OCCURRENCES + COLON + newScope.getId(), s.getId());
+				redis.register(registry(SCOPED_OCCURRENCES), SCOPED_OCCURRENCES + COLON + newScope.getId(), s.getId());
 			}
 		} else if (s instanceof IAssociation) {
 			redis.srem(SCOPED_ASSOCIATIONS + COLON + oldScope.getId(), s.getId());
-			redis.sadd(SCOPED_ASSOCIATIONS + COLON + newScope.getId(), s.getId());
+			redis.register(registry(SCOPED_ASSOCIATIONS), SCOPED_ASSOCIATIONS + COLON + newScope.getId(), s.getId());
 		} else {
 			redis.srem(SCOPED_VARIANTS + COLON + oldScope.getId(), s.getId());
-			redis.sadd(SCOPED_VARIANTS + COLON + newScope.getId(), s.getId());
+			redis.register(registry(SCOPED_VARIANTS), SCOPED_VARIANTS + COLON + newScope.getId(), s.getId());
 		}
 		redis.set(s.getId(), SCOPE, newScope.getId());
 		/*
@@ -682,6 +961,7 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		redis.sadd(t.getId() + COLON + SUBJECT_IDENTIFIER, subjectIdentifier);
 		// get construct from item identifier
 		redis.set(SUBJECT_IDENTIFIER + COLON + subjectIdentifier, t.getId());
+		redis.sadd(registry(SUBJECT_IDENTIFIER), SUBJECT_IDENTIFIER + COLON + subjectIdentifier);
 	}
 
 	@Override
@@ -698,12 +978,13 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		redis.sadd(t.getId() + COLON + SUBJECT_LOCATOR, subjectLocator);
 		// get construct from item identifier
 		redis.set(SUBJECT_LOCATOR + COLON + subjectLocator, t.getId());
+		redis.sadd(registry(SUBJECT_LOCATOR), SUBJECT_LOCATOR + COLON + subjectLocator);
 	}
 
 	@Override
 	protected void doModifySupertype(ITopic t, ITopic type) throws TopicMapStoreException {
-		redis.sadd(t.getId() + COLON + SUPERTYPES, type.getId());
-		redis.sadd(type.getId() + COLON + SUBTYPES, t.getId());
+		redis.register(registry(SUPERTYPES), t.getId() + COLON + SUPERTYPES, type.getId());
+		redis.register(registry(SUBTYPES), type.getId() + COLON + SUBTYPES, t.getId());
 		/*
 		 * notify listeners
 		 */
@@ -731,7 +1012,7 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 			redis.srem(ASSOCIATION_OF_TOPICMAP + COLON + oldType.getId(), typableId);
 
 			// typed associations
-			redis.sadd(TYPED_ASSOCIATIONS + COLON + type.getId(), typableId);
+			redis.register(registry(TYPED_ASSOCIATIONS), TYPED_ASSOCIATIONS + COLON + type.getId(), typableId);
 			redis.srem(TYPED_ASSOCIATIONS + COLON + oldType.getId(), typableId);
 
 			// update roles-by-assoc-type-index
@@ -747,22 +1028,22 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 			redis.srem(association + COLON + TYPE, oldType.getId());
 
 			// role types in the typing topic
-			redis.sadd(TYPED_ROLES + COLON + type.getId(), typableId);
+			redis.register(registry(TYPED_ROLES), TYPED_ROLES + COLON + type.getId(), typableId);
 			redis.srem(TYPED_ROLES + COLON + oldType.getId(), typableId);
 
 		} else if (t instanceof IName) {
 			// typed characteristics
-			redis.sadd(TYPED_CHARACTERISTICS + COLON + type.getId(), typableId);
+			redis.register(registry(TYPED_CHARACTERISTICS), TYPED_CHARACTERISTICS + COLON + type.getId(), typableId);
 			redis.srem(TYPED_CHARACTERISTICS + COLON + oldType.getId(), typableId);
 			// typed names
-			redis.sadd(TYPED_NAMES + COLON + type.getId(), typableId);
+			redis.register(registry(TYPED_NAMES), TYPED_NAMES + COLON + type.getId(), typableId);
 			redis.srem(TYPED_NAMES + COLON + oldType.getId(), typableId);
 		} else if (t instanceof IOccurrence) {
 			// typed characteristics
-			redis.sadd(TYPED_CHARACTERISTICS + COLON + type.getId(), typableId);
+			redis.register(registry(TYPED_CHARACTERISTICS), TYPED_CHARACTERISTICS + COLON + type.getId(), typableId);
 			redis.srem(TYPED_CHARACTERISTICS + COLON + oldType.getId(), typableId);
 			// typed names
-			redis.sadd(TYPED_OCCURRENCES + COLON + type.getId(), typableId);
+			redis.register(registry(TYPED_OCCURRENCES), TYPED_OCCURRENCES + COLON + type.getId(), typableId);
 			redis.srem(TYPED_OCCURRENCES + COLON + oldType.getId(), typableId);
 		}
 		/*
@@ -774,7 +1055,7 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 	@Override
 	protected void doModifyTopicType(ITopic t, ITopic type) throws TopicMapStoreException {
 		redis.sadd(t.getId() + COLON + TYPES, type.getId());
-		redis.sadd(type.getId() + COLON + INSTANCES, t.getId());
+		redis.register(registry(INSTANCES), type.getId() + COLON + INSTANCES, t.getId());
 		/*
 		 * notify listeners
 		 */
@@ -785,6 +1066,10 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 	protected void doModifyValue(IName n, String value) throws TopicMapStoreException {
 		String oldValue = redis.get(n.getId(), VALUE);
 		redis.set(n.getId(), VALUE, value);
+		if (oldValue != null) {
+			redis.zremValue(values(NAME), oldValue, n.getId());
+		}
+		redis.zaddValue(values(NAME), value, n.getId());
 		/*
 		 * notify listeners
 		 */
@@ -806,6 +1091,15 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		String oldDatatype = redis.get(t.getId(), DATATYPE);
 		redis.set(t.getId(), VALUE, value);
 		redis.set(t.getId(), DATATYPE, datatype);
+		final String kind = t instanceof IOccurrence ? OCCURRENCE : VARIANT;
+		if (oldValue != null) {
+			redis.zremValue(values(kind), oldValue, t.getId());
+		}
+		redis.zaddValue(values(kind), value, t.getId());
+		if (t instanceof IOccurrence) {
+			removeNumber(t.getId(), oldDatatype);
+			addNumber(t.getId(), value, datatype);
+		}
 		/*
 		 * notify listeners
 		 */
@@ -851,6 +1145,7 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		redis.srem(c.getId() + COLON + ITEM_IDENTIFIER, itemIdentifier);
 		// remove construct from item identifier
 		redis.del(ITEM_IDENTIFIER + COLON + itemIdentifier);
+		redis.srem(registry(ITEM_IDENTIFIER), ITEM_IDENTIFIER + COLON + itemIdentifier);
 	}
 
 	@Override
@@ -876,6 +1171,7 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		redis.srem(t.getId() + COLON + SUBJECT_IDENTIFIER, subjectIdentifier);
 		// remove construct from subject identifier
 		redis.del(SUBJECT_IDENTIFIER + COLON + subjectIdentifier);
+		redis.srem(registry(SUBJECT_IDENTIFIER), SUBJECT_IDENTIFIER + COLON + subjectIdentifier);
 	}
 
 	@Override
@@ -892,6 +1188,7 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		redis.srem(t.getId() + COLON + SUBJECT_LOCATOR, subjectLocator);
 		// remove construct from subject locator
 		redis.del(SUBJECT_LOCATOR + COLON + subjectLocator);
+		redis.srem(registry(SUBJECT_LOCATOR), SUBJECT_LOCATOR + COLON + subjectLocator);
 	}
 
 	@Override
@@ -916,7 +1213,7 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 
 	@Override
 	protected void doRemoveTopicMap(ITopicMap topicMap, boolean cascade) throws TopicMapStoreException {
-		redis.clear();
+		clear();
 	}
 
 	@Override
@@ -949,25 +1246,17 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		/*
 		 * remove typed constructs
 		 */
-		for (String key : redis.list(TYPED_ASSOCIATIONS + COLON + id)) {
-			for (String id_ : redis.smembers(key)) {
-				removeAssociation(id_, true);
-			}
+		for (String id_ : redis.smembers(TYPED_ASSOCIATIONS + COLON + id)) {
+			removeAssociation(id_, true);
 		}
-		for (String key : redis.list(TYPED_NAMES + COLON + id)) {
-			for (String id_ : redis.smembers(key)) {
-				removeName(id_, true);
-			}
+		for (String id_ : redis.smembers(TYPED_NAMES + COLON + id)) {
+			removeName(id_, true);
 		}
-		for (String key : redis.list(TYPED_OCCURRENCES + COLON + id)) {
-			for (String id_ : redis.smembers(key)) {
-				removeOccurrence(id_, true);
-			}
+		for (String id_ : redis.smembers(TYPED_OCCURRENCES + COLON + id)) {
+			removeOccurrence(id_, true);
 		}
-		for (String key : redis.list(TYPED_ROLES + COLON + id)) {
-			for (String id_ : redis.smembers(key)) {
-				removeRole(id_, true, false);
-			}
+		for (String id_ : redis.smembers(TYPED_ROLES + COLON + id)) {
+			removeRole(id_, true, false);
 		}
 		redis.del(TYPED_NAMES + COLON + id, TYPED_OCCURRENCES + COLON + id, TYPED_ASSOCIATIONS + COLON + id, TYPED_ROLES + COLON + id,
 				TYPED_CHARACTERISTICS + COLON + id);
@@ -975,20 +1264,14 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		 * remove scoped constructs
 		 */
 		for (String key : redis.smembers(id + COLON + IN_SCOPE)) {
-			for (String key_ : redis.list(SCOPED_ASSOCIATIONS + COLON + id)) {
-				for (String id_ : redis.smembers(key_)) {
-					removeAssociation(id_, true);
-				}
+			for (String id_ : redis.smembers(SCOPED_ASSOCIATIONS + COLON + id)) {
+				removeAssociation(id_, true);
 			}
-			for (String key_ : redis.list(SCOPED_NAMES + COLON + id)) {
-				for (String id_ : redis.smembers(key_)) {
-					removeName(id_, true);
-				}
+			for (String id_ : redis.smembers(SCOPED_NAMES + COLON + id)) {
+				removeName(id_, true);
 			}
-			for (String key_ : redis.list(SCOPED_OCCURRENCES + COLON + id)) {
-				for (String id_ : redis.smembers(key_)) {
-					removeOccurrence(id_, true);
-				}
+			for (String id_ : redis.smembers(SCOPED_OCCURRENCES + COLON + id)) {
+				removeOccurrence(id_, true);
 			}
 			redis.del(key, id + COLON + IN_SCOPE, SCOPED_ASSOCIATIONS + COLON + id, SCOPED_NAMES + COLON + id, SCOPED_OCCURRENCES + COLON + id,
 					SCOPED_CHARACTERISTICS + COLON + id);
@@ -1033,9 +1316,11 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 	}
 
 	void removeName(String id, boolean cascade) throws TopicMapStoreException {
-		String parentId = redis.get(id, PARENT);
-		String typeId = redis.get(id, TYPE);
-		String scopeId = redis.get(id, SCOPE);
+		List<String> fields = redis.hmget(id, PARENT, TYPE, SCOPE, VALUE);
+		String parentId = fields.get(0);
+		String typeId = fields.get(1);
+		String scopeId = fields.get(2);
+		String value = fields.get(3);
 
 		removeReifier(id, cascade);
 
@@ -1050,6 +1335,11 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		// store scoped characteristics
 		redis.srem(SCOPED_CHARACTERISTICS + COLON + scopeId, id);
 		redis.srem(SCOPED_NAMES + COLON + scopeId, id);
+		// remove from the names of the topic map
+		redis.srem(registry(NAME), id);
+		if (value != null) {
+			redis.zremValue(values(NAME), value, id);
+		}
 
 		removeItemIdentifiers(id);
 	}
@@ -1064,9 +1354,12 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 	}
 
 	void removeOccurrence(String id, boolean cascade) throws TopicMapStoreException {
-		String parentId = redis.get(id, PARENT);
-		String typeId = redis.get(id, TYPE);
-		String scopeId = redis.get(id, SCOPE);
+		List<String> fields = redis.hmget(id, PARENT, TYPE, SCOPE, VALUE, DATATYPE);
+		String parentId = fields.get(0);
+		String typeId = fields.get(1);
+		String scopeId = fields.get(2);
+		String value = fields.get(3);
+		String datatype = fields.get(4);
 
 		removeReifier(id, cascade);
 
@@ -1081,6 +1374,12 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		// store scoped characteristics
 		redis.srem(SCOPED_CHARACTERISTICS + COLON + scopeId, id);
 		redis.srem(SCOPED_OCCURRENCES + COLON + scopeId, id);
+		// remove from the occurrences of the topic map
+		redis.srem(registry(OCCURRENCE), id);
+		if (value != null) {
+			redis.zremValue(values(OCCURRENCE), value, id);
+		}
+		removeNumber(id, datatype);
 
 		removeItemIdentifiers(id);
 	}
@@ -1095,8 +1394,9 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 	}
 
 	void removeAssociation(String id, boolean cascade) throws TopicMapStoreException {
-		final String scope = redis.get(id, SCOPE);
-		final String type = redis.get(id, TYPE);
+		List<String> fields = redis.hmget(id, SCOPE, TYPE);
+		final String scope = fields.get(0);
+		final String type = fields.get(1);
 
 		removeReifier(id, cascade);
 		for (String role : redis.smembers(id + COLON + ROLE)) {
@@ -1122,9 +1422,10 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 	}
 
 	void removeRole(String id, boolean cascade, boolean calledFromAssociation) throws TopicMapStoreException {
-		String parentId = redis.get(id, PARENT);
-		String typeId = redis.get(id, TYPE);
-		String playerId = redis.get(id, PLAYER);
+		List<String> fields = redis.hmget(id, PARENT, TYPE, PLAYER);
+		String parentId = fields.get(0);
+		String typeId = fields.get(1);
+		String playerId = fields.get(2);
 		String parentTypeId = redis.get(parentId, TYPE);
 
 		removeReifier(id, cascade);
@@ -1183,8 +1484,10 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 	}
 
 	void removeVariant(String id, boolean cascade) throws TopicMapStoreException {
-		String parentId = redis.get(id, PARENT);
-		String scopeId = redis.get(id, SCOPE);
+		List<String> fields = redis.hmget(id, PARENT, SCOPE, VALUE);
+		String parentId = fields.get(0);
+		String scopeId = fields.get(1);
+		String value = fields.get(2);
 
 		removeReifier(id, cascade);
 
@@ -1194,6 +1497,11 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		redis.srem(parentId + COLON + VARIANT, id);
 
 		redis.srem(SCOPED_VARIANTS + COLON + scopeId, id);
+		// remove from the variants of the topic map
+		redis.srem(registry(VARIANT), id);
+		if (value != null) {
+			redis.zremValue(values(VARIANT), value, id);
+		}
 
 		removeItemIdentifiers(id);
 	}
@@ -1256,6 +1564,7 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		}
 		keys[iis.size()] = id + COLON + TYPE;
 		redis.del(keys);
+		redis.srem(registry(TYPE), Arrays.asList(keys).subList(0, iis.size()));
 	}
 
 	@Override
@@ -1672,38 +1981,39 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 		return set;
 	}
 
-	@Override
-	public Set<IAssociationRole> doReadRoles(ITopic player) throws TopicMapStoreException {
+	/**
+	 * Internal method to create the roles for the given keys. The parent
+	 * associations are fetched within one pipeline.
+	 * 
+	 * @param keys
+	 *            the keys of the roles
+	 * @return the roles
+	 */
+	private Set<IAssociationRole> readPlayedRoles(Set<String> keys) {
 		Set<IAssociationRole> set = HashUtil.getHashSet();
-		for (String key : redis.smembers(player.getId() + COLON + PLAYED_ROLE)) {
-			final String a = redis.get(key, PARENT);
-			set.add(getConstructFactory().newAssociationRole(new RedisStoreIdentity(key),
-					getConstructFactory().newAssociation(new RedisStoreIdentity(a), getTopicMap())));
+		List<String> roles = HashUtil.getList(keys);
+		List<String> associations = redis.get(roles, PARENT);
+		for (int i = 0; i < roles.size(); i++) {
+			set.add(getConstructFactory().newAssociationRole(new RedisStoreIdentity(roles.get(i)),
+					getConstructFactory().newAssociation(new RedisStoreIdentity(associations.get(i)), getTopicMap())));
 		}
 		return set;
 	}
 
+	@Override
+	public Set<IAssociationRole> doReadRoles(ITopic player) throws TopicMapStoreException {
+		return readPlayedRoles(redis.smembers(player.getId() + COLON + PLAYED_ROLE));
+	}
+
 	@Override
 	public Set<IAssociationRole> doReadRoles(ITopic player, ITopic type) throws TopicMapStoreException {
-		Set<IAssociationRole> set = HashUtil.getHashSet();
-		for (String key : redis.sinter(player.getId() + COLON + PLAYED_ROLE, TYPED_ROLES + COLON + type.getId())) {
-			final String a = redis.get(key, PARENT);
-			set.add(getConstructFactory().newAssociationRole(new RedisStoreIdentity(key),
-					getConstructFactory().newAssociation(new RedisStoreIdentity(a), getTopicMap())));
-		}
-		return set;
+		return readPlayedRoles(redis.sinter(player.getId() + COLON + PLAYED_ROLE, TYPED_ROLES + COLON + type.getId()));
 	}
 
 	@Override
 	public Set<IAssociationRole> doReadRoles(ITopic player, ITopic type, ITopic assocType) throws TopicMapStoreException {
-		Set<IAssociationRole> set = HashUtil.getHashSet();
-		for (String key : redis.sinter(player.getId() + COLON + PLAYED_ROLE, TYPED_ROLES + COLON + type.getId(), ROLES_BY_ASSOCTYPE + COLON
-				+ assocType.getId())) {
-			final String a = redis.get(key, PARENT);
-			set.add(getConstructFactory().newAssociationRole(new RedisStoreIdentity(key),
-					getConstructFactory().newAssociation(new RedisStoreIdentity(a), getTopicMap())));
-		}
-		return set;
+		return readPlayedRoles(redis.sinter(player.getId() + COLON + PLAYED_ROLE, TYPED_ROLES + COLON + type.getId(), ROLES_BY_ASSOCTYPE + COLON
+				+ assocType.getId()));
 	}
 
 	@Override
@@ -1913,6 +2223,11 @@ public class RedisTopicMapStore extends ModifableTopicMapStoreImpl {
 	@Override
 	public void clear() {
 		redis.clear();
+		/*
+		 * the registries of an empty database are complete
+		 */
+		redis.set(REGISTRY_MARKER, String.valueOf(System.currentTimeMillis()));
+		redis.set(NGRAM_MARKER, String.valueOf(System.currentTimeMillis()));
 	}
 
 	/**
@@ -1,9 +1,9 @@
 package de.topicmapslab.majortom.redis.store.index;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.COLON;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.ITEM_IDENTIFIER;
-import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.STAR;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.SUBJECT_IDENTIFIER;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.SUBJECT_LOCATOR;
+import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.registry;
 
 import java.util.Collection;
 import java.util.Set;
@@ -46,7 +46,7 @@ public class RedisIdentityIndex extends IndexImpl<RedisTopicMapStore> implements
 		if ( !isOpen()){
 			throw new TopicMapStoreException(INDEX_IS_CLOSED);
 		}
-		return redis.list(ITEM_IDENTIFIER + COLON + STAR);
+		return redis.smembers(registry(ITEM_IDENTIFIER));
 	}
 
 	public Collection<Locator> getSubjectIdentifiers() {
@@ -64,7 +64,7 @@ public class RedisIdentityIndex extends IndexImpl<RedisTopicMapStore> implements
 		if ( !isOpen()){
 			throw new TopicMapStoreException(INDEX_IS_CLOSED);
 		}
-		return redis.list(SUBJECT_IDENTIFIER + COLON + STAR);
+		return redis.smembers(registry(SUBJECT_IDENTIFIER));
 	}
 
 	public Collection<Locator> getSubjectLocators() {
@@ -79,7 +79,7 @@ public class RedisIdentityIndex extends IndexImpl<RedisTopicMapStore> implements
 		if ( !isOpen()){
 			throw new TopicMapStoreException(INDEX_IS_CLOSED);
 		}
-		return redis.list(SUBJECT_LOCATOR + COLON + STAR);
+		return redis.smembers(registry(SUBJECT_LOCATOR));
 	}
 
 	public Construct getConstructByItemIdentifier(String reference) throws MalformedIRIException {
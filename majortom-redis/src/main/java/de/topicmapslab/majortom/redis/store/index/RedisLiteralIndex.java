@@ -1,18 +1,17 @@
 package de.topicmapslab.majortom.redis.store.index;
 
-import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.COLON;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.DATATYPE;
-import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.ITEM_IDENTIFIER;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.NAME;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.OCCURRENCE;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.PARENT;
-import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.STAR;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.VALUE;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.VARIANT;
+import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.numbers;
+import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.registry;
+import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.values;
 
 import java.net.URI;
 import java.text.ParseException;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
@@ -25,8 +24,9 @@ import org.tmapi.core.Name;
 import org.tmapi.core.Occurrence;
 import org.tmapi.core.Variant;
 
-import redis.clients.jedis.Pipeline;
+import de.topicmapslab.geotype.wgs84.Wgs84Circuit;
 import de.topicmapslab.geotype.wgs84.Wgs84Coordinate;
+import de.topicmapslab.majortom.comparator.CharacteristicsByDistanceComparator;
 import de.topicmapslab.majortom.index.IndexImpl;
 import de.topicmapslab.majortom.model.core.ICharacteristics;
 import de.topicmapslab.majortom.model.core.IDatatypeAware;
@@ -43,6 +43,7 @@ import de.topicmapslab.majortom.redis.util.RedisHandler;
 import de.topicmapslab.majortom.util.DatatypeAwareUtils;
 import de.topicmapslab.majortom.util.HashUtil;
 import de.topicmapslab.majortom.util.LiteralUtils;
+import de.topicmapslab.majortom.util.NGramIndex;
 
 public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements ILiteralIndex {
 
@@ -86,28 +87,14 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 		if (value == null) {
 			throw new IllegalArgumentException(NULL_IS_AN_INVALID_VALUE);
 		}
-		Set<String> keySet = redis.list(NAME + COLON + STAR);
-		Pipeline p = redis.pipeline();
-		for (String key : HashUtil.getHashSet(keySet)) {
-			if (key.endsWith(VARIANT) || key.endsWith(ITEM_IDENTIFIER)) {
-				keySet.remove(key);
-				continue;
-			}
-			p.hget(key, VALUE);
-		}
-		String[] keys = keySet.toArray(new String[0]);
-		List<Object> valueObjects = p.execute();
-		int i = 0;
-		for (Object valueObject : valueObjects) {
-			String key = keys[i++];
-			if (valueObject.getClass().isArray()) {
-				String testValue = new String((byte[]) valueObject);
-				if (value.equals(testValue)) {
-					String parentId = redis.get(key, PARENT);
-					ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentId),
-							getTopicMapStore().getTopicMap());
-					set.add(getTopicMapStore().getConstructFactory().newName(new RedisStoreIdentity(key), parent));
-				}
+		List<String> keys = getKeys(NAME, value);
+		List<List<String>> values = redis.hmget(keys, VALUE, PARENT);
+		for (int i = 0; i < keys.size(); i++) {
+			List<String> fields = values.get(i);
+			if (value.equals(fields.get(0))) {
+				ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(fields.get(1)),
+						getTopicMapStore().getTopicMap());
+				set.add(getTopicMapStore().getConstructFactory().newName(new RedisStoreIdentity(keys.get(i)), parent));
 			}
 		}
 		return set;
@@ -123,14 +110,11 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 			throw new TopicMapStoreException(INDEX_IS_CLOSED);
 		}
 		Set<IName> set = HashUtil.getHashSet();
-		Set<String> keySet = redis.list(NAME + COLON + STAR);
-		for (String key : keySet) {
-			if (key.endsWith(VARIANT) || key.endsWith(ITEM_IDENTIFIER)) {
-				continue;
-			}
-			String parentId = redis.get(key, PARENT);
-			ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentId), getTopicMapStore().getTopicMap());
-			set.add(getTopicMapStore().getConstructFactory().newName(new RedisStoreIdentity(key), parent));
+		List<String> keys = getKeys(NAME);
+		List<String> parentIds = redis.get(keys, PARENT);
+		for (int i = 0; i < keys.size(); i++) {
+			ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentIds.get(i)), getTopicMapStore().getTopicMap());
+			set.add(getTopicMapStore().getConstructFactory().newName(new RedisStoreIdentity(keys.get(i)), parent));
 		}
 		return set;
 	}
@@ -194,31 +178,14 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 			throw new IllegalArgumentException(NULL_IS_AN_INVALID_VALUE);
 		}
 		Set<IOccurrence> set = HashUtil.getHashSet();
-		Set<String> keySet = redis.list(OCCURRENCE + COLON + STAR);
-		Pipeline p = redis.pipeline();
-		for (String key : HashUtil.getHashSet(keySet)) {
-			if (key.endsWith(ITEM_IDENTIFIER)) {
-				keySet.remove(key);
-				continue;
-			}
-			p.hmget(key, VALUE, DATATYPE);
-		}
-		String[] keys = keySet.toArray(new String[0]);
-		List<Object> valueObjects = p.execute();
-		int i = 0;
-		for (Object valueObject : valueObjects) {
-			String key = keys[i++];
-			if (valueObject instanceof ArrayList) {
-				List<?> valueArrayList = (List<?>) valueObject;
-				String testValue = new String((byte[]) valueArrayList.get(0));
-				String testDatatype = new String((byte[]) valueArrayList.get(1));
-
-				if (datatype.equals(testDatatype) && testValue.equals(value)) {
-					String parentId = redis.get(key, PARENT);
-					ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentId),
-							getTopicMapStore().getTopicMap());
-					set.add(getTopicMapStore().getConstructFactory().newOccurrence(new RedisStoreIdentity(key), parent));
-				}
+		List<String> keys = getKeys(OCCURRENCE, value);
+		List<List<String>> values = redis.hmget(keys, VALUE, DATATYPE, PARENT);
+		for (int i = 0; i < keys.size(); i++) {
+			List<String> fields = values.get(i);
+			if (datatype.equals(fields.get(1)) && value.equals(fields.get(0))) {
+				ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(fields.get(2)),
+						getTopicMapStore().getTopicMap());
+				set.add(getTopicMapStore().getConstructFactory().newOccurrence(new RedisStoreIdentity(keys.get(i)), parent));
 			}
 		}
 		return set;
@@ -239,29 +206,14 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 		if (datatype == null) {
 			throw new IllegalArgumentException(NULL_IS_AN_INVALID_VALUE);
 		}
-		Set<String> keySet = redis.list(OCCURRENCE + COLON + STAR);
-		Pipeline p = redis.pipeline();
-		for (String key : HashUtil.getHashSet(keySet)) {
-			if (key.endsWith(ITEM_IDENTIFIER)) {
-				keySet.remove(key);
-				continue;
-			}
-			p.hget(key, DATATYPE);
-		}
-		String[] keys = keySet.toArray(new String[0]);
-
-		List<Object> datatypeObjects = p.execute();
-		int i = 0;
-		for (Object datatypeObject : datatypeObjects) {
-			String key = keys[i++];
-			if (datatypeObject.getClass().isArray()) {
-				String testDatatype = new String((byte[]) datatypeObject);
-				if (datatype.equals(testDatatype)) {
-					String parentId = redis.get(key, PARENT);
-					ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentId),
-							getTopicMapStore().getTopicMap());
-					set.add(getTopicMapStore().getConstructFactory().newOccurrence(new RedisStoreIdentity(key), parent));
-				}
+		List<String> keys = getKeys(OCCURRENCE);
+		List<List<String>> values = redis.hmget(keys, DATATYPE, PARENT);
+		for (int i = 0; i < keys.size(); i++) {
+			List<String> fields = values.get(i);
+			if (datatype.equals(fields.get(0))) {
+				ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(fields.get(1)),
+						getTopicMapStore().getTopicMap());
+				set.add(getTopicMapStore().getConstructFactory().newOccurrence(new RedisStoreIdentity(keys.get(i)), parent));
 			}
 		}
 		return set;
@@ -282,26 +234,11 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 			throw new IllegalArgumentException(NULL_IS_AN_INVALID_VALUE);
 		}
 		Set<IVariant> set = HashUtil.getHashSet();
-		Set<String> keySet = redis.list(VARIANT + COLON + STAR);
-		Pipeline p = redis.pipeline();
-		for (String key : HashUtil.getHashSet(keySet)) {
-			if (key.endsWith(ITEM_IDENTIFIER)) {
-				keySet.remove(key);
-				continue;
-			}
-			p.hget(key, DATATYPE);
-		}
-		String[] keys = keySet.toArray(new String[0]);
-
-		List<Object> datatypeObjects = p.execute();
-		int i = 0;
-		for (Object datatypeObject : datatypeObjects) {
-			String key = keys[i++];
-			if (datatypeObject.getClass().isArray()) {
-				String testDatatype = new String((byte[]) datatypeObject);
-				if (datatype.equals(testDatatype)) {
-					set.add((IVariant) getTopicMapStore().doReadConstruct(getTopicMapStore().getTopicMap(), key));
-				}
+		List<String> keys = getKeys(VARIANT);
+		List<String> datatypes = redis.get(keys, DATATYPE);
+		for (int i = 0; i < keys.size(); i++) {
+			if (datatype.equals(datatypes.get(i))) {
+				set.add((IVariant) getTopicMapStore().doReadConstruct(getTopicMapStore().getTopicMap(), keys.get(i)));
 			}
 		}
 		return set;
@@ -317,14 +254,11 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 			throw new TopicMapStoreException(INDEX_IS_CLOSED);
 		}
 		Set<IOccurrence> set = HashUtil.getHashSet();
-		Set<String> keySet = redis.list(OCCURRENCE + COLON + STAR);
-		for (String key : keySet) {
-			if (key.endsWith(ITEM_IDENTIFIER)) {
-				continue;
-			}
-			String parentId = redis.get(key, PARENT);
-			ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentId), getTopicMapStore().getTopicMap());
-			set.add(getTopicMapStore().getConstructFactory().newOccurrence(new RedisStoreIdentity(key), parent));
+		List<String> keys = getKeys(OCCURRENCE);
+		List<String> parentIds = redis.get(keys, PARENT);
+		for (int i = 0; i < keys.size(); i++) {
+			ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentIds.get(i)), getTopicMapStore().getTopicMap());
+			set.add(getTopicMapStore().getConstructFactory().newOccurrence(new RedisStoreIdentity(keys.get(i)), parent));
 		}
 		return set;
 	}
@@ -394,35 +328,18 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 			throw new IllegalArgumentException(NULL_IS_AN_INVALID_VALUE_AND_OR_DATATYPE);
 		}
 		Set<IVariant> set = HashUtil.getHashSet();
-		Set<String> keySet = redis.list(VARIANT + COLON + STAR);
-		Pipeline p = redis.pipeline();
-		for (String key : HashUtil.getHashSet(keySet)) {
-			if (key.endsWith(ITEM_IDENTIFIER)) {
-				keySet.remove(key);
-				continue;
-			}
-			p.hmget(key, VALUE, DATATYPE);
-		}
-		String[] keys = keySet.toArray(new String[0]);
-		List<Object> valueObjects = p.execute();
-		int i = 0;
-		for (Object valueObject : valueObjects) {
-			String key = keys[i++];
-			if (valueObject instanceof ArrayList) {
-				List<?> valueArrayList = (List<?>) valueObject;
-				String testValue = new String((byte[]) valueArrayList.get(0));
-				String testDatatype = new String((byte[]) valueArrayList.get(1));
-
-				if (datatype.equals(testDatatype) && testValue.equals(value)) {
-					String parentNameId = redis.get(key, PARENT);
-					String parentsTopicId = redis.get(parentNameId, PARENT);
-					ITopic parentsTopic = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentsTopicId),
-							getTopicMapStore().getTopicMap());
-					IName parentName = getTopicMapStore().getConstructFactory().newName(new RedisStoreIdentity(parentNameId), parentsTopic);
-					set.add(getTopicMapStore().getConstructFactory().newVariant(new RedisStoreIdentity(key), parentName));
-				}
+		List<String> keys = getKeys(VARIANT, value);
+		List<List<String>> values = redis.hmget(keys, VALUE, DATATYPE, PARENT);
+		List<String> matches = HashUtil.getList();
+		List<String> parentNameIds = HashUtil.getList();
+		for (int i = 0; i < keys.size(); i++) {
+			List<String> fields = values.get(i);
+			if (datatype.equals(fields.get(1)) && value.equals(fields.get(0))) {
+				matches.add(keys.get(i));
+				parentNameIds.add(fields.get(2));
 			}
 		}
+		set.addAll(newVariants(matches, parentNameIds));
 		return set;
 	}
 
@@ -436,18 +353,8 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 			throw new TopicMapStoreException(INDEX_IS_CLOSED);
 		}
 		Set<IVariant> set = HashUtil.getHashSet();
-		Set<String> keySet = redis.list(VARIANT + COLON + STAR);
-		for (String key : keySet) {
-			if (key.endsWith(ITEM_IDENTIFIER)) {
-				continue;
-			}
-			String parentNameId = redis.get(key, PARENT);
-			String parentsTopicId = redis.get(parentNameId, PARENT);
-			ITopic parentsTopic = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentsTopicId),
-					getTopicMapStore().getTopicMap());
-			IName parentName = getTopicMapStore().getConstructFactory().newName(new RedisStoreIdentity(parentNameId), parentsTopic);
-			set.add(getTopicMapStore().getConstructFactory().newVariant(new RedisStoreIdentity(key), parentName));
-		}
+		List<String> keys = getKeys(VARIANT);
+		set.addAll(newVariants(keys, redis.get(keys, PARENT)));
 		return set;
 	}
 
@@ -591,62 +498,28 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 			throw new IllegalArgumentException("null is an invalid regex and/or datatype");
 		}
 
-		Set<String> keySet;
-		String[] keys;
-		Pipeline p;
-		List<Object> valueObjects;
-		int i;
+		List<String> keys;
+		List<List<String>> values;
 		if (Namespaces.XSD.STRING.equals(datatype)) {
-			keySet = redis.list(NAME + COLON + STAR);
-			p = redis.pipeline();
-
-			for (String key : HashUtil.getHashSet(keySet)) {
-				if (key.endsWith(ITEM_IDENTIFIER) || key.endsWith(VARIANT)) {
-					keySet.remove(key);
-					continue;
-				}
-				p.hget(key, VALUE);
-			}
-			keys = keySet.toArray(new String[0]);
-			valueObjects = p.execute();
-			i = 0;
-			for (Object valueObject : valueObjects) {
-				String key = keys[i++];
-				if (valueObject.getClass().isArray()) {
-					String testValue = new String((byte[]) valueObject);
-					if (regex.matcher(testValue).matches()) {
-						String parentId = redis.get(key, PARENT);
-						ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentId),
-								getTopicMapStore().getTopicMap());
-						set.add(getTopicMapStore().getConstructFactory().newName(new RedisStoreIdentity(key), parent));
-					}
+			keys = getKeysByPattern(NAME, regex);
+			values = redis.hmget(keys, VALUE, PARENT);
+			for (int i = 0; i < keys.size(); i++) {
+				List<String> fields = values.get(i);
+				if (fields.get(0) != null && regex.matcher(fields.get(0)).matches()) {
+					ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(fields.get(1)),
+							getTopicMapStore().getTopicMap());
+					set.add(getTopicMapStore().getConstructFactory().newName(new RedisStoreIdentity(keys.get(i)), parent));
 				}
 			}
 		}
-		keySet = redis.list(OCCURRENCE + COLON + STAR);
-		p = redis.pipeline();
-		for (String key : HashUtil.getHashSet(keySet)) {
-			if (key.endsWith(ITEM_IDENTIFIER)) {
-				keySet.remove(key);
-				continue;
-			}
-			p.hmget(key, VALUE, DATATYPE);
-		}
-		keys = keySet.toArray(new String[0]);
-		valueObjects = p.execute();
-		i = 0;
-		for (Object valueObject : valueObjects) {
-			String key = keys[i++];
-			if (valueObject instanceof ArrayList) {
-				List<?> valueArrayList = (List<?>) valueObject;
-				String testValue = new String((byte[]) valueArrayList.get(0));
-				String testDatatype = new String((byte[]) valueArrayList.get(1));
-				if (datatype.equals(testDatatype) && regex.matcher(testValue).matches()) {
-					String parentId = redis.get(key, PARENT);
-					ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentId),
-							getTopicMapStore().getTopicMap());
-					set.add(getTopicMapStore().getConstructFactory().newOccurrence(new RedisStoreIdentity(key), parent));
-				}
+		keys = getKeysByPattern(OCCURRENCE, regex);
+		values = redis.hmget(keys, VALUE, DATATYPE, PARENT);
+		for (int i = 0; i < keys.size(); i++) {
+			List<String> fields = values.get(i);
+			if (datatype.equals(fields.get(1)) && fields.get(0) != null && regex.matcher(fields.get(0)).matches()) {
+				ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(fields.get(2)),
+						getTopicMapStore().getTopicMap());
+				set.add(getTopicMapStore().getConstructFactory().newOccurrence(new RedisStoreIdentity(keys.get(i)), parent));
 			}
 		}
 		return set;
@@ -691,6 +564,75 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 		return set;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getCoordinates(Wgs84Circuit area) {
+		if (!isOpen()) {
+			throw new TopicMapStoreException(INDEX_IS_CLOSED);
+		}
+		if (area == null) {
+			throw new IllegalArgumentException(NULL_IS_AN_INVALID_VALUE);
+		}
+		Collection<IOccurrence> coordinates = getOccurrencesInternalByDatatype(Namespaces.XSD.WGS84_COORDINATE);
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		for (IOccurrence c : coordinates) {
+			try {
+				if (area.contains(c.coordinateValue())) {
+					set.add(c);
+				}
+			} catch (ParseException e) {
+				// IGNORE
+			}
+		}
+		return set;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getCoordinatesInBoundingBox(Wgs84Coordinate southWest, Wgs84Coordinate northEast) {
+		if (!isOpen()) {
+			throw new TopicMapStoreException(INDEX_IS_CLOSED);
+		}
+		if (southWest == null || northEast == null) {
+			throw new IllegalArgumentException(NULL_IS_AN_INVALID_VALUE);
+		}
+		Collection<IOccurrence> coordinates = getOccurrencesInternalByDatatype(Namespaces.XSD.WGS84_COORDINATE);
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		for (IOccurrence c : coordinates) {
+			try {
+				if (LiteralUtils.inBoundingBox(c.coordinateValue(), southWest, northEast)) {
+					set.add(c);
+				}
+			} catch (ParseException e) {
+				// IGNORE
+			}
+		}
+		return set;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public List<ICharacteristics> getNearestCoordinates(Wgs84Coordinate value, int count) {
+		if (!isOpen()) {
+			throw new TopicMapStoreException(INDEX_IS_CLOSED);
+		}
+		if (value == null) {
+			throw new IllegalArgumentException(NULL_IS_AN_INVALID_VALUE);
+		}
+		CharacteristicsByDistanceComparator comparator = new CharacteristicsByDistanceComparator(value);
+		List<ICharacteristics> list = HashUtil.getList();
+		for (IOccurrence c : getOccurrencesInternalByDatatype(Namespaces.XSD.WGS84_COORDINATE)) {
+			if (comparator.getDistance(c) != Double.POSITIVE_INFINITY) {
+				list.add(c);
+			}
+		}
+		Collections.sort(list, comparator);
+		return HashUtil.secureSubList(list, 0, count);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -765,6 +707,33 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 		return Collections.unmodifiableCollection(set);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getDateTimeBetween(Calendar lower, Calendar upper) {
+		if (!isOpen()) {
+			throw new TopicMapStoreException(INDEX_IS_CLOSED);
+		}
+		if (lower == null || upper == null) {
+			throw new IllegalArgumentException(NULL_IS_AN_INVALID_VALUE);
+		}
+		Collection<IOccurrence> dateTimes = HashUtil.getHashSet();
+		dateTimes.addAll(getOccurrencesInternalByDatatype(Namespaces.XSD.DATETIME));
+		dateTimes.addAll(getOccurrencesInternalByDatatype(Namespaces.XSD.DATE));
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		for (IOccurrence c : dateTimes) {
+			try {
+				long time = c.dateTimeValue().getTimeInMillis();
+				if (time >= lower.getTimeInMillis() && time <= upper.getTimeInMillis()) {
+					set.add(c);
+				}
+			} catch (ParseException e) {
+				e.printStackTrace();
+			}
+		}
+		return Collections.unmodifiableCollection(set);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -784,7 +753,7 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 		if (!isOpen()) {
 			throw new TopicMapStoreException(INDEX_IS_CLOSED);
 		}
-		Collection<IOccurrence> doubles = getOccurrencesInternalByDatatype(Namespaces.XSD.DOUBLE);
+		Collection<IOccurrence> doubles = getOccurrencesInternalByRange(Namespaces.XSD.DOUBLE, value - diff, value + diff);
 		Set<ICharacteristics> set = HashUtil.getHashSet();
 		for (IOccurrence c : doubles) {
 			if (Math.abs(c.doubleValue() - value) <= diff) {
@@ -794,6 +763,24 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 		return set;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getDoublesBetween(double lower, double upper) {
+		if (!isOpen()) {
+			throw new TopicMapStoreException(INDEX_IS_CLOSED);
+		}
+		Collection<IOccurrence> doubles = getOccurrencesInternalByRange(Namespaces.XSD.DOUBLE, lower, upper);
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		for (IOccurrence c : doubles) {
+			double value = c.doubleValue();
+			if (value >= lower && value <= upper) {
+				set.add(c);
+			}
+		}
+		return set;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -813,7 +800,7 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 		if (!isOpen()) {
 			throw new TopicMapStoreException(INDEX_IS_CLOSED);
 		}
-		Collection<IOccurrence> floats = getOccurrencesInternalByDatatype(Namespaces.XSD.FLOAT);
+		Collection<IOccurrence> floats = getOccurrencesInternalByRange(Namespaces.XSD.FLOAT, value - diff, value + diff);
 		Set<ICharacteristics> set = HashUtil.getHashSet();
 		for (IOccurrence c : floats) {
 			if (Math.abs(c.floatValue() - value) <= diff) {
@@ -823,6 +810,24 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 		return set;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getFloatsBetween(float lower, float upper) {
+		if (!isOpen()) {
+			throw new TopicMapStoreException(INDEX_IS_CLOSED);
+		}
+		Collection<IOccurrence> floats = getOccurrencesInternalByRange(Namespaces.XSD.FLOAT, lower, upper);
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		for (IOccurrence c : floats) {
+			float value = c.floatValue();
+			if (value >= lower && value <= upper) {
+				set.add(c);
+			}
+		}
+		return set;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -842,7 +847,7 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 		if (!isOpen()) {
 			throw new TopicMapStoreException(INDEX_IS_CLOSED);
 		}
-		Collection<IOccurrence> ints = getOccurrencesInternalByDatatype(Namespaces.XSD.INT);
+		Collection<IOccurrence> ints = getOccurrencesInternalByRange(Namespaces.XSD.INT, value - diff, value + diff);
 		Set<ICharacteristics> set = HashUtil.getHashSet();
 		for (IOccurrence c : ints) {
 			if (Math.abs(c.intValue() - value) <= diff) {
@@ -852,6 +857,24 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 		return set;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getIntegersBetween(int lower, int upper) {
+		if (!isOpen()) {
+			throw new TopicMapStoreException(INDEX_IS_CLOSED);
+		}
+		Collection<IOccurrence> ints = getOccurrencesInternalByRange(Namespaces.XSD.INT, lower, upper);
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		for (IOccurrence c : ints) {
+			int value = c.intValue();
+			if (value >= lower && value <= upper) {
+				set.add(c);
+			}
+		}
+		return set;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -871,7 +894,7 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 		if (!isOpen()) {
 			throw new TopicMapStoreException(INDEX_IS_CLOSED);
 		}
-		Collection<IOccurrence> longs = getOccurrencesInternalByDatatype(Namespaces.XSD.LONG);
+		Collection<IOccurrence> longs = getOccurrencesInternalByRange(Namespaces.XSD.LONG, value - diff, value + diff);
 		Set<ICharacteristics> set = HashUtil.getHashSet();
 		for (IOccurrence c : longs) {
 			if (Math.abs(c.longValue() - value) <= diff) {
@@ -881,6 +904,24 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 		return set;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	public Collection<ICharacteristics> getLongsBetween(long lower, long upper) {
+		if (!isOpen()) {
+			throw new TopicMapStoreException(INDEX_IS_CLOSED);
+		}
+		Collection<IOccurrence> longs = getOccurrencesInternalByRange(Namespaces.XSD.LONG, lower, upper);
+		Set<ICharacteristics> set = HashUtil.getHashSet();
+		for (IOccurrence c : longs) {
+			long value = c.longValue();
+			if (value >= lower && value <= upper) {
+				set.add(c);
+			}
+		}
+		return set;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -915,4 +956,151 @@ public class RedisLiteralIndex extends IndexImpl<RedisTopicMapStore> implements
 		return set;
 	}
 
+	/**
+	 * Internal method to get the keys of all constructs of the given kind
+	 * 
+	 * @param kind
+	 *            the key prefix of the constructs
+	 * @return the keys
+	 */
+	private List<String> getKeys(String kind) {
+		return HashUtil.getList(redis.smembers(registry(kind)));
+	}
+
+	/**
+	 * Internal method to get the keys of all constructs of the given kind with
+	 * the given value
+	 * 
+	 * @param kind
+	 *            the key prefix of the constructs
+	 * @param value
+	 *            the value
+	 * @return the keys
+	 */
+	private List<String> getKeys(String kind, String value) {
+		return HashUtil.getList(redis.zrangeByValue(values(kind), value));
+	}
+
+	/**
+	 * Internal method to get the keys of all constructs of the given kind with
+	 * a value starting with the given prefix
+	 * 
+	 * @param kind
+	 *            the key prefix of the constructs
+	 * @param prefix
+	 *            the prefix
+	 * @return the keys
+	 */
+	private List<String> getKeysByPrefix(String kind, String prefix) {
+		if (prefix.length() == 0) {
+			return getKeys(kind);
+		}
+		return HashUtil.getList(redis.zrangeByPrefix(values(kind), prefix).keySet());
+	}
+
+	/**
+	 * Internal method to get the keys of all constructs of the given kind
+	 * whose value may match the given regular expression. A literal prefix of
+	 * at least one trigram is looked up by the value index, otherwise the
+	 * trigram sets of the literals required by the expression are intersected.
+	 * The caller has to check the values of the returned constructs.
+	 * 
+	 * @param kind
+	 *            the key prefix of the constructs
+	 * @param regex
+	 *            the regular expression
+	 * @return the keys
+	 */
+	private List<String> getKeysByPattern(String kind, Pattern regex) {
+		final String prefix = getLiteralPrefix(regex);
+		if (prefix.length() < NGramIndex.DEFAULT_LENGTH) {
+			Set<String> candidates = redis.sinterByNGrams(values(kind), regex);
+			if (candidates != null) {
+				return HashUtil.getList(candidates);
+			}
+		}
+		return getKeysByPrefix(kind, prefix);
+	}
+
+	/**
+	 * Internal method to extract the literal prefix every value matching the
+	 * given regular expression starts with. Expressions using flags or
+	 * alternatives are handled as if there is no prefix.
+	 * 
+	 * @param regex
+	 *            the regular expression
+	 * @return the prefix, which may be empty
+	 */
+	static String getLiteralPrefix(Pattern regex) {
+		final String pattern = regex.pattern();
+		if (regex.flags() != 0 || pattern.indexOf('|') != -1) {
+			return "";
+		}
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < pattern.length(); i++) {
+			char c = pattern.charAt(i);
+			if (i == 0 && c == '^') {
+				continue;
+			}
+			if ("\\[](){}.*+?^$".indexOf(c) != -1) {
+				/*
+				 * the character before an optional quantifier may be missing
+				 */
+				if ((c == '*' || c == '?' || c == '{') && builder.length() > 0) {
+					builder.setLength(builder.length() - 1);
+				}
+				break;
+			}
+			builder.append(c);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Internal method to return all occurrences of the given numeric datatype
+	 * with a value between the given bounds. The bounds are widened a little,
+	 * because the values are stored as double, so the caller has to compare
+	 * the exact values.
+	 * 
+	 * @param datatype
+	 *            the datatype
+	 * @param lower
+	 *            the lower bound
+	 * @param upper
+	 *            the upper bound
+	 * @return the occurrences
+	 */
+	private Collection<IOccurrence> getOccurrencesInternalByRange(String datatype, double lower, double upper) {
+		Set<IOccurrence> set = HashUtil.getHashSet();
+		List<String> keys = HashUtil.getList(redis.zrangeByScore(numbers(datatype), lower - Math.ulp((float) lower), upper + Math.ulp((float) upper)));
+		List<String> parentIds = redis.get(keys, PARENT);
+		for (int i = 0; i < keys.size(); i++) {
+			ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentIds.get(i)), getTopicMapStore().getTopicMap());
+			set.add(getTopicMapStore().getConstructFactory().newOccurrence(new RedisStoreIdentity(keys.get(i)), parent));
+		}
+		return set;
+	}
+
+	/**
+	 * Internal method to create the variants for the given keys. The parents of
+	 * the names are fetched within one pipeline.
+	 * 
+	 * @param keys
+	 *            the keys of the variants
+	 * @param parentNameIds
+	 *            the ids of the parent names in the order of the keys
+	 * @return the variants
+	 */
+	private List<IVariant> newVariants(List<String> keys, List<String> parentNameIds) {
+		List<IVariant> variants = HashUtil.getList();
+		List<String> parentsTopicIds = redis.get(parentNameIds, PARENT);
+		for (int i = 0; i < keys.size(); i++) {
+			ITopic parentsTopic = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentsTopicIds.get(i)),
+					getTopicMapStore().getTopicMap());
+			IName parentName = getTopicMapStore().getConstructFactory().newName(new RedisStoreIdentity(parentNameIds.get(i)), parentsTopic);
+			variants.add(getTopicMapStore().getConstructFactory().newVariant(new RedisStoreIdentity(keys.get(i)), parentName));
+		}
+		return variants;
+	}
+
 }
@@ -9,11 +9,12 @@ import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.SCOPED_CHA
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.SCOPED_NAMES;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.SCOPED_OCCURRENCES;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.SCOPED_VARIANTS;
-import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.STAR;
+import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.registry;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -74,39 +75,44 @@ public class RedisScopedIndex extends IndexImpl<RedisTopicMapStore> implements I
 	 * @return a set of scopess
 	 */
 	public Collection<IScope> getScopes(final String TYPE) {
-		Set<String> list = redis.list(TYPE + COLON + STAR);
+		Set<String> list = redis.keys(registry(TYPE));
 		if (list.isEmpty()) {
 			return Collections.emptySet();
 		}
-		String[] keys = new String[list.size()];
 		int start = (TYPE + COLON).length();
-		int i = 0;
+		List<String> ids = HashUtil.getList();
 		for (String key : list) {
 			String id = key.substring(start);
 			/*
 			 * store knowledge that empty scope are contained
 			 */
-
-			keys[i++] = id;
+			if (EMPTY_SCOPE_ID.equalsIgnoreCase(id)) {
+				continue;
+			}
+			ids.add(id);
 		}
 		Map<String, ITopic> cache = HashUtil.getHashMap();
 		Set<IScope> set = HashUtil.getHashSet();
-		for (String id : keys) {
-			if (EMPTY_SCOPE_ID.equalsIgnoreCase(id)) {
-				set.add(EMPTY_SCOPE);
-			} else {
-				Set<ITopic> themes = HashUtil.getHashSet();
-				for (String tId : redis.smembers(id)) {
-					if (cache.containsKey(tId)) {
-						themes.add(cache.get(tId));
-					} else {
-						ITopic t = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(tId), getTopicMap());
-						cache.put(tId, t);
-						themes.add(t);
-					}
+		if (ids.size() < list.size()) {
+			set.add(EMPTY_SCOPE);
+		}
+		/*
+		 * fetch the themes of all scopes within one pipeline
+		 */
+		List<Set<String>> members = redis.smembers(ids);
+		for (int i = 0; i < ids.size(); i++) {
+			String id = ids.get(i);
+			Set<ITopic> themes = HashUtil.getHashSet();
+			for (String tId : members.get(i)) {
+				if (cache.containsKey(tId)) {
+					themes.add(cache.get(tId));
+				} else {
+					ITopic t = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(tId), getTopicMap());
+					cache.put(tId, t);
+					themes.add(t);
 				}
-				set.add(new ScopeImpl(id, themes));
 			}
+			set.add(new ScopeImpl(id, themes));
 		}
 		return set;
 	}
@@ -119,7 +125,7 @@ public class RedisScopedIndex extends IndexImpl<RedisTopicMapStore> implements I
 	 * @return a set of topic themes
 	 */
 	public Collection<Topic> getThemes(final String TYPE) {
-		Set<String> list = redis.list(TYPE + COLON + STAR);
+		Set<String> list = redis.keys(registry(TYPE));
 		if (list.isEmpty()) {
 			return Collections.emptySet();
 		}
@@ -535,10 +541,8 @@ public class RedisScopedIndex extends IndexImpl<RedisTopicMapStore> implements I
 			throw new IllegalArgumentException();
 		}
 		Set<Scoped> set = HashUtil.getHashSet();
-		for (final String key : redis.list(STAR + COLON + scope.getId())) {
-			for (String id : redis.smembers(key)) {
-				set.add((Scoped) getTopicMapStore().doReadConstruct(getTopicMap(), id));
-			}
+		for (String id : getScopableIds(scope)) {
+			set.add((Scoped) getTopicMapStore().doReadConstruct(getTopicMap(), id));
 		}
 		return set;
 	}
@@ -552,15 +556,26 @@ public class RedisScopedIndex extends IndexImpl<RedisTopicMapStore> implements I
 		}
 		Set<Scoped> set = HashUtil.getHashSet();
 		for (final IScope scope : scopes) {
-			for (final String key : redis.list(STAR + COLON + scope.getId())) {
-				for (String id : redis.smembers(key)) {
-					set.add((Scoped) getTopicMapStore().doReadConstruct(getTopicMap(), id));
-				}
+			for (String id : getScopableIds(scope)) {
+				set.add((Scoped) getTopicMapStore().doReadConstruct(getTopicMap(), id));
 			}
 		}
 		return set;
 	}
 
+	/**
+	 * Internal method to read the ids of all constructs in the given scope.
+	 * Names and occurrences are contained by the scoped characteristics.
+	 * 
+	 * @param scope
+	 *            the scope
+	 * @return the ids
+	 */
+	private Set<String> getScopableIds(IScope scope) {
+		return redis.sunion(SCOPED_ASSOCIATIONS + COLON + scope.getId(), SCOPED_CHARACTERISTICS + COLON + scope.getId(), SCOPED_VARIANTS + COLON
+				+ scope.getId());
+	}
+
 	public IScope getScope(Topic... themes) {
 		if (!isOpen()) {
 			throw new TopicMapStoreException("Index is closed!");
@@ -674,10 +689,8 @@ public class RedisScopedIndex extends IndexImpl<RedisTopicMapStore> implements I
 		}
 		Set<Variant> set = HashUtil.getHashSet();
 		for (final IScope scope : scopes) {
-			for (final String key : redis.list(SCOPED_VARIANTS + COLON + scope.getId())) {
-				for (String id : redis.smembers(key)) {
-					set.add((Variant) getTopicMapStore().doReadConstruct(getTopicMap(), id));
-				}
+			for (String id : redis.smembers(SCOPED_VARIANTS + COLON + scope.getId())) {
+				set.add((Variant) getTopicMapStore().doReadConstruct(getTopicMap(), id));
 			}
 		}
 		return set;
@@ -1,10 +1,10 @@
 package de.topicmapslab.majortom.redis.store.index;
 
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.COLON;
-import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.STAR;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.SUBTYPES;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.SUPERTYPES;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.TOPICS_OF_TOPICMAP;
+import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.registry;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -44,7 +44,7 @@ public class RedisSupertypeSubtypeIndex extends IndexImpl<RedisTopicMapStore> im
 			throw new TopicMapStoreException("Index is closed!");
 		}
 		Set<Topic> set = HashUtil.getHashSet();
-		Set<String> keys = redis.list(STAR + COLON + SUBTYPES);
+		Set<String> keys = redis.keys(registry(SUBTYPES));
 		for (String key : keys) {
 			int index = key.lastIndexOf(COLON + SUBTYPES);
 			set.add(getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(key.substring(0, index)),
@@ -99,7 +99,7 @@ public class RedisSupertypeSubtypeIndex extends IndexImpl<RedisTopicMapStore> im
 		Set<Topic> set = HashUtil.getHashSet();
 		if (type == null) {
 			Set<String> ids = redis.smembers(TOPICS_OF_TOPICMAP);
-			Set<String> keys = redis.list(STAR + COLON + SUPERTYPES);
+			Set<String> keys = redis.keys(registry(SUPERTYPES));
 			for (String id : ids) {
 				if (!keys.contains(id + COLON + SUPERTYPES)) {
 					set.add(getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(id), getTopicMapStore().getTopicMap()));
@@ -176,7 +176,7 @@ public class RedisSupertypeSubtypeIndex extends IndexImpl<RedisTopicMapStore> im
 			throw new TopicMapStoreException("Index is closed!");
 		}
 		Set<Topic> set = HashUtil.getHashSet();
-		Set<String> keys = redis.list(STAR + COLON + SUPERTYPES);
+		Set<String> keys = redis.keys(registry(SUPERTYPES));
 		for (String key : keys) {
 			int index = key.lastIndexOf(COLON + SUPERTYPES);
 			set.add(getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(key.substring(0, index)),
@@ -228,7 +228,7 @@ public class RedisSupertypeSubtypeIndex extends IndexImpl<RedisTopicMapStore> im
 		Set<Topic> set = HashUtil.getHashSet();
 		if (type == null) {
 			Set<String> ids = redis.smembers(TOPICS_OF_TOPICMAP);
-			Set<String> keys = redis.list(STAR + COLON + SUBTYPES);
+			Set<String> keys = redis.keys(registry(SUBTYPES));
 			for (String id : ids) {
 				if (!keys.contains(id + COLON + SUBTYPES)) {
 					set.add(getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(id), getTopicMapStore().getTopicMap()));
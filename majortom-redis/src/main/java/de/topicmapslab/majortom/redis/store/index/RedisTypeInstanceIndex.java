@@ -3,7 +3,6 @@ package de.topicmapslab.majortom.redis.store.index;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.COLON;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.INSTANCES;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.PARENT;
-import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.STAR;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.TOPICS_OF_TOPICMAP;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.TYPED_ASSOCIATIONS;
 import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.TYPED_CHARACTERISTICS;
@@ -14,6 +13,7 @@ import static de.topicmapslab.majortom.redis.store.RedisTopicMapStore.TYPES;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import org.tmapi.core.Association;
@@ -69,14 +69,12 @@ public class RedisTypeInstanceIndex extends IndexImpl<RedisTopicMapStore> implem
 		if ( !isOpen()){
 			throw new TopicMapStoreException("Index is closed!");
 		}
-		// XXX The way I'm getting the parent Topics seems very inefficient to
-		// me - what's better?
 		Set<Name> set = HashUtil.getHashSet();
-		Set<String> keys = redis.smembers(TYPED_NAMES + COLON + type.getId());
-		for (String key : keys) {
-			String parentId = redis.get(key, PARENT);
-			ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentId), getTopicMapStore().getTopicMap());
-			set.add(getTopicMapStore().getConstructFactory().newName(new RedisStoreIdentity(key), parent));
+		List<String> keys = HashUtil.getList(redis.smembers(TYPED_NAMES + COLON + type.getId()));
+		List<String> parentIds = redis.get(keys, PARENT);
+		for (int i = 0; i < keys.size(); i++) {
+			ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentIds.get(i)), getTopicMapStore().getTopicMap());
+			set.add(getTopicMapStore().getConstructFactory().newName(new RedisStoreIdentity(keys.get(i)), parent));
 		}
 		return set;
 	}
@@ -92,14 +90,12 @@ public class RedisTypeInstanceIndex extends IndexImpl<RedisTopicMapStore> implem
 		if ( !isOpen()){
 			throw new TopicMapStoreException("Index is closed!");
 		}
-		// XXX The way I'm getting the parent Topics seems very inefficient to
-		// me - what's better?
 		Set<Occurrence> set = HashUtil.getHashSet();
-		Set<String> keys = redis.smembers(TYPED_OCCURRENCES + COLON + type.getId());
-		for (String key : keys) {
-			String parentId = redis.get(key, PARENT);
-			ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentId), getTopicMapStore().getTopicMap());
-			set.add(getTopicMapStore().getConstructFactory().newOccurrence(new RedisStoreIdentity(key), parent));
+		List<String> keys = HashUtil.getList(redis.smembers(TYPED_OCCURRENCES + COLON + type.getId()));
+		List<String> parentIds = redis.get(keys, PARENT);
+		for (int i = 0; i < keys.size(); i++) {
+			ITopic parent = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentIds.get(i)), getTopicMapStore().getTopicMap());
+			set.add(getTopicMapStore().getConstructFactory().newOccurrence(new RedisStoreIdentity(keys.get(i)), parent));
 		}
 		return set;
 	}
@@ -115,14 +111,12 @@ public class RedisTypeInstanceIndex extends IndexImpl<RedisTopicMapStore> implem
 		if ( !isOpen()){
 			throw new TopicMapStoreException("Index is closed!");
 		}
-		// XXX The way I'm getting the parent Assoc seems very inefficient to me
-		// - what's better?
 		Set<Role> set = HashUtil.getHashSet();
-		Set<String> keys = redis.smembers(TYPED_ROLES + COLON + type.getId());
-		for (String key : keys) {
-			String parentId = redis.get(key, PARENT);
-			IAssociation parent = getTopicMapStore().getConstructFactory().newAssociation(new RedisStoreIdentity(parentId), getTopicMapStore().getTopicMap());
-			set.add(getTopicMapStore().getConstructFactory().newAssociationRole(new RedisStoreIdentity(key), parent));
+		List<String> keys = HashUtil.getList(redis.smembers(TYPED_ROLES + COLON + type.getId()));
+		List<String> parentIds = redis.get(keys, PARENT);
+		for (int i = 0; i < keys.size(); i++) {
+			IAssociation parent = getTopicMapStore().getConstructFactory().newAssociation(new RedisStoreIdentity(parentIds.get(i)), getTopicMapStore().getTopicMap());
+			set.add(getTopicMapStore().getConstructFactory().newAssociationRole(new RedisStoreIdentity(keys.get(i)), parent));
 		}
 		return set;
 	}
@@ -132,7 +126,7 @@ public class RedisTypeInstanceIndex extends IndexImpl<RedisTopicMapStore> implem
 			throw new TopicMapStoreException("Index is closed!");
 		}
 		Set<Topic> set = HashUtil.getHashSet();
-		Set<String> keys = redis.list(STAR + COLON + INSTANCES);
+		Set<String> keys = redis.keys(registry(INSTANCES));
 		for (String key : keys) {
 			int index = key.lastIndexOf(COLON+INSTANCES);
 			set.add(getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(key.substring(0,index)), getTopicMapStore().getTopicMap()));			
@@ -246,9 +240,11 @@ public class RedisTypeInstanceIndex extends IndexImpl<RedisTopicMapStore> implem
 			keys[i++] = TYPED_ROLES + COLON + ty.getId();
 		}
 		Set<Role> set = HashUtil.getHashSet();
-		for ( String id : redis.sunion(keys)){
-			IAssociation association = getTopicMapStore().getConstructFactory().newAssociation(new RedisStoreIdentity(redis.get(id, PARENT)), getTopicMapStore().getTopicMap());
-			set.add(getTopicMapStore().getConstructFactory().newAssociationRole(new RedisStoreIdentity(id), association));
+		List<String> ids = HashUtil.getList(redis.sunion(keys));
+		List<String> parentIds = redis.get(ids, PARENT);
+		for (int j = 0; j < ids.size(); j++) {
+			IAssociation association = getTopicMapStore().getConstructFactory().newAssociation(new RedisStoreIdentity(parentIds.get(j)), getTopicMapStore().getTopicMap());
+			set.add(getTopicMapStore().getConstructFactory().newAssociationRole(new RedisStoreIdentity(ids.get(j)), association));
 		}
 		return set;
 	}
@@ -311,9 +307,11 @@ public class RedisTypeInstanceIndex extends IndexImpl<RedisTopicMapStore> implem
 			keys[i++] = TYPED_NAMES + COLON + ty.getId();
 		}
 		Set<Name> set = HashUtil.getHashSet();
-		for ( String id : redis.sunion(keys)){			
-			ITopic topic = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(redis.get(id, PARENT)), getTopicMapStore().getTopicMap());
-			set.add(getTopicMapStore().getConstructFactory().newName(new RedisStoreIdentity(id), topic));
+		List<String> ids = HashUtil.getList(redis.sunion(keys));
+		List<String> parentIds = redis.get(ids, PARENT);
+		for (int j = 0; j < ids.size(); j++) {
+			ITopic topic = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentIds.get(j)), getTopicMapStore().getTopicMap());
+			set.add(getTopicMapStore().getConstructFactory().newName(new RedisStoreIdentity(ids.get(j)), topic));
 		}
 		return set;
 	}
@@ -335,9 +333,11 @@ public class RedisTypeInstanceIndex extends IndexImpl<RedisTopicMapStore> implem
 			keys[i++] = TYPED_OCCURRENCES + COLON + ty.getId();
 		}
 		Set<Occurrence> set = HashUtil.getHashSet();
-		for ( String id : redis.sunion(keys)){			
-			ITopic topic = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(redis.get(id, PARENT)), getTopicMapStore().getTopicMap());
-			set.add(getTopicMapStore().getConstructFactory().newOccurrence(new RedisStoreIdentity(id), topic));
+		List<String> ids = HashUtil.getList(redis.sunion(keys));
+		List<String> parentIds = redis.get(ids, PARENT);
+		for (int j = 0; j < ids.size(); j++) {
+			ITopic topic = getTopicMapStore().getConstructFactory().newTopic(new RedisStoreIdentity(parentIds.get(j)), getTopicMapStore().getTopicMap());
+			set.add(getTopicMapStore().getConstructFactory().newOccurrence(new RedisStoreIdentity(ids.get(j)), topic));
 		}
 		return set;
 	}
@@ -346,7 +346,7 @@ public class RedisTypeInstanceIndex extends IndexImpl<RedisTopicMapStore> implem
 		if ( !isOpen()){
 			throw new TopicMapStoreException("Index is closed!");
 		}
-		Set<String> keys = redis.list(TYPE + COLON + "*");
+		Set<String> keys = redis.keys(registry(TYPE));
 		int start = (TYPE + COLON).length();
 		Set<Topic> types = HashUtil.getHashSet();
 		for (String key : keys) {
@@ -1,34 +1,191 @@
 /**
- * 
+ *
  */
 package de.topicmapslab.majortom.redis.util;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import org.apache.commons.pool.BasePoolableObjectFactory;
+import org.apache.commons.pool.impl.GenericObjectPool;
 
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisException;
-import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.PipelineBlock;
+import redis.clients.util.Pool;
+import redis.clients.util.SafeEncoder;
+import de.topicmapslab.majortom.util.HashUtil;
+import de.topicmapslab.majortom.util.NGramIndex;
 
 /**
- * Utility class to connect to Redis store and enable concurrent access
- * 
+ * Utility class to connect to Redis store and enable concurrent access. Each
+ * call borrows a connection from a pool, so concurrent threads do not wait for
+ * each other. Reads of many keys are sent as one pipeline.
+ *
  * @author Sven Krosse
- * 
+ *
  */
 public class RedisHandler {
 	private static final String AUTO_INCREMENT_KEY = "id";
+	/**
+	 * separator between the value and the id within the members of a value
+	 * index
+	 */
+	private static final char VALUE_SEPARATOR = '\u0000';
+	/**
+	 * number of leading bytes of a value encoded by the score of a value index
+	 * member
+	 */
+	private static final int SCORE_BYTES = 6;
+	/**
+	 * number of leading characters of a value naming its bucket within a
+	 * value index
+	 */
+	private static final int BUCKET_LENGTH = 8;
+	/**
+	 * separator between the key of a value index and the bucket
+	 */
+	private static final char BUCKET_SEPARATOR = ':';
+	/**
+	 * separator between the key of a value index and a trigram
+	 */
+	private static final char NGRAM_SEPARATOR = '~';
+	/**
+	 * lowest and highest score of a value index member
+	 */
+	private static final double MIN_SCORE = score(new byte[0], 0);
+	private static final double MAX_SCORE = score(new byte[0], 0xFF);
+
+	/**
+	 * default maximum number of pooled connections
+	 */
+	public static final int DEFAULT_POOL_SIZE = 8;
+
+	/**
+	 * Callback executed with a connection of the pool
+	 *
+	 * @param <T>
+	 *            the result type
+	 */
+	private static abstract class RedisCallback<T> {
+
+		/**
+		 * Executes the callback
+		 *
+		 * @param jedis
+		 *            the borrowed connection
+		 * @return the result
+		 */
+		abstract T execute(Jedis jedis);
+
+		/**
+		 * Returns whether the callback may be executed again if the
+		 * connection breaks
+		 *
+		 * @return <code>false</code>
+		 */
+		boolean isRetryable() {
+			return false;
+		}
+	}
 
-	/*
-	 * lock for thread access
+	/**
+	 * Callback executing one idempotent command, i.e. a read or a write of a
+	 * single key which has the same effect if it is applied twice. If the
+	 * connection breaks, the callback is executed once more with a new
+	 * connection.
+	 *
+	 * @param <T>
+	 *            the result type
+	 */
+	private static abstract class RetryableCallback<T> extends RedisCallback<T> {
+
+		/**
+		 * {@inheritDoc}
+		 */
+		boolean isRetryable() {
+			return true;
+		}
+	}
+
+	/**
+	 * Factory creating the pooled connections
+	 */
+	private class ConnectionFactory extends BasePoolableObjectFactory {
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public Object makeObject() throws Exception {
+			Jedis jedis;
+			if (Integer.MIN_VALUE == port) {
+				jedis = new Jedis(host);
+			} else {
+				jedis = new Jedis(host, port);
+			}
+			jedis.connect();
+			if (password != null) {
+				jedis.auth(password);
+			}
+			jedis.select(database);
+			return jedis;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public void destroyObject(Object obj) throws Exception {
+			Jedis jedis = (Jedis) obj;
+			if (jedis.isConnected()) {
+				try {
+					jedis.quit();
+				} catch (Exception e) {
+					// IGNORE
+				}
+				try {
+					jedis.disconnect();
+				} catch (Exception e) {
+					// IGNORE, the socket is already closed
+				}
+			}
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		public boolean validateObject(Object obj) {
+			Jedis jedis = (Jedis) obj;
+			try {
+				return jedis.isConnected() && "PONG".equals(jedis.ping());
+			} catch (Exception e) {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * the connection pool
 	 */
-	private static final Lock lock = new ReentrantLock();
+	private class ConnectionPool extends Pool<Jedis> {
 
-	private Jedis jedis;
+		/**
+		 * constructor
+		 *
+		 * @param size
+		 *            the maximum number of connections
+		 */
+		public ConnectionPool(int size) {
+			super(createConfig(size), new ConnectionFactory());
+		}
+	}
+
+	private final ConnectionPool pool;
 
 	private final String host;
 	private final int port;
@@ -37,7 +194,7 @@ public class RedisHandler {
 
 	/**
 	 * constructor
-	 * 
+	 *
 	 * @param host
 	 *            the host
 	 * @param port
@@ -48,104 +205,184 @@ public class RedisHandler {
 	 *            the database number
 	 */
 	public RedisHandler(final String host, final int port, final String password, final int database) {
+		this(host, port, password, database, DEFAULT_POOL_SIZE);
+	}
+
+	/**
+	 * constructor
+	 *
+	 * @param host
+	 *            the host
+	 * @param port
+	 *            the port or {@link Integer#MIN_VALUE} if port is not needed
+	 * @param password
+	 *            the password or <code>null</code> if password is not needed
+	 * @param database
+	 *            the database number
+	 * @param poolSize
+	 *            the maximum number of pooled connections
+	 */
+	public RedisHandler(final String host, final int port, final String password, final int database, final int poolSize) {
 		this.host = host;
 		this.database = database;
 		this.port = port;
 		this.password = password;
-		reconnect();
+		this.pool = new ConnectionPool(poolSize);
 	}
 
 	/**
-	 * Internal method to open a connection and close existing one
+	 * Internal method to create the configuration of the connection pool
+	 *
+	 * @param size
+	 *            the maximum number of connections
+	 * @return the configuration
 	 */
-	private void reconnect() {
-		if (jedis != null) {
-			try {
-				jedis.disconnect();
-				jedis = null;
-			} catch (Exception e) {
-				// IGNORE
+	private static GenericObjectPool.Config createConfig(int size) {
+		GenericObjectPool.Config config = new GenericObjectPool.Config();
+		config.maxActive = size > 0 ? size : DEFAULT_POOL_SIZE;
+		config.maxIdle = config.maxActive;
+		config.whenExhaustedAction = GenericObjectPool.WHEN_EXHAUSTED_BLOCK;
+		config.testWhileIdle = true;
+		config.timeBetweenEvictionRunsMillis = 30000;
+		return config;
+	}
+
+	/**
+	 * Internal method to execute the given callback with a connection of the
+	 * pool. If the connection is broken, a {@link RetryableCallback} is
+	 * repeated once with a new connection. All other callbacks, like INCR,
+	 * pipelines or commands modifying several keys, are never repeated,
+	 * because the broken call may have been applied by the server.
+	 * <p>
+	 * The bundled Jedis version reports error replies of the server and
+	 * connection failures by the same {@link JedisException}. A connection
+	 * still answering a PING after the exception is intact, so the exception
+	 * is an error reply and is thrown at once.
+	 * </p>
+	 *
+	 * @param callback
+	 *            the callback
+	 * @return the result of the callback
+	 */
+	private <T> T execute(RedisCallback<T> callback) {
+		Jedis jedis = pool.getResource();
+		try {
+			T result = callback.execute(jedis);
+			pool.returnResource(jedis);
+			return result;
+		} catch (JedisException e) {
+			if (isConnected(jedis)) {
+				pool.returnResource(jedis);
+				throw e;
 			}
+			pool.returnBrokenResource(jedis);
+			if (!callback.isRetryable()) {
+				throw e;
+			}
+		} catch (RuntimeException e) {
+			pool.returnBrokenResource(jedis);
+			throw e;
 		}
-		if (Integer.MIN_VALUE == port) {
-			jedis = new Jedis(host);
-		} else {
-			jedis = new Jedis(host, port);
+		jedis = pool.getResource();
+		try {
+			T result = callback.execute(jedis);
+			pool.returnResource(jedis);
+			return result;
+		} catch (RuntimeException e) {
+			pool.returnBrokenResource(jedis);
+			throw e;
 		}
-		if (password != null) {
-			jedis.auth(password);
+	}
+
+	/**
+	 * Internal method to check if the given connection is still usable after
+	 * a failed call
+	 *
+	 * @param jedis
+	 *            the connection
+	 * @return <code>true</code> if the connection answers a PING
+	 */
+	private static boolean isConnected(Jedis jedis) {
+		try {
+			return jedis.isConnected() && "PONG".equals(jedis.ping());
+		} catch (RuntimeException e) {
+			return false;
 		}
-		jedis.select(database);
 	}
 
 	/**
-	 * Fetch the value for the given key. The method locked for all threads
-	 * until caller is finished.
-	 * 
+	 * Closing the handler and all pooled connections
+	 */
+	public void close() {
+		pool.destroy();
+	}
+
+	/**
+	 * Fetch the value for the given key.
+	 *
 	 * @param key
 	 *            the key
 	 * @return the value
 	 */
 	public String get(final String key) {
-		while (!lock.tryLock()) {
-			// VOID
-		}
-		try {
-			try {
-				return jedis.get(key);
-			} catch (JedisException e) {
-				reconnect();
+		return execute(new RetryableCallback<String>() {
+			String execute(Jedis jedis) {
 				return jedis.get(key);
 			}
-		} finally {
-			lock.unlock();
-		}
+		});
 	}
 
 	public boolean exists(final String key) {
-		while (!lock.tryLock()) {
-			// VOID
-		}
-		try {
-			try {
-				return jedis.exists(key);
-			} catch (JedisException e) {
-				reconnect();
+		return execute(new RetryableCallback<Boolean>() {
+			Boolean execute(Jedis jedis) {
 				return jedis.exists(key);
 			}
-		} finally {
-			lock.unlock();
-		}
+		});
 	}
 
 	/**
-	 * Fetch the value for the given key. The method locked for all threads
-	 * until caller is finished.
-	 * 
+	 * Fetch the value for the given key.
+	 *
 	 * @param key
 	 *            the key
 	 * @return the value
 	 */
 	public Set<String> smembers(final String key) {
-		while (!lock.tryLock()) {
-			// VOID
-		}
-		try {
-			try {
-				return jedis.smembers(key);
-			} catch (JedisException e) {
-				reconnect();
+		return execute(new RetryableCallback<Set<String>>() {
+			Set<String> execute(Jedis jedis) {
 				return jedis.smembers(key);
 			}
-		} finally {
-			lock.unlock();
+		});
+	}
+
+	/**
+	 * Fetch the members of all given keys within one pipeline.
+	 *
+	 * @param keys
+	 *            the keys
+	 * @return the members of each key in the order of the given keys
+	 */
+	public List<Set<String>> smembers(final Collection<String> keys) {
+		List<Set<String>> result = HashUtil.getList();
+		for (Object reply : pipelined(new PipelineBlock() {
+			public void execute() {
+				for (String key : keys) {
+					smembers(key);
+				}
+			}
+		}, keys.size())) {
+			Set<String> set = HashUtil.getHashSet();
+			for (Object member : (List<?>) reply) {
+				set.add(SafeEncoder.encode((byte[]) member));
+			}
+			result.add(set);
 		}
+		return result;
 	}
 
 	/**
-	 * Fetch the value for the given key. The method locked for all threads
-	 * until caller is finished.
-	 * 
+	 * Fetch the value for the given key.
+	 *
 	 * @param key
 	 *            the key
 	 * @param field
@@ -153,333 +390,885 @@ public class RedisHandler {
 	 * @return the value
 	 */
 	public String get(final String key, final String field) {
-		while (!lock.tryLock()) {
-			// VOID
-		}
-		try {
-			try {
-				return jedis.hget(key, field);
-			} catch (JedisException e) {
-				reconnect();
+		return execute(new RetryableCallback<String>() {
+			String execute(Jedis jedis) {
 				return jedis.hget(key, field);
 			}
-		} finally {
-			lock.unlock();
+		});
+	}
+
+	/**
+	 * Fetch the value of the given field for all given keys within one
+	 * pipeline.
+	 *
+	 * @param keys
+	 *            the keys
+	 * @param field
+	 *            the field
+	 * @return the values in the order of the given keys, missing values are
+	 *         <code>null</code>
+	 */
+	public List<String> get(final Collection<String> keys, final String field) {
+		List<String> result = HashUtil.getList();
+		for (Object reply : pipelined(new PipelineBlock() {
+			public void execute() {
+				for (String key : keys) {
+					hget(key, field);
+				}
+			}
+		}, keys.size())) {
+			result.add(decode(reply));
 		}
+		return result;
 	}
 
 	/**
-	 * Fetch all key-value-pairs for the given key. The method locked for all
-	 * threads until caller is finished.
-	 * 
+	 * Fetch the values of the given fields for the given key.
+	 *
+	 * @param key
+	 *            the key
+	 * @param fields
+	 *            the fields
+	 * @return the values in the order of the given fields, missing values are
+	 *         <code>null</code>
+	 */
+	public List<String> hmget(final String key, final String... fields) {
+		return execute(new RetryableCallback<List<String>>() {
+			List<String> execute(Jedis jedis) {
+				return jedis.hmget(key, fields);
+			}
+		});
+	}
+
+	/**
+	 * Fetch the values of the given fields for all given keys within one
+	 * pipeline.
+	 *
+	 * @param keys
+	 *            the keys
+	 * @param fields
+	 *            the fields
+	 * @return for each key in the order of the given keys the values in the
+	 *         order of the given fields
+	 */
+	public List<List<String>> hmget(final Collection<String> keys, final String... fields) {
+		List<List<String>> result = HashUtil.getList();
+		for (Object reply : pipelined(new PipelineBlock() {
+			public void execute() {
+				for (String key : keys) {
+					hmget(key, fields);
+				}
+			}
+		}, keys.size())) {
+			List<String> values = HashUtil.getList();
+			for (Object value : (List<?>) reply) {
+				values.add(decode(value));
+			}
+			result.add(values);
+		}
+		return result;
+	}
+
+	/**
+	 * Fetch all key-value-pairs for the given key.
+	 *
 	 * @param key
 	 *            the key
 	 * @return the key-value-pairs
 	 */
 	public Map<String, String> hgetall(final String key) {
-		while (!lock.tryLock()) {
-			// VOID
-		}
-		try {
-			try {
-				return jedis.hgetAll(key);
-			} catch (JedisException e) {
-				reconnect();
+		return execute(new RetryableCallback<Map<String, String>>() {
+			Map<String, String> execute(Jedis jedis) {
 				return jedis.hgetAll(key);
 			}
-		} finally {
-			lock.unlock();
+		});
+	}
+
+	/**
+	 * Fetch all key-value-pairs for all given keys within one pipeline.
+	 *
+	 * @param keys
+	 *            the keys
+	 * @return the key-value-pairs of each key in the order of the given keys
+	 */
+	public List<Map<String, String>> hgetall(final Collection<String> keys) {
+		List<Map<String, String>> result = HashUtil.getList();
+		for (Object reply : pipelined(new PipelineBlock() {
+			public void execute() {
+				for (String key : keys) {
+					hgetAll(key);
+				}
+			}
+		}, keys.size())) {
+			Map<String, String> map = HashUtil.getHashMap();
+			List<?> values = (List<?>) reply;
+			for (int i = 0; i + 1 < values.size(); i += 2) {
+				map.put(decode(values.get(i)), decode(values.get(i + 1)));
+			}
+			result.add(map);
 		}
+		return result;
 	}
 
 	/**
-	 * Fetch the value for the given key. The method locked for all threads
-	 * until caller is finished.
-	 * 
+	 * Delete the field of the given key.
+	 *
 	 * @param key
 	 *            the key
 	 * @param field
 	 *            the field
 	 */
 	public void hdel(final String key, final String field) {
-		while (!lock.tryLock()) {
-			// VOID
-		}
-		try {
-			try {
-				jedis.hdel(key, field);
-			} catch (JedisException e) {
-				reconnect();
-				jedis.hdel(key, field);
+		execute(new RetryableCallback<Long>() {
+			Long execute(Jedis jedis) {
+				return jedis.hdel(key, field);
 			}
-		} finally {
-			lock.unlock();
-		}
+		});
 	}
 
 	/**
 	 * Delete the keys
-	 * 
+	 *
 	 * @param keys
 	 *            the keys
 	 */
 	public void del(final String... keys) {
-		while (!lock.tryLock()) {
-			// VOID
-		}
-		try {
-			try {
-				jedis.del(keys);
-			} catch (JedisException e) {
-				reconnect();
-				jedis.del(keys);
+		execute(new RedisCallback<Long>() {
+			Long execute(Jedis jedis) {
+				return jedis.del(keys);
 			}
-		} finally {
-			lock.unlock();
-		}
+		});
 	}
 
 	/**
-	 * Store the given value for the given key. The method locked for all
-	 * threads until caller is finished.
-	 * 
+	 * Store the given value for the given key.
+	 *
 	 * @param key
 	 *            the key
 	 * @param value
 	 *            the value
 	 */
 	public void set(final String key, final String value) {
-		while (!lock.tryLock()) {
-			// VOID
-		}
-		try {
-			try {
-				jedis.set(key, value);
-			} catch (JedisException e) {
-				reconnect();
-				jedis.set(key, value);
+		execute(new RetryableCallback<String>() {
+			String execute(Jedis jedis) {
+				return jedis.set(key, value);
 			}
-		} finally {
-			lock.unlock();
-		}
+		});
 	}
 
 	/**
-	 * Store the given value for the given key. The method locked for all
-	 * threads until caller is finished.
-	 * 
+	 * Store the given value for the given field of the given key.
+	 *
 	 * @param key
 	 *            the key
+	 * @param field
+	 *            the field
 	 * @param value
 	 *            the value
 	 */
 	public void set(final String key, final String field, final String value) {
-		while (!lock.tryLock()) {
-			// VOID
+		execute(new RetryableCallback<Long>() {
+			Long execute(Jedis jedis) {
+				return jedis.hset(key, field, value);
+			}
+		});
+	}
+
+	/**
+	 * Add the given value to the set of the given key.
+	 *
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value
+	 */
+	public void sadd(final String key, final String value) {
+		execute(new RetryableCallback<Long>() {
+			Long execute(Jedis jedis) {
+				return jedis.sadd(key, value);
+			}
+		});
+	}
+
+	/**
+	 * Add all given values to the set of the given key within one pipeline.
+	 *
+	 * @param key
+	 *            the key
+	 * @param values
+	 *            the values
+	 */
+	public void sadd(final String key, final Collection<String> values) {
+		pipelined(new PipelineBlock() {
+			public void execute() {
+				for (String value : values) {
+					sadd(key, value);
+				}
+			}
+		}, values.size());
+	}
+
+	/**
+	 * Remove all given values from the set of the given key within one
+	 * pipeline.
+	 *
+	 * @param key
+	 *            the key
+	 * @param values
+	 *            the values
+	 */
+	public void srem(final String key, final Collection<String> values) {
+		pipelined(new PipelineBlock() {
+			public void execute() {
+				for (String value : values) {
+					srem(key, value);
+				}
+			}
+		}, values.size());
+	}
+
+	/**
+	 * Add the given value to the set of the given key and register the key
+	 * within the given registry. Both commands are sent as one pipeline.
+	 *
+	 * @param registry
+	 *            the key of the registry
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value
+	 */
+	public void register(final String registry, final String key, final String value) {
+		pipelined(new PipelineBlock() {
+			public void execute() {
+				sadd(key, value);
+				sadd(registry, key);
+			}
+		});
+	}
+
+	/**
+	 * Returns all existing keys of the given registry. Redis removes a set as
+	 * soon as its last member is removed, so the registry may contain keys
+	 * which do not exist any longer. These keys are removed from the registry.
+	 *
+	 * @param registry
+	 *            the key of the registry
+	 * @return the existing keys
+	 */
+	public Set<String> keys(final String registry) {
+		final List<String> keys = HashUtil.getList(smembers(registry));
+		List<Object> replies = exists(keys);
+		Set<String> result = HashUtil.getHashSet();
+		final List<String> stale = HashUtil.getList();
+		for (int i = 0; i < keys.size(); i++) {
+			if (Long.valueOf(1).equals(replies.get(i))) {
+				result.add(keys.get(i));
+			} else {
+				stale.add(keys.get(i));
+			}
 		}
-		try {
-			try {
-				jedis.hset(key, field, value);
-			} catch (JedisException e) {
-				reconnect();
-				jedis.hset(key, field, value);
+		if (!stale.isEmpty()) {
+			pipelined(new PipelineBlock() {
+				public void execute() {
+					for (String key : stale) {
+						srem(registry, key);
+					}
+				}
+			});
+			/*
+			 * a key registered again in the meantime is added once more
+			 */
+			replies = exists(stale);
+			for (int i = 0; i < stale.size(); i++) {
+				if (Long.valueOf(1).equals(replies.get(i))) {
+					sadd(registry, stale.get(i));
+				}
 			}
-		} finally {
-			lock.unlock();
 		}
+		return result;
+	}
+
+	/**
+	 * Internal method to check the existence of all given keys within one
+	 * pipeline
+	 *
+	 * @param keys
+	 *            the keys
+	 * @return the raw replies in the order of the keys
+	 */
+	private List<Object> exists(final Collection<String> keys) {
+		return pipelined(new PipelineBlock() {
+			public void execute() {
+				for (String key : keys) {
+					exists(key);
+				}
+			}
+		}, keys.size());
+	}
+
+	/**
+	 * Add the given member with the given score to the sorted set of the given
+	 * key.
+	 *
+	 * @param key
+	 *            the key
+	 * @param score
+	 *            the score
+	 * @param member
+	 *            the member
+	 */
+	public void zadd(final String key, final double score, final String member) {
+		execute(new RetryableCallback<Long>() {
+			Long execute(Jedis jedis) {
+				return jedis.zadd(key, score, member);
+			}
+		});
 	}
 
 	/**
-	 * Store the given value for the given key. The method locked for all
-	 * threads until caller is finished.
-	 * 
+	 * Remove the given member from the sorted set of the given key.
+	 *
 	 * @param key
 	 *            the key
+	 * @param member
+	 *            the member
+	 */
+	public void zrem(final String key, final String member) {
+		execute(new RetryableCallback<Long>() {
+			Long execute(Jedis jedis) {
+				return jedis.zrem(key, member);
+			}
+		});
+	}
+
+	/**
+	 * Fetch all members of the sorted set of the given key with a score
+	 * between the given bounds.
+	 *
+	 * @param key
+	 *            the key
+	 * @param min
+	 *            the lower bound (inclusive)
+	 * @param max
+	 *            the upper bound (inclusive)
+	 * @return the members ordered by their score
+	 */
+	public Set<String> zrangeByScore(final String key, final double min, final double max) {
+		return execute(new RetryableCallback<Set<String>>() {
+			Set<String> execute(Jedis jedis) {
+				return jedis.zrangeByScore(key, min, max);
+			}
+		});
+	}
+
+	/**
+	 * Add the given id with the given value to the value index of the given
+	 * key. A value index is split into buckets of all values sharing the same
+	 * leading {@link #BUCKET_LENGTH} characters. The key of the value index
+	 * holds the set of all buckets, each bucket is a sorted set ordered
+	 * lexicographically by the values. The member is the value followed by the
+	 * id, the score encodes the leading bytes of the value following the
+	 * bucket, so lookups by value, prefix or range only read the members
+	 * sharing the bucket and these leading bytes.
+	 * <p>
+	 * The bundled Jedis version supports neither ZRANGEBYLEX nor SCAN, so the
+	 * order of the values is only encoded by the bucket and the score. Values
+	 * which are equal within the first {@link #BUCKET_LENGTH} characters and
+	 * the following {@link #SCORE_BYTES} bytes share one score and are
+	 * compared in Java. Prefix lookups shorter than {@link #BUCKET_LENGTH}
+	 * characters read the set of buckets to select the matching ones.
+	 * </p>
+	 * <p>
+	 * In addition the id is added to one set for each case-folded trigram of
+	 * the value, which are intersected to prefilter regular expression
+	 * lookups, see {@link #sinterByNGrams(String, Pattern)}.
+	 * </p>
+	 *
+	 * @param key
+	 *            the key of the value index
 	 * @param value
 	 *            the value
+	 * @param id
+	 *            the id
 	 */
-	public void sadd(final String key, final String value) {
-		while (!lock.tryLock()) {
-			// VOID
+	public void zaddValue(final String key, final String value, final String id) {
+		final String bucket = bucket(value);
+		final double score = score(SafeEncoder.encode(value.substring(bucket.length())), 0);
+		pipelined(new PipelineBlock() {
+			public void execute() {
+				zadd(bucketKey(key, bucket), score, value + VALUE_SEPARATOR + id);
+				sadd(key, bucket);
+				for (String gram : NGramIndex.getNGrams(value, NGramIndex.DEFAULT_LENGTH)) {
+					sadd(ngramKey(key, gram), id);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Remove the given id with the given value from the value index of the
+	 * given key. The bucket stays registered even if it becomes empty.
+	 *
+	 * @param key
+	 *            the key of the value index
+	 * @param value
+	 *            the value
+	 * @param id
+	 *            the id
+	 */
+	public void zremValue(final String key, final String value, final String id) {
+		pipelined(new PipelineBlock() {
+			public void execute() {
+				zrem(bucketKey(key, bucket(value)), value + VALUE_SEPARATOR + id);
+				for (String gram : NGramIndex.getNGrams(value, NGramIndex.DEFAULT_LENGTH)) {
+					srem(ngramKey(key, gram), id);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Fetch the ids of the value index of the given key whose values may match
+	 * the given regular expression. The trigram sets of the literals every
+	 * matching value has to contain are intersected by the server, so only the
+	 * candidates have to be read and checked by the expression.
+	 *
+	 * @param key
+	 *            the key of the value index
+	 * @param regExp
+	 *            the regular expression
+	 * @return the candidate ids or <code>null</code> if the expression does
+	 *         not require any trigram, so all ids are candidates
+	 */
+	public Set<String> sinterByNGrams(final String key, final Pattern regExp) {
+		List<String> literals = NGramIndex.getLiterals(regExp);
+		if (literals == null) {
+			return null;
 		}
-		try {
-			try {
-				jedis.sadd(key, value);
-			} catch (JedisException e) {
-				reconnect();
-				jedis.sadd(key, value);
+		Set<String> keys = HashUtil.getHashSet();
+		for (String literal : literals) {
+			for (String gram : NGramIndex.getNGrams(literal, NGramIndex.DEFAULT_LENGTH)) {
+				keys.add(ngramKey(key, gram));
 			}
-		} finally {
-			lock.unlock();
 		}
+		if (keys.isEmpty()) {
+			return null;
+		}
+		return sinter(keys.toArray(new String[keys.size()]));
 	}
 
-	public Object call(final String method, final Object... arguments) {
-		while (!lock.tryLock()) {
-			// VOID
+	/**
+	 * Fetch all ids of the value index of the given key stored with the given
+	 * value.
+	 *
+	 * @param key
+	 *            the key of the value index
+	 * @param value
+	 *            the value
+	 * @return the ids
+	 */
+	public Set<String> zrangeByValue(final String key, final String value) {
+		String bucket = bucket(value);
+		double score = score(SafeEncoder.encode(value.substring(bucket.length())), 0);
+		Set<String> result = HashUtil.getHashSet();
+		for (String member : zrangeByScore(bucketKey(key, bucket), score, score)) {
+			int index = member.lastIndexOf(VALUE_SEPARATOR);
+			if (index == value.length() && member.startsWith(value)) {
+				result.add(member.substring(index + 1));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Fetch all ids and values of the value index of the given key with a
+	 * value starting with the given prefix.
+	 *
+	 * @param key
+	 *            the key of the value index
+	 * @param prefix
+	 *            the prefix
+	 * @return the values by their ids
+	 */
+	public Map<String, String> zrangeByPrefix(final String key, final String prefix) {
+		List<String> keys = HashUtil.getList();
+		List<double[]> ranges = HashUtil.getList();
+		if (prefix.length() >= BUCKET_LENGTH) {
+			/*
+			 * all values starting with the prefix share one bucket
+			 */
+			String bucket = bucket(prefix);
+			byte[] bytes = SafeEncoder.encode(prefix.substring(bucket.length()));
+			keys.add(bucketKey(key, bucket));
+			ranges.add(new double[] { score(bytes, 0), score(bytes, 0xFF) });
+		} else {
+			for (String bucket : smembers(key)) {
+				if (bucket.startsWith(prefix)) {
+					keys.add(bucketKey(key, bucket));
+					ranges.add(new double[] { MIN_SCORE, MAX_SCORE });
+				}
+			}
 		}
+		Map<String, String> result = HashUtil.getHashMap();
+		for (String member : zrangeByScore(keys, ranges)) {
+			int index = member.lastIndexOf(VALUE_SEPARATOR);
+			String value = member.substring(0, index);
+			if (value.startsWith(prefix)) {
+				result.put(member.substring(index + 1), value);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Fetch all ids and values of the value index of the given key with a
+	 * value between the given bounds. The values are compared by their UTF-8
+	 * bytes.
+	 *
+	 * @param key
+	 *            the key of the value index
+	 * @param lower
+	 *            the lower bound (inclusive) or <code>null</code> if there is
+	 *            no lower bound
+	 * @param upper
+	 *            the upper bound (inclusive) or <code>null</code> if there is
+	 *            no upper bound
+	 * @return the values by their ids
+	 */
+	public Map<String, String> zrangeByLex(final String key, final String lower, final String upper) {
+		byte[] min = lower == null ? new byte[0] : SafeEncoder.encode(lower);
+		byte[] max = upper == null ? null : SafeEncoder.encode(upper);
+		String lowerBucket = lower == null ? null : bucket(lower);
+		String upperBucket = upper == null ? null : bucket(upper);
+		List<String> keys = HashUtil.getList();
+		List<double[]> ranges = HashUtil.getList();
+		for (String bucket : smembers(key)) {
+			byte[] bytes = SafeEncoder.encode(bucket);
+			/*
+			 * the bucket is a prefix of all its values, so it may only contain
+			 * values within the bounds if it is not less than the lower bound
+			 * or a prefix of it and not greater than the upper bound
+			 */
+			if ((compare(bytes, min) >= 0 || startsWith(min, bytes)) && (max == null || compare(bytes, max) <= 0)) {
+				double[] range = new double[] { MIN_SCORE, MAX_SCORE };
+				if (bucket.equals(lowerBucket)) {
+					range[0] = score(SafeEncoder.encode(lower.substring(bucket.length())), 0);
+				}
+				if (bucket.equals(upperBucket)) {
+					range[1] = score(SafeEncoder.encode(upper.substring(bucket.length())), 0xFF);
+				}
+				keys.add(bucketKey(key, bucket));
+				ranges.add(range);
+			}
+		}
+		Map<String, String> result = HashUtil.getHashMap();
+		for (String member : zrangeByScore(keys, ranges)) {
+			int index = member.lastIndexOf(VALUE_SEPARATOR);
+			String value = member.substring(0, index);
+			byte[] bytes = SafeEncoder.encode(value);
+			if (compare(bytes, min) >= 0 && (max == null || compare(bytes, max) <= 0)) {
+				result.put(member.substring(index + 1), value);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Internal method to fetch the members of the sorted sets of the given
+	 * keys with a score within the given ranges as one pipeline
+	 *
+	 * @param keys
+	 *            the keys
+	 * @param ranges
+	 *            the lower and upper bound (inclusive) for each key
+	 * @return the members of all sorted sets
+	 */
+	private List<String> zrangeByScore(final List<String> keys, final List<double[]> ranges) {
+		List<String> result = HashUtil.getList();
+		for (Object reply : pipelined(new PipelineBlock() {
+			public void execute() {
+				for (int i = 0; i < keys.size(); i++) {
+					zrangeByScore(keys.get(i), ranges.get(i)[0], ranges.get(i)[1]);
+				}
+			}
+		}, keys.size())) {
+			for (Object member : (List<?>) reply) {
+				result.add(SafeEncoder.encode((byte[]) member));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Internal method to calculate the bucket of the given value, which are
+	 * the leading {@link #BUCKET_LENGTH} characters. A surrogate pair is never
+	 * split.
+	 *
+	 * @param value
+	 *            the value
+	 * @return the bucket
+	 */
+	private static String bucket(String value) {
+		if (value.length() <= BUCKET_LENGTH) {
+			return value;
+		}
+		if (Character.isHighSurrogate(value.charAt(BUCKET_LENGTH - 1))) {
+			return value.substring(0, BUCKET_LENGTH - 1);
+		}
+		return value.substring(0, BUCKET_LENGTH);
+	}
+
+	/**
+	 * Internal method to build the key of the sorted set of the given bucket
+	 *
+	 * @param key
+	 *            the key of the value index
+	 * @param bucket
+	 *            the bucket
+	 * @return the key of the sorted set
+	 */
+	private static String bucketKey(String key, String bucket) {
+		return key + BUCKET_SEPARATOR + bucket;
+	}
+
+	/**
+	 * Internal method to build the key of the set of all ids whose values
+	 * contain the given trigram
+	 *
+	 * @param key
+	 *            the key of the value index
+	 * @param gram
+	 *            the case-folded trigram
+	 * @return the key of the set
+	 */
+	private static String ngramKey(String key, String gram) {
+		return key + NGRAM_SEPARATOR + gram;
+	}
+
+	/**
+	 * Internal method to calculate the score of the given bytes. The score is
+	 * the big-endian number of the leading bytes, missing bytes are replaced
+	 * by the given padding. The number has less than 53 bits, so it is exactly
+	 * represented as double.
+	 *
+	 * @param bytes
+	 *            the bytes
+	 * @param padding
+	 *            the padding byte
+	 * @return the score
+	 */
+	private static double score(byte[] bytes, int padding) {
+		long score = 0;
+		for (int i = 0; i < SCORE_BYTES; i++) {
+			score = (score << 8) | (i < bytes.length ? bytes[i] & 0xFF : padding);
+		}
+		return score;
+	}
+
+	/**
+	 * Internal method to check if the first byte array starts with the second
+	 * one
+	 *
+	 * @param bytes
+	 *            the byte array
+	 * @param prefix
+	 *            the prefix
+	 * @return <code>true</code> if the array starts with the prefix
+	 */
+	private static boolean startsWith(byte[] bytes, byte[] prefix) {
+		if (bytes.length < prefix.length) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if (bytes[i] != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Internal method to compare two byte arrays lexicographically by their
+	 * unsigned values
+	 *
+	 * @param a
+	 *            the first array
+	 * @param b
+	 *            the second array
+	 * @return a negative number, zero or a positive number if the first array
+	 *         is less than, equal to or greater than the second one
+	 */
+	private static int compare(byte[] a, byte[] b) {
+		for (int i = 0; i < a.length && i < b.length; i++) {
+			int diff = (a[i] & 0xFF) - (b[i] & 0xFF);
+			if (diff != 0) {
+				return diff;
+			}
+		}
+		return a.length - b.length;
+	}
+
+	public Object call(final String method, final Object... arguments) {
 		try {
 			Class<?>[] parameterTypes = new Class[arguments.length];
 			int i = 0;
 			for (Object argument : arguments) {
 				parameterTypes[i++] = argument.getClass();
 			}
-			Method m = Jedis.class.getMethod(method, parameterTypes);
-			Object o;
-			try {
-				o = m.invoke(jedis, arguments);
-			} catch (JedisException e) {
-				reconnect();
-				o = m.invoke(jedis, arguments);
-			}
-			return o;
+			final Method m = Jedis.class.getMethod(method, parameterTypes);
+			return execute(new RedisCallback<Object>() {
+				Object execute(Jedis jedis) {
+					try {
+						return m.invoke(jedis, arguments);
+					} catch (IllegalAccessException e) {
+						throw new IllegalArgumentException(e);
+					} catch (InvocationTargetException e) {
+						if (e.getTargetException() instanceof RuntimeException) {
+							throw (RuntimeException) e.getTargetException();
+						}
+						throw new IllegalArgumentException(e.getTargetException());
+					}
+				}
+			});
 		} catch (SecurityException e) {
 			e.printStackTrace(System.err);
 		} catch (NoSuchMethodException e) {
 			e.printStackTrace(System.err);
 		} catch (IllegalArgumentException e) {
 			e.printStackTrace(System.err);
-		} catch (IllegalAccessException e) {
-			e.printStackTrace(System.err);
-		} catch (InvocationTargetException e) {
-			e.printStackTrace(System.err);
-		} finally {
-			lock.unlock();
 		}
 		return null;
 	}
 
 	/**
 	 * Calls intersect
-	 * 
+	 *
 	 * @param keys
 	 *            the keys
 	 * @return the intersect result
 	 */
 	public Set<String> sinter(final String... keys) {
-		while (!lock.tryLock()) {
-			// VOID
-		}
-		try {
-			return jedis.sinter(keys);
-		} finally {
-			lock.unlock();
-		}
+		return execute(new RetryableCallback<Set<String>>() {
+			Set<String> execute(Jedis jedis) {
+				return jedis.sinter(keys);
+			}
+		});
 	}
 
 	/**
 	 * Returns a new construct id from redis
-	 * 
+	 *
 	 * @return the new redis id
 	 */
 	public long nextId() {
-		while (!lock.tryLock()) {
-			// VOID
-		}
-		try {
-			try {
-				return jedis.incr(AUTO_INCREMENT_KEY);
-			} catch (JedisException e) {
-				reconnect();
+		return execute(new RedisCallback<Long>() {
+			Long execute(Jedis jedis) {
 				return jedis.incr(AUTO_INCREMENT_KEY);
 			}
-		} finally {
-			lock.unlock();
-		}
+		});
 	}
 
 	/**
-	 * Returns all known keys
-	 * 
+	 * Returns whether the database is empty, i.e. no construct id was
+	 * generated yet
+	 *
+	 * @return <code>true</code> if the database is empty
+	 */
+	public boolean isEmpty() {
+		return !exists(AUTO_INCREMENT_KEY);
+	}
+
+	/**
+	 * Returns all known keys matching the given pattern. The KEYS command
+	 * iterates over the whole key space and blocks the server meanwhile, so it
+	 * is only used to build the registries of legacy databases once. All
+	 * other listings read the registries, see {@link #keys(String)}.
+	 *
 	 * @param filter
 	 *            the filter
 	 * @return the key set
 	 */
-	public Set<String> list(String filter) {
-		while (!lock.tryLock()) {
-			// VOID
-		}
-		try {
-			try {
-				return jedis.keys(filter);
-			} catch (JedisException e) {
-				reconnect();
+	public Set<String> list(final String filter) {
+		return execute(new RetryableCallback<Set<String>>() {
+			Set<String> execute(Jedis jedis) {
 				return jedis.keys(filter);
 			}
-		} finally {
-			lock.unlock();
-		}
+		});
 	}
 
 	public Set<String> sunion(final String... keys) {
-		while (!lock.tryLock()) {
-			// VOID
-		}
-		try {
-			try {
-				return jedis.sunion(keys);
-			} catch (JedisException e) {
-				reconnect();
+		return execute(new RetryableCallback<Set<String>>() {
+			Set<String> execute(Jedis jedis) {
 				return jedis.sunion(keys);
 			}
-		} finally {
-			lock.unlock();
-		}
+		});
 	}
 
-	public void srem(String key, String member) {
-		while (!lock.tryLock()) {
-			// VOID
-		}
-		try {
-			try {
-				jedis.srem(key, member);
-			} catch (JedisException e) {
-				reconnect();
-				jedis.srem(key, member);
+	public void srem(final String key, final String member) {
+		execute(new RetryableCallback<Long>() {
+			Long execute(Jedis jedis) {
+				return jedis.srem(key, member);
 			}
-		} finally {
-			lock.unlock();
-		}
-
+		});
 	}
 
 	/**
 	 * Clear the database
 	 */
 	public void clear() {
-		while (!lock.tryLock()) {
-			// VOID
-		}
-		try {
-			try {
-				jedis.flushDB();
-			} catch (JedisException e) {
-				reconnect();
-				jedis.flushDB();
+		execute(new RedisCallback<String>() {
+			String execute(Jedis jedis) {
+				return jedis.flushDB();
 			}
-		} finally {
-			lock.unlock();
-		}
+		});
 	}
 
 	/**
-	 * Returns a pipeline (Which is used OUTSIDE the LOCK)!!!
+	 * Executes the commands of the given block as one pipeline using one
+	 * connection of the pool.
+	 *
+	 * @param block
+	 *            the pipeline block
+	 * @return the raw replies in the order of the commands
 	 */
-	public Pipeline pipeline() {
-		while (!lock.tryLock()) {
-			// VOID
-		}
-		try {
-			try {
-				return jedis.pipelined();
-			} catch (JedisException e) {
-				reconnect();
-				return jedis.pipelined();
+	public List<Object> pipelined(final PipelineBlock block) {
+		return execute(new RedisCallback<List<Object>>() {
+			List<Object> execute(Jedis jedis) {
+				return jedis.pipelined(block);
 			}
-		} finally {
-			lock.unlock();
+		});
+	}
+
+	/**
+	 * Internal method to execute a pipeline block, if there is at least one
+	 * command
+	 *
+	 * @param block
+	 *            the pipeline block
+	 * @param commands
+	 *            the number of commands
+	 * @return the raw replies
+	 */
+	private List<Object> pipelined(final PipelineBlock block, int commands) {
+		if (commands == 0) {
+			return Collections.emptyList();
 		}
+		return pipelined(block);
+	}
+
+	/**
+	 * Internal method to decode a raw bulk reply of a pipeline
+	 *
+	 * @param reply
+	 *            the reply
+	 * @return the string or <code>null</code>
+	 */
+	private static String decode(Object reply) {
+		if (reply instanceof byte[]) {
+			return SafeEncoder.encode((byte[]) reply);
+		}
+		return null;
 	}
 
 }
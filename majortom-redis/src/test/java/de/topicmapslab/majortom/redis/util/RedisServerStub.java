@@ -0,0 +1,560 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.redis.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * In-process stand-in of a Redis server for testing. The stub speaks the
+ * unified request protocol and supports the commands used by the
+ * {@link RedisHandler}. All connections share one keyspace, the database
+ * selection is ignored.
+ *
+ * @author Sven Krosse
+ *
+ */
+public class RedisServerStub extends Thread {
+
+	private static final String UTF_8 = "UTF-8";
+
+	private final ServerSocket serverSocket;
+	private final Map<String, Object> data = HashUtil.getHashMap();
+	private final List<Socket> clients = HashUtil.getList();
+	private final AtomicInteger connections = new AtomicInteger();
+	private final AtomicInteger commands = new AtomicInteger();
+
+	/**
+	 * constructor, binds the stub to an ephemeral port
+	 *
+	 * @throws IOException
+	 *             thrown if the socket cannot be opened
+	 */
+	public RedisServerStub() throws IOException {
+		serverSocket = new ServerSocket(0);
+		setDaemon(true);
+	}
+
+	/**
+	 * Returns the port of the stub
+	 *
+	 * @return the port
+	 */
+	public int getPort() {
+		return serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Returns the number of connections accepted so far
+	 *
+	 * @return the number of connections
+	 */
+	public int getConnectionCount() {
+		return connections.get();
+	}
+
+	/**
+	 * Returns the number of commands received so far
+	 *
+	 * @return the number of commands
+	 */
+	public int getCommandCount() {
+		return commands.get();
+	}
+
+	/**
+	 * Stops the stub and closes all connections
+	 */
+	public void shutdown() {
+		try {
+			serverSocket.close();
+		} catch (IOException e) {
+			// IGNORE
+		}
+		dropConnections();
+	}
+
+	/**
+	 * Closes all open connections, but keeps accepting new ones
+	 */
+	public void dropConnections() {
+		synchronized (clients) {
+			for (Socket client : clients) {
+				try {
+					client.close();
+				} catch (IOException e) {
+					// IGNORE
+				}
+			}
+			clients.clear();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	public void run() {
+		while (!serverSocket.isClosed()) {
+			try {
+				final Socket client = serverSocket.accept();
+				connections.incrementAndGet();
+				synchronized (clients) {
+					clients.add(client);
+				}
+				Thread worker = new Thread() {
+					public void run() {
+						serve(client);
+					}
+				};
+				worker.setDaemon(true);
+				worker.start();
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Internal method to serve the commands of one client
+	 *
+	 * @param client
+	 *            the client socket
+	 */
+	private void serve(Socket client) {
+		try {
+			InputStream in = new BufferedInputStream(client.getInputStream());
+			OutputStream out = new BufferedOutputStream(client.getOutputStream());
+			while (true) {
+				List<String> command = readCommand(in);
+				if (command == null) {
+					break;
+				}
+				commands.incrementAndGet();
+				boolean quit = "QUIT".equalsIgnoreCase(command.get(0));
+				Object reply;
+				try {
+					reply = execute(command);
+				} catch (IllegalArgumentException e) {
+					reply = e;
+				}
+				writeReply(out, reply);
+				/*
+				 * flush only if the client waits for the replies
+				 */
+				if (in.available() == 0) {
+					out.flush();
+				}
+				if (quit) {
+					break;
+				}
+			}
+			out.flush();
+		} catch (IOException e) {
+			// connection closed
+		} finally {
+			try {
+				client.close();
+			} catch (IOException e) {
+				// IGNORE
+			}
+		}
+	}
+
+	/**
+	 * Internal method to execute one command
+	 *
+	 * @param command
+	 *            the command name and arguments
+	 * @return the reply
+	 */
+	private Object execute(List<String> command) {
+		String name = command.get(0).toUpperCase();
+		List<String> args = command.subList(1, command.size());
+		synchronized (data) {
+			if ("PING".equals(name)) {
+				return new Status("PONG");
+			} else if ("AUTH".equals(name) || "SELECT".equals(name) || "QUIT".equals(name)) {
+				return new Status("OK");
+			} else if ("FLUSHDB".equals(name)) {
+				data.clear();
+				return new Status("OK");
+			} else if ("GET".equals(name)) {
+				return data.get(args.get(0));
+			} else if ("SET".equals(name)) {
+				data.put(args.get(0), args.get(1));
+				return new Status("OK");
+			} else if ("EXISTS".equals(name)) {
+				return data.containsKey(args.get(0)) ? 1L : 0L;
+			} else if ("DEL".equals(name)) {
+				long count = 0;
+				for (String key : args) {
+					if (data.remove(key) != null) {
+						count++;
+					}
+				}
+				return count;
+			} else if ("INCR".equals(name)) {
+				Object value = data.get(args.get(0));
+				long l = value == null ? 1 : Long.parseLong((String) value) + 1;
+				data.put(args.get(0), String.valueOf(l));
+				return l;
+			} else if ("KEYS".equals(name)) {
+				Pattern pattern = toPattern(args.get(0));
+				List<String> keys = HashUtil.getList();
+				for (String key : data.keySet()) {
+					if (pattern.matcher(key).matches()) {
+						keys.add(key);
+					}
+				}
+				return keys;
+			} else if ("HGET".equals(name)) {
+				return hash(args.get(0), false).get(args.get(1));
+			} else if ("HSET".equals(name)) {
+				return hash(args.get(0), true).put(args.get(1), args.get(2)) == null ? 1L : 0L;
+			} else if ("HMGET".equals(name)) {
+				Map<String, String> hash = hash(args.get(0), false);
+				List<String> values = HashUtil.getList();
+				for (String field : args.subList(1, args.size())) {
+					values.add(hash.get(field));
+				}
+				return values;
+			} else if ("HGETALL".equals(name)) {
+				List<String> values = HashUtil.getList();
+				for (Map.Entry<String, String> entry : hash(args.get(0), false).entrySet()) {
+					values.add(entry.getKey());
+					values.add(entry.getValue());
+				}
+				return values;
+			} else if ("HDEL".equals(name)) {
+				Map<String, String> hash = hash(args.get(0), false);
+				long count = hash.remove(args.get(1)) == null ? 0L : 1L;
+				if (hash.isEmpty()) {
+					data.remove(args.get(0));
+				}
+				return count;
+			} else if ("SADD".equals(name)) {
+				return set(args.get(0), true).add(args.get(1)) ? 1L : 0L;
+			} else if ("SREM".equals(name)) {
+				Set<String> set = set(args.get(0), false);
+				long count = set.remove(args.get(1)) ? 1L : 0L;
+				if (set.isEmpty()) {
+					data.remove(args.get(0));
+				}
+				return count;
+			} else if ("SMEMBERS".equals(name)) {
+				return HashUtil.getList(set(args.get(0), false));
+			} else if ("SINTER".equals(name)) {
+				Set<String> result = HashUtil.getHashSet(set(args.get(0), false));
+				for (String key : args.subList(1, args.size())) {
+					result.retainAll(set(key, false));
+				}
+				return HashUtil.getList(result);
+			} else if ("SUNION".equals(name)) {
+				Set<String> result = HashUtil.getHashSet();
+				for (String key : args) {
+					result.addAll(set(key, false));
+				}
+				return HashUtil.getList(result);
+			} else if ("ZADD".equals(name)) {
+				return zset(args.get(0), true).put(args.get(2), Double.parseDouble(args.get(1))) == null ? 1L : 0L;
+			} else if ("ZREM".equals(name)) {
+				Map<String, Double> zset = zset(args.get(0), false);
+				long count = zset.remove(args.get(1)) == null ? 0L : 1L;
+				if (zset.isEmpty()) {
+					data.remove(args.get(0));
+				}
+				return count;
+			} else if ("ZRANGEBYSCORE".equals(name)) {
+				final Map<String, Double> zset = zset(args.get(0), false);
+				double min = Double.parseDouble(args.get(1));
+				double max = Double.parseDouble(args.get(2));
+				List<String> members = HashUtil.getList();
+				for (Map.Entry<String, Double> entry : zset.entrySet()) {
+					if (entry.getValue() >= min && entry.getValue() <= max) {
+						members.add(entry.getKey());
+					}
+				}
+				Collections.sort(members, new Comparator<String>() {
+					public int compare(String o1, String o2) {
+						int result = zset.get(o1).compareTo(zset.get(o2));
+						if (result != 0) {
+							return result;
+						}
+						return compareBytes(o1, o2);
+					}
+				});
+				return members;
+			}
+		}
+		throw new IllegalArgumentException("ERR unknown command '" + name + "'");
+	}
+
+	/**
+	 * Internal method to get the hash stored at the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @param create
+	 *            <code>true</code> if a missing hash should be created
+	 * @return the hash
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<String, String> hash(String key, boolean create) {
+		Object value = data.get(key);
+		if (value == null) {
+			Map<String, String> hash = HashUtil.getHashMap();
+			if (create) {
+				data.put(key, hash);
+			}
+			return hash;
+		}
+		if (!(value instanceof Map<?, ?>)) {
+			throw new IllegalArgumentException("ERR Operation against a key holding the wrong kind of value");
+		}
+		return (Map<String, String>) value;
+	}
+
+	/**
+	 * Internal method to get the set stored at the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @param create
+	 *            <code>true</code> if a missing set should be created
+	 * @return the set
+	 */
+	@SuppressWarnings("unchecked")
+	private Set<String> set(String key, boolean create) {
+		Object value = data.get(key);
+		if (value == null) {
+			Set<String> set = HashUtil.getHashSet();
+			if (create) {
+				data.put(key, set);
+			}
+			return set;
+		}
+		if (!(value instanceof Set<?>)) {
+			throw new IllegalArgumentException("ERR Operation against a key holding the wrong kind of value");
+		}
+		return (Set<String>) value;
+	}
+
+	/**
+	 * Internal method to get the sorted set stored at the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @param create
+	 *            <code>true</code> if a missing sorted set should be created
+	 * @return the scores by their members
+	 */
+	private Map<String, Double> zset(String key, boolean create) {
+		Object value = data.get(key);
+		if (value == null) {
+			ZSet zset = new ZSet();
+			if (create) {
+				data.put(key, zset);
+			}
+			return zset.scores;
+		}
+		if (!(value instanceof ZSet)) {
+			throw new IllegalArgumentException("ERR Operation against a key holding the wrong kind of value");
+		}
+		return ((ZSet) value).scores;
+	}
+
+	/**
+	 * Internal method to compare two strings by their UTF-8 bytes like Redis
+	 * does
+	 *
+	 * @param a
+	 *            the first string
+	 * @param b
+	 *            the second string
+	 * @return the comparison result
+	 */
+	private static int compareBytes(String a, String b) {
+		try {
+			byte[] x = a.getBytes(UTF_8);
+			byte[] y = b.getBytes(UTF_8);
+			for (int i = 0; i < x.length && i < y.length; i++) {
+				int diff = (x[i] & 0xFF) - (y[i] & 0xFF);
+				if (diff != 0) {
+					return diff;
+				}
+			}
+			return x.length - y.length;
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Internal method to transform a glob-style pattern of the KEYS command
+	 *
+	 * @param glob
+	 *            the pattern
+	 * @return the regular expression
+	 */
+	private static Pattern toPattern(String glob) {
+		StringBuilder builder = new StringBuilder();
+		for (char c : glob.toCharArray()) {
+			if (c == '*') {
+				builder.append(".*");
+			} else if (c == '?') {
+				builder.append('.');
+			} else {
+				builder.append(Pattern.quote(String.valueOf(c)));
+			}
+		}
+		return Pattern.compile(builder.toString(), Pattern.DOTALL);
+	}
+
+	/**
+	 * Internal method to read the next command as multi-bulk request
+	 *
+	 * @param in
+	 *            the input stream
+	 * @return the command or <code>null</code> if the connection was closed
+	 * @throws IOException
+	 *             thrown if the request is invalid
+	 */
+	private static List<String> readCommand(InputStream in) throws IOException {
+		String line = readLine(in);
+		if (line == null) {
+			return null;
+		}
+		if (!line.startsWith("*")) {
+			throw new IOException("Unexpected request: " + line);
+		}
+		int count = Integer.parseInt(line.substring(1));
+		List<String> command = HashUtil.getList();
+		for (int i = 0; i < count; i++) {
+			line = readLine(in);
+			if (line == null || !line.startsWith("$")) {
+				throw new IOException("Unexpected request: " + line);
+			}
+			byte[] bytes = new byte[Integer.parseInt(line.substring(1))];
+			int read = 0;
+			while (read < bytes.length) {
+				int r = in.read(bytes, read, bytes.length - read);
+				if (r < 0) {
+					throw new IOException("Unexpected end of stream");
+				}
+				read += r;
+			}
+			readLine(in);
+			command.add(new String(bytes, UTF_8));
+		}
+		return command;
+	}
+
+	/**
+	 * Internal method to read one line terminated by CRLF
+	 *
+	 * @param in
+	 *            the input stream
+	 * @return the line or <code>null</code> at the end of the stream
+	 * @throws IOException
+	 *             thrown if reading failed
+	 */
+	private static String readLine(InputStream in) throws IOException {
+		StringBuilder builder = new StringBuilder();
+		int c;
+		while ((c = in.read()) != -1) {
+			if (c == '\r') {
+				in.read();
+				return builder.toString();
+			}
+			builder.append((char) c);
+		}
+		return builder.length() == 0 ? null : builder.toString();
+	}
+
+	/**
+	 * Internal method to write a reply
+	 *
+	 * @param out
+	 *            the output stream
+	 * @param reply
+	 *            the reply
+	 * @throws IOException
+	 *             thrown if writing failed
+	 */
+	private static void writeReply(OutputStream out, Object reply) throws IOException {
+		if (reply instanceof Status) {
+			out.write(("+" + ((Status) reply).message + "\r\n").getBytes(UTF_8));
+		} else if (reply instanceof Exception) {
+			out.write(("-" + ((Exception) reply).getMessage() + "\r\n").getBytes(UTF_8));
+		} else if (reply instanceof Long) {
+			out.write((":" + reply + "\r\n").getBytes(UTF_8));
+		} else if (reply instanceof Collection<?>) {
+			Collection<?> values = (Collection<?>) reply;
+			out.write(("*" + values.size() + "\r\n").getBytes(UTF_8));
+			for (Object value : values) {
+				writeReply(out, value);
+			}
+		} else if (reply == null) {
+			out.write("$-1\r\n".getBytes(UTF_8));
+		} else {
+			byte[] bytes = reply.toString().getBytes(UTF_8);
+			out.write(("$" + bytes.length + "\r\n").getBytes(UTF_8));
+			out.write(bytes);
+			out.write("\r\n".getBytes(UTF_8));
+		}
+	}
+
+	/**
+	 * sorted set value
+	 */
+	private static class ZSet {
+
+		private final Map<String, Double> scores = HashUtil.getHashMap();
+	}
+
+	/**
+	 * status reply
+	 */
+	private static class Status {
+
+		private final String message;
+
+		/**
+		 * constructor
+		 *
+		 * @param message
+		 *            the status message
+		 */
+		public Status(String message) {
+			this.message = message;
+		}
+	}
+}
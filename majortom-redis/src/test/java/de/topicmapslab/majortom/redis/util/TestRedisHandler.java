@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright 2010, Topic Map Lab ( http://www.topicmapslab.de )
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package de.topicmapslab.majortom.redis.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import junit.framework.TestCase;
+import redis.clients.jedis.JedisException;
+import de.topicmapslab.majortom.util.HashUtil;
+
+/**
+ * @author Sven Krosse
+ *
+ */
+public class TestRedisHandler extends TestCase {
+
+	private static final int POOL_SIZE = 4;
+
+	private RedisServerStub server;
+	private RedisHandler redis;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void setUp() throws Exception {
+		super.setUp();
+		server = new RedisServerStub();
+		server.start();
+		redis = new RedisHandler("localhost", server.getPort(), null, 0, POOL_SIZE);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	protected void tearDown() throws Exception {
+		redis.close();
+		server.shutdown();
+		super.tearDown();
+	}
+
+	public void testConnectionsAreReused() throws Exception {
+		for (int i = 0; i < 100; i++) {
+			redis.set("key" + i, "value" + i);
+			assertEquals("value" + i, redis.get("key" + i));
+		}
+		assertEquals(1, server.getConnectionCount());
+	}
+
+	public void testConcurrentAccess() throws Exception {
+		final int threads = 16;
+		final int calls = 200;
+		final Set<Long> ids = Collections.synchronizedSet(HashUtil.<Long> getHashSet());
+		final List<Throwable> errors = Collections.synchronizedList(HashUtil.<Throwable> getList());
+		Thread[] workers = new Thread[threads];
+		for (int i = 0; i < threads; i++) {
+			final int n = i;
+			workers[i] = new Thread() {
+				public void run() {
+					try {
+						for (int j = 0; j < calls; j++) {
+							ids.add(redis.nextId());
+							redis.sadd("set" + n, String.valueOf(j));
+						}
+					} catch (Throwable e) {
+						errors.add(e);
+					}
+				}
+			};
+		}
+		for (Thread worker : workers) {
+			worker.start();
+		}
+		for (Thread worker : workers) {
+			worker.join(10000);
+		}
+		assertTrue(errors.toString(), errors.isEmpty());
+		assertEquals(threads * calls, ids.size());
+		for (int i = 0; i < threads; i++) {
+			assertEquals(calls, redis.smembers("set" + i).size());
+		}
+		assertTrue(server.getConnectionCount() <= POOL_SIZE);
+	}
+
+	public void testPipelinedReads() throws Exception {
+		List<String> keys = HashUtil.getList();
+		for (int i = 0; i < 10; i++) {
+			String key = "name:" + i;
+			keys.add(key);
+			redis.set(key, "value", "v" + i);
+			redis.set(key, "parent", "p" + i);
+			redis.sadd("themes:" + i, "t" + i);
+		}
+		keys.add("name:missing");
+
+		int commands = server.getCommandCount();
+		List<List<String>> values = redis.hmget(keys, "value", "parent");
+		List<String> parents = redis.get(keys, "parent");
+		List<Map<String, String>> hashes = redis.hgetall(keys);
+		List<Set<String>> themes = redis.smembers(Arrays.asList("themes:3", "themes:missing"));
+		/*
+		 * each key is read by exactly one command
+		 */
+		assertEquals(commands + 3 * keys.size() + 2, server.getCommandCount());
+
+		assertEquals(keys.size(), values.size());
+		assertEquals(keys.size(), parents.size());
+		assertEquals(keys.size(), hashes.size());
+		for (int i = 0; i < 10; i++) {
+			assertEquals(Arrays.asList("v" + i, "p" + i), values.get(i));
+			assertEquals("p" + i, parents.get(i));
+			assertEquals(2, hashes.get(i).size());
+			assertEquals("v" + i, hashes.get(i).get("value"));
+		}
+		assertEquals(Arrays.asList(null, null), values.get(10));
+		assertNull(parents.get(10));
+		assertTrue(hashes.get(10).isEmpty());
+		assertEquals(Collections.singleton("t3"), themes.get(0));
+		assertTrue(themes.get(1).isEmpty());
+
+		assertEquals(Arrays.asList("v1", null, "p1"), redis.hmget("name:1", "value", "datatype", "parent"));
+	}
+
+	public void testEmptyPipeline() throws Exception {
+		int commands = server.getCommandCount();
+		List<String> keys = Collections.emptyList();
+		assertTrue(redis.hmget(keys, "value").isEmpty());
+		assertTrue(redis.get(keys, "value").isEmpty());
+		assertTrue(redis.smembers(keys).isEmpty());
+		assertTrue(redis.hgetall(keys).isEmpty());
+		assertEquals(commands, server.getCommandCount());
+	}
+
+	public void testRegistry() throws Exception {
+		redis.register("#tn", "tn:t:1", "n:1");
+		redis.register("#tn", "tn:t:1", "n:2");
+		redis.register("#tn", "tn:t:2", "n:3");
+		assertEquals(HashUtil.getHashSet(Arrays.asList("tn:t:1", "tn:t:2")), redis.keys("#tn"));
+		/*
+		 * the last member is removed, so the key disappears
+		 */
+		redis.srem("tn:t:2", "n:3");
+		assertEquals(Collections.singleton("tn:t:1"), redis.keys("#tn"));
+		assertEquals(Collections.singleton("tn:t:1"), redis.smembers("#tn"));
+		redis.register("#tn", "tn:t:2", "n:4");
+		assertEquals(2, redis.keys("#tn").size());
+		assertTrue(redis.keys("#missing").isEmpty());
+	}
+
+	public void testValueIndex() throws Exception {
+		redis.zaddValue("#v:n", "Topic Maps", "n:1");
+		redis.zaddValue("#v:n", "Topic Maps Lab", "n:2");
+		redis.zaddValue("#v:n", "Topic", "n:3");
+		redis.zaddValue("#v:n", "Topic Maps", "n:4");
+		redis.zaddValue("#v:n", "Leipzig", "n:5");
+		redis.zaddValue("#v:n", "M\u00fcller", "n:6");
+
+		assertEquals(HashUtil.getHashSet(Arrays.asList("n:1", "n:4")), redis.zrangeByValue("#v:n", "Topic Maps"));
+		assertEquals(Collections.singleton("n:3"), redis.zrangeByValue("#v:n", "Topic"));
+		assertEquals(Collections.singleton("n:6"), redis.zrangeByValue("#v:n", "M\u00fcller"));
+		assertTrue(redis.zrangeByValue("#v:n", "Topic Map").isEmpty());
+
+		Map<String, String> values = redis.zrangeByPrefix("#v:n", "Topic M");
+		assertEquals(3, values.size());
+		assertEquals("Topic Maps Lab", values.get("n:2"));
+		assertEquals(6, redis.zrangeByPrefix("#v:n", "").size());
+
+		values = redis.zrangeByLex("#v:n", "Leipzig", "Topic");
+		assertEquals(HashUtil.getHashSet(Arrays.asList("n:3", "n:5", "n:6")), values.keySet());
+		assertEquals(Collections.singleton("n:5"), redis.zrangeByLex("#v:n", null, "Leipzig").keySet());
+		assertEquals(4, redis.zrangeByLex("#v:n", "Topic", null).size());
+
+		redis.zremValue("#v:n", "Topic Maps", "n:1");
+		assertEquals(Collections.singleton("n:4"), redis.zrangeByValue("#v:n", "Topic Maps"));
+	}
+
+	public void testValueIndexWithLongPrefix() throws Exception {
+		/*
+		 * the values share more leading bytes than encoded by a bucket and the
+		 * score
+		 */
+		String base = "http://psi.example.org/";
+		redis.zaddValue("#v:o", base + "topic/a", "o:1");
+		redis.zaddValue("#v:o", base + "topic/b", "o:2");
+		redis.zaddValue("#v:o", base + "topic/b", "o:3");
+		redis.zaddValue("#v:o", base + "type/a", "o:4");
+		redis.zaddValue("#v:o", "http://psi.example.com/", "o:5");
+		redis.zaddValue("#v:o", "http", "o:6");
+
+		assertEquals(HashUtil.getHashSet(Arrays.asList("o:2", "o:3")), redis.zrangeByValue("#v:o", base + "topic/b"));
+		assertEquals(Collections.singleton("o:6"), redis.zrangeByValue("#v:o", "http"));
+		assertTrue(redis.zrangeByValue("#v:o", base + "topic/").isEmpty());
+
+		assertEquals(3, redis.zrangeByPrefix("#v:o", base + "topic/").size());
+		assertEquals(4, redis.zrangeByPrefix("#v:o", base).size());
+		assertEquals(6, redis.zrangeByPrefix("#v:o", "http").size());
+		assertEquals(5, redis.zrangeByPrefix("#v:o", "http:").size());
+
+		Map<String, String> values = redis.zrangeByLex("#v:o", base + "topic/b", base + "type/a");
+		assertEquals(HashUtil.getHashSet(Arrays.asList("o:2", "o:3", "o:4")), values.keySet());
+		assertEquals(base + "type/a", values.get("o:4"));
+		assertEquals(HashUtil.getHashSet(Arrays.asList("o:5", "o:6")), redis.zrangeByLex("#v:o", null, "http://psi.example.com/").keySet());
+		assertEquals(HashUtil.getHashSet(Arrays.asList("o:1", "o:2", "o:3", "o:4")), redis.zrangeByLex("#v:o", base, null).keySet());
+
+		redis.zremValue("#v:o", base + "topic/b", "o:2");
+		assertEquals(Collections.singleton("o:3"), redis.zrangeByValue("#v:o", base + "topic/b"));
+	}
+
+	public void testValueIndexNGrams() throws Exception {
+		redis.zaddValue("#v:n", "Topic Maps", "n:1");
+		redis.zaddValue("#v:n", "Topic Maps Lab", "n:2");
+		redis.zaddValue("#v:n", "Leipzig", "n:3");
+		redis.zaddValue("#v:n", "TOPIC", "n:4");
+
+		assertEquals(HashUtil.getHashSet(Arrays.asList("n:1", "n:2")), redis.sinterByNGrams("#v:n", Pattern.compile(".*Maps.*")));
+		assertEquals(HashUtil.getHashSet(Arrays.asList("n:1", "n:2", "n:4")), redis.sinterByNGrams("#v:n", Pattern.compile("topic.*")));
+		assertEquals(Collections.singleton("n:2"), redis.sinterByNGrams("#v:n", Pattern.compile(".*Maps\\s+Lab")));
+		assertTrue(redis.sinterByNGrams("#v:n", Pattern.compile(".*Berlin.*")).isEmpty());
+		/*
+		 * no trigram is required, so all ids are candidates
+		 */
+		assertNull(redis.sinterByNGrams("#v:n", Pattern.compile("L.*")));
+		assertNull(redis.sinterByNGrams("#v:n", Pattern.compile("Topic|Leipzig")));
+
+		redis.zremValue("#v:n", "Topic Maps", "n:1");
+		assertEquals(Collections.singleton("n:2"), redis.sinterByNGrams("#v:n", Pattern.compile(".*Maps.*")));
+	}
+
+	public void testIsEmpty() throws Exception {
+		assertTrue(redis.isEmpty());
+		redis.set("key", "value");
+		assertTrue(redis.isEmpty());
+		redis.nextId();
+		assertFalse(redis.isEmpty());
+	}
+
+	public void testReconnectAfterBrokenConnection() throws Exception {
+		redis.set("key", "value");
+		server.dropConnections();
+		assertEquals("value", redis.get("key"));
+		assertEquals(2, server.getConnectionCount());
+	}
+
+	public void testNoRetryOfNonIdempotentCommands() throws Exception {
+		assertEquals(1, redis.nextId());
+		server.dropConnections();
+		try {
+			redis.nextId();
+			fail("INCR must not be repeated after a broken connection.");
+		} catch (JedisException e) {
+			// NOTHING TO DO
+		}
+		assertEquals(2, redis.nextId());
+
+		server.dropConnections();
+		try {
+			redis.sadd("set", Arrays.asList("a", "b"));
+			fail("A pipeline must not be repeated after a broken connection.");
+		} catch (JedisException e) {
+			// NOTHING TO DO
+		}
+		assertTrue(redis.smembers("set").isEmpty());
+	}
+
+	public void testErrorReplyIsNotRetried() throws Exception {
+		redis.set("key", "value");
+		int commands = server.getCommandCount();
+		try {
+			redis.smembers("key");
+			fail("The error reply of the server has to be thrown.");
+		} catch (JedisException e) {
+			// NOTHING TO DO
+		}
+		/*
+		 * the command and the PING checking the connection, which is kept
+		 */
+		assertEquals(commands + 2, server.getCommandCount());
+		assertEquals("value", redis.get("key"));
+		assertEquals(1, server.getConnectionCount());
+	}
+}
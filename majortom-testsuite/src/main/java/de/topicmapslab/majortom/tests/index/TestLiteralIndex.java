@@ -18,14 +18,17 @@ package de.topicmapslab.majortom.tests.index;
 import java.net.URI;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import org.tmapi.core.Locator;
 import org.tmapi.core.TMAPIRuntimeException;
 import org.tmapi.core.Topic;
 
+import de.topicmapslab.geotype.wgs84.Wgs84Circuit;
 import de.topicmapslab.geotype.wgs84.Wgs84Coordinate;
 import de.topicmapslab.geotype.wgs84.Wgs84Degree;
+import de.topicmapslab.majortom.model.core.ICharacteristics;
 import de.topicmapslab.majortom.model.core.IName;
 import de.topicmapslab.majortom.model.core.IOccurrence;
 import de.topicmapslab.majortom.model.index.ILiteralIndex;
@@ -431,6 +434,124 @@ public class TestLiteralIndex extends MaJorToMTestCase {
 
 	}
 
+	/**
+	 * Test method for
+	 * {@link de.topicmapslab.majortom.inMemory.index.InMemoryLiteralIndex#getCoordinates(Wgs84Circuit)}
+	 * and
+	 * {@link de.topicmapslab.majortom.inMemory.index.InMemoryLiteralIndex#getCoordinatesInBoundingBox(Wgs84Coordinate, Wgs84Coordinate)}
+	 * .
+	 */
+	public void testGetCoordinatesInArea() {
+		ILiteralIndex index = topicMap.getIndex(ILiteralIndex.class);
+		assertNotNull(index);
+		try {
+			index.getCoordinatesInBoundingBox(new Wgs84Coordinate(0, 0), new Wgs84Coordinate(1, 1));
+			fail("Index should be close!");
+		} catch (TMAPIRuntimeException e) {
+			index.open();
+		}
+
+		// Lissabon Tejo Bruecke
+		Wgs84Coordinate lisbon = new Wgs84Coordinate(38.692668, -9.177944);
+		// Berlin Brandenburger Tor
+		Wgs84Coordinate berlin = new Wgs84Coordinate(52.5164, 13.3777);
+		// Paris Eiffelturm
+		Wgs84Coordinate paris = new Wgs84Coordinate(48.8583, 2.2945);
+
+		IOccurrence lisbonOccurrence = (IOccurrence) createTopic().createOccurrence(createTopic(), "Occ", new Topic[0]);
+		IOccurrence berlinOccurrence = (IOccurrence) createTopic().createOccurrence(createTopic(), "Occ", new Topic[0]);
+		IOccurrence parisOccurrence = (IOccurrence) createTopic().createOccurrence(createTopic(), "Occ", new Topic[0]);
+
+		Wgs84Circuit aroundParis = new Wgs84Circuit(paris, paris.getDistance(berlin) + 1);
+		assertEquals(0, index.getCoordinates(aroundParis).size());
+
+		lisbonOccurrence.setValue(lisbon);
+		berlinOccurrence.setValue(berlin);
+		parisOccurrence.setValue(paris);
+		assertEquals(2, index.getCoordinates(aroundParis).size());
+		assertTrue(index.getCoordinates(aroundParis).contains(berlinOccurrence));
+		assertTrue(index.getCoordinates(aroundParis).contains(parisOccurrence));
+		assertEquals(3, index.getCoordinates(new Wgs84Circuit(paris, paris.getDistance(lisbon) + 1)).size());
+
+		Wgs84Coordinate southWest = new Wgs84Coordinate(45, -10);
+		Wgs84Coordinate northEast = new Wgs84Coordinate(55, 10);
+		assertEquals(1, index.getCoordinatesInBoundingBox(southWest, northEast).size());
+		assertTrue(index.getCoordinatesInBoundingBox(southWest, northEast).contains(parisOccurrence));
+		assertEquals(3, index.getCoordinatesInBoundingBox(new Wgs84Coordinate(35, -10), new Wgs84Coordinate(55, 15)).size());
+
+		parisOccurrence.setValue(0D);
+		assertEquals(0, index.getCoordinatesInBoundingBox(southWest, northEast).size());
+		assertEquals(1, index.getCoordinates(aroundParis).size());
+		assertTrue(index.getCoordinates(aroundParis).contains(berlinOccurrence));
+
+		berlinOccurrence.remove();
+		assertEquals(0, index.getCoordinates(aroundParis).size());
+
+		/*
+		 * bounding box crossing the 180th meridian
+		 */
+		IOccurrence east = (IOccurrence) createTopic().createOccurrence(createTopic(), "Occ", new Topic[0]);
+		IOccurrence west = (IOccurrence) createTopic().createOccurrence(createTopic(), "Occ", new Topic[0]);
+		east.setValue(new Wgs84Coordinate(-17.7, 178.0));
+		west.setValue(new Wgs84Coordinate(-17.8, -179.0));
+		Wgs84Coordinate fijiSouthWest = new Wgs84Coordinate(-20, 177);
+		Wgs84Coordinate fijiNorthEast = new Wgs84Coordinate(-15, -178);
+		assertEquals(2, index.getCoordinatesInBoundingBox(fijiSouthWest, fijiNorthEast).size());
+		assertTrue(index.getCoordinatesInBoundingBox(fijiSouthWest, fijiNorthEast).contains(east));
+		assertTrue(index.getCoordinatesInBoundingBox(fijiSouthWest, fijiNorthEast).contains(west));
+		assertEquals(2, index.getCoordinates(new Wgs84Circuit(new Wgs84Coordinate(-17.75, 179.9), 250)).size());
+	}
+
+	/**
+	 * Test method for
+	 * {@link de.topicmapslab.majortom.inMemory.index.InMemoryLiteralIndex#getNearestCoordinates(Wgs84Coordinate, int)}
+	 * .
+	 */
+	public void testGetNearestCoordinates() {
+		ILiteralIndex index = topicMap.getIndex(ILiteralIndex.class);
+		assertNotNull(index);
+		try {
+			index.getNearestCoordinates(new Wgs84Coordinate(0, 0), 1);
+			fail("Index should be close!");
+		} catch (TMAPIRuntimeException e) {
+			index.open();
+		}
+
+		Wgs84Coordinate lisbon = new Wgs84Coordinate(38.692668, -9.177944);
+		Wgs84Coordinate berlin = new Wgs84Coordinate(52.5164, 13.3777);
+		Wgs84Coordinate paris = new Wgs84Coordinate(48.8583, 2.2945);
+		Wgs84Coordinate leipzig = new Wgs84Coordinate(51.3397, 12.3731);
+
+		assertTrue(index.getNearestCoordinates(berlin, 2).isEmpty());
+
+		IOccurrence lisbonOccurrence = (IOccurrence) createTopic().createOccurrence(createTopic(), "Occ", new Topic[0]);
+		IOccurrence berlinOccurrence = (IOccurrence) createTopic().createOccurrence(createTopic(), "Occ", new Topic[0]);
+		IOccurrence parisOccurrence = (IOccurrence) createTopic().createOccurrence(createTopic(), "Occ", new Topic[0]);
+		lisbonOccurrence.setValue(lisbon);
+		berlinOccurrence.setValue(berlin);
+		parisOccurrence.setValue(paris);
+
+		List<ICharacteristics> nearest = index.getNearestCoordinates(leipzig, 2);
+		assertEquals(2, nearest.size());
+		assertEquals(berlinOccurrence, nearest.get(0));
+		assertEquals(parisOccurrence, nearest.get(1));
+
+		nearest = index.getNearestCoordinates(leipzig, 10);
+		assertEquals(3, nearest.size());
+		assertEquals(lisbonOccurrence, nearest.get(2));
+
+		berlinOccurrence.setValue(new Wgs84Coordinate(-33.8568, 151.2153));
+		nearest = index.getNearestCoordinates(leipzig, 2);
+		assertEquals(parisOccurrence, nearest.get(0));
+		assertEquals(lisbonOccurrence, nearest.get(1));
+
+		parisOccurrence.remove();
+		nearest = index.getNearestCoordinates(leipzig, 3);
+		assertEquals(2, nearest.size());
+		assertEquals(lisbonOccurrence, nearest.get(0));
+		assertEquals(berlinOccurrence, nearest.get(1));
+	}
+
 	/**
 	 * Test method for
 	 * {@link de.topicmapslab.majortom.inMemory.index.InMemoryLiteralIndex#getDate(java.util.Calendar, java.util.Calendar)}
@@ -677,6 +798,133 @@ public class TestLiteralIndex extends MaJorToMTestCase {
 		assertEquals(0, index.getLongs(0, 1).size());
 	}
 
+	/**
+	 * Test method for
+	 * {@link de.topicmapslab.majortom.inMemory.index.InMemoryLiteralIndex#getIntegersBetween(int, int)}
+	 * .
+	 */
+	public void testGetIntegersBetween() {
+		ILiteralIndex index = topicMap.getIndex(ILiteralIndex.class);
+		assertNotNull(index);
+		try {
+			index.getIntegersBetween(0, 1);
+			fail("Index should be close!");
+		} catch (TMAPIRuntimeException e) {
+			index.open();
+		}
+
+		IOccurrence occurrence = (IOccurrence) createTopic().createOccurrence(createTopic(), "Occ", new Topic[0]);
+		IOccurrence otherOccurrence = (IOccurrence) createTopic().createOccurrence(createTopic(), "Occ", new Topic[0]);
+
+		assertEquals(0, index.getIntegersBetween(-10, 10).size());
+
+		occurrence.setValue(-5);
+		otherOccurrence.setValue(7);
+		assertEquals(2, index.getIntegersBetween(-10, 10).size());
+		assertEquals(2, index.getIntegersBetween(-5, 7).size());
+		assertEquals(1, index.getIntegersBetween(-4, 7).size());
+		assertTrue(index.getIntegersBetween(-4, 7).contains(otherOccurrence));
+		assertEquals(1, index.getIntegersBetween(-5, -5).size());
+		assertTrue(index.getIntegersBetween(-5, -5).contains(occurrence));
+		assertEquals(0, index.getIntegersBetween(10, -10).size());
+
+		otherOccurrence.setValue(100);
+		assertEquals(1, index.getIntegersBetween(-10, 10).size());
+		assertTrue(index.getIntegersBetween(-10, 10).contains(occurrence));
+		assertEquals(1, index.getIntegersBetween(50, 150).size());
+
+		otherOccurrence.setValue(5L);
+		assertEquals(1, index.getIntegersBetween(-10, 10).size());
+		assertEquals(1, index.getLongsBetween(0L, 10L).size());
+		assertTrue(index.getLongsBetween(0L, 10L).contains(otherOccurrence));
+		assertEquals(0, index.getIntegersBetween(50, 150).size());
+
+		occurrence.remove();
+		assertEquals(0, index.getIntegersBetween(-10, 10).size());
+	}
+
+	/**
+	 * Test method for
+	 * {@link de.topicmapslab.majortom.inMemory.index.InMemoryLiteralIndex#getDoublesBetween(double, double)}
+	 * .
+	 */
+	public void testGetDoublesBetween() {
+		ILiteralIndex index = topicMap.getIndex(ILiteralIndex.class);
+		assertNotNull(index);
+		try {
+			index.getDoublesBetween(0D, 1D);
+			fail("Index should be close!");
+		} catch (TMAPIRuntimeException e) {
+			index.open();
+		}
+
+		IOccurrence occurrence = (IOccurrence) createTopic().createOccurrence(createTopic(), "Occ", new Topic[0]);
+		IOccurrence otherOccurrence = (IOccurrence) createTopic().createOccurrence(createTopic(), "Occ", new Topic[0]);
+
+		assertEquals(0, index.getDoublesBetween(0D, 1D).size());
+
+		occurrence.setValue(0.25D);
+		otherOccurrence.setValue(0.75D);
+		assertEquals(2, index.getDoublesBetween(0D, 1D).size());
+		assertEquals(1, index.getDoublesBetween(0.5D, 1D).size());
+		assertTrue(index.getDoublesBetween(0.5D, 1D).contains(otherOccurrence));
+		assertEquals(1, index.getDoublesBetween(0.25D, 0.25D).size());
+		assertTrue(index.getDoublesBetween(0.25D, 0.25D).contains(occurrence));
+
+		otherOccurrence.setValue(0.75F);
+		assertEquals(1, index.getDoublesBetween(0D, 1D).size());
+		assertEquals(1, index.getFloatsBetween(0F, 1F).size());
+		assertTrue(index.getFloatsBetween(0F, 1F).contains(otherOccurrence));
+		assertEquals(0, index.getFloatsBetween(0F, 0.5F).size());
+
+		otherOccurrence.setValue("0.5", topicMap.createLocator(Namespaces.XSD.DOUBLE));
+		assertEquals(2, index.getDoublesBetween(0D, 1D).size());
+		assertEquals(0, index.getFloatsBetween(0F, 1F).size());
+
+		occurrence.remove();
+		assertEquals(1, index.getDoublesBetween(0D, 1D).size());
+		assertTrue(index.getDoublesBetween(0D, 1D).contains(otherOccurrence));
+	}
+
+	/**
+	 * Test method for
+	 * {@link de.topicmapslab.majortom.inMemory.index.InMemoryLiteralIndex#getDateTimeBetween(Calendar, Calendar)}
+	 * .
+	 */
+	public void testGetDateTimeBetween() {
+		ILiteralIndex index = topicMap.getIndex(ILiteralIndex.class);
+		assertNotNull(index);
+		try {
+			index.getDateTimeBetween(new GregorianCalendar(2000, 0, 1), new GregorianCalendar(2001, 0, 1));
+			fail("Index should be close!");
+		} catch (TMAPIRuntimeException e) {
+			index.open();
+		}
+
+		IOccurrence occurrence = (IOccurrence) createTopic().createOccurrence(createTopic(), "Occ", new Topic[0]);
+		IOccurrence otherOccurrence = (IOccurrence) createTopic().createOccurrence(createTopic(), "Occ", new Topic[0]);
+
+		Calendar lower = new GregorianCalendar(2000, 0, 1);
+		Calendar upper = new GregorianCalendar(2000, 11, 31);
+		assertEquals(0, index.getDateTimeBetween(lower, upper).size());
+
+		occurrence.setValue(new GregorianCalendar(2000, 5, 1));
+		otherOccurrence.setValue(new GregorianCalendar(2001, 5, 1));
+		assertEquals(1, index.getDateTimeBetween(lower, upper).size());
+		assertTrue(index.getDateTimeBetween(lower, upper).contains(occurrence));
+		assertEquals(2, index.getDateTimeBetween(lower, new GregorianCalendar(2001, 5, 1)).size());
+
+		otherOccurrence.setValue("2000-11-12", topicMap.createLocator(Namespaces.XSD.DATE));
+		assertEquals(2, index.getDateTimeBetween(lower, upper).size());
+		assertTrue(index.getDateTimeBetween(lower, upper).contains(otherOccurrence));
+
+		otherOccurrence.setValue(false);
+		assertEquals(1, index.getDateTimeBetween(lower, upper).size());
+
+		occurrence.remove();
+		assertEquals(0, index.getDateTimeBetween(lower, upper).size());
+	}
+
 	/**
 	 * Test method for
 	 * {@link de.topicmapslab.majortom.inMemory.index.InMemoryLiteralIndex#getUris(java.net.URI)}
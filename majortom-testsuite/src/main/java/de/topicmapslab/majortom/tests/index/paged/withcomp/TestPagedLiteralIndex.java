@@ -1029,6 +1029,60 @@ public class TestPagedLiteralIndex extends MaJorToMTestCase {
 		assertEquals(occurrences[100], list.get(0));
 	}
 
+	/**
+	 * Test method for
+	 * {@link de.topicmapslab.majortom.PagedLiteralIndexImpl.index.paged.InMemoryPagedLiteralIndex#getIntegersBetween(int, int, int, int)}
+	 * .
+	 */
+	public void testGetIntegersBetweenIntIntIntInt() {
+		IPagedLiteralIndex index = topicMap.getIndex(IPagedLiteralIndex.class);
+		assertNotNull(index);
+		try {
+			index.getBooleans(false, 0, 0);
+			fail("Index should be closed!");
+		} catch (Exception e) {
+			index.open();
+		}
+		int value = 15;
+		IOccurrence[] occurrences = new IOccurrence[101];
+		String base = "http://psi.example.org/";
+		int j = 0;
+		for (String c : new String[] { "A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "K" }) {
+			for (int i = 0; i < 10 && j < 101; i++) {
+				occurrences[j] = (IOccurrence) createTopic().createOccurrence(createTopic(), "Value", new Topic[0]);
+				occurrences[j].setValue((int) (value + Math.random() * 5));
+				occurrences[j].addItemIdentifier(createLocator(base + c + i));
+				j++;
+			}
+			if (j == 101) {
+				break;
+			}
+		}
+		IOccurrence outOfRange = (IOccurrence) createTopic().createOccurrence(createTopic(), "Value", new Topic[0]);
+		outOfRange.setValue(value + 10);
+		List<ICharacteristics> list = null;
+
+		Comparator<ICharacteristics> comp = new ConstructByItemIdentifierComparator<ICharacteristics>();
+
+		for (int i = 0; i < 10; i++) {
+			list = index.getIntegersBetween(value, value + 5, i * 10, 10, comp);
+			assertEquals(10, list.size());
+			assertEquals(occurrences[i * 10], list.get(0));
+			assertEquals(occurrences[i * 10 + 1], list.get(1));
+			assertEquals(occurrences[i * 10 + 2], list.get(2));
+			assertEquals(occurrences[i * 10 + 3], list.get(3));
+			assertEquals(occurrences[i * 10 + 4], list.get(4));
+			assertEquals(occurrences[i * 10 + 5], list.get(5));
+			assertEquals(occurrences[i * 10 + 6], list.get(6));
+			assertEquals(occurrences[i * 10 + 7], list.get(7));
+			assertEquals(occurrences[i * 10 + 8], list.get(8));
+			assertEquals(occurrences[i * 10 + 9], list.get(9));
+		}
+		list = index.getIntegersBetween(value, value + 5, 100, 10, comp);
+		assertEquals(1, list.size());
+		assertEquals(occurrences[100], list.get(0));
+	}
+
 	/**
 	 * Test method for
 	 * {@link de.topicmapslab.majortom.PagedLiteralIndexImpl.index.paged.InMemoryPagedLiteralIndex#getLongs(long, int, int)}
@@ -33,6 +33,7 @@ import de.topicmapslab.majortom.model.core.ICharacteristics;
 import de.topicmapslab.majortom.model.core.IName;
 import de.topicmapslab.majortom.model.core.IOccurrence;
 import de.topicmapslab.majortom.model.index.paging.IPagedTypeInstanceIndex;
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
 import de.topicmapslab.majortom.tests.MaJorToMTestCase;
 import de.topicmapslab.majortom.util.HashUtil;
 
@@ -1161,4 +1162,56 @@ public class TestPagedTypeInstanceIndex extends MaJorToMTestCase {
 		assertEquals(1, list.size());
 		assertEquals(topics[100], list.get(0));
 	}
+
+	/**
+	 * Test method for
+	 * {@link de.topicmapslab.majortom.index.paged.PagedTypeInstanceIndexImpl#getTopics(org.tmapi.core.Topic, String, int, Comparator)}
+	 * .
+	 */
+	public void testGetTopicsTopicStringIntComparator() {
+		IPagedTypeInstanceIndex index = topicMap.getIndex(IPagedTypeInstanceIndex.class);
+		assertNotNull(index);
+		index.open();
+		Topic type = createTopic();
+		String base = "http://psi.example.org/topics/";
+		Topic[] topics = new Topic[101];
+		int j = 0;
+		for (String c : new String[] { "A", "B", "C", "D", "E", "F", "G", "H", "I", "J", "K" }) {
+			for (int i = 0; i < 10 && j < 101; i++) {
+				topics[j] = createTopicBySI(base + c + i);
+				topics[j].addType(type);
+				j++;
+			}
+			if (j == 101) {
+				break;
+			}
+		}
+
+		Comparator<Topic> comp = TopicByIdentityComparator.getInstance(true);
+
+		PagedResult<Topic> page = null;
+		String cursor = null;
+		for (int i = 0; i < 10; i++) {
+			page = index.getTopics(type, cursor, 10, comp);
+			assertEquals(10, page.getItems().size());
+			for (int k = 0; k < 10; k++) {
+				assertEquals(topics[i * 10 + k], page.getItems().get(k));
+			}
+			assertTrue(page.hasNext());
+			cursor = page.getCursor();
+		}
+		page = index.getTopics(type, cursor, 10, comp);
+		assertEquals(1, page.getItems().size());
+		assertEquals(topics[100], page.getItems().get(0));
+		assertFalse(page.hasNext());
+
+		/*
+		 * a new instance sorted before the cursor does not shift the following page
+		 */
+		page = index.getTopics(type, null, 10, comp);
+		createTopicBySI(base + "A0a").addType(type);
+		page = index.getTopics(type, page.getCursor(), 10, comp);
+		assertEquals(topics[10], page.getItems().get(0));
+	}
+
 }
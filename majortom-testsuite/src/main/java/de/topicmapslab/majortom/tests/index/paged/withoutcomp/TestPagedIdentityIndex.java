@@ -19,6 +19,7 @@
 package de.topicmapslab.majortom.tests.index.paged.withoutcomp;
 
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.tmapi.core.Association;
@@ -29,7 +30,9 @@ import org.tmapi.core.Role;
 import org.tmapi.core.Topic;
 
 import de.topicmapslab.majortom.model.index.paging.IPagedIdentityIndex;
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
 import de.topicmapslab.majortom.tests.MaJorToMTestCase;
+import de.topicmapslab.majortom.util.HashUtil;
 
 /**
  * @author Sven Krosse
@@ -391,4 +394,40 @@ public class TestPagedIdentityIndex extends MaJorToMTestCase {
 		assertEquals(1, list.size());
 	}
 
+	/**
+	 * Test method for
+	 * {@link de.topicmapslab.majortom.index.paged.PagedIdentityIndexImpl#getTopicsBySubjectIdentifier(Pattern, String, int)}
+	 * .
+	 */
+	public void testGetTopicsBySubjectIdentifierPatternStringInt() {
+		IPagedIdentityIndex index = topicMap.getIndex(IPagedIdentityIndex.class);
+		assertNotNull(index);
+		Pattern pattern = Pattern.compile("http://psi\\.example\\.org/cursor/.*");
+		try {
+			index.getTopicsBySubjectIdentifier(pattern, null, 10);
+			fail("Index should be closed!");
+		} catch (Exception e) {
+			index.open();
+		}
+		Set<Topic> topics = HashUtil.getHashSet();
+		for (int i = 0; i < 101; i++) {
+			topics.add(createTopicBySI("http://psi.example.org/cursor/" + i));
+		}
+
+		Set<Topic> found = HashUtil.getHashSet();
+		String cursor = null;
+		int pages = 0;
+		do {
+			PagedResult<Topic> page = index.getTopicsBySubjectIdentifier(pattern, cursor, 10);
+			assertTrue(page.getItems().size() <= 10);
+			for (Topic topic : page.getItems()) {
+				assertTrue(found.add(topic));
+			}
+			cursor = page.getCursor();
+			pages++;
+		} while (cursor != null);
+		assertEquals(11, pages);
+		assertEquals(topics, found);
+	}
+
 }
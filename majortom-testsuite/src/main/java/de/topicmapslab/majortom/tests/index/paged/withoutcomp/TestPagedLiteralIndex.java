@@ -39,6 +39,7 @@ import de.topicmapslab.majortom.model.core.IName;
 import de.topicmapslab.majortom.model.core.IOccurrence;
 import de.topicmapslab.majortom.model.core.IVariant;
 import de.topicmapslab.majortom.model.index.paging.IPagedLiteralIndex;
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
 import de.topicmapslab.majortom.model.namespace.Namespaces;
 import de.topicmapslab.majortom.tests.MaJorToMTestCase;
 
@@ -422,6 +423,37 @@ public class TestPagedLiteralIndex extends MaJorToMTestCase {
 		assertEquals(1, list.size());
 	}
 
+	/**
+	 * Test method for
+	 * {@link de.topicmapslab.majortom.PagedLiteralIndexImpl.index.paged.InMemoryPagedLiteralIndex#getNearestCoordinates(Wgs84Coordinate, int, int)}
+	 * .
+	 */
+	public void testGetNearestCoordinatesIntInt() {
+		IPagedLiteralIndex index = topicMap.getIndex(IPagedLiteralIndex.class);
+		assertNotNull(index);
+		try {
+			index.getBooleans(false, 0, 0);
+			fail("Index should be closed!");
+		} catch (Exception e) {
+			index.open();
+		}
+		IOccurrence[] occurrences = new IOccurrence[100];
+		for (int i = 0; i < 100; i++) {
+			occurrences[i] = (IOccurrence) createTopic().createOccurrence(createTopic(), "Value", new Topic[0]);
+			occurrences[i].setValue(new Wgs84Coordinate(50 + i * 0.05, 12));
+		}
+		Wgs84Coordinate value = new Wgs84Coordinate(49.9, 12);
+
+		List<ICharacteristics> list = null;
+		for (int i = 0; i < 10; i++) {
+			list = index.getNearestCoordinates(value, i * 10, 10);
+			assertEquals(10, list.size());
+			for (int k = 0; k < 10; k++) {
+				assertEquals(occurrences[i * 10 + k], list.get(k));
+			}
+		}
+	}
+
 	/**
 	 * Test method for
 	 * {@link de.topicmapslab.majortom.PagedLiteralIndexImpl.index.paged.InMemoryPagedLiteralIndex#getDatatypeAwares(de.topicmapslab.majortom.model.core.ILocator, int, int)}
@@ -1005,4 +1037,37 @@ public class TestPagedLiteralIndex extends MaJorToMTestCase {
 		assertEquals(1, list.size());
 	}
 
+	/**
+	 * Test method for
+	 * {@link de.topicmapslab.majortom.index.paged.PagedLiteralIndexImpl#getCharacteristics(String, String, int)}
+	 * .
+	 */
+	public void testGetCharacteristicsStringStringInt() {
+		IPagedLiteralIndex index = topicMap.getIndex(IPagedLiteralIndex.class);
+		assertNotNull(index);
+		try {
+			index.getCharacteristics("Value", null, 10);
+			fail("Index should be closed!");
+		} catch (Exception e) {
+			index.open();
+		}
+		Topic topic = createTopic();
+		for (int i = 0; i < 25; i++) {
+			topic.createName("Value", new Topic[0]);
+		}
+
+		PagedResult<ICharacteristics> page = index.getCharacteristics("Value", null, 20);
+		assertEquals(20, page.getItems().size());
+		assertTrue(page.hasNext());
+		ICharacteristics characteristics = page.getItems().get(0);
+
+		/*
+		 * removing a name of the first page does not skip names of the second one
+		 */
+		characteristics.remove();
+		page = index.getCharacteristics("Value", page.getCursor(), 20);
+		assertEquals(5, page.getItems().size());
+		assertFalse(page.hasNext());
+	}
+
 }
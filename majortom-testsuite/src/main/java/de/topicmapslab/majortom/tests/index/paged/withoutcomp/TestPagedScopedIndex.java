@@ -38,6 +38,7 @@ import de.topicmapslab.majortom.model.core.IScope;
 import de.topicmapslab.majortom.model.core.ITopic;
 import de.topicmapslab.majortom.model.core.IVariant;
 import de.topicmapslab.majortom.model.index.paging.IPagedScopedIndex;
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
 import de.topicmapslab.majortom.tests.MaJorToMTestCase;
 import de.topicmapslab.majortom.util.HashUtil;
 
@@ -1280,4 +1281,47 @@ public class TestPagedScopedIndex extends MaJorToMTestCase {
 		assertEquals(1, list.size());
 	}
 
+	/**
+	 * Test method for
+	 * {@link de.topicmapslab.majortom.index.paged.PagedScopeIndexImpl#getNames(org.tmapi.core.Topic, String, int)}
+	 * .
+	 */
+	public void testGetNamesTopicStringInt() {
+		IPagedScopedIndex index = topicMap.getIndex(IPagedScopedIndex.class);
+		assertNotNull(index);
+		try {
+			index.getNames(createTopic(), null, 10);
+			fail("Index should be closed!");
+		} catch (Exception e) {
+			index.open();
+		}
+		Topic theme = createTopic();
+		Set<Name> names = HashUtil.getHashSet();
+		for (int i = 0; i < 101; i++) {
+			names.add(createTopic().createName("Name " + i, theme));
+		}
+
+		Set<Name> found = HashUtil.getHashSet();
+		String cursor = null;
+		int pages = 0;
+		do {
+			PagedResult<Name> page = index.getNames(theme, cursor, 10);
+			assertTrue(page.getItems().size() <= 10);
+			for (Name name : page.getItems()) {
+				assertTrue(found.add(name));
+			}
+			cursor = page.getCursor();
+			pages++;
+		} while (cursor != null);
+		assertEquals(11, pages);
+		assertEquals(names, found);
+
+		try {
+			index.getNames(theme, "invalid", 10);
+			fail("Invalid cursor should be rejected!");
+		} catch (IllegalArgumentException e) {
+			// NOTHING TO DO
+		}
+	}
+
 }
@@ -20,11 +20,13 @@ package de.topicmapslab.majortom.tests.index.paged.withoutcomp;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.tmapi.core.Topic;
 
 import de.topicmapslab.majortom.model.core.ITopic;
 import de.topicmapslab.majortom.model.index.paging.IPagedSupertypeSubtypeIndex;
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
 import de.topicmapslab.majortom.tests.MaJorToMTestCase;
 import de.topicmapslab.majortom.util.HashUtil;
 
@@ -481,4 +483,42 @@ public class TestPagedSupertypeSubtypeIndex extends MaJorToMTestCase {
 		assertEquals(1, list.size());
 	}
 
+	/**
+	 * Test method for
+	 * {@link de.topicmapslab.majortom.index.paged.PagedSupertypeSubtypeIndexImpl#getSubtypes(org.tmapi.core.Topic, String, int)}
+	 * .
+	 */
+	public void testGetSubtypesTopicStringInt() {
+		IPagedSupertypeSubtypeIndex index = topicMap.getIndex(IPagedSupertypeSubtypeIndex.class);
+		assertNotNull(index);
+		try {
+			index.getSubtypes(createTopic(), null, 10);
+			fail("Index should be closed!");
+		} catch (Exception e) {
+			index.open();
+		}
+		ITopic type = createTopic();
+		Set<Topic> subtypes = HashUtil.getHashSet();
+		for (int i = 0; i < 101; i++) {
+			ITopic subtype = createTopic();
+			subtype.addSupertype(type);
+			subtypes.add(subtype);
+		}
+
+		Set<Topic> found = HashUtil.getHashSet();
+		String cursor = null;
+		int pages = 0;
+		do {
+			PagedResult<Topic> page = index.getSubtypes(type, cursor, 10);
+			assertTrue(page.getItems().size() <= 10);
+			for (Topic topic : page.getItems()) {
+				assertTrue(found.add(topic));
+			}
+			cursor = page.getCursor();
+			pages++;
+		} while (cursor != null);
+		assertEquals(11, pages);
+		assertEquals(subtypes, found);
+	}
+
 }
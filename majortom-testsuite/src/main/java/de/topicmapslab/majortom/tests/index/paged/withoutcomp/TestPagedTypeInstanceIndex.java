@@ -20,6 +20,7 @@ package de.topicmapslab.majortom.tests.index.paged.withoutcomp;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.tmapi.core.Association;
 import org.tmapi.core.Name;
@@ -31,6 +32,7 @@ import de.topicmapslab.majortom.model.core.ICharacteristics;
 import de.topicmapslab.majortom.model.core.IName;
 import de.topicmapslab.majortom.model.core.IOccurrence;
 import de.topicmapslab.majortom.model.index.paging.IPagedTypeInstanceIndex;
+import de.topicmapslab.majortom.model.index.paging.PagedResult;
 import de.topicmapslab.majortom.tests.MaJorToMTestCase;
 import de.topicmapslab.majortom.util.HashUtil;
 
@@ -864,4 +866,80 @@ public class TestPagedTypeInstanceIndex extends MaJorToMTestCase {
 		list = index.getTopics(types, true, 100, 10);
 		assertEquals(1, list.size());
 	}
+
+	/**
+	 * Test method for
+	 * {@link de.topicmapslab.majortom.index.paged.PagedTypeInstanceIndexImpl#getTopics(org.tmapi.core.Topic, String, int)}
+	 * .
+	 */
+	public void testGetTopicsTopicStringInt() {
+		IPagedTypeInstanceIndex index = topicMap.getIndex(IPagedTypeInstanceIndex.class);
+		assertNotNull(index);
+		try {
+			index.getTopics(createTopic(), null, 10);
+			fail("Index should be closed!");
+		} catch (Exception e) {
+			index.open();
+		}
+		Topic type = createTopic();
+		String base = "http://psi.example.org/topics/";
+		Set<Topic> topics = HashUtil.getHashSet();
+		for (int i = 0; i < 101; i++) {
+			Topic topic = createTopicBySI(base + i);
+			topic.addType(type);
+			topics.add(topic);
+		}
+
+		Set<Topic> found = HashUtil.getHashSet();
+		String cursor = null;
+		int pages = 0;
+		do {
+			PagedResult<Topic> page = index.getTopics(type, cursor, 10);
+			assertTrue(page.getItems().size() <= 10);
+			for (Topic topic : page.getItems()) {
+				assertTrue(found.add(topic));
+			}
+			cursor = page.getCursor();
+			pages++;
+		} while (cursor != null);
+		assertEquals(11, pages);
+		assertEquals(topics, found);
+
+		try {
+			index.getTopics(type, "invalid", 10);
+			fail("Invalid cursor should be rejected!");
+		} catch (IllegalArgumentException e) {
+			// NOTHING TO DO
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link de.topicmapslab.majortom.index.paged.PagedTypeInstanceIndexImpl#getNames(org.tmapi.core.Topic, String, int)}
+	 * .
+	 */
+	public void testGetNamesTopicStringInt() {
+		IPagedTypeInstanceIndex index = topicMap.getIndex(IPagedTypeInstanceIndex.class);
+		assertNotNull(index);
+		index.open();
+		Topic type = createTopic();
+		Topic topic = createTopic();
+		for (int i = 0; i < 25; i++) {
+			topic.createName(type, "Name " + i);
+		}
+
+		PagedResult<Name> page = index.getNames(type, null, 20);
+		assertEquals(20, page.getItems().size());
+		assertTrue(page.hasNext());
+		Name name = page.getItems().get(0);
+
+		/*
+		 * removing a name of the first page does not skip names of the second one
+		 */
+		name.remove();
+		page = index.getNames(type, page.getCursor(), 20);
+		assertEquals(5, page.getItems().size());
+		assertFalse(page.hasNext());
+	}
+
 }